@@ -10,6 +10,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import com.vaadin.flow.spring.security.VaadinWebSecurity;
 import tech.derbent.api.authentication.security.CLdapAwareAuthenticationProvider;
 import tech.derbent.api.authentication.view.CCustomLoginView;
+import tech.derbent.api.perf.CPerfMetricsController;
 
 /**
  * Spring Security configuration for the application.
@@ -71,6 +72,9 @@ class CSecurityConfig extends VaadinWebSecurity {
 	 */
 	@Override
 	protected void configure(final HttpSecurity http) throws Exception {
+		// The Prometheus scrape endpoint checks its own bearer token or the signed-in user (CPerfMetricsController);
+		// it must be matched before Vaadin's catch-all rule that requires a login
+		http.authorizeHttpRequests(auth -> auth.requestMatchers(CPerfMetricsController.METRICS_PATH).permitAll());
 		// Apply Vaadin's default security configuration
 		// This handles CSRF protection, session management, and other Vaadin-specific security
 		super.configure(http);
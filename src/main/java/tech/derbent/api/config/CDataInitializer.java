@@ -9,6 +9,7 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 import tech.derbent.api.entityOfCompany.service.CProjectItemStatusService;
 import tech.derbent.api.imports.service.CSystemInitExcelBootstrapService;
+import tech.derbent.api.workflow.service.CWorkflowTransitionCache;
 import tech.derbent.api.page.service.CPageEntityService;
 import tech.derbent.api.projects.service.CProjectService;
 import tech.derbent.api.roles.service.CUserCompanyRoleService;
@@ -200,6 +201,8 @@ public class CDataInitializer {
 	public void reloadForcedExcel(final boolean minimal) throws Exception {
 		LOGGER.info("DB reset (Excel-first) started");
 		clearSampleData();
+		// Identities restart after the reset, so cached workflow tables would match new workflows by id.
+		CSpringContext.getBean(CWorkflowTransitionCache.class).invalidateAll();
 		final CSystemInitExcelBootstrapService excelBootstrap =
 				CSpringContext.getBean(CSystemInitExcelBootstrapService.class);
 		final var summary = excelBootstrap.bootstrapAfterReset(minimal);
@@ -0,0 +1,318 @@
+package tech.derbent.api.download.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/** CRangeDownloadService - Writes stored files and stored text to HTTP responses with range, conditional and per-user concurrency support.
+ * <p>
+ * WHY: Vaadin {@code StreamResource} downloads cannot resume and cannot be cached. Here {@code Range} requests get a 206 with the requested
+ * bytes and {@code If-None-Match} with the current ETag gets a 304, decided from the length and ETag alone. Files are copied from their
+ * {@link FileChannel} to the servlet stream in bounded chunks ({@code transferTo} into a stream channel goes through a small heap buffer, it
+ * is not zero-copy); other content is written by the caller through a stream that passes on only the requested range.
+ * </p>
+ * <p>
+ * RULE: only single byte ranges are served as 206; multi-range requests get the full content, which HTTP allows. Each user runs at most
+ * {@code derbent.downloads.max-concurrent-per-user} transfers at a time, further requests get 429 with {@code Retry-After}. Tomcat sendfile is
+ * not used: it sends after the request returns and reports no end, so the transfer would no longer count against the limit. Callers check
+ * access before calling; {@link #isOwnCompany(HttpServletRequest, Long)} tells whether the signed-in user belongs to a company.
+ * </p>
+ */
+@Service
+public class CRangeDownloadService {
+
+	/** A byte range, both ends inclusive. */
+	record RByteRange(long start, long end) {
+
+		long length() {
+			return end - start + 1;
+		}
+	}
+
+	/** Writes the whole content; {@link CRangeDownloadService} passes on the requested range only. */
+	@FunctionalInterface
+	public interface IContentWriter {
+
+		void writeTo(OutputStream out) throws IOException;
+	}
+
+	/** Passes on the bytes of one range of the content written through it and counts the whole content. */
+	private static final class CRangeOutputStream extends OutputStream {
+
+		private final RByteRange range;
+		private long position;
+		private final OutputStream target;
+
+		private CRangeOutputStream(final OutputStream target, final RByteRange range) {
+			this.target = target;
+			this.range = range;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			target.flush();
+		}
+
+		@Override
+		public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+			final long from = Math.max(position, range.start());
+			final long to = Math.min(position + length - 1, range.end());
+			if (from <= to) {
+				target.write(bytes, offset + (int) (from - position), (int) (to - from + 1));
+			}
+			position += length;
+		}
+
+		@Override
+		public void write(final int value) throws IOException {
+			if (position >= range.start() && position <= range.end()) {
+				target.write(value);
+			}
+			position++;
+		}
+	}
+
+	private static final String BYTES_UNIT = "bytes=";
+	private static final HexFormat HEX = HexFormat.of();
+	private static final Logger LOGGER = LoggerFactory.getLogger(CRangeDownloadService.class);
+	private static final String RETRY_AFTER_SECONDS = "2";
+
+	/** ETag of text content: the SHA-256 of its UTF-8 bytes. */
+	public static String contentEtag(final byte[] content) {
+		try {
+			return strongEtag(HEX.formatHex(MessageDigest.getInstance("SHA-256").digest(content)));
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	private static String contentDisposition(final String fileName) {
+		final String name = fileName == null || fileName.isBlank() ? "download" : fileName;
+		final String asciiName = name.replaceAll("[^\\x20-\\x7E]|[\"\\\\]", "_");
+		return "attachment; filename=\"%s\"; filename*=UTF-8''%s".formatted(asciiName, URLEncoder.encode(name, StandardCharsets.UTF_8).replace("+", "%20"));
+	}
+
+	/** True when an {@code If-None-Match} or {@code If-Range} value names the ETag; weak comparison, as HTTP requires for If-None-Match. */
+	static boolean matchesEtag(final String header, final String etag) {
+		if (header == null || etag == null) {
+			return false;
+		}
+		final String current = etag.startsWith("W/") ? etag.substring(2) : etag;
+		for (final String candidate : header.split(",")) {
+			final String trimmed = candidate.trim();
+			if ("*".equals(trimmed) || (trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed).equals(current)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Parses a {@code Range} header against the content length.
+	 * @return the range, null to send the whole content (no header, another unit, several ranges or an unparsable value)
+	 * @throws IllegalArgumentException when the range lies outside the content, which is answered with 416 */
+	static RByteRange parseRange(final String header, final long length) {
+		if (header == null || !header.startsWith(BYTES_UNIT) || header.indexOf(',') >= 0) {
+			return null;
+		}
+		final String spec = header.substring(BYTES_UNIT.length()).trim();
+		final int dash = spec.indexOf('-');
+		if (dash < 0) {
+			return null;
+		}
+		try {
+			final String first = spec.substring(0, dash).trim();
+			final String last = spec.substring(dash + 1).trim();
+			if (first.isEmpty()) {
+				// Suffix range: the last n bytes
+				final long suffix = Long.parseLong(last);
+				if (suffix <= 0 || length == 0) {
+					throw new IllegalArgumentException("Unsatisfiable range " + header);
+				}
+				return new RByteRange(Math.max(0, length - suffix), length - 1);
+			}
+			final long start = Long.parseLong(first);
+			final long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+			if (start >= length || end < start) {
+				throw new IllegalArgumentException("Unsatisfiable range " + header);
+			}
+			return new RByteRange(start, end);
+		} catch (final NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/** ETag of a content hash; strong, since equal hashes mean equal bytes. */
+	public static String strongEtag(final String contentHash) {
+		return "\"sha256-" + contentHash + "\"";
+	}
+
+	private static String userOf(final HttpServletRequest request) {
+		final Principal principal = request.getUserPrincipal();
+		return principal != null ? principal.getName() : request.getRemoteAddr();
+	}
+
+	private final Map<String, AtomicInteger> activeTransfers = new ConcurrentHashMap<>();
+	private final int maxConcurrentPerUser;
+
+	public CRangeDownloadService(@Value ("${derbent.downloads.max-concurrent-per-user:4}") final int maxConcurrentPerUser) {
+		this.maxConcurrentPerUser = Math.max(1, maxConcurrentPerUser);
+	}
+
+	private boolean acquire(final String user) {
+		final AtomicInteger count = activeTransfers.computeIfAbsent(user, key -> new AtomicInteger());
+		if (count.incrementAndGet() <= maxConcurrentPerUser) {
+			return true;
+		}
+		count.decrementAndGet();
+		return false;
+	}
+
+	/** True when the signed-in user of the request belongs to the company. Logins are {@code login@companyId}, see CUserService. */
+	public boolean isOwnCompany(final HttpServletRequest request, final Long companyId) {
+		final Principal principal = request.getUserPrincipal();
+		if (principal == null || companyId == null) {
+			return false;
+		}
+		final String name = principal.getName();
+		return name.substring(name.lastIndexOf('@') + 1).equals(companyId.toString());
+	}
+
+	private void release(final String user) {
+		activeTransfers.computeIfPresent(user, (key, count) -> count.decrementAndGet() <= 0 ? null : count);
+	}
+
+	/** Sends in-memory content. */
+	public void sendContent(final HttpServletRequest request, final HttpServletResponse response, final byte[] content, final String fileName,
+			final String contentType) throws IOException {
+		sendContent(request, response, content.length, contentEtag(content), fileName, contentType, out -> out.write(content));
+	}
+
+	/** Sends content that is not a file, for data stored in the database; the writer is only called when a body is sent.
+	 * @param length byte length of the whole content, known without reading it
+	 * @param etag   ETag of the content, strong when derived from a content hash
+	 * @param writer writes the whole content; a different byte count aborts the response, since its headers already went out */
+	public void sendContent(final HttpServletRequest request, final HttpServletResponse response, final long length, final String etag,
+			final String fileName, final String contentType, final IContentWriter writer) throws IOException {
+		final String user = userOf(request);
+		if (!acquire(user)) {
+			rejectBusy(response);
+			return;
+		}
+		try {
+			final RByteRange range = startResponse(request, response, length, etag, fileName, contentType);
+			if (range == null) {
+				return;
+			}
+			try (OutputStream out = response.getOutputStream()) {
+				final CRangeOutputStream rangeOut = new CRangeOutputStream(out, range);
+				writer.writeTo(rangeOut);
+				rangeOut.flush();
+				if (rangeOut.position != length) {
+					throw new IOException("Content changed during the download: %d bytes announced, %d written".formatted(length, rangeOut.position));
+				}
+			}
+		} finally {
+			release(user);
+		}
+	}
+
+	/** Sends a file.
+	 * @param etag ETag of the content, strong when derived from a content hash */
+	public void sendFile(final HttpServletRequest request, final HttpServletResponse response, final Path file, final String etag,
+			final String fileName, final String contentType) throws IOException {
+		if (!Files.isRegularFile(file)) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+			return;
+		}
+		final String user = userOf(request);
+		if (!acquire(user)) {
+			rejectBusy(response);
+			return;
+		}
+		try {
+			final RByteRange range = startResponse(request, response, Files.size(file), etag, fileName, contentType);
+			if (range == null) {
+				return;
+			}
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ); OutputStream out = response.getOutputStream()) {
+				final WritableByteChannel target = Channels.newChannel(out);
+				long position = range.start();
+				long remaining = range.length();
+				while (remaining > 0) {
+					final long sent = channel.transferTo(position, remaining, target);
+					if (sent <= 0) {
+						break;
+					}
+					position += sent;
+					remaining -= sent;
+				}
+			}
+		} finally {
+			release(user);
+		}
+	}
+
+	private void rejectBusy(final HttpServletResponse response) throws IOException {
+		LOGGER.debug("Download rejected: {} transfers already running for user", maxConcurrentPerUser);
+		response.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+		response.sendError(429, "Too many concurrent downloads");
+	}
+
+	/** Writes status and headers.
+	 * @return the range to send, null when the response is already complete (304 or 416) */
+	private RByteRange startResponse(final HttpServletRequest request, final HttpServletResponse response, final long length, final String etag,
+			final String fileName, final String contentType) throws IOException {
+		response.setHeader("Accept-Ranges", "bytes");
+		response.setHeader("Cache-Control", "private, no-cache");
+		if (etag != null) {
+			response.setHeader("ETag", etag);
+		}
+		if (matchesEtag(request.getHeader("If-None-Match"), etag)) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return null;
+		}
+		RByteRange range = null;
+		// If-Range: serve the range only while the client's copy is current, with strong comparison.
+		final String ifRange = request.getHeader("If-Range");
+		if (ifRange == null || etag != null && !etag.startsWith("W/") && ifRange.trim().equals(etag)) {
+			try {
+				range = parseRange(request.getHeader("Range"), length);
+			} catch (final IllegalArgumentException e) {
+				response.setHeader("Content-Range", "bytes */" + length);
+				response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+				return null;
+			}
+		}
+		response.setContentType(contentType != null && !contentType.isBlank() ? contentType : "application/octet-stream");
+		response.setHeader("Content-Disposition", contentDisposition(fileName));
+		if (range == null) {
+			response.setStatus(HttpServletResponse.SC_OK);
+			response.setContentLengthLong(length);
+			return new RByteRange(0, length - 1);
+		}
+		response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+		response.setHeader("Content-Range", "bytes %d-%d/%d".formatted(range.start(), range.end(), length));
+		response.setContentLengthLong(range.length());
+		return range;
+	}
+}
@@ -2,9 +2,7 @@ package tech.derbent.api.entityOfCompany.service;
 
 import java.time.Clock;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,8 +14,8 @@ import tech.derbent.api.registry.IEntityRegistrable;
 import tech.derbent.api.registry.IEntityWithView;
 import tech.derbent.api.utils.Check;
 import tech.derbent.api.workflow.domain.CWorkflowEntity;
-import tech.derbent.api.workflow.domain.CWorkflowStatusRelation;
-import tech.derbent.api.workflow.service.CWorkflowStatusRelationService;
+import tech.derbent.api.workflow.domain.CWorkflowTransitionTable;
+import tech.derbent.api.workflow.service.CWorkflowTransitionCache;
 import tech.derbent.api.workflow.service.IHasStatusAndWorkflow;
 import tech.derbent.api.session.service.ISessionService;
 import tech.derbent.plm.kanban.kanbanline.domain.CKanbanColumn;
@@ -29,29 +27,14 @@ import tech.derbent.plm.kanban.kanbanline.domain.CKanbanColumn;
 public class CProjectItemStatusService extends CStatusService<CProjectItemStatus> implements IEntityRegistrable, IEntityWithView {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CProjectItemStatusService.class);
-	private final CWorkflowStatusRelationService workflowStatusRelationService;
+	private final CWorkflowTransitionCache workflowTransitionCache;
 
 	public CProjectItemStatusService(final IProjectItemStatusRepository repository, final Clock clock, final ISessionService sessionService,
-			final CWorkflowStatusRelationService workflowStatusRelationService) {
+			final CWorkflowTransitionCache workflowTransitionCache) {
 		super(repository, clock, sessionService);
-		this.workflowStatusRelationService = workflowStatusRelationService;
+		this.workflowTransitionCache = workflowTransitionCache;
 	}
 
-	
-	private void addIfAbsent(final List<CProjectItemStatus> statuses, final CProjectItemStatus statusToAdd) {
-		if (statusToAdd == null) {
-			return;
-		}
-		final boolean alreadyPresent = statuses.stream().anyMatch(status -> {
-			if (status.getId() != null && statusToAdd.getId() != null) {
-				return status.getId().equals(statusToAdd.getId());
-			}
-			return status.equals(statusToAdd);
-		});
-		if (!alreadyPresent) {
-			statuses.add(statusToAdd);
-		}
-	}
 
 	/** Checks dependencies before allowing activity status deletion. Prevents deletion if the status is being used by any activities or workflows.
 	 * Always calls super.checkDeleteAllowed() first to ensure all parent-level checks (null validation, non-deletable flag) are performed.
@@ -63,6 +46,21 @@ public class CProjectItemStatusService extends CStatusService<CProjectItemStatus
 		return superCheck != null ? superCheck : null;
 	}
 
+	/** Compiled workflow tables hold status instances (name, color, sort order), so any status delete drops them. */
+	@Override
+	@Transactional
+	public void delete(final CProjectItemStatus entity) {
+		super.delete(entity);
+		workflowTransitionCache.invalidateAll();
+	}
+
+	@Override
+	@Transactional
+	public void delete(final Long id) {
+		super.delete(id);
+		workflowTransitionCache.invalidateAll();
+	}
+
 	/** Find the default status for new activities.
 	 * @return Optional containing the default status if found */
 	@Transactional (readOnly = true)
@@ -92,18 +90,10 @@ public class CProjectItemStatusService extends CStatusService<CProjectItemStatus
 	public CProjectItemStatus getInitialStatusFromWorkflow(final CWorkflowEntity workflow) {
 		Check.notNull(workflow, "Workflow cannot be null when retrieving initial status");
 		Check.notNull(workflow.getCompany(), "Workflow company cannot be null when retrieving initial status");
-		try {
-			final List<CWorkflowStatusRelation> relations = getWorkflowRelationsForCompany(workflow);
-			Check.notEmpty(relations, "No status relations found for workflow: " + workflow.getName());
-			final Optional<CProjectItemStatus> initialStatus = relations.stream().filter(relation -> Boolean.TRUE.equals(relation.getInitialStatus()))
-					.map(CWorkflowStatusRelation::getToStatus).filter(Objects::nonNull).findFirst();
-			final CWorkflowStatusRelation fallbackRelation = relations.get(0);
-			Check.notNull(fallbackRelation.getToStatus(), "Initial status cannot be resolved from workflow " + workflow.getName());
-			return initialStatus.orElseGet(fallbackRelation::getToStatus);
-		} catch (final Exception e) {
-			LOGGER.error("Error retrieving initial status for workflow {}: {}", workflow.getName(), e.getMessage());
-			throw e;
-		}
+		final CWorkflowTransitionTable table = workflowTransitionCache.get(workflow);
+		Check.isTrue(!table.isEmpty(), "No status relations found for workflow: " + workflow.getName());
+		Check.notNull(table.getInitialStatus(), "Initial status cannot be resolved from workflow " + workflow.getName());
+		return table.getInitialStatus();
 	}
 
 	@Override
@@ -132,50 +122,20 @@ public class CProjectItemStatusService extends CStatusService<CProjectItemStatus
 				return List.of();
 			}
 			Check.notNull(workflow.getCompany(), "Workflow company cannot be null when retrieving valid next statuses");
+			final CWorkflowTransitionTable table = workflowTransitionCache.get(workflow);
+			Check.isTrue(!table.isEmpty(), "Workflow " + workflow.getName() + " has no status relations defined");
 			final CProjectItemStatus currentStatus = item.getStatus();
-			final List<CProjectItemStatus> validStatuses = new ArrayList<>();
-			final List<CWorkflowStatusRelation> relations = getWorkflowRelationsForCompany(workflow);
-			Check.notEmpty(relations, "Workflow " + workflow.getName() + " has no status relations defined");
-			if (currentStatus != null) {
-				validStatuses.add(item.getStatus()); // Always include current status
-			}
 			if (currentStatus == null) {
-				final CProjectItemStatus initialStatus = getInitialStatusFromWorkflow(workflow);
-				Check.notNull(initialStatus, "Initial status cannot be null when retrieving valid next statuses for new project item");
-				addIfAbsent(validStatuses, initialStatus);
-				return validStatuses;
-			}
-			if (currentStatus.getId() != null) {
-				relations.stream()
-						.filter(relation -> relation.getFromStatus() != null && relation.getFromStatus().getId() != null
-								&& relation.getFromStatus().getId().equals(currentStatus.getId()))
-						.map(CWorkflowStatusRelation::getToStatus).filter(Objects::nonNull)
-						.filter(status -> status.getId() == null || !status.getId().equals(currentStatus.getId()))
-						.forEach(status -> addIfAbsent(validStatuses, status));
+				Check.notNull(table.getInitialStatus(), "Initial status cannot be null when retrieving valid next statuses for new project item");
+				return List.of(table.getInitialStatus());
 			}
-			return validStatuses;
+			return table.getValidOptions(currentStatus);
 		} catch (final Exception e) {
 			LOGGER.error("Error retrieving valid next statuses for project item {}: {}", item.toString(), e.getMessage());
 			throw e;
 		}
 	}
 
-	private List<CWorkflowStatusRelation> getWorkflowRelationsForCompany(final CWorkflowEntity workflow) {
-		Check.notNull(workflow, "Workflow cannot be null when loading relations");
-		Check.notNull(workflow.getCompany(), "Workflow company cannot be null when loading relations");
-		final List<CWorkflowStatusRelation> relations = workflowStatusRelationService.findByWorkflow(workflow);
-		if (relations == null) {
-			return List.of();
-		}
-		return relations.stream().filter(relation -> relation.getFromStatus() != null && relation.getToStatus() != null).peek(relation -> {
-			Check.isSameCompany(workflow, relation.getFromStatus());
-			Check.isSameCompany(workflow, relation.getToStatus());
-		}).sorted(Comparator.comparing((CWorkflowStatusRelation relation) -> {
-			final Integer sortOrder = relation.getToStatus().getSortOrder();
-			return sortOrder != null ? sortOrder : Integer.MAX_VALUE;
-		}).thenComparing(CWorkflowStatusRelation::getId, Comparator.nullsLast(Long::compareTo))).toList();
-	}
-
 	/** Initializes a new activity status with default values. Most common fields are initialized by super class.
 	 * @param entity the newly created activity status to initialize */
 	@Override
@@ -183,6 +143,14 @@ public class CProjectItemStatusService extends CStatusService<CProjectItemStatus
 		super.initializeNewEntity(entity);
 	}
 
+	@Override
+	@Transactional
+	public CProjectItemStatus save(final CProjectItemStatus entity) {
+		final CProjectItemStatus saved = super.save(entity);
+		workflowTransitionCache.invalidateAll();
+		return saved;
+	}
+
 	public List<CProjectItemStatus> resolveStatusesForColumn(CKanbanColumn targetColumn, IHasStatusAndWorkflow<?, ?> iSprintableItem) {
 		// the whole status for the column
 		final List<CProjectItemStatus> columnStatuses = targetColumn.getIncludedStatuses();
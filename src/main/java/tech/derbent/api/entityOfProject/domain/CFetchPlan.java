@@ -0,0 +1,25 @@
+package tech.derbent.api.entityOfProject.domain;
+
+/** CFetchPlan - Named fetch plans for loading project entities for one kind of usage.
+ * <p>
+ * WHY: entities used to pull their associations with {@code FetchType.EAGER}, so every list paid for every association of every row (one extra
+ * select per row and association, plus collection joins nobody rendered). Associations that a plan covers are lazy; each usage states the plan it
+ * needs and the repository loads exactly that graph with fetch joins. Anything not covered is loaded in batches through
+ * {@code hibernate.default_batch_fetch_size} while the transaction is open.
+ * </p>
+ * <p>
+ * RULE: a view must only touch associations of the plan it asked for after the service transaction has ended. Add the association to the plan's
+ * query (see {@code IEntityOfProjectRepository#listByProjectForPlan}) instead of switching it back to eager.
+ * </p>
+ * <p>
+ * Detail forms load one entity through {@code findById}, which already fetches the full form graph, so there is no list plan for them.
+ * </p>
+ */
+public enum CFetchPlan {
+	/** Gantt/timeline row: status, assignee, type and the parent relation used to build the hierarchy. No collections. */
+	GANTT_ROW,
+	/** Kanban/status board card: status, assignee, type, priority and the sprint item. No collections. */
+	KANBAN_CARD,
+	/** Master grid of a page view: the columns of the grid. */
+	PAGE_VIEW;
+}
@@ -12,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 import tech.derbent.api.config.CSpringContext;
 import tech.derbent.api.entity.service.CEntityNamedService;
 import tech.derbent.api.entityOfProject.domain.CEntityOfProject;
+import tech.derbent.api.entityOfProject.domain.CFetchPlan;
 import tech.derbent.api.exceptions.CInitializationException;
 import tech.derbent.api.exceptions.CValidationException;
 import tech.derbent.api.interfaces.ISearchable;
@@ -177,6 +178,17 @@ public abstract class CEntityOfProjectService<EntityClass extends CEntityOfProje
 		}
 	}
 
+	/** Lists the entities of a project loaded with the graph of the given usage; views that keep the entities after the transaction ends must
+	 * only touch associations of that plan.
+	 * @param project the project
+	 * @param plan    the usage the entities are loaded for */
+	@Transactional (readOnly = true)
+	public List<EntityClass> listByProject(final CProject<?> project, final CFetchPlan plan) {
+		Check.notNull(project, "Project cannot be null");
+		Check.notNull(plan, "Fetch plan cannot be null");
+		return ((IEntityOfProjectRepository<EntityClass>) repository).listByProjectForPlan(project, plan);
+	}
+
 	@Transactional (readOnly = true)
 	public Page<EntityClass> listByProject(final CProject<?> project, final Pageable pageable) {
 		Check.notNull(project, "Project cannot be null");
@@ -197,7 +209,7 @@ public abstract class CEntityOfProjectService<EntityClass extends CEntityOfProje
 		final Pageable safePage = CPageableUtils.validateAndFix(pageable);
 		final String term = searchText == null ? "" : searchText.trim();
 		// Repository query includes ORDER BY clause, no need for manual sorting
-		final List<EntityClass> all = ((IEntityOfProjectRepository<EntityClass>) repository).listByProjectForPageView(project);
+		final List<EntityClass> all = ((IEntityOfProjectRepository<EntityClass>) repository).listByProjectForPlan(project, CFetchPlan.PAGE_VIEW);
 		final boolean searchable = ISearchable.class.isAssignableFrom(getEntityClass());
 		final List<EntityClass> filtered = term.isEmpty() || !searchable ? all : all.stream().filter(e -> ((ISearchable) e).matches(term)).toList();
 		// Data is already sorted by repository query
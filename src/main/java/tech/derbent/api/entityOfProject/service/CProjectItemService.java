@@ -1,8 +1,11 @@
 package tech.derbent.api.entityOfProject.service;
 
 import java.time.Clock;
+import java.util.List;
+import org.springframework.transaction.annotation.Transactional;
 import tech.derbent.api.parentrelation.service.IHasParentRelationService;
 import tech.derbent.api.entity.domain.CEntityDB;
+import tech.derbent.api.config.CSpringContext;
 import tech.derbent.api.entityOfCompany.service.CProjectItemStatusService;
 import tech.derbent.api.domains.CTypeEntity;
 import tech.derbent.api.entityOfProject.domain.CProjectItem;
@@ -10,10 +13,12 @@ import tech.derbent.api.exceptions.CValidationException;
 import tech.derbent.api.interfaces.CCloneOptions;
 import tech.derbent.api.interfaces.IHasParentRelation;
 import tech.derbent.api.interfaces.ISprintableItem;
+import tech.derbent.api.search.service.CSearchIndexService;
 import tech.derbent.api.session.service.ISessionService;
 import tech.derbent.api.utils.Check;
 import tech.derbent.api.workflow.service.IHasStatusAndWorkflowService;
 import tech.derbent.plm.sprints.domain.CSprintItem;
+import tech.derbent.plm.sprints.service.CSprintMetricsService;
 
 public abstract class CProjectItemService<EntityClass extends CProjectItem<EntityClass, TypeClass>,
 		TypeClass extends CTypeEntity<TypeClass>> extends CEntityOfProjectService<EntityClass>
@@ -61,6 +66,29 @@ public abstract class CProjectItemService<EntityClass extends CProjectItem<Entit
 		LOGGER.debug("Copied project item fields for: {}", source.getName());
 	}
 
+	/** Deletes the item and its search index entry; a sprintable item leaves its sprint, so the sprint totals are refreshed. */
+	@Override
+	@Transactional
+	public void delete(final EntityClass entity) {
+		final Long sprintId = entity instanceof final ISprintableItem sprintable ? CSprintMetricsService.getSprintId(sprintable) : null;
+		final Long entityId = entity.getId();
+		super.delete(entity);
+		if (sprintId != null && CSpringContext.containsBean(CSprintMetricsService.class)) {
+			CSpringContext.getBean(CSprintMetricsService.class).refreshOnCommit(List.of(sprintId));
+		}
+		if (entityId != null && CSpringContext.containsBean(CSearchIndexService.class)) {
+			CSpringContext.getBean(CSearchIndexService.class).remove(CSearchIndexService.getEntityType(entity), entityId);
+		}
+	}
+
+	/** Routes through {@link #delete(CProjectItem)} so sprint totals follow; a missing ID is ignored like {@code deleteById}. */
+	@Override
+	@Transactional
+	public void delete(final Long id) {
+		Check.notNull(id, "Entity ID cannot be null");
+		repository.findById(id).ifPresent(this::delete);
+	}
+
 	@Override
 	public void initializeNewEntity(final Object entity) {
 		super.initializeNewEntity(entity);
@@ -99,6 +127,23 @@ public abstract class CProjectItemService<EntityClass extends CProjectItem<Entit
 		save((EntityClass) rawEntity);
 	}
 
+	/** Saves the item and re-indexes it for search (comments and attachments are saved through their owner, so they are covered too); for
+	 * sprintable items the status, story points or sprint may have changed, so the sprint totals are refreshed once when the transaction commits
+	 * (an import of many rows into one sprint recomputes it once). */
+	@Override
+	@Transactional
+	public EntityClass save(final EntityClass entity) {
+		final EntityClass saved = super.save(entity);
+		if (saved instanceof final ISprintableItem sprintable && sprintable.getSprintItem() != null
+				&& CSpringContext.containsBean(CSprintMetricsService.class)) {
+			CSpringContext.getBean(CSprintMetricsService.class).refreshForSprintItem(sprintable.getSprintItem());
+		}
+		if (CSpringContext.containsBean(CSearchIndexService.class)) {
+			CSpringContext.getBean(CSearchIndexService.class).index(saved);
+		}
+		return saved;
+	}
+
 	@Override
 	protected void validateEntity(final EntityClass entity) {
 		super.validateEntity(entity);
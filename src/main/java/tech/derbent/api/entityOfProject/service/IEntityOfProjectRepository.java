@@ -9,6 +9,7 @@ import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.query.Param;
 import tech.derbent.api.entity.service.IAbstractNamedRepository;
 import tech.derbent.api.entityOfProject.domain.CEntityOfProject;
+import tech.derbent.api.entityOfProject.domain.CFetchPlan;
 import tech.derbent.api.projects.domain.CProject;
 
 @NoRepositoryBean
@@ -22,6 +23,16 @@ public interface IEntityOfProjectRepository<EntityClass extends CEntityOfProject
 	Optional<EntityClass> findByNameAndProject(@Param ("name") String name, @Param ("project") CProject<?> project);
 	@Query ("SELECT e FROM #{#entityName} e WHERE e.project = :project ORDER BY e.name ASC")
 	List<EntityClass> listByProject(@Param ("project") CProject<?> project);
+	/** {@link CFetchPlan#KANBAN_CARD} graph. The generic version covers the CEntityOfProject associations; project item repositories override it
+	 * with status, type, priority and sprint item. */
+	@Query ("""
+			SELECT e FROM #{#entityName} e
+			LEFT JOIN FETCH e.project
+			LEFT JOIN FETCH e.assignedTo
+			WHERE e.project = :project
+			ORDER BY e.name ASC
+			""")
+	List<EntityClass> listByProjectForBoard(@Param ("project") CProject<?> project);
 	@Query ("SELECT e FROM #{#entityName} e WHERE e.project = :project ORDER BY e.name ASC")
 	Page<EntityClass> listByProject(@Param ("project") CProject<?> project, Pageable pageable);
 	@Query ("""
@@ -33,6 +44,27 @@ public interface IEntityOfProjectRepository<EntityClass extends CEntityOfProject
 			ORDER BY e.name ASC
 			""")
 	List<EntityClass> listByProjectForPageView(@Param ("project") CProject<?> project);
+	/** Loads the entities of a project with the graph the given usage needs.
+	 * @param project the project
+	 * @param plan    usage of the result
+	 * @return entities of the project */
+	default List<EntityClass> listByProjectForPlan(final CProject<?> project, final CFetchPlan plan) {
+		return switch (plan) {
+		case GANTT_ROW -> listByProjectForTimeline(project);
+		case KANBAN_CARD -> listByProjectForBoard(project);
+		case PAGE_VIEW -> listByProjectForPageView(project);
+		};
+	}
+	/** {@link CFetchPlan#GANTT_ROW} graph. The generic version covers the CEntityOfProject associations; project item repositories override it
+	 * with status, type and parent relation. */
+	@Query ("""
+			SELECT e FROM #{#entityName} e
+			LEFT JOIN FETCH e.project
+			LEFT JOIN FETCH e.assignedTo
+			WHERE e.project = :project
+			ORDER BY e.name ASC
+			""")
+	List<EntityClass> listByProjectForTimeline(@Param ("project") CProject<?> project);
 	@Query ("SELECT e FROM #{#entityName} e WHERE e.project.id = :pid ORDER BY e.name ASC")
 	List<EntityClass> listByProjectId(@Param ("pid") Long pid);
 }
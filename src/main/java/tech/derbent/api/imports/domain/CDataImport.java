@@ -28,6 +28,13 @@ public class CDataImport extends CEntityOfCompany<CDataImport> {
     )
     private String fileName;
 
+    @Column (name = "content_sha256", length = 64)
+    @AMetaData (
+            displayName = "Content SHA-256", required = false, readOnly = true,
+            description = "Hex SHA-256 of the imported file; a chunked import resumes only on identical content", hidden = true, maxLength = 64
+    )
+    private String contentSha256;
+
     @Column (name = "imported_at")
     @AMetaData (
             displayName = "Import Date", required = false, readOnly = true,
@@ -77,6 +84,34 @@ public class CDataImport extends CEntityOfCompany<CDataImport> {
     )
     private int totalSkipped;
 
+    @Column (name = "completed")
+    @AMetaData (
+            displayName = "Completed", required = false, readOnly = true,
+            description = "Whether all sheets were processed; chunked imports stay incomplete until the last chunk commits", hidden = false
+    )
+    private Boolean completed = Boolean.TRUE;
+
+    @Column (name = "progress_sheet_index")
+    @AMetaData (
+            displayName = "Progress Sheet", required = false, readOnly = true,
+            description = "0-based index of the sheet whose rows were last committed", hidden = true
+    )
+    private Integer progressSheetIndex = -1;
+
+    @Column (name = "progress_row_number")
+    @AMetaData (
+            displayName = "Progress Row", required = false, readOnly = true,
+            description = "1-based sheet row number of the last committed row; a resumed import continues after it", hidden = true
+    )
+    private Integer progressRowNumber = 0;
+
+    @Column (name = "last_error", length = 2000)
+    @AMetaData (
+            displayName = "Last Error", required = false, readOnly = true,
+            description = "Error that stopped a chunked import", hidden = false, maxLength = 2000
+    )
+    private String lastError;
+
     /** Default constructor for JPA. */
     protected CDataImport() {}
 
@@ -90,6 +125,7 @@ public class CDataImport extends CEntityOfCompany<CDataImport> {
         CSpringContext.getServiceClassForEntity(this).initializeNewEntity(this);
     }
 
+    public String getContentSha256() { return contentSha256; }
     public String getFileName() { return fileName; }
     public LocalDateTime getImportedAt() { return importedAt; }
     public String getImportedBy() { return importedBy; }
@@ -99,6 +135,7 @@ public class CDataImport extends CEntityOfCompany<CDataImport> {
     public int getTotalErrors() { return totalErrors; }
     public int getTotalSkipped() { return totalSkipped; }
 
+    public void setContentSha256(final String contentSha256) { this.contentSha256 = contentSha256; }
     public void setFileName(final String fileName) { this.fileName = fileName; }
     public void setImportedAt(final LocalDateTime importedAt) { this.importedAt = importedAt; }
     public void setImportedBy(final String importedBy) { this.importedBy = importedBy; }
@@ -107,4 +144,27 @@ public class CDataImport extends CEntityOfCompany<CDataImport> {
     public void setTotalSuccess(final int totalSuccess) { this.totalSuccess = totalSuccess; }
     public void setTotalErrors(final int totalErrors) { this.totalErrors = totalErrors; }
     public void setTotalSkipped(final int totalSkipped) { this.totalSkipped = totalSkipped; }
+
+    // Null-safe: rows written before chunked imports existed have no progress columns.
+    public Boolean getCompleted() { return completed != null ? completed : Boolean.TRUE; }
+    public Integer getProgressSheetIndex() { return progressSheetIndex != null ? progressSheetIndex : -1; }
+    public Integer getProgressRowNumber() { return progressRowNumber != null ? progressRowNumber : 0; }
+    public String getLastError() { return lastError; }
+
+    public void setCompleted(final Boolean completed) { this.completed = completed; }
+    public void setProgressSheetIndex(final Integer progressSheetIndex) { this.progressSheetIndex = progressSheetIndex; }
+    public void setProgressRowNumber(final Integer progressRowNumber) { this.progressRowNumber = progressRowNumber; }
+    public void setLastError(final String lastError) { this.lastError = lastError; }
+
+    /** Records the last committed position of a chunked import; rows up to and including it are skipped on resume. */
+    public void recordProgress(final int sheetIndex, final int rowNumber) {
+        this.progressSheetIndex = sheetIndex;
+        this.progressRowNumber = rowNumber;
+    }
+
+    /** True if a row was already committed by an earlier (interrupted) run of this job. */
+    public boolean isAlreadyCommitted(final int sheetIndex, final int rowNumber) {
+        final int committedSheet = getProgressSheetIndex();
+        return sheetIndex < committedSheet || sheetIndex == committedSheet && rowNumber <= getProgressRowNumber();
+    }
 }
@@ -11,15 +11,19 @@ public class CImportOptions {
     private boolean skipUnknownSheets = true;
     /** If true, rows with a non-matching "project" token are skipped (useful when importing a multi-project workbook per-project). */
     private boolean skipMismatchedProjectTokens = true;
+    /** Rows per transaction for chunked imports ({@code CExcelImportService#importExcelInChunks}); ignored by single-transaction imports. */
+    private int chunkSize = 500;
 
     public static CImportOptions defaults() {
         return new CImportOptions();
     }
 
+    public int getChunkSize() { return chunkSize; }
     public boolean isDryRun() { return dryRun; }
     public boolean isRollbackOnError() { return rollbackOnError; }
     public boolean isSkipUnknownSheets() { return skipUnknownSheets; }
     public boolean isSkipMismatchedProjectTokens() { return skipMismatchedProjectTokens; }
+    public void setChunkSize(final int chunkSize) { this.chunkSize = chunkSize; }
     public void setDryRun(final boolean dryRun) { this.dryRun = dryRun; }
     public void setRollbackOnError(final boolean rollbackOnError) { this.rollbackOnError = rollbackOnError; }
     public void setSkipUnknownSheets(final boolean skipUnknownSheets) { this.skipUnknownSheets = skipUnknownSheets; }
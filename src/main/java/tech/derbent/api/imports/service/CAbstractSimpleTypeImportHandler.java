@@ -30,6 +30,11 @@ public abstract class CAbstractSimpleTypeImportHandler<T extends CTypeEntity<T>>
 	protected abstract T createNew(String name, CCompany company);
 	protected abstract Optional<T> findByNameAndCompany(String name, CCompany company);
 
+	/** Only the company is resolved by name, both association targets. RULE: subclasses resolving more in {@code applyExtraFields} list it
+	 * in {@link #getReferencedEntityClasses()}. */
+	@Override
+	public boolean isReferenceDeclarationComplete() { return true; }
+
 	@Override
 	public CImportRowResult importRow(final Map<String, String> rowData, final CProject<?> project, final int rowNumber,
 			final CImportOptions options) {
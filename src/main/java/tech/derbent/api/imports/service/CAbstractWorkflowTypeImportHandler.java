@@ -38,6 +38,11 @@ public abstract class CAbstractWorkflowTypeImportHandler<T extends CTypeEntity<T
 	protected abstract T createNew(String name, CCompany company);
 	protected abstract Optional<T> findByNameAndCompany(String name, CCompany company);
 
+	/** Only the company and the workflow is resolved by name, both association targets. RULE: subclasses resolving more in {@code applyExtraFields} list it
+	 * in {@link #getReferencedEntityClasses()}. */
+	@Override
+	public boolean isReferenceDeclarationComplete() { return true; }
+
 	@Override
 	public CImportRowResult importRow(final Map<String, String> rowData, final CProject<?> project, final int rowNumber,
 			final CImportOptions options) {
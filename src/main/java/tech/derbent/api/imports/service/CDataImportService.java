@@ -3,6 +3,7 @@ package tech.derbent.api.imports.service;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
@@ -41,6 +42,34 @@ public class CDataImportService extends CEntityOfCompanyService<CDataImport>
         return all.size() > 50 ? all.subList(0, 50) : all;
     }
 
+    /** Creates the job record for a chunked import before any row is processed; progress and totals are updated as chunks commit.
+     * @param contentSha256 hex SHA-256 of the uploaded file, used to find the job again when the same content is re-uploaded
+     * @return the saved, incomplete job */
+    @Transactional
+    public CDataImport createResumableJob(final CCompany company, final String fileName, final String contentSha256, final String username) {
+        Check.notNull(company, "Company cannot be null when creating import job");
+        Check.notBlank(contentSha256, "Content hash cannot be blank for a resumable import job");
+        final CDataImport job = new CDataImport(buildJobName(fileName), company);
+        job.setFileName(fileName != null ? fileName : "unknown");
+        job.setContentSha256(contentSha256);
+        job.setImportedAt(LocalDateTime.now());
+        job.setImportedBy(username != null ? username : "unknown");
+        job.setCompleted(Boolean.FALSE);
+        return save(job);
+    }
+
+    /** Returns the most recent incomplete chunked import of the same content, so re-uploading it resumes after the last committed chunk.
+     * RULE: match on the content hash, never the file name - an edited workbook saved under the same name must start from row one, since
+     * the recorded progress positions refer to the old rows. */
+    @Transactional (readOnly = true)
+    public Optional<CDataImport> findResumableJob(final CCompany company, final String contentSha256) {
+        Check.notNull(company, "Company cannot be null when looking up import jobs");
+        if (contentSha256 == null || contentSha256.isBlank()) {
+            return Optional.empty();
+        }
+        return ((IDataImportRepository) repository).findLatestIncompleteByCompanyAndContentSha256(company, contentSha256);
+    }
+
     /** Persists an import result as a CDataImport history record.
      * @param result      the completed import result
      * @param company     company context
@@ -38,7 +38,8 @@ public abstract class CEntityOfProjectImportHandler<T extends CEntityOfProject<T
 		final String assignedToLogin = row.string("assignedto");
 		if (!assignedToLogin.isBlank()) {
 			final CCompany company = project.getCompany();
-			final CUser user = userRepository.findByUsernameIgnoreCase(company.getId(), assignedToLogin).orElse(null);
+			final CUser user = CImportLookupCache.lookupUser(assignedToLogin, company,
+					() -> userRepository.findByUsernameIgnoreCase(company.getId(), assignedToLogin)).orElse(null);
 			if (user == null) {
 				return Optional.of(CImportRowResult.error(rowNumber,
 						"Assigned user '" + assignedToLogin + "' not found in company. Create it before importing.",
@@ -59,14 +60,18 @@ public abstract class CEntityOfProjectImportHandler<T extends CEntityOfProject<T
 		}
 		CCompany company = sessionProject.getCompany();
 		final String companyName = row.string("company");
+		// WHY: every row of a multi-project sheet carries these tokens; the bound import cache avoids listing all companies/projects per row.
+		final CImportLookupCache cache = CImportLookupCache.current().orElse(null);
 		if (!companyName.isBlank() && !isWildcard(companyName)) {
-			company = projectResolver.findCompanyByName(companyName).orElse(null);
+			company = cache != null ? cache.getCompany(companyName, projectResolver).orElse(null)
+					: projectResolver.findCompanyByName(companyName).orElse(null);
 		}
 		if (company == null) {
 			throw new CValidationException("Company '" + companyName + "' not found. Create it before importing.");
 		}
-		return projectResolver.findProjectByNameAndCompany(projectName, company)
-				.orElseThrow(() -> new CValidationException("Project '" + projectName + "' not found in company '"
+		final Optional<CProject<?>> resolved = cache != null ? cache.getProject(projectName, company, projectResolver)
+				: projectResolver.findProjectByNameAndCompany(projectName, company);
+		return resolved.orElseThrow(() -> new CValidationException("Project '" + projectName + "' not found in company '"
 						+ companyName + "'. Create it before importing."));
 	}
 }
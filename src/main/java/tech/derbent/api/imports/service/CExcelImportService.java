@@ -1,38 +1,269 @@
 package tech.derbent.api.imports.service;
 
+import java.io.File;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.DateUtil;
 import org.apache.poi.ss.usermodel.FormulaEvaluator;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import jakarta.persistence.EntityManager;
+import tech.derbent.api.imports.domain.CDataImport;
 import tech.derbent.api.imports.domain.CImportOptions;
 import tech.derbent.api.imports.domain.CImportResult;
 import tech.derbent.api.imports.domain.CImportRowResult;
 import tech.derbent.api.imports.domain.CImportSheetResult;
+import tech.derbent.api.imports.service.CImportDependencyGraph.CSheetNode;
 import tech.derbent.api.projects.domain.CProject;
+import tech.derbent.api.session.service.CSessionContextSnapshot;
+import tech.derbent.api.session.service.ISessionService;
+import tech.derbent.api.users.domain.CUser;
 import tech.derbent.api.utils.Check;
 
-/** Orchestrates Excel workbook import: sheet detection, header parsing, row processing, and transaction management. Transaction boundary: the entire
- * import runs in one transaction. Dry-run and rollback-on-error use setRollbackOnly() so results can still be returned. */
+/** Orchestrates Excel workbook import: sheet detection, header parsing, row processing, and transaction management. Sheets are read with the
+ * streaming {@link CExcelStreamingReader}, so the workbook is never held in memory as a DOM.
+ * <p>
+ * Transaction boundary: {@link #importExcel} runs the entire import in one transaction; dry-run and rollback-on-error use setRollbackOnly() so
+ * results can still be returned. {@link #importExcelInChunks} commits every {@link CImportOptions#getChunkSize()} rows in its own transaction and
+ * records the committed position on a {@link CDataImport} job, so a failed row only rolls back its chunk and a re-run resumes after the last commit.
+ * {@link #importExcelParallel} runs every sheet in its own transaction and lets sheets without a dependency (see {@link CImportDependencyGraph})
+ * import concurrently; the system-init bootstrap imports its types and data workbooks this way.
+ * </p>
+ */
 @Service
 public class CExcelImportService {
 
+	/** A data row waiting for its chunk to be committed. */
+	private record CPendingRow(int rowNumber, Map<String, String> rowData) {}
+
+	/** Result of one sheet of a parallel import. {@code failure} is set when the handler aborted the sheet; {@code rolledBack} when
+	 * rollback-on-error discarded it. */
+	private record CSheetOutcome(String sheetName, CImportSheetResult sheetResult, RuntimeException failure, boolean rolledBack) {
+
+		boolean isCommitted() { return failure == null && !rolledBack; }
+	}
+
+	/** Consumes streamed sheets: resolves handlers, parses headers and dispatches data rows either directly (single transaction) or in chunks. */
+	private final class CWorkbookImportConsumer implements CExcelStreamingReader.ISheetRowConsumer {
+
+		private final List<CPendingRow> chunk = new ArrayList<>();
+		private Map<Integer, String> columnMapping;
+		private IEntityImportHandler<?> handler;
+		private boolean headerFound;
+		/** Non-null only for chunked imports. */
+		private CDataImport job;
+		private int lastRowIndex;
+		/** Workbook index of the only sheet to import (parallel workers), or -1 for all sheets. */
+		private int onlySheetIndex = -1;
+		private final CImportOptions options;
+		private final CProject<?> project;
+		private final CImportResult result;
+		private int rowsSeen;
+		private int sheetIndex;
+		private String sheetName;
+		private CImportSheetResult sheetResult;
+
+		CWorkbookImportConsumer(final CImportOptions options, final CProject<?> project, final CImportResult result,
+				final CDataImport job) {
+			this.options = options;
+			this.project = project;
+			this.result = result;
+			this.job = job;
+		}
+
+		private void commitChunk() {
+			if (chunk.isEmpty()) {
+				return;
+			}
+			final int lastRowNumber = chunk.get(chunk.size() - 1).rowNumber();
+			final int previousSheetIndex = job.getProgressSheetIndex();
+			final int previousRowNumber = job.getProgressRowNumber();
+			final int previousSuccess = job.getTotalSuccess();
+			final int previousErrors = job.getTotalErrors();
+			try {
+				final List<CImportRowResult> committed = chunkTransactionTemplate.execute(status -> {
+					final List<CImportRowResult> rowResults = new ArrayList<>(chunk.size());
+					for (final CPendingRow pending : chunk) {
+						rowResults.add(importRow(handler, sheetName, pending.rowNumber(), pending.rowData(), project, options));
+					}
+					// WHY: progress is written in the same transaction as the rows, so the job never claims rows that were rolled back.
+					job.recordProgress(sheetIndex, lastRowNumber);
+					job.setTotalSuccess(job.getTotalSuccess()
+							+ (int) rowResults.stream().filter(r -> r != null && r.isSuccess()).count());
+					job.setTotalErrors(
+							job.getTotalErrors() + (int) rowResults.stream().filter(r -> r != null && r.isError()).count());
+					job = entityManager.merge(job);
+					return rowResults;
+				});
+				if (committed != null) {
+					committed.forEach(sheetResult::addRowResult);
+				}
+			} catch (final RuntimeException e) {
+				// The chunk rolled back; undo the in-memory progress so the failure record points at the last committed row.
+				job.recordProgress(previousSheetIndex, previousRowNumber);
+				job.setTotalSuccess(previousSuccess);
+				job.setTotalErrors(previousErrors);
+				throw e;
+			} finally {
+				chunk.clear();
+			}
+			LOGGER.debug("Excel import: sheet '{}' committed chunk up to row {}", sheetName, lastRowNumber);
+		}
+
+		@Override
+		public void endSheet(final int index, final String name) {
+			if (!headerFound) {
+				sheetResult.setHeaderErrorMessage("Sheet has no header row");
+			} else if (job != null) {
+				commitChunk();
+			} else if (!options.isDryRun()) {
+				// WHY: later sheets commonly resolve relations by querying the database (Issue → Activity, ParentRelation → Ticket, etc.).
+				// Within a single transaction, Hibernate may not flush inserts before those queries, yielding false "not found" errors.
+				entityManager.flush();
+			}
+			result.addSheetResult(sheetResult);
+			LOGGER.info("Excel import: sheet '{}' done (ok={}, skipped={}, errors={})", name, sheetResult.getSuccessCount(),
+					sheetResult.getSkippedCount(), sheetResult.getErrorCount());
+		}
+
+		private void handleDataRow(final int rowIndex, final Map<Integer, String> cells) {
+			if (columnMapping.isEmpty()) {
+				return;
+			}
+			// Rows Excel did not store are reported as skipped, matching the row numbering users see in Excel.
+			for (int gap = lastRowIndex + 1; gap < rowIndex; gap++) {
+				sheetResult.addRowResult(CImportRowResult.skipped(gap + 1));
+			}
+			lastRowIndex = rowIndex;
+			final int rowNumber = rowIndex + 1;
+			if (++rowsSeen % 1000 == 0) {
+				LOGGER.info("Excel import: sheet '{}' progress {} rows", sheetName, rowsSeen);
+			}
+			if (job != null && job.isAlreadyCommitted(sheetIndex, rowNumber)) {
+				return;
+			}
+			if (isCommentRow(cells) || cells.isEmpty()) {
+				sheetResult.addRowResult(CImportRowResult.skipped(rowNumber));
+				return;
+			}
+			final Map<String, String> rowData = extractRowData(cells, columnMapping);
+			if (shouldSkipByCompanyOrProject(rowData, project, options)) {
+				sheetResult.addRowResult(CImportRowResult.skipped(rowNumber));
+				return;
+			}
+			// Validate required columns
+			final String missingCol = checkRequiredColumns(rowData, handler);
+			if (missingCol != null) {
+				sheetResult.addRowResult(
+						CImportRowResult.error(rowNumber, "Required column missing or blank: " + missingCol, rowData));
+				return;
+			}
+			if (job == null) {
+				sheetResult.addRowResult(importRow(handler, sheetName, rowNumber, rowData, project, options));
+				return;
+			}
+			chunk.add(new CPendingRow(rowNumber, rowData));
+			if (chunk.size() >= Math.max(1, options.getChunkSize())) {
+				commitChunk();
+			}
+		}
+
+		@Override
+		public void row(final int rowIndex, final Map<Integer, String> cells) {
+			if (headerFound) {
+				handleDataRow(rowIndex, cells);
+				return;
+			}
+			// Find header row (first non-comment row)
+			if (isCommentRow(cells)) {
+				return;
+			}
+			headerFound = true;
+			lastRowIndex = rowIndex;
+			// Build column index → canonical field token map
+			columnMapping = buildColumnMapping(cells, handler);
+			if (columnMapping.isEmpty()) {
+				sheetResult.setHeaderErrorMessage("No recognized columns found in header row");
+			}
+			LOGGER.debug("Sheet '{}' column mapping: {}", sheetName, columnMapping);
+		}
+
+		@Override
+		public boolean startSheet(final int index, final String name) {
+			if (onlySheetIndex >= 0 && index != onlySheetIndex) {
+				return false;
+			}
+			final var handlerOpt = handlerRegistry.findHandler(name);
+			if (handlerOpt.isEmpty()) {
+				if (!options.isSkipUnknownSheets()) {
+					final CImportSheetResult unrecognized = new CImportSheetResult(name, null, false);
+					unrecognized.setHeaderErrorMessage("No import handler registered for sheet '" + name + "'");
+					result.addSheetResult(unrecognized);
+				}
+				return false;
+			}
+			if (job != null && index < job.getProgressSheetIndex()) {
+				LOGGER.info("Excel import: sheet {} '{}' already committed by job {}; skipping", index + 1, name, job.getName());
+				return false;
+			}
+			handler = handlerOpt.get();
+			sheetIndex = index;
+			sheetName = name;
+			sheetResult = new CImportSheetResult(name, handler.getEntityClass().getSimpleName(), true);
+			headerFound = false;
+			columnMapping = null;
+			rowsSeen = 0;
+			LOGGER.info("Excel import: sheet {} '{}' (handler={})", index + 1, name, handler.getClass().getSimpleName());
+			return true;
+		}
+	}
+
 	private static final Logger LOGGER = LoggerFactory.getLogger(CExcelImportService.class);
 
-	/** Reads cell value as String, evaluating formula cells when evaluator is provided. */
+	/** Returns the canonical field token for a missing required column, or null if all present. */
+	private static String checkRequiredColumns(final Map<String, String> rowData, final IEntityImportHandler<?> handler) {
+		for (final String required : handler.getRequiredColumns()) {
+			final String value = rowData.get(required);
+			if (value == null || value.isBlank()) {
+				return required;
+			}
+		}
+		return null;
+	}
+
+	private static Map<String, String> extractRowData(final Map<Integer, String> cells,
+			final Map<Integer, String> columnMapping) {
+		final Map<String, String> data = new LinkedHashMap<>();
+		columnMapping.forEach((col, token) -> data.put(token, cells.getOrDefault(col, "")));
+		return data;
+	}
+
+	/** Reads cell value as String, evaluating formula cells when evaluator is provided. Streaming imports apply the same rules in
+	 * {@link CExcelStreamingReader}; this variant serves callers holding a DOM {@link Cell}. */
 	public static String getCellStringValue(final Cell cell, final FormulaEvaluator evaluator) {
 		if (cell == null) {
 			return "";
@@ -59,6 +290,13 @@ public class CExcelImportService {
 		};
 	}
 
+	private static boolean isCommentRow(final Map<Integer, String> cells) {
+		if (cells.isEmpty()) {
+			return false;
+		}
+		return cells.values().iterator().next().startsWith("#");
+	}
+
 	private static boolean isWildcard(final String token) {
 		final String v = token == null ? "" : token.trim().toLowerCase();
 		return "*".equals(v) || v.equals("all") || v.equals("any");
@@ -95,67 +333,43 @@ public class CExcelImportService {
 		return false;
 	}
 
+	private final TransactionTemplate chunkTransactionTemplate;
 	private final EntityManager entityManager;
 	private final CImportHandlerRegistry handlerRegistry;
+	/** Upper bound of concurrently imported sheets; keep below the JDBC pool size since every worker holds a connection. */
+	private final int importParallelism;
+	private final TransactionTemplate sequentialTransactionTemplate;
+	private final ISessionService sessionService;
 
-	public CExcelImportService(final CImportHandlerRegistry handlerRegistry, final EntityManager entityManager) {
+	public CExcelImportService(final CImportHandlerRegistry handlerRegistry, final EntityManager entityManager,
+			final PlatformTransactionManager transactionManager, final ISessionService sessionService,
+			@Value ("${derbent.import.parallelism:4}") final int importParallelism) {
 		this.handlerRegistry = handlerRegistry;
+		this.importParallelism = importParallelism;
 		this.entityManager = entityManager;
+		this.sessionService = sessionService;
+		chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+		chunkTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		sequentialTransactionTemplate = new TransactionTemplate(transactionManager);
 	}
 
-	private Map<Integer, String> buildColumnMapping(final Row headerRow, final IEntityImportHandler<?> handler,
-			final FormulaEvaluator evaluator) {
+	private Map<Integer, String> buildColumnMapping(final Map<Integer, String> headerCells,
+			final IEntityImportHandler<?> handler) {
 		final Map<Integer, String> mapping = new LinkedHashMap<>();
-		if (headerRow == null) {
-			return mapping;
-		}
-		final Map<String, String> aliases = handler.getColumnAliases();
-		final int firstCell = headerRow.getFirstCellNum();
-		if (firstCell < 0) {
-			return mapping;
-		}
-		for (int col = firstCell; col < headerRow.getLastCellNum(); col++) {
-			final Cell cell = headerRow.getCell(col);
-			if (cell == null) {
-				continue;
-			}
-			final String header = getCellStringValue(cell, evaluator).trim();
+		// WHY: aliases are normalized once per sheet instead of once per header cell.
+		final Map<String, String> normalizedAliases = new LinkedHashMap<>();
+		handler.getColumnAliases().forEach((alias, token) -> normalizedAliases.putIfAbsent(normalizeHeaderKey(alias), token));
+		headerCells.forEach((col, header) -> {
 			if (header.isBlank()) {
-				continue;
+				return;
 			}
 			final String normalizedHeader = normalizeHeaderKey(header);
-			String canonical = aliases.entrySet().stream().filter(entry -> normalizeHeaderKey(entry.getKey()).equals(normalizedHeader)).findFirst().map(Map.Entry::getValue).orElse(null);
-			if (canonical == null) {
-				canonical = normalizedHeader;
-			}
-			mapping.put(col, canonical);
-		}
-		return mapping;
-	}
-
-	/** Returns the canonical field token for a missing required column, or null if all present. */
-	private String checkRequiredColumns(final Map<String, String> rowData, final IEntityImportHandler<?> handler) {
-		for (final String required : handler.getRequiredColumns()) {
-			final String value = rowData.get(required);
-			if (value == null || value.isBlank()) {
-				return required;
-			}
-		}
-		return null;
-	}
-
-	private Map<String, String> extractRowData(final Row row, final Map<Integer, String> columnMapping,
-			final FormulaEvaluator evaluator) {
-		final Map<String, String> data = new LinkedHashMap<>();
-		columnMapping.entrySet().forEach((final Map.Entry<Integer, String> entry) -> {
-			final Cell cell = row.getCell(entry.getKey());
-			final String value = cell != null ? getCellStringValue(cell, evaluator).trim() : "";
-			data.put(entry.getValue(), value);
+			mapping.put(col, normalizedAliases.getOrDefault(normalizedHeader, normalizedHeader));
 		});
-		return data;
+		return mapping;
 	}
 
-	/** Main entry point. Parses the workbook, processes each sheet, and returns a complete CImportResult. Runs in a single transaction; dry-run and
+	/** Main entry point. Streams the workbook, processes each sheet, and returns a complete CImportResult. Runs in a single transaction; dry-run and
 	 * rollback-on-error mark the transaction for rollback without throwing.
 	 * @param inputStream Excel (.xlsx) bytes
 	 * @param options     import configuration
@@ -163,167 +377,256 @@ public class CExcelImportService {
 	@Transactional
 	public CImportResult importExcel(final InputStream inputStream, final CImportOptions options,
 			final CProject<?> project) {
+		return importInCurrentTransaction(inputStream, options, project,
+				() -> TransactionAspectSupport.currentTransactionStatus().setRollbackOnly());
+	}
+
+	private CImportResult importInCurrentTransaction(final InputStream inputStream, final CImportOptions options,
+			final CProject<?> project, final Runnable markRollbackOnly) {
 		Check.notNull(inputStream, "Input stream cannot be null");
 		Check.notNull(options, "Import options cannot be null");
 		Check.notNull(project, "Project cannot be null");
 		LOGGER.info("Excel import started (project={}, dryRun={}, rollbackOnError={})", project.getName(),
 				options.isDryRun(), options.isRollbackOnError());
 		final CImportResult result = new CImportResult(options.isDryRun());
-		processWorkbook(inputStream, options, project, result);
+		processWorkbook(inputStream, new CWorkbookImportConsumer(options, project, result, null));
 		// Apply rollback policy after all rows have been processed
 		if (options.isDryRun() || options.isRollbackOnError() && result.getTotalErrors() > 0) {
 			result.setRolledBack(true);
-			TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+			markRollbackOnly.run();
 		}
 		return result;
 	}
 
-	private boolean isBlankRow(final Row row, final FormulaEvaluator evaluator) {
-		final int firstCell = row.getFirstCellNum();
-		if (firstCell < 0) {
-			return true;
-		}
-		for (int col = firstCell; col < row.getLastCellNum(); col++) {
-			final Cell cell = row.getCell(col);
-			if (cell != null && !getCellStringValue(cell, evaluator).isBlank()) {
-				return false;
-			}
+	/** Chunked entry point for large workbooks. Every {@link CImportOptions#getChunkSize()} rows are imported and committed in their own transaction
+	 * together with the job's progress; a handler failure rolls back only the current chunk, marks the job with the error and rethrows. Passing the
+	 * same incomplete job again resumes after its last committed row.
+	 * <p>
+	 * Must not be called inside an outer transaction: each chunk needs to commit independently. Dry-run and rollback-on-error require a single
+	 * transaction and are therefore rejected here.
+	 * </p>
+	 * @param inputStream Excel (.xlsx) bytes
+	 * @param options     import configuration (chunk size)
+	 * @param project     active project context for all imported entities
+	 * @param job         persisted job that records progress; {@link CDataImport#getCompleted()} is set when the last chunk commits */
+	public CImportResult importExcelInChunks(final InputStream inputStream, final CImportOptions options,
+			final CProject<?> project, final CDataImport job) {
+		Check.notNull(inputStream, "Input stream cannot be null");
+		Check.notNull(options, "Import options cannot be null");
+		Check.notNull(project, "Project cannot be null");
+		Check.notNull(job, "Import job cannot be null for chunked import");
+		Check.isTrue(!options.isDryRun() && !options.isRollbackOnError(),
+				"Chunked import commits as it goes; dry-run and rollback-on-error need importExcel()");
+		LOGGER.info("Chunked Excel import started (project={}, chunkSize={}, job={}, resumeAfter=sheet {} row {})", project.getName(),
+				options.getChunkSize(), job.getName(), job.getProgressSheetIndex() + 1, job.getProgressRowNumber());
+		final CImportResult result = new CImportResult(false);
+		final CWorkbookImportConsumer consumer = new CWorkbookImportConsumer(options, project, result, job);
+		try {
+			processWorkbook(inputStream, consumer);
+		} catch (final RuntimeException e) {
+			consumer.job = updateJob(consumer.job, current -> current.setLastError(truncate(e.getMessage(), 2000)));
+			throw e;
 		}
-		return true;
+		consumer.job = updateJob(consumer.job, current -> {
+			current.setCompleted(Boolean.TRUE);
+			current.setLastError(null);
+			current.setTotalSkipped(current.getTotalSkipped() + (int) result.getTotalSkipped());
+		});
+		return result;
 	}
 
-	private boolean isCommentRow(final Row row, final FormulaEvaluator evaluator) {
-		final int firstCell = row.getFirstCellNum();
-		if (firstCell < 0) {
-			return false;
+	/** Parallel entry point for multi-sheet workbooks. Sheets are planned with {@link CImportDependencyGraph}; each sheet is imported and committed
+	 * in its own transaction on a bounded pool once every earlier sheet it depends on has committed. Independent sheets (unrelated type tables,
+	 * users, unrelated project items) therefore overlap, while a sheet referencing activities still waits for the activity sheet.
+	 * <p>
+	 * Rollback-on-error applies per sheet: a sheet with row errors is rolled back and every sheet depending on it is reported as not imported.
+	 * A handler exception aborts the failing sheet and its dependents and is rethrown after the running sheets finish. Dry-run needs a single
+	 * transaction and is rejected. When the caller already runs inside a transaction, workers could not see its uncommitted rows, so the import
+	 * falls back to the single-transaction {@link #importExcel}. Each worker loads the project and the session user into its own persistence
+	 * context. Sheets already committed stay committed when a later sheet fails, so callers that need all-or-nothing use {@link #importExcel}.
+	 * </p>
+	 * @param inputStream Excel (.xlsx) bytes
+	 * @param options     import configuration
+	 * @param project     active project context for all imported entities */
+	public CImportResult importExcelParallel(final InputStream inputStream, final CImportOptions options,
+			final CProject<?> project) {
+		Check.notNull(inputStream, "Input stream cannot be null");
+		Check.notNull(options, "Import options cannot be null");
+		Check.notNull(project, "Project cannot be null");
+		Check.isTrue(!options.isDryRun(), "Parallel import commits per sheet; dry-run needs importExcel()");
+		if (TransactionSynchronizationManager.isActualTransactionActive() || importParallelism <= 1) {
+			LOGGER.info("Parallel Excel import not possible here (transactionActive={}, parallelism={}); importing sequentially",
+					TransactionSynchronizationManager.isActualTransactionActive(), importParallelism);
+			// Self-invocation bypasses the @Transactional proxy; join or open the transaction explicitly.
+			return sequentialTransactionTemplate.execute(
+					status -> importInCurrentTransaction(inputStream, options, project, status::setRollbackOnly));
 		}
-		final Cell first = row.getCell(firstCell);
-		if (first == null) {
-			return false;
+		Check.notNull(project.getId(), "Parallel import needs a saved project");
+		final Path spooled = CExcelStreamingReader.spool(inputStream);
+		try {
+			final File workbook = spooled.toFile();
+			final List<String> sheetNames = CExcelStreamingReader.listSheetNames(workbook);
+			final CImportDependencyGraph graph = CImportDependencyGraph.build(sheetNames, handlerRegistry);
+			final int threads = Math.max(1, Math.min(importParallelism, graph.getNodes().size()));
+			LOGGER.info("Parallel Excel import started (project={}, sheets={}, levels={}, threads={}, rollbackOnError={})", project.getName(),
+					graph.getNodes().size(), graph.getDepth(), threads, options.isRollbackOnError());
+			// WHY: workers have neither the Vaadin session lock nor the caller's thread-bound authentication; hand both over explicitly.
+			final CSessionContextSnapshot sessionContext = CSessionContextSnapshot.capture(sessionService);
+			final SecurityContext securityContext = SecurityContextHolder.getContext();
+			// WHY: entities belong to one persistence context; workers get the project id and load their own instance.
+			final Class<?> projectClass = Hibernate.getClass(project);
+			final AtomicInteger threadCounter = new AtomicInteger();
+			final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+				final Thread thread = new Thread(runnable, "derbent-import-" + threadCounter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+			final Map<Integer, CompletableFuture<CSheetOutcome>> futures = new HashMap<>();
+			try {
+				for (final CSheetNode node : graph.getNodes()) {
+					final List<CompletableFuture<CSheetOutcome>> dependencies =
+							node.dependencies().stream().map(futures::get).toList();
+					futures.put(node.sheetIndex(), CompletableFuture.allOf(dependencies.toArray(new CompletableFuture<?>[0]))
+							.thenApplyAsync(ignored -> importSheet(workbook, node, dependencies, options, projectClass, project.getId(),
+									sessionContext, securityContext), executor));
+				}
+				return collectParallelResult(sheetNames, futures, options);
+			} finally {
+				executor.shutdownNow();
+			}
+		} finally {
+			CExcelStreamingReader.deleteSpooled(spooled);
 		}
-		return getCellStringValue(first, evaluator).startsWith("#");
 	}
 
-	private CImportSheetResult processSheet(final Sheet sheet, final IEntityImportHandler<?> handler,
-			final CProject<?> project, final CImportOptions options, final FormulaEvaluator evaluator) {
-		final String entityTypeName = handler.getEntityClass().getSimpleName();
-		final CImportSheetResult sheetResult = new CImportSheetResult(sheet.getSheetName(), entityTypeName, true);
-		// Find header row (first non-comment row)
-		int headerRowIndex = -1;
-		for (int r = sheet.getFirstRowNum(); r <= sheet.getLastRowNum(); r++) {
-			final Row row = sheet.getRow(r);
-			if (row == null) {
+	private static CImportResult collectParallelResult(final List<String> sheetNames,
+			final Map<Integer, CompletableFuture<CSheetOutcome>> futures, final CImportOptions options) {
+		final CImportResult result = new CImportResult(false);
+		RuntimeException failure = null;
+		for (int index = 0; index < sheetNames.size(); index++) {
+			final CompletableFuture<CSheetOutcome> future = futures.get(index);
+			if (future == null) {
+				if (!options.isSkipUnknownSheets()) {
+					final CImportSheetResult unrecognized = new CImportSheetResult(sheetNames.get(index), null, false);
+					unrecognized.setHeaderErrorMessage("No import handler registered for sheet '" + sheetNames.get(index) + "'");
+					result.addSheetResult(unrecognized);
+				}
 				continue;
 			}
-			if (!isCommentRow(row, evaluator)) {
-				headerRowIndex = r;
-				break;
+			// Results are collected in workbook order, independent of completion order.
+			final CSheetOutcome outcome = future.join();
+			result.addSheetResult(outcome.sheetResult());
+			if (outcome.rolledBack()) {
+				result.setRolledBack(true);
+			}
+			if (failure == null && outcome.failure() != null) {
+				failure = outcome.failure();
 			}
 		}
-		if (headerRowIndex < 0) {
-			sheetResult.setHeaderErrorMessage("Sheet has no header row");
-			return sheetResult;
+		if (failure != null) {
+			throw failure;
 		}
-		// Build column index → canonical field token map
-		final Map<Integer, String> columnMapping = buildColumnMapping(sheet.getRow(headerRowIndex), handler, evaluator);
-		if (columnMapping.isEmpty()) {
-			sheetResult.setHeaderErrorMessage("No recognized columns found in header row");
-			return sheetResult;
+		return result;
+	}
+
+	/** Imports one sheet of a parallel import in its own transaction on a worker thread. Never completes exceptionally: failures are part of the
+	 * outcome so dependents can be skipped and results still collected in order. */
+	private CSheetOutcome importSheet(final File workbook, final CSheetNode node, final List<CompletableFuture<CSheetOutcome>> dependencies,
+			final CImportOptions options, final Class<?> projectClass, final Long projectId, final CSessionContextSnapshot sessionContext,
+			final SecurityContext securityContext) {
+		for (final CompletableFuture<CSheetOutcome> dependency : dependencies) {
+			final CSheetOutcome dependencyOutcome = dependency.join();
+			if (!dependencyOutcome.isCommitted()) {
+				final CImportSheetResult notImported =
+						new CImportSheetResult(node.sheetName(), node.handler().getEntityClass().getSimpleName(), true);
+				notImported.setHeaderErrorMessage("Not imported: depends on sheet '" + dependencyOutcome.sheetName() + "' which was not committed");
+				return new CSheetOutcome(node.sheetName(), notImported, dependencyOutcome.failure(), true);
+			}
 		}
-		LOGGER.debug("Sheet '{}' column mapping: {}", sheet.getSheetName(), columnMapping);
-		final int totalCandidateRows = Math.max(0, sheet.getLastRowNum() - headerRowIndex);
-		final boolean logRowProgress = totalCandidateRows > 500;
-		// Process data rows
-		for (int r = headerRowIndex + 1; r <= sheet.getLastRowNum(); r++) {
-			if (logRowProgress) {
-				final int processed = r - headerRowIndex;
-				if (processed % 200 == 0) {
-					LOGGER.info("Excel import: sheet '{}' progress {}/{}", sheet.getSheetName(), processed,
-							totalCandidateRows);
+		final CSessionContextSnapshot previousSession = CSessionContextSnapshot.current().orElse(null);
+		final SecurityContext previousSecurity = SecurityContextHolder.getContext();
+		SecurityContextHolder.setContext(securityContext);
+		// WHY: one cache per worker; ids it hands out are resolved in the worker's own persistence context.
+		final CImportLookupCache cache = new CImportLookupCache(entityManager);
+		final CImportLookupCache previousCache = CImportLookupCache.bind(cache);
+		final CImportResult sheetHolder = new CImportResult(false);
+		final boolean[] rolledBack = {
+				false
+		};
+		try {
+			chunkTransactionTemplate.executeWithoutResult(status -> {
+				final CProject<?> project = (CProject<?>) entityManager.find(projectClass, projectId);
+				Check.notNull(project, "Project " + projectId + " not found for parallel import");
+				final CUser user = sessionContext.user() != null ? entityManager.find(CUser.class, sessionContext.user().getId()) : null;
+				CSessionContextSnapshot.bind(new CSessionContextSnapshot(project.getCompany(), project, user));
+				final CWorkbookImportConsumer consumer = new CWorkbookImportConsumer(options, project, sheetHolder, null);
+				consumer.onlySheetIndex = node.sheetIndex();
+				CExcelStreamingReader.read(workbook, consumer);
+				if (options.isRollbackOnError() && sheetHolder.getTotalErrors() > 0) {
+					rolledBack[0] = true;
+					status.setRollbackOnly();
 				}
-			}
-			final Row row = sheet.getRow(r);
-			if (row == null) {
-				sheetResult.addRowResult(CImportRowResult.skipped(r + 1));
-				continue;
-			}
-			if (isCommentRow(row, evaluator)) {
-				sheetResult.addRowResult(CImportRowResult.skipped(r + 1));
-				continue;
-			}
-			if (isBlankRow(row, evaluator)) {
-				sheetResult.addRowResult(CImportRowResult.skipped(r + 1));
-				continue;
-			}
-			final Map<String, String> rowData = extractRowData(row, columnMapping, evaluator);
-			if (shouldSkipByCompanyOrProject(rowData, project, options)) {
-				sheetResult.addRowResult(CImportRowResult.skipped(r + 1));
-				continue;
-			}
-			// Validate required columns
-			final String missingCol = checkRequiredColumns(rowData, handler);
-			if (missingCol != null) {
-				sheetResult.addRowResult(
-						CImportRowResult.error(r + 1, "Required column missing or blank: " + missingCol, rowData));
-				continue;
-			}
-			final CImportRowResult rowResult;
-			try {
-				rowResult = handler.importRow(rowData, project, r + 1, options);
-			} catch (final Exception e) {
-				// FAIL-FAST: handler exceptions must abort the import so the database is never left half-initialized.
-				throw new IllegalStateException(
-						"Excel import failed at sheet='" + sheet.getSheetName() + "' row=" + (r + 1) + " (handler="
-								+ handler.getClass().getSimpleName() + ") - " + e.getMessage() + "; rowData=" + rowData,
-						e);
-			}
-			// WHY: Excel init is often used interactively; row-level logs make CI/Playwright failures diagnosable.
-			if (rowResult != null && rowResult.isError()) {
-				LOGGER.warn("Import row error (sheet={}, row={}): {}", sheet.getSheetName(), r + 1,
-						rowResult.getErrorMessage());
-			}
-			sheetResult.addRowResult(rowResult);
+			});
+			return new CSheetOutcome(node.sheetName(), sheetHolder.getSheetResults().get(0), null, rolledBack[0]);
+		} catch (final RuntimeException e) {
+			LOGGER.error("Parallel Excel import: sheet '{}' failed: {}", node.sheetName(), e.getMessage());
+			final CImportSheetResult failed = new CImportSheetResult(node.sheetName(), node.handler().getEntityClass().getSimpleName(), true);
+			failed.setHeaderErrorMessage(truncate(e.getMessage(), 2000));
+			return new CSheetOutcome(node.sheetName(), failed, e, true);
+		} finally {
+			CImportLookupCache.bind(previousCache);
+			cache.clear();
+			SecurityContextHolder.setContext(previousSecurity);
+			CSessionContextSnapshot.bind(previousSession);
 		}
-		LOGGER.info("Excel import: sheet '{}' done (ok={}, skipped={}, errors={})", sheet.getSheetName(),
-				sheetResult.getSuccessCount(), sheetResult.getSkippedCount(), sheetResult.getErrorCount());
-		return sheetResult;
 	}
 
-	private void processWorkbook(final InputStream inputStream, final CImportOptions options, final CProject<?> project,
-			final CImportResult result) {
-		try (final Workbook workbook = new XSSFWorkbook(inputStream)) {
-			final int totalSheets = workbook.getNumberOfSheets();
-			LOGGER.info("Excel import: workbook opened (sheets={}, project={})", totalSheets, project.getName());
-			final FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
-			for (int i = 0; i < totalSheets; i++) {
-				final Sheet sheet = workbook.getSheetAt(i);
-				final String sheetName = sheet.getSheetName();
-				final var handlerOpt = handlerRegistry.findHandler(sheetName);
-				if (handlerOpt.isEmpty()) {
-					if (!options.isSkipUnknownSheets()) {
-						final CImportSheetResult unrecognized = new CImportSheetResult(sheetName, null, false);
-						unrecognized
-								.setHeaderErrorMessage("No import handler registered for sheet '" + sheetName + "'");
-						result.addSheetResult(unrecognized);
-					}
-					continue;
-				}
-				final IEntityImportHandler<?> handler = handlerOpt.get();
-				LOGGER.info("Excel import: sheet {}/{} '{}' (handler={})", i + 1, totalSheets, sheetName,
-						handler.getClass().getSimpleName());
-				if (sheetName.equals("Page Entities")) {
-					LOGGER.info("zirt:" + sheetName);
-				}
-				final CImportSheetResult sheetResult = processSheet(sheet, handler, project, options, evaluator);
-				result.addSheetResult(sheetResult);
-				// WHY: later sheets commonly resolve relations by querying the database (Issue → Activity, ParentRelation → Ticket, etc.).
-				// Within a single transaction, Hibernate may not flush inserts before those queries, yielding false "not found" errors.
-				if (!options.isDryRun()) {
-					entityManager.flush();
-				}
-			}
+	/** Imports a single row; handler exceptions abort the import (or the current chunk) so the database is never left half-initialized. */
+	private static CImportRowResult importRow(final IEntityImportHandler<?> handler, final String sheetName, final int rowNumber,
+			final Map<String, String> rowData, final CProject<?> project, final CImportOptions options) {
+		final CImportRowResult rowResult;
+		try {
+			rowResult = handler.importRow(rowData, project, rowNumber, options);
+		} catch (final Exception e) {
+			// FAIL-FAST: handler exceptions must abort the import so the database is never left half-initialized.
+			throw new IllegalStateException("Excel import failed at sheet='" + sheetName + "' row=" + rowNumber + " (handler="
+					+ handler.getClass().getSimpleName() + ") - " + e.getMessage() + "; rowData=" + rowData, e);
+		}
+		// WHY: Excel init is often used interactively; row-level logs make CI/Playwright failures diagnosable.
+		if (rowResult != null && rowResult.isError()) {
+			LOGGER.warn("Import row error (sheet={}, row={}): {}", sheetName, rowNumber, rowResult.getErrorMessage());
+		}
+		return rowResult;
+	}
+
+	private void processWorkbook(final InputStream inputStream, final CWorkbookImportConsumer consumer) {
+		// WHY: handlers resolve the same statuses/types/users/projects on every row; one cache per import turns those into map hits.
+		final CImportLookupCache cache = new CImportLookupCache(entityManager);
+		final CImportLookupCache previous = CImportLookupCache.bind(cache);
+		try {
+			CExcelStreamingReader.read(inputStream, consumer);
+			LOGGER.debug("Excel import: lookup cache held {} entries", cache.size());
+		} catch (final IllegalStateException e) {
+			throw e;
 		} catch (final Exception e) {
 			throw new IllegalStateException("Excel import failed: " + e.getMessage(), e);
+		} finally {
+			CImportLookupCache.bind(previous);
+			cache.clear();
+		}
+	}
+
+	private static String truncate(final String value, final int maxLength) {
+		if (value == null || value.length() <= maxLength) {
+			return value;
 		}
+		return value.substring(0, maxLength);
+	}
+
+	private CDataImport updateJob(final CDataImport job, final Consumer<CDataImport> change) {
+		return chunkTransactionTemplate.execute(status -> {
+			change.accept(job);
+			return entityManager.merge(job);
+		});
 	}
 }
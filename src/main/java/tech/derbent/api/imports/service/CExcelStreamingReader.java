@@ -0,0 +1,253 @@
+package tech.derbent.api.imports.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+import tech.derbent.api.utils.Check;
+
+/** SAX-based (event model) reader for .xlsx workbooks.
+ * <p>
+ * WHY: {@code new XSSFWorkbook(inputStream)} materialises every sheet, row and cell as objects; a 50 MB bootstrap workbook needs several GB of heap.
+ * This reader walks each sheet's XML once and hands rows to the consumer as {@code columnIndex → value} maps, so memory is bounded by the shared
+ * strings table plus one row.
+ * </p>
+ * <p>
+ * Cell values follow the same rules as {@link CExcelImportService#getCellStringValue}: date-formatted numerics become ISO dates, whole numbers lose
+ * the ".0" suffix and formula cells use the cached result stored by Excel.
+ * </p>
+ */
+public final class CExcelStreamingReader {
+
+	/** Receives sheets and rows in workbook order. */
+	public interface ISheetRowConsumer {
+
+		/** Called once per sheet after all of its rows. */
+		void endSheet(int sheetIndex, String sheetName);
+
+		/** Called for every physical row of an accepted sheet.
+		 * @param rowIndex 0-based sheet row index (gaps are possible for rows Excel did not store)
+		 * @param cells    0-based column index → cell text; blank cells are omitted */
+		void row(int rowIndex, Map<Integer, String> cells);
+
+		/** Called before a sheet is parsed. Return false to skip the sheet without parsing its XML. */
+		boolean startSheet(int sheetIndex, String sheetName);
+	}
+
+	/** SAX handler for one worksheet part (sheetN.xml). */
+	private static final class CSheetHandler extends DefaultHandler {
+
+		private String cellStyle;
+		private int cellColumn;
+		private String cellType;
+		private final ISheetRowConsumer consumer;
+		private int lastColumn = -1;
+		private int nextRowIndex;
+		private Map<Integer, String> rowCells;
+		private int rowIndex;
+		private final ReadOnlySharedStringsTable sharedStrings;
+		private final StylesTable styles;
+		private final StringBuilder text = new StringBuilder(64);
+		private boolean valueOpen;
+
+		CSheetHandler(final ReadOnlySharedStringsTable sharedStrings, final StylesTable styles,
+				final ISheetRowConsumer consumer) {
+			this.sharedStrings = sharedStrings;
+			this.styles = styles;
+			this.consumer = consumer;
+		}
+
+		@Override
+		public void characters(final char[] ch, final int start, final int length) {
+			if (valueOpen) {
+				text.append(ch, start, length);
+			}
+		}
+
+		@Override
+		public void endElement(final String uri, final String localName, final String qName) {
+			switch (localName) {
+			case "v", "t" -> valueOpen = false;
+			case "c" -> {
+				final String value = resolveCellValue(text.toString());
+				if (!value.isBlank()) {
+					rowCells.put(cellColumn, value.trim());
+				}
+			}
+			case "row" -> {
+				consumer.row(rowIndex, rowCells);
+				rowCells = null;
+			}
+			default -> { /* ignore */ }
+			}
+		}
+
+		private String formatNumeric(final String raw) {
+			final double d;
+			try {
+				d = Double.parseDouble(raw);
+			} catch (final NumberFormatException e) {
+				return raw;
+			}
+			if (cellStyle != null && !cellStyle.isBlank() && styles != null) {
+				final XSSFCellStyle style = styles.getStyleAt(Integer.parseInt(cellStyle));
+				if (style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString())
+						&& DateUtil.isValidExcelDate(d)) {
+					return DateUtil.getLocalDateTime(d).toLocalDate().toString();
+				}
+			}
+			// Avoid ".0" suffix for whole numbers
+			return d == Math.floor(d) && !Double.isInfinite(d) ? String.valueOf((long) d) : String.valueOf(d);
+		}
+
+		private String resolveCellValue(final String raw) {
+			if (cellType == null) {
+				return raw.isEmpty() ? "" : formatNumeric(raw);
+			}
+			return switch (cellType) {
+			case "s" -> raw.isEmpty() ? "" : sharedStrings.getItemAt(Integer.parseInt(raw)).getString();
+			case "inlineStr", "str" -> raw;
+			case "b" -> "1".equals(raw) ? "true" : "false";
+			case "e" -> "";
+			case "n" -> raw.isEmpty() ? "" : formatNumeric(raw);
+			default -> raw;
+			};
+		}
+
+		@Override
+		public void startElement(final String uri, final String localName, final String qName,
+				final Attributes attributes) {
+			switch (localName) {
+			case "row" -> {
+				final String r = attributes.getValue("r");
+				rowIndex = r != null ? Integer.parseInt(r) - 1 : nextRowIndex;
+				nextRowIndex = rowIndex + 1;
+				rowCells = new LinkedHashMap<>();
+				lastColumn = -1;
+			}
+			case "c" -> {
+				final String ref = attributes.getValue("r");
+				cellColumn = ref != null ? new CellReference(ref).getCol() : lastColumn + 1;
+				lastColumn = cellColumn;
+				cellType = attributes.getValue("t");
+				cellStyle = attributes.getValue("s");
+				text.setLength(0);
+			}
+			case "v" -> valueOpen = true;
+			// Inline strings are stored as <is><t>..</t></is>; rich text runs append into the same buffer.
+			case "t" -> valueOpen = "inlineStr".equals(cellType);
+			default -> { /* ignore */ }
+			}
+		}
+	}
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CExcelStreamingReader.class);
+
+	/** Lists sheet names in workbook order without parsing any sheet. Used to plan a parallel import before the sheets are read. */
+	public static List<String> listSheetNames(final File workbookFile) {
+		Check.notNull(workbookFile, "Workbook file cannot be null");
+		try (final OPCPackage pkg = OPCPackage.open(workbookFile, PackageAccess.READ)) {
+			final XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) new XSSFReader(pkg).getSheetsData();
+			final List<String> names = new ArrayList<>();
+			while (sheets.hasNext()) {
+				try (final InputStream ignored = sheets.next()) {
+					names.add(sheets.getSheetName());
+				}
+			}
+			return names;
+		} catch (final Exception e) {
+			throw new IllegalStateException("Failed to list workbook sheets: " + e.getMessage(), e);
+		}
+	}
+
+	/** Opens an already spooled workbook file and streams its sheets. The file is opened read-only; nothing is buffered in memory. */
+	public static void read(final File workbookFile, final ISheetRowConsumer consumer) {
+		Check.notNull(workbookFile, "Workbook file cannot be null");
+		Check.notNull(consumer, "Sheet row consumer cannot be null");
+		try (final OPCPackage pkg = OPCPackage.open(workbookFile, PackageAccess.READ)) {
+			final XSSFReader xssfReader = new XSSFReader(pkg);
+			final ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+			final StylesTable styles = xssfReader.getStylesTable();
+			final XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+			int sheetIndex = 0;
+			while (sheets.hasNext()) {
+				try (final InputStream sheetStream = sheets.next()) {
+					final String sheetName = sheets.getSheetName();
+					if (consumer.startSheet(sheetIndex, sheetName)) {
+						final XMLReader parser = XMLHelper.newXMLReader();
+						parser.setContentHandler(new CSheetHandler(sharedStrings, styles, consumer));
+						parser.parse(new InputSource(sheetStream));
+						consumer.endSheet(sheetIndex, sheetName);
+					}
+				}
+				sheetIndex++;
+			}
+		} catch (final RuntimeException e) {
+			// Consumer failures (e.g. fail-fast handler errors) must reach the caller unchanged.
+			throw e;
+		} catch (final Exception e) {
+			throw new IllegalStateException("Failed to read workbook: " + e.getMessage(), e);
+		}
+	}
+
+	/** Copies the stream to a temp file that the caller must delete. Parallel imports spool once and let every sheet worker open the file. */
+	public static Path spool(final InputStream inputStream) {
+		Check.notNull(inputStream, "Input stream cannot be null");
+		try {
+			final Path spooled = Files.createTempFile("derbent-import-", ".xlsx");
+			Files.copy(inputStream, spooled, StandardCopyOption.REPLACE_EXISTING);
+			return spooled;
+		} catch (final IOException e) {
+			throw new IllegalStateException("Failed to spool workbook: " + e.getMessage(), e);
+		}
+	}
+
+	/** Deletes a spooled workbook; failures are only logged. */
+	public static void deleteSpooled(final Path spooled) {
+		if (spooled == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(spooled);
+		} catch (final IOException e) {
+			LOGGER.warn("Could not delete spooled workbook {} reason={}", spooled, e.getMessage());
+		}
+	}
+
+	/** Spools the stream to a temp file and streams its sheets.
+	 * <p>
+	 * WHY: {@code OPCPackage.open(InputStream)} inflates every zip entry into memory; opening from a file lets POI read sheet parts lazily.
+	 * </p>
+	 */
+	public static void read(final InputStream inputStream, final ISheetRowConsumer consumer) {
+		final Path spooled = spool(inputStream);
+		try {
+			read(spooled.toFile(), consumer);
+		} finally {
+			deleteSpooled(spooled);
+		}
+	}
+
+	private CExcelStreamingReader() { /* utility class */ }
+}
@@ -0,0 +1,146 @@
+package tech.derbent.api.imports.service;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import tech.derbent.api.utils.Check;
+
+/** Orders the sheets of one workbook for parallel import.
+ * <p>
+ * A sheet "writes" its handler's entity class plus the classes it resolves and saves by name ({@link IEntityImportHandler#getReferencedEntityClasses()});
+ * it "reads" every association target of its entity class. A sheet depends on each <b>earlier</b> sheet whose written classes overlap (by
+ * assignability) anything it reads or writes. Sheets without such an overlap are independent and may run concurrently.
+ * </p>
+ * <p>
+ * Handlers that resolve further entities by name are invisible to this analysis, so only sheets whose handler declares its references
+ * complete ({@link IEntityImportHandler#isReferenceDeclarationComplete()}) take part in it; any other sheet is ordered after every earlier sheet
+ * and before every later one.
+ * </p>
+ * <p>
+ * RULE: edges only point backwards in workbook order, so the graph is acyclic and a workbook that imports correctly sequentially imports the same
+ * rows in parallel. Forward references (a sheet referencing a later sheet) were already errors in the sequential import and stay errors.
+ * </p>
+ */
+public final class CImportDependencyGraph {
+
+	/** One recognised sheet. {@code dependencies} holds the workbook indexes of sheets that must commit first. */
+	public record CSheetNode(int sheetIndex, String sheetName, IEntityImportHandler<?> handler, Set<Integer> dependencies) {}
+
+	private static final Map<Class<?>, Set<Class<?>>> ASSOCIATION_TARGETS = new ConcurrentHashMap<>();
+
+	/** Association targets declared on the entity class and its mapped superclasses; cached per class. Generic fields contribute their erasure. */
+	static Set<Class<?>> associationTargets(final Class<?> entityClass) {
+		return ASSOCIATION_TARGETS.computeIfAbsent(entityClass, type -> {
+			final Set<Class<?>> targets = new LinkedHashSet<>();
+			for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+				for (final Field field : current.getDeclaredFields()) {
+					if (field.isAnnotationPresent(ManyToOne.class) || field.isAnnotationPresent(OneToOne.class)) {
+						targets.add(field.getType());
+					} else if (field.isAnnotationPresent(ManyToMany.class) || field.isAnnotationPresent(OneToMany.class)) {
+						final Class<?> element = collectionElementType(field);
+						if (element != null) {
+							targets.add(element);
+						}
+					}
+				}
+			}
+			return Collections.unmodifiableSet(targets);
+		});
+	}
+
+	/** Builds the graph for the given sheet names (workbook order); sheets without a handler are left out. */
+	public static CImportDependencyGraph build(final List<String> sheetNames, final CImportHandlerRegistry registry) {
+		Check.notNull(sheetNames, "Sheet names cannot be null");
+		Check.notNull(registry, "Handler registry cannot be null");
+		final List<CSheetNode> nodes = new ArrayList<>();
+		final List<Set<Class<?>>> writes = new ArrayList<>();
+		final List<Set<Class<?>>> touches = new ArrayList<>();
+		final List<Boolean> barriers = new ArrayList<>();
+		for (int index = 0; index < sheetNames.size(); index++) {
+			final String sheetName = sheetNames.get(index);
+			final IEntityImportHandler<?> handler = registry.findHandler(sheetName).orElse(null);
+			if (handler == null) {
+				continue;
+			}
+			final Set<Class<?>> written = new LinkedHashSet<>();
+			written.add(handler.getEntityClass());
+			written.addAll(handler.getReferencedEntityClasses());
+			final Set<Class<?>> touched = new LinkedHashSet<>(written);
+			touched.addAll(associationTargets(handler.getEntityClass()));
+			final boolean barrier = !handler.isReferenceDeclarationComplete();
+			final Set<Integer> dependencies = new LinkedHashSet<>();
+			for (int earlier = 0; earlier < nodes.size(); earlier++) {
+				if (barrier || barriers.get(earlier) || overlaps(touched, writes.get(earlier)) || overlaps(written, touches.get(earlier))) {
+					dependencies.add(nodes.get(earlier).sheetIndex());
+				}
+			}
+			nodes.add(new CSheetNode(index, sheetName, handler, Collections.unmodifiableSet(dependencies)));
+			writes.add(written);
+			touches.add(touched);
+			barriers.add(barrier);
+		}
+		return new CImportDependencyGraph(nodes);
+	}
+
+	private static Class<?> collectionElementType(final Field field) {
+		final Type generic = field.getGenericType();
+		if (generic instanceof final ParameterizedType parameterized && Collection.class.isAssignableFrom(field.getType())) {
+			final Type argument = parameterized.getActualTypeArguments()[0];
+			if (argument instanceof final Class<?> elementClass) {
+				return elementClass;
+			}
+			if (argument instanceof final ParameterizedType parameterizedArgument && parameterizedArgument.getRawType() instanceof final Class<?> raw) {
+				return raw;
+			}
+		}
+		return null;
+	}
+
+	private static boolean overlaps(final Set<Class<?>> left, final Set<Class<?>> right) {
+		for (final Class<?> a : left) {
+			for (final Class<?> b : right) {
+				if (a.isAssignableFrom(b) || b.isAssignableFrom(a)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private final List<CSheetNode> nodes;
+
+	private CImportDependencyGraph(final List<CSheetNode> nodes) {
+		this.nodes = List.copyOf(nodes);
+	}
+
+	/** Recognised sheets in workbook order; every node's dependencies appear before it. */
+	public List<CSheetNode> getNodes() { return nodes; }
+
+	/** Number of dependency levels; equals the sheet count for a fully sequential workbook. Logged to show how much parallelism a workbook allows. */
+	public int getDepth() {
+		final Map<Integer, Integer> levels = new HashMap<>();
+		int depth = 0;
+		for (final CSheetNode node : nodes) {
+			int level = 1;
+			for (final Integer dependency : node.dependencies()) {
+				level = Math.max(level, levels.getOrDefault(dependency, 0) + 1);
+			}
+			levels.put(node.sheetIndex(), level);
+			depth = Math.max(depth, level);
+		}
+		return depth;
+	}
+}
@@ -1,26 +1,118 @@
 package tech.derbent.api.imports.service;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.hibernate.Hibernate;
+import jakarta.persistence.EntityManager;
 import tech.derbent.api.companies.domain.CCompany;
+import tech.derbent.api.entity.domain.CEntityDB;
 import tech.derbent.api.projects.domain.CProject;
+import tech.derbent.api.users.domain.CUser;
 
 /**
  * In-memory lookup cache for import operations.
  * <p>
  * WHY: During large Excel imports, repeatedly querying the database for the same
- * companies/projects is wasteful. This cache stores lookups for the duration of one import
- * transaction, dramatically improving performance for multi-sheet workbooks.
+ * companies/projects/types/statuses/users is wasteful. Every row of a project item sheet resolves its status, type, assigned user and often its
+ * project by name; this cache stores those lookups for the duration of one import, dramatically improving performance for multi-sheet workbooks.
  * </p>
  * <p>
- * LIFECYCLE: Create one instance per import transaction; discard after commit/rollback.
+ * LIFECYCLE: {@link CExcelImportService} creates one instance per import and binds it to the importing thread with {@link #bind(CImportLookupCache)};
+ * handlers reach it through the static {@code lookup*} helpers, which fall back to a direct query when no import is running. Discard after the
+ * import completes.
+ * </p>
+ * <p>
+ * RULE: the cache keeps ids, not entities. Chunked and parallel imports commit in separate transactions, so an entity loaded by an earlier chunk
+ * is detached by the time a later row references it; every hit is therefore resolved with {@link EntityManager#find} in the caller's persistence
+ * context, which costs at most one primary-key select per entity and chunk.
+ * </p>
+ * <p>
+ * RULE: only hits are cached. A missing company, project, type, status or user may be created by a later sheet of the same workbook, so caching
+ * the miss would turn a valid reference into a false "not found".
  * </p>
  */
 public class CImportLookupCache {
 
-	private final Map<String, CCompany> companiesByName = new HashMap<>();
-	private final Map<CompanyProjectKey, CProject<?>> projectsByNameAndCompany = new HashMap<>();
+	private record CompanyNameKey(Class<?> entityClass, Long companyId, String nameLower) {}
+
+	private record CompanyProjectKey(Long companyId, String projectNameLower) {}
+
+	private record RCachedId(Class<?> entityClass, Long id) {}
+
+	private static final ThreadLocal<CImportLookupCache> CURRENT = new ThreadLocal<>();
+
+	/** Binds the cache to the current thread; returns the previously bound cache so nested imports can restore it. */
+	public static CImportLookupCache bind(final CImportLookupCache cache) {
+		final CImportLookupCache previous = CURRENT.get();
+		if (cache == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(cache);
+		}
+		return previous;
+	}
+
+	public static Optional<CImportLookupCache> current() {
+		return Optional.ofNullable(CURRENT.get());
+	}
+
+	/** Resolves a company-scoped named entity (type, status, ...) through the bound cache, or directly via the loader when no import is running. */
+	public static <T> Optional<T> lookupByName(final Class<T> entityClass, final String name, final CCompany company,
+			final Supplier<Optional<T>> loader) {
+		final CImportLookupCache cache = CURRENT.get();
+		return cache != null ? cache.getByName(entityClass, name, company, loader) : loader.get();
+	}
+
+	/** Resolves a company user by login through the bound cache, or directly via the loader when no import is running. */
+	public static Optional<CUser> lookupUser(final String login, final CCompany company, final Supplier<Optional<CUser>> loader) {
+		return lookupByName(CUser.class, login, company, loader);
+	}
+
+	private final Map<String, RCachedId> companiesByName = new ConcurrentHashMap<>();
+	private final EntityManager entityManager;
+	private final Map<CompanyNameKey, RCachedId> namedByCompany = new ConcurrentHashMap<>();
+	private final Map<CompanyProjectKey, RCachedId> projectsByNameAndCompany = new ConcurrentHashMap<>();
+
+	public CImportLookupCache(final EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+
+	/** Remembers the id of a loaded entity; values without an id are not cached. */
+	private static RCachedId cachedIdOf(final Object value) {
+		if (value instanceof final CEntityDB<?> entity && entity.getId() != null) {
+			return new RCachedId(Hibernate.getClass(entity), entity.getId());
+		}
+		return null;
+	}
+
+	/**
+	 * Clears all cached data. Called after import completion.
+	 */
+	public void clear() {
+		companiesByName.clear();
+		projectsByNameAndCompany.clear();
+		namedByCompany.clear();
+	}
+
+	/** Entity of a cached id, managed by the caller's persistence context; empty when it was deleted meanwhile. */
+	private <T> Optional<T> find(final RCachedId cached, final Class<T> expectedClass) {
+		final Object entity = entityManager.find(cached.entityClass(), cached.id());
+		return expectedClass.isInstance(entity) ? Optional.of(expectedClass.cast(entity)) : Optional.empty();
+	}
+
+	/**
+	 * Gets or loads a company-scoped entity by name. Only hits are cached.
+	 */
+	public <T> Optional<T> getByName(final Class<T> entityClass, final String name, final CCompany company,
+			final Supplier<Optional<T>> loader) {
+		if (name == null || name.isBlank() || company == null || company.getId() == null) {
+			return loader.get();
+		}
+		final CompanyNameKey key = new CompanyNameKey(entityClass, company.getId(), name.toLowerCase().trim());
+		return resolve(namedByCompany, key, entityClass, loader);
+	}
 
 	/**
 	 * Gets or loads a company by name.
@@ -29,39 +121,43 @@ public class CImportLookupCache {
 		if (name == null || name.isBlank()) {
 			return Optional.empty();
 		}
-		final String key = name.toLowerCase().trim();
-		if (companiesByName.containsKey(key)) {
-			return Optional.ofNullable(companiesByName.get(key));
-		}
-		final Optional<CCompany> result = resolver.findCompanyByName(name);
-		companiesByName.put(key, result.orElse(null));
-		return result;
+		return resolve(companiesByName, name.toLowerCase().trim(), CCompany.class, () -> resolver.findCompanyByName(name));
 	}
 
 	/**
 	 * Gets or loads a project by name and company.
 	 */
+	@SuppressWarnings ({
+			"rawtypes", "unchecked"
+	})
 	public Optional<CProject<?>> getProject(final String projectName, final CCompany company,
 			final CImportProjectResolver resolver) {
 		if (projectName == null || projectName.isBlank() || company == null) {
 			return Optional.empty();
 		}
 		final CompanyProjectKey key = new CompanyProjectKey(company.getId(), projectName.toLowerCase().trim());
-		if (projectsByNameAndCompany.containsKey(key)) {
-			return Optional.ofNullable(projectsByNameAndCompany.get(key));
+		final Optional<CProject> project =
+				resolve(projectsByNameAndCompany, key, CProject.class, () -> (Optional) resolver.findProjectByNameAndCompany(projectName, company));
+		return (Optional) project;
+	}
+
+	private <K, T> Optional<T> resolve(final Map<K, RCachedId> cache, final K key, final Class<T> entityClass,
+			final Supplier<Optional<T>> loader) {
+		final RCachedId cached = cache.get(key);
+		if (cached != null) {
+			final Optional<T> found = find(cached, entityClass);
+			if (found.isPresent()) {
+				return found;
+			}
+			cache.remove(key);
 		}
-		final Optional<CProject<?>> result = resolver.findProjectByNameAndCompany(projectName, company);
-		projectsByNameAndCompany.put(key, result.orElse(null));
+		final Optional<T> result = loader.get();
+		result.map(CImportLookupCache::cachedIdOf).ifPresent(id -> cache.put(key, id));
 		return result;
 	}
 
-	/**
-	 * Clears all cached data. Called after import completion.
-	 */
-	public void clear() {
-		companiesByName.clear();
-		projectsByNameAndCompany.clear();
+	/** Number of cached entries; logged at the end of an import to show cache effectiveness. */
+	public int size() {
+		return companiesByName.size() + projectsByNameAndCompany.size() + namedByCompany.size();
 	}
-
-	private record CompanyProjectKey(Long companyId, String projectNameLower) {}
 }
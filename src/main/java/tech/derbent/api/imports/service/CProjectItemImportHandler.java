@@ -8,6 +8,7 @@ import tech.derbent.api.domains.CTypeEntity;
 import tech.derbent.api.entityOfCompany.domain.CProjectItemStatus;
 import tech.derbent.api.entityOfCompany.service.CProjectItemStatusService;
 import tech.derbent.api.entityOfProject.domain.CProjectItem;
+import tech.derbent.api.exceptions.CImportException;
 import tech.derbent.api.exceptions.CValidationException;
 import tech.derbent.api.imports.domain.CImportOptions;
 import tech.derbent.api.imports.domain.CImportRowResult;
@@ -79,20 +80,13 @@ public abstract class CProjectItemImportHandler<T extends CProjectItem<T, TType>
 		}
 		final String statusName = row.string("status");
 		if (!statusName.isBlank()) {
-			final CProjectItemStatus status = statusService.findByNameAndCompany(statusName, company)
-					.orElseThrow(() -> new tech.derbent.api.exceptions.CImportException(rowNumber,
-							"Status '" + statusName + "' not found. Create it before importing."));
-			entity.setStatus(status);
+			entity.setStatus(resolveStatus(statusName, company, rowNumber));
 		}
 		final String typeName = row.string("entitytype");
 		if (!typeName.isBlank()) {
-			final TType type = findTypeByNameAndCompany(typeName, company)
-					.orElseThrow(() -> new tech.derbent.api.exceptions.CImportException(rowNumber,
-							getTypeClass().getSimpleName().replaceFirst("^C", "").replace("Type", " Type") + " '" + typeName
-									+ "' not found. Create it before importing."));
-			entity.setEntityType(type);
+			entity.setEntityType(resolveType(typeName, company, rowNumber));
 		} else if (isTypeRequired()) {
-			throw new tech.derbent.api.exceptions.CImportException(rowNumber,
+			throw new CImportException(rowNumber,
 					getTypeClass().getSimpleName().replaceFirst("^C", "").replace("Type", " Type") + " is required");
 		}
 		applyExtraFields(entity, row, effectiveProject, rowNumber, rowData);
@@ -112,17 +106,10 @@ public abstract class CProjectItemImportHandler<T extends CProjectItem<T, TType>
 							return retryProjectFieldsError.get();
 						}
 						if (!statusName.isBlank()) {
-							final CProjectItemStatus status = statusService.findByNameAndCompany(statusName, company)
-									.orElseThrow(() -> new tech.derbent.api.exceptions.CImportException(rowNumber,
-											"Status '" + statusName + "' not found. Create it before importing."));
-							existing.setStatus(status);
+							existing.setStatus(resolveStatus(statusName, company, rowNumber));
 						}
 						if (!typeName.isBlank()) {
-							final TType type = findTypeByNameAndCompany(typeName, company)
-									.orElseThrow(() -> new tech.derbent.api.exceptions.CImportException(rowNumber,
-											getTypeClass().getSimpleName().replaceFirst("^C", "").replace("Type", " Type")
-													+ " '" + typeName + "' not found. Create it before importing."));
-							existing.setEntityType(type);
+							existing.setEntityType(resolveType(typeName, company, rowNumber));
 						}
 						applyExtraFields(existing, row, effectiveProject, rowNumber, rowData);
 						save(existing);
@@ -139,6 +126,24 @@ public abstract class CProjectItemImportHandler<T extends CProjectItem<T, TType>
 
 	protected boolean isTypeRequired() { return false; }
 
+	/** Resolves a status by name through the import lookup cache; every row of a sheet usually names one of a handful of statuses. */
+	private CProjectItemStatus resolveStatus(final String statusName, final CCompany company, final int rowNumber) {
+		return CImportLookupCache
+				.lookupByName(CProjectItemStatus.class, statusName, company,
+						() -> statusService.findByNameAndCompany(statusName, company))
+				.orElseThrow(() -> new CImportException(rowNumber,
+						"Status '" + statusName + "' not found. Create it before importing."));
+	}
+
+	/** Resolves the entity type by name through the import lookup cache. */
+	private TType resolveType(final String typeName, final CCompany company, final int rowNumber) {
+		return CImportLookupCache
+				.lookupByName(getTypeClass(), typeName, company, () -> findTypeByNameAndCompany(typeName, company))
+				.orElseThrow(() -> new CImportException(rowNumber,
+						getTypeClass().getSimpleName().replaceFirst("^C", "").replace("Type", " Type") + " '" + typeName
+								+ "' not found. Create it before importing."));
+	}
+
 	/** Hook for subclasses to resolve the effective project from row data. Default: return sessionProject unchanged. Override in handlers that read a
 	 * "project" column. */
 	protected abstract void save(T entity);
@@ -1,6 +1,7 @@
 package tech.derbent.api.imports.service;
 
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import tech.derbent.api.entityOfProject.domain.CProjectItem;
@@ -34,6 +35,10 @@ import tech.derbent.plm.tickets.ticket.service.CTicketService;
 @Profile({"derbent", "default"})
 public class CProjectItemReferenceResolver {
 
+	/** Entity types reachable through {@link #findByTypeAndName}; handlers using this resolver declare them as import dependencies. */
+	private static final Set<Class<?>> RESOLVABLE_ENTITY_CLASSES = Set.of(CActivity.class, CIssue.class, CMeeting.class, CDecision.class,
+			CEpic.class, CFeature.class, CUserStory.class, CTicket.class, CSprint.class);
+
 	private final CActivityService activityService;
 	private final CIssueService issueService;
 	private final CMeetingService meetingService;
@@ -80,6 +85,8 @@ public class CProjectItemReferenceResolver {
 		};
 	}
 
+	public Set<Class<?>> getResolvableEntityClasses() { return RESOLVABLE_ENTITY_CLASSES; }
+
 	public void save(final CProjectItem<?, ?> item) {
 		if (item == null) {
 			return;
@@ -108,7 +108,9 @@ public class CSystemInitExcelBootstrapService {
 	 * <li>Import screen configurations (optional)</li>
 	 * </ol>
 	 * WHY: Types are company-scoped and shared; importing them once improves performance
-	 * and avoids duplicate lookups across projects.
+	 * and avoids duplicate lookups across projects. Types and data workbooks go through {@link CExcelImportService#importExcelParallel}, so
+	 * independent sheets import concurrently. RULE: the parallel import commits per sheet; a failing sheet still aborts the reset, but the
+	 * sheets committed before it stay, so a failed reset is run again, which clears the database first.
 	 * </p>
 	 */
 	public CBootstrapSummary bootstrapAfterReset(final boolean minimal) throws Exception {
@@ -145,7 +147,7 @@ public class CSystemInitExcelBootstrapService {
 			Check.notEmpty(projects, "No projects for company: " + company.getName());
 			sessionService.setActiveProject(projects.get(0)); // Use first project for company-scoped imports
 			final CImportResult typesResult =
-					excelImportService.importExcel(new ByteArrayInputStream(typesWorkbookBytes), options,
+					excelImportService.importExcelParallel(new ByteArrayInputStream(typesWorkbookBytes), options,
 							projects.get(0));
 			if (typesResult.getTotalErrors() > 0) {
 				throw new IllegalStateException("Types Excel init failed for company " + company.getName() + " (errors="
@@ -162,7 +164,7 @@ public class CSystemInitExcelBootstrapService {
 				projectsProcessed++;
 				sessionService.setActiveProject(project);
 				final CImportResult result =
-						excelImportService.importExcel(new ByteArrayInputStream(dataWorkbookBytes), options, project);
+						excelImportService.importExcelParallel(new ByteArrayInputStream(dataWorkbookBytes), options, project);
 				if (result.getTotalErrors() > 0) {
 					throw new IllegalStateException("Data Excel init failed for project " + project.getName()
 							+ " (errors=" + result.getTotalErrors() + ")");
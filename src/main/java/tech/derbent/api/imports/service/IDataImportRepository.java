@@ -1,6 +1,7 @@
 package tech.derbent.api.imports.service;
 
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import tech.derbent.api.companies.domain.CCompany;
@@ -16,4 +17,13 @@ public interface IDataImportRepository extends IEntityOfCompanyRepository<CDataI
             ORDER BY d.importedAt DESC
             """)
     List<CDataImport> findByCompanyOrderByImportedAtDesc(@Param ("company") CCompany company);
+
+    @Query ("""
+            SELECT d FROM CDataImport d
+            WHERE d.company = :company AND d.contentSha256 = :contentSha256 AND d.completed = false
+            ORDER BY d.importedAt DESC
+            LIMIT 1
+            """)
+    Optional<CDataImport> findLatestIncompleteByCompanyAndContentSha256(@Param ("company") CCompany company,
+            @Param ("contentSha256") String contentSha256);
 }
@@ -40,6 +40,26 @@ public interface IEntityImportHandler<T> {
     /** Field tokens that must be present (non-blank) in a data row. */
     Set<String> getRequiredColumns();
 
+    /**
+     * Entity types this handler looks up (or saves) by name outside its entity's JPA associations,
+     * e.g. "Owner Type / Owner Name" columns resolved through {@link CProjectItemReferenceResolver}.
+     * The parallel import orders such sheets after every earlier sheet of those types.
+     * Association targets of {@link #getEntityClass()} are discovered automatically and need not be listed.
+     */
+    default Set<Class<?>> getReferencedEntityClasses() {
+        return Set.of();
+    }
+
+    /**
+     * True when every entity this handler looks up or saves by name is an association target of {@link #getEntityClass()}
+     * or listed in {@link #getReferencedEntityClasses()}.
+     * RULE: leave false unless the lookups were checked. The parallel import treats an undeclared sheet as a barrier:
+     * it waits for every earlier sheet and every later sheet waits for it, exactly as in the sequential import.
+     */
+    default boolean isReferenceDeclarationComplete() {
+        return false;
+    }
+
     /**
      * Process one data row.
      *
@@ -1,5 +1,6 @@
 package tech.derbent.api.imports.view;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import org.slf4j.Logger;
@@ -21,7 +22,6 @@ import com.vaadin.flow.component.notification.NotificationVariant;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.upload.Upload;
-import com.vaadin.flow.component.upload.receivers.MemoryBuffer;
 import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
@@ -30,6 +30,7 @@ import com.vaadin.flow.theme.lumo.LumoUtility;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.security.PermitAll;
 import tech.derbent.api.entity.view.CAbstractPage;
+import tech.derbent.api.imports.domain.CDataImport;
 import tech.derbent.api.imports.domain.CImportOptions;
 import tech.derbent.api.imports.domain.CImportResult;
 import tech.derbent.api.imports.domain.CImportRowResult;
@@ -41,6 +42,8 @@ import tech.derbent.api.imports.service.CImportHandlerRegistry;
 import tech.derbent.api.menu.MyMenu;
 import tech.derbent.api.projects.domain.CProject;
 import tech.derbent.api.session.service.ISessionService;
+import tech.derbent.api.upload.CSpooledFile;
+import tech.derbent.api.upload.CSpooledUploadReceiver;
 import tech.derbent.api.users.domain.CUser;
 
 /** CViewImport - Single-page Excel import view. Lets users upload a multi-sheet Excel file and import entities project-wide. Layer: View (MVC) */
@@ -53,6 +56,7 @@ public final class CViewImport extends CAbstractPage {
 	public static final String DEFAULT_COLOR = "#1565C0";
 	public static final String DEFAULT_ICON = "vaadin:upload-alt";
 	private static final Logger LOGGER = LoggerFactory.getLogger(CViewImport.class);
+	private static final long MAX_UPLOAD_FILE_SIZE = 50L * 1024 * 1024; // 50 MB
 	private static final long serialVersionUID = 1L;
 	public static final String VIEW_NAME = "Import Data";
 	private final CDataImportService dataImportService;
@@ -71,7 +75,8 @@ public final class CViewImport extends CAbstractPage {
 	private Span supportedTypesSpan;
 	private String uploadedFileName;
 	// Upload state
-	private InputStream uploadedStream;
+	private CSpooledFile uploadedFile;
+	private CSpooledUploadReceiver uploadReceiver;
 
 	public CViewImport(final CExcelImportService importService, final CDataImportService dataImportService,
 			final CImportHandlerRegistry handlerRegistry, final ISessionService sessionService,
@@ -227,19 +232,24 @@ public final class CViewImport extends CAbstractPage {
 		section.addClassNames("import-upload-section", LumoUtility.Padding.MEDIUM, LumoUtility.BorderRadius.MEDIUM);
 		section.getStyle().set("border", "2px dashed var(--lumo-contrast-20pct)");
 		section.getStyle().set("background", "var(--lumo-contrast-5pct)");
-		final MemoryBuffer buffer = new MemoryBuffer();
-		final Upload upload = new Upload(buffer);
+		uploadReceiver = new CSpooledUploadReceiver(MAX_UPLOAD_FILE_SIZE);
+		final Upload upload = new Upload(uploadReceiver);
 		upload.setAcceptedFileTypes("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", ".xlsx");
-		upload.setMaxFileSize(50 * 1024 * 1024); // 50 MB
+		upload.setMaxFileSize((int) MAX_UPLOAD_FILE_SIZE);
 		upload.setDropLabel(new Span("Drop .xlsx file here or click to browse"));
 		upload.setUploadButton(new Button("Choose Excel File", VaadinIcon.UPLOAD.create()));
 		upload.addSucceededListener(event -> {
-			uploadedStream = buffer.getInputStream();
+			uploadedFile = uploadReceiver.getFile();
 			uploadedFileName = event.getFileName();
 			importButton.setEnabled(true);
 			showInfo("File '" + uploadedFileName + "' ready. Configure options and click Import.");
 		});
-		upload.addFailedListener(event -> showError("Upload failed: " + event.getReason().getMessage()));
+		upload.addFailedListener(event -> {
+			uploadReceiver.clear();
+			uploadedFile = null;
+			showError("Upload failed: " + event.getReason().getMessage());
+		});
+		upload.addDetachListener(event -> uploadReceiver.clear());
 		upload.addFileRejectedListener(event -> showError("File rejected: " + event.getErrorMessage()));
 		final Anchor systemInitAnchor = new Anchor(createSystemInitTemplateResource(), "Download system init template");
 		systemInitAnchor.getElement().setAttribute("download", true);
@@ -251,7 +261,10 @@ public final class CViewImport extends CAbstractPage {
 
 	private void clearResults() {
 		resultsContainer.removeAll();
-		uploadedStream = null;
+		if (uploadReceiver != null) {
+			uploadReceiver.clear();
+		}
+		uploadedFile = null;
 		uploadedFileName = null;
 		importButton.setEnabled(false);
 	}
@@ -325,7 +338,7 @@ public final class CViewImport extends CAbstractPage {
 	}
 
 	private void runImport() {
-		if (uploadedStream == null) {
+		if (uploadedFile == null) {
 			showError("No file uploaded.");
 			return;
 		}
@@ -341,16 +354,40 @@ public final class CViewImport extends CAbstractPage {
 		importButton.setEnabled(false);
 		importButton.setText("Importing…");
 		try {
-			final CImportResult result = importService.importExcel(uploadedStream, options, project);
-			persistImportHistory(result, project);
-			renderResults(result);
+			// WHY: without dry-run/rollback-all there is no reason to hold one transaction for the whole workbook; chunked commits keep
+			// large imports within memory and let a failed import resume from its last committed chunk.
+			if (options.isDryRun() || options.isRollbackOnError() || project.getCompany() == null) {
+				final CImportResult result;
+				try (InputStream workbook = uploadedFile.openInputStream()) {
+					result = importService.importExcel(workbook, options, project);
+				}
+				persistImportHistory(result, project);
+				renderResults(result);
+			} else {
+				renderResults(runChunkedImport(options, project));
+			}
 		} catch (final Exception e) {
 			LOGGER.error("Import error reason={}", e.getMessage(), e);
 			showError("Import error: " + e.getMessage());
 		} finally {
 			importButton.setEnabled(true);
 			importButton.setText("Import");
-			uploadedStream = null;
+			uploadReceiver.clear();
+			uploadedFile = null;
+		}
+	}
+
+	private CImportResult runChunkedImport(final CImportOptions options, final CProject<?> project) throws IOException {
+		final String username = sessionService.getActiveUser().map(CUser::getUsername).orElse("unknown");
+		final CDataImport job = dataImportService.findResumableJob(project.getCompany(), uploadedFile.getSha256()).orElse(null);
+		if (job != null) {
+			showInfo("Resuming import '" + job.getName() + "' after sheet " + (job.getProgressSheetIndex() + 1) + " row "
+					+ job.getProgressRowNumber());
+		}
+		final CDataImport effectiveJob = job != null ? job
+				: dataImportService.createResumableJob(project.getCompany(), uploadedFileName, uploadedFile.getSha256(), username);
+		try (InputStream workbook = uploadedFile.openInputStream()) {
+			return importService.importExcelInChunks(workbook, options, project, effectiveJob);
 		}
 	}
 
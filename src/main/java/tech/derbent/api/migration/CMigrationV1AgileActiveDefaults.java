@@ -0,0 +1,54 @@
+package tech.derbent.api.migration;
+
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/** V1 - Adds {@code DEFAULT true} to the {@code active} column left behind in the agile child tables.
+ * <p>
+ * WHY: epics, features and user stories were standalone entities before they became JOINED children of CAgileEntity. The root table now holds
+ * the inherited columns, but schemas created before that kept {@code active NOT NULL} in the child tables without a default, so Hibernate's
+ * child-table inserts failed. This was checked on every start by {@code CSchemaMaintenanceService}; as a migration it runs once.
+ * </p>
+ * <p>
+ * RULE: PostgreSQL only; schemas created from the current entity model never had these columns, so missing ones are skipped.
+ * </p>
+ */
+@Component
+public class CMigrationV1AgileActiveDefaults implements ISchemaMigration {
+
+	private static final List<String> AGILE_CHILD_TABLES = List.of("cepic", "cfeature", "cuserstory");
+	private static final Logger LOGGER = LoggerFactory.getLogger(CMigrationV1AgileActiveDefaults.class);
+
+	@Override
+	public String getChecksum() { return "agile-active-defaults-1"; }
+
+	@Override
+	public String getDescription() { return "Default for legacy active column of agile child tables"; }
+
+	@Override
+	public String getVersion() { return "1"; }
+
+	@Override
+	public void migrate(final JdbcTemplate jdbcTemplate, final String databaseVendor) {
+		if (!"postgresql".equals(databaseVendor)) {
+			return;
+		}
+		for (final String table : AGILE_CHILD_TABLES) {
+			final List<String> defaults = jdbcTemplate.queryForList("""
+					SELECT COALESCE(column_default, '')
+					FROM information_schema.columns
+					WHERE table_schema = current_schema()
+					  AND table_name   = ?
+					  AND column_name  = 'active'
+					""", String.class, table);
+			if (defaults.isEmpty() || !defaults.get(0).isBlank()) {
+				continue;
+			}
+			jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN active SET DEFAULT true");
+			LOGGER.info("Schema fix applied: {}.active SET DEFAULT true", table);
+		}
+	}
+}
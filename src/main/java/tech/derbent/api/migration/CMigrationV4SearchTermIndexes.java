@@ -0,0 +1,49 @@
+package tech.derbent.api.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/** V4 - Indexes the search postings by document, and by term prefix on PostgreSQL.
+ * <p>
+ * WHY: re-indexing an item deletes its postings by {@code search_document_id}, and the match filter joins postings to documents by it; the
+ * (term, document) index only serves lookups by term. {@code t.term LIKE 'abc%'} cannot use a plain btree on PostgreSQL unless the database
+ * collation is {@code C}, so the prefix lookups get a {@code varchar_pattern_ops} index there. H2 uses the (term, document) index for them.
+ * </p>
+ * <p>
+ * RULE: the search tables are created by Hibernate; a schema that does not have them yet gets the document index from the entity model.
+ * </p>
+ */
+@Component
+public class CMigrationV4SearchTermIndexes implements ISchemaMigration {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CMigrationV4SearchTermIndexes.class);
+
+	@Override
+	public String getChecksum() { return "search-term-indexes-1"; }
+
+	@Override
+	public String getDescription() { return "Document and prefix indexes of the search postings"; }
+
+	@Override
+	public String getVersion() { return "4"; }
+
+	@Override
+	public void migrate(final JdbcTemplate jdbcTemplate, final String databaseVendor) {
+		final Integer tables = jdbcTemplate.queryForObject("""
+				SELECT COUNT(*)
+				FROM information_schema.tables
+				WHERE LOWER(table_schema) = LOWER(CURRENT_SCHEMA)
+				  AND LOWER(table_name)   = 'csearch_term'
+				""", Integer.class);
+		if (tables == null || tables == 0) {
+			return;
+		}
+		jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_csearch_term_document ON csearch_term (search_document_id)");
+		if ("postgresql".equals(databaseVendor)) {
+			jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_csearch_term_prefix ON csearch_term (term varchar_pattern_ops)");
+		}
+		LOGGER.info("Search posting indexes created ({})", databaseVendor);
+	}
+}
@@ -0,0 +1,404 @@
+package tech.derbent.api.migration;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import tech.derbent.api.startup.CStartupReport;
+import tech.derbent.api.startup.CStartupReport.EOutcome;
+
+/** CSchemaMigrationService - Applies versioned, checksummed schema migrations before JPA starts, and decides what Hibernate does to the schema.
+ * <p>
+ * WHY: {@code hbm2ddl.auto=update} compared the whole schema with the entity model on every start, and never dropped, renamed or fixed
+ * anything, so production schemas drifted silently; {@code CSchemaMaintenanceService} patched the known drift with information_schema queries
+ * on every boot. Here every change is a migration applied once and recorded with its checksum in the history table; a started schema costs one
+ * {@code SELECT} of that table.
+ * </p>
+ * <p>
+ * RULE: migrations run when this bean is created, which happens before the entity manager factory because Spring Boot applies every
+ * {@link HibernatePropertiesCustomizer} while building it. The state of the history table decides the Hibernate schema action:
+ * </p>
+ * <ul>
+ * <li>migrated database (history has rows): pending migrations run, then Hibernate does {@code derbent.schema.migration.hibernate-action}
+ * ({@code none} by default, {@code validate} to compare with the mappings);</li>
+ * <li>empty database: the schema baseline of the vendor ({@code db/baseline/<vendor>/V<version>__<description>.sql}, exported from the
+ * entity model with the {@code schema-export} profile) runs, migrations up to its version are recorded as included, later ones run, and
+ * Hibernate does {@code derbent.schema.migration.hibernate-action}. Without a baseline for the vendor Hibernate creates the schema from the
+ * entity model ({@code create-only}) and every known migration is recorded as part of it;</li>
+ * <li>schema from before migrations (tables, but no history): all migrations run, Hibernate updates the schema one last time, and a
+ * baseline row is recorded.</li>
+ * </ul>
+ * <p>
+ * When {@code spring.jpa.hibernate.ddl-auto} recreates the schema anyway (create, create-drop: tests and H2 profiles) the service stays out of
+ * the way. A migration whose content changed after it was applied stops the startup unless
+ * {@code derbent.schema.migration.validate-checksums=false}.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty (name = "derbent.schema.migration.enabled", havingValue = "true", matchIfMissing = true)
+public class CSchemaMigrationService implements HibernatePropertiesCustomizer, SmartInitializingSingleton {
+
+	/** What the history table said at startup. */
+	enum ESchemaState {
+		EMPTY, LEGACY, MIGRATED
+	}
+
+	private static final String BASELINE_DESCRIPTION = "Schema before versioned migrations, updated from the entity model";
+	private static final String BASELINE_VERSION = "0";
+	private static final String HBM2DDL_AUTO = "hibernate.hbm2ddl.auto";
+	private static final long LOCK_KEY = 0x6465726265L;
+	private static final Logger LOGGER = LoggerFactory.getLogger(CSchemaMigrationService.class);
+	private static final Set<String> RECREATING_ACTIONS = Set.of("create", "create-drop", "create-only", "drop");
+	private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+	public static final String TYPE_BASELINE = "BASELINE";
+	public static final String TYPE_JAVA = "JAVA";
+	public static final String TYPE_SQL = "SQL";
+	private static final String VENDOR_POSTGRESQL = "postgresql";
+
+	/** Compares dotted numeric versions, so that 1.10 comes after 1.9. */
+	static int compareVersions(final String left, final String right) {
+		final String[] leftParts = left.split("\\.");
+		final String[] rightParts = right.split("\\.");
+		for (int i = 0; i < Math.max(leftParts.length, rightParts.length); i++) {
+			final long leftPart = i < leftParts.length ? Long.parseLong(leftParts[i]) : 0;
+			final long rightPart = i < rightParts.length ? Long.parseLong(rightParts[i]) : 0;
+			if (leftPart != rightPart) {
+				return Long.compare(leftPart, rightPart);
+			}
+		}
+		return 0;
+	}
+
+	/** Serialises migrations of several instances starting together; PostgreSQL only, other databases are single-instance here. */
+	private static boolean lock(final Connection connection, final String vendor) throws SQLException {
+		if (!VENDOR_POSTGRESQL.equals(vendor)) {
+			return false;
+		}
+		try (var statement = connection.prepareStatement("SELECT pg_advisory_lock(?)")) {
+			statement.setLong(1, LOCK_KEY);
+			statement.execute();
+		}
+		return true;
+	}
+
+	private final boolean active;
+	private final Clock clock;
+	private String databaseVendor;
+	private final String hibernateAction;
+	private final String historyTable;
+	private final String baselineLocation;
+	private final List<ISchemaMigration> javaMigrations;
+	private final JdbcTemplate jdbcTemplate;
+	private final String locations;
+	private ESchemaState state;
+	private final boolean validateChecksums;
+
+	public CSchemaMigrationService(final JdbcTemplate jdbcTemplate, final Clock clock, final ObjectProvider<ISchemaMigration> javaMigrations,
+			@Value ("${derbent.schema.migration.locations:classpath*:db/migration}") final String locations,
+			@Value ("${derbent.schema.migration.baseline-location:classpath*:db/baseline}") final String baselineLocation,
+			@Value ("${derbent.schema.migration.table:derbent_schema_history}") final String historyTable,
+			@Value ("${derbent.schema.migration.hibernate-action:none}") final String hibernateAction,
+			@Value ("${derbent.schema.migration.validate-checksums:true}") final boolean validateChecksums,
+			@Value ("${spring.jpa.hibernate.ddl-auto:none}") final String ddlAuto) {
+		if (!TABLE_NAME.matcher(historyTable).matches()) {
+			throw new IllegalArgumentException("Invalid migration history table name: " + historyTable);
+		}
+		this.jdbcTemplate = jdbcTemplate;
+		this.clock = clock;
+		this.javaMigrations = javaMigrations.orderedStream().toList();
+		this.locations = locations;
+		this.baselineLocation = baselineLocation;
+		this.historyTable = historyTable;
+		this.hibernateAction = hibernateAction;
+		this.validateChecksums = validateChecksums;
+		active = !RECREATING_ACTIONS.contains(ddlAuto.trim().toLowerCase(Locale.ROOT));
+		if (!active) {
+			LOGGER.info("Schema migrations skipped: ddl-auto={} recreates the schema from the entity model", ddlAuto);
+		}
+	}
+
+	/** Records the baseline once Hibernate has created or updated the schema. */
+	@Override
+	public void afterSingletonsInstantiated() {
+		if (!active || state == ESchemaState.MIGRATED) {
+			return;
+		}
+		final List<ISchemaMigration> baseline = state == ESchemaState.EMPTY ? loadMigrations(databaseVendor) : List.of();
+		jdbcTemplate.update(insertHistorySql(), BASELINE_VERSION, state == ESchemaState.EMPTY ? "Schema created from the entity model" : BASELINE_DESCRIPTION,
+				TYPE_BASELINE, null, Timestamp.from(clock.instant()), 0L);
+		for (final ISchemaMigration migration : baseline) {
+			jdbcTemplate.update(insertHistorySql(), migration.getVersion(), migration.getDescription(), TYPE_BASELINE, migration.getChecksum(),
+					Timestamp.from(clock.instant()), 0L);
+		}
+		LOGGER.info("Schema baseline recorded ({} migrations included in the entity model)", baseline.size());
+		state = ESchemaState.MIGRATED;
+	}
+
+	private void applyMigration(final Connection connection, final ISchemaMigration migration, final String vendor) throws Exception {
+		final long start = System.nanoTime();
+		connection.setAutoCommit(false);
+		try {
+			final JdbcTemplate migrationTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+			migration.migrate(migrationTemplate, vendor);
+			final long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+			migrationTemplate.update(insertHistorySql(), migration.getVersion(), migration.getDescription(),
+					migration instanceof CSqlSchemaMigration ? TYPE_SQL : TYPE_JAVA, migration.getChecksum(), Timestamp.from(clock.instant()),
+					elapsedMs);
+			connection.commit();
+			LOGGER.info("Schema migration applied: V{} {} in {} ms", migration.getVersion(), migration.getDescription(), elapsedMs);
+		} catch (final Exception e) {
+			connection.rollback();
+			throw new IllegalStateException("Schema migration V%s %s failed: %s".formatted(migration.getVersion(), migration.getDescription(),
+					e.getMessage()), e);
+		} finally {
+			connection.setAutoCommit(true);
+		}
+	}
+
+	/** Runs the baseline script and records it, with the migrations it includes, in one transaction; adds those to {@code applied}. */
+	private void applyBaseline(final Connection connection, final ISchemaMigration baseline, final List<ISchemaMigration> migrations,
+			final Map<String, String> applied, final String vendor) throws Exception {
+		final long start = System.nanoTime();
+		connection.setAutoCommit(false);
+		try {
+			final JdbcTemplate baselineTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+			baseline.migrate(baselineTemplate, vendor);
+			final long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+			baselineTemplate.update(insertHistorySql(), BASELINE_VERSION, "Schema baseline V%s %s".formatted(baseline.getVersion(),
+					baseline.getDescription()), TYPE_BASELINE, baseline.getChecksum(), Timestamp.from(clock.instant()), elapsedMs);
+			applied.put(BASELINE_VERSION, baseline.getChecksum());
+			for (final ISchemaMigration migration : migrations) {
+				if (compareVersions(migration.getVersion(), baseline.getVersion()) <= 0) {
+					baselineTemplate.update(insertHistorySql(), migration.getVersion(), migration.getDescription(), TYPE_BASELINE,
+							migration.getChecksum(), Timestamp.from(clock.instant()), 0L);
+					applied.put(migration.getVersion(), migration.getChecksum());
+				}
+			}
+			connection.commit();
+			LOGGER.info("Schema baseline V{} applied in {} ms ({} migrations included)", baseline.getVersion(), elapsedMs, applied.size() - 1);
+		} catch (final Exception e) {
+			connection.rollback();
+			throw new IllegalStateException("Schema baseline V%s failed: %s".formatted(baseline.getVersion(), e.getMessage()), e);
+		} finally {
+			connection.setAutoCommit(true);
+		}
+	}
+
+	@Override
+	public void customize(final Map<String, Object> hibernateProperties) {
+		if (!active) {
+			return;
+		}
+		final String action = switch (state) {
+		case EMPTY -> "create-only";
+		case LEGACY -> "update";
+		case MIGRATED -> hibernateAction;
+		};
+		hibernateProperties.put(HBM2DDL_AUTO, action);
+		LOGGER.debug("Hibernate schema action: {} (schema state {})", action, state);
+	}
+
+	ESchemaState getState() { return state; }
+
+	/** True when the database holds tables other than the history table; only asked while the history is empty. */
+	private boolean hasApplicationTables(final Connection connection) throws SQLException {
+		final DatabaseMetaData metaData = connection.getMetaData();
+		try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), "%", new String[] {
+				"TABLE"
+		})) {
+			while (tables.next()) {
+				if (!historyTable.equalsIgnoreCase(tables.getString("TABLE_NAME"))) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private String insertHistorySql() {
+		return "INSERT INTO " + historyTable + " (version, description, type, checksum, installed_on, execution_ms) VALUES (?, ?, ?, ?, ?, ?)";
+	}
+
+	/** The baseline script of the vendor; null when there is none, or when no baseline location is configured. */
+	ISchemaMigration loadBaseline(final String vendor) {
+		if (baselineLocation.isBlank()) {
+			return null;
+		}
+		final String pattern = baselineLocation.trim() + "/" + vendor + "/*.sql";
+		try {
+			final Resource[] resources = new PathMatchingResourcePatternResolver().getResources(pattern);
+			if (resources.length == 0) {
+				return null;
+			}
+			if (resources.length > 1) {
+				throw new IllegalStateException("More than one schema baseline in " + pattern);
+			}
+			final CSqlSchemaMigration baseline = CSqlSchemaMigration.of(resources[0]);
+			if (baseline == null) {
+				throw new IllegalStateException("Schema baseline with an invalid name: " + resources[0].getDescription());
+			}
+			return baseline;
+		} catch (final IOException e) {
+			throw new IllegalStateException("Cannot read the schema baseline from " + pattern, e);
+		}
+	}
+
+	/** SQL scripts of the shared and the vendor location, and migration beans, in version order. */
+	List<ISchemaMigration> loadMigrations(final String vendor) {
+		final Map<String, ISchemaMigration> byVersion = new TreeMap<>(CSchemaMigrationService::compareVersions);
+		final List<ISchemaMigration> all = new ArrayList<>(javaMigrations);
+		final PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+		for (final String location : locations.split(",")) {
+			for (final String pattern : List.of(location.trim() + "/*.sql", location.trim() + "/" + vendor + "/*.sql")) {
+				try {
+					for (final Resource resource : resolver.getResources(pattern)) {
+						final CSqlSchemaMigration migration = CSqlSchemaMigration.of(resource);
+						if (migration != null) {
+							all.add(migration);
+						} else {
+							LOGGER.warn("Ignoring migration script with an invalid name: {}", resource.getDescription());
+						}
+					}
+				} catch (final IOException e) {
+					throw new IllegalStateException("Cannot read schema migrations from " + pattern, e);
+				}
+			}
+		}
+		for (final ISchemaMigration migration : all) {
+			final ISchemaMigration previous = byVersion.put(migration.getVersion(), migration);
+			if (previous != null) {
+				throw new IllegalStateException("Two schema migrations have version %s: %s and %s".formatted(migration.getVersion(), previous, migration));
+			}
+		}
+		return List.copyOf(byVersion.values());
+	}
+
+	/** Applies pending migrations.
+	 * @return the number of applied migrations */
+	public synchronized int migrate() {
+		final DataSource dataSource = jdbcTemplate.getDataSource();
+		try (Connection connection = dataSource.getConnection()) {
+			final String vendor = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+			databaseVendor = vendor;
+			final boolean locked = lock(connection, vendor);
+			try {
+				return migrate(connection, vendor);
+			} finally {
+				if (locked) {
+					try (var statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+						statement.setLong(1, LOCK_KEY);
+						statement.execute();
+					}
+				}
+			}
+		} catch (final IllegalStateException e) {
+			throw e;
+		} catch (final Exception e) {
+			throw new IllegalStateException("Schema migration failed: " + e.getMessage(), e);
+		}
+	}
+
+	private int migrate(final Connection connection, final String vendor) throws Exception {
+		final long start = System.nanoTime();
+		final JdbcTemplate template = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+		template.execute("CREATE TABLE IF NOT EXISTS " + historyTable + " (version VARCHAR(50) NOT NULL PRIMARY KEY, description VARCHAR(200) NOT NULL, "
+				+ "type VARCHAR(20) NOT NULL, checksum VARCHAR(64), installed_on TIMESTAMP NOT NULL, execution_ms BIGINT NOT NULL)");
+		final Map<String, String> applied = new HashMap<>();
+		template.query("SELECT version, checksum FROM " + historyTable, row -> {
+			applied.put(row.getString(1), row.getString(2));
+		});
+		final List<ISchemaMigration> migrations = loadMigrations(vendor);
+		if (applied.isEmpty()) {
+			state = hasApplicationTables(connection) ? ESchemaState.LEGACY : ESchemaState.EMPTY;
+			if (state == ESchemaState.EMPTY) {
+				final ISchemaMigration baseline = loadBaseline(vendor);
+				if (baseline == null) {
+					LOGGER.info("Empty database: schema is created from the entity model, {} migrations are recorded as included", migrations.size());
+					return 0;
+				}
+				applyBaseline(connection, baseline, migrations, applied, vendor);
+				state = ESchemaState.MIGRATED;
+			} else {
+				LOGGER.info("Schema without migration history: applying all {} migrations, then a final Hibernate update", migrations.size());
+			}
+		} else {
+			state = ESchemaState.MIGRATED;
+			validateChecksums(applied, migrations);
+		}
+		int count = 0;
+		for (final ISchemaMigration migration : migrations) {
+			if (!applied.containsKey(migration.getVersion())) {
+				applyMigration(connection, migration, vendor);
+				count++;
+			}
+		}
+		LOGGER.info("Schema migrations checked in {} ms: {} applied, {} known", (System.nanoTime() - start) / 1_000_000, count, migrations.size());
+		return count;
+	}
+
+	@PostConstruct
+	void migrateOnStartup() {
+		if (!active) {
+			return;
+		}
+		final long start = System.nanoTime();
+		try {
+			migrate();
+			CStartupReport.recordPhase("schema-migration", start, EOutcome.OK);
+		} catch (final RuntimeException e) {
+			CStartupReport.recordPhase("schema-migration", start, EOutcome.FAILED);
+			throw e;
+		}
+	}
+
+	private void validateChecksums(final Map<String, String> applied, final List<ISchemaMigration> migrations) {
+		final List<String> changed = new ArrayList<>();
+		final Set<String> known = new HashSet<>();
+		for (final ISchemaMigration migration : migrations) {
+			known.add(migration.getVersion());
+			final String recorded = applied.get(migration.getVersion());
+			if (recorded != null && migration.getChecksum() != null && !recorded.equals(migration.getChecksum())) {
+				changed.add("V" + migration.getVersion() + " " + migration.getDescription());
+			}
+		}
+		applied.keySet().stream().filter(version -> !BASELINE_VERSION.equals(version) && !known.contains(version))
+				.sorted(CSchemaMigrationService::compareVersions)
+				.forEach(version -> LOGGER.warn("Schema migration V{} is recorded but no longer known to this version", version));
+		if (changed.isEmpty()) {
+			return;
+		}
+		changed.sort(Comparator.naturalOrder());
+		final String message = "Applied schema migrations were changed afterwards: " + String.join(", ", changed);
+		if (validateChecksums) {
+			throw new IllegalStateException(message + " (add a new migration instead of editing an applied one)");
+		}
+		LOGGER.warn(message);
+	}
+}
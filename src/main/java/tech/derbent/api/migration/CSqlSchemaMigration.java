@@ -0,0 +1,79 @@
+package tech.derbent.api.migration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.util.HexFormat;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+/** CSqlSchemaMigration - A migration read from a {@code V<version>__<description>.sql} script.
+ * <p>
+ * RULE: the checksum is the SHA-256 of the script with normalised line endings, so a checkout on another platform does not count as a change.
+ * Statements are split by {@link ScriptUtils}; PostgreSQL dollar-quoted blocks are not supported, use an {@link ISchemaMigration} bean instead.
+ * </p>
+ */
+public final class CSqlSchemaMigration implements ISchemaMigration {
+
+	private static final Pattern FILE_NAME = Pattern.compile("V(\\d+(?:\\.\\d+)*)__(.+)\\.sql");
+
+	/** Reads a script; null when the resource name does not follow the {@code V<version>__<description>.sql} pattern. */
+	public static CSqlSchemaMigration of(final Resource resource) throws IOException {
+		final Matcher matcher = resource.getFilename() != null ? FILE_NAME.matcher(resource.getFilename()) : null;
+		if (matcher == null || !matcher.matches()) {
+			return null;
+		}
+		final String script = resource.getContentAsString(StandardCharsets.UTF_8).replace("\r\n", "\n");
+		return new CSqlSchemaMigration(matcher.group(1), matcher.group(2).replace('_', ' '), script, resource.getDescription());
+	}
+
+	static String sha256(final String text) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8)));
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	private final String checksum;
+	private final String description;
+	private final String script;
+	private final String source;
+	private final String version;
+
+	private CSqlSchemaMigration(final String version, final String description, final String script, final String source) {
+		this.version = version;
+		this.description = description;
+		this.script = script;
+		this.source = source;
+		checksum = sha256(script);
+	}
+
+	@Override
+	public String getChecksum() { return checksum; }
+
+	@Override
+	public String getDescription() { return description; }
+
+	@Override
+	public String getVersion() { return version; }
+
+	@Override
+	public void migrate(final JdbcTemplate jdbcTemplate, final String databaseVendor) {
+		jdbcTemplate.execute((Connection connection) -> {
+			ScriptUtils.executeSqlScript(connection, new ByteArrayResource(script.getBytes(StandardCharsets.UTF_8), source));
+			return null;
+		});
+	}
+
+	@Override
+	public String toString() {
+		return "V%s %s (%s)".formatted(version, description, source);
+	}
+}
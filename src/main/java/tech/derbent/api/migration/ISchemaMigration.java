@@ -0,0 +1,25 @@
+package tech.derbent.api.migration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/** One versioned schema change, applied once per database by {@link CSchemaMigrationService}.
+ * <p>
+ * SQL migrations are files named {@code V<version>__<description>.sql}; changes that need a decision per database (a column that may or may not
+ * exist, a vendor check) are Spring beans implementing this interface.
+ * </p>
+ */
+public interface ISchemaMigration {
+
+	/** Checksum of the migration content; a migration whose checksum changes after it was applied stops the startup. Null disables the check. */
+	String getChecksum();
+
+	String getDescription();
+
+	/** Dotted numeric version, e.g. {@code 2} or {@code 2.1}; migrations run in version order. */
+	String getVersion();
+
+	/** Applies the change. Runs inside the transaction that records it, so on PostgreSQL a failure leaves nothing behind.
+	 * @param jdbcTemplate bound to the migration connection
+	 * @param databaseVendor lower-case database product name, e.g. {@code postgresql} or {@code h2} */
+	void migrate(JdbcTemplate jdbcTemplate, String databaseVendor) throws Exception;
+}
@@ -33,6 +33,13 @@ public class CParentRelationImportHandler extends CEntityImportHandler<CParentRe
 	@Override
 	public Class<CParentRelation> getEntityClass() { return CParentRelation.class; }
 
+	/** Owners are resolved by type + name and saved by this handler. */
+	@Override
+	public Set<Class<?>> getReferencedEntityClasses() { return itemResolver.getResolvableEntityClasses(); }
+
+	@Override
+	public boolean isReferenceDeclarationComplete() { return true; }
+
 	@Override
 	public Set<String> getSupportedSheetNames() {
 		final Set<String> names = new LinkedHashSet<>();
@@ -0,0 +1,33 @@
+package tech.derbent.api.perf;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.stereotype.Component;
+import jakarta.persistence.EntityManagerFactory;
+import tech.derbent.api.utils.Check;
+
+/** Counts entities hydrated by Hibernate into the active {@link CPerfInvocationTracker} context.
+ * <p>
+ * WHY: statement counts alone hide a query that returns far more rows than the view shows (e.g. a fetch join over several collections). Hibernate
+ * has no per-row JDBC hook, so entity loads are the measure of rows fetched.
+ * </p>
+ */
+@Component
+public class CPerfEntityLoadListener implements PostLoadEventListener {
+
+	private static final long serialVersionUID = 1L;
+
+	public CPerfEntityLoadListener(final EntityManagerFactory entityManagerFactory) {
+		Check.notNull(entityManagerFactory, "Entity manager factory cannot be null");
+		final SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class).appendListeners(EventType.POST_LOAD, this);
+	}
+
+	@Override
+	public void onPostLoad(final PostLoadEvent event) {
+		CPerfInvocationTracker.recordEntityLoad();
+	}
+}
@@ -0,0 +1,99 @@
+package tech.derbent.api.perf;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Lock-free latency histogram with HDR-style log-linear buckets, in microseconds.
+ * <p>
+ * Values below 64 µs have a bucket each; above that every power of two is split into 32 buckets, so a bucket is at most 1/32 (about 3%) wider
+ * than its lower bound. 1024 buckets cover up to about 19 hours; larger values land in the last bucket. Recording is two array increments and
+ * two adders, without locks or allocation, so it can stay on in production.
+ * </p>
+ * <p>
+ * RULE: percentiles report the upper bound of the bucket holding the rank, never less than the true value; {@link #getMaxMicros()} is exact.
+ * A snapshot read while other threads record may be off by the values recorded meanwhile.
+ * </p>
+ */
+public final class CPerfHistogram {
+
+	static final int BUCKET_COUNT = 1024;
+	private static final int LINEAR_LIMIT = 64;
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	/** Bucket of a value; values of one bucket differ by at most 1/32 of its lower bound. */
+	static int bucketOf(final long micros) {
+		if (micros < LINEAR_LIMIT) {
+			return (int) Math.max(0, micros);
+		}
+		final int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+		final int index = LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (int) (micros >>> shift) - SUB_BUCKETS;
+		return Math.min(index, BUCKET_COUNT - 1);
+	}
+
+	/** Largest value that falls into the bucket. */
+	static long upperBoundOf(final int bucket) {
+		if (bucket < LINEAR_LIMIT) {
+			return bucket;
+		}
+		final int shift = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+		final long top = (bucket - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+		return ((top + 1) << shift) - 1;
+	}
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder count = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+	private final LongAdder sum = new LongAdder();
+
+	/** Number of recorded values at most each limit, counting whole buckets whose upper bound is within the limit; one pass over the buckets.
+	 * @param limitsMicros ascending limits
+	 * @return cumulative counts, one per limit */
+	public long[] countsAtOrBelow(final long... limitsMicros) {
+		final long[] counts = new long[limitsMicros.length];
+		long total = 0;
+		int limit = 0;
+		for (int bucket = 0; bucket < BUCKET_COUNT && limit < limitsMicros.length; bucket++) {
+			while (limit < limitsMicros.length && upperBoundOf(bucket) > limitsMicros[limit]) {
+				counts[limit++] = total;
+			}
+			total += buckets.get(bucket);
+		}
+		while (limit < limitsMicros.length) {
+			counts[limit++] = total;
+		}
+		return counts;
+	}
+
+	public long getCount() { return count.sum(); }
+
+	public long getMaxMicros() { return max.get(); }
+
+	public long getSumMicros() { return sum.sum(); }
+
+	/** Value below which the given share of the recorded values lies, e.g. 0.99 for p99; 0 when nothing was recorded. */
+	public long percentileMicros(final double quantile) {
+		final long total = getCount();
+		if (total == 0) {
+			return 0;
+		}
+		final long rank = Math.max(1, (long) Math.ceil(quantile * total));
+		long seen = 0;
+		for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+			seen += buckets.get(bucket);
+			if (seen >= rank) {
+				return Math.min(upperBoundOf(bucket), getMaxMicros());
+			}
+		}
+		return getMaxMicros();
+	}
+
+	public void record(final long micros) {
+		final long value = Math.max(0, micros);
+		buckets.incrementAndGet(bucketOf(value));
+		count.increment();
+		sum.add(value);
+		max.accumulate(value);
+	}
+}
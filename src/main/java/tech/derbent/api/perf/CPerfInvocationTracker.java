@@ -6,6 +6,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.util.ProxyUtils;
@@ -14,10 +15,14 @@ import org.springframework.data.util.ProxyUtils;
  * <p>
  * Design goals:
  * <ul>
- * <li>opt-in only (a Servlet filter opens/closes the ThreadLocal context)</li>
+ * <li>opt-in only (a Servlet filter or {@link #track(String, Supplier)} opens/closes the ThreadLocal context)</li>
  * <li>very low overhead when disabled (null ThreadLocal check)</li>
  * <li>focus on duplicate detection (counts), not full tracing/profiling</li>
  * </ul>
+ * <p>
+ * Besides bean method calls the context counts the SQL work done on its thread: statements (via {@link CPerfStatementInspector}), time spent in
+ * JDBC (via {@link CPerfSessionEventListener}) and entities loaded (via {@link CPerfEntityLoadListener}). The same SQL text executed many times in
+ * one context is the N+1 signature, so statements are also counted per SQL string.
  */
 public final class CPerfInvocationTracker {
 
@@ -25,9 +30,14 @@ public final class CPerfInvocationTracker {
 
 		private final LinkedHashMap<String, Integer> counts =
 				new LinkedHashMap<>();
+		private long entitiesLoaded;
+		private long jdbcNs;
 		private final String requestId;
 		private final String requestLabel;
 		private final long startNs = System.nanoTime();
+		private int statementCount;
+		private final LinkedHashMap<String, Integer> statementCounts =
+				new LinkedHashMap<>();
 
 		private CContext(final String requestId, final String requestLabel) {
 			this.requestId = Objects.requireNonNull(requestId, "requestId");
@@ -39,10 +49,20 @@ public final class CPerfInvocationTracker {
 			counts.merge(key, 1, (arg0, arg1) -> Integer.sum(arg0, arg1));
 		}
 
+		private void incrementStatement(final String sql) {
+			statementCount++;
+			// Bounded so a runaway loop cannot grow the map without limit; the total above stays exact.
+			if (statementCounts.size() < MAX_DISTINCT_STATEMENTS
+					|| statementCounts.containsKey(sql)) {
+				statementCounts.merge(sql, 1, Integer::sum);
+			}
+		}
+
 		private CReport toReport() {
 			final long durationNs = System.nanoTime() - startNs;
 			return new CReport(requestId, requestLabel, durationNs,
-					Map.copyOf(counts));
+					Map.copyOf(counts), statementCount,
+					Map.copyOf(statementCounts), entitiesLoaded, jdbcNs);
 		}
 	}
 
@@ -50,23 +70,32 @@ public final class CPerfInvocationTracker {
 
 		private final Map<String, Integer> counts;
 		private final long durationNs;
+		private final long entitiesLoaded;
+		private final long jdbcNs;
 		private final String requestId;
 		private final String requestLabel;
+		private final int statementCount;
+		private final Map<String, Integer> statementCounts;
 
 		private CReport(final String requestId, final String requestLabel,
-				final long durationNs, final Map<String, Integer> counts) {
+				final long durationNs, final Map<String, Integer> counts,
+				final int statementCount,
+				final Map<String, Integer> statementCounts,
+				final long entitiesLoaded, final long jdbcNs) {
 			this.requestId = requestId;
 			this.requestLabel = requestLabel;
 			this.durationNs = durationNs;
 			this.counts = counts;
+			this.statementCount = statementCount;
+			this.statementCounts = statementCounts;
+			this.entitiesLoaded = entitiesLoaded;
+			this.jdbcNs = jdbcNs;
 		}
 
-		public Map<String, Integer> getCounts() { return counts; }
-
-		public List<Map.Entry<String, Integer>>
-				getDuplicatesSorted(final int max) {
+		private static List<Map.Entry<String, Integer>> repeated(
+				final Map<String, Integer> source, final int max) {
 			final int limit = Math.max(1, max);
-			return counts.entrySet().stream()
+			return source.entrySet().stream()
 					.filter(e -> e.getValue() != null && e.getValue() > 1)
 					.sorted(Comparator
 							.comparingInt(Map.Entry<String, Integer>::getValue)
@@ -74,12 +103,35 @@ public final class CPerfInvocationTracker {
 					.limit(limit).collect(Collectors.toList());
 		}
 
+		public Map<String, Integer> getCounts() { return counts; }
+
+		public List<Map.Entry<String, Integer>>
+				getDuplicatesSorted(final int max) {
+			return repeated(counts, max);
+		}
+
 		public long getDurationNs() { return durationNs; }
 
+		/** Entities hydrated from JDBC result sets; the closest portable measure of rows fetched. */
+		public long getEntitiesLoaded() { return entitiesLoaded; }
+
+		/** Time spent executing JDBC statements (excluding result set reading done after execute returns). */
+		public long getJdbcNs() { return jdbcNs; }
+
+		/** SQL strings executed more than once, most frequent first. With bind parameters an N+1 loop shows up as one entry per lazy load. */
+		public List<Map.Entry<String, Integer>>
+				getRepeatedStatementsSorted(final int max) {
+			return repeated(statementCounts, max);
+		}
+
 		public String getRequestId() { return requestId; }
 
 		public String getRequestLabel() { return requestLabel; }
 
+		public int getStatementCount() { return statementCount; }
+
+		public Map<String, Integer> getStatementCounts() { return statementCounts; }
+
 		public int getTotalInvocations() {
 			return counts.values().stream().mapToInt(Integer::intValue).sum();
 		}
@@ -88,11 +140,19 @@ public final class CPerfInvocationTracker {
 			return counts.values().stream()
 					.anyMatch(count -> count != null && count > 1);
 		}
+
+		@Override
+		public String toString() {
+			return "%s statements=%d entities=%d jdbcMs=%d durMs=%d"
+					.formatted(requestLabel, statementCount, entitiesLoaded,
+							jdbcNs / 1_000_000, durationNs / 1_000_000);
+		}
 	}
 
 	private static final ThreadLocal<CContext> CONTEXT_THREAD_LOCAL =
 			new ThreadLocal<>();
 	public static final int DEFAULT_MAX_DUPLICATES_TO_LOG = 20;
+	private static final int MAX_DISTINCT_STATEMENTS = 1_000;
 
 	public static void clear() {
 		CONTEXT_THREAD_LOCAL.remove();
@@ -107,6 +167,13 @@ public final class CPerfInvocationTracker {
 		return CONTEXT_THREAD_LOCAL.get() != null;
 	}
 
+	static void recordEntityLoad() {
+		final CContext context = CONTEXT_THREAD_LOCAL.get();
+		if (context != null) {
+			context.entitiesLoaded++;
+		}
+	}
+
 	public static void recordInvocation(final Object target,
 			final Method method) {
 		final CContext context = CONTEXT_THREAD_LOCAL.get();
@@ -120,11 +187,46 @@ public final class CPerfInvocationTracker {
 		context.increment(key);
 	}
 
+	static void recordJdbcTime(final long nanos) {
+		final CContext context = CONTEXT_THREAD_LOCAL.get();
+		if (context != null) {
+			context.jdbcNs += nanos;
+		}
+	}
+
+	static void recordStatement(final String sql) {
+		final CContext context = CONTEXT_THREAD_LOCAL.get();
+		if (context != null) {
+			context.incrementStatement(sql);
+		}
+	}
+
 	public static void start(final String requestId,
 			final String requestLabel) {
 		CONTEXT_THREAD_LOCAL.set(new CContext(requestId, requestLabel));
 	}
 
+	/** Runs work in its own tracking context and returns what it did. An enclosing context (e.g. the HTTP request) is suspended and restored, so
+	 * the work is not counted twice.
+	 * @param label label of the report
+	 * @param work  the work to measure; its result is discarded
+	 * @return report of the work */
+	public static CReport track(final String label, final Supplier<?> work) {
+		Objects.requireNonNull(work, "work");
+		final CContext outer = CONTEXT_THREAD_LOCAL.get();
+		start(Integer.toHexString(System.identityHashCode(work)), label);
+		try {
+			work.get();
+			return Objects.requireNonNull(finishReport());
+		} finally {
+			if (outer != null) {
+				CONTEXT_THREAD_LOCAL.set(outer);
+			} else {
+				clear();
+			}
+		}
+	}
+
 	private CPerfInvocationTracker() {
 		// Utility class
 	}
@@ -3,6 +3,7 @@ package tech.derbent.api.perf;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -18,6 +19,10 @@ import jakarta.servlet.http.HttpServletResponse;
  * Enable with: derbent.perf.invocations.enabled=true
  *
  * <p>
+ * Every request is also summarised with its SQL work (statements, entities loaded, JDBC time) at debug level. Requests above
+ * derbent.perf.invocations.statement-warn-threshold statements are logged as warnings with the most repeated SQL, which is usually an N+1 loop.
+ *
+ * <p>
  * Why a filter: Vaadin UI work happens inside HTTP requests (including UIDL roundtrips), so a request boundary is a practical, low-noise scope.
  */
 @Component
@@ -25,6 +30,9 @@ import jakarta.servlet.http.HttpServletResponse;
 public class CPerfInvocationTrackingFilter extends OncePerRequestFilter {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CPerfInvocationTrackingFilter.class);
+	private static final int MAX_REPEATED_STATEMENTS_TO_LOG = 5;
+	@Value ("${derbent.perf.invocations.statement-warn-threshold:100}")
+	private int statementWarnThreshold;
 
 	@Override
 	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain)
@@ -47,12 +55,24 @@ public class CPerfInvocationTrackingFilter extends OncePerRequestFilter {
 						report.getRequestLabel(),
 						report.getDuplicatesSorted(CPerfInvocationTracker.DEFAULT_MAX_DUPLICATES_TO_LOG));
 				}
+				if (report != null) {
+					logStatements(report);
+				}
 			} finally {
 				CPerfInvocationTracker.clear();
 			}
 		}
 	}
 
+	private void logStatements(final CPerfInvocationTracker.CReport report) {
+		if (report.getStatementCount() > statementWarnThreshold) {
+			LOGGER.warn("PERF-SQL rid={} {} exceeds {} statements; most repeated={}", report.getRequestId(), report, statementWarnThreshold,
+					report.getRepeatedStatementsSorted(MAX_REPEATED_STATEMENTS_TO_LOG));
+		} else if (report.getStatementCount() > 0 && LOGGER.isDebugEnabled()) {
+			LOGGER.debug("PERF-SQL rid={} {}", report.getRequestId(), report);
+		}
+	}
+
 	private static String buildRequestLabel(final HttpServletRequest request) {
 		final String vaadinType = request.getHeader("X-Vaadin-Request-Type");
 		final String uiId = request.getParameter("v-uiId");
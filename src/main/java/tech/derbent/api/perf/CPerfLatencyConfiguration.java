@@ -0,0 +1,43 @@
+package tech.derbent.api.perf;
+
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import tech.derbent.api.perf.CPerfLatencyRegistry.EPerfMetricKind;
+
+/** Switches {@link CPerfLatencyRegistry} on or off ({@code derbent.perf.metrics.enabled}) and times every Spring Data repository method.
+ * <p>
+ * Repository calls are timed by Spring Data itself: a {@code RepositoryMethodInvocationListener} added to every repository factory reports
+ * each invocation with its duration, which is recorded as {@code Repository.method}.
+ * </p>
+ */
+@Configuration
+public class CPerfLatencyConfiguration {
+
+	@Bean
+	static BeanPostProcessor perfRepositoryLatencyPostProcessor() {
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+				if (bean instanceof final RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+					factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(invocation -> {
+						if (CPerfLatencyRegistry.isEnabled()) {
+							CPerfLatencyRegistry.recordNanos(EPerfMetricKind.REPOSITORY,
+									invocation.getRepositoryInterface().getSimpleName() + "." + invocation.getMethod().getName(),
+									invocation.getDuration(TimeUnit.NANOSECONDS));
+						}
+					}));
+				}
+				return bean;
+			}
+		};
+	}
+
+	public CPerfLatencyConfiguration(@Value ("${derbent.perf.metrics.enabled:true}") final boolean enabled) {
+		CPerfLatencyRegistry.setEnabled(enabled);
+	}
+}
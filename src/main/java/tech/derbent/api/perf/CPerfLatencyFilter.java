@@ -0,0 +1,71 @@
+package tech.derbent.api.perf;
+
+import java.io.IOException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import tech.derbent.api.perf.CPerfLatencyRegistry.EPerfMetricKind;
+
+/** Records the latency of every HTTP request into {@link CPerfLatencyRegistry}, under a route name of bounded cardinality.
+ * <p>
+ * Vaadin UIDL roundtrips are named after the view of their UI ({@link CPerfViewNameListener}), controller requests after their mapping pattern,
+ * other Vaadin requests (heartbeat, push) after their type. Static resources and page loads are grouped, so ids in URLs do not create metrics.
+ * The request is the caller of the repository and Calimero calls made while it runs.
+ * </p>
+ * <p>
+ * On unless {@code derbent.perf.metrics.enabled=false}; unlike {@link CPerfInvocationTrackingFilter} it keeps no per-request state.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty (name = "derbent.perf.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class CPerfLatencyFilter extends OncePerRequestFilter {
+
+	private static final String VAADIN_REQUEST_PARAMETER = "v-r";
+	private static final String VAADIN_UI_PARAMETER = "v-uiId";
+
+	/** Metric name of a finished request. */
+	static String routeOf(final HttpServletRequest request) {
+		final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		if (pattern != null) {
+			return request.getMethod() + " " + pattern;
+		}
+		final String vaadinRequest = request.getParameter(VAADIN_REQUEST_PARAMETER);
+		if ("uidl".equals(vaadinRequest)) {
+			return "view " + viewOf(request);
+		}
+		if (vaadinRequest != null) {
+			return "vaadin " + vaadinRequest;
+		}
+		final String uri = request.getRequestURI();
+		if (uri.contains("/VAADIN/") || uri.lastIndexOf('.') > uri.lastIndexOf('/')) {
+			return "static";
+		}
+		return request.getMethod() + " page";
+	}
+
+	private static String viewOf(final HttpServletRequest request) {
+		final HttpSession session = request.getSession(false);
+		final String uiId = request.getParameter(VAADIN_UI_PARAMETER);
+		final Object view = session != null && uiId != null ? session.getAttribute(CPerfViewNameListener.VIEW_ATTRIBUTE_PREFIX + uiId) : null;
+		return view != null ? view.toString() : "?";
+	}
+
+	@Override
+	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain)
+			throws ServletException, IOException {
+		final long start = System.nanoTime();
+		final String previousCaller = CPerfLatencyRegistry.enterCaller(request.getMethod() + " " + request.getRequestURI());
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			CPerfLatencyRegistry.exitCaller(previousCaller);
+			CPerfLatencyRegistry.record(EPerfMetricKind.ROUTE, routeOf(request), start);
+		}
+	}
+}
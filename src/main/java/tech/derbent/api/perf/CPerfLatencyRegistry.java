@@ -0,0 +1,182 @@
+package tech.derbent.api.perf;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Always-on latency histograms per route, page-service handler, repository method and Calimero call.
+ * <p>
+ * WHY: {@link CPerfInvocationTracker} counts calls per request and forgets them when the request ends, so it finds N+1 loops but cannot say how
+ * slow a view is at p95 over a day. Here every measured call goes into a {@link CPerfHistogram} that lives as long as the application; the
+ * latency view and the Prometheus scrape endpoint read them.
+ * </p>
+ * <p>
+ * RULE: recording is static, like the tracker, so code without Spring beans (CPageService handlers, CClientProject) can record. The caller of a
+ * measurement is the innermost enclosing route or handler on the same thread ({@link #enterCaller(String)}); each metric keeps its
+ * {@link #SLOWEST_SAMPLES} slowest calls with their caller. The number of metrics is bounded; names beyond {@link #MAX_METRICS} are counted
+ * under {@link #OVERFLOW_NAME}. Disabled by {@code derbent.perf.metrics.enabled=false}, recording is a single volatile read.
+ * </p>
+ */
+public final class CPerfLatencyRegistry {
+
+	/** What was measured; the label value of the {@code kind} dimension in the Prometheus export. */
+	public enum EPerfMetricKind {
+
+		CALIMERO, HANDLER, REPOSITORY, ROUTE;
+
+		public String label() {
+			return name().toLowerCase();
+		}
+	}
+
+	/** Histogram and slowest calls of one measured name. */
+	public static final class CPerfMetric {
+
+		private final CPerfHistogram histogram = new CPerfHistogram();
+		private final EPerfMetricKind kind;
+		private final String name;
+		private final RPerfSample[] slowest = new RPerfSample[SLOWEST_SAMPLES];
+		private volatile long slowestThresholdMicros;
+
+		private CPerfMetric(final EPerfMetricKind kind, final String name) {
+			this.kind = kind;
+			this.name = name;
+		}
+
+		public CPerfHistogram getHistogram() { return histogram; }
+
+		public EPerfMetricKind getKind() { return kind; }
+
+		public String getName() { return name; }
+
+		/** Slowest calls, slowest first. */
+		public synchronized List<RPerfSample> getSlowest() {
+			final List<RPerfSample> samples = new ArrayList<>(SLOWEST_SAMPLES);
+			for (final RPerfSample sample : slowest) {
+				if (sample != null) {
+					samples.add(sample);
+				}
+			}
+			samples.sort(Comparator.comparingLong(RPerfSample::micros).reversed());
+			return samples;
+		}
+
+		private void record(final long micros) {
+			histogram.record(micros);
+			// Most calls are faster than the slowest kept ones and stop at this volatile read.
+			if (micros > slowestThresholdMicros) {
+				recordSlow(micros);
+			}
+		}
+
+		private synchronized void recordSlow(final long micros) {
+			int fastest = 0;
+			for (int i = 1; i < slowest.length; i++) {
+				if (slowest[i] == null || slowest[fastest] != null && slowest[i].micros() < slowest[fastest].micros()) {
+					fastest = i;
+				}
+			}
+			if (slowest[fastest] != null && slowest[fastest].micros() >= micros) {
+				return;
+			}
+			final String caller = CURRENT_CALLER.get();
+			slowest[fastest] = new RPerfSample(micros, caller != null ? caller : "-", System.currentTimeMillis());
+			long threshold = Long.MAX_VALUE;
+			for (final RPerfSample sample : slowest) {
+				threshold = sample == null ? 0 : Math.min(threshold, sample.micros());
+				if (threshold == 0) {
+					break;
+				}
+			}
+			slowestThresholdMicros = threshold;
+		}
+	}
+
+	/** One slow call: its duration, the route or handler it ran for, and when it finished (epoch milliseconds). */
+	public record RPerfSample(long micros, String caller, long finishedAtMs) {}
+
+	private static final ThreadLocal<String> CURRENT_CALLER = new ThreadLocal<>();
+	private static volatile boolean enabled = true;
+	public static final int MAX_METRICS = 2_000;
+	// One map per kind, so looking up a metric needs no key object.
+	private static final Map<EPerfMetricKind, Map<String, CPerfMetric>> METRICS = new EnumMap<>(EPerfMetricKind.class);
+	private static final AtomicInteger METRIC_COUNT = new AtomicInteger();
+	public static final String OVERFLOW_NAME = "other";
+	public static final int SLOWEST_SAMPLES = 5;
+	static {
+		for (final EPerfMetricKind kind : EPerfMetricKind.values()) {
+			METRICS.put(kind, new ConcurrentHashMap<>());
+		}
+	}
+
+	/** Makes {@code caller} the caller of measurements on this thread until {@link #exitCaller(String)}.
+	 * @return the previous caller, to pass to {@link #exitCaller(String)} */
+	public static String enterCaller(final String caller) {
+		final String previous = CURRENT_CALLER.get();
+		CURRENT_CALLER.set(caller);
+		return previous;
+	}
+
+	public static void exitCaller(final String previous) {
+		if (previous == null) {
+			CURRENT_CALLER.remove();
+		} else {
+			CURRENT_CALLER.set(previous);
+		}
+	}
+
+	/** Metrics sorted by kind and name. */
+	public static List<CPerfMetric> getMetrics() {
+		final List<CPerfMetric> metrics = new ArrayList<>();
+		METRICS.values().forEach(byName -> metrics.addAll(byName.values()));
+		metrics.sort(Comparator.comparing(CPerfMetric::getKind).thenComparing(CPerfMetric::getName));
+		return metrics;
+	}
+
+	public static boolean isEnabled() { return enabled; }
+
+	private static CPerfMetric metric(final EPerfMetricKind kind, final String name) {
+		final Map<String, CPerfMetric> byName = METRICS.get(kind);
+		final CPerfMetric metric = byName.get(name);
+		if (metric != null) {
+			return metric;
+		}
+		final String key = METRIC_COUNT.get() >= MAX_METRICS ? OVERFLOW_NAME : name;
+		return byName.computeIfAbsent(key, ignored -> {
+			METRIC_COUNT.incrementAndGet();
+			return new CPerfMetric(kind, key);
+		});
+	}
+
+	/** Records a call that started at {@code startNanos} ({@link System#nanoTime()}) and ends now. */
+	public static void record(final EPerfMetricKind kind, final String name, final long startNanos) {
+		if (enabled) {
+			recordNanos(kind, name, System.nanoTime() - startNanos);
+		}
+	}
+
+	public static void recordNanos(final EPerfMetricKind kind, final String name, final long nanos) {
+		if (enabled) {
+			metric(kind, name).record(TimeUnit.NANOSECONDS.toMicros(nanos));
+		}
+	}
+
+	/** Forgets all metrics, e.g. to measure from a known point; the latency view offers it. */
+	public static void reset() {
+		METRICS.values().forEach(Map::clear);
+		METRIC_COUNT.set(0);
+	}
+
+	public static void setEnabled(final boolean value) {
+		enabled = value;
+	}
+
+	private CPerfLatencyRegistry() {
+		// Utility class
+	}
+}
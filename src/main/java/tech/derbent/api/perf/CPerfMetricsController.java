@@ -0,0 +1,51 @@
+package tech.derbent.api.perf;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import jakarta.servlet.http.HttpServletRequest;
+
+/** Prometheus scrape endpoint for {@link CPerfLatencyRegistry}.
+ * <p>
+ * RULE: the path is open in CSecurityConfig so scrapers need no login session; the controller itself answers signed-in users and requests with
+ * {@code Authorization: Bearer <derbent.perf.metrics.scrape-token>}, everything else gets 401. Without a configured token only signed-in users
+ * can read it.
+ * </p>
+ */
+@RestController
+public class CPerfMetricsController {
+
+	public static final String METRICS_PATH = "/api/perf/metrics";
+	private final String scrapeToken;
+
+	public CPerfMetricsController(@Value ("${derbent.perf.metrics.scrape-token:}") final String scrapeToken) {
+		this.scrapeToken = scrapeToken == null ? "" : scrapeToken.trim();
+	}
+
+	private boolean isAllowed(final HttpServletRequest request) {
+		if (request.getUserPrincipal() != null) {
+			return true;
+		}
+		final String authorization = request.getHeader("Authorization");
+		if (scrapeToken.isEmpty() || authorization == null || !authorization.startsWith("Bearer ")) {
+			return false;
+		}
+		// Constant-time comparison, so the token cannot be guessed from response times
+		return MessageDigest.isEqual(scrapeToken.getBytes(StandardCharsets.UTF_8),
+				authorization.substring("Bearer ".length()).trim().getBytes(StandardCharsets.UTF_8));
+	}
+
+	@GetMapping (METRICS_PATH)
+	public ResponseEntity<String> metrics(final HttpServletRequest request) {
+		if (!isAllowed(request)) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+		}
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType(CPerfPrometheusExporter.CONTENT_TYPE))
+				.body(CPerfPrometheusExporter.write(CPerfLatencyRegistry.getMetrics()));
+	}
+}
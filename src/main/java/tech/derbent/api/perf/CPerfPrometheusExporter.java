@@ -0,0 +1,75 @@
+package tech.derbent.api.perf;
+
+import java.util.List;
+import tech.derbent.api.perf.CPerfLatencyRegistry.CPerfMetric;
+
+/** Writes {@link CPerfLatencyRegistry} metrics in the Prometheus text exposition format (version 0.0.4).
+ * <p>
+ * Every metric is a histogram {@code derbent_latency_seconds} labelled with {@code kind} and {@code name}, with fixed {@code le} buckets from
+ * 1 ms to 30 s so quantiles can be computed over any time range with {@code histogram_quantile}; {@code derbent_latency_max_seconds} is the
+ * slowest call since start.
+ * </p>
+ */
+public final class CPerfPrometheusExporter {
+
+	public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+	private static final long[] LIMITS_MICROS =
+			{ 1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000, 500_000, 1_000_000, 2_500_000, 5_000_000, 10_000_000, 30_000_000 };
+
+	private static void appendLabels(final StringBuilder out, final CPerfMetric metric) {
+		out.append("kind=\"").append(metric.getKind().label()).append("\",name=\"");
+		final String name = metric.getName();
+		for (int i = 0; i < name.length(); i++) {
+			final char c = name.charAt(i);
+			switch (c) {
+			case '\\' -> out.append("\\\\");
+			case '"' -> out.append("\\\"");
+			case '\n' -> out.append("\\n");
+			default -> out.append(c);
+			}
+		}
+		out.append('"');
+	}
+
+	private static String seconds(final long micros) {
+		return Double.toString(micros / 1_000_000.0);
+	}
+
+	public static String write(final List<CPerfMetric> metrics) {
+		final StringBuilder out = new StringBuilder(metrics.size() * 1_200 + 256);
+		out.append("# HELP derbent_latency_seconds Latency of routes, page-service handlers, repository methods and Calimero calls.\n");
+		out.append("# TYPE derbent_latency_seconds histogram\n");
+		for (final CPerfMetric metric : metrics) {
+			final CPerfHistogram histogram = metric.getHistogram();
+			final long[] counts = histogram.countsAtOrBelow(LIMITS_MICROS);
+			// Read after the buckets, so +Inf is never below a bucket while calls are recorded concurrently.
+			final long count = Math.max(histogram.getCount(), counts[counts.length - 1]);
+			for (int i = 0; i < LIMITS_MICROS.length; i++) {
+				out.append("derbent_latency_seconds_bucket{");
+				appendLabels(out, metric);
+				out.append(",le=\"").append(seconds(LIMITS_MICROS[i])).append("\"} ").append(counts[i]).append('\n');
+			}
+			out.append("derbent_latency_seconds_bucket{");
+			appendLabels(out, metric);
+			out.append(",le=\"+Inf\"} ").append(count).append('\n');
+			out.append("derbent_latency_seconds_sum{");
+			appendLabels(out, metric);
+			out.append("} ").append(seconds(histogram.getSumMicros())).append('\n');
+			out.append("derbent_latency_seconds_count{");
+			appendLabels(out, metric);
+			out.append("} ").append(count).append('\n');
+		}
+		out.append("# HELP derbent_latency_max_seconds Slowest call since start.\n");
+		out.append("# TYPE derbent_latency_max_seconds gauge\n");
+		for (final CPerfMetric metric : metrics) {
+			out.append("derbent_latency_max_seconds{");
+			appendLabels(out, metric);
+			out.append("} ").append(seconds(metric.getHistogram().getMaxMicros())).append('\n');
+		}
+		return out.toString();
+	}
+
+	private CPerfPrometheusExporter() {
+		// Utility class
+	}
+}
@@ -0,0 +1,36 @@
+package tech.derbent.api.perf;
+
+import org.hibernate.SessionEventListener;
+
+/** Per-session Hibernate listener that adds JDBC execution time to the active {@link CPerfInvocationTracker} context.
+ * <p>
+ * Registered through {@code spring.jpa.properties.hibernate.session.events.auto}; Hibernate creates one instance per session, so the start
+ * timestamps need no synchronisation.
+ * </p>
+ */
+public class CPerfSessionEventListener implements SessionEventListener {
+
+	private static final long serialVersionUID = 1L;
+	private long batchStartNs;
+	private long statementStartNs;
+
+	@Override
+	public void jdbcExecuteBatchEnd() {
+		CPerfInvocationTracker.recordJdbcTime(System.nanoTime() - batchStartNs);
+	}
+
+	@Override
+	public void jdbcExecuteBatchStart() {
+		batchStartNs = System.nanoTime();
+	}
+
+	@Override
+	public void jdbcExecuteStatementEnd() {
+		CPerfInvocationTracker.recordJdbcTime(System.nanoTime() - statementStartNs);
+	}
+
+	@Override
+	public void jdbcExecuteStatementStart() {
+		statementStartNs = System.nanoTime();
+	}
+}
@@ -0,0 +1,20 @@
+package tech.derbent.api.perf;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/** Hibernate statement inspector that counts every SQL statement into the active {@link CPerfInvocationTracker} context.
+ * <p>
+ * Registered through {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}. Without an active context it is a ThreadLocal
+ * lookup per statement, so it stays enabled in every profile.
+ * </p>
+ * RULE: never rewrite the SQL here; the inspector only observes. */
+public class CPerfStatementInspector implements StatementInspector {
+
+	private static final long serialVersionUID = 1L;
+
+	@Override
+	public String inspect(final String sql) {
+		CPerfInvocationTracker.recordStatement(sql);
+		return sql;
+	}
+}
@@ -0,0 +1,62 @@
+package tech.derbent.api.perf;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import com.vaadin.flow.component.HasElement;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.router.AfterNavigationEvent;
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.VaadinServiceInitListener;
+import com.vaadin.flow.server.WrappedSession;
+import tech.derbent.api.interfaces.IPageTitleProvider;
+
+/** Keeps the view name of every UI in its HTTP session, so {@link CPerfLatencyFilter} can name UIDL roundtrips after the view they ran for.
+ * <p>
+ * The name is the class of the route target, plus its page title when it provides one: the dynamic page router serves every database page, and
+ * the title tells them apart without putting ids into metric names.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty (name = "derbent.perf.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class CPerfViewNameListener implements VaadinServiceInitListener {
+
+	static final String VIEW_ATTRIBUTE_PREFIX = "derbent.perf.view.";
+	private static final long serialVersionUID = 1L;
+
+	static String viewNameOf(final AfterNavigationEvent event) {
+		if (event.getActiveChain().isEmpty()) {
+			return event.getLocation().getFirstSegment();
+		}
+		final HasElement target = event.getActiveChain().get(0);
+		String title = null;
+		if (target instanceof final IPageTitleProvider titleProvider) {
+			try {
+				title = titleProvider.getPageTitle();
+			} catch (final RuntimeException e) {
+				// Views whose title depends on state that is not loaded yet are named by their class only.
+			}
+		}
+		final String viewClass = target.getClass().getSimpleName();
+		return title == null || title.isBlank() ? viewClass : viewClass + " " + title;
+	}
+
+	@Override
+	public void serviceInit(final ServiceInitEvent event) {
+		event.getSource().addUIInitListener(uiEvent -> {
+			final UI ui = uiEvent.getUI();
+			final String attribute = VIEW_ATTRIBUTE_PREFIX + ui.getUIId();
+			ui.addAfterNavigationListener(navigation -> {
+				final WrappedSession session = ui.getSession().getSession();
+				if (session != null) {
+					session.setAttribute(attribute, viewNameOf(navigation));
+				}
+			});
+			ui.addDetachListener(detach -> {
+				final WrappedSession session = ui.getSession() != null ? ui.getSession().getSession() : null;
+				if (session != null) {
+					session.removeAttribute(attribute);
+				}
+			});
+		});
+	}
+}
@@ -0,0 +1,138 @@
+package tech.derbent.api.perf.view;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.button.ButtonVariant;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.H2;
+import com.vaadin.flow.component.html.H3;
+import com.vaadin.flow.component.html.Paragraph;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.router.BeforeEnterEvent;
+import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.Route;
+import com.vaadin.flow.theme.lumo.LumoUtility;
+import jakarta.annotation.security.PermitAll;
+import tech.derbent.api.entity.view.CAbstractPage;
+import tech.derbent.api.menu.MyMenu;
+import tech.derbent.api.perf.CPerfLatencyRegistry;
+import tech.derbent.api.perf.CPerfLatencyRegistry.CPerfMetric;
+import tech.derbent.api.perf.CPerfLatencyRegistry.RPerfSample;
+import tech.derbent.api.perf.CPerfMetricsController;
+
+/** CPerfLatencyView - p50/p95/p99 latency per route, page-service handler, repository method and Calimero call, with the slowest calls of the
+ * selected metric and their callers. Values are cumulative since start or the last reset. Layer: View (MVC) */
+@Route ("perf-latency")
+@PageTitle ("Latency Metrics")
+@PermitAll
+@MyMenu (title = "Tools.Latency Metrics", order = "90.2", icon = "vaadin:timer")
+public final class CPerfLatencyView extends CAbstractPage {
+
+	private static final DateTimeFormatter FINISHED_AT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+	private static final long serialVersionUID = 1L;
+	public static final String VIEW_NAME = "Latency Metrics";
+
+	private static String millis(final long micros) {
+		return String.format("%.1f", micros / 1000.0);
+	}
+
+	// Assigned in initPage(), which CAbstractPage calls from its constructor; field initializers would run after it.
+	private Grid<CPerfMetric> gridMetrics;
+	private Grid<RPerfSample> gridSlowest;
+	private H3 titleSlowest;
+
+	@Override
+	public void beforeEnter(final BeforeEnterEvent event) {
+		refresh();
+	}
+
+	private HorizontalLayout buildActionBar() {
+		final Button buttonRefresh = new Button("Refresh", VaadinIcon.REFRESH.create(), e -> refresh());
+		buttonRefresh.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+		final Button buttonReset = new Button("Reset", VaadinIcon.TRASH.create(), e -> {
+			CPerfLatencyRegistry.reset();
+			refresh();
+		});
+		buttonReset.addThemeVariants(ButtonVariant.LUMO_ERROR, ButtonVariant.LUMO_TERTIARY);
+		return new HorizontalLayout(buttonRefresh, buttonReset);
+	}
+
+	private Grid<CPerfMetric> buildMetricsGrid() {
+		final Grid<CPerfMetric> grid = new Grid<>(CPerfMetric.class, false);
+		grid.setWidthFull();
+		grid.addColumn(m -> m.getKind().label()).setHeader("Kind").setWidth("110px").setFlexGrow(0).setSortable(true);
+		grid.addColumn(CPerfMetric::getName).setHeader("Name").setFlexGrow(3).setSortable(true);
+		grid.addColumn(m -> m.getHistogram().getCount()).setHeader("Count").setWidth("100px").setFlexGrow(0).setSortable(true);
+		grid.addColumn(m -> millis(m.getHistogram().percentileMicros(0.50))).setHeader("p50 ms").setWidth("100px").setFlexGrow(0)
+				.setComparator(m -> m.getHistogram().percentileMicros(0.50));
+		grid.addColumn(m -> millis(m.getHistogram().percentileMicros(0.95))).setHeader("p95 ms").setWidth("100px").setFlexGrow(0)
+				.setComparator(m -> m.getHistogram().percentileMicros(0.95));
+		grid.addColumn(m -> millis(m.getHistogram().percentileMicros(0.99))).setHeader("p99 ms").setWidth("100px").setFlexGrow(0)
+				.setComparator(m -> m.getHistogram().percentileMicros(0.99));
+		grid.addColumn(m -> millis(m.getHistogram().getMaxMicros())).setHeader("Max ms").setWidth("100px").setFlexGrow(0)
+				.setComparator(m -> m.getHistogram().getMaxMicros());
+		grid.asSingleSelect().addValueChangeListener(e -> showSlowest(e.getValue()));
+		return grid;
+	}
+
+	private Grid<RPerfSample> buildSlowestGrid() {
+		final Grid<RPerfSample> grid = new Grid<>(RPerfSample.class, false);
+		grid.setWidthFull();
+		grid.setMaxHeight("260px");
+		grid.addColumn(s -> millis(s.micros())).setHeader("ms").setWidth("100px").setFlexGrow(0);
+		grid.addColumn(RPerfSample::caller).setHeader("Caller").setFlexGrow(3);
+		grid.addColumn(s -> FINISHED_AT.format(Instant.ofEpochMilli(s.finishedAtMs()))).setHeader("Finished").setWidth("180px").setFlexGrow(0);
+		return grid;
+	}
+
+	@Override
+	public String getPageTitle() { return VIEW_NAME; }
+
+	@Override
+	protected void initPage() {
+		addClassNames(LumoUtility.Padding.MEDIUM);
+		final VerticalLayout content = new VerticalLayout();
+		content.setSizeFull();
+		content.setPadding(false);
+		content.setSpacing(true);
+		final Paragraph subtitle = new Paragraph("Latency since start or the last reset. Percentiles are accurate to about 3%. Prometheus scrapes the same "
+				+ "histograms from " + CPerfMetricsController.METRICS_PATH + ". Select a row to see its slowest calls.");
+		subtitle.addClassNames(LumoUtility.TextColor.SECONDARY, LumoUtility.FontSize.SMALL);
+		gridMetrics = buildMetricsGrid();
+		gridSlowest = buildSlowestGrid();
+		titleSlowest = new H3("Slowest calls");
+		titleSlowest.addClassNames(LumoUtility.FontSize.MEDIUM, LumoUtility.Margin.Top.MEDIUM);
+		content.add(new H2(VIEW_NAME), subtitle, buildActionBar(), gridMetrics, titleSlowest, gridSlowest);
+		content.setFlexGrow(1, gridMetrics);
+		add(content);
+	}
+
+	private void refresh() {
+		final CPerfMetric selected = gridMetrics.asSingleSelect().getValue();
+		final List<CPerfMetric> metrics = CPerfLatencyRegistry.getMetrics();
+		gridMetrics.setItems(metrics);
+		// Metric objects survive a refresh unless the registry was reset, so the selection can be kept.
+		if (selected != null && metrics.contains(selected)) {
+			gridMetrics.asSingleSelect().setValue(selected);
+		}
+		showSlowest(gridMetrics.asSingleSelect().getValue());
+	}
+
+	@Override
+	protected void setupToolbar() { /* actions are in the page */ }
+
+	private void showSlowest(final CPerfMetric metric) {
+		if (metric == null) {
+			titleSlowest.setText("Slowest calls");
+			gridSlowest.setItems(List.of());
+			return;
+		}
+		titleSlowest.setText("Slowest calls of " + metric.getKind().label() + " " + metric.getName());
+		gridSlowest.setItems(metric.getSlowest());
+	}
+}
@@ -7,9 +7,11 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import tech.derbent.api.config.CSpringContext;
+import tech.derbent.api.startup.CStartupReport;
+import tech.derbent.api.startup.CStartupReport.EOutcome;
 
 /** Initializes the entity registry at application startup. This class registers all entities, services, and their metadata. Order is set to run early
- * in the startup process. */
+ * in the startup process; the duration is recorded as the {@code entity-registry} phase of {@link CStartupReport}. */
 @Component
 @Order (1)
 public class CEntityRegistryInitializer implements CommandLineRunner {
@@ -35,13 +37,16 @@ public class CEntityRegistryInitializer implements CommandLineRunner {
 	@Override
 	public void run(final String... args) throws Exception {
 		LOGGER.info("Initializing entity registry...");
+		final long start = System.nanoTime();
 		try {
 			registerAll();
 			// print all registered entities for debug
 			// CEntityRegistry.print();
 			CEntityRegistry.markInitialized();
+			CStartupReport.recordPhase("entity-registry", start, EOutcome.OK);
 			// LOGGER.info("Entity registry initialized successfully with {} entities", CEntityRegistry.getRegisteredCount());
 		} catch (final Exception e) {
+			CStartupReport.recordPhase("entity-registry", start, EOutcome.FAILED);
 			LOGGER.error("Failed to initialize entity registry reason={}", e.getMessage());
 			throw e;
 		}
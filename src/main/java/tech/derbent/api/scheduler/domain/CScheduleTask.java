@@ -18,6 +18,8 @@ import tech.derbent.api.entityOfCompany.domain.CEntityOfCompany;
  * Enterprise scheduler for periodic tasks including:
  * <ul>
  * <li>Email processing (action="PROCESS_EMAIL_QUEUE")</li>
+ * <li>Daily sprint burndown snapshots (action="SNAPSHOT_SPRINT_METRICS")</li>
+ * <li>Attachment storage migration and orphan collection (action="MAINTAIN_ATTACHMENT_STORAGE")</li>
  * <li>Data cleanup tasks</li>
  * <li>Report generation</li>
  * <li>Custom automated workflows</li>
@@ -29,7 +31,10 @@ import tech.derbent.api.entityOfCompany.domain.CEntityOfCompany;
 @AttributeOverride(name = "id", column = @Column(name = "schedule_task_id"))
 public class CScheduleTask extends CEntityOfCompany<CScheduleTask> implements Serializable {
 
+	public static final String ACTION_MAINTAIN_ATTACHMENT_STORAGE = "MAINTAIN_ATTACHMENT_STORAGE";
 	public static final String ACTION_PROCESS_EMAIL_QUEUE = "PROCESS_EMAIL_QUEUE";
+	public static final String ACTION_REBUILD_SEARCH_INDEX = "REBUILD_SEARCH_INDEX";
+	public static final String ACTION_SNAPSHOT_SPRINT_METRICS = "SNAPSHOT_SPRINT_METRICS";
 	public static final String DEFAULT_COLOR = "#FF9800";
 	public static final String DEFAULT_ICON = "vaadin:clock";
 	public static final String ENTITY_TITLE_PLURAL = "Schedule Tasks";
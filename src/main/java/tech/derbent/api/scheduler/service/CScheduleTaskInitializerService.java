@@ -10,11 +10,14 @@ import tech.derbent.api.entityOfCompany.service.CEntityOfCompanyInitializerServi
 import tech.derbent.api.page.service.CPageEntityService;
 import tech.derbent.api.projects.domain.CProject;
 import tech.derbent.api.scheduler.domain.CScheduleTask;
+import tech.derbent.api.search.service.CSearchIndexService;
 import tech.derbent.api.screens.domain.CDetailSection;
 import tech.derbent.api.screens.domain.CGridEntity;
 import tech.derbent.api.screens.service.CDetailLinesService;
 import tech.derbent.api.screens.service.CDetailSectionService;
 import tech.derbent.api.screens.service.CGridEntityService;
+import tech.derbent.plm.attachments.service.CAttachmentService;
+import tech.derbent.plm.sprints.service.CSprintMetricsService;
 
 @Service
 public final class CScheduleTaskInitializerService extends CEntityOfCompanyInitializerService {
@@ -78,6 +81,30 @@ public final class CScheduleTaskInitializerService extends CEntityOfCompanyIniti
 		service.calculateNextRun(task);
 		service.save(task);
 		LOGGER.info("Created sample task: {}", task.getName());
+		if (CSpringContext.containsBean(CSprintMetricsService.class)) {
+			task = new CScheduleTask("Sprint Burndown Snapshot", "0 5 0 * * *", CScheduleTask.ACTION_SNAPSHOT_SPRINT_METRICS, company);
+			task.setDescription("Records the daily burndown snapshot of running sprints shortly after midnight");
+			task = service.save(task);
+			service.calculateNextRun(task);
+			service.save(task);
+			LOGGER.info("Created sample task: {}", task.getName());
+		}
+		if (CSpringContext.containsBean(CSearchIndexService.class)) {
+			task = new CScheduleTask("Search Index Rebuild", "0 30 3 * * SUN", CScheduleTask.ACTION_REBUILD_SEARCH_INDEX, company);
+			task.setDescription("Re-indexes all project items weekly, picking up data written around the services");
+			task = service.save(task);
+			service.calculateNextRun(task);
+			service.save(task);
+			LOGGER.info("Created sample task: {}", task.getName());
+		}
+		if (CSpringContext.containsBean(CAttachmentService.class)) {
+			task = new CScheduleTask("Attachment Storage Maintenance", "0 15 4 * * *", CScheduleTask.ACTION_MAINTAIN_ATTACHMENT_STORAGE, company);
+			task.setDescription("Moves attachment files into the deduplicating store and deletes files no attachment references");
+			task = service.save(task);
+			service.calculateNextRun(task);
+			service.save(task);
+			LOGGER.info("Created sample task: {}", task.getName());
+		}
 		if (minimal) {
 			return;
 		}
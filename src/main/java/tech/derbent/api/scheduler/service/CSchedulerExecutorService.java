@@ -6,8 +6,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tech.derbent.api.config.CSpringContext;
 import tech.derbent.api.email.service.CEmailQueuedService;
 import tech.derbent.api.scheduler.domain.CScheduleTask;
+import tech.derbent.api.search.service.CSearchIndexService;
+import tech.derbent.plm.attachments.service.CAttachmentService;
+import tech.derbent.plm.sprints.service.CSprintMetricsService;
 
 /** CSchedulerExecutorService - Background task executor service.
  * <p>
@@ -45,9 +49,23 @@ public class CSchedulerExecutorService {
 		LOGGER.info("Executing task: {} (action: {})", task.getName(), task.getAction());
 		try {
 			switch (task.getAction()) {
+			case CScheduleTask.ACTION_MAINTAIN_ATTACHMENT_STORAGE: {
+				// Storage is shared by all companies, so each run covers every attachment
+				final CAttachmentService attachmentService = CSpringContext.getBean(CAttachmentService.class);
+				attachmentService.migrateStoredFiles();
+				attachmentService.collectOrphanedFiles();
+				break;
+			}
 			case CScheduleTask.ACTION_PROCESS_EMAIL_QUEUE:
 				emailQueuedService.processQueue();
 				break;
+			case CScheduleTask.ACTION_REBUILD_SEARCH_INDEX:
+				CSpringContext.getBean(CSearchIndexService.class).rebuildIndex(task.getCompany());
+				break;
+			case CScheduleTask.ACTION_SNAPSHOT_SPRINT_METRICS:
+				// Looked up per run: sprint services exist only in the Derbent profile
+				CSpringContext.getBean(CSprintMetricsService.class).snapshotSprints(task.getCompany());
+				break;
 			default:
 				LOGGER.warn("Unknown action: {}", task.getAction());
 				task.setLastError("Unknown action: " + task.getAction());
@@ -2,9 +2,12 @@ package tech.derbent.api.screens.service;
 
 import java.lang.reflect.Field;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +33,10 @@ import tech.derbent.api.utils.Check;
 public class CDetailLinesService extends CAbstractService<CDetailLines> implements IOrderedEntityService<CDetailLines> {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CDetailLinesService.class);
+	private static final Pageable NEAREST = PageRequest.of(0, 1);
+	/** Line orders are shown to the user and limited to 1-999, so lines are spaced by ten. */
+	private static final CSparseOrder SPARSE_ORDER = new CSparseOrder(10, 999);
+	private static final Pageable TWO_NEAREST = PageRequest.of(0, 2);
 
 	public static CDetailLines createLineFromDefaults(final Class<?> entityClass, final String fieldName) throws NoSuchFieldException {
 		try {
@@ -131,11 +138,23 @@ public class CDetailLinesService extends CAbstractService<CDetailLines> implemen
 	@Override
 	protected Class<CDetailLines> getEntityClass() { return CDetailLines.class; }
 
-	/** Get the next item order number for new items in a section.
+	/** Get the order key for a line appended to a section. Compacts the section once when it has reached the maximum key.
 	 * @param master the detail section
-	 * @return the next available order number */
+	 * @return the order key after the last line */
+	@Transactional
 	public Integer getNextItemOrder(final CDetailSection master) {
-		return getTypedRepository().getNextItemOrder(master);
+		Check.notNull(master, "Master cannot be null");
+		if (master.getId() == null) {
+			return SPARSE_ORDER.getGap();
+		}
+		Integer order = SPARSE_ORDER.after(getTypedRepository().findMaxItemOrder(master));
+		if (order == null) {
+			final List<CDetailLines> lines = findByMaster(master);
+			SPARSE_ORDER.rebalance(lines).forEach(this::save);
+			order = SPARSE_ORDER.after(lines.get(lines.size() - 1).getItemOrder());
+		}
+		Check.notNull(order, "No line order left in section " + master.getName());
+		return order;
 	}
 
 	/** Get the typed repository for this service.
@@ -160,64 +179,64 @@ public class CDetailLinesService extends CAbstractService<CDetailLines> implemen
 		final CDetailLines newLine = new CDetailLines(master, relationFieldName, entityProperty);
 		newLine.setMaxLength(255); // Default max length for text fields
 		newLine.setActive(true);
-		// Get all lines for this master
-		final List<CDetailLines> lines = findByMaster(master);
-		// Shift all lines at or after the insert position down by 1
-		lines.stream().filter((final CDetailLines line) -> line.getItemOrder() >= beforePosition).forEach((final CDetailLines line) -> {
-			line.setItemOrder(line.getItemOrder() + 1);
-			save(line);
-		});
-		// Set the new line at the insert position
-		newLine.setItemOrder(beforePosition);
+		// Take a key between the previous line and the insert position; existing lines are not touched
+		final List<Integer> below = getTypedRepository().findItemOrdersBelow(master, beforePosition, null, NEAREST);
+		final Integer order = SPARSE_ORDER.between(below.isEmpty() ? null : below.get(0), beforePosition);
+		if (order != null) {
+			newLine.setItemOrder(order);
+			return newLine;
+		}
+		// No key left before the position: renumber the section once with the new line in place
+		final List<CDetailLines> lines = new ArrayList<>(findByMaster(master));
+		int index = 0;
+		while (index < lines.size() && lines.get(index).getItemOrder() < beforePosition) {
+			index++;
+		}
+		lines.add(index, newLine);
+		SPARSE_ORDER.rebalance(lines).stream().filter(line -> line != newLine).forEach(this::save);
 		return newLine;
 	}
 
 	@Override
+	@Transactional
 	public void moveItemDown(final CDetailLines childItem) {
 		if (childItem == null) {
-			LOGGER.warn("Cannot move down - sprint item or sprint is null");
+			LOGGER.warn("Cannot move down - item is null");
 			return;
 		}
-		final List<CDetailLines> items = findByMaster(childItem.getDetailSection());
-		for (int i = 0; i < items.size(); i++) {
-			if (items.get(i).getId().equals(childItem.getId()) && i < items.size() - 1) {
-				// Swap orders
-				final CDetailLines nextLine = items.get(i + 1);
-				final Integer currentOrder = childItem.getItemOrder();
-				final Integer nextOrder = nextLine.getItemOrder();
-				childItem.setItemOrder(nextOrder);
-				nextLine.setItemOrder(currentOrder);
-				save(childItem);
-				save(nextLine);
-				break;
-			}
+		final CDetailSection master = childItem.getDetailSection();
+		final List<Integer> above = getTypedRepository().findItemOrdersAbove(master, childItem.getItemOrder(), childItem.getId(), TWO_NEAREST);
+		if (above.isEmpty()) {
+			return;
 		}
+		final Integer order = SPARSE_ORDER.between(above.get(0), above.size() > 1 ? above.get(1) : null);
+		if (order != null) {
+			childItem.setItemOrder(order);
+			save(childItem);
+			return;
+		}
+		placeByRebalance(childItem, 1);
 	}
 
 	@Override
+	@Transactional
 	public void moveItemUp(final CDetailLines childItem) {
 		if (childItem == null) {
 			LOGGER.warn("Cannot move up - item is null");
 			return;
 		}
-		if (childItem.getItemOrder() <= 1) {
+		final CDetailSection master = childItem.getDetailSection();
+		final List<Integer> below = getTypedRepository().findItemOrdersBelow(master, childItem.getItemOrder(), childItem.getId(), TWO_NEAREST);
+		if (below.isEmpty()) {
 			return;
 		}
-		// Find the line with the previous order
-		final List<CDetailLines> lines = findByMaster(childItem.getDetailSection());
-		for (int i = 0; i < lines.size(); i++) {
-			if (lines.get(i).getId().equals(childItem.getId()) && i > 0) {
-				// Swap orders
-				final CDetailLines previousLine = lines.get(i - 1);
-				final Integer currentOrder = childItem.getItemOrder();
-				final Integer previousOrder = previousLine.getItemOrder();
-				childItem.setItemOrder(previousOrder);
-				previousLine.setItemOrder(currentOrder);
-				save(childItem);
-				save(previousLine);
-				break;
-			}
+		final Integer order = SPARSE_ORDER.between(below.size() > 1 ? below.get(1) : null, below.get(0));
+		if (order != null) {
+			childItem.setItemOrder(order);
+			save(childItem);
+			return;
 		}
+		placeByRebalance(childItem, -1);
 	}
 
 	/** Create a new entity for the master section.
@@ -233,15 +252,30 @@ public class CDetailLinesService extends CAbstractService<CDetailLines> implemen
 		return detailLine;
 	}
 
-	/** Reorder all lines for a master section to ensure sequential numbering.
+	/** Slow path of a move once the neighbours leave no key: renumbers the section with the line shifted by one position and saves only the
+	 * lines whose key changed.
+	 * @param line  the line to move
+	 * @param shift -1 to move up, 1 to move down */
+	private void placeByRebalance(final CDetailLines line, final int shift) {
+		final List<CDetailLines> lines = new ArrayList<>(findByMaster(line.getDetailSection()));
+		int index = 0;
+		while (index < lines.size() && !lines.get(index).getId().equals(line.getId())) {
+			index++;
+		}
+		if (index == lines.size()) {
+			return;
+		}
+		lines.remove(index);
+		lines.add(Math.max(0, Math.min(index + shift, lines.size())), line);
+		final List<CDetailLines> changed = SPARSE_ORDER.rebalance(lines);
+		LOGGER.debug("Rebalanced detail line orders: {} of {} changed", changed.size(), lines.size());
+		changed.forEach(this::save);
+	}
+
+	/** Reorder all lines for a master section to evenly spaced keys, saving only the lines whose key changed.
 	 * @param master the section to reorder lines for */
 	@Transactional
 	public void reorderLines(final CDetailSection master) {
-		final List<CDetailLines> lines = findByMaster(master);
-		for (int i = 0; i < lines.size(); i++) {
-			final CDetailLines line = lines.get(i);
-			line.setItemOrder(i + 1);
-			save(line);
-		}
+		SPARSE_ORDER.rebalance(findByMaster(master)).forEach(this::save);
 	}
 }
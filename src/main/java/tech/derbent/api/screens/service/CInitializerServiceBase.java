@@ -3,6 +3,8 @@ package tech.derbent.api.screens.service;
 import java.lang.reflect.Field;
 import java.util.function.Consumer;
 import java.util.function.ObjIntConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import tech.derbent.api.companies.domain.CCompany;
 import tech.derbent.api.config.CSpringContext;
 import tech.derbent.api.domains.CTypeEntity;
@@ -18,6 +20,7 @@ import tech.derbent.api.registry.CEntityRegistry;
 import tech.derbent.api.screens.domain.CDetailSection;
 import tech.derbent.api.screens.domain.CGridEntity;
 import tech.derbent.api.session.service.ISessionService;
+import tech.derbent.api.startup.CStartupFingerprintStore;
 import tech.derbent.api.utils.CAuxillaries;
 import tech.derbent.api.utils.CColorUtils;
 import tech.derbent.api.utils.Check;
@@ -25,6 +28,7 @@ import tech.derbent.api.workflow.service.IHasStatusAndWorkflow;
 
 public abstract class CInitializerServiceBase {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(CInitializerServiceBase.class);
 	protected static final String Menu_Order_CRM = "5";
 	protected static final String Menu_Order_DEVELOPMENT = "9999.";
 	protected static final String Menu_Order_FINANCE = "10";
@@ -150,8 +154,6 @@ public abstract class CInitializerServiceBase {
 		Check.notNull(gridEntityService, "gridEntityService cannot be null");
 		Check.notNull(detailSectionService, "detailSectionService cannot be null");
 		Check.notNull(pageEntityService, "pageEntityService cannot be null");
-		detailSectionService.save(detailSection);
-		gridEntityService.save(grid);
 		final CPageEntity page =
 				createPageEntity(clazz, project, grid, detailSection, menuTitle, pageTitle, pageDescription, order);
 		page.setAttributeShowInQuickToolbar(showInQuickToolbar);
@@ -159,7 +161,22 @@ public abstract class CInitializerServiceBase {
 		if (pageCustomizer != null) {
 			pageCustomizer.accept(page);
 		}
+		// Unchanged definitions that are already stored are not written again (see CStartupFingerprintStore)
+		final CStartupFingerprintStore fingerprintStore =
+				CSpringContext.containsBean(CStartupFingerprintStore.class) ? CSpringContext.getBean(CStartupFingerprintStore.class) : null;
+		final String fingerprintKey = "screen:" + clazz.getName() + ":" + project.getId();
+		final String fingerprint = CScreenDefinitionFingerprint.of(detailSection, grid, page);
+		if (fingerprintStore != null && fingerprintStore.matches(fingerprintKey, fingerprint)
+				&& pageEntityService.findByNameAndProject(page.getName(), project).isPresent()) {
+			LOGGER.debug("Screen definition of {} for project {} is unchanged, skipped", clazz.getSimpleName(), project.getId());
+			return;
+		}
+		detailSectionService.save(detailSection);
+		gridEntityService.save(grid);
 		pageEntityService.save(page);
+		if (fingerprintStore != null) {
+			fingerprintStore.record(fingerprintKey, fingerprint);
+		}
 	}
 
 	@SuppressWarnings ("unchecked")
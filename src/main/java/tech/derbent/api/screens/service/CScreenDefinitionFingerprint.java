@@ -0,0 +1,76 @@
+package tech.derbent.api.screens.service;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import tech.derbent.api.page.domain.CPageEntity;
+import tech.derbent.api.screens.domain.CDetailSection;
+import tech.derbent.api.screens.domain.CGridEntity;
+
+/** Content fingerprint of a screen definition: the SHA-256 of the values an initializer sets on the detail section with its lines, the grid and
+ * the page before they are saved.
+ * <p>
+ * RULE: each object contributes its name and the simple values (strings, numbers, booleans, enums and collections of them) declared by its own
+ * class; references to other entities, ids and audit fields are left out, so the fingerprint of an unchanged definition is the same in every
+ * run and every project. A new field on one of these classes changes every fingerprint once, which re-creates the screens.
+ * </p>
+ */
+final class CScreenDefinitionFingerprint {
+
+	private static final HexFormat HEX = HexFormat.of();
+
+	private static void appendFields(final StringBuilder content, final Object object) {
+		content.append('{').append(object.getClass().getSimpleName());
+		for (final Field field : object.getClass().getDeclaredFields()) {
+			if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+				continue;
+			}
+			try {
+				field.setAccessible(true);
+				final Object value = field.get(object);
+				if (isSimple(value)) {
+					content.append(';').append(field.getName()).append('=').append(value);
+				} else if (value instanceof final Collection<?> values) {
+					content.append(';').append(field.getName()).append("=[");
+					for (final Object element : values) {
+						if (isSimple(element)) {
+							content.append(element).append(',');
+						} else if (element != null) {
+							appendFields(content, element);
+						}
+					}
+					content.append(']');
+				}
+			} catch (final IllegalAccessException | RuntimeException e) {
+				throw new IllegalStateException("Cannot read " + object.getClass().getSimpleName() + "." + field.getName() + " for its fingerprint", e);
+			}
+		}
+		content.append('}');
+	}
+
+	private static boolean isSimple(final Object value) {
+		return value == null || value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Character
+				|| value instanceof Enum<?>;
+	}
+
+	static String of(final CDetailSection detailSection, final CGridEntity grid, final CPageEntity page) {
+		final StringBuilder content = new StringBuilder();
+		content.append(detailSection.getName());
+		appendFields(content, detailSection);
+		content.append(grid.getName());
+		appendFields(content, grid);
+		content.append(page.getName());
+		appendFields(content, page);
+		try {
+			return HEX.formatHex(MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	private CScreenDefinitionFingerprint() {}
+}
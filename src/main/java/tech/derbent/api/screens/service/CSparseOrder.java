@@ -0,0 +1,81 @@
+package tech.derbent.api.screens.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import tech.derbent.api.utils.Check;
+
+/** CSparseOrder - Gap-based item order keys for {@link IOrderedEntity} lists.
+ * <p>
+ * WHY: with dense orders (1..n) every insert or move renumbered and saved all siblings. Orders are now spaced by a gap, so a moved or inserted
+ * item takes a key between its new neighbours and only that row is written.
+ * </p>
+ * <p>
+ * RULE: {@link #between(Integer, Integer)} and {@link #after(Integer)} return {@code null} when no key is left; the caller then renumbers the
+ * list once with {@link #rebalance(List)} and saves the returned items. Keys are always &gt;= 1, so existing "order at least 1" validation still
+ * holds. Dense legacy orders are valid input; the first move into them rebalances.
+ * </p>
+ */
+public final class CSparseOrder {
+
+	private final int gap;
+	private final int maxOrder;
+
+	/** @param gap      spacing of appended and rebalanced items
+	 * @param maxOrder highest allowed key (column or validation limit) */
+	public CSparseOrder(final int gap, final int maxOrder) {
+		Check.isTrue(gap >= 1, "Order gap must be at least 1");
+		Check.isTrue(maxOrder >= gap, "Maximum order must not be below the gap");
+		this.gap = gap;
+		this.maxOrder = maxOrder;
+	}
+
+	/** Key for an item appended after the last one.
+	 * @param lastOrder highest key of the list, {@code null} for an empty list
+	 * @return the key, or {@code null} when the list has reached the maximum */
+	public Integer after(final Integer lastOrder) {
+		final long next = (lastOrder == null ? 0L : lastOrder.longValue()) + gap;
+		if (next <= maxOrder) {
+			return (int) next;
+		}
+		// Close to the ceiling: take the middle of what is left rather than failing right away.
+		return between(lastOrder, null);
+	}
+
+	/** Key strictly between two neighbours.
+	 * @param beforeOrder key of the previous item, {@code null} when inserting first
+	 * @param afterOrder  key of the next item, {@code null} when inserting last
+	 * @return the key, or {@code null} when the neighbours leave no gap */
+	public Integer between(final Integer beforeOrder, final Integer afterOrder) {
+		final long lower = beforeOrder == null ? 0L : beforeOrder.longValue();
+		if (afterOrder == null && lower + gap <= maxOrder) {
+			return (int) (lower + gap);
+		}
+		final long upper = afterOrder == null ? maxOrder + 1L : afterOrder.longValue();
+		if (upper - lower < 2) {
+			return null;
+		}
+		return (int) (lower + (upper - lower) / 2);
+	}
+
+	public int getGap() { return gap; }
+
+	/** Renumbers a list in its current order with the widest spacing that fits (at most the gap).
+	 * @param orderedItems items in their intended order; new items may be included
+	 * @return the items whose key changed, to be saved by the caller */
+	public <T extends IOrderedEntity> List<T> rebalance(final List<T> orderedItems) {
+		Check.notNull(orderedItems, "Items to rebalance cannot be null");
+		final long step = Math.min(gap, maxOrder / (orderedItems.size() + 1L));
+		Check.isTrue(step >= 1, "Too many items to order: " + orderedItems.size());
+		final List<T> changed = new ArrayList<>();
+		for (int index = 0; index < orderedItems.size(); index++) {
+			final T item = orderedItems.get(index);
+			final Integer order = (int) (step * (index + 1));
+			if (!Objects.equals(item.getItemOrder(), order)) {
+				item.setItemOrder(order);
+				changed.add(item);
+			}
+		}
+		return changed;
+	}
+}
@@ -1,6 +1,7 @@
 package tech.derbent.api.screens.service;
 
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import tech.derbent.api.entity.service.IAbstractRepository;
@@ -14,7 +15,7 @@ import tech.derbent.api.screens.domain.CDetailSection;
  * <li>{@code findByMaster(M master)} - Find all child entities by master/parent entity</li>
  * <li>{@code findActiveByMaster(M master)} - Find active child entities by master/parent</li>
  * <li>{@code countByMaster(M master)} - Count child entities by master/parent entity</li>
- * <li>{@code getNextItemOrder(M master)} - Get next order number for new items</li>
+ * <li>{@code findMaxItemOrder(M master)} - Highest order key, the base of the next one</li>
  * </ul>
  */
 public interface IDetailLinesRepository extends IAbstractRepository<CDetailLines> {
@@ -29,11 +30,31 @@ public interface IDetailLinesRepository extends IAbstractRepository<CDetailLines
 	 * @return list of detail lines ordered by itemOrder ascending */
 	@Query ("SELECT e FROM #{#entityName} e LEFT JOIN FETCH e.detailSection WHERE e.detailSection = :master ORDER BY e.itemOrder ASC")
 	List<CDetailLines> findByMaster(@Param ("master") CDetailSection master);
-	/** Get the next item order number for new items in a section.
+	/** Order keys above a key in a section, nearest first.
+	 * @param master     the detail section
+	 * @param order      the reference key
+	 * @param excludedId line to ignore (the one being moved), may be null
+	 * @param limit      how many keys to return
+	 * @return ascending keys greater than order */
+	@Query ("SELECT e.itemOrder FROM #{#entityName} e WHERE e.detailSection = :master AND e.itemOrder > :order "
+			+ "AND (:excludedId IS NULL OR e.id <> :excludedId) ORDER BY e.itemOrder ASC")
+	List<Integer> findItemOrdersAbove(@Param ("master") CDetailSection master, @Param ("order") Integer order,
+			@Param ("excludedId") Long excludedId, Pageable limit);
+	/** Order keys below a key in a section, nearest first.
+	 * @param master     the detail section
+	 * @param order      the reference key
+	 * @param excludedId line to ignore (the one being moved), may be null
+	 * @param limit      how many keys to return
+	 * @return descending keys smaller than order */
+	@Query ("SELECT e.itemOrder FROM #{#entityName} e WHERE e.detailSection = :master AND e.itemOrder < :order "
+			+ "AND (:excludedId IS NULL OR e.id <> :excludedId) ORDER BY e.itemOrder DESC")
+	List<Integer> findItemOrdersBelow(@Param ("master") CDetailSection master, @Param ("order") Integer order,
+			@Param ("excludedId") Long excludedId, Pageable limit);
+	/** Highest order key in a section.
 	 * @param master the detail section
-	 * @return the next available order number */
-	@Query ("SELECT COALESCE(MAX(e.itemOrder), 0) + 1 FROM #{#entityName} e WHERE e.detailSection = :master")
-	Integer getNextItemOrder(@Param ("master") CDetailSection master);
+	 * @return the highest key, null for an empty section */
+	@Query ("SELECT MAX(e.itemOrder) FROM #{#entityName} e WHERE e.detailSection = :master")
+	Integer findMaxItemOrder(@Param ("master") CDetailSection master);
 
 	/** Find a detail line by its parent section and entity property (used for upsert during Excel import). */
 	@Query ("SELECT e FROM #{#entityName} e WHERE e.detailSection = :section AND e.entityProperty = :entityProperty")
@@ -0,0 +1,92 @@
+package tech.derbent.api.search.domain;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import tech.derbent.api.annotations.AMetaData;
+import tech.derbent.api.entity.domain.CEntityDB;
+import tech.derbent.api.utils.Check;
+
+/** CSearchDocument - One indexed project item (activity, issue, ticket, requirement, risk, meeting, ...) in the full-text search index.
+ * <p>
+ * WHY: the index refers to items polymorphically (entity type + id) like links do, so one search covers every project item type. Company and
+ * project are copied here so a search is tenant-scoped without joining the item tables.
+ * </p>
+ * <p>
+ * RULE: one row per item; written only by CSearchIndexService.
+ * </p>
+ */
+@Entity
+@Table (name = "csearch_document", uniqueConstraints = @UniqueConstraint (columnNames = {
+		"entity_type", "entity_id"
+}), indexes = {
+		@Index (name = "idx_csearch_document_company_project", columnList = "company_id, project_id")
+})
+@AttributeOverride (name = "id", column = @Column (name = "search_document_id"))
+public class CSearchDocument extends CEntityDB<CSearchDocument> {
+
+	public static final String DEFAULT_COLOR = "#607D8B";
+	public static final String DEFAULT_ICON = "vaadin:search";
+	public static final String ENTITY_TITLE_PLURAL = "Search Documents";
+	public static final String ENTITY_TITLE_SINGULAR = "Search Document";
+	public static final String VIEW_NAME = "Search Documents View";
+	@Column (name = "company_id", nullable = false)
+	@AMetaData (displayName = "Company", required = true, readOnly = true, description = "Company of the indexed item", hidden = true)
+	private Long companyId;
+	@Column (name = "entity_id", nullable = false)
+	@AMetaData (displayName = "Entity ID", required = true, readOnly = true, description = "ID of the indexed item", hidden = false)
+	private Long entityId;
+	@Column (name = "entity_type", nullable = false, length = 100)
+	@AMetaData (displayName = "Entity Type", required = true, readOnly = true, description = "Class name of the indexed item", hidden = false)
+	private String entityType;
+	@Column (name = "indexed_at")
+	@AMetaData (displayName = "Indexed At", required = false, readOnly = true, description = "When the item was last indexed", hidden = false)
+	private LocalDateTime indexedAt;
+	@Column (name = "project_id")
+	@AMetaData (displayName = "Project", required = false, readOnly = true, description = "Project of the indexed item", hidden = true)
+	private Long projectId;
+	@Column (name = "title", length = 255)
+	@AMetaData (displayName = "Title", required = false, readOnly = true, description = "Name of the item at indexing time", hidden = false)
+	private String title;
+
+	/** Default constructor for JPA. */
+	protected CSearchDocument() {}
+
+	public CSearchDocument(final String entityType, final Long entityId) {
+		super(CSearchDocument.class);
+		Check.notBlank(entityType, "Entity type cannot be blank for a search document");
+		Check.notNull(entityId, "Entity ID cannot be null for a search document");
+		this.entityType = entityType;
+		this.entityId = entityId;
+	}
+
+	public Long getCompanyId() { return companyId; }
+
+	public Long getEntityId() { return entityId; }
+
+	public String getEntityType() { return entityType; }
+
+	public LocalDateTime getIndexedAt() { return indexedAt; }
+
+	public Long getProjectId() { return projectId; }
+
+	public String getTitle() { return title; }
+
+	/** Updates the copied item data; the terms are replaced separately. */
+	public void setIndexedData(final Long companyId, final Long projectId, final String title, final LocalDateTime indexedAt) {
+		Check.notNull(companyId, "Company ID cannot be null for a search document");
+		this.companyId = companyId;
+		this.projectId = projectId;
+		this.title = title != null && title.length() > 255 ? title.substring(0, 255) : title;
+		this.indexedAt = indexedAt;
+	}
+
+	@Override
+	public String toString() {
+		return "CSearchDocument{%s#%d, title=%s}".formatted(entityType, entityId, title);
+	}
+}
@@ -0,0 +1,65 @@
+package tech.derbent.api.search.domain;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import tech.derbent.api.annotations.AMetaData;
+import tech.derbent.api.entity.domain.CEntityDB;
+import tech.derbent.api.utils.Check;
+
+/** CSearchTerm - Posting of the search index: one normalized term of one document with its weight.
+ * <p>
+ * RULE: the (term, document) index serves exact lookups, the document index the re-index deletes and the joins to the document. Prefix
+ * lookups use the {@code varchar_pattern_ops} index of {@link tech.derbent.api.migration.CMigrationV4SearchTermIndexes} on PostgreSQL. The
+ * weight is the sum of the weights of the fields the term occurs in (name above description above attachment names above comments).
+ * </p>
+ */
+@Entity
+@Table (name = "csearch_term", indexes = {
+		@Index (name = "idx_csearch_term_term_document", columnList = "term, search_document_id"),
+		@Index (name = "idx_csearch_term_document", columnList = "search_document_id")
+})
+@AttributeOverride (name = "id", column = @Column (name = "search_term_id"))
+public class CSearchTerm extends CEntityDB<CSearchTerm> {
+
+	public static final String DEFAULT_COLOR = "#607D8B";
+	public static final String DEFAULT_ICON = "vaadin:search";
+	public static final String ENTITY_TITLE_PLURAL = "Search Terms";
+	public static final String ENTITY_TITLE_SINGULAR = "Search Term";
+	public static final String VIEW_NAME = "Search Terms View";
+	@ManyToOne (fetch = FetchType.LAZY)
+	@JoinColumn (name = "search_document_id", nullable = false)
+	@AMetaData (displayName = "Document", required = true, readOnly = true, description = "The indexed item", hidden = false)
+	private CSearchDocument document;
+	@Column (name = "term", nullable = false, length = 64)
+	@AMetaData (displayName = "Term", required = true, readOnly = true, description = "Normalized term", hidden = false)
+	private String term;
+	@Column (name = "weight", nullable = false)
+	@AMetaData (displayName = "Weight", required = true, readOnly = true, description = "Relevance weight of the term", hidden = false)
+	private Integer weight = 1;
+
+	/** Default constructor for JPA. */
+	protected CSearchTerm() {}
+
+	public CSearchTerm(final CSearchDocument document, final String term, final int weight) {
+		super(CSearchTerm.class);
+		Check.notNull(document, "Document cannot be null for a search term");
+		Check.notBlank(term, "Term cannot be blank");
+		this.document = document;
+		this.term = term;
+		this.weight = weight;
+	}
+
+	public CSearchDocument getDocument() { return document; }
+
+	public String getTerm() { return term; }
+
+	public Integer getWeight() { return weight; }
+
+	public void setWeight(final Integer weight) { this.weight = weight; }
+}
@@ -0,0 +1,272 @@
+package tech.derbent.api.search.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.EntityType;
+import tech.derbent.api.companies.domain.CCompany;
+import tech.derbent.api.entityOfProject.domain.CProjectItem;
+import tech.derbent.api.search.domain.CSearchDocument;
+import tech.derbent.api.search.domain.CSearchTerm;
+import tech.derbent.api.session.service.ISessionService;
+import tech.derbent.api.utils.CPageableUtils;
+import tech.derbent.api.utils.Check;
+import tech.derbent.plm.attachments.domain.CAttachment;
+import tech.derbent.plm.attachments.domain.IHasAttachments;
+import tech.derbent.plm.comments.domain.CComment;
+import tech.derbent.plm.comments.domain.IHasComments;
+
+/** CSearchIndexService - Full-text search over all project items (activities, issues, tickets, requirements, risks, meetings, ...), including
+ * their comments and attachment names.
+ * <p>
+ * WHY: search used to filter the loaded rows of one grid in memory (ISearchable / matchesFilter), so finding an item meant knowing its type and
+ * opening its page. Project items are now indexed on every save through CProjectItemService into an inverted index (CSearchDocument,
+ * CSearchTerm) that one query can search across all types, ranked and paged in the database.
+ * </p>
+ * <p>
+ * RULE: every query word must match (the last one as a prefix, so typing narrows results); results are ranked by the summed term weights and
+ * always limited to the active company. The index lives in plain tables so it behaves the same on H2 and PostgreSQL.
+ * </p>
+ */
+@Profile ({
+		"derbent", "default"
+})
+@Service
+public class CSearchIndexService {
+
+	/** One ranked search result. */
+	public record CSearchHit(String entityType, Long entityId, Long projectId, String title, long score) {}
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CSearchIndexService.class);
+	private static final int REBUILD_BATCH_SIZE = 200;
+	static final int WEIGHT_ATTACHMENT = 3;
+	static final int WEIGHT_COMMENT = 1;
+	static final int WEIGHT_DESCRIPTION = 2;
+	static final int WEIGHT_NAME = 8;
+
+	/** Type name stored in the index; the class simple name, as used by links. */
+	public static String getEntityType(final Object entity) {
+		return Hibernate.getClass(entity).getSimpleName();
+	}
+
+	/** Weighted terms of a project item: name, description, attachment names and descriptions, comment texts. */
+	static Map<String, Integer> collectTerms(final CProjectItem<?, ?> item) {
+		final Map<String, Integer> terms = new LinkedHashMap<>();
+		CSearchTokenizer.addTerms(terms, item.getName(), WEIGHT_NAME);
+		CSearchTokenizer.addTerms(terms, item.getDescription(), WEIGHT_DESCRIPTION);
+		if (item instanceof final IHasAttachments withAttachments) {
+			for (final CAttachment attachment : withAttachments.getAttachments()) {
+				CSearchTokenizer.addTerms(terms, attachment.getFileName(), WEIGHT_ATTACHMENT);
+				CSearchTokenizer.addTerms(terms, attachment.getDescription(), WEIGHT_ATTACHMENT);
+			}
+		}
+		if (item instanceof final IHasComments withComments) {
+			for (final CComment comment : withComments.getComments()) {
+				CSearchTokenizer.addTerms(terms, comment.getCommentText(), WEIGHT_COMMENT);
+			}
+		}
+		return terms;
+	}
+
+	/** JPQL filter shared by the result and count queries: the document of {@code t} must contain every exact term and the prefix. */
+	static String buildMatchFilter(final int exactTermCount, final boolean projectScoped) {
+		final StringBuilder where = new StringBuilder("t.document.companyId = :companyId");
+		if (projectScoped) {
+			where.append(" AND t.document.projectId = :projectId");
+		}
+		where.append(" AND (t.term LIKE :prefix");
+		if (exactTermCount > 0) {
+			where.append(" OR t.term IN :terms");
+		}
+		where.append(')');
+		for (int i = 0; i < exactTermCount; i++) {
+			where.append(" AND t.document.id IN (SELECT t%1$d.document.id FROM CSearchTerm t%1$d WHERE t%1$d.term = :term%1$d)".formatted(i));
+		}
+		where.append(" AND t.document.id IN (SELECT tp.document.id FROM CSearchTerm tp WHERE tp.term LIKE :prefix)");
+		return where.toString();
+	}
+
+	private final Clock clock;
+	private final ISearchDocumentRepository documentRepository;
+	private final EntityManager entityManager;
+	private final ISessionService sessionService;
+	private final ISearchTermRepository termRepository;
+
+	public CSearchIndexService(final ISearchDocumentRepository documentRepository, final ISearchTermRepository termRepository,
+			final EntityManager entityManager, final ISessionService sessionService, final Clock clock) {
+		this.documentRepository = documentRepository;
+		this.termRepository = termRepository;
+		this.entityManager = entityManager;
+		this.sessionService = sessionService;
+		this.clock = clock;
+	}
+
+	private <T> void bindMatchParameters(final TypedQuery<T> query, final Long companyId, final Long projectId, final List<String> exactTerms,
+			final String prefix) {
+		query.setParameter("companyId", companyId);
+		if (projectId != null) {
+			query.setParameter("projectId", projectId);
+		}
+		query.setParameter("prefix", prefix + "%");
+		if (!exactTerms.isEmpty()) {
+			query.setParameter("terms", exactTerms);
+		}
+		for (int i = 0; i < exactTerms.size(); i++) {
+			query.setParameter("term" + i, exactTerms.get(i));
+		}
+	}
+
+	/** Indexes (or re-indexes) a project item. Unsaved items and items without a company are skipped.
+	 * @param item the saved item */
+	@Transactional
+	public void index(final CProjectItem<?, ?> item) {
+		Check.notNull(item, "Item cannot be null");
+		if (item.getId() == null || item.getProject() == null || item.getProject().getCompany() == null) {
+			return;
+		}
+		index(getEntityType(item), item.getId(), item.getProject().getCompany().getId(), item.getProject().getId(), item.getName(),
+				collectTerms(item));
+	}
+
+	/** Stores a document and its terms, touching only the terms that changed.
+	 * @return the stored document */
+	@Transactional
+	CSearchDocument index(final String entityType, final Long entityId, final Long companyId, final Long projectId, final String title,
+			final Map<String, Integer> terms) {
+		final CSearchDocument document =
+				documentRepository.findByEntity(entityType, entityId).orElseGet(() -> new CSearchDocument(entityType, entityId));
+		final boolean isNew = document.getId() == null;
+		document.setIndexedData(companyId, projectId, title, LocalDateTime.now(clock));
+		final CSearchDocument saved = documentRepository.save(document);
+		final Map<String, CSearchTerm> existing = new HashMap<>();
+		final List<CSearchTerm> obsolete = new ArrayList<>();
+		if (!isNew) {
+			for (final CSearchTerm term : termRepository.findByDocumentId(saved.getId())) {
+				if (terms.containsKey(term.getTerm()) && existing.putIfAbsent(term.getTerm(), term) == null) {
+					continue;
+				}
+				obsolete.add(term);
+			}
+		}
+		final List<CSearchTerm> changed = new ArrayList<>();
+		terms.forEach((term, weight) -> {
+			final CSearchTerm current = existing.get(term);
+			if (current == null) {
+				changed.add(new CSearchTerm(saved, term, weight));
+			} else if (!weight.equals(current.getWeight())) {
+				current.setWeight(weight);
+				changed.add(current);
+			}
+		});
+		if (!obsolete.isEmpty()) {
+			termRepository.deleteAll(obsolete);
+		}
+		if (!changed.isEmpty()) {
+			termRepository.saveAll(changed);
+		}
+		LOGGER.debug("Indexed {}#{}: {} terms, {} written, {} removed", entityType, entityId, terms.size(), changed.size(), obsolete.size());
+		return saved;
+	}
+
+	/** Re-indexes every project item of a company; used for data that existed before the index or was written around the services.
+	 * @param company the company
+	 * @return the number of indexed items */
+	@Transactional
+	public int rebuildIndex(final CCompany company) {
+		Check.notNull(company, "Company cannot be null");
+		int count = 0;
+		for (final EntityType<?> type : entityManager.getMetamodel().getEntities()) {
+			if (!CProjectItem.class.isAssignableFrom(type.getJavaType())) {
+				continue;
+			}
+			final String jpql = "SELECT e FROM " + type.getName() + " e WHERE e.project.company.id = :companyId ORDER BY e.id";
+			for (int first = 0;; first += REBUILD_BATCH_SIZE) {
+				final List<?> batch = entityManager.createQuery(jpql).setParameter("companyId", company.getId()).setFirstResult(first)
+						.setMaxResults(REBUILD_BATCH_SIZE).getResultList();
+				batch.forEach(item -> index((CProjectItem<?, ?>) item));
+				count += batch.size();
+				// Keep the persistence context small on large companies
+				entityManager.flush();
+				entityManager.clear();
+				if (batch.size() < REBUILD_BATCH_SIZE) {
+					break;
+				}
+			}
+		}
+		LOGGER.info("Rebuilt search index for company {}: {} items", company.getName(), count);
+		return count;
+	}
+
+	/** Removes an item from the index.
+	 * @param entityType the type name, see {@link #getEntityType(Object)}
+	 * @param entityId   the item ID */
+	@Transactional
+	public void remove(final String entityType, final Long entityId) {
+		Check.notBlank(entityType, "Entity type cannot be blank");
+		Check.notNull(entityId, "Entity ID cannot be null");
+		documentRepository.findByEntity(entityType, entityId).ifPresent(document -> {
+			termRepository.deleteByDocumentId(document.getId());
+			documentRepository.delete(document);
+		});
+	}
+
+	/** Searches the project items of the active company.
+	 * @param text      the search input; every word must match, the last one as a prefix
+	 * @param projectId limits the search to one project, null for all projects of the company
+	 * @param pageable  the page to return
+	 * @return hits ordered by relevance, empty when the input has no searchable word */
+	@Transactional (readOnly = true)
+	public Page<CSearchHit> search(final String text, final Long projectId, final Pageable pageable) {
+		final Pageable page = CPageableUtils.validateAndFix(pageable);
+		final List<String> words = CSearchTokenizer.tokenize(text);
+		if (words.isEmpty()) {
+			return Page.empty(page);
+		}
+		final Long companyId = sessionService.getActiveCompany()
+				.orElseThrow(() -> new IllegalStateException("No active company selected, cannot search")).getId();
+		final List<String> exactTerms = words.subList(0, words.size() - 1).stream().distinct().toList();
+		final String prefix = words.get(words.size() - 1);
+		final String filter = buildMatchFilter(exactTerms.size(), projectId != null);
+		final TypedQuery<Long> countQuery = entityManager.createQuery("SELECT COUNT(DISTINCT t.document.id) FROM CSearchTerm t WHERE " + filter,
+				Long.class);
+		bindMatchParameters(countQuery, companyId, projectId, exactTerms, prefix);
+		final long total = countQuery.getSingleResult();
+		if (total == 0) {
+			return Page.empty(page);
+		}
+		final TypedQuery<Object[]> rankQuery = entityManager.createQuery("SELECT t.document.id, SUM(t.weight) FROM CSearchTerm t WHERE " + filter
+				+ " GROUP BY t.document.id ORDER BY SUM(t.weight) DESC, t.document.id DESC", Object[].class);
+		bindMatchParameters(rankQuery, companyId, projectId, exactTerms, prefix);
+		rankQuery.setFirstResult((int) page.getOffset());
+		rankQuery.setMaxResults(page.getPageSize());
+		final List<Object[]> ranked = rankQuery.getResultList();
+		final Map<Long, CSearchDocument> documents = documentRepository.findByIds(ranked.stream().map(row -> (Long) row[0]).toList()).stream()
+				.collect(Collectors.toMap(CSearchDocument::getId, Function.identity()));
+		final List<CSearchHit> hits = new ArrayList<>();
+		for (final Object[] row : ranked) {
+			final CSearchDocument document = documents.get(row[0]);
+			if (document != null) {
+				hits.add(new CSearchHit(document.getEntityType(), document.getEntityId(), document.getProjectId(), document.getTitle(),
+						((Number) row[1]).longValue()));
+			}
+		}
+		return new PageImpl<>(hits, page, total);
+	}
+}
@@ -0,0 +1,61 @@
+package tech.derbent.api.search.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/** CSearchTokenizer - Turns entity text and search input into normalized index terms.
+ * <p>
+ * RULE: indexing and querying must normalize identically: lower case (root locale), accents stripped, split on anything that is not a letter or
+ * digit, terms of {@link #MIN_TERM_LENGTH} to {@link #MAX_TERM_LENGTH} characters, stop words dropped.
+ * </p>
+ */
+public final class CSearchTokenizer {
+
+	private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+	public static final int MAX_TERM_LENGTH = 64;
+	public static final int MIN_TERM_LENGTH = 2;
+	private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+	private static final Set<String> STOP_WORDS = Set.of("an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it", "of", "on",
+			"or", "the", "to", "with");
+
+	/** Adds the terms of one field to a term/weight map; a term found in several fields adds up the weight of each field once.
+	 * @param terms  the map to fill
+	 * @param text   the field text, may be null
+	 * @param weight the weight of the field */
+	public static void addTerms(final Map<String, Integer> terms, final String text, final int weight) {
+		for (final String term : new LinkedHashSet<>(tokenize(text))) {
+			terms.merge(term, weight, Integer::sum);
+		}
+	}
+
+	/** Normalizes free text: lower case, accents removed.
+	 * @param text the text, may be null
+	 * @return the normalized text, empty for null */
+	public static String normalize(final String text) {
+		if (text == null) {
+			return "";
+		}
+		return DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+	}
+
+	/** Splits text into index terms, keeping their order and repeats.
+	 * @param text the text, may be null
+	 * @return the terms, empty when the text has none */
+	public static List<String> tokenize(final String text) {
+		final List<String> terms = new ArrayList<>();
+		for (final String token : SEPARATORS.split(normalize(text))) {
+			if (token.length() >= MIN_TERM_LENGTH && token.length() <= MAX_TERM_LENGTH && !STOP_WORDS.contains(token)) {
+				terms.add(token);
+			}
+		}
+		return terms;
+	}
+
+	private CSearchTokenizer() {}
+}
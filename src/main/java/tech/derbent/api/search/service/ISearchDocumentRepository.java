@@ -0,0 +1,18 @@
+package tech.derbent.api.search.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import tech.derbent.api.entity.service.IAbstractRepository;
+import tech.derbent.api.search.domain.CSearchDocument;
+
+/** ISearchDocumentRepository - Repository interface for the documents of the full-text search index. */
+public interface ISearchDocumentRepository extends IAbstractRepository<CSearchDocument> {
+
+	@Query ("SELECT d FROM #{#entityName} d WHERE d.entityType = :entityType AND d.entityId = :entityId")
+	Optional<CSearchDocument> findByEntity(@Param ("entityType") String entityType, @Param ("entityId") Long entityId);
+	@Query ("SELECT d FROM #{#entityName} d WHERE d.id IN :ids")
+	List<CSearchDocument> findByIds(@Param ("ids") Collection<Long> ids);
+}
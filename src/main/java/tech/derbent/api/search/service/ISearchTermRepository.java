@@ -0,0 +1,20 @@
+package tech.derbent.api.search.service;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import tech.derbent.api.entity.service.IAbstractRepository;
+import tech.derbent.api.search.domain.CSearchTerm;
+
+/** ISearchTermRepository - Repository interface for the term postings of the full-text search index. */
+public interface ISearchTermRepository extends IAbstractRepository<CSearchTerm> {
+
+	@Modifying
+	@Transactional
+	@Query ("DELETE FROM #{#entityName} t WHERE t.document.id = :documentId")
+	void deleteByDocumentId(@Param ("documentId") Long documentId);
+	@Query ("SELECT t FROM #{#entityName} t WHERE t.document.id = :documentId")
+	List<CSearchTerm> findByDocumentId(@Param ("documentId") Long documentId);
+}
@@ -0,0 +1,115 @@
+package tech.derbent.api.search.view;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import com.vaadin.flow.component.checkbox.Checkbox;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.GridVariant;
+import com.vaadin.flow.component.icon.Icon;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import tech.derbent.api.config.CSpringContext;
+import tech.derbent.api.entity.domain.CEntityDB;
+import tech.derbent.api.page.view.CDynamicPageRouter;
+import tech.derbent.api.registry.CEntityRegistry;
+import tech.derbent.api.search.service.CSearchIndexService;
+import tech.derbent.api.search.service.CSearchIndexService.CSearchHit;
+import tech.derbent.api.session.service.ISessionService;
+import tech.derbent.api.ui.component.basic.CButton;
+import tech.derbent.api.ui.component.basic.CTextField;
+import tech.derbent.api.ui.dialogs.CDialog;
+import tech.derbent.api.ui.notifications.CNotificationService;
+import tech.derbent.api.utils.Check;
+
+/** CDialogSearch - One search box over all project items of the active company; results are ranked, loaded page by page as the grid scrolls,
+ * and a click opens the item's page. */
+public final class CDialogSearch extends CDialog {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CDialogSearch.class);
+	private static final long serialVersionUID = 1L;
+
+	private static String getTypeTitle(final CSearchHit hit) {
+		final Class<?> entityClass = CEntityRegistry.getEntityClass(hit.entityType());
+		return entityClass != null ? CEntityRegistry.getEntityTitleSingular(entityClass) : hit.entityType();
+	}
+
+	private final Checkbox currentProjectOnly = new Checkbox("Current project only");
+	private final Grid<CSearchHit> grid = new Grid<>(CSearchHit.class, false);
+	private final CTextField searchField = CTextField.createSearch("Search");
+	private final CSearchIndexService searchService;
+	private final ISessionService sessionService;
+
+	public CDialogSearch(final CSearchIndexService searchService, final ISessionService sessionService) {
+		super();
+		Check.notNull(searchService, "Search service cannot be null");
+		Check.notNull(sessionService, "Session service cannot be null");
+		this.searchService = searchService;
+		this.sessionService = sessionService;
+		setId("custom-search-dialog");
+		setWidth("720px");
+		try {
+			setupDialog();
+		} catch (final Exception e) {
+			LOGGER.error("Error setting up search dialog reason={}", e.getMessage());
+		}
+	}
+
+	@Override
+	public String getDialogTitleString() { return "Search"; }
+
+	@Override
+	protected Icon getFormIcon() { return VaadinIcon.SEARCH.create(); }
+
+	@Override
+	protected String getFormTitleString() { return "Search Project Items"; }
+
+	private void on_grid_itemClicked(final CSearchHit hit) {
+		try {
+			final Class<?> entityClass = CEntityRegistry.getEntityClass(hit.entityType());
+			Check.notNull(entityClass, "Unknown entity type " + hit.entityType());
+			final CEntityDB<?> entity = (CEntityDB<?>) CSpringContext.getServiceClass(entityClass).getById(hit.entityId()).orElse(null);
+			if (entity == null) {
+				CNotificationService.showWarning("The item no longer exists");
+				return;
+			}
+			close();
+			CDynamicPageRouter.navigateToEntity(entity);
+		} catch (final Exception e) {
+			CNotificationService.showException("Error opening search result", e);
+		}
+	}
+
+	private void refreshResults() {
+		final String text = searchField.getValue();
+		final Long projectId =
+				currentProjectOnly.getValue() ? sessionService.getActiveProject().map(project -> project.getId()).orElse(null) : null;
+		grid.setItems(query -> searchService.search(text, projectId, PageRequest.of(query.getPage(), query.getPageSize())).stream());
+	}
+
+	@Override
+	protected void setupButtons() {
+		buttonLayout.add(CButton.createCancelButton("Close", event -> close()));
+	}
+
+	@Override
+	protected void setupContent() {
+		searchField.setWidthFull();
+		searchField.setAutofocus(true);
+		searchField.setPrefixComponent(VaadinIcon.SEARCH.create());
+		searchField.addValueChangeListener(event -> refreshResults());
+		currentProjectOnly.setValue(true);
+		currentProjectOnly.addValueChangeListener(event -> refreshResults());
+		final HorizontalLayout searchBar = new HorizontalLayout(searchField, currentProjectOnly);
+		searchBar.setWidthFull();
+		searchBar.setAlignItems(FlexComponent.Alignment.BASELINE);
+		grid.addColumn(CDialogSearch::getTypeTitle).setHeader("Type").setAutoWidth(true).setFlexGrow(0);
+		grid.addColumn(CSearchHit::title).setHeader("Name").setFlexGrow(1);
+		grid.addColumn(CSearchHit::score).setHeader("Score").setAutoWidth(true).setFlexGrow(0);
+		grid.addThemeVariants(GridVariant.LUMO_COMPACT, GridVariant.LUMO_ROW_STRIPES);
+		grid.setHeight("420px");
+		grid.addItemClickListener(event -> on_grid_itemClicked(event.getItem()));
+		mainLayout.add(searchBar, grid);
+	}
+}
@@ -38,6 +38,8 @@ import tech.derbent.api.interfaces.drag.CDragDropEvent;
 import tech.derbent.api.interfaces.drag.CDragEndEvent;
 import tech.derbent.api.interfaces.drag.CDragStartEvent;
 import tech.derbent.api.page.view.CDynamicPageRouter;
+import tech.derbent.api.perf.CPerfLatencyRegistry;
+import tech.derbent.api.perf.CPerfLatencyRegistry.EPerfMetricKind;
 import tech.derbent.api.projects.domain.CProject;
 import tech.derbent.api.registry.CEntityRegistry;
 import tech.derbent.api.reporting.CCSVExporter;
@@ -316,7 +318,7 @@ public abstract class CPageService<EntityClass extends CEntityDB<EntityClass>> i
 			if (component instanceof final Button button) {
 				button.addClickListener(event -> {
 					try {
-						method.invoke(this, component, null); // click events don't have values
+						invokeHandler(method, component, null); // click events don't have values
 					} catch (final Exception e) {
 						LOGGER.error("Error invoking method {}: {}", methodName, e.getMessage());
 					}
@@ -329,7 +331,7 @@ public abstract class CPageService<EntityClass extends CEntityDB<EntityClass>> i
 				hasValue.addValueChangeListener(event -> {
 					try {
 						final Object newValue = event.getValue();
-						method.invoke(this, component, newValue);
+						invokeHandler(method, component, newValue);
 					} catch (final Exception e) {
 						LOGGER.error("Error invoking method {}: {}", methodName, e.getMessage());
 					}
@@ -340,7 +342,7 @@ public abstract class CPageService<EntityClass extends CEntityDB<EntityClass>> i
 			if (component instanceof Focusable) {
 				component.getElement().addEventListener("focus", event -> {
 					try {
-						method.invoke(this, component, null);
+						invokeHandler(method, component, null);
 					} catch (final Exception ex) {
 						LOGGER.error("Error invoking method {}: {}", methodName, ex.getMessage());
 					}
@@ -351,7 +353,7 @@ public abstract class CPageService<EntityClass extends CEntityDB<EntityClass>> i
 			if (component instanceof Focusable) {
 				component.getElement().addEventListener("blur", event -> {
 					try {
-						method.invoke(this, component, null);
+						invokeHandler(method, component, null);
 					} catch (final Exception ex) {
 						LOGGER.error("Error invoking method {}: {}", methodName, ex.getMessage());
 					}
@@ -420,7 +422,7 @@ public abstract class CPageService<EntityClass extends CEntityDB<EntityClass>> i
 			return event -> {
 				try {
 					LOGGER.debug("[DragDebug] Invoking {} on component {}", methodName, component.getClass().getSimpleName());
-					method.invoke(this, vaadinComponent, event);
+					invokeHandler(method, vaadinComponent, event);
 				} catch (final Exception ex) {
 					LOGGER.error("Error invoking method {}: {}", methodName, ex.getMessage(), ex);
 				}
@@ -441,7 +443,7 @@ public abstract class CPageService<EntityClass extends CEntityDB<EntityClass>> i
 			LOGGER.debug("[BindDebug] Creating drag-start listener for {}", k);
 			return event -> {
 				try {
-					method.invoke(this, vaadinComponent, event);
+					invokeHandler(method, vaadinComponent, event);
 				} catch (final Exception ex) {
 					LOGGER.error("Error invoking method {}: {}", methodName, ex.getMessage(), ex);
 				}
@@ -463,7 +465,7 @@ public abstract class CPageService<EntityClass extends CEntityDB<EntityClass>> i
 		// LOGGER.info("[DragDebug] Method {} invoked successfully", method.getName());
 		final ComponentEventListener<CDragDropEvent> listener = dropListenerRegistry.computeIfAbsent(key, k -> event -> {
 			try {
-				method.invoke(this, component, event);
+				invokeHandler(method, component, event);
 			} catch (final Exception ex) {
 				LOGGER.error("Error invoking method {}: {}", methodName, ex.getMessage(), ex);
 			}
@@ -505,7 +507,7 @@ public abstract class CPageService<EntityClass extends CEntityDB<EntityClass>> i
 			LOGGER.debug("[BindDebug] Creating select listener for {}", k);
 			return event -> {
 				try {
-					method.invoke(this, component, event);
+					invokeHandler(method, component, event);
 				} catch (final Exception ex) {
 					LOGGER.error("Error invoking method {}: {}", methodName, ex.getMessage(), ex);
 				}
@@ -696,6 +698,20 @@ public abstract class CPageService<EntityClass extends CEntityDB<EntityClass>> i
 	@Override
 	public IPageServiceImplementer<EntityClass> getView() { return view; }
 
+	/** Calls a bound {@code on_<component>_<action>} handler, timed into {@link CPerfLatencyRegistry} as {@code PageService.method}; the handler is
+	 * the caller of the repository and Calimero calls it makes. */
+	private void invokeHandler(final Method method, final Object component, final Object value) throws Exception {
+		final String handlerName = getClass().getSimpleName() + "." + method.getName();
+		final long start = System.nanoTime();
+		final String previousCaller = CPerfLatencyRegistry.enterCaller(handlerName);
+		try {
+			method.invoke(this, component, value);
+		} finally {
+			CPerfLatencyRegistry.exitCaller(previousCaller);
+			CPerfLatencyRegistry.record(EPerfMetricKind.HANDLER, handlerName, start);
+		}
+	}
+
 	protected void on_dragEnd(@SuppressWarnings ("unused") final CDragDropEvent event) {
 		setActiveDragStartEvent(null);
 	}
@@ -0,0 +1,39 @@
+package tech.derbent.api.session.service;
+
+import java.util.Optional;
+import tech.derbent.api.companies.domain.CCompany;
+import tech.derbent.api.projects.domain.CProject;
+import tech.derbent.api.users.domain.CUser;
+
+/** Immutable copy of the active company/project/user, bindable to a worker thread.
+ * <p>
+ * WHY: {@link CWebSessionService} keeps the active context in {@code VaadinSession} attributes, which are only reachable from the thread that
+ * holds the session lock. Background workers started on behalf of a session (e.g. parallel sheet imports) capture a snapshot on the calling thread
+ * and bind it in the worker; the session service answers from the bound snapshot before touching the Vaadin session.
+ * </p>
+ * RULE: always restore the previous binding in a finally block; pooled threads must not leak a tenant context into the next task. */
+public record CSessionContextSnapshot(CCompany company, CProject<?> project, CUser user) {
+
+	private static final ThreadLocal<CSessionContextSnapshot> CURRENT = new ThreadLocal<>();
+
+	/** Binds the snapshot to the current thread; returns the previously bound snapshot so callers can restore it. */
+	public static CSessionContextSnapshot bind(final CSessionContextSnapshot snapshot) {
+		final CSessionContextSnapshot previous = CURRENT.get();
+		if (snapshot == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(snapshot);
+		}
+		return previous;
+	}
+
+	/** Captures the active context of the calling thread. */
+	public static CSessionContextSnapshot capture(final ISessionService sessionService) {
+		return new CSessionContextSnapshot(sessionService.getActiveCompany().orElse(null), sessionService.getActiveProject().orElse(null),
+				sessionService.getActiveUser().orElse(null));
+	}
+
+	public static Optional<CSessionContextSnapshot> current() {
+		return Optional.ofNullable(CURRENT.get());
+	}
+}
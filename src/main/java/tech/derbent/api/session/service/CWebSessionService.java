@@ -186,6 +186,10 @@ public class CWebSessionService implements ISessionService {
 	/** Gets the currently active company from the session. */
 	@Override
 	public Optional<CCompany> getActiveCompany() {
+		final CSessionContextSnapshot snapshot = CSessionContextSnapshot.current().orElse(null);
+		if (snapshot != null) {
+			return Optional.ofNullable(snapshot.company());
+		}
 		final VaadinSession session = VaadinSession.getCurrent();
 		Check.notNull(session, "Vaadin session must not be null");
 		final CCompany company = (CCompany) session.getAttribute(ACTIVE_COMPANY_KEY);
@@ -212,6 +216,10 @@ public class CWebSessionService implements ISessionService {
 	/** Gets the currently active project from the session. If no project is set, returns the first available project. */
 	@Override
 	public Optional<CProject<?>> getActiveProject() {
+		final CSessionContextSnapshot snapshot = CSessionContextSnapshot.current().orElse(null);
+		if (snapshot != null) {
+			return Optional.ofNullable(snapshot.project());
+		}
 		final VaadinSession session = VaadinSession.getCurrent();
 		if (session == null) {
 			return Optional.empty();
@@ -224,6 +232,10 @@ public class CWebSessionService implements ISessionService {
 	 * that it may return an empty value if no user is found. */
 	@Override
 	public Optional<CUser> getActiveUser() {
+		final CSessionContextSnapshot snapshot = CSessionContextSnapshot.current().orElse(null);
+		if (snapshot != null) {
+			return Optional.ofNullable(snapshot.user());
+		}
 		final VaadinSession session = VaadinSession.getCurrent();
 		if (session == null) {
 			return Optional.empty();
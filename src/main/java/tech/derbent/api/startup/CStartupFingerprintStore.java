@@ -0,0 +1,44 @@
+package tech.derbent.api.startup;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tech.derbent.api.startup.domain.CStartupFingerprint;
+import tech.derbent.api.startup.service.IStartupFingerprintRepository;
+
+/** CStartupFingerprintStore - Remembers the content fingerprint of idempotent initialisation work, so the work is skipped while it is unchanged.
+ * <p>
+ * WHY: screen definitions (grid, detail section, page) were written again for every entity type and project on every initialisation run.
+ * The initializer now hashes what it would write and compares the hash with the one recorded here by the last run.
+ * </p>
+ * <p>
+ * RULE: a matching fingerprint only says the definition did not change; callers also check that the written data still exists, since a
+ * database reset may delete rows while this table survives. The table belongs to {@link CStartupFingerprint} and is created by the schema
+ * migrations like every other table.
+ * </p>
+ */
+@Component
+public class CStartupFingerprintStore {
+
+	private final Clock clock;
+	private final IStartupFingerprintRepository repository;
+
+	public CStartupFingerprintStore(final IStartupFingerprintRepository repository, final Clock clock) {
+		this.repository = repository;
+		this.clock = clock;
+	}
+
+	/** True when the fingerprint recorded for the key is the given one. */
+	@Transactional (readOnly = true)
+	public boolean matches(final String key, final String fingerprint) {
+		return repository.findByFingerprintKey(key).map(recorded -> recorded.getFingerprint().equals(fingerprint)).orElse(false);
+	}
+
+	@Transactional
+	public void record(final String key, final String fingerprint) {
+		final CStartupFingerprint recorded = repository.findByFingerprintKey(key).orElseGet(() -> new CStartupFingerprint(key));
+		recorded.setFingerprint(fingerprint, LocalDateTime.now(clock));
+		repository.save(recorded);
+	}
+}
@@ -0,0 +1,27 @@
+package tech.derbent.api.startup;
+
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/** Marks the first request in {@link CStartupReport}, which gives the time from JVM start to the first request. After that it is one volatile
+ * read per request. */
+@Component
+@Order (Ordered.HIGHEST_PRECEDENCE)
+public class CStartupFirstRequestFilter extends OncePerRequestFilter {
+
+	@Override
+	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain)
+			throws ServletException, IOException {
+		if (!CStartupReport.isFirstRequestSeen()) {
+			CStartupReport.markFirstRequest();
+		}
+		filterChain.doFilter(request, response);
+	}
+}
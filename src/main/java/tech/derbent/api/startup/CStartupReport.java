@@ -0,0 +1,101 @@
+package tech.derbent.api.startup;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/** CStartupReport - Durations of the startup phases of this JVM, from JVM start to the first served request.
+ * <p>
+ * WHY: startup time was only visible as log timestamps. Phases record here when they finish: schema migrations, the Spring context, the entity
+ * registry, then the marks for ready and for the first request. The report is logged when the application is ready and served by
+ * the {@code startupreport} actuator endpoint, so a slower start shows up as a number that can be compared between builds.
+ * </p>
+ * <p>
+ * RULE: state is static, like {@code CEntityRegistry}, because the schema migrations run before most beans exist. Offsets and durations are in
+ * milliseconds; offsets count from JVM start.
+ * </p>
+ */
+public final class CStartupReport {
+
+	public enum EOutcome {
+		FAILED, OK
+	}
+
+	/** A finished phase: when it started, how long it took and how it ended. */
+	public record RStartupPhase(String name, long startMs, long durationMs, EOutcome outcome) {}
+
+	private static volatile long firstRequestMs = -1;
+	private static final List<RStartupPhase> PHASES = new CopyOnWriteArrayList<>();
+	private static volatile long readyMs = -1;
+
+	public static List<RStartupPhase> getPhases() {
+		final List<RStartupPhase> phases = new ArrayList<>(PHASES);
+		phases.sort(Comparator.comparingLong(RStartupPhase::startMs));
+		return phases;
+	}
+
+	/** Milliseconds from JVM start to the first request, -1 while none was served. */
+	public static long getTimeToFirstRequestMs() { return firstRequestMs; }
+
+	/** Milliseconds from JVM start until the application was ready, -1 while it is starting. */
+	public static long getTimeToReadyMs() { return readyMs; }
+
+	public static boolean isFirstRequestSeen() { return firstRequestMs >= 0; }
+
+	/** Records the first request; later calls do nothing. */
+	public static void markFirstRequest() {
+		if (firstRequestMs < 0) {
+			synchronized (CStartupReport.class) {
+				if (firstRequestMs < 0) {
+					firstRequestMs = sinceJvmStartMs();
+				}
+			}
+		}
+	}
+
+	public static void markReady() {
+		readyMs = sinceJvmStartMs();
+	}
+
+	/** Records a phase that ran from {@code startNanos} ({@link System#nanoTime()}) until now. */
+	public static void recordPhase(final String name, final long startNanos, final EOutcome outcome) {
+		final long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+		PHASES.add(new RStartupPhase(name, Math.max(0, sinceJvmStartMs() - durationMs), durationMs, outcome));
+	}
+
+	/** Records a phase that started with the JVM and ends now, such as the Spring context. */
+	public static void recordPhaseSinceJvmStart(final String name) {
+		PHASES.add(new RStartupPhase(name, 0, sinceJvmStartMs(), EOutcome.OK));
+	}
+
+	/** Forgets everything; for tests. */
+	public static void reset() {
+		PHASES.clear();
+		readyMs = -1;
+		firstRequestMs = -1;
+	}
+
+	private static long sinceJvmStartMs() {
+		return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+	}
+
+	/** One line for the log: ready and first request times, then the phases, slowest first. */
+	public static String summary() {
+		final StringBuilder summary = new StringBuilder();
+		summary.append("ready=").append(readyMs).append("ms firstRequest=").append(firstRequestMs < 0 ? "-" : firstRequestMs + "ms").append(" phases=");
+		final List<RStartupPhase> phases = new ArrayList<>(PHASES);
+		phases.sort(Comparator.comparingLong(RStartupPhase::durationMs).reversed());
+		for (final RStartupPhase phase : phases) {
+			summary.append(' ').append(phase.name()).append('=').append(phase.durationMs()).append("ms");
+			if (phase.outcome() != EOutcome.OK) {
+				summary.append('(').append(phase.outcome()).append(')');
+			}
+		}
+		return summary.toString();
+	}
+
+	private CStartupReport() {}
+}
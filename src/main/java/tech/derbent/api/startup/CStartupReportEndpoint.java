@@ -0,0 +1,22 @@
+package tech.derbent.api.startup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/** Actuator endpoint {@code /actuator/startupreport}: the {@link CStartupReport} of this JVM, for comparing startup times between builds. */
+@Component
+@Endpoint (id = "startupreport")
+public class CStartupReportEndpoint {
+
+	@ReadOperation
+	public Map<String, Object> report() {
+		final Map<String, Object> report = new LinkedHashMap<>();
+		report.put("timeToReadyMs", CStartupReport.getTimeToReadyMs());
+		report.put("timeToFirstRequestMs", CStartupReport.getTimeToFirstRequestMs());
+		report.put("phases", CStartupReport.getPhases());
+		return report;
+	}
+}
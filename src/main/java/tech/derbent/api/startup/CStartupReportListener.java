@@ -0,0 +1,32 @@
+package tech.derbent.api.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/** CStartupReportListener - Records the Spring context phase and the ready mark in {@link CStartupReport}, and logs the report when the
+ * application is ready.
+ * <p>
+ * RULE: the startup work itself records its own phases: the schema migrations before JPA, the entity registry as the first runner. A runner
+ * finishes before {@link ApplicationReadyEvent}, so the logged report has all of them.
+ * </p>
+ */
+@Component
+public class CStartupReportListener {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CStartupReportListener.class);
+
+	@EventListener
+	public void onApplicationReady(final ApplicationReadyEvent event) {
+		CStartupReport.markReady();
+		LOGGER.info("Startup report: {}", CStartupReport.summary());
+	}
+
+	@EventListener
+	public void onApplicationStarted(final ApplicationStartedEvent event) {
+		CStartupReport.recordPhaseSinceJvmStart("context");
+	}
+}
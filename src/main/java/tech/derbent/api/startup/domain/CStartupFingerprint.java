@@ -0,0 +1,59 @@
+package tech.derbent.api.startup.domain;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import tech.derbent.api.annotations.AMetaData;
+import tech.derbent.api.entity.domain.CEntityDB;
+import tech.derbent.api.utils.Check;
+
+/** CStartupFingerprint - Content fingerprint of one piece of idempotent initialisation work, as recorded by its last run.
+ * <p>
+ * RULE: one row per key; written only by CStartupFingerprintStore.
+ * </p>
+ */
+@Entity
+@Table (name = "derbent_startup_fingerprint", uniqueConstraints = @UniqueConstraint (columnNames = "fingerprint_key"))
+@AttributeOverride (name = "id", column = @Column (name = "startup_fingerprint_id"))
+public class CStartupFingerprint extends CEntityDB<CStartupFingerprint> {
+
+	public static final String DEFAULT_COLOR = "#607D8B";
+	public static final String DEFAULT_ICON = "vaadin:barcode";
+	public static final String ENTITY_TITLE_PLURAL = "Startup Fingerprints";
+	public static final String ENTITY_TITLE_SINGULAR = "Startup Fingerprint";
+	public static final String VIEW_NAME = "Startup Fingerprints View";
+	@Column (name = "fingerprint", nullable = false, length = 64)
+	@AMetaData (displayName = "Fingerprint", required = true, readOnly = true, description = "SHA-256 of the written content", hidden = false)
+	private String fingerprint;
+	@Column (name = "fingerprint_key", nullable = false, length = 255)
+	@AMetaData (displayName = "Key", required = true, readOnly = true, description = "What the fingerprint covers", hidden = false)
+	private String fingerprintKey;
+	@Column (name = "recorded_at", nullable = false)
+	@AMetaData (displayName = "Recorded At", required = true, readOnly = true, description = "When the fingerprint was recorded", hidden = false)
+	private LocalDateTime recordedAt;
+
+	/** Default constructor for JPA. */
+	protected CStartupFingerprint() {}
+
+	public CStartupFingerprint(final String fingerprintKey) {
+		super(CStartupFingerprint.class);
+		Check.notBlank(fingerprintKey, "Fingerprint key cannot be blank");
+		this.fingerprintKey = fingerprintKey;
+	}
+
+	public String getFingerprint() { return fingerprint; }
+
+	public String getFingerprintKey() { return fingerprintKey; }
+
+	public LocalDateTime getRecordedAt() { return recordedAt; }
+
+	public void setFingerprint(final String fingerprint, final LocalDateTime recordedAt) {
+		Check.notBlank(fingerprint, "Fingerprint cannot be blank");
+		Check.notNull(recordedAt, "Recorded time cannot be null");
+		this.fingerprint = fingerprint;
+		this.recordedAt = recordedAt;
+	}
+}
@@ -0,0 +1,14 @@
+package tech.derbent.api.startup.service;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import tech.derbent.api.entity.service.IAbstractRepository;
+import tech.derbent.api.startup.domain.CStartupFingerprint;
+
+/** IStartupFingerprintRepository - Repository interface for the fingerprints of idempotent initialisation work. */
+public interface IStartupFingerprintRepository extends IAbstractRepository<CStartupFingerprint> {
+
+	@Query ("SELECT f FROM #{#entityName} f WHERE f.fingerprintKey = :fingerprintKey")
+	Optional<CStartupFingerprint> findByFingerprintKey(@Param ("fingerprintKey") String fingerprintKey);
+}
@@ -9,6 +9,7 @@ import com.vaadin.flow.component.HasValue;
 import com.vaadin.flow.shared.Registration;
 import tech.derbent.api.config.CSpringContext;
 import tech.derbent.api.entity.domain.CEntityNamed;
+import tech.derbent.api.interfaces.IContentOwner;
 import tech.derbent.api.page.domain.CPageEntity;
 import tech.derbent.api.page.service.CPageEntityService;
 import tech.derbent.api.page.view.CDynamicPageRouter;
@@ -51,6 +52,7 @@ public class CComponentItemDetails extends CVerticalLayout implements HasValue<H
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CComponentItemDetails.class);
 	private static final long serialVersionUID = 1L;
+	private IContentOwner contentOwner;
 	private final CDynamicPageRouter currentEntityPageRouter;
 	private CEntityNamed<?> currentValue = null;
 	final CPageEntityService pageEntityService = CSpringContext.getBean(CPageEntityService.class);
@@ -169,7 +171,7 @@ public class CComponentItemDetails extends CVerticalLayout implements HasValue<H
 					.orElseThrow(() -> new IllegalStateException("No page found for view name: " + entityViewName));
 			Check.notNull(page, "Page entity cannot be null");
 			// Load the specific page with the entity details
-			currentEntityPageRouter.loadSpecificPage(page.getId(), entity.getId(), true, null);
+			currentEntityPageRouter.loadSpecificPage(page.getId(), entity.getId(), true, contentOwner);
 			LOGGER.debug("Successfully loaded detail page for entity: {}", entity.getName());
 		} catch (final Exception e) {
 			LOGGER.error("Error creating dynamic page for entity named {}", entity != null ? entity.getName() : "null");
@@ -177,6 +179,11 @@ public class CComponentItemDetails extends CVerticalLayout implements HasValue<H
 		}
 	}
 
+	/** Sets the owner notified (through {@link IContentOwner#refreshGrid()}) when the displayed entity is saved or deleted; applies to entities
+	 * displayed after the call.
+	 * @param contentOwner the owner, or {@code null} for none */
+	public void setContentOwner(final IContentOwner contentOwner) { this.contentOwner = contentOwner; }
+
 	/** Sets the read-only state of this component. Note: Read-only mode prevents value changes but doesn't affect the display.
 	 * @param readOnly true to make read-only, false to make editable */
 	@Override
@@ -222,8 +222,7 @@ public class CComponentListSprintItems extends CComponentListEntityBase<CSprint,
 			return 1;
 		}
 		final CSprintItemService service = (CSprintItemService) childService;
-		final List<CSprintItem> items = service.findByMasterId(getMasterEntity().getId());
-		final int nextOrder = items.size() + 1;
+		final Integer nextOrder = service.getNextItemOrder(getMasterEntity());
 		LOGGER.debug("Next item order for sprint {}: {}", getMasterEntity().getId(), nextOrder);
 		return nextOrder;
 	}
@@ -39,6 +39,8 @@ import jakarta.annotation.security.PermitAll;
 import tech.derbent.api.config.CSpringContext;
 import tech.derbent.api.interfaces.IPageTitleProvider;
 import tech.derbent.api.page.service.CPageMenuIntegrationService;
+import tech.derbent.api.search.service.CSearchIndexService;
+import tech.derbent.api.search.view.CDialogSearch;
 import tech.derbent.api.session.service.CLayoutService;
 import tech.derbent.api.session.service.ISessionService;
 import tech.derbent.api.setup.service.CSystemSettingsService;
@@ -280,6 +282,11 @@ public final class MainLayout extends AppLayout implements AfterNavigationObserv
 		userMenuItem.add(login);
 		userMenuItem.setId("user-menu-item");
 		userMenuItem.getSubMenu().addItem("Edit Profile", event -> openUserProfileDialog());
+		if (CSpringContext.containsBean(CSearchIndexService.class)) {
+			userMenuItem.getSubMenu()
+					.addItem("Search", event -> new CDialogSearch(CSpringContext.getBean(CSearchIndexService.class), sessionService).open())
+					.setId("search-menu-item");
+		}
 		// Additional user menu items could be added here (preferences, settings, etc.)
 		final MenuItem menuItem = userMenuItem.getSubMenu().addItem("Logout", event -> {
 			sessionService.clearSession(); // Clear session on logout
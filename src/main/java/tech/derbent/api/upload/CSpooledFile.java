@@ -0,0 +1,79 @@
+package tech.derbent.api.upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** CSpooledFile - A completed upload held in a temporary file, with the size and SHA-256 hash measured while it was written.
+ * <p>
+ * RULE: the file belongs to the {@link CSpooledUploadReceiver} that wrote it and is deleted by {@link #delete()}, by the receiver's next upload
+ * or by {@link CSpooledUploadReceiver#clear()}. Consumers read it as often as they like, through a stream or a seekable channel.
+ * </p>
+ */
+public final class CSpooledFile implements Serializable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CSpooledFile.class);
+	private static final long serialVersionUID = 1L;
+	private final String fileName;
+	private final String mimeType;
+	// Path is not serializable
+	private final String path;
+	private final String sha256;
+	private final long size;
+
+	CSpooledFile(final String fileName, final String mimeType, final Path path, final long size, final String sha256) {
+		this.fileName = fileName;
+		this.mimeType = mimeType;
+		this.path = path.toString();
+		this.size = size;
+		this.sha256 = sha256;
+	}
+
+	/** Deletes the temporary file; failures are only logged. */
+	public void delete() {
+		try {
+			Files.deleteIfExists(getPath());
+		} catch (final IOException e) {
+			LOGGER.warn("Could not delete spooled upload {} reason={}", path, e.getMessage());
+		}
+	}
+
+	public String getFileName() { return fileName; }
+
+	public String getMimeType() { return mimeType; }
+
+	public Path getPath() { return Paths.get(path); }
+
+	/** Hex SHA-256 of the content. */
+	public String getSha256() { return sha256; }
+
+	/** Size of the content in bytes, as received rather than as announced by the client. */
+	public long getSize() { return size; }
+
+	/** Opens a read-only channel that can seek anywhere in the content. */
+	public FileChannel openChannel() throws IOException {
+		return FileChannel.open(getPath(), StandardOpenOption.READ);
+	}
+
+	public InputStream openInputStream() throws IOException {
+		return Files.newInputStream(getPath());
+	}
+
+	/** Reads the whole content as text; only for consumers that keep the content as a string anyway. */
+	public String readString(final Charset charset) throws IOException {
+		return Files.readString(getPath(), charset);
+	}
+
+	@Override
+	public String toString() {
+		return "CSpooledFile{fileName=%s, size=%d, sha256=%s}".formatted(fileName, size, sha256);
+	}
+}
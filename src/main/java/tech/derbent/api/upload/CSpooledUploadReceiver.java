@@ -0,0 +1,191 @@
+package tech.derbent.api.upload;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.vaadin.flow.component.upload.Receiver;
+
+/** CSpooledUploadReceiver - Upload receiver that writes the uploaded bytes to a temporary file instead of a heap buffer.
+ * <p>
+ * WHY: {@code MemoryBuffer} keeps the whole upload in a byte array, and consumers calling {@code readAllBytes()} copy it again, so a 200 MB
+ * protocol file, attachment or workbook costs several times its size in heap for every concurrent upload. Here each write goes through a
+ * fixed buffer to disk while the size is counted and the SHA-256 is updated; heap use per upload does not depend on the file size.
+ * </p>
+ * <p>
+ * RULE: uploads larger than the receiver's limit fail as soon as the limit is crossed, whatever size the client announced. Writes go to disk
+ * synchronously, so the request body is read only as fast as the disk takes it, and at most {@link #MAX_CONCURRENT_UPLOADS} uploads spool at
+ * once across the application; a further upload waits up to {@link #PERMIT_WAIT_SECONDS} seconds and then fails. A receiver keeps only its
+ * latest completed upload; call {@link #clear()} when it is consumed, when the upload fails and when the component is detached.
+ * </p>
+ */
+public class CSpooledUploadReceiver implements Receiver {
+
+	/** Counts, hashes and limits what is written, and publishes the file when the upload completes. */
+	private final class CSpoolOutputStream extends OutputStream {
+
+		private boolean closed;
+		private final MessageDigest digest = newDigest();
+		private final String fileName;
+		private final String mimeType;
+		private final OutputStream out;
+		private final Path path;
+		private long size;
+
+		private CSpoolOutputStream(final String fileName, final String mimeType, final Path path) throws IOException {
+			this.fileName = fileName;
+			this.mimeType = mimeType;
+			this.path = path;
+			out = new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE);
+		}
+
+		private void abort() {
+			try {
+				out.close();
+			} catch (final IOException e) {
+				LOGGER.debug("Closing aborted upload {} failed reason={}", path, e.getMessage());
+			}
+			closed = true;
+			SPOOL_PERMITS.release();
+			try {
+				Files.deleteIfExists(path);
+			} catch (final IOException e) {
+				LOGGER.warn("Could not delete aborted upload {} reason={}", path, e.getMessage());
+			}
+		}
+
+		/** Vaadin closes the stream after the request body, also when the transfer broke off; consumers clear the receiver on a failed upload
+		 * event so such a partial file is not used. */
+		@Override
+		public void close() throws IOException {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			try {
+				out.close();
+			} finally {
+				SPOOL_PERMITS.release();
+			}
+			complete(new CSpooledFile(fileName, mimeType, path, size, HEX.formatHex(digest.digest())));
+		}
+
+		private void ensureCapacity(final int length) throws IOException {
+			if (closed) {
+				throw new IOException("Upload stream is closed");
+			}
+			if (size + length > maxBytes) {
+				abort();
+				throw new IOException("Upload '%s' exceeds the limit of %d bytes".formatted(fileName, maxBytes));
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			out.flush();
+		}
+
+		@Override
+		public void write(final byte[] buffer, final int offset, final int length) throws IOException {
+			ensureCapacity(length);
+			try {
+				out.write(buffer, offset, length);
+			} catch (final IOException e) {
+				abort();
+				throw e;
+			}
+			digest.update(buffer, offset, length);
+			size += length;
+		}
+
+		@Override
+		public void write(final int value) throws IOException {
+			ensureCapacity(1);
+			try {
+				out.write(value);
+			} catch (final IOException e) {
+				abort();
+				throw e;
+			}
+			digest.update((byte) value);
+			size++;
+		}
+	}
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final HexFormat HEX = HexFormat.of();
+	private static final Logger LOGGER = LoggerFactory.getLogger(CSpooledUploadReceiver.class);
+	public static final int MAX_CONCURRENT_UPLOADS = 8;
+	public static final long PERMIT_WAIT_SECONDS = 30;
+	private static final long serialVersionUID = 1L;
+	private static final Semaphore SPOOL_PERMITS = new Semaphore(MAX_CONCURRENT_UPLOADS, true);
+	private static final String SPOOL_DIRECTORY = "derbent-uploads";
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	private transient CSpooledFile file;
+	private final long maxBytes;
+
+	/** @param maxBytes largest accepted upload in bytes */
+	public CSpooledUploadReceiver(final long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+	/** Deletes the current upload, if any. */
+	public synchronized void clear() {
+		if (file != null) {
+			file.delete();
+			file = null;
+		}
+	}
+
+	private synchronized void complete(final CSpooledFile completed) {
+		clear();
+		file = completed;
+		LOGGER.debug("Spooled upload {}", completed);
+	}
+
+	/** The latest completed upload, null before the first one and after {@link #clear()}. */
+	public synchronized CSpooledFile getFile() { return file; }
+
+	public long getMaxBytes() { return maxBytes; }
+
+	@Override
+	public OutputStream receiveUpload(final String fileName, final String mimeType) {
+		clear();
+		try {
+			if (!SPOOL_PERMITS.tryAcquire(PERMIT_WAIT_SECONDS, TimeUnit.SECONDS)) {
+				throw new UncheckedIOException(new IOException("Too many uploads in progress, try again later"));
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting to receive upload", e);
+		}
+		try {
+			final Path directory = Files.createDirectories(Paths.get(System.getProperty("java.io.tmpdir"), SPOOL_DIRECTORY));
+			if (Files.getFileStore(directory).getUsableSpace() < maxBytes) {
+				throw new IOException("Not enough temporary disk space to receive '%s'".formatted(fileName));
+			}
+			return new CSpoolOutputStream(fileName, mimeType, Files.createTempFile(directory, "upload-", ".part"));
+		} catch (final IOException e) {
+			SPOOL_PERMITS.release();
+			throw new UncheckedIOException(e);
+		}
+	}
+}
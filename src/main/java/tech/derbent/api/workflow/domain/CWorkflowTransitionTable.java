@@ -0,0 +1,189 @@
+package tech.derbent.api.workflow.domain;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import tech.derbent.api.entityOfCompany.domain.CProjectItemStatus;
+import tech.derbent.api.roles.domain.CUserProjectRole;
+import tech.derbent.api.utils.Check;
+
+/** CWorkflowTransitionTable - Immutable, compiled form of the status relations of one workflow.
+ * <p>
+ * WHY: status combo boxes, the CRUD toolbar and every Kanban drop asked for the valid next statuses, and each call re-read, re-validated and
+ * re-sorted all relations of the workflow. The table is compiled once from the relations (see {@code CWorkflowTransitionCache}) and answers with
+ * an index lookup: status id → row, row → ordered next statuses and the role mask of each transition.
+ * </p>
+ * <p>
+ * RULE: the table is a snapshot. It holds detached status instances and must be dropped (cache invalidation) whenever relations, their roles or
+ * the statuses themselves change.
+ * </p>
+ * <p>
+ * RULE: the cached table is shared by every session, so the statuses it returns are read-only. Use them for display, comparison and as the value
+ * of a status reference; never modify one or bind it to an editor. Reload the status through its service to change it.
+ * </p>
+ */
+public final class CWorkflowTransitionTable {
+
+	/** Row of one from-status: the selectable options (current status first) and the role mask per next status. */
+	private static final class CRow {
+
+		private final long[] nextStatusIds;
+		private final List<CProjectItemStatus> options;
+		/** Role masks aligned with {@link #nextStatusIds}; {@code null} means the transition is open to all roles. */
+		private final BitSet[] roleMasks;
+
+		private CRow(final List<CProjectItemStatus> options, final long[] nextStatusIds, final BitSet[] roleMasks) {
+			this.options = options;
+			this.nextStatusIds = nextStatusIds;
+			this.roleMasks = roleMasks;
+		}
+
+		private int indexOf(final long statusId) {
+			for (int i = 0; i < nextStatusIds.length; i++) {
+				if (nextStatusIds[i] == statusId) {
+					return i;
+				}
+			}
+			return -1;
+		}
+	}
+
+	private static final Comparator<CWorkflowStatusRelation> RELATION_ORDER = Comparator.comparing((final CWorkflowStatusRelation relation) -> {
+		final Integer sortOrder = relation.getToStatus().getSortOrder();
+		return sortOrder != null ? sortOrder : Integer.MAX_VALUE;
+	}).thenComparing(CWorkflowStatusRelation::getId, Comparator.nullsLast(Long::compareTo));
+
+	/** Compiles the relations of a workflow. Relations without both statuses are ignored; statuses of another company are rejected.
+	 * @param workflow  the workflow the relations belong to
+	 * @param relations all relations of the workflow
+	 * @return the compiled table */
+	public static CWorkflowTransitionTable compile(final CWorkflowEntity workflow, final List<CWorkflowStatusRelation> relations) {
+		Check.notNull(workflow, "Workflow cannot be null when compiling transitions");
+		Check.notNull(workflow.getCompany(), "Workflow company cannot be null when compiling transitions");
+		final List<CWorkflowStatusRelation> valid = new ArrayList<>();
+		for (final CWorkflowStatusRelation relation : relations == null ? List.<CWorkflowStatusRelation>of() : relations) {
+			if (relation.getFromStatus() == null || relation.getToStatus() == null) {
+				continue;
+			}
+			Check.isSameCompany(workflow, relation.getFromStatus());
+			Check.isSameCompany(workflow, relation.getToStatus());
+			valid.add(relation);
+		}
+		valid.sort(RELATION_ORDER);
+		final Map<Long, Integer> roleBits = new HashMap<>();
+		final Map<Long, List<CWorkflowStatusRelation>> byFromStatus = new LinkedHashMap<>();
+		CProjectItemStatus initialStatus = null;
+		for (final CWorkflowStatusRelation relation : valid) {
+			if (initialStatus == null && Boolean.TRUE.equals(relation.getInitialStatus())) {
+				initialStatus = relation.getToStatus();
+			}
+			final Long fromId = relation.getFromStatus().getId();
+			if (fromId != null) {
+				byFromStatus.computeIfAbsent(fromId, id -> new ArrayList<>()).add(relation);
+			}
+		}
+		if (initialStatus == null && !valid.isEmpty()) {
+			initialStatus = valid.get(0).getToStatus();
+		}
+		final Map<Long, CRow> rows = new HashMap<>(byFromStatus.size() * 2);
+		byFromStatus.forEach((fromId, fromRelations) -> rows.put(fromId, compileRow(fromRelations, roleBits)));
+		return new CWorkflowTransitionTable(workflow.getId(), initialStatus, rows, Map.copyOf(roleBits), valid.size());
+	}
+
+	private static CRow compileRow(final List<CWorkflowStatusRelation> relations, final Map<Long, Integer> roleBits) {
+		final CProjectItemStatus fromStatus = relations.get(0).getFromStatus();
+		final List<CProjectItemStatus> options = new ArrayList<>(relations.size() + 1);
+		final List<Long> nextIds = new ArrayList<>(relations.size());
+		final List<BitSet> masks = new ArrayList<>(relations.size());
+		options.add(fromStatus);
+		for (final CWorkflowStatusRelation relation : relations) {
+			final CProjectItemStatus toStatus = relation.getToStatus();
+			if (toStatus.getId() == null || toStatus.getId().equals(fromStatus.getId()) || nextIds.contains(toStatus.getId())) {
+				continue;
+			}
+			options.add(toStatus);
+			nextIds.add(toStatus.getId());
+			masks.add(compileRoleMask(relation.getRoles(), roleBits));
+		}
+		return new CRow(List.copyOf(options), nextIds.stream().mapToLong(Long::longValue).toArray(), masks.toArray(BitSet[]::new));
+	}
+
+	private static BitSet compileRoleMask(final List<CUserProjectRole> roles, final Map<Long, Integer> roleBits) {
+		if (roles == null || roles.isEmpty()) {
+			return null;
+		}
+		final BitSet mask = new BitSet();
+		for (final CUserProjectRole role : roles) {
+			if (role != null && role.getId() != null) {
+				mask.set(roleBits.computeIfAbsent(role.getId(), id -> roleBits.size()));
+			}
+		}
+		return mask;
+	}
+
+	private final CProjectItemStatus initialStatus;
+	private final int relationCount;
+	private final Map<Long, Integer> roleBits;
+	private final Map<Long, CRow> rows;
+	private final Long workflowId;
+
+	private CWorkflowTransitionTable(final Long workflowId, final CProjectItemStatus initialStatus, final Map<Long, CRow> rows,
+			final Map<Long, Integer> roleBits, final int relationCount) {
+		this.workflowId = workflowId;
+		this.initialStatus = initialStatus;
+		this.rows = rows;
+		this.roleBits = roleBits;
+		this.relationCount = relationCount;
+	}
+
+	/** Initial status of the workflow: the first relation flagged as initial, otherwise the first relation in status order; {@code null} for a
+	 * workflow without relations. Shared and read-only, see the class comment. */
+	public CProjectItemStatus getInitialStatus() { return initialStatus; }
+
+	public int getRelationCount() { return relationCount; }
+
+	/** Selectable statuses for an item in the given status: the status itself followed by its next statuses in status sort order.
+	 * @param currentStatus current status of the item, not {@code null}
+	 * @return immutable list of shared, read-only statuses; just the current status when the workflow has no transition from it */
+	public List<CProjectItemStatus> getValidOptions(final CProjectItemStatus currentStatus) {
+		Check.notNull(currentStatus, "Current status cannot be null");
+		final CRow row = currentStatus.getId() != null ? rows.get(currentStatus.getId()) : null;
+		return row != null ? row.options : List.of(currentStatus);
+	}
+
+	public Long getWorkflowId() { return workflowId; }
+
+	public boolean isEmpty() { return relationCount == 0; }
+
+	/** @return true when the workflow defines the transition, regardless of roles */
+	public boolean isTransitionDefined(final Long fromStatusId, final Long toStatusId) {
+		if (fromStatusId == null || toStatusId == null) {
+			return false;
+		}
+		final CRow row = rows.get(fromStatusId);
+		return row != null && row.indexOf(toStatusId) >= 0;
+	}
+
+	/** @param roleId project role of the user; {@code null} only passes transitions open to all roles
+	 * @return true when the transition is defined and either open to all roles or granted to the role */
+	public boolean isTransitionAllowed(final Long fromStatusId, final Long toStatusId, final Long roleId) {
+		if (fromStatusId == null || toStatusId == null) {
+			return false;
+		}
+		final CRow row = rows.get(fromStatusId);
+		final int index = row != null ? row.indexOf(toStatusId) : -1;
+		if (index < 0) {
+			return false;
+		}
+		final BitSet mask = row.roleMasks[index];
+		if (mask == null) {
+			return true;
+		}
+		final Integer bit = roleId != null ? roleBits.get(roleId) : null;
+		return bit != null && mask.get(bit);
+	}
+}
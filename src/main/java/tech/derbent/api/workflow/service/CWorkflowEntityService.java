@@ -24,9 +24,12 @@ import tech.derbent.api.session.service.ISessionService;
 public class CWorkflowEntityService extends CWorkflowBaseService<CWorkflowEntity> implements IEntityRegistrable, IEntityWithView {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CWorkflowEntityService.class);
+	private final CWorkflowTransitionCache workflowTransitionCache;
 
-	public CWorkflowEntityService(final IWorkflowEntityRepository repository, final Clock clock, final ISessionService sessionService) {
+	public CWorkflowEntityService(final IWorkflowEntityRepository repository, final Clock clock, final ISessionService sessionService,
+			final CWorkflowTransitionCache workflowTransitionCache) {
 		super(repository, clock, sessionService);
+		this.workflowTransitionCache = workflowTransitionCache;
 	}
 
 	/** Checks dependencies before allowing workflow entity deletion. Always calls super.checkDeleteAllowed() first to ensure all parent-level checks
@@ -73,6 +76,20 @@ public class CWorkflowEntityService extends CWorkflowBaseService<CWorkflowEntity
 		}
 	}
 
+	@Override
+	@Transactional
+	public void delete(final CWorkflowEntity entity) {
+		super.delete(entity);
+		workflowTransitionCache.invalidate(entity.getId());
+	}
+
+	@Override
+	@Transactional
+	public void delete(final Long id) {
+		super.delete(id);
+		workflowTransitionCache.invalidate(id);
+	}
+
 	@Override
 	public Class<CWorkflowEntity> getEntityClass() { return CWorkflowEntity.class; }
 
@@ -92,6 +109,15 @@ public class CWorkflowEntityService extends CWorkflowBaseService<CWorkflowEntity
 		super.initializeNewEntity(entity);
 	}
 
+	/** Relations are cascaded from the workflow (relation editor saves the workflow), so a workflow save recompiles its table. */
+	@Override
+	@Transactional
+	public CWorkflowEntity save(final CWorkflowEntity entity) {
+		final CWorkflowEntity saved = super.save(entity);
+		workflowTransitionCache.invalidate(saved.getId());
+		return saved;
+	}
+
 	@Override
 	protected void validateEntity(final CWorkflowEntity entity) {
 		super.validateEntity(entity);
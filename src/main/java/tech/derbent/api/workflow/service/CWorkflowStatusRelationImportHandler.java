@@ -11,6 +11,7 @@ import tech.derbent.api.entityOfCompany.service.CProjectItemStatusService;
 import tech.derbent.api.imports.domain.CImportOptions;
 import tech.derbent.api.imports.domain.CImportRowResult;
 import tech.derbent.api.imports.service.CEntityImportHandler;
+import tech.derbent.api.imports.service.CImportLookupCache;
 import tech.derbent.api.projects.domain.CProject;
 import tech.derbent.api.registry.CEntityRegistry;
 import tech.derbent.api.roles.domain.CUserProjectRole;
@@ -83,13 +84,13 @@ public class CWorkflowStatusRelationImportHandler extends CEntityImportHandler<C
 		if (workflow == null) {
 			return CImportRowResult.error(rowNumber, "Workflow '" + workflowName + "' not found", rowData);
 		}
-		final CProjectItemStatus fromStatus =
-				statusService.findByNameAndCompany(fromName, project.getCompany()).orElse(null);
+		final CProjectItemStatus fromStatus = CImportLookupCache.lookupByName(CProjectItemStatus.class, fromName,
+				project.getCompany(), () -> statusService.findByNameAndCompany(fromName, project.getCompany())).orElse(null);
 		if (fromStatus == null) {
 			return CImportRowResult.error(rowNumber, "From Status '" + fromName + "' not found", rowData);
 		}
-		final CProjectItemStatus toStatus =
-				statusService.findByNameAndCompany(toName, project.getCompany()).orElse(null);
+		final CProjectItemStatus toStatus = CImportLookupCache.lookupByName(CProjectItemStatus.class, toName,
+				project.getCompany(), () -> statusService.findByNameAndCompany(toName, project.getCompany())).orElse(null);
 		if (toStatus == null) {
 			return CImportRowResult.error(rowNumber, "To Status '" + toName + "' not found", rowData);
 		}
@@ -22,12 +22,12 @@ import tech.derbent.api.session.service.ISessionService;
 public class CWorkflowStatusRelationService extends CAbstractEntityRelationService<CWorkflowStatusRelation> implements IEntityRegistrable {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CWorkflowStatusRelationService.class);
-	// private final IWorkflowStatusRelationRepository repository;
+	private final CWorkflowTransitionCache workflowTransitionCache;
 
 	public CWorkflowStatusRelationService(final IWorkflowStatusRelationRepository repository, final Clock clock,
-			final ISessionService sessionService) {
+			final ISessionService sessionService, final CWorkflowTransitionCache workflowTransitionCache) {
 		super(repository, clock, sessionService);
-		// this.repository = repository;
+		this.workflowTransitionCache = workflowTransitionCache;
 	}
 
 	/** Add status transition to workflow with specific roles */
@@ -80,6 +80,21 @@ public class CWorkflowStatusRelationService extends CAbstractEntityRelationServi
 				"Use addStatusTransition(CWorkflowEntity, CProjectItemStatus, CProjectItemStatus, CUserProjectRole) method instead");
 	}
 
+	@Override
+	@Transactional
+	public void delete(final CWorkflowStatusRelation entity) {
+		super.delete(entity);
+		workflowTransitionCache.invalidate(entity.getWorkflowEntity() != null ? entity.getWorkflowEntity().getId() : null);
+	}
+
+	/** The owning workflow is unknown without loading the relation, so every compiled table is dropped. */
+	@Override
+	@Transactional
+	public void delete(final Long id) {
+		super.delete(id);
+		workflowTransitionCache.invalidateAll();
+	}
+
 	/** Remove status transition from workflow */
 	@Transactional
 	public void deleteByWorkflowAndStatuses(final CWorkflowEntity workflow, final CProjectItemStatus fromStatus, final CProjectItemStatus toStatus) {
@@ -91,6 +106,7 @@ public class CWorkflowStatusRelationService extends CAbstractEntityRelationServi
 		Check.notNull(toStatus.getId(), "To status must have a valid ID");
 		((IWorkflowStatusRelationRepository) repository).deleteByWorkflowIdAndFromStatusIdAndToStatusId(workflow.getId(), fromStatus.getId(),
 				toStatus.getId());
+		workflowTransitionCache.invalidate(workflow.getId());
 		LOGGER.debug("Successfully removed status transition from workflow {} from status {} to status {}", workflow.getId(), fromStatus.getId(),
 				toStatus.getId());
 	}
@@ -197,6 +213,14 @@ public class CWorkflowStatusRelationService extends CAbstractEntityRelationServi
 		return ((IWorkflowStatusRelationRepository) repository).existsByWorkflowIdAndFromStatusIdAndToStatusId(workflowId, fromStatusId, toStatusId);
 	}
 
+	@Override
+	@Transactional
+	public CWorkflowStatusRelation save(final CWorkflowStatusRelation entity) {
+		final CWorkflowStatusRelation saved = super.save(entity);
+		workflowTransitionCache.invalidate(saved.getWorkflowEntity() != null ? saved.getWorkflowEntity().getId() : null);
+		return saved;
+	}
+
 	/** Update workflow status relation */
 	@Transactional
 	public CWorkflowStatusRelation updateStatusTransition(final CWorkflowEntity workflow, final CProjectItemStatus fromStatus,
@@ -0,0 +1,74 @@
+package tech.derbent.api.workflow.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tech.derbent.api.utils.Check;
+import tech.derbent.api.workflow.domain.CWorkflowEntity;
+import tech.derbent.api.workflow.domain.CWorkflowTransitionTable;
+
+/** Application-wide cache of compiled workflow transition tables, keyed by workflow id.
+ * <p>
+ * WHY: transition lookups run per entity in toolbars, status combo boxes and on every Kanban drop; with the table cached they need no query.
+ * </p>
+ * <p>
+ * RULE: every write to workflow relations, workflows or project item statuses must invalidate. The owning services do it in their save/delete
+ * paths; code that bypasses them (bulk deletes, DB reset) calls {@link #invalidateAll()}. Inside a transaction the entry is dropped again after
+ * completion, so a concurrent reader cannot re-cache the pre-commit relations.
+ * </p>
+ */
+@Service
+public class CWorkflowTransitionCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CWorkflowTransitionCache.class);
+	private final IWorkflowStatusRelationRepository relationRepository;
+	private final Map<Long, CWorkflowTransitionTable> tables = new ConcurrentHashMap<>();
+
+	public CWorkflowTransitionCache(final IWorkflowStatusRelationRepository relationRepository) {
+		Check.notNull(relationRepository, "Workflow status relation repository cannot be null");
+		this.relationRepository = relationRepository;
+	}
+
+	/** Drops the table after the surrounding transaction completes, in addition to now. */
+	private void afterCompletion(final Runnable invalidation) {
+		invalidation.run();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(final int status) {
+					invalidation.run();
+				}
+			});
+		}
+	}
+
+	/** Returns the compiled table of the workflow, compiling it from the relations on first use.
+	 * @param workflow a persisted workflow
+	 * @return the table; empty when the workflow has no relations. Its statuses are shared across sessions and must not be modified. */
+	public CWorkflowTransitionTable get(final CWorkflowEntity workflow) {
+		Check.notNull(workflow, "Workflow cannot be null");
+		if (workflow.getId() == null) {
+			return CWorkflowTransitionTable.compile(workflow, workflow.getStatusRelations());
+		}
+		return tables.computeIfAbsent(workflow.getId(), id -> {
+			final CWorkflowTransitionTable table = CWorkflowTransitionTable.compile(workflow, relationRepository.findByWorkflowId(id));
+			LOGGER.debug("Compiled workflow {} ({} relations)", id, table.getRelationCount());
+			return table;
+		});
+	}
+
+	public void invalidate(final Long workflowId) {
+		if (workflowId != null) {
+			afterCompletion(() -> tables.remove(workflowId));
+		}
+	}
+
+	public void invalidateAll() {
+		afterCompletion(tables::clear);
+	}
+}
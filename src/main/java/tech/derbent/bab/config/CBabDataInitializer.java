@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import tech.derbent.api.config.CSpringContext;
 import tech.derbent.api.imports.service.CSystemInitExcelBootstrapService;
+import tech.derbent.api.workflow.service.CWorkflowTransitionCache;
 import tech.derbent.api.users.service.CUserService;
 import tech.derbent.api.utils.Check;
 import tech.derbent.bab.device.service.CBabDeviceService;
@@ -157,6 +158,8 @@ public class CBabDataInitializer {
 		try {
 			LOGGER.info("BAB data reload (forced, Excel-first) started (minimal={})", minimal);
 			clearSampleData();
+			// Identities restart after the reset, so cached workflow tables would match new workflows by id.
+			CSpringContext.getBean(CWorkflowTransitionCache.class).invalidateAll();
 			final CSystemInitExcelBootstrapService excelBootstrap = CSpringContext.getBean(CSystemInitExcelBootstrapService.class);
 			final var summary = excelBootstrap.bootstrapAfterReset(minimal);
 			LOGGER.info("BAB data reload (forced, Excel-first) finished: {}", summary.toUiSummary());
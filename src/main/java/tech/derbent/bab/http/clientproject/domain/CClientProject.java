@@ -5,6 +5,8 @@ import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import tech.derbent.api.perf.CPerfLatencyRegistry;
+import tech.derbent.api.perf.CPerfLatencyRegistry.EPerfMetricKind;
 import tech.derbent.bab.http.domain.CCalimeroRequest;
 import tech.derbent.bab.http.domain.CCalimeroResponse;
 import tech.derbent.bab.http.domain.CConnectionResult;
@@ -129,7 +131,14 @@ public class CClientProject {
 			final CCalimeroRequest request = requestBuilder.build();
 			// Send request to Calimero's POST endpoint
 			final String apiUrl = buildUrl("/api/request");
-			final CHttpResponse httpResponse = httpService.sendPost(apiUrl, request.toJson(), request.getHeaders());
+			final long start = System.nanoTime();
+			final CHttpResponse httpResponse;
+			try {
+				httpResponse = httpService.sendPost(apiUrl, request.toJson(), request.getHeaders());
+			} finally {
+				// Timeouts and refused connections are timed too
+				CPerfLatencyRegistry.record(EPerfMetricKind.CALIMERO, request.getType() + "." + request.getOperation(), start);
+			}
 			totalRequests++;
 			lastRequestTime = LocalDateTime.now();
 			if (httpResponse.isSuccess()) {
@@ -172,7 +181,14 @@ public class CClientProject {
 			final String apiUrl = buildUrl("/api/request");
 			LOGGER.info("📤 Sending request: type={}, operation={}, url={}", authenticatedRequest.getType(), authenticatedRequest.getOperation(),
 					apiUrl);
-			final CHttpResponse httpResponse = httpService.sendPost(apiUrl, authenticatedRequest.toJson(), authenticatedRequest.getHeaders());
+			final long start = System.nanoTime();
+			final CHttpResponse httpResponse;
+			try {
+				httpResponse = httpService.sendPost(apiUrl, authenticatedRequest.toJson(), authenticatedRequest.getHeaders());
+			} finally {
+				// Timeouts and refused connections are timed too
+				CPerfLatencyRegistry.record(EPerfMetricKind.CALIMERO, authenticatedRequest.getType() + "." + authenticatedRequest.getOperation(), start);
+			}
 			totalRequests++;
 			lastRequestTime = LocalDateTime.now();
 			if (httpResponse.isSuccess()) {
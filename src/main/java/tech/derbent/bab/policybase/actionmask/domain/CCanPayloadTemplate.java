@@ -0,0 +1,428 @@
+package tech.derbent.bab.policybase.actionmask.domain;
+
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import tech.derbent.api.exceptions.CValidationException;
+import tech.derbent.api.utils.Check;
+import tech.derbent.bab.policybase.filter.domain.CBabPolicyFilterCAN;
+import tech.derbent.bab.policybase.node.can.CA2LFileParser;
+import tech.derbent.bab.policybase.node.can.CCanProtocolVariableIndex;
+import tech.derbent.bab.policybase.node.can.CCanProtocolVariableIndex.RBitLayout;
+
+/** CCanPayloadTemplate - The payload template of a {@link CBabPolicyActionMaskCAN} compiled into a fixed byte layout.
+ * <p>
+ * WHY: the template was free-form JSON that a sender had to interpret for every frame it emitted. Compiled once, emitting a frame is a copy of
+ * the fixed bytes into the caller's buffer plus one write per variable into precomputed bit positions, with no parsing and no allocation.
+ * </p>
+ * <p>
+ * RULE: two template forms are accepted.
+ * </p>
+ * <ul>
+ * <li>Layout form: {@code {"length":8, "fixed":"01 00 00 00 00 00 00 00", "signals":[{"variable":"EngineSpeed", "startBit":16,
+ * "bitLength":16, "byteOrder":"MSB_LAST", "signed":false, "float":false, "factor":0.25, "offset":0}]}}. Only {@code variable} is required.</li>
+ * <li>Flat form: {@code {"speed":"${EngineSpeed}", "mode":"0x01"}}. Entries are packed byte-aligned in order; a placeholder becomes a variable
+ * slot, a hex string or a number 0..255 becomes fixed bytes. This is the form the masks were seeded with.</li>
+ * </ul>
+ * <p>
+ * Placement not given in the template comes from the destination protocol: start bit, length, byte order, sign, factor and offset of a DBC
+ * signal, or length, sign and byte order of an A2L data type. Variables without a start bit are placed after the previous entry; variables
+ * unknown to the protocol get a {@value #DEFAULT_BIT_LENGTH} bit unsigned Intel slot. Templates that do not parse, place bits outside the
+ * frame or place two variables on the same bit are rejected with {@link CValidationException}.
+ * </p>
+ */
+public final class CCanPayloadTemplate {
+
+	public static final int DEFAULT_BIT_LENGTH = 32;
+	/** Payload lengths a CAN FD frame can carry; classic CAN stops at 8. */
+	private static final int[] FRAME_LENGTHS = {
+			0, 1, 2, 3, 4, 5, 6, 7, 8, 12, 16, 20, 24, 32, 48, 64
+	};
+	private static final HexFormat HEX = HexFormat.of();
+	private static final int MAX_FRAME_LENGTH = 64;
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private static final String PLACEHOLDER_PREFIX = "${";
+	private static final String PLACEHOLDER_SUFFIX = "}";
+
+	/** Mutable state while compiling; the template keeps only the arrays built here. */
+	private static final class CLayoutBuilder {
+
+		private int cursorBit;
+		private final byte[] fixed = new byte[MAX_FRAME_LENGTH];
+		private int fixedLength;
+		private final long[] occupied = new long[MAX_FRAME_LENGTH / 8];
+		private final CCanProtocolVariableIndex protocol;
+		private final List<CSlot> slots = new ArrayList<>();
+
+		private CLayoutBuilder(final CCanProtocolVariableIndex protocol) {
+			this.protocol = protocol;
+		}
+
+		private void addFixedBytes(final String name, final byte[] bytes) {
+			final int firstByte = cursorBit >>> 3;
+			if (firstByte + bytes.length > MAX_FRAME_LENGTH) {
+				throw new CValidationException("Template entry '%s' does not fit into a %d byte frame".formatted(name, MAX_FRAME_LENGTH));
+			}
+			for (int i = 0; i < bytes.length; i++) {
+				occupy(name, (firstByte + i) * 8, 8);
+				fixed[firstByte + i] = bytes[i];
+			}
+			fixedLength = Math.max(fixedLength, firstByte + bytes.length);
+			cursorBit = (firstByte + bytes.length) * 8;
+		}
+
+		/** Places a variable; {@code startBit} -1 puts it at the next free byte after the previous entry. */
+		private void addSlot(final String variable, final int startBit, final int bitLength, final boolean bigEndian, final boolean signed,
+				final boolean floatingPoint, final double factor, final double offset) {
+			if (bitLength < 1 || bitLength > 64) {
+				throw new CValidationException("Bit length of '%s' must be between 1 and 64, was %d".formatted(variable, bitLength));
+			}
+			if (floatingPoint && bitLength != 32 && bitLength != 64) {
+				throw new CValidationException("Float variable '%s' needs 32 or 64 bits, was %d".formatted(variable, bitLength));
+			}
+			if (factor == 0 || !Double.isFinite(factor) || !Double.isFinite(offset)) {
+				throw new CValidationException("Factor and offset of '%s' must be finite and the factor not zero".formatted(variable));
+			}
+			final int alignedCursor = cursorBit + 7 & ~7;
+			final int start = startBit >= 0 ? startBit : bigEndian ? alignedCursor + (bitLength - 1 & 7) : alignedCursor;
+			final int[] positions = bitPositions(variable, start, bitLength, bigEndian);
+			int lastBit = 0;
+			for (final int position : positions) {
+				occupy(variable, position, 1);
+				lastBit = Math.max(lastBit, position);
+			}
+			slots.add(new CSlot(variable, positions, signed, floatingPoint, factor, offset));
+			cursorBit = (lastBit >>> 3) + 1 << 3;
+		}
+
+		private void occupy(final String name, final int firstBit, final int count) {
+			for (int bit = firstBit; bit < firstBit + count; bit++) {
+				if ((occupied[bit >>> 6] & 1L << bit) != 0) {
+					throw new CValidationException("Template entry '%s' overlaps another entry at bit %d".formatted(name, bit));
+				}
+				occupied[bit >>> 6] |= 1L << bit;
+			}
+		}
+
+		/** Fixed bytes of the layout form: defaults under the variables, not entries of their own. */
+		private void setDefaultBytes(final byte[] bytes) {
+			if (bytes.length > MAX_FRAME_LENGTH) {
+				throw new CValidationException("Fixed bytes do not fit into a %d byte frame".formatted(MAX_FRAME_LENGTH));
+			}
+			System.arraycopy(bytes, 0, fixed, 0, bytes.length);
+			fixedLength = bytes.length;
+		}
+
+		private CCanPayloadTemplate toTemplate(final Integer explicitLength) {
+			int needed = fixedLength;
+			for (final CSlot slot : slots) {
+				for (final int position : slot.positions) {
+					needed = Math.max(needed, (position >>> 3) + 1);
+				}
+			}
+			int length = -1;
+			for (final int candidate : FRAME_LENGTHS) {
+				if (explicitLength != null ? candidate == explicitLength : candidate >= needed) {
+					length = candidate;
+					break;
+				}
+			}
+			if (length < 0) {
+				throw new CValidationException("Template length %d is not a CAN frame length".formatted(explicitLength));
+			}
+			if (length < needed) {
+				throw new CValidationException("Template places data up to byte %d but declares a length of %d".formatted(needed, length));
+			}
+			final byte[] fixedBytes = new byte[length];
+			System.arraycopy(fixed, 0, fixedBytes, 0, length);
+			// Slot bits are cleared once here, so rendering can OR variable bits onto a plain copy.
+			for (final CSlot slot : slots) {
+				for (final int position : slot.positions) {
+					fixedBytes[position >>> 3] &= (byte) ~(1 << (position & 7));
+				}
+			}
+			return new CCanPayloadTemplate(fixedBytes, slots.toArray(CSlot[]::new));
+		}
+	}
+
+	/** One variable slot: the frame bit of each value bit, least significant first, and the physical to raw conversion. */
+	private static final class CSlot {
+
+		/** Frame byte of each value byte, least significant first; null when the slot does not cover whole bytes. */
+		private final int[] bytePositions;
+		private final double factor;
+		private final boolean floatingPoint;
+		private final long maxRaw;
+		private final long minRaw;
+		private final double offset;
+		private final int[] positions;
+		private final String variable;
+
+		private CSlot(final String variable, final int[] positions, final boolean signed, final boolean floatingPoint, final double factor,
+				final double offset) {
+			this.variable = variable;
+			this.positions = positions;
+			this.floatingPoint = floatingPoint;
+			this.factor = factor;
+			this.offset = offset;
+			final int length = positions.length;
+			minRaw = !signed ? 0 : length == 64 ? Long.MIN_VALUE : -(1L << length - 1);
+			maxRaw = length == 64 ? Long.MAX_VALUE : signed ? (1L << length - 1) - 1 : (1L << length) - 1;
+			bytePositions = bytePositionsOf(positions);
+		}
+
+		private long toRaw(final double value) {
+			final double scaled = (value - offset) / factor;
+			if (floatingPoint) {
+				return positions.length == 32 ? Float.floatToRawIntBits((float) scaled) : Double.doubleToRawLongBits(scaled);
+			}
+			return Math.max(minRaw, Math.min(maxRaw, Math.round(scaled)));
+		}
+	}
+
+	/** Frame bit of each value bit, least significant first. Intel signals count up from the start bit; Motorola signals start at their most
+	 * significant bit and continue with the next byte after bit 0 of a byte (DBC numbering). */
+	private static int[] bitPositions(final String variable, final int startBit, final int bitLength, final boolean bigEndian) {
+		final int[] positions = new int[bitLength];
+		int position = startBit;
+		for (int i = 0; i < bitLength; i++) {
+			if (position < 0 || position >= MAX_FRAME_LENGTH * 8) {
+				throw new CValidationException("Variable '%s' does not fit into a %d byte frame from start bit %d".formatted(variable, MAX_FRAME_LENGTH,
+						startBit));
+			}
+			if (bigEndian) {
+				positions[bitLength - 1 - i] = position;
+				position = (position & 7) == 0 ? position + 15 : position - 1;
+			} else {
+				positions[i] = position++;
+			}
+		}
+		return positions;
+	}
+
+	private static int[] bytePositionsOf(final int[] positions) {
+		if (positions.length % 8 != 0) {
+			return null;
+		}
+		final int[] bytes = new int[positions.length / 8];
+		for (int i = 0; i < bytes.length; i++) {
+			final int first = positions[i * 8];
+			if ((first & 7) != 0) {
+				return null;
+			}
+			for (int bit = 1; bit < 8; bit++) {
+				if (positions[i * 8 + bit] != first + bit) {
+					return null;
+				}
+			}
+			bytes[i] = first >>> 3;
+		}
+		return bytes;
+	}
+
+	/** Compiles a payload template.
+	 * @param templateJson the template of a CAN action mask; null or blank is an empty payload
+	 * @param protocol     variables of the destination node protocol, supplies placement the template leaves out
+	 * @throws CValidationException when the template is not valid JSON of one of the two forms or does not fit into a frame */
+	public static CCanPayloadTemplate compile(final String templateJson, final CCanProtocolVariableIndex protocol) {
+		Check.notNull(protocol, "Protocol variable index cannot be null");
+		if (templateJson == null || templateJson.isBlank()) {
+			return new CCanPayloadTemplate(new byte[0], new CSlot[0]);
+		}
+		final JsonNode root;
+		try {
+			root = OBJECT_MAPPER.readTree(templateJson);
+		} catch (final Exception e) {
+			throw new CValidationException("Payload template is not valid JSON: " + e.getMessage(), e);
+		}
+		if (root == null || !root.isObject()) {
+			throw new CValidationException("Payload template must be a JSON object");
+		}
+		final CLayoutBuilder builder = new CLayoutBuilder(protocol);
+		if (root.has("signals") || root.has("fixed") || root.has("length")) {
+			return compileLayout(root, builder);
+		}
+		for (final Iterator<Map.Entry<String, JsonNode>> fields = root.fields(); fields.hasNext();) {
+			final Map.Entry<String, JsonNode> field = fields.next();
+			final String variable = placeholderOf(field.getValue());
+			if (variable != null) {
+				addProtocolSlot(builder, variable, null);
+			} else {
+				builder.addFixedBytes(field.getKey(), literalBytes(field.getKey(), field.getValue()));
+			}
+		}
+		return builder.toTemplate(null);
+	}
+
+	/** Adds a variable with its protocol placement, overridden by whatever the signal entry of a layout template sets. */
+	private static void addProtocolSlot(final CLayoutBuilder builder, final String variable, final JsonNode signal) {
+		final RBitLayout layout = builder.protocol.find(variable).map(found -> found.layout()).orElse(RBitLayout.UNKNOWN);
+		final int protocolLength = layout.bitLength() > 0 ? layout.bitLength() : DEFAULT_BIT_LENGTH;
+		if (signal == null) {
+			builder.addSlot(variable, layout.startBit(), protocolLength, layout.bigEndian(), layout.signed(), layout.floatingPoint(), layout.factor(),
+					layout.offset());
+			return;
+		}
+		final String byteOrder = text(signal, "byteOrder");
+		final boolean bigEndian = byteOrder.isEmpty() ? layout.bigEndian()
+				: switch (byteOrder.toUpperCase(Locale.ROOT)) {
+				case CA2LFileParser.CKeys.BYTE_ORDER_MSB_FIRST, "BIG", "MOTOROLA" -> true;
+				case CA2LFileParser.CKeys.BYTE_ORDER_MSB_LAST, "LITTLE", "INTEL" -> false;
+				default -> throw new CValidationException("Unknown byte order '%s' for '%s'".formatted(byteOrder, variable));
+				};
+		builder.addSlot(variable, intOf(signal, "startBit", layout.startBit()), intOf(signal, "bitLength", protocolLength), bigEndian,
+				signal.has("signed") ? signal.get("signed").asBoolean() : layout.signed(),
+				signal.has("float") ? signal.get("float").asBoolean() : layout.floatingPoint(), doubleOf(signal, "factor", layout.factor()),
+				doubleOf(signal, "offset", layout.offset()));
+	}
+
+	private static CCanPayloadTemplate compileLayout(final JsonNode root, final CLayoutBuilder builder) {
+		final String fixed = text(root, "fixed").replace(" ", "");
+		if (!fixed.isEmpty()) {
+			builder.setDefaultBytes(parseHex("fixed", fixed));
+		}
+		final JsonNode signals = root.path("signals");
+		if (!signals.isMissingNode() && !signals.isArray()) {
+			throw new CValidationException("Payload template 'signals' must be an array");
+		}
+		for (final JsonNode signal : signals) {
+			final String variable = text(signal, "variable");
+			if (variable.isEmpty()) {
+				throw new CValidationException("Every payload template signal needs a 'variable'");
+			}
+			addProtocolSlot(builder, variable, signal);
+		}
+		return builder.toTemplate(root.has("length") ? intOf(root, "length", -1) : null);
+	}
+
+	private static double doubleOf(final JsonNode node, final String field, final double defaultValue) {
+		final JsonNode value = node.get(field);
+		if (value == null || value.isNull()) {
+			return defaultValue;
+		}
+		if (!value.isNumber()) {
+			throw new CValidationException("Payload template field '%s' must be a number".formatted(field));
+		}
+		return value.asDouble();
+	}
+
+	private static int intOf(final JsonNode node, final String field, final int defaultValue) {
+		final JsonNode value = node.get(field);
+		if (value == null || value.isNull()) {
+			return defaultValue;
+		}
+		if (!value.canConvertToInt() || !value.isIntegralNumber()) {
+			throw new CValidationException("Payload template field '%s' must be an integer".formatted(field));
+		}
+		return value.asInt();
+	}
+
+	private static byte[] literalBytes(final String name, final JsonNode value) {
+		if (value.isIntegralNumber() && value.canConvertToInt() && value.asInt() >= 0 && value.asInt() <= 0xFF) {
+			return new byte[] {
+					(byte) value.asInt()
+			};
+		}
+		final String text = value.isTextual() ? value.asText().trim() : "";
+		if (!text.regionMatches(true, 0, "0x", 0, 2)) {
+			throw new CValidationException("Template entry '%s' must be a ${variable} placeholder, a hex string or a byte value".formatted(name));
+		}
+		return parseHex(name, text);
+	}
+
+	private static byte[] parseHex(final String name, final String hex) {
+		final String digits = hex.regionMatches(true, 0, "0x", 0, 2) ? hex.substring(2) : hex;
+		try {
+			return HEX.parseHex(digits.length() % 2 == 0 ? digits : "0" + digits);
+		} catch (final IllegalArgumentException e) {
+			throw new CValidationException("Template entry '%s' is not a hex byte string: %s".formatted(name, hex), e);
+		}
+	}
+
+	/** Variable name of a {@code "${name}"} value, null for any other value. */
+	private static String placeholderOf(final JsonNode value) {
+		if (value == null || !value.isTextual()) {
+			return null;
+		}
+		final String text = value.asText().trim();
+		if (!text.startsWith(PLACEHOLDER_PREFIX) || !text.endsWith(PLACEHOLDER_SUFFIX)) {
+			return null;
+		}
+		final String name = text.substring(PLACEHOLDER_PREFIX.length(), text.length() - PLACEHOLDER_SUFFIX.length()).trim();
+		if (name.isEmpty() || name.contains(PLACEHOLDER_PREFIX)) {
+			throw new CValidationException("Invalid placeholder '%s' in payload template".formatted(text));
+		}
+		return name;
+	}
+
+	private static String text(final JsonNode node, final String field) {
+		final JsonNode value = node.get(field);
+		return value == null || value.isNull() || value.isContainerNode() ? "" : value.asText().trim();
+	}
+
+	private final byte[] fixedBytes;
+	private final CSlot[] slots;
+	private final List<String> variableNames;
+
+	private CCanPayloadTemplate(final byte[] fixedBytes, final CSlot[] slots) {
+		this.fixedBytes = fixedBytes;
+		this.slots = slots;
+		final List<String> names = new ArrayList<>(slots.length);
+		for (final CSlot slot : slots) {
+			names.add(slot.variable);
+		}
+		variableNames = List.copyOf(names);
+	}
+
+	/** Payload length in bytes. */
+	public int getLength() { return fixedBytes.length; }
+
+	/** Variable of each slot, in slot order; the order of the values passed to {@link #render(double[], byte[])}. */
+	public List<String> getVariableNames() { return variableNames; }
+
+	/** Slot of a variable, in any case, or -1 when the template does not use it. */
+	public int indexOf(final String variableName) {
+		final String normalized = CBabPolicyFilterCAN.normalizeVariableName(variableName);
+		for (int i = 0; i < slots.length; i++) {
+			if (CBabPolicyFilterCAN.normalizeVariableName(slots[i].variable).equals(normalized)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/** Writes one payload. Values are physical values; each is converted with the slot's factor and offset and clamped to its bit range.
+	 * @param values one value per slot, see {@link #getVariableNames()}
+	 * @param frame  receives the payload, at least {@link #getLength()} bytes
+	 * @return the payload length */
+	public int render(final double[] values, final byte[] frame) {
+		System.arraycopy(fixedBytes, 0, frame, 0, fixedBytes.length);
+		for (int i = 0; i < slots.length; i++) {
+			final CSlot slot = slots[i];
+			final long raw = slot.toRaw(values[i]);
+			if (slot.bytePositions != null) {
+				for (int b = 0; b < slot.bytePositions.length; b++) {
+					frame[slot.bytePositions[b]] = (byte) (raw >>> (b << 3));
+				}
+				continue;
+			}
+			for (int bit = 0; bit < slot.positions.length; bit++) {
+				if ((raw >>> bit & 1L) != 0) {
+					final int position = slot.positions[bit];
+					frame[position >>> 3] |= (byte) (1 << (position & 7));
+				}
+			}
+		}
+		return fixedBytes.length;
+	}
+
+	@Override
+	public String toString() {
+		return "CCanPayloadTemplate{length=%d, variables=%s}".formatted(fixedBytes.length, variableNames);
+	}
+}
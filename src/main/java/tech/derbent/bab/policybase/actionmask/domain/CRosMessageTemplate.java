@@ -0,0 +1,124 @@
+package tech.derbent.bab.policybase.actionmask.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import tech.derbent.api.exceptions.CValidationException;
+import tech.derbent.bab.policybase.filter.domain.CBabPolicyFilterCAN;
+
+/** CRosMessageTemplate - The message template of a {@link CBabPolicyActionMaskROS} compiled into text segments and variable slots.
+ * <p>
+ * WHY: a ROS message is JSON text, so there is no bit layout to precompute; what is saved is the parsing. The template is split once around its
+ * {@code ${variable}} placeholders, and rendering appends the segments and the values to a reusable buffer.
+ * </p>
+ * <p>
+ * RULE: a placeholder that is a whole string value ({@code "data":"${value}"}) is replaced by the bare JSON number, a placeholder inside a
+ * longer string by the number as text. Templates that are not a JSON object, contain an unclosed or empty placeholder, or are no longer valid
+ * JSON once the placeholders are replaced (a placeholder used as a key) are rejected with {@link CValidationException}.
+ * </p>
+ */
+public final class CRosMessageTemplate {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private static final String PLACEHOLDER_PREFIX = "${";
+	private static final char PLACEHOLDER_SUFFIX = '}';
+
+	private static void appendNumber(final StringBuilder out, final double value, final boolean bare) {
+		if (!Double.isFinite(value)) {
+			out.append(bare ? "null" : String.valueOf(value));
+		} else if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+			out.append((long) value);
+		} else {
+			out.append(value);
+		}
+	}
+
+	/** Compiles a message template.
+	 * @param templateJson the template of a ROS action mask; null or blank is an empty object
+	 * @throws CValidationException when the template is not a valid JSON object template */
+	public static CRosMessageTemplate compile(final String templateJson) {
+		final String template = templateJson == null || templateJson.isBlank() ? "{}" : templateJson.trim();
+		final List<String> segments = new ArrayList<>();
+		final List<String> variables = new ArrayList<>();
+		final List<Boolean> bare = new ArrayList<>();
+		int segmentStart = 0;
+		int placeholder = template.indexOf(PLACEHOLDER_PREFIX);
+		while (placeholder >= 0) {
+			final int end = template.indexOf(PLACEHOLDER_SUFFIX, placeholder);
+			if (end < 0) {
+				throw new CValidationException("Unclosed placeholder in message template at position %d".formatted(placeholder));
+			}
+			final String variable = template.substring(placeholder + PLACEHOLDER_PREFIX.length(), end).trim();
+			if (variable.isEmpty() || variable.contains(PLACEHOLDER_PREFIX) || variable.indexOf('"') >= 0) {
+				throw new CValidationException("Invalid placeholder '%s' in message template".formatted(template.substring(placeholder, end + 1)));
+			}
+			// A quoted placeholder standing alone becomes a bare number, so the quotes move out of the segments.
+			final boolean isBare = placeholder > 0 && template.charAt(placeholder - 1) == '"' && end + 1 < template.length()
+					&& template.charAt(end + 1) == '"';
+			segments.add(template.substring(segmentStart, isBare ? placeholder - 1 : placeholder));
+			variables.add(variable);
+			bare.add(isBare);
+			segmentStart = isBare ? end + 2 : end + 1;
+			placeholder = template.indexOf(PLACEHOLDER_PREFIX, segmentStart);
+		}
+		segments.add(template.substring(segmentStart));
+		final boolean[] bareSlots = new boolean[bare.size()];
+		for (int i = 0; i < bareSlots.length; i++) {
+			bareSlots[i] = bare.get(i);
+		}
+		final CRosMessageTemplate compiled = new CRosMessageTemplate(segments.toArray(String[]::new), List.copyOf(variables), bareSlots);
+		// Rendering once with zeros checks the template as it will be sent, including placeholders in positions JSON does not allow.
+		final JsonNode rendered;
+		try {
+			rendered = OBJECT_MAPPER.readTree(compiled.render(new double[bareSlots.length], new StringBuilder()).toString());
+		} catch (final Exception e) {
+			throw new CValidationException("Message template is not valid JSON: " + e.getMessage(), e);
+		}
+		if (rendered == null || !rendered.isObject()) {
+			throw new CValidationException("Message template must be a JSON object");
+		}
+		return compiled;
+	}
+
+	private final boolean[] bare;
+	private final String[] segments;
+	private final List<String> variableNames;
+
+	private CRosMessageTemplate(final String[] segments, final List<String> variableNames, final boolean[] bare) {
+		this.segments = segments;
+		this.variableNames = variableNames;
+		this.bare = bare;
+	}
+
+	/** Variable of each slot, in slot order; the order of the values passed to {@link #render(double[], StringBuilder)}. */
+	public List<String> getVariableNames() { return variableNames; }
+
+	/** Slot of a variable, in any case, or -1 when the template does not use it. */
+	public int indexOf(final String variableName) {
+		final String normalized = CBabPolicyFilterCAN.normalizeVariableName(variableName);
+		for (int i = 0; i < variableNames.size(); i++) {
+			if (CBabPolicyFilterCAN.normalizeVariableName(variableNames.get(i)).equals(normalized)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/** Appends one message to a buffer the caller reuses between messages.
+	 * @param values one value per slot, see {@link #getVariableNames()}
+	 * @param out    receives the message
+	 * @return {@code out} */
+	public StringBuilder render(final double[] values, final StringBuilder out) {
+		for (int i = 0; i < bare.length; i++) {
+			out.append(segments[i]);
+			appendNumber(out, values[i], bare[i]);
+		}
+		return out.append(segments[bare.length]);
+	}
+
+	@Override
+	public String toString() {
+		return "CRosMessageTemplate{variables=%s}".formatted(variableNames);
+	}
+}
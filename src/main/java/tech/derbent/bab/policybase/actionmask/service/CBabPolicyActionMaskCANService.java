@@ -16,11 +16,13 @@ import tech.derbent.api.registry.IEntityWithView;
 import tech.derbent.api.session.service.ISessionService;
 import tech.derbent.api.utils.Check;
 import tech.derbent.bab.policybase.actionmask.domain.CBabPolicyActionMaskCAN;
+import tech.derbent.bab.policybase.actionmask.domain.CCanPayloadTemplate;
 import tech.derbent.bab.policybase.actionmask.domain.ROutputActionMapping;
 import tech.derbent.bab.policybase.filter.domain.CBabPolicyFilterCAN;
 import tech.derbent.bab.policybase.filter.domain.ROutputStructure;
 import tech.derbent.bab.policybase.node.can.CBabCanNode;
 import tech.derbent.bab.policybase.node.can.CBabCanNodeService;
+import tech.derbent.bab.policybase.node.can.CCanProtocolVariableIndex;
 
 @Service
 @Profile({"bab", "default", "test"})
@@ -33,6 +35,15 @@ public class CBabPolicyActionMaskCANService extends CBabPolicyActionMaskBaseServ
 		super(repository, clock, sessionService);
 	}
 
+	/** Compiles the payload template of a mask against the protocol of its destination node, for senders that emit the mask's frames.
+	 * @throws CValidationException when the template is invalid */
+	public CCanPayloadTemplate compilePayloadTemplate(final CBabPolicyActionMaskCAN mask) {
+		Check.notNull(mask, "Action mask cannot be null");
+		final CCanProtocolVariableIndex protocol = mask.getDestinationNode() instanceof final CBabCanNode destinationNode
+				? resolveDestinationProtocol(destinationNode) : CCanProtocolVariableIndex.EMPTY;
+		return CCanPayloadTemplate.compile(mask.getPayloadTemplateJson(), protocol);
+	}
+
 	@Override
 	protected void copyTypeSpecificFieldsTo(final CBabPolicyActionMaskCAN source, final CBabPolicyActionMaskCAN target,
 			final CCloneOptions options) {
@@ -52,6 +63,16 @@ public class CBabPolicyActionMaskCANService extends CBabPolicyActionMaskBaseServ
 	@Override
 	public Class<?> getServiceClass() { return this.getClass(); }
 
+	/** Protocol of the destination node; the JSON is loaded from the database when the node was read without it. */
+	private CCanProtocolVariableIndex resolveDestinationProtocol(final CBabCanNode destinationNode) {
+		final String protocolJson = destinationNode.getProtocolFileJson();
+		if ((protocolJson == null || protocolJson.isBlank()) && destinationNode.getId() != null) {
+			return CCanProtocolVariableIndex.of(CSpringContext.getBean(CBabCanNodeService.class)
+					.loadProtocolContentFromDb(destinationNode.getId(), CBabCanNodeService.EProtocolContentField.JSON));
+		}
+		return destinationNode.getProtocolVariableIndex();
+	}
+
 	@Override
 	protected void validateTypeSpecificFields(final CBabPolicyActionMaskCAN entity) {
 		Check.notBlank(entity.getTargetFrameIdHex(), "Target frame id hex is required");
@@ -64,6 +85,8 @@ public class CBabPolicyActionMaskCANService extends CBabPolicyActionMaskBaseServ
 					.formatted(CBabPolicyActionMaskCAN.OUTPUT_METHOD_XCP_DOWNLOAD, CBabPolicyActionMaskCAN.OUTPUT_METHOD_XCP_UPLOAD));
 		}
 		validateOutputActionMappings(entity);
+		// Compiling rejects templates that do not parse or do not fit into a frame, before a gateway meets them.
+		compilePayloadTemplate(entity);
 	}
 
 	private void validateOutputActionMappings(final CBabPolicyActionMaskCAN entity) {
@@ -85,14 +108,8 @@ public class CBabPolicyActionMaskCANService extends CBabPolicyActionMaskBaseServ
 			}
 			sourceOutputsByName.putIfAbsent(CBabPolicyFilterCAN.normalizeVariableName(output.name()), output);
 		});
-		final CBabCanNode destinationNode = (CBabCanNode) entity.getDestinationNode();
-		String destinationProtocolJson = destinationNode.getProtocolFileJson();
-		if ((destinationProtocolJson == null || destinationProtocolJson.isBlank()) && destinationNode.getId() != null) {
-			destinationProtocolJson = CSpringContext.getBean(CBabCanNodeService.class)
-					.loadProtocolContentFromDb(destinationNode.getId(), CBabCanNodeService.EProtocolContentField.JSON);
-		}
-		final Map<String, ROutputStructure> destinationOutputsByName = CBabPolicyFilterCAN
-				.getOutputStructureByVariableName(destinationProtocolJson);
+		final Map<String, ROutputStructure> destinationOutputsByName =
+				resolveDestinationProtocol((CBabCanNode) entity.getDestinationNode()).getOutputStructureByVariableName();
 		for (final ROutputActionMapping mapping : mappings) {
 			if (mapping == null || mapping.outputName().isBlank()) {
 				continue;
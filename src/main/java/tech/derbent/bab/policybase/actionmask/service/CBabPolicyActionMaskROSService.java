@@ -11,6 +11,7 @@ import tech.derbent.api.registry.IEntityWithView;
 import tech.derbent.api.session.service.ISessionService;
 import tech.derbent.api.utils.Check;
 import tech.derbent.bab.policybase.actionmask.domain.CBabPolicyActionMaskROS;
+import tech.derbent.bab.policybase.actionmask.domain.CRosMessageTemplate;
 
 @Service
 @Profile({"bab", "default", "test"})
@@ -50,5 +51,6 @@ public class CBabPolicyActionMaskROSService extends CBabPolicyActionMaskBaseServ
 		if (entity.getOutputMethod() != null && !entity.getOutputMethod().isBlank()) {
 			throw new CValidationException("Output method is only configurable for CAN action masks");
 		}
+		CRosMessageTemplate.compile(entity.getMessageTemplateJson());
 	}
 }
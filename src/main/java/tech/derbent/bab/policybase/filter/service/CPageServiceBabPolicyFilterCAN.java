@@ -6,8 +6,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import org.springframework.context.annotation.Profile;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import tech.derbent.api.config.CSpringContext;
 import tech.derbent.api.services.pageservice.CPageServiceDynamicPage;
 import tech.derbent.api.services.pageservice.IPageServiceImplementer;
@@ -15,9 +13,10 @@ import tech.derbent.api.ui.component.enhanced.CComponentMultiColumnListSelection
 import tech.derbent.api.ui.component.enhanced.CCrudToolbar;
 import tech.derbent.api.ui.notifications.CNotificationService;
 import tech.derbent.bab.policybase.filter.domain.CBabPolicyFilterCAN;
-import tech.derbent.bab.policybase.node.can.CA2LFileParser;
 import tech.derbent.bab.policybase.node.can.CBabCanNode;
 import tech.derbent.bab.policybase.node.can.CBabCanNodeService;
+import tech.derbent.bab.policybase.node.can.CCanProtocolVariableIndex;
+import tech.derbent.bab.policybase.node.can.CCanProtocolVariableIndex.RProtocolVariable;
 
 @Profile ("bab")
 public class CPageServiceBabPolicyFilterCAN extends CPageServiceDynamicPage<CBabPolicyFilterCAN> {
@@ -32,61 +31,16 @@ public class CPageServiceBabPolicyFilterCAN extends CPageServiceDynamicPage<CBab
 		toolbar.configureButtonVisibility(false, true, true, true);
 	}
 
-	private static final TypeReference<Map<String, Object>> JSON_MAP_TYPE = new TypeReference<Map<String, Object>>() {};
-	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
-	private static String findRecordTypeLabelForVariable(final String variableName, final String protocolJson) {
-		if (protocolJson == null || protocolJson.isBlank()) {
-			return "";
-		}
-		try {
-			final Map<String, Object> jsonMap = OBJECT_MAPPER.readValue(protocolJson, JSON_MAP_TYPE);
-			for (final Object entryValue : jsonMap.values()) {
-				if (!(entryValue instanceof final Map<?, ?> entryMap)) {
-					continue;
-				}
-				final Object nameValue = entryMap.get(CA2LFileParser.CKeys.NAME);
-				if (nameValue == null || !variableName.equalsIgnoreCase(String.valueOf(nameValue).trim())) {
-					continue;
-				}
-				final Object recordType = entryMap.get(CA2LFileParser.CKeys.RECORD_TYPE);
-				if (recordType != null && !String.valueOf(recordType).isBlank()) {
-					return String.valueOf(recordType).trim().toUpperCase();
-				}
-			}
-		} catch (final Exception e) {
-			// Return empty record type if JSON contains unsupported structure.
-		}
-		return "";
+	/** Record layout type of a variable (UBYTE, UWORD...), empty when unknown. */
+	private static String findRecordTypeLabelForVariable(final String variableName, final CCanProtocolVariableIndex index) {
+		return index.find(variableName).map(RProtocolVariable::recordType).filter(recordType -> !recordType.isBlank())
+				.map(recordType -> recordType.toUpperCase()).orElse("");
 	}
 
-	private static String findTypeLabelForVariable(final String variableName, final String protocolJson) {
-		if (protocolJson == null || protocolJson.isBlank()) {
-			return "";
-		}
-		try {
-			final Map<String, Object> jsonMap = OBJECT_MAPPER.readValue(protocolJson, JSON_MAP_TYPE);
-			for (final Object entryValue : jsonMap.values()) {
-				if (!(entryValue instanceof final Map<?, ?> entryMap)) {
-					continue;
-				}
-				final Object nameValue = entryMap.get(CA2LFileParser.CKeys.NAME);
-				if (nameValue == null || !variableName.equalsIgnoreCase(String.valueOf(nameValue).trim())) {
-					continue;
-				}
-				final Object dataType = entryMap.get(CA2LFileParser.CKeys.DATA_TYPE);
-				if (dataType != null && !String.valueOf(dataType).isBlank()) {
-					return normalizeTypeLabel(String.valueOf(dataType));
-				}
-				final Object fieldType = entryMap.get(CA2LFileParser.CKeys.FIELD_TYPE);
-				if (fieldType != null && !String.valueOf(fieldType).isBlank()) {
-					return normalizeTypeLabel(String.valueOf(fieldType));
-				}
-			}
-		} catch (final Exception e) {
-			// Return empty type if JSON contains unsupported structure.
-		}
-		return "";
+	/** Human-readable data type of a variable, from its data type or else its field type. */
+	private static String findTypeLabelForVariable(final String variableName, final CCanProtocolVariableIndex index) {
+		return index.find(variableName).map(variable -> !variable.rawDataType().isBlank() ? variable.rawDataType() : variable.fieldType())
+				.filter(type -> !type.isBlank()).map(CPageServiceBabPolicyFilterCAN::normalizeTypeLabel).orElse("");
 	}
 
 	private static String normalizeTypeLabel(final String rawType) {
@@ -124,19 +78,20 @@ public class CPageServiceBabPolicyFilterCAN extends CPageServiceDynamicPage<CBab
 			if ((protocolJson == null || protocolJson.isBlank()) && parentCanNode.getId() != null) {
 				protocolJson = canNodeService.loadProtocolContentFromDb(parentCanNode.getId(), CBabCanNodeService.EProtocolContentField.JSON);
 			}
-			availableVariables.addAll(canNodeService.extractProtocolVariableNames(protocolJson));
 		}
+		// One index lookup for all rows; the JSON is parsed at most once per protocol content.
+		final CCanProtocolVariableIndex index = CCanProtocolVariableIndex.of(protocolJson);
+		availableVariables.addAll(index.getVariableNames());
 		if (entity.getProtocolVariableNames() != null) {
 			availableVariables.addAll(entity.getProtocolVariableNames());
 		}
-		final String protocolJsonSnapshot = protocolJson;
 		return availableVariables.stream().map(variableName -> {
 			// LinkedHashMap keeps insertion order; CFormBuilder reads keys in this exact order as grid columns.
 			final Map<String, String> columns = new LinkedHashMap<>();
 			// Column 3: low-level record type (UBYTE/UWORD/etc.).
-			columns.put("recordType", findRecordTypeLabelForVariable(variableName, protocolJsonSnapshot));
+			columns.put("recordType", findRecordTypeLabelForVariable(variableName, index));
 			// Column 2: human-readable type context.
-			columns.put("variableType", findTypeLabelForVariable(variableName, protocolJsonSnapshot));
+			columns.put("variableType", findTypeLabelForVariable(variableName, index));
 			// Column 1: persisted return value column.
 			columns.put("protocolVariableName", variableName);
 			// One grid row record = icon + ordered column values map.
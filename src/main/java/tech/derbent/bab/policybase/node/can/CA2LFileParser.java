@@ -91,6 +91,8 @@ public final class CA2LFileParser {
 		public static final String ALL_A2L_VARIABLES = "_all_a2l_variables";
 		public static final String ALL_BUFFER_VALUES = "_all_buffer_values";
 		public static final String ALL_DBC_VALUES = "_all_dbc_values";
+		public static final String ALL_PGNS_BY_ADDRESS = "_all_pgns_by_address";
+		public static final String ATTRIBUTES = "Attributes";
 		public static final String AXIS2_INPUT = "Axis2Input";
 		public static final String AXIS2_LOWER_LIMIT = "Axis2LowerLimit";
 		public static final String AXIS2_NUMBER_OF_POINTS = "Axis2NumberOfPoints";
@@ -119,33 +121,62 @@ public final class CA2LFileParser {
 		public static final String AXIS_Y_NUMBER_OF_POINTS = "AxisYNumberOfPoints";
 		public static final String AXIS_Y_TYPE = "AxisYType";
 		public static final String AXIS_Y_UPPER_LIMIT = "AxisYUpperLimit";
+		public static final String BIT_LENGTH = "BitLength";
 		public static final String BIT_MASK = "BIT_MASK";
 		public static final String BYTE_ORDER = "BYTE_ORDER";
+		public static final String CAN_ID = "CanId";
+		public static final String COMMENT = "Comment";
 		public static final String COEFFICIENTS = "Coefficients";
 		public static final String COMPUTE_METHODS = "_COMPUTE_METHODS";
 		public static final String CONVERSION = "Conversion";
 		public static final String DATA_TYPE = "DataType";
+		public static final String DBC_MESSAGES = "_DBC_MESSAGES";
+		public static final String DESTINATION_ADDRESS = "DestinationAddress";
+		public static final String EXTENDED = "Extended";
+		public static final String FACTOR = "Factor";
 		public static final String FIELD_TYPE = "FieldType";
 		public static final String FORMAT = "Format";
 		public static final String IDENTIFIER = "Identifier";
 		public static final String INDEX = "Index";
+		public static final String LENGTH = "Length";
 		public static final String LOWER_LIMIT = "LowerLimit";
 		public static final String MAX_DIFF = "MaxDiff";
 		public static final String MEMORY_REGIONS = "_MEMORY_REGIONS";
+		public static final String MESSAGE = "Message";
+		public static final String MULTIPLEX_VALUE = "MultiplexValue";
+		public static final String MULTIPLEXER = "Multiplexer";
 		public static final String NAME = "Name";
 		public static final String NO_COMPU_METHOD = "NO_COMPU_METHOD";
+		public static final String OFFSET = "Offset";
+		public static final String PGN = "Pgn";
+		public static final String PRIORITY = "Priority";
+		public static final String RECEIVERS = "Receivers";
 		public static final String RECORD_TYPE = "RecordType";
 		public static final String RESOLUTION = "Resolution";
+		public static final String SIGNALS = "Signals";
+		public static final String SIGNED = "Signed";
 		public static final String SOURCE = "Source";
+		public static final String SOURCE_ADDRESS = "SourceAddress";
+		public static final String START_BIT = "StartBit";
+		public static final String TRANSMITTER = "Transmitter";
 		public static final String UPPER_LIMIT = "UpperLimit";
 		public static final String UNITS = "Units";
+		public static final String VALUE_TABLE = "ValueTable";
+
+		public static final String BYTE_ORDER_MSB_FIRST = "MSB_FIRST";
+		public static final String BYTE_ORDER_MSB_LAST = "MSB_LAST";
 
 		public static final String DATA_TYPE_CURVE = "CURVE";
 		public static final String DATA_TYPE_MAP = "MAP";
 		public static final String DATA_TYPE_VALUE = "VALUE";
 
+		public static final String RECORD_A_INT64 = "A_INT64";
+		public static final String RECORD_A_UINT64 = "A_UINT64";
 		public static final String RECORD_FLOAT32_IEEE = "FLOAT32_IEEE";
+		public static final String RECORD_FLOAT64_IEEE = "FLOAT64_IEEE";
+		public static final String RECORD_SBYTE = "SBYTE";
 		public static final String RECORD_SLONG = "SLONG";
+		public static final String RECORD_SWORD = "SWORD";
 		public static final String RECORD_UBYTE = "UBYTE";
 		public static final String RECORD_ULONG = "ULONG";
 		public static final String RECORD_UWORD = "UWORD";
@@ -419,7 +450,7 @@ public final class CA2LFileParser {
 			}
 			if (isNonFloatRecord(recordType)) {
 				allA2LNonFloatValues.add(key);
-			} else if (CKeys.RECORD_FLOAT32_IEEE.equals(recordType)) {
+			} else if (CKeys.RECORD_FLOAT32_IEEE.equals(recordType) || CKeys.RECORD_FLOAT64_IEEE.equals(recordType)) {
 				allA2LFloatValues.add(key);
 			}
 		}
@@ -452,7 +483,8 @@ public final class CA2LFileParser {
 
 	private static boolean isNonFloatRecord(final String recordType) {
 		return CKeys.RECORD_UWORD.equals(recordType) || CKeys.RECORD_UBYTE.equals(recordType) || CKeys.RECORD_ULONG.equals(recordType)
-				|| CKeys.RECORD_SLONG.equals(recordType) || "Scalar_BOOLEAN".equals(recordType);
+				|| CKeys.RECORD_SLONG.equals(recordType) || CKeys.RECORD_SBYTE.equals(recordType) || CKeys.RECORD_SWORD.equals(recordType)
+				|| CKeys.RECORD_A_INT64.equals(recordType) || CKeys.RECORD_A_UINT64.equals(recordType) || "Scalar_BOOLEAN".equals(recordType);
 	}
 
 	private static void sortCaseInsensitive(final List<String> list) {
@@ -1,6 +1,10 @@
 package tech.derbent.bab.policybase.node.can;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.Set;
 import org.slf4j.Logger;
@@ -93,6 +97,18 @@ public class CBabCanNode extends CBabNodeEntity<CBabCanNode> {
 			description = "Raw protocol definition file content, lazily loaded on demand", hidden = true
 	)
 	private String protocolFileData;
+	@Column (name = "protocol_file_data_sha256", length = 64)
+	@AMetaData (
+			displayName = "Protocol File Data SHA-256", required = false, readOnly = true,
+			description = "SHA-256 of the UTF-8 protocol file content, set with the content", hidden = true
+	)
+	private String protocolFileDataSha256;
+	@Column (name = "protocol_file_data_size")
+	@AMetaData (
+			displayName = "Protocol File Data Size", required = false, readOnly = true,
+			description = "UTF-8 byte length of the protocol file content, set with the content", hidden = true
+	)
+	private Long protocolFileDataSize;
 	@Basic (fetch = FetchType.LAZY)
 	@Column (name = "protocol_file_json", columnDefinition = "text")
 	@AMetaData (
@@ -100,6 +116,18 @@ public class CBabCanNode extends CBabNodeEntity<CBabCanNode> {
 			description = "Parsed protocol definition JSON, lazily loaded on demand", hidden = true
 	)
 	private String protocolFileJson;
+	@Column (name = "protocol_file_json_sha256", length = 64)
+	@AMetaData (
+			displayName = "Protocol File JSON SHA-256", required = false, readOnly = true,
+			description = "SHA-256 of the UTF-8 parsed protocol JSON, set with the JSON", hidden = true
+	)
+	private String protocolFileJsonSha256;
+	@Column (name = "protocol_file_json_size")
+	@AMetaData (
+			displayName = "Protocol File JSON Size", required = false, readOnly = true,
+			description = "UTF-8 byte length of the parsed protocol JSON, set with the JSON", hidden = true
+	)
+	private Long protocolFileJsonSize;
 	@Column (name = "protocol_file_summary_json", columnDefinition = "text")
 	@AMetaData (
 			displayName = "Protocol File Summary JSON", required = false, readOnly = true,
@@ -112,6 +140,12 @@ public class CBabCanNode extends CBabNodeEntity<CBabCanNode> {
 			dataProviderBean = "pageservice", dataProviderMethod = "getComboValuesOfProtocolType", setBackgroundFromColor = true, useIcon = true
 	)
 	private String protocolType;
+	/** Variable index of {@link #protocolFileJson}; rebuilt (from the shared cache) when the JSON content changes. */
+	@Transient
+	private CCanProtocolVariableIndex protocolVariableIndex;
+	/** {@link String#hashCode()} of the JSON the index was taken for; strings cache it, so the check is free for an unchanged field. */
+	@Transient
+	private int protocolVariableIndexJsonHash;
 
 	/** Default constructor for JPA. */
 	protected CBabCanNode() {
@@ -133,6 +167,7 @@ public class CBabCanNode extends CBabNodeEntity<CBabCanNode> {
 	public void clearProtocolFileCache() {
 		protocolFileData = null;
 		protocolFileJson = null;
+		protocolVariableIndex = null;
 	}
 
 	// Interface implementations
@@ -171,12 +206,34 @@ public class CBabCanNode extends CBabNodeEntity<CBabCanNode> {
 
 	public String getProtocolFileData() { return protocolFileData; }
 
+	public String getProtocolFileDataSha256() { return protocolFileDataSha256; }
+
+	public Long getProtocolFileDataSize() { return protocolFileDataSize; }
+
 	public String getProtocolFileJson() { return protocolFileJson; }
 
+	public String getProtocolFileJsonSha256() { return protocolFileJsonSha256; }
+
+	public Long getProtocolFileJsonSize() { return protocolFileJsonSize; }
+
 	public String getProtocolFileSummaryJson() { return protocolFileSummaryJson; }
 
 	public String getProtocolType() { return protocolType; }
 
+	/** Variables of the loaded protocol file, shared by all filters of this node.
+	 * @return the index, empty when no protocol JSON is loaded */
+	public CCanProtocolVariableIndex getProtocolVariableIndex() {
+		final String json = getProtocolFileJson();
+		final int jsonHash = json != null ? json.hashCode() : 0;
+		CCanProtocolVariableIndex index = protocolVariableIndex;
+		if (index == null || protocolVariableIndexJsonHash != jsonHash) {
+			index = CCanProtocolVariableIndex.of(json);
+			protocolVariableIndex = index;
+			protocolVariableIndexJsonHash = jsonHash;
+		}
+		return index;
+	}
+
 	// IEntityRegistrable implementation
 	@Override
 	public Class<?> getServiceClass() { return Object.class; }
@@ -226,9 +283,22 @@ public class CBabCanNode extends CBabNodeEntity<CBabCanNode> {
 		placeHolder_createComponentProtocolFileData = value;
 	}
 
-	public void setProtocolFileData(final String protocolFileData) { this.protocolFileData = protocolFileData; }
+	/** Sets the raw protocol content with its hash and size, which serve downloads without reading the content. */
+	public void setProtocolFileData(final String protocolFileData) {
+		this.protocolFileData = protocolFileData;
+		final byte[] bytes = utf8OrNull(protocolFileData);
+		protocolFileDataSha256 = bytes != null ? sha256Of(bytes) : null;
+		protocolFileDataSize = bytes != null ? (long) bytes.length : null;
+	}
 
-	public void setProtocolFileJson(final String protocolFileJson) { this.protocolFileJson = protocolFileJson; }
+	/** Sets the parsed protocol JSON with its hash and size, which serve downloads without reading the JSON. */
+	public void setProtocolFileJson(final String protocolFileJson) {
+		this.protocolFileJson = protocolFileJson;
+		protocolVariableIndex = null;
+		final byte[] bytes = utf8OrNull(protocolFileJson);
+		protocolFileJsonSha256 = bytes != null ? sha256Of(bytes) : null;
+		protocolFileJsonSize = bytes != null ? (long) bytes.length : null;
+	}
 
 	public void setProtocolFileSummaryJson(final String protocolFileSummaryJson) {
 		this.protocolFileSummaryJson = protocolFileSummaryJson;
@@ -242,7 +312,21 @@ public class CBabCanNode extends CBabNodeEntity<CBabCanNode> {
 	private static Map<String, Set<String>> createExcludedFieldMap_BabPolicy() {
 		final Map<String, Set<String>> map = new java.util.HashMap<>();
 		map.put("CBabCanNode", Set.of("nodeConfigJson", "connectionStatus", "protocolFileSummaryJson", "protocolFileJson", "protocolFileData",
+				"protocolFileDataSha256", "protocolFileDataSize", "protocolFileJsonSha256", "protocolFileJsonSize",
 				"placeHolder_createComponentProtocolFileData", "bitrate"));
 		return Map.copyOf(map);
 	}
+
+	static String sha256Of(final byte[] bytes) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	/** UTF-8 bytes of stored protocol content; blank content counts as none, as for downloads. */
+	static byte[] utf8OrNull(final String content) {
+		return content == null || content.isBlank() ? null : content.getBytes(StandardCharsets.UTF_8);
+	}
 }
@@ -1,6 +1,8 @@
 package tech.derbent.bab.policybase.node.can;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Clock;
@@ -9,6 +11,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import org.slf4j.Logger;
@@ -51,6 +54,9 @@ public class CBabCanNodeService extends CBabNodeService<CBabCanNode> implements
 		JSON, RAW
 	}
 
+	/** Owner, stored SHA-256 and UTF-8 size of one protocol content field. */
+	public record RProtocolContentInfo(Long companyId, String sha256, long size) {}
+
 	public enum EProtocolJsonKey {
 
 		ALL_A2L_VARIABLES(CA2LFileParser.CKeys.ALL_A2L_VARIABLES), NAME(CA2LFileParser.CKeys.NAME);
@@ -68,38 +74,11 @@ public class CBabCanNodeService extends CBabNodeService<CBabCanNode> implements
 	private static final CA2LFileParser A2L_FILE_PARSER = new CA2LFileParser();
 	private static final String A2L_JSON_EXTENSION = ".a2l.json";
 	private static final String CSV_SEPARATOR = ",";
+	private static final CDBCFileParser DBC_FILE_PARSER = new CDBCFileParser();
 	private static final TypeReference<Map<String, Object>> JSON_MAP_TYPE = new TypeReference<Map<String, Object>>() {};
 	private static final Logger LOGGER = LoggerFactory.getLogger(CBabCanNodeService.class);
 	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
-	private static void addVariableNamesFromCsvKey(final Set<String> targetVariableNames, final Object csvValue) {
-		if (csvValue == null) {
-			return;
-		}
-		final String csv = String.valueOf(csvValue);
-		java.util.Arrays.stream(csv.split(CSV_SEPARATOR)).map(String::trim).filter(token -> !token.isEmpty()).forEach(targetVariableNames::add);
-	}
-
-	@SuppressWarnings ("unchecked")
-	private static void addVariableNamesFromEntries(final Set<String> targetVariableNames, final Map<String, Object> protocolJsonMap) {
-		for (final Map.Entry<String, Object> entry : protocolJsonMap.entrySet()) {
-			if (entry.getKey().startsWith("_")) {
-				continue;
-			}
-			if (!(entry.getValue() instanceof final Map<?, ?> entryMap)) {
-				continue;
-			}
-			final Object nameValue = ((Map<String, Object>) entryMap).get(EProtocolJsonKey.NAME.getKey());
-			if (nameValue == null) {
-				continue;
-			}
-			final String variableName = String.valueOf(nameValue).trim();
-			if (!variableName.isEmpty()) {
-				targetVariableNames.add(variableName);
-			}
-		}
-	}
-
 	private static int csvCount(final Object csvValue) {
 		if (csvValue == null) {
 			return 0;
@@ -251,25 +230,12 @@ public class CBabCanNodeService extends CBabNodeService<CBabCanNode> implements
 		if (isBlank(node.getProtocolFileData())) {
 			return;
 		}
-		node.setProtocolFileJson(parseA2LContentAsJson(node.getProtocolFileData()));
+		node.setProtocolFileJson(parseProtocolContentAsJson(node.getProtocolFileData()));
 	}
 
-	/** Extract unique protocol variable names from a stored protocol JSON blob. */
+	/** Extract unique protocol variable names from a stored protocol JSON blob, sorted case-insensitively. */
 	public List<String> extractProtocolVariableNames(final String protocolJson) {
-		if (isBlank(protocolJson)) {
-			return List.of();
-		}
-		final Set<String> variableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-		try {
-			final Map<String, Object> jsonMap = OBJECT_MAPPER.readValue(protocolJson, JSON_MAP_TYPE);
-			addVariableNamesFromCsvKey(variableNames, jsonMap.get(EProtocolJsonKey.ALL_A2L_VARIABLES.getKey()));
-			if (variableNames.isEmpty()) {
-				addVariableNamesFromEntries(variableNames, jsonMap);
-			}
-		} catch (final Exception e) {
-			LOGGER.warn("Failed to extract protocol variable names from protocol JSON: {}", e.getMessage());
-		}
-		return new ArrayList<>(variableNames);
+		return new ArrayList<>(CCanProtocolVariableIndex.of(protocolJson).getVariableNames());
 	}
 
 	@Override
@@ -295,6 +261,19 @@ public class CBabCanNodeService extends CBabNodeService<CBabCanNode> implements
 	@Override
 	public Class<?> getPageServiceClass() { return CPageServiceCanNode.class; }
 
+	/** Download metadata of a protocol content field, read without the content columns.
+	 * @return empty when the node does not exist or the field holds no content */
+	@Transactional (readOnly = true)
+	public Optional<RProtocolContentInfo> getProtocolContentInfo(final Long nodeId, final EProtocolContentField field) {
+		Check.notNull(nodeId, "Node id cannot be null");
+		Check.notNull(field, "Protocol content field cannot be null");
+		return ((ICanNodeRepository) repository).findProtocolContentInfo(nodeId).stream().findFirst().map(row -> {
+			final int offset = field == EProtocolContentField.RAW ? 1 : 3;
+			return row[offset] == null ? null
+					: new RProtocolContentInfo((Long) row[0], (String) row[offset], ((Number) row[offset + 1]).longValue());
+		});
+	}
+
 	@Override
 	public Class<?> getServiceClass() { return CBabCanNodeService.class; }
 
@@ -309,7 +288,7 @@ public class CBabCanNodeService extends CBabNodeService<CBabCanNode> implements
 	public List<String> listProtocolVariableNamesByProject(final CProject<?> project) {
 		Check.notNull(project, "Project cannot be null");
 		final Set<String> variableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-		listByProject(project).forEach((final CBabCanNode node) -> variableNames.addAll(extractProtocolVariableNames(node.getProtocolFileJson())));
+		listByProject(project).forEach((final CBabCanNode node) -> variableNames.addAll(node.getProtocolVariableIndex().getVariableNames()));
 		return new ArrayList<>(variableNames);
 	}
 
@@ -342,6 +321,38 @@ public class CBabCanNodeService extends CBabNodeService<CBabCanNode> implements
 		}
 	}
 
+	/** Parse raw DBC content string and return pretty JSON output in the same variable format as A2L parsing. */
+	public String parseDBCContentAsJson(final String dbcContent) {
+		Check.notBlank(dbcContent, "DBC content cannot be null or empty");
+		final Map<String, Object> parsed = DBC_FILE_PARSER.parseContentAndSummarize(dbcContent, Set.of(), 0).jsonObject();
+		try {
+			return A2L_FILE_PARSER.toPrettyJson(parsed);
+		} catch (final JsonProcessingException e) {
+			throw new IllegalArgumentException("Failed to serialize parsed DBC JSON from in-memory content", e);
+		}
+	}
+
+	/** Parse an uploaded protocol file (UTF-8) as DBC or A2L, detected from the content like {@link #parseProtocolContentAsJson(String)}; DBC
+	 * files are streamed from disk, A2L files are read as a list of lines, which its parser needs. */
+	public String parseProtocolFileAsJson(final Path protocolFile) throws IOException {
+		Check.notNull(protocolFile, "Protocol file path cannot be null");
+		final Map<String, Object> parsed;
+		if (CDBCFileParser.isDbcFile(protocolFile, StandardCharsets.UTF_8)) {
+			try (Reader reader = Files.newBufferedReader(protocolFile, StandardCharsets.UTF_8)) {
+				parsed = DBC_FILE_PARSER.parse(reader, Set.of(), 0).jsonObject();
+			}
+			A2L_FILE_PARSER.summarizeA2LObject(parsed);
+		} else {
+			parsed = A2L_FILE_PARSER.parseFileAndSummarize(protocolFile, Set.of(), 0).jsonObject();
+		}
+		return A2L_FILE_PARSER.toPrettyJson(parsed);
+	}
+
+	/** Parse uploaded protocol content as DBC or A2L, detected from the content. */
+	public String parseProtocolContentAsJson(final String protocolContent) {
+		return CDBCFileParser.isDbcContent(protocolContent) ? parseDBCContentAsJson(protocolContent) : parseA2LContentAsJson(protocolContent);
+	}
+
 	/** Parse an A2L file to Derbent CAN JSON format (including summary keys). */
 	public Map<String, Object> parseA2LFile(final Path a2LPath) {
 		Check.notNull(a2LPath, "A2L file path cannot be null");
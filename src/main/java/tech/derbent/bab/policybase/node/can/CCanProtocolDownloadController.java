@@ -0,0 +1,63 @@
+package tech.derbent.bab.policybase.node.can;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import tech.derbent.api.download.service.CRangeDownloadService;
+import tech.derbent.bab.policybase.node.can.CBabCanNodeService.EProtocolContentField;
+import tech.derbent.bab.policybase.node.can.CBabCanNodeService.RProtocolContentInfo;
+
+/** CCanProtocolDownloadController - Serves the stored protocol file of a CAN node at {@code /api/can-nodes/{id}/protocol}.
+ * <p>
+ * WHY: protocol files (A2L/DBC) and their parsed JSON are large text columns; this endpoint lets tools fetch them with ranges and ETag
+ * revalidation instead of reading them through the UI. {@code field=RAW} (default) returns the original file, {@code field=JSON} the parsed
+ * variables.
+ * </p>
+ * <p>
+ * RULE: access, ETag and length come from the SHA-256 and size {@link CBabCanNode} stores with the content, so a 304 or a refused request
+ * never reads the protocol. A sent body is loaded once and encoded into the response in chunks, without a byte copy of the whole text; the
+ * columns are {@code text}, which the JDBC drivers return as one value in any case. Only nodes of the signed-in user's company are served;
+ * others answer 404.
+ * </p>
+ */
+@Profile ({
+		"bab", "default", "test"
+})
+@RestController
+public class CCanProtocolDownloadController {
+
+	private final CRangeDownloadService downloadService;
+	private final CBabCanNodeService nodeService;
+
+	public CCanProtocolDownloadController(final CBabCanNodeService nodeService, final CRangeDownloadService downloadService) {
+		this.nodeService = nodeService;
+		this.downloadService = downloadService;
+	}
+
+	@GetMapping ("/api/can-nodes/{id}/protocol")
+	public void download(@PathVariable ("id") final Long id, @RequestParam (name = "field", defaultValue = "RAW") final EProtocolContentField field,
+			final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+		final RProtocolContentInfo info = nodeService.getProtocolContentInfo(id, field).orElse(null);
+		if (info == null || !downloadService.isOwnCompany(request, info.companyId())) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+			return;
+		}
+		final boolean json = field == EProtocolContentField.JSON;
+		downloadService.sendContent(request, response, info.size(), CRangeDownloadService.strongEtag(info.sha256()),
+				"can-node-%d-protocol.%s".formatted(id, json ? "json" : "txt"), json ? "application/json;charset=UTF-8" : "text/plain;charset=UTF-8",
+				out -> {
+					final Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+					writer.write(Objects.toString(nodeService.loadProtocolContentFromDb(id, field), ""));
+					writer.flush();
+				});
+	}
+}
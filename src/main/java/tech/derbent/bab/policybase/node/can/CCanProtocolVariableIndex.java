@@ -0,0 +1,246 @@
+package tech.derbent.bab.policybase.node.can;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import tech.derbent.bab.policybase.filter.domain.CBabPolicyFilterCAN;
+import tech.derbent.bab.policybase.filter.domain.ROutputStructure;
+
+/** CCanProtocolVariableIndex - Immutable lookup of the variables of a parsed CAN protocol file (the A2L/DBC JSON of a {@link CBabCanNode}).
+ * <p>
+ * WHY: the filter output structure, the variable pickers and the action mask validation each parsed the whole protocol JSON into maps on every
+ * call, which costs megabytes of garbage per form render for a large A2L. The JSON is now parsed once per content into this index, which keeps
+ * only name, type and bit placement of each variable, and is shared by the node, all of its filters and every node with the same protocol file.
+ * </p>
+ * <p>
+ * RULE: the index is cached by the SHA-256 of the protocol content, so it changes exactly when the protocol JSON of the node changes; there is
+ * nothing to invalidate by hand, and the cache does not keep the JSON itself. Lookups take variable names in any case ({@link CBabPolicyFilterCAN#normalizeVariableName(String)}).
+ * </p>
+ */
+public final class CCanProtocolVariableIndex {
+
+	/** Placement of a variable in a frame, as far as the protocol file defines it.
+	 * @param startBit      DBC start bit (least significant bit for Intel, most significant bit for Motorola signals), -1 when the protocol
+	 *                      does not place the variable, as for A2L measurements
+	 * @param bitLength     bit length of the signal or of the data type, 0 when unknown
+	 * @param bigEndian     true for {@code MSB_FIRST} (Motorola) byte order
+	 * @param floatingPoint true for IEEE float data types */
+	public record RBitLayout(int startBit, int bitLength, boolean bigEndian, boolean signed, boolean floatingPoint, double factor,
+			double offset) {
+
+		public static final RBitLayout UNKNOWN = new RBitLayout(-1, 0, false, false, false, 1.0, 0.0);
+	}
+
+	/** One protocol variable.
+	 * @param dataType normalised data type ({@link CBabPolicyFilterCAN#normalizeDataType(String)}), empty when the protocol has none
+	 * @param rawDataType  data type as written in the protocol file
+	 * @param recordType   record layout type (A2L), as written in the protocol file
+	 * @param fieldType    field type (DBC), as written in the protocol file
+	 * @param layout       bit placement, {@link RBitLayout#UNKNOWN} when the protocol has no type for the variable */
+	public record RProtocolVariable(String name, String dataType, String rawDataType, String recordType, String fieldType, RBitLayout layout) {
+
+		public ROutputStructure toOutputStructure() {
+			return new ROutputStructure(name, dataType);
+		}
+	}
+
+	private static final int CACHE_SIZE = 32;
+	private static final Map<String, CCanProtocolVariableIndex> CACHE = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<String, CCanProtocolVariableIndex> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+	private static final String CSV_SEPARATOR = ",";
+	public static final CCanProtocolVariableIndex EMPTY = new CCanProtocolVariableIndex("", Map.of(), List.of());
+	private static final HexFormat HEX = HexFormat.of();
+	private static final Logger LOGGER = LoggerFactory.getLogger(CCanProtocolVariableIndex.class);
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private static CCanProtocolVariableIndex build(final String protocolJson, final String contentHash) {
+		final JsonNode root;
+		try {
+			root = OBJECT_MAPPER.readTree(protocolJson);
+		} catch (final Exception e) {
+			LOGGER.warn("Failed to parse CAN protocol JSON for variable index: {}", e.getMessage());
+			return new CCanProtocolVariableIndex(contentHash, Map.of(), List.of());
+		}
+		if (root == null || !root.isObject()) {
+			return new CCanProtocolVariableIndex(contentHash, Map.of(), List.of());
+		}
+		final Map<String, RProtocolVariable> byName = new LinkedHashMap<>();
+		final Set<String> namesFromEntries = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		for (final Iterator<Map.Entry<String, JsonNode>> fields = root.fields(); fields.hasNext();) {
+			final Map.Entry<String, JsonNode> field = fields.next();
+			final String key = field.getKey();
+			if (key == null || key.startsWith("_") || !field.getValue().isObject()) {
+				continue;
+			}
+			final JsonNode entry = field.getValue();
+			final String explicitName = text(entry, CA2LFileParser.CKeys.NAME);
+			final String rawDataType = text(entry, CA2LFileParser.CKeys.DATA_TYPE);
+			final String recordType = text(entry, CA2LFileParser.CKeys.RECORD_TYPE);
+			final String fieldType = text(entry, CA2LFileParser.CKeys.FIELD_TYPE);
+			final String typeSource = !rawDataType.isEmpty() ? rawDataType : !recordType.isEmpty() ? recordType : fieldType;
+			final RProtocolVariable variable = new RProtocolVariable(!explicitName.isEmpty() ? explicitName : key.trim(),
+					CBabPolicyFilterCAN.normalizeDataType(typeSource), rawDataType, recordType, fieldType, layoutOf(entry, typeSource));
+			final String normalizedKey = CBabPolicyFilterCAN.normalizeVariableName(key);
+			if (!normalizedKey.isEmpty()) {
+				byName.putIfAbsent(normalizedKey, variable);
+			}
+			if (!explicitName.isEmpty()) {
+				byName.putIfAbsent(CBabPolicyFilterCAN.normalizeVariableName(explicitName), variable);
+				namesFromEntries.add(explicitName);
+			}
+		}
+		// The parser lists every variable in one CSV key; entries are the fallback for protocol JSON written without it.
+		final Set<String> variableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		final String allVariables = text(root, CA2LFileParser.CKeys.ALL_A2L_VARIABLES);
+		for (final String token : allVariables.split(CSV_SEPARATOR)) {
+			if (!token.isBlank()) {
+				variableNames.add(token.trim());
+			}
+		}
+		if (variableNames.isEmpty()) {
+			variableNames.addAll(namesFromEntries);
+		}
+		return new CCanProtocolVariableIndex(contentHash, byName, List.copyOf(variableNames));
+	}
+
+	/** Bit length and sign of a raw A2L/DBC data type; 0 length for types that are not scalar. */
+	private static int bitLengthOf(final String rawType) {
+		return switch (rawType.toUpperCase(Locale.ROOT)) {
+		case "UBYTE", "SBYTE", "BYTE", "CHAR", "UINT8", "INT8", "BOOLEAN", "BOOL" -> 8;
+		case "UWORD", "SWORD", "WORD", "SHORT", "USHORT", "UINT16", "INT16" -> 16;
+		case "ULONG", "SLONG", "LONG", "DWORD", "UINT", "UINT32", "INT32", "SINT32", "FLOAT32_IEEE", "FLOAT32", "FLOAT" -> 32;
+		case "A_UINT64", "A_INT64", "UINT64", "INT64", "FLOAT64_IEEE", "FLOAT64", "DOUBLE" -> 64;
+		default -> 0;
+		};
+	}
+
+	/** Drops all cached indexes; for tests and memory pressure only, content changes never need it. */
+	public static void clearCache() {
+		synchronized (CACHE) {
+			CACHE.clear();
+		}
+	}
+
+	/** SHA-256 of a protocol JSON, the key of the shared cache. */
+	static String contentHashOf(final String protocolJson) {
+		try {
+			return HEX.formatHex(MessageDigest.getInstance("SHA-256").digest(protocolJson.getBytes(StandardCharsets.UTF_8)));
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	/** Index of a protocol JSON, parsed on the first request for this content and shared afterwards.
+	 * @param protocolJson parsed protocol JSON of a CAN node, may be null or blank
+	 * @return the index, {@link #EMPTY} for missing content */
+	public static CCanProtocolVariableIndex of(final String protocolJson) {
+		if (protocolJson == null || protocolJson.isBlank()) {
+			return EMPTY;
+		}
+		final String contentHash = contentHashOf(protocolJson);
+		synchronized (CACHE) {
+			final CCanProtocolVariableIndex cached = CACHE.get(contentHash);
+			if (cached != null) {
+				return cached;
+			}
+		}
+		final CCanProtocolVariableIndex built = build(protocolJson, contentHash);
+		synchronized (CACHE) {
+			final CCanProtocolVariableIndex raced = CACHE.putIfAbsent(contentHash, built);
+			return raced != null ? raced : built;
+		}
+	}
+
+	private static RBitLayout layoutOf(final JsonNode entry, final String typeSource) {
+		final String type = typeSource.toUpperCase(Locale.ROOT);
+		final JsonNode bitLength = entry.get(CA2LFileParser.CKeys.BIT_LENGTH);
+		final int length = bitLength != null && bitLength.canConvertToInt() ? bitLength.asInt() : bitLengthOf(type);
+		if (length <= 0) {
+			return RBitLayout.UNKNOWN;
+		}
+		final JsonNode startBit = entry.get(CA2LFileParser.CKeys.START_BIT);
+		final JsonNode signed = entry.get(CA2LFileParser.CKeys.SIGNED);
+		final JsonNode factor = entry.get(CA2LFileParser.CKeys.FACTOR);
+		final JsonNode offset = entry.get(CA2LFileParser.CKeys.OFFSET);
+		final boolean floatingPoint = type.startsWith("FLOAT") || type.equals("DOUBLE");
+		// DBC signals carry their sign; for A2L it follows from the type name (SWORD, INT16, A_INT64, LONG ...).
+		final boolean isSigned = signed != null && signed.isBoolean() ? signed.asBoolean()
+				: floatingPoint || type.startsWith("S") || type.startsWith("INT") || type.startsWith("A_INT") || type.equals("LONG");
+		return new RBitLayout(startBit != null && startBit.canConvertToInt() ? startBit.asInt() : -1, length,
+				CA2LFileParser.CKeys.BYTE_ORDER_MSB_FIRST.equalsIgnoreCase(text(entry, CA2LFileParser.CKeys.BYTE_ORDER)), isSigned, floatingPoint,
+				factor != null && factor.isNumber() && factor.asDouble() != 0 ? factor.asDouble() : 1.0,
+				offset != null && offset.isNumber() ? offset.asDouble() : 0.0);
+	}
+
+	private static String text(final JsonNode node, final String field) {
+		final JsonNode value = node.get(field);
+		return value == null || value.isNull() || value.isContainerNode() ? "" : value.asText().trim();
+	}
+
+	private final Map<String, RProtocolVariable> byName;
+	private final Map<String, List<RProtocolVariable>> byDataType;
+	private final String contentHash;
+	private final Map<String, ROutputStructure> outputStructureByName;
+	private final List<String> variableNames;
+
+	private CCanProtocolVariableIndex(final String contentHash, final Map<String, RProtocolVariable> byName, final List<String> variableNames) {
+		this.contentHash = contentHash;
+		this.byName = Collections.unmodifiableMap(byName);
+		this.variableNames = variableNames;
+		final Map<String, List<RProtocolVariable>> dataTypes = new LinkedHashMap<>();
+		byName.values().stream().distinct().forEach(variable -> dataTypes.computeIfAbsent(variable.dataType(), type -> new ArrayList<>()).add(variable));
+		dataTypes.replaceAll((type, variables) -> List.copyOf(variables));
+		byDataType = Collections.unmodifiableMap(dataTypes);
+		final Map<String, ROutputStructure> outputs = new LinkedHashMap<>();
+		byName.forEach((name, variable) -> outputs.put(name, variable.toOutputStructure()));
+		outputStructureByName = Collections.unmodifiableMap(outputs);
+	}
+
+	/** Variable by name or protocol entry key, in any case. */
+	public Optional<RProtocolVariable> find(final String variableName) {
+		return Optional.ofNullable(byName.get(CBabPolicyFilterCAN.normalizeVariableName(variableName)));
+	}
+
+	/** Variables of one data type, raw ({@code UWORD}) or normalised ({@code int}). */
+	public List<RProtocolVariable> findByDataType(final String dataType) {
+		return byDataType.getOrDefault(CBabPolicyFilterCAN.normalizeDataType(dataType), List.of());
+	}
+
+	/** SHA-256 of the protocol JSON this index was built from, empty for {@link #EMPTY}. */
+	public String getContentHash() { return contentHash; }
+
+	/** Output structure of every variable, keyed by normalised name and by normalised entry key. */
+	public Map<String, ROutputStructure> getOutputStructureByVariableName() { return outputStructureByName; }
+
+	/** Variable names offered for selection, sorted case-insensitively. */
+	public List<String> getVariableNames() { return variableNames; }
+
+	public boolean isEmpty() { return byName.isEmpty(); }
+
+	@Override
+	public String toString() {
+		return "CCanProtocolVariableIndex{variables=%d, dataTypes=%s}".formatted(byName.size(), byDataType.keySet());
+	}
+}
@@ -0,0 +1,648 @@
+package tech.derbent.bab.policybase.node.can;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.derbent.api.utils.Check;
+import tech.derbent.bab.policybase.node.can.CA2LFileParser.CKeys;
+import tech.derbent.bab.policybase.node.can.CA2LFileParser.EFieldType;
+import tech.derbent.bab.policybase.node.can.CA2LFileParser.ESourceType;
+
+/** Streaming DBC (CAN database) parser producing the same variable records as {@link CA2LFileParser}.
+ * <p>
+ * Every {@code SG_} signal becomes a MEASUREMENT entry with {@code Source = 2} (DBC), keyed by signal name like the legacy J1939 merge, so
+ * {@link CA2LFileParser#summarizeA2LObject(Map)}, the CAN node summary and the policy filters treat DBC and A2L variables alike. DBC specifics
+ * (bit position, factor/offset, multiplexing, value tables, attributes, J1939 PGN/priority/source address) are stored as extra keys. Messages are
+ * listed under {@link CKeys#DBC_MESSAGES} and J1939 parameter groups under {@link CKeys#ALL_PGNS_BY_ADDRESS}.
+ * </p>
+ * <p>
+ * WHY: vehicle DBCs reach tens of thousands of signals. The input is read line by line from a {@link Reader} (no line list, no regex, no split)
+ * and each record is tokenised in place by {@link CLineScanner}; only the output maps are allocated per signal.
+ * </p>
+ * Supported records: {@code BO_}, {@code SG_} (incl. {@code M}/{@code mN} multiplexing), {@code VAL_}, {@code BA_} (BO_/SG_ scope),
+ * {@code CM_} (BO_/SG_ scope, multi-line) and {@code SIG_VALTYPE_}. Everything else is skipped. */
+public final class CDBCFileParser {
+
+	/** Parsed result with final JSON object, next free index counter and record counts. */
+	public record CDBCParseResult(Map<String, Object> jsonObject, int nextIndex, int messageCount, int signalCount) {}
+
+	/** Fields of a 29-bit J1939 identifier. {@code destinationAddress} is -1 for PDU2 (broadcast) parameter groups. */
+	public record CJ1939Id(int priority, int pgn, int sourceAddress, int destinationAddress) {
+
+		public static CJ1939Id decode(final long canId) {
+			final int id = (int) (canId & CAN_ID_EXTENDED_MASK);
+			final int priority = id >>> 26 & 0x7;
+			final int dataPage = id >>> 24 & 0x3;
+			final int pduFormat = id >>> 16 & 0xFF;
+			final int pduSpecific = id >>> 8 & 0xFF;
+			final int sourceAddress = id & 0xFF;
+			if (pduFormat < 240) {
+				return new CJ1939Id(priority, dataPage << 16 | pduFormat << 8, sourceAddress, pduSpecific);
+			}
+			return new CJ1939Id(priority, dataPage << 16 | pduFormat << 8 | pduSpecific, sourceAddress, -1);
+		}
+	}
+
+	/** Cursor over one DBC record; tokens are read in place without splitting the line. */
+	private static final class CLineScanner {
+
+		private final String line;
+		private final int lineNumber;
+		private int position;
+
+		private CLineScanner(final String line, final int lineNumber, final int start) {
+			this.line = line;
+			this.lineNumber = lineNumber;
+			position = start;
+		}
+
+		private IllegalArgumentException error(final String message) {
+			return new IllegalArgumentException("Invalid DBC record at line " + lineNumber + " (" + message + "): " + line.trim());
+		}
+
+		private void expect(final char expected) {
+			skipSpaces();
+			if (position >= line.length() || line.charAt(position) != expected) {
+				throw error("expected '" + expected + "'");
+			}
+			position++;
+		}
+
+		private boolean hasMore() {
+			skipSpaces();
+			return position < line.length() && line.charAt(position) != ';';
+		}
+
+		private char nextChar() {
+			skipSpaces();
+			if (position >= line.length()) {
+				throw error("unexpected end of record");
+			}
+			return line.charAt(position++);
+		}
+
+		private long nextLong() {
+			final String token = nextNumberToken();
+			try {
+				return Long.parseLong(token);
+			} catch (final NumberFormatException e) {
+				throw error("expected integer but found '" + token + "'");
+			}
+		}
+
+		private double nextDouble() {
+			final String token = nextNumberToken();
+			try {
+				return Double.parseDouble(token);
+			} catch (final NumberFormatException e) {
+				throw error("expected number but found '" + token + "'");
+			}
+		}
+
+		private String nextNumberToken() {
+			skipSpaces();
+			final int start = position;
+			while (position < line.length()) {
+				final char c = line.charAt(position);
+				if (!(c >= '0' && c <= '9' || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E')) {
+					break;
+				}
+				position++;
+			}
+			if (start == position) {
+				throw error("expected number");
+			}
+			return line.substring(start, position);
+		}
+
+		/** Quoted string without the quotes; multi-line strings keep their line breaks. */
+		private String nextQuoted() {
+			expect('"');
+			final int start = position;
+			while (position < line.length() && (line.charAt(position) != '"' || line.charAt(position - 1) == '\\')) {
+				position++;
+			}
+			if (position >= line.length()) {
+				throw error("unterminated string");
+			}
+			return line.substring(start, position++);
+		}
+
+		/** Identifier, number or keyword; ends at whitespace or one of {@code :,;|}. */
+		private String nextWord() {
+			skipSpaces();
+			final int start = position;
+			while (position < line.length()) {
+				final char c = line.charAt(position);
+				if (c <= ' ' || c == ':' || c == ',' || c == ';' || c == '|') {
+					break;
+				}
+				position++;
+			}
+			if (start == position) {
+				throw error("expected identifier");
+			}
+			return line.substring(start, position);
+		}
+
+		private char peek() {
+			skipSpaces();
+			return position < line.length() ? line.charAt(position) : '\0';
+		}
+
+		private void skipSpaces() {
+			while (position < line.length() && line.charAt(position) <= ' ') {
+				position++;
+			}
+		}
+	}
+
+	/** One {@code BO_} message and its signals by name, for records that reference signals later in the file. */
+	private static final class CMessage {
+
+		private final Map<String, Object> json;
+		private final Map<String, Map<String, Object>> signals = new HashMap<>();
+
+		private CMessage(final Map<String, Object> json) {
+			this.json = json;
+		}
+	}
+
+	private static final class CParserContext {
+
+		private final Map<String, Object> computeMethods = new LinkedHashMap<>();
+		private CMessage currentMessage;
+		private int indexCounter;
+		private final Set<String> invalidNames;
+		private final Map<Long, CMessage> messagesById = new HashMap<>();
+		private final Map<String, Object> messagesByName = new LinkedHashMap<>();
+		/** Inside the indented keyword list of {@code NS_ :}, whose entries look like record keywords. */
+		private boolean newSymbolsBlock;
+		private final Map<String, Object> pgnsByAddress = new LinkedHashMap<>();
+		private final Map<String, Object> rootJson = new LinkedHashMap<>();
+		private int signalCount;
+
+		private CParserContext(final Set<String> invalidNames, final int startIndex) {
+			this.invalidNames = Optional.ofNullable(invalidNames).orElse(Set.of());
+			indexCounter = Math.max(startIndex, 0);
+		}
+	}
+
+	private static final long CAN_ID_EXTENDED_FLAG = 0x8000_0000L;
+	private static final long CAN_ID_EXTENDED_MASK = 0x1FFF_FFFFL;
+	private static final String COMPU_METHOD_LINEAR = "LINEAR";
+	private static final String COMPU_METHOD_SUFFIX = "_CM";
+	/** DBC files are usually written in Windows-1252; ISO-8859-1 decodes every byte, so a stray umlaut never aborts the parse. */
+	public static final Charset DEFAULT_CHARSET = StandardCharsets.ISO_8859_1;
+	private static final Logger LOGGER = LoggerFactory.getLogger(CDBCFileParser.class);
+	private static final int MAX_DBC_SIGNALS = 100_000;
+	private static final String RECORD_ATTRIBUTE = "BA_";
+	private static final String RECORD_COMMENT = "CM_";
+	private static final String RECORD_MESSAGE = "BO_";
+	private static final String RECORD_NEW_SYMBOLS = "NS_";
+	private static final String RECORD_SIGNAL = "SG_";
+	private static final String RECORD_SIGNAL_VALUE_TYPE = "SIG_VALTYPE_";
+	private static final String RECORD_VALUE_DESCRIPTION = "VAL_";
+	private static final CA2LFileParser SUMMARIZER = new CA2LFileParser();
+
+	/** Cheap content sniffing used to route uploaded protocol files: DBC has {@code BO_}/{@code BU_:} records and no A2L {@code /begin} blocks. */
+	public static boolean isDbcContent(final String content) {
+		if (content == null || content.contains("/begin ")) {
+			return false;
+		}
+		return content.startsWith("VERSION") || content.contains("\nBO_ ") || content.contains("\nBU_:");
+	}
+
+	/** {@link #isDbcContent(String)} for a file, read line by line instead of as one string. */
+	public static boolean isDbcFile(final Path file, final Charset charset) throws IOException {
+		Check.notNull(file, "Protocol file path cannot be null");
+		try (BufferedReader reader = Files.newBufferedReader(file, charset)) {
+			boolean dbc = false;
+			boolean first = true;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.contains("/begin ")) {
+					return false;
+				}
+				dbc |= first ? line.startsWith("VERSION") : line.startsWith("BO_ ") || line.startsWith("BU_:");
+				first = false;
+			}
+			return dbc;
+		}
+	}
+
+	/** Upper-case hex with a fixed width, as A2L addresses ({@code 0x0CF00400}); avoids String.format on the per-message path. */
+	private static String formatHex(final long value, final int digits) {
+		final String hex = Long.toHexString(value).toUpperCase(Locale.ROOT);
+		final StringBuilder builder = new StringBuilder(digits + 2).append("0x");
+		for (int i = hex.length(); i < digits; i++) {
+			builder.append('0');
+		}
+		return builder.append(hex).toString();
+	}
+
+	private static String formatFactor(final double factor) {
+		final int decimals = Math.min(Math.max(BigDecimal.valueOf(factor).stripTrailingZeros().scale(), 0), 6);
+		return "%8." + decimals;
+	}
+
+	private static boolean isRecord(final String line, final int start, final String keyword) {
+		final int end = start + keyword.length();
+		return line.startsWith(keyword, start) && (line.length() == end || line.charAt(end) <= ' ');
+	}
+
+	/** Count of unescaped quotes; odd means a string continues on the next line. */
+	private static boolean hasOpenQuote(final CharSequence text) {
+		boolean open = false;
+		for (int i = 0; i < text.length(); i++) {
+			if (text.charAt(i) == '"' && (i == 0 || text.charAt(i - 1) != '\\')) {
+				open = !open;
+			}
+		}
+		return open;
+	}
+
+	/** Variable key of a signal. Legacy J1939 merge keys variables by signal name; a name reused by another message is qualified with the message
+	 * name, and a qualified name that is taken as well gets the first free numeric suffix, so no signal overwrites another. */
+	private static String signalKey(final CParserContext context, final String messageName, final String name) {
+		if (!context.rootJson.containsKey(name)) {
+			return name;
+		}
+		final String qualified = messageName + "_" + name;
+		if (!context.rootJson.containsKey(qualified)) {
+			return qualified;
+		}
+		int suffix = 2;
+		while (context.rootJson.containsKey(qualified + "_" + suffix)) {
+			suffix++;
+		}
+		final String key = qualified + "_" + suffix;
+		LOGGER.warn("DBC signal '{}' of message '{}': '{}' is already taken, stored as '{}'", name, messageName, qualified, key);
+		return key;
+	}
+
+	/** Same normalisation as A2L limits: integral values become Integer/Long, others Double. */
+	private static Number toJsonNumber(final double value) {
+		if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 9.0e15) {
+			final long integral = (long) value;
+			if (integral >= Integer.MIN_VALUE && integral <= Integer.MAX_VALUE) {
+				return (int) integral;
+			}
+			return integral;
+		}
+		return value;
+	}
+
+	private static Object toAttributeValue(final CLineScanner scanner) {
+		if (scanner.peek() == '"') {
+			return scanner.nextQuoted();
+		}
+		return toJsonNumber(scanner.nextDouble());
+	}
+
+	/** Smallest A2L record type holding the raw value; the sign of the DBC signal is kept, so signed layouts decode negative values. */
+	private static String toRecordType(final int bitLength, final boolean signed) {
+		if (bitLength <= 8) {
+			return signed ? CKeys.RECORD_SBYTE : CKeys.RECORD_UBYTE;
+		}
+		if (bitLength <= 16) {
+			return signed ? CKeys.RECORD_SWORD : CKeys.RECORD_UWORD;
+		}
+		if (bitLength <= 32) {
+			return signed ? CKeys.RECORD_SLONG : CKeys.RECORD_ULONG;
+		}
+		return signed ? CKeys.RECORD_A_INT64 : CKeys.RECORD_A_UINT64;
+	}
+
+	/** Parse only DBC records without generating summary keys. */
+	public Map<String, Object> parseContent(final String dbcContent) {
+		return parseContent(dbcContent, Set.of(), 0).jsonObject();
+	}
+
+	/** Parse DBC content and keep indexing compatible with the A2L parser (indexes continue from {@code startIndex}). */
+	public CDBCParseResult parseContent(final String dbcContent, final Set<String> invalidNames, final int startIndex) {
+		Check.notNull(dbcContent, "DBC content cannot be null");
+		try {
+			return parse(new StringReader(dbcContent), invalidNames, startIndex);
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/** Parse DBC content from string and append summary fields expected by CAN tooling. */
+	public CDBCParseResult parseContentAndSummarize(final String dbcContent, final Set<String> invalidNames, final int startIndex) {
+		final CDBCParseResult result = parseContent(dbcContent, invalidNames, startIndex);
+		SUMMARIZER.summarizeA2LObject(result.jsonObject());
+		return result;
+	}
+
+	/** Parse only DBC records without generating summary keys. */
+	public Map<String, Object> parseFile(final Path fileName) throws IOException {
+		return parseFile(fileName, Set.of(), 0).jsonObject();
+	}
+
+	/** Parse a DBC file streaming from disk. */
+	public CDBCParseResult parseFile(final Path fileName, final Set<String> invalidNames, final int startIndex) throws IOException {
+		Check.notNull(fileName, "DBC file path cannot be null");
+		if (!Files.exists(fileName)) {
+			throw new IllegalArgumentException("DBC file does not exist: " + fileName);
+		}
+		try (Reader reader = Files.newBufferedReader(fileName, DEFAULT_CHARSET)) {
+			return parse(reader, invalidNames, startIndex);
+		}
+	}
+
+	/** Parse a DBC file and append summary fields expected by CAN tooling. */
+	public CDBCParseResult parseFileAndSummarize(final Path fileName, final Set<String> invalidNames, final int startIndex) throws IOException {
+		final CDBCParseResult result = parseFile(fileName, invalidNames, startIndex);
+		SUMMARIZER.summarizeA2LObject(result.jsonObject());
+		return result;
+	}
+
+	/** Parse DBC records from a reader; the reader is consumed but not closed. */
+	public CDBCParseResult parse(final Reader source, final Set<String> invalidNames, final int startIndex) throws IOException {
+		Check.notNull(source, "DBC reader cannot be null");
+		final BufferedReader reader = source instanceof final BufferedReader buffered ? buffered : new BufferedReader(source);
+		final CParserContext context = new CParserContext(invalidNames, startIndex);
+		int lineNumber = 0;
+		String line;
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			final int recordLine = lineNumber;
+			if (line.indexOf('"') >= 0 && hasOpenQuote(line)) {
+				// Only comments and string attributes span lines; join them so the record is tokenised as one.
+				final StringBuilder joined = new StringBuilder(line);
+				String next;
+				while (hasOpenQuote(joined) && (next = reader.readLine()) != null) {
+					lineNumber++;
+					joined.append('\n').append(next);
+				}
+				line = joined.toString();
+			}
+			parseRecord(context, line, recordLine);
+		}
+		if (!context.computeMethods.isEmpty()) {
+			context.rootJson.put(CKeys.COMPUTE_METHODS, context.computeMethods);
+		}
+		context.rootJson.put(CKeys.DBC_MESSAGES, context.messagesByName);
+		context.rootJson.put(CKeys.ALL_PGNS_BY_ADDRESS, context.pgnsByAddress);
+		return new CDBCParseResult(context.rootJson, context.indexCounter, context.messagesById.size(), context.signalCount);
+	}
+
+	private void parseAttribute(final CParserContext context, final CLineScanner scanner) {
+		final String attributeName = scanner.nextQuoted();
+		if (scanner.peek() == '"' || scanner.peek() == '-' || Character.isDigit(scanner.peek())) {
+			return; // network-wide attribute
+		}
+		final String scope = scanner.nextWord();
+		final Map<String, Object> target;
+		if (RECORD_MESSAGE.equals(scope)) {
+			final CMessage message = context.messagesById.get(scanner.nextLong());
+			target = message == null ? null : message.json;
+		} else if (RECORD_SIGNAL.equals(scope)) {
+			final CMessage message = context.messagesById.get(scanner.nextLong());
+			target = message == null ? null : message.signals.get(scanner.nextWord());
+		} else {
+			return; // node (BU_) and environment variable (EV_) attributes carry no variable data
+		}
+		if (target == null) {
+			return;
+		}
+		@SuppressWarnings ("unchecked")
+		final Map<String, Object> attributes = (Map<String, Object>) target.computeIfAbsent(CKeys.ATTRIBUTES, key -> new LinkedHashMap<>());
+		attributes.put(attributeName, toAttributeValue(scanner));
+	}
+
+	private void parseComment(final CParserContext context, final CLineScanner scanner) {
+		if (scanner.peek() == '"') {
+			return; // network comment
+		}
+		final String scope = scanner.nextWord();
+		if (RECORD_MESSAGE.equals(scope)) {
+			final CMessage message = context.messagesById.get(scanner.nextLong());
+			if (message != null) {
+				message.json.put(CKeys.COMMENT, scanner.nextQuoted().trim());
+			}
+		} else if (RECORD_SIGNAL.equals(scope)) {
+			final CMessage message = context.messagesById.get(scanner.nextLong());
+			final Map<String, Object> signal = message == null ? null : message.signals.get(scanner.nextWord());
+			if (signal != null) {
+				signal.put(CKeys.IDENTIFIER, scanner.nextQuoted().trim());
+			}
+		}
+	}
+
+	private void parseMessage(final CParserContext context, final CLineScanner scanner) {
+		final long rawId = scanner.nextLong();
+		final String name = scanner.nextWord();
+		scanner.expect(':');
+		final long length = scanner.nextLong();
+		final String transmitter = scanner.hasMore() ? scanner.nextWord() : "";
+		final boolean extended = (rawId & CAN_ID_EXTENDED_FLAG) != 0;
+		final long canId = extended ? rawId & CAN_ID_EXTENDED_MASK : rawId;
+		final Map<String, Object> json = new LinkedHashMap<>();
+		json.put(CKeys.SOURCE, ESourceType.DBC.getCode());
+		json.put(CKeys.NAME, name);
+		json.put(CKeys.ADDRESS, formatHex(canId, 8));
+		json.put(CKeys.CAN_ID, canId);
+		json.put(CKeys.EXTENDED, extended);
+		json.put(CKeys.LENGTH, (int) length);
+		json.put(CKeys.TRANSMITTER, transmitter);
+		if (extended) {
+			final CJ1939Id j1939 = CJ1939Id.decode(canId);
+			json.put(CKeys.PGN, j1939.pgn());
+			json.put(CKeys.PRIORITY, j1939.priority());
+			json.put(CKeys.SOURCE_ADDRESS, j1939.sourceAddress());
+			if (j1939.destinationAddress() >= 0) {
+				json.put(CKeys.DESTINATION_ADDRESS, j1939.destinationAddress());
+			}
+			@SuppressWarnings ("unchecked")
+			final Map<String, Object> pgns = (Map<String, Object>) context.pgnsByAddress
+					.computeIfAbsent(formatHex(j1939.sourceAddress(), 2), key -> new LinkedHashMap<>());
+			pgns.put(String.valueOf(j1939.pgn()), name);
+		}
+		json.put(CKeys.SIGNALS, new ArrayList<String>());
+		final CMessage message = new CMessage(json);
+		context.messagesById.put(rawId, message);
+		context.messagesByName.put(name, json);
+		context.currentMessage = message;
+	}
+
+	private void parseRecord(final CParserContext context, final String line, final int lineNumber) {
+		int start = 0;
+		while (start < line.length() && line.charAt(start) <= ' ') {
+			start++;
+		}
+		if (start >= line.length()) {
+			return;
+		}
+		if (context.newSymbolsBlock && start > 0) {
+			return;
+		}
+		context.newSymbolsBlock = isRecord(line, start, RECORD_NEW_SYMBOLS);
+		if (isRecord(line, start, RECORD_SIGNAL)) {
+			if (context.currentMessage != null) {
+				parseSignal(context, new CLineScanner(line, lineNumber, start + RECORD_SIGNAL.length()));
+			}
+			return;
+		}
+		context.currentMessage = null;
+		if (isRecord(line, start, RECORD_MESSAGE)) {
+			parseMessage(context, new CLineScanner(line, lineNumber, start + RECORD_MESSAGE.length()));
+		} else if (isRecord(line, start, RECORD_VALUE_DESCRIPTION)) {
+			parseValueDescription(context, new CLineScanner(line, lineNumber, start + RECORD_VALUE_DESCRIPTION.length()));
+		} else if (isRecord(line, start, RECORD_ATTRIBUTE)) {
+			parseAttribute(context, new CLineScanner(line, lineNumber, start + RECORD_ATTRIBUTE.length()));
+		} else if (isRecord(line, start, RECORD_COMMENT)) {
+			parseComment(context, new CLineScanner(line, lineNumber, start + RECORD_COMMENT.length()));
+		} else if (isRecord(line, start, RECORD_SIGNAL_VALUE_TYPE)) {
+			parseSignalValueType(context, new CLineScanner(line, lineNumber, start + RECORD_SIGNAL_VALUE_TYPE.length()));
+		}
+	}
+
+	@SuppressWarnings ("unchecked")
+	private void parseSignal(final CParserContext context, final CLineScanner scanner) {
+		final CMessage message = context.currentMessage;
+		final String name = scanner.nextWord();
+		String multiplex = null;
+		if (scanner.peek() != ':') {
+			multiplex = scanner.nextWord();
+		}
+		scanner.expect(':');
+		final int startBit = (int) scanner.nextLong();
+		scanner.expect('|');
+		final int bitLength = (int) scanner.nextLong();
+		scanner.expect('@');
+		final char byteOrder = scanner.nextChar();
+		final char sign = scanner.nextChar();
+		scanner.expect('(');
+		final double factor = scanner.nextDouble();
+		scanner.expect(',');
+		final double offset = scanner.nextDouble();
+		scanner.expect(')');
+		scanner.expect('[');
+		final double minimum = scanner.nextDouble();
+		scanner.expect('|');
+		final double maximum = scanner.nextDouble();
+		scanner.expect(']');
+		final String unit = scanner.nextQuoted();
+		final List<String> receivers = new ArrayList<>(2);
+		while (scanner.hasMore()) {
+			if (scanner.peek() == ',') {
+				scanner.nextChar();
+				continue;
+			}
+			receivers.add(scanner.nextWord());
+		}
+		final String messageName = (String) message.json.get(CKeys.NAME);
+		if (context.invalidNames.contains(name)) {
+			return;
+		}
+		if (++context.signalCount > MAX_DBC_SIGNALS) {
+			throw new IllegalArgumentException("DBC file contains more than allowed signals: " + MAX_DBC_SIGNALS);
+		}
+		final boolean signed = sign == '-';
+		final String key = signalKey(context, messageName, name);
+		// The conversion method follows the variable key, so equally named signals of two messages keep their own factor and offset.
+		final String computeMethodName = key + COMPU_METHOD_SUFFIX;
+		final Map<String, Object> json = new LinkedHashMap<>();
+		json.put(CKeys.SOURCE, ESourceType.DBC.getCode());
+		json.put(CKeys.FIELD_TYPE, EFieldType.MEASUREMENT.getValue());
+		json.put(CKeys.NAME, name);
+		json.put(CKeys.IDENTIFIER, "");
+		json.put(CKeys.RECORD_TYPE, toRecordType(bitLength, signed));
+		json.put(CKeys.CONVERSION, factor == 1.0 && offset == 0.0 ? CKeys.NO_COMPU_METHOD : computeMethodName);
+		json.put(CKeys.LOWER_LIMIT, toJsonNumber(minimum));
+		json.put(CKeys.UPPER_LIMIT, toJsonNumber(maximum));
+		json.put(CKeys.ADDRESS, message.json.get(CKeys.ADDRESS));
+		json.put(CKeys.INDEX, context.indexCounter++);
+		json.put(CKeys.BYTE_ORDER, byteOrder == '0' ? CKeys.BYTE_ORDER_MSB_FIRST : CKeys.BYTE_ORDER_MSB_LAST);
+		json.put(CKeys.UNITS, unit);
+		json.put(CKeys.MESSAGE, messageName);
+		json.put(CKeys.START_BIT, startBit);
+		json.put(CKeys.BIT_LENGTH, bitLength);
+		json.put(CKeys.SIGNED, signed);
+		json.put(CKeys.FACTOR, toJsonNumber(factor));
+		json.put(CKeys.OFFSET, toJsonNumber(offset));
+		json.put(CKeys.RECEIVERS, String.join(",", receivers));
+		if (message.json.containsKey(CKeys.PGN)) {
+			json.put(CKeys.PGN, message.json.get(CKeys.PGN));
+			json.put(CKeys.SOURCE_ADDRESS, message.json.get(CKeys.SOURCE_ADDRESS));
+		}
+		if (multiplex != null) {
+			// "M" = multiplexor, "m<n>" = multiplexed by value n, "m<n>M" = both (extended multiplexing)
+			if (multiplex.endsWith("M")) {
+				json.put(CKeys.MULTIPLEXER, true);
+			}
+			if (multiplex.length() > 1 && multiplex.charAt(0) == 'm') {
+				final int end = multiplex.endsWith("M") ? multiplex.length() - 1 : multiplex.length();
+				try {
+					json.put(CKeys.MULTIPLEX_VALUE, Long.parseLong(multiplex.substring(1, end)));
+				} catch (final NumberFormatException e) {
+					throw scanner.error("invalid multiplex indicator '" + multiplex + "'");
+				}
+			}
+		}
+		if (!CKeys.NO_COMPU_METHOD.equals(json.get(CKeys.CONVERSION))) {
+			final Map<String, Object> method = new LinkedHashMap<>();
+			method.put(CKeys.SOURCE, ESourceType.DBC.getCode());
+			method.put(CKeys.FIELD_TYPE, EFieldType.COMPU_METHOD.getValue());
+			method.put(CKeys.NAME, computeMethodName);
+			method.put(CKeys.IDENTIFIER, "Q = V * " + factor + " + " + offset);
+			method.put(CKeys.DATA_TYPE, COMPU_METHOD_LINEAR);
+			method.put(CKeys.FORMAT, formatFactor(factor));
+			method.put(CKeys.UNITS, unit);
+			method.put(CKeys.COEFFICIENTS, "COEFFS_LINEAR " + factor + " " + offset);
+			context.computeMethods.put(computeMethodName, method);
+		}
+		context.rootJson.put(key, json);
+		message.signals.put(name, json);
+		((List<String>) message.json.get(CKeys.SIGNALS)).add(key);
+	}
+
+	private void parseSignalValueType(final CParserContext context, final CLineScanner scanner) {
+		final CMessage message = context.messagesById.get(scanner.nextLong());
+		final Map<String, Object> signal = message == null ? null : message.signals.get(scanner.nextWord());
+		if (scanner.peek() == ':') {
+			scanner.nextChar();
+		}
+		final long valueType = scanner.nextLong();
+		if (signal != null && valueType != 0) {
+			signal.put(CKeys.RECORD_TYPE, valueType == 1 ? CKeys.RECORD_FLOAT32_IEEE : CKeys.RECORD_FLOAT64_IEEE);
+		}
+	}
+
+	private void parseValueDescription(final CParserContext context, final CLineScanner scanner) {
+		if (!Character.isDigit(scanner.peek())) {
+			return; // environment variable value descriptions
+		}
+		final CMessage message = context.messagesById.get(scanner.nextLong());
+		final Map<String, Object> signal = message == null ? null : message.signals.get(scanner.nextWord());
+		if (signal == null) {
+			return;
+		}
+		final Map<String, Object> table = new LinkedHashMap<>();
+		while (scanner.hasMore()) {
+			final String value = scanner.nextNumberToken();
+			table.put(value, scanner.nextQuoted());
+		}
+		signal.put(CKeys.VALUE_TABLE, table);
+	}
+}
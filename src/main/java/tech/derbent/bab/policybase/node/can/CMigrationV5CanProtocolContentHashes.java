@@ -0,0 +1,76 @@
+package tech.derbent.bab.policybase.node.can;
+
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import tech.derbent.api.migration.ISchemaMigration;
+
+/** V5 - Adds the stored SHA-256 and UTF-8 size of the CAN protocol content and fills them for existing nodes.
+ * <p>
+ * WHY: {@link CCanProtocolDownloadController} answers ETag checks and ranges from these columns instead of loading and hashing the protocol
+ * on every request. {@link CBabCanNode} sets them together with the content, so only rows written before this version need them computed.
+ * </p>
+ * <p>
+ * RULE: the CAN node table only exists in BAB schemas; elsewhere the migration does nothing. Nodes are hashed one row at a time.
+ * </p>
+ */
+@Component
+public class CMigrationV5CanProtocolContentHashes implements ISchemaMigration {
+
+	private static final String[] COLUMNS = {
+			"protocol_file_data_sha256 VARCHAR(64)", "protocol_file_data_size BIGINT", "protocol_file_json_sha256 VARCHAR(64)",
+			"protocol_file_json_size BIGINT"
+	};
+	private static final Logger LOGGER = LoggerFactory.getLogger(CMigrationV5CanProtocolContentHashes.class);
+
+	private static Object sizeOf(final byte[] bytes) {
+		return bytes != null ? (long) bytes.length : null;
+	}
+
+	private static String sha256OrNull(final byte[] bytes) {
+		return bytes != null ? CBabCanNode.sha256Of(bytes) : null;
+	}
+
+	@Override
+	public String getChecksum() { return "can-protocol-content-hashes-1"; }
+
+	@Override
+	public String getDescription() { return "Stored hash and size of the CAN protocol content"; }
+
+	@Override
+	public String getVersion() { return "5"; }
+
+	@Override
+	public void migrate(final JdbcTemplate jdbcTemplate, final String databaseVendor) {
+		final Integer tables = jdbcTemplate.queryForObject("""
+				SELECT COUNT(*)
+				FROM information_schema.tables
+				WHERE LOWER(table_schema) = LOWER(CURRENT_SCHEMA)
+				  AND LOWER(table_name)   = 'cnode_can'
+				""", Integer.class);
+		if (tables == null || tables == 0) {
+			return;
+		}
+		for (final String column : COLUMNS) {
+			jdbcTemplate.execute("ALTER TABLE cnode_can ADD COLUMN IF NOT EXISTS " + column);
+		}
+		final List<Long> ids = jdbcTemplate.queryForList(
+				"SELECT id FROM cnode_can WHERE protocol_file_data IS NOT NULL OR protocol_file_json IS NOT NULL", Long.class);
+		for (final Long id : ids) {
+			final String[] contents = jdbcTemplate.queryForObject("SELECT protocol_file_data, protocol_file_json FROM cnode_can WHERE id = ?",
+					(result, rowNumber) -> new String[] {
+							result.getString(1), result.getString(2)
+					}, id);
+			final byte[] data = CBabCanNode.utf8OrNull(contents[0]);
+			final byte[] json = CBabCanNode.utf8OrNull(contents[1]);
+			jdbcTemplate.update("""
+					UPDATE cnode_can
+					SET protocol_file_data_sha256 = ?, protocol_file_data_size = ?, protocol_file_json_sha256 = ?, protocol_file_json_size = ?
+					WHERE id = ?
+					""", sha256OrNull(data), sizeOf(data), sha256OrNull(json), sizeOf(json), id);
+		}
+		LOGGER.info("Protocol content hashes computed for {} CAN nodes", ids.size());
+	}
+}
@@ -37,4 +37,15 @@ public interface ICanNodeRepository extends INodeEntityRepository<CBabCanNode> {
 			ORDER BY e.name ASC
 			""")
 	List<CBabCanNode> listByProjectForPageView(@Param ("project") CProject<?> project);
+
+	/** Download metadata of a node without its protocol content columns.
+	 * @return at most one row: company id, raw content SHA-256 and size, JSON SHA-256 and size */
+	@Query ("""
+			SELECT c.id, e.protocolFileDataSha256, e.protocolFileDataSize, e.protocolFileJsonSha256, e.protocolFileJsonSize
+			FROM #{#entityName} e
+			LEFT JOIN e.project p
+			LEFT JOIN p.company c
+			WHERE e.id = :id
+			""")
+	List<Object[]> findProtocolContentInfo(@Param ("id") Long id);
 }
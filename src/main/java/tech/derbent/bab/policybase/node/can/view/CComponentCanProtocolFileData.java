@@ -7,7 +7,6 @@ import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.upload.Upload;
-import com.vaadin.flow.component.upload.receivers.MemoryBuffer;
 import tech.derbent.api.interfaces.IComponentTransientPlaceHolder;
 import tech.derbent.api.interfaces.IPageServiceAutoRegistrable;
 import tech.derbent.api.ui.component.basic.CButton;
@@ -16,6 +15,8 @@ import tech.derbent.api.ui.component.basic.CSpan;
 import tech.derbent.api.ui.component.enhanced.CComponentBase;
 import tech.derbent.api.ui.constants.CUIConstants;
 import tech.derbent.api.ui.notifications.CNotificationService;
+import tech.derbent.api.upload.CSpooledFile;
+import tech.derbent.api.upload.CSpooledUploadReceiver;
 import tech.derbent.api.utils.Check;
 import tech.derbent.bab.policybase.node.can.CBabCanNode;
 import tech.derbent.bab.policybase.node.can.CBabCanNodeService;
@@ -28,6 +29,7 @@ public class CComponentCanProtocolFileData extends CComponentBase<CBabCanNode>
 	private static final String DIALOG_TITLE_PARSED_JSON = "Protocol Parsed JSON";
 	private static final String DIALOG_TITLE_RAW_DATA = "Protocol Raw Data";
 	private static final String FILE_EXTENSION_A2L = ".a2l";
+	private static final String FILE_EXTENSION_DBC = ".dbc";
 	public static final String ID_DELETE_BUTTON = "custom-can-protocol-delete-button";
 	public static final String ID_FILE_SIZE = "custom-can-protocol-file-size";
 	public static final String ID_ROOT = "custom-can-protocol-data-component";
@@ -54,7 +56,7 @@ public class CComponentCanProtocolFileData extends CComponentBase<CBabCanNode>
 	private final CSpan labelFileSize;
 	private final CSpan labelStatus;
 	private final Upload upload;
-	private final MemoryBuffer uploadBuffer;
+	private final CSpooledUploadReceiver uploadReceiver;
 
 	public CComponentCanProtocolFileData(final CBabCanNodeService canNodeService) {
 		Check.notNull(canNodeService, "CBabCanNodeService cannot be null");
@@ -65,7 +67,7 @@ public class CComponentCanProtocolFileData extends CComponentBase<CBabCanNode>
 		getStyle().set("gap", CUIConstants.GAP_TINY);
 		labelFileSize = new CSpan();
 		labelFileSize.setId(ID_FILE_SIZE);
-		uploadBuffer = new MemoryBuffer();
+		uploadReceiver = new CSpooledUploadReceiver(MAX_UPLOAD_FILE_SIZE_BYTES);
 		upload = createUploadComponent();
 		buttonDelete = CButton.createError("Delete Protocol Data", VaadinIcon.TRASH.create(), this::on_buttonDelete_clicked);
 		buttonDelete.setId(ID_DELETE_BUTTON);
@@ -83,16 +85,20 @@ public class CComponentCanProtocolFileData extends CComponentBase<CBabCanNode>
 	}
 
 	private Upload createUploadComponent() {
-		final Upload uploadField = new Upload(uploadBuffer);
+		final Upload uploadField = new Upload(uploadReceiver);
 		uploadField.setId(ID_UPLOAD);
-		uploadField.setAcceptedFileTypes(FILE_EXTENSION_A2L);
+		uploadField.setAcceptedFileTypes(FILE_EXTENSION_A2L, FILE_EXTENSION_DBC);
 		uploadField.setMaxFileSize((int) MAX_UPLOAD_FILE_SIZE_BYTES);
 		uploadField.setMaxFiles(1);
 		uploadField.setDropLabel(new Span(""));
 		uploadField.setUploadButton(CButton.createPrimary("Upload Protocol File", VaadinIcon.UPLOAD.create(), null));
 		uploadField.addSucceededListener(event -> on_uploadSucceeded(event.getFileName(), event.getContentLength()));
 		uploadField.addFileRejectedListener(event -> on_uploadError(event.getErrorMessage(), 0L));
-		uploadField.addFailedListener(event -> on_uploadError(event.getReason() != null ? event.getReason().getMessage() : null, 0L));
+		uploadField.addFailedListener(event -> {
+			uploadReceiver.clear();
+			on_uploadError(event.getReason() != null ? event.getReason().getMessage() : null, 0L);
+		});
+		uploadField.addDetachListener(event -> uploadReceiver.clear());
 		return uploadField;
 	}
 
@@ -102,7 +108,7 @@ public class CComponentCanProtocolFileData extends CComponentBase<CBabCanNode>
 		}
 		if ((node.getProtocolFileData() != null) && !node.getProtocolFileData().isBlank()) {
 			try {
-				final String parsedJson = canNodeService.parseA2LContentAsJson(node.getProtocolFileData());
+				final String parsedJson = canNodeService.parseProtocolContentAsJson(node.getProtocolFileData());
 				node.setProtocolFileJson(parsedJson);
 				node.setNodeConfigJson(parsedJson);
 				final long fileSizeBytes = node.getProtocolFileData().getBytes(StandardCharsets.UTF_8).length;
@@ -165,24 +171,30 @@ public class CComponentCanProtocolFileData extends CComponentBase<CBabCanNode>
 		}
 		long fileSizeBytes = Math.max(contentLength, 0L);
 		try {
-			final byte[] fileData = uploadBuffer.getInputStream().readAllBytes();
-			fileSizeBytes = fileData.length;
-			if ((contentLength > 0) && (fileData.length == 0)) {
+			final CSpooledFile file = uploadReceiver.getFile();
+			Check.notNull(file, "Uploaded protocol file is not available");
+			fileSizeBytes = file.getSize();
+			if ((contentLength > 0) && (fileSizeBytes == 0)) {
 				node.setProtocolFileSummaryJson(canNodeService.createParseErrorSummaryJson("Uploaded file is empty.", fileSizeBytes));
 				updateStatusFromSummary(node.getProtocolFileSummaryJson());
 				return;
 			}
-			final String protocolContent = new String(fileData, StandardCharsets.UTF_8);
-			node.setProtocolFileData(protocolContent);
-			final String parsedJson = canNodeService.parseA2LContentAsJson(protocolContent);
-			node.setProtocolFileJson(parsedJson);
-			node.setNodeConfigJson(parsedJson);
-			node.setProtocolFileSummaryJson(canNodeService.createParsedSummaryJson(parsedJson, fileSizeBytes));
+			// The parser reads the spooled file; the raw content is stored as a text column, also when parsing fails.
+			try {
+				final String parsedJson = canNodeService.parseProtocolFileAsJson(file.getPath());
+				node.setProtocolFileJson(parsedJson);
+				node.setNodeConfigJson(parsedJson);
+				node.setProtocolFileSummaryJson(canNodeService.createParsedSummaryJson(parsedJson, fileSizeBytes));
+			} finally {
+				node.setProtocolFileData(file.readString(StandardCharsets.UTF_8));
+			}
 		} catch (final Exception e) {
 			LOGGER.warn("Protocol file parse failed for '{}': {}", fileName, e.getMessage());
 			node.setProtocolFileJson(null);
 			node.setNodeConfigJson(null);
 			node.setProtocolFileSummaryJson(canNodeService.createParseErrorSummaryJson(e.getMessage(), fileSizeBytes));
+		} finally {
+			uploadReceiver.clear();
 		}
 		updateValueFromClient(node);
 		refreshComponent();
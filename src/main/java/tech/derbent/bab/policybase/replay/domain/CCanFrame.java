@@ -0,0 +1,62 @@
+package tech.derbent.bab.policybase.replay.domain;
+
+import java.util.HexFormat;
+
+/** One recorded CAN frame of a replay trace.
+ * <p>
+ * RULE: policy filter regexes see the frame in its canonical text form: the ID as upper-case hex, 3 digits for standard and 8 digits for extended
+ * frames (as candump prints them), the payload as contiguous upper-case hex bytes. Both strings are built on first use only, so rules whose
+ * regexes accept everything never pay for them.
+ * </p>
+ */
+public final class CCanFrame {
+
+	private static final HexFormat HEX = HexFormat.of().withUpperCase();
+	private final byte[] data;
+	private final boolean extended;
+	private final int id;
+	private String idHex;
+	private final long lineNumber;
+	private String payloadHex;
+	private final long timestampMicros;
+
+	public CCanFrame(final long lineNumber, final long timestampMicros, final int id, final boolean extended, final byte[] data) {
+		this.lineNumber = lineNumber;
+		this.timestampMicros = timestampMicros;
+		this.id = id;
+		this.extended = extended;
+		this.data = data != null ? data : new byte[0];
+	}
+
+	public byte[] getData() { return data; }
+
+	public int getId() { return id; }
+
+	public String getIdHex() {
+		if (idHex == null) {
+			final String hex = Integer.toHexString(id).toUpperCase();
+			final int width = extended ? 8 : 3;
+			idHex = hex.length() >= width ? hex : "0".repeat(width - hex.length()) + hex;
+		}
+		return idHex;
+	}
+
+	public long getLineNumber() { return lineNumber; }
+
+	public String getPayloadHex() {
+		if (payloadHex == null) {
+			payloadHex = HEX.formatHex(data);
+		}
+		return payloadHex;
+	}
+
+	/** Capture time in microseconds since the epoch, 0 when the trace has no timestamps. */
+	public long getTimestampMicros() { return timestampMicros; }
+
+	public boolean isExtended() { return extended; }
+
+	@Override
+	public String toString() {
+		return getIdHex() + "#" + getPayloadHex();
+	}
+}
@@ -0,0 +1,279 @@
+package tech.derbent.bab.policybase.replay.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.derbent.api.utils.Check;
+import tech.derbent.bab.policybase.action.domain.CBabPolicyAction;
+import tech.derbent.bab.policybase.filter.domain.CBabPolicyFilterBase;
+import tech.derbent.bab.policybase.filter.domain.CBabPolicyFilterCAN;
+import tech.derbent.bab.policybase.filter.domain.CBabPolicyFilterCSV;
+import tech.derbent.bab.policybase.node.can.CBabCanNode;
+import tech.derbent.bab.policybase.node.file.CBabFileInputNode;
+import tech.derbent.bab.policybase.replay.domain.CCanFrame;
+import tech.derbent.bab.policybase.replay.service.CCanRuleSetMatcher.RCanRuleSpec;
+import tech.derbent.bab.policybase.replay.service.CCanRuleSetMatcher.RFilterFinding;
+import tech.derbent.bab.policybase.rule.domain.CBabPolicyRule;
+
+/** CBabPolicyReplayPipeline - The enabled policy rules of a project compiled into plain matchers, in evaluation order.
+ * <p>
+ * WHY: evaluating a recorded trace against the rule entities means walking lazy relations and compiling the filter regexes for every frame.
+ * Compiling once up front leaves a flat array of matchers, and checks that accept everything ({@code .*}) are dropped entirely. CAN filters of
+ * all rules are further combined into one {@link CCanRuleSetMatcher}, so a frame is matched against the whole rule set in one pass.
+ * </p>
+ * <p>
+ * RULE: rules are evaluated by rule priority (higher first), then execution order, then ID, as the gateway does, and every matching rule fires
+ * its actions. A pipeline holds reusable {@link Matcher}s and is not thread-safe; compile one per replay run.
+ * </p>
+ */
+public final class CBabPolicyReplayPipeline {
+
+	/** One compiled rule. Fields not relevant for the trace kind are null. */
+	public static final class CCompiledRule {
+
+		private final List<String> actionNames;
+		private final RCanRuleSpec canSpec;
+		private final int firstColumn;
+		private final Matcher frameIdMatcher;
+		private final int lastColumn;
+		private final Matcher lineMatcher;
+		private final Matcher payloadMatcher;
+		private final boolean requireExtendedFrame;
+		private final Long ruleId;
+		private final String ruleName;
+		private final char separator;
+
+		private CCompiledRule(final CBabPolicyRule rule, final List<String> actionNames, final RCanRuleSpec canSpec, final Matcher lineMatcher,
+				final char separator, final int firstColumn, final int lastColumn) {
+			ruleId = rule.getId();
+			ruleName = rule.getName();
+			this.actionNames = actionNames;
+			this.canSpec = canSpec;
+			frameIdMatcher = canSpec != null ? matcherOf(canSpec.frameIdRegularExpression()) : null;
+			payloadMatcher = canSpec != null ? matcherOf(canSpec.payloadRegularExpression()) : null;
+			requireExtendedFrame = canSpec != null && canSpec.requireExtendedFrame();
+			this.lineMatcher = lineMatcher;
+			this.separator = separator;
+			this.firstColumn = firstColumn;
+			this.lastColumn = lastColumn;
+		}
+
+		/** Columns {@code firstColumn..lastColumn} (1-based, clipped to the line) joined with the separator. */
+		public String capture(final String line) {
+			if (line == null) {
+				return "";
+			}
+			int column = 1;
+			int start = 0;
+			int captureStart = -1;
+			for (int i = 0; i <= line.length(); i++) {
+				if (i < line.length() && line.charAt(i) != separator) {
+					continue;
+				}
+				if (column == firstColumn) {
+					captureStart = start;
+				}
+				if (column == lastColumn || i == line.length()) {
+					return captureStart < 0 ? "" : line.substring(captureStart, i);
+				}
+				column++;
+				start = i + 1;
+			}
+			return "";
+		}
+
+		public List<String> getActionNames() { return actionNames; }
+
+		public Long getRuleId() { return ruleId; }
+
+		public String getRuleName() { return ruleName; }
+
+		/** Checks this rule on its own: the reference result that {@link CCanRuleSetMatcher} has to reproduce. */
+		boolean matches(final CCanFrame frame) {
+			if (requireExtendedFrame && !frame.isExtended()) {
+				return false;
+			}
+			if (frameIdMatcher != null && !frameIdMatcher.reset(frame.getIdHex()).matches()) {
+				return false;
+			}
+			return payloadMatcher == null || payloadMatcher.reset(frame.getPayloadHex()).matches();
+		}
+
+		boolean matches(final String line) {
+			if (lineMatcher != null && !lineMatcher.reset(line).matches()) {
+				return false;
+			}
+			// The capture range must at least start inside the line.
+			int columns = 1;
+			for (int i = 0; i < line.length() && columns < firstColumn; i++) {
+				if (line.charAt(i) == separator) {
+					columns++;
+				}
+			}
+			return columns >= firstColumn;
+		}
+	}
+
+	/** Kind of recorded trace a pipeline is compiled for. */
+	public enum ETraceKind {
+		CAN, CSV
+	}
+
+	private static final String MATCH_ALL = ".*";
+	private static final Logger LOGGER = LoggerFactory.getLogger(CBabPolicyReplayPipeline.class);
+	private static final Comparator<CBabPolicyRule> RULE_ORDER =
+			Comparator.comparing((final CBabPolicyRule rule) -> rule.getRulePriority() != null ? rule.getRulePriority() : 0).reversed()
+					.thenComparing(rule -> rule.getExecutionOrder() != null ? rule.getExecutionOrder() : 0)
+					.thenComparing(rule -> rule.getId() != null ? rule.getId() : Long.MAX_VALUE);
+
+	private static List<String> activeActionNames(final CBabPolicyRule rule) {
+		if (rule.getActions() == null) {
+			return List.of();
+		}
+		return rule.getActions().stream().filter(action -> Boolean.TRUE.equals(action.getActive()))
+				.sorted(Comparator.comparing((final CBabPolicyAction action) -> action.getExecutionOrder() != null ? action.getExecutionOrder() : 0)
+						.thenComparing(action -> action.getExecutionPriority() != null ? -action.getExecutionPriority() : 0))
+				.map(CBabPolicyAction::getName).filter(Objects::nonNull).toList();
+	}
+
+	/** Compiles the rules that apply to a trace kind. Inactive rules, rules with an inactive filter or a filter of another kind, and rules
+	 * whose stored regex, column range or column separator is unusable are left out and counted in {@link #getSkippedRuleCount()}.
+	 * @param rules the rules of a project, with filter and actions loaded
+	 * @param traceKind the kind of trace to replay */
+	public static CBabPolicyReplayPipeline compile(final List<CBabPolicyRule> rules, final ETraceKind traceKind) {
+		Check.notNull(rules, "Rules cannot be null");
+		Check.notNull(traceKind, "Trace kind cannot be null");
+		final List<CCompiledRule> compiled = new ArrayList<>();
+		int skipped = 0;
+		for (final CBabPolicyRule rule : rules.stream().sorted(RULE_ORDER).toList()) {
+			if (!Boolean.TRUE.equals(rule.getActive())) {
+				continue;
+			}
+			try {
+				final CCompiledRule compiledRule = compileRule(rule, traceKind);
+				if (compiledRule != null) {
+					compiled.add(compiledRule);
+				}
+			} catch (final IllegalArgumentException e) {
+				LOGGER.warn("Policy rule {} skipped in replay: {}", rule.getName(), e.getMessage());
+				skipped++;
+			}
+		}
+		return new CBabPolicyReplayPipeline(traceKind, compiled, skipped);
+	}
+
+	private static CCompiledRule compileRule(final CBabPolicyRule rule, final ETraceKind traceKind) {
+		final Object filter = rule.getFilter() != null ? Hibernate.unproxy(rule.getFilter()) : null;
+		if (filter != null && !Boolean.TRUE.equals(((CBabPolicyFilterBase<?>) filter).getActive())) {
+			return null;
+		}
+		if (traceKind == ETraceKind.CAN) {
+			if (filter instanceof final CBabPolicyFilterCAN canFilter) {
+				if (!canFilter.isEnabledForNodeType("can")) {
+					return null;
+				}
+				return new CCompiledRule(rule, activeActionNames(rule), new RCanRuleSpec(rule.getName(), canFilter.getCanFrameIdRegularExpression(),
+						canFilter.getCanPayloadRegularExpression(), Boolean.TRUE.equals(canFilter.getRequireExtendedFrame())), null, ',', 1, 1);
+			}
+			// Rules without a filter pass every frame of their source node.
+			return filter == null && Hibernate.unproxy(rule.getSourceNode()) instanceof CBabCanNode
+					? new CCompiledRule(rule, activeActionNames(rule), new RCanRuleSpec(rule.getName(), null, null, false), null, ',', 1, 1) : null;
+		}
+		if (filter instanceof final CBabPolicyFilterCSV csvFilter) {
+			if (!csvFilter.isEnabledForNodeType("file")) {
+				return null;
+			}
+			final String separator = csvFilter.getColumnSeparator();
+			if (separator == null || separator.isEmpty()) {
+				throw new IllegalArgumentException("No column separator");
+			}
+			final String[] range = csvFilter.getCaptureColumnRange().split("-", 2);
+			final int firstColumn = Integer.parseInt(range[0].trim());
+			final int lastColumn = range.length > 1 ? Integer.parseInt(range[1].trim()) : firstColumn;
+			if (firstColumn < 1 || lastColumn < firstColumn) {
+				throw new NumberFormatException("Invalid capture column range " + csvFilter.getCaptureColumnRange());
+			}
+			return new CCompiledRule(rule, activeActionNames(rule), null, matcherOf(csvFilter.getLineRegularExpression()),
+					separator.charAt(0), firstColumn, lastColumn);
+		}
+		return filter == null && Hibernate.unproxy(rule.getSourceNode()) instanceof CBabFileInputNode
+				? new CCompiledRule(rule, activeActionNames(rule), null, null, ',', 1, Integer.MAX_VALUE) : null;
+	}
+
+	/** Null for expressions that accept everything, so the check is skipped. */
+	private static Matcher matcherOf(final String regularExpression) {
+		if (regularExpression == null || regularExpression.isBlank() || MATCH_ALL.equals(regularExpression.trim())) {
+			return null;
+		}
+		return Pattern.compile(regularExpression.trim()).matcher("");
+	}
+
+	private final CCanRuleSetMatcher canMatcher;
+	private final CCompiledRule[] rules;
+	private final int skippedRuleCount;
+	private final ETraceKind traceKind;
+
+	private CBabPolicyReplayPipeline(final ETraceKind traceKind, final List<CCompiledRule> rules, final int skippedRuleCount) {
+		this.traceKind = traceKind;
+		this.rules = rules.toArray(CCompiledRule[]::new);
+		this.skippedRuleCount = skippedRuleCount;
+		if (traceKind == ETraceKind.CAN) {
+			canMatcher = CCanRuleSetMatcher.compile(rules.stream().map(rule -> rule.canSpec).toList());
+			canMatcher.getFindings().forEach(finding -> LOGGER.info("CAN filter {} in rule {}{}: {}", finding.kind(), finding.ruleName(),
+					finding.otherRuleName() != null ? " and " + finding.otherRuleName() : "", finding.detail()));
+		} else {
+			canMatcher = null;
+		}
+	}
+
+	/** Evaluates a CAN frame against every rule.
+	 * @param frame the frame
+	 * @param matched receives the indexes of the matching rules, in evaluation order; must hold {@link #getRuleCount()} entries
+	 * @return the number of matching rules */
+	public int match(final CCanFrame frame, final int[] matched) {
+		Check.isTrue(traceKind == ETraceKind.CAN, "Pipeline was not compiled for CAN traces");
+		return canMatcher.match(frame, matched);
+	}
+
+	/** Per-rule regex evaluation of a CAN frame, the baseline {@link #match(CCanFrame, int[])} is checked and measured against. */
+	int matchEachRule(final CCanFrame frame, final int[] matched) {
+		int count = 0;
+		for (int i = 0; i < rules.length; i++) {
+			if (rules[i].matches(frame)) {
+				matched[count++] = i;
+			}
+		}
+		return count;
+	}
+
+	/** Evaluates a CSV line against every rule; see {@link #match(CCanFrame, int[])}. */
+	public int match(final String line, final int[] matched) {
+		Check.isTrue(traceKind == ETraceKind.CSV, "Pipeline was not compiled for CSV traces");
+		int count = 0;
+		for (int i = 0; i < rules.length; i++) {
+			if (rules[i].matches(line)) {
+				matched[count++] = i;
+			}
+		}
+		return count;
+	}
+
+	/** Filters that can never match, accept everything, duplicate or overlap another rule; empty for CSV pipelines. */
+	public List<RFilterFinding> getFindings() { return canMatcher != null ? canMatcher.getFindings() : List.of(); }
+
+	public CCompiledRule getRule(final int index) {
+		return rules[index];
+	}
+
+	public int getRuleCount() { return rules.length; }
+
+	public int getSkippedRuleCount() { return skippedRuleCount; }
+
+	public ETraceKind getTraceKind() { return traceKind; }
+}
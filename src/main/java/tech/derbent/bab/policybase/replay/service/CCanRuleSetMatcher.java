@@ -0,0 +1,279 @@
+package tech.derbent.bab.policybase.replay.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import tech.derbent.api.utils.Check;
+import tech.derbent.bab.policybase.replay.domain.CCanFrame;
+
+/** CCanRuleSetMatcher - The CAN filters of all rules of a project compiled into one matcher that returns every matching rule in a single pass.
+ * <p>
+ * WHY: checking N rules against a frame meant N frame-ID regex passes and N payload regex passes. Frame IDs repeat constantly on a bus, so the
+ * ID part is answered from a table instead: a bitmask of candidate rules per standard ID, precomputed for all 2048 IDs, and a bounded cache of
+ * the same bitmask for extended IDs as they show up. Only the candidates go on to the payload check, and rules sharing a payload expression
+ * share one evaluation per frame.
+ * </p>
+ * <p>
+ * The payload expressions are not combined into one automaton: {@code java.util.regex} has lookarounds and backreferences, which no DFA
+ * construction covers, so a frame costs one regex pass per distinct payload expression among its candidate rules.
+ * </p>
+ * <p>
+ * RULE: results are identical to checking each rule on its own; rule indexes are returned in ascending order. Compilation also reports filters
+ * that can never match, catch-all filters, duplicates, and rules whose frame-ID sets overlap ({@link #getFindings()}). Not thread-safe.
+ * </p>
+ */
+public final class CCanRuleSetMatcher {
+
+	/** Kind of problem found while compiling the filters. */
+	public enum EFindingKind {
+		/** The filter accepts every frame. */
+		CATCH_ALL,
+		/** Same frame-ID, payload and extended-frame settings as an earlier rule. */
+		DUPLICATE,
+		/** Both rules accept some of the same standard frame IDs. */
+		OVERLAP,
+		/** No frame can ever pass the filter. */
+		UNREACHABLE
+	}
+
+	/** CAN filter settings of one rule; null expressions accept everything. */
+	public record RCanRuleSpec(String ruleName, String frameIdRegularExpression, String payloadRegularExpression, boolean requireExtendedFrame) {}
+
+	/** One finding of the compilation; {@code otherRuleName} is set for duplicates and overlaps only. */
+	public record RFilterFinding(EFindingKind kind, String ruleName, String otherRuleName, String detail) {}
+
+	private static final int EXTENDED_CACHE_LIMIT = 65_536;
+	private static final int EXTENDED_ID_LENGTH = 8;
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+	/** Longest payload probed for reachability: 64 bytes, a full CAN FD frame. */
+	private static final int MAX_PAYLOAD_HEX_LENGTH = 128;
+	public static final int MAX_FINDINGS = 200;
+	/** Regex evaluations allowed per reachability probe; when exhausted the filter is assumed reachable. */
+	private static final int PROBE_BUDGET = 20_000;
+	private static final int STANDARD_ID_COUNT = 0x800;
+
+	/** Depth-first search for any hex string the pattern fully matches. {@link Matcher#hitEnd()} prunes prefixes that no further input can
+	 * rescue, so typical filters are decided after a few dozen evaluations. */
+	private static boolean canMatch(final Matcher matcher, final StringBuilder prefix, final int minLength, final int maxLength, final int step,
+			final int[] budget) {
+		if (budget[0]-- <= 0) {
+			return true;
+		}
+		final int length = prefix.length();
+		final boolean matches = matcher.reset(prefix).matches();
+		if (matches && length >= minLength && (length - minLength) % step == 0) {
+			return true;
+		}
+		if (!matcher.hitEnd() || length >= maxLength) {
+			return false;
+		}
+		for (final char digit : HEX_DIGITS) {
+			prefix.append(digit);
+			final boolean found = canMatch(matcher, prefix, minLength, maxLength, step, budget);
+			prefix.setLength(length);
+			if (found) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean canMatch(final Pattern pattern, final int minLength, final int maxLength, final int step) {
+		return pattern == null || canMatch(pattern.matcher(""), new StringBuilder(maxLength), minLength, maxLength, step, new int[] {
+				PROBE_BUDGET
+		});
+	}
+
+	private static Pattern compileOrNull(final String regularExpression) {
+		if (regularExpression == null || regularExpression.isBlank() || ".*".equals(regularExpression.trim())) {
+			return null;
+		}
+		return Pattern.compile(regularExpression.trim());
+	}
+
+	private static String standardIdHex(final int id) {
+		return new String(new char[] {
+				HEX_DIGITS[id >> 8 & 0xF], HEX_DIGITS[id >> 4 & 0xF], HEX_DIGITS[id & 0xF]
+		});
+	}
+
+	public static CCanRuleSetMatcher compile(final List<RCanRuleSpec> specs) {
+		Check.notNull(specs, "Rule specs cannot be null");
+		return new CCanRuleSetMatcher(specs);
+	}
+
+	private final Map<Long, long[]> extendedCandidates = new HashMap<>();
+	private final Matcher[] frameIdMatchers;
+	private final List<RFilterFinding> findings = new ArrayList<>();
+	private int payloadGeneration;
+	private final int[] payloadGenerations;
+	private final Matcher[] payloadMatchers;
+	private final int[] payloadOfRule;
+	private final boolean[] payloadResults;
+	private final boolean[] requireExtended;
+	private final int ruleCount;
+	private final long[] standardCandidates;
+	private final int words;
+
+	private CCanRuleSetMatcher(final List<RCanRuleSpec> specs) {
+		ruleCount = specs.size();
+		words = Math.max(1, (ruleCount + 63) / 64);
+		frameIdMatchers = new Matcher[ruleCount];
+		requireExtended = new boolean[ruleCount];
+		payloadOfRule = new int[ruleCount];
+		final Map<String, Integer> payloadIndexes = new LinkedHashMap<>();
+		final Pattern[] frameIdPatterns = new Pattern[ruleCount];
+		final Pattern[] payloadPatterns = new Pattern[ruleCount];
+		for (int rule = 0; rule < ruleCount; rule++) {
+			final RCanRuleSpec spec = specs.get(rule);
+			frameIdPatterns[rule] = compileOrNull(spec.frameIdRegularExpression());
+			frameIdMatchers[rule] = frameIdPatterns[rule] != null ? frameIdPatterns[rule].matcher("") : null;
+			requireExtended[rule] = spec.requireExtendedFrame();
+			payloadPatterns[rule] = compileOrNull(spec.payloadRegularExpression());
+			payloadOfRule[rule] = payloadPatterns[rule] == null ? -1
+					: payloadIndexes.computeIfAbsent(payloadPatterns[rule].pattern(), key -> payloadIndexes.size());
+		}
+		payloadMatchers = new Matcher[payloadIndexes.size()];
+		payloadIndexes.forEach((expression, index) -> payloadMatchers[index] = Pattern.compile(expression).matcher(""));
+		payloadGenerations = new int[payloadMatchers.length];
+		payloadResults = new boolean[payloadMatchers.length];
+		standardCandidates = new long[STANDARD_ID_COUNT * words];
+		final BitSet[] standardIds = new BitSet[ruleCount];
+		for (int rule = 0; rule < ruleCount; rule++) {
+			standardIds[rule] = new BitSet(STANDARD_ID_COUNT);
+			if (requireExtended[rule]) {
+				continue;
+			}
+			for (int id = 0; id < STANDARD_ID_COUNT; id++) {
+				if (frameIdMatchers[rule] == null || frameIdMatchers[rule].reset(standardIdHex(id)).matches()) {
+					standardCandidates[id * words + (rule >>> 6)] |= 1L << rule;
+					standardIds[rule].set(id);
+				}
+			}
+		}
+		analyse(specs, frameIdPatterns, payloadPatterns, standardIds);
+	}
+
+	private void addFinding(final RFilterFinding finding) {
+		if (findings.size() < MAX_FINDINGS) {
+			findings.add(finding);
+		}
+	}
+
+	private void analyse(final List<RCanRuleSpec> specs, final Pattern[] frameIdPatterns, final Pattern[] payloadPatterns, final BitSet[] standardIds) {
+		final boolean[] skipOverlap = new boolean[ruleCount];
+		final Map<List<Object>, Integer> firstBySettings = new HashMap<>();
+		for (int rule = 0; rule < ruleCount; rule++) {
+			final String name = specs.get(rule).ruleName();
+			final boolean extendedReachable = canMatch(frameIdPatterns[rule], EXTENDED_ID_LENGTH, EXTENDED_ID_LENGTH, 1);
+			if (standardIds[rule].isEmpty() && !extendedReachable) {
+				addFinding(new RFilterFinding(EFindingKind.UNREACHABLE, name, null, "frame-ID expression matches no standard or extended ID"));
+				skipOverlap[rule] = true;
+				continue;
+			}
+			if (!canMatch(payloadPatterns[rule], 0, MAX_PAYLOAD_HEX_LENGTH, 2)) {
+				addFinding(new RFilterFinding(EFindingKind.UNREACHABLE, name, null, "payload expression matches no payload of up to 64 bytes"));
+				skipOverlap[rule] = true;
+				continue;
+			}
+			if (frameIdPatterns[rule] == null && payloadPatterns[rule] == null && !requireExtended[rule]) {
+				addFinding(new RFilterFinding(EFindingKind.CATCH_ALL, name, null, "filter accepts every frame"));
+				skipOverlap[rule] = true;
+				continue;
+			}
+			final List<Object> settings = List.of(Objects.toString(frameIdPatterns[rule]), Objects.toString(payloadPatterns[rule]), requireExtended[rule]);
+			final Integer first = firstBySettings.putIfAbsent(settings, rule);
+			if (first != null) {
+				addFinding(new RFilterFinding(EFindingKind.DUPLICATE, name, specs.get(first).ruleName(), "identical CAN filter settings"));
+				skipOverlap[rule] = true;
+			}
+		}
+		for (int rule = 0; rule < ruleCount; rule++) {
+			for (int other = rule + 1; other < ruleCount && !skipOverlap[rule]; other++) {
+				if (skipOverlap[other] || !standardIds[rule].intersects(standardIds[other])) {
+					continue;
+				}
+				final BitSet shared = (BitSet) standardIds[rule].clone();
+				shared.and(standardIds[other]);
+				addFinding(new RFilterFinding(EFindingKind.OVERLAP, specs.get(rule).ruleName(), specs.get(other).ruleName(),
+						"%d shared standard frame IDs, payload filters not compared".formatted(shared.cardinality())));
+			}
+		}
+	}
+
+	private long[] extendedCandidates(final CCanFrame frame) {
+		final long key = (frame.isExtended() ? 1L << 32 : 0L) | frame.getId() & 0xFFFFFFFFL;
+		long[] candidates = extendedCandidates.get(key);
+		if (candidates != null) {
+			return candidates;
+		}
+		candidates = new long[words];
+		for (int rule = 0; rule < ruleCount; rule++) {
+			if (requireExtended[rule] && !frame.isExtended()) {
+				continue;
+			}
+			if (frameIdMatchers[rule] == null || frameIdMatchers[rule].reset(frame.getIdHex()).matches()) {
+				candidates[rule >>> 6] |= 1L << rule;
+			}
+		}
+		if (extendedCandidates.size() < EXTENDED_CACHE_LIMIT) {
+			extendedCandidates.put(key, candidates);
+		}
+		return candidates;
+	}
+
+	public List<RFilterFinding> getFindings() { return List.copyOf(findings); }
+
+	public int getRuleCount() { return ruleCount; }
+
+	/** Evaluates a frame against every rule.
+	 * @param frame the frame
+	 * @param matched receives the indexes of the matching rules in ascending order; must hold {@link #getRuleCount()} entries
+	 * @return the number of matching rules */
+	public int match(final CCanFrame frame, final int[] matched) {
+		final long[] table;
+		final int offset;
+		if (!frame.isExtended() && frame.getId() >= 0 && frame.getId() < STANDARD_ID_COUNT) {
+			table = standardCandidates;
+			offset = frame.getId() * words;
+		} else {
+			table = extendedCandidates(frame);
+			offset = 0;
+		}
+		if (++payloadGeneration == 0) {
+			Arrays.fill(payloadGenerations, 0);
+			payloadGeneration = 1;
+		}
+		int count = 0;
+		for (int word = 0; word < words; word++) {
+			long bits = table[offset + word];
+			while (bits != 0) {
+				final int rule = (word << 6) + Long.numberOfTrailingZeros(bits);
+				bits &= bits - 1;
+				if (payloadMatches(rule, frame)) {
+					matched[count++] = rule;
+				}
+			}
+		}
+		return count;
+	}
+
+	private boolean payloadMatches(final int rule, final CCanFrame frame) {
+		final int payload = payloadOfRule[rule];
+		if (payload < 0) {
+			return true;
+		}
+		if (payloadGenerations[payload] != payloadGeneration) {
+			payloadGenerations[payload] = payloadGeneration;
+			payloadResults[payload] = payloadMatchers[payload].reset(frame.getPayloadHex()).matches();
+		}
+		return payloadResults[payload];
+	}
+}
@@ -0,0 +1,208 @@
+package tech.derbent.bab.policybase.replay.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import tech.derbent.api.utils.Check;
+import tech.derbent.bab.policybase.replay.domain.CCanFrame;
+
+/** CCanTraceReader - Streams CAN frames out of a recorded candump log, one line at a time.
+ * <p>
+ * Two formats are accepted, mixed freely:
+ * <ul>
+ * <li>candump log format ({@code candump -L}): {@code (1700000000.123456) can0 123#DEADBEEF}, remote frames as {@code 123#R}</li>
+ * <li>candump console format: {@code can0  123   [4]  DE AD BE EF}, optionally preceded by {@code (timestamp)}</li>
+ * </ul>
+ * IDs longer than three hex digits are extended frames, as candump prints them. Blank lines and lines starting with {@code #} are skipped;
+ * anything else that does not parse is counted in {@link #getMalformedLines()} and skipped.
+ * </p>
+ * <p>
+ * RULE: only the current line is held in memory, so traces of any length replay in constant space. Not thread-safe.
+ * </p>
+ */
+public class CCanTraceReader implements Closeable {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final byte[] NO_DATA = new byte[0];
+
+	private static int hexDigit(final char c) {
+		if (c >= '0' && c <= '9') {
+			return c - '0';
+		}
+		if (c >= 'A' && c <= 'F') {
+			return c - 'A' + 10;
+		}
+		if (c >= 'a' && c <= 'f') {
+			return c - 'a' + 10;
+		}
+		return -1;
+	}
+
+	/** Parses an even-length run of hex digits, null when it is not one. */
+	private static byte[] parseHexBytes(final String text, final int start, final int end) {
+		final int length = end - start;
+		if (length % 2 != 0) {
+			return null;
+		}
+		if (length == 0) {
+			return NO_DATA;
+		}
+		final byte[] data = new byte[length / 2];
+		for (int i = 0; i < data.length; i++) {
+			final int high = hexDigit(text.charAt(start + 2 * i));
+			final int low = hexDigit(text.charAt(start + 2 * i + 1));
+			if (high < 0 || low < 0) {
+				return null;
+			}
+			data[i] = (byte) (high << 4 | low);
+		}
+		return data;
+	}
+
+	/** Parses a hex CAN ID, -1 when it is not one. */
+	private static int parseId(final String text) {
+		if (text.isEmpty() || text.length() > 8) {
+			return -1;
+		}
+		int id = 0;
+		for (int i = 0; i < text.length(); i++) {
+			final int digit = hexDigit(text.charAt(i));
+			if (digit < 0) {
+				return -1;
+			}
+			id = id << 4 | digit;
+		}
+		return id < 0 || id > 0x1FFFFFFF ? -1 : id;
+	}
+
+	/** Seconds with a fractional part to microseconds, without going through double. */
+	private static long parseTimestampMicros(final String text) {
+		final int dot = text.indexOf('.');
+		final String secondsPart = dot < 0 ? text : text.substring(0, dot);
+		String fraction = dot < 0 ? "" : text.substring(dot + 1);
+		if (fraction.length() > 6) {
+			fraction = fraction.substring(0, 6);
+		}
+		final long seconds = secondsPart.isEmpty() ? 0 : Long.parseLong(secondsPart);
+		final long micros = fraction.isEmpty() ? 0 : Long.parseLong(fraction) * (long) Math.pow(10, 6 - fraction.length());
+		return seconds * 1_000_000L + micros;
+	}
+
+	private long lineNumber;
+	private long malformedLines;
+	private final BufferedReader reader;
+
+	public CCanTraceReader(final InputStream input) {
+		Check.notNull(input, "Trace input cannot be null");
+		reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.US_ASCII), BUFFER_SIZE);
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	public long getLineNumber() { return lineNumber; }
+
+	public long getMalformedLines() { return malformedLines; }
+
+	/** Reads the next frame.
+	 * @return the frame, null at the end of the trace */
+	public CCanFrame next() throws IOException {
+		String line;
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			final String trimmed = line.strip();
+			if (trimmed.isEmpty() || trimmed.charAt(0) == '#') {
+				continue;
+			}
+			final CCanFrame frame = parseLine(trimmed);
+			if (frame != null) {
+				return frame;
+			}
+			malformedLines++;
+		}
+		return null;
+	}
+
+	private CCanFrame parseConsoleFrame(final String[] tokens, final int first, final long timestampMicros) {
+		// interface, id, [dlc], data bytes
+		if (tokens.length < first + 3) {
+			return null;
+		}
+		final String idText = tokens[first + 1];
+		final int id = parseId(idText);
+		final String dlcText = tokens[first + 2];
+		if (id < 0 || dlcText.length() < 3 || dlcText.charAt(0) != '[' || dlcText.charAt(dlcText.length() - 1) != ']') {
+			return null;
+		}
+		final int dlc;
+		try {
+			dlc = Integer.parseInt(dlcText.substring(1, dlcText.length() - 1));
+		} catch (final NumberFormatException e) {
+			return null;
+		}
+		final int available = tokens.length - first - 3;
+		if (available > 0 && "remote".equalsIgnoreCase(tokens[first + 3])) {
+			return new CCanFrame(lineNumber, timestampMicros, id, idText.length() > 3, NO_DATA);
+		}
+		if (dlc < 0 || dlc > 64 || available < dlc) {
+			return null;
+		}
+		final byte[] data = new byte[dlc];
+		for (int i = 0; i < dlc; i++) {
+			final String token = tokens[first + 3 + i];
+			final byte[] value = token.length() == 2 ? parseHexBytes(token, 0, 2) : null;
+			if (value == null) {
+				return null;
+			}
+			data[i] = value[0];
+		}
+		return new CCanFrame(lineNumber, timestampMicros, id, idText.length() > 3, data);
+	}
+
+	private CCanFrame parseLine(final String line) {
+		final String[] tokens = line.split("\\s+");
+		int first = 0;
+		long timestampMicros = 0;
+		if (tokens[0].startsWith("(") && tokens[0].endsWith(")")) {
+			try {
+				timestampMicros = parseTimestampMicros(tokens[0].substring(1, tokens[0].length() - 1));
+			} catch (final NumberFormatException e) {
+				return null;
+			}
+			first = 1;
+		}
+		if (tokens.length > first + 1 && tokens[first + 1].indexOf('#') > 0) {
+			return parseLogFrame(tokens[first + 1], timestampMicros);
+		}
+		return parseConsoleFrame(tokens, first, timestampMicros);
+	}
+
+	private CCanFrame parseLogFrame(final String frameText, final long timestampMicros) {
+		final int hash = frameText.indexOf('#');
+		final String idText = frameText.substring(0, hash);
+		final int id = parseId(idText);
+		if (id < 0) {
+			return null;
+		}
+		int dataStart = hash + 1;
+		if (dataStart < frameText.length() && (frameText.charAt(dataStart) == 'R' || frameText.charAt(dataStart) == 'r')) {
+			return new CCanFrame(lineNumber, timestampMicros, id, idText.length() > 3, NO_DATA);
+		}
+		// CAN FD frames are written as ID##<flags><data>
+		if (dataStart < frameText.length() && frameText.charAt(dataStart) == '#') {
+			dataStart += 2;
+			if (dataStart > frameText.length()) {
+				return null;
+			}
+		}
+		// candump -L may separate data bytes with dots (123#DE.AD.BE.EF)
+		final String compact = frameText.indexOf('.', dataStart) < 0 ? frameText : frameText.replace(".", "");
+		final byte[] data = parseHexBytes(compact, dataStart, compact.length());
+		return data == null ? null : new CCanFrame(lineNumber, timestampMicros, id, idText.length() > 3, data);
+	}
+}
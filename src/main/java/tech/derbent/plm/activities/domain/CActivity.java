@@ -160,7 +160,7 @@ public class CActivity extends CProjectItem<CActivity, CActivityType>
 			createComponentMethod = "createComponentParent", dataProviderBean = "pageservice", captionVisible = false
 	)
 	private final CProjectItem<?, ?> placeHolder_createComponentParent = null;
-	@ManyToOne (fetch = FetchType.EAGER)
+	@ManyToOne (fetch = FetchType.LAZY)
 	@JoinColumn (name = "cactivitypriority_id", nullable = true)
 	@AMetaData (
 			displayName = "Priority", required = false, readOnly = false,
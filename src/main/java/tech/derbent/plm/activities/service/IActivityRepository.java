@@ -30,11 +30,26 @@ public interface IActivityRepository extends IProjectItemRespository<CActivity>
 			LEFT JOIN FETCH a.entityType et
 			LEFT JOIN FETCH et.workflow
 			LEFT JOIN FETCH a.status
+			LEFT JOIN FETCH a.priority
 			LEFT JOIN FETCH a.sprintItem si
 			LEFT JOIN FETCH si.sprint
 			WHERE a.id = :id
 			""")
 	Optional<CActivity> findById(@Param ("id") Long id);
+	/** Unfiltered list; fetches the lazy priority so {@link CActivity#matchesFilter} works on the detached result. */
+	@Override
+	@Query ("""
+			SELECT a FROM #{#entityName} a
+			LEFT JOIN FETCH a.project
+			LEFT JOIN FETCH a.assignedTo
+			LEFT JOIN FETCH a.entityType
+			LEFT JOIN FETCH a.status
+			LEFT JOIN FETCH a.priority
+			LEFT JOIN FETCH a.sprintItem si
+			LEFT JOIN FETCH si.sprint
+			ORDER BY a.id DESC
+			""")
+	List<CActivity> findAll();
 	@Override
 	@Query ("""
 			SELECT a FROM #{#entityName} a
@@ -47,6 +62,7 @@ public interface IActivityRepository extends IProjectItemRespository<CActivity>
 			LEFT JOIN FETCH a.entityType et
 			LEFT JOIN FETCH et.workflow
 			LEFT JOIN FETCH a.status
+			LEFT JOIN FETCH a.priority
 			LEFT JOIN FETCH a.sprintItem si
 			LEFT JOIN FETCH si.sprint
 			WHERE a.project = :project
@@ -54,6 +70,20 @@ public interface IActivityRepository extends IProjectItemRespository<CActivity>
 			""")
 	Page<CActivity> listByProject(@Param ("project") CProject<?> project, Pageable pageable);
 	@Override
+	@Query ("""
+			SELECT a FROM #{#entityName} a
+			LEFT JOIN FETCH a.project
+			LEFT JOIN FETCH a.assignedTo
+			LEFT JOIN FETCH a.entityType
+			LEFT JOIN FETCH a.status
+			LEFT JOIN FETCH a.priority
+			LEFT JOIN FETCH a.sprintItem si
+			LEFT JOIN FETCH si.sprint
+			WHERE a.project = :project
+			ORDER BY a.name ASC
+			""")
+	List<CActivity> listByProject(@Param ("project") CProject<?> project);
+	@Override
 	@Query ("""
 			SELECT a FROM #{#entityName} a
 			LEFT JOIN FETCH a.project
@@ -65,16 +95,63 @@ public interface IActivityRepository extends IProjectItemRespository<CActivity>
 			LEFT JOIN FETCH a.entityType et
 			LEFT JOIN FETCH et.workflow
 			LEFT JOIN FETCH a.status
+			LEFT JOIN FETCH a.priority
 			LEFT JOIN FETCH a.sprintItem si
 			LEFT JOIN FETCH si.sprint
 			WHERE a.project = :project
 			ORDER BY a.id DESC
 			""")
 	List<CActivity> listByProjectForPageView(@Param ("project") CProject<?> project);
+	/** Kanban card graph: no attachment, comment or link collections, so a board row is one joined row per activity. */
+	@Override
+	@Query ("""
+			SELECT a FROM #{#entityName} a
+			LEFT JOIN FETCH a.project
+			LEFT JOIN FETCH a.assignedTo
+			LEFT JOIN FETCH a.entityType et
+			LEFT JOIN FETCH et.workflow
+			LEFT JOIN FETCH a.status
+			LEFT JOIN FETCH a.priority
+			LEFT JOIN FETCH a.sprintItem si
+			LEFT JOIN FETCH si.sprint
+			WHERE a.project = :project
+			ORDER BY a.id DESC
+			""")
+	List<CActivity> listByProjectForBoard(@Param ("project") CProject<?> project);
+	/** Gantt row graph: the board graph plus the parent relation that places the activity in the hierarchy. */
+	@Override
+	@Query ("""
+			SELECT a FROM #{#entityName} a
+			LEFT JOIN FETCH a.project
+			LEFT JOIN FETCH a.assignedTo
+			LEFT JOIN FETCH a.entityType et
+			LEFT JOIN FETCH a.status
+			LEFT JOIN FETCH a.priority
+			LEFT JOIN FETCH a.parentRelation
+			LEFT JOIN FETCH a.sprintItem si
+			WHERE a.project = :project
+			ORDER BY a.id DESC
+			""")
+	List<CActivity> listByProjectForTimeline(@Param ("project") CProject<?> project);
+	@Override
+	@Query ("""
+			SELECT a FROM #{#entityName} a
+			LEFT JOIN FETCH a.project
+			LEFT JOIN FETCH a.assignedTo
+			LEFT JOIN FETCH a.entityType
+			LEFT JOIN FETCH a.status
+			LEFT JOIN FETCH a.priority
+			LEFT JOIN FETCH a.sprintItem si
+			LEFT JOIN FETCH si.sprint
+			WHERE a.project.id = :pid
+			ORDER BY a.name ASC
+			""")
+	List<CActivity> listByProjectId(@Param ("pid") Long pid);
 	// find all activities of projects where the user's company owns the project
 	@Query ("""
 				SELECT a FROM #{#entityName} a
 				LEFT JOIN FETCH a.project p
+				LEFT JOIN FETCH a.priority
 				LEFT JOIN FETCH a.sprintItem si
 				LEFT JOIN FETCH si.sprint
 				WHERE p IN (SELECT us.project FROM CUserProjectSettings us WHERE us.user = :user)
@@ -96,6 +173,7 @@ public interface IActivityRepository extends IProjectItemRespository<CActivity>
 			LEFT JOIN FETCH a.entityType et
 			LEFT JOIN FETCH et.workflow
 			LEFT JOIN FETCH a.status
+			LEFT JOIN FETCH a.priority
 			LEFT JOIN FETCH a.sprintItem si
 			WHERE a.project = :project
 			and (si.sprint IS NULL OR si.sprint.id IS NULL)
@@ -117,6 +195,7 @@ public interface IActivityRepository extends IProjectItemRespository<CActivity>
 			LEFT JOIN FETCH a.entityType et
 			LEFT JOIN FETCH et.workflow
 			LEFT JOIN FETCH a.status
+			LEFT JOIN FETCH a.priority
 			LEFT JOIN FETCH a.sprintItem si
 			LEFT JOIN FETCH si.sprint s
 			WHERE s = :sprint
@@ -138,6 +217,7 @@ public interface IActivityRepository extends IProjectItemRespository<CActivity>
 			LEFT JOIN FETCH a.entityType et
 			LEFT JOIN FETCH et.workflow
 			LEFT JOIN FETCH a.status
+			LEFT JOIN FETCH a.priority
 			WHERE a.sprintItem.id = :sprintItemId
 			""")
 	Optional<CActivity> findBySprintItemId(@Param ("sprintItemId") Long sprintItemId);
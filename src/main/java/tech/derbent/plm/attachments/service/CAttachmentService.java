@@ -1,17 +1,23 @@
 package tech.derbent.plm.attachments.service;
 
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.html.Div;
@@ -24,6 +30,7 @@ import tech.derbent.api.session.service.ISessionService;
 import tech.derbent.api.users.domain.CUser;
 import tech.derbent.api.utils.Check;
 import tech.derbent.plm.attachments.domain.CAttachment;
+import tech.derbent.plm.attachments.storage.CContentAddressedAttachmentStorage;
 import tech.derbent.plm.attachments.storage.IAttachmentStorage;
 import tech.derbent.plm.attachments.view.CComponentListAttachments;
 import tech.derbent.plm.documenttypes.service.CDocumentTypeService;
@@ -38,6 +45,7 @@ import tech.derbent.plm.documenttypes.service.CDocumentTypeService;
 public class CAttachmentService extends CEntityOfCompanyService<CAttachment> implements IEntityRegistrable, IEntityWithView {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CAttachmentService.class);
+	private static final Duration ORPHAN_GRACE_PERIOD = Duration.ofDays(1);
 	private final IAttachmentRepository attachmentRepository;
 	private final IAttachmentStorage attachmentStorage;
 	private final CDocumentTypeService typeService;
@@ -61,6 +69,14 @@ public class CAttachmentService extends CEntityOfCompanyService<CAttachment> imp
 		return super.checkDeleteAllowed(attachment);
 	}
 
+	/** Delete stored files that no attachment of any company references any more. Files younger than {@link #ORPHAN_GRACE_PERIOD} are kept:
+	 * they may belong to an upload whose attachment is not committed yet.
+	 * @return the number of deleted files */
+	public int collectOrphanedFiles() {
+		final Set<String> referencedPaths = new HashSet<>(attachmentRepository.findAllContentPaths());
+		return attachmentStorage.collectOrphans(referencedPaths, clock.instant().minus(ORPHAN_GRACE_PERIOD));
+	}
+
 	public Component createComponent() {
 		try {
 			final CComponentListAttachments component = new CComponentListAttachments(this, sessionService);
@@ -81,9 +97,11 @@ public class CAttachmentService extends CEntityOfCompanyService<CAttachment> imp
 	@Override
 	public void delete(final CAttachment attachment) {
 		Objects.requireNonNull(attachment, "Attachment cannot be null");
-		// Delete file from storage
+		// Delete file from storage, unless other attachments share the content
 		try {
-			attachmentStorage.delete(attachment.getContentPath());
+			if (isFileOwnedBy(attachment)) {
+				attachmentStorage.delete(attachment.getContentPath());
+			}
 		} catch (final Exception e) {
 			LOGGER.error("Failed to delete file from storage: {} reason={}", attachment.getContentPath(), e.getMessage());
 		}
@@ -91,11 +109,15 @@ public class CAttachmentService extends CEntityOfCompanyService<CAttachment> imp
 		super.delete(attachment);
 	}
 
-	/** Delete the stored file for an attachment without removing the entity.
+	/** Delete the stored file for an attachment without removing the entity; a shared blob is left to {@link #collectOrphanedFiles()}.
 	 * @param attachment the attachment whose file should be removed */
 	public void deleteStoredFile(final CAttachment attachment) {
 		Objects.requireNonNull(attachment, "Attachment cannot be null");
 		Objects.requireNonNull(attachment.getContentPath(), "Content path cannot be null");
+		if (!isFileOwnedBy(attachment)) {
+			LOGGER.debug("Stored file {} is shared by content, left to the orphan collection", attachment.getContentPath());
+			return;
+		}
 		final boolean deleted = attachmentStorage.delete(attachment.getContentPath());
 		Check.isTrue(deleted, "Attachment file could not be deleted");
 	}
@@ -109,6 +131,12 @@ public class CAttachmentService extends CEntityOfCompanyService<CAttachment> imp
 		return attachmentStorage.download(attachment.getContentPath());
 	}
 
+	/** Hash of the stored content, see {@link IAttachmentStorage#getContentHash(String)}. */
+	public String getContentHash(final CAttachment attachment) {
+		Objects.requireNonNull(attachment, "Attachment cannot be null");
+		return attachmentStorage.getContentHash(attachment.getContentPath());
+	}
+
 	@Override
 	public Class<CAttachment> getEntityClass() { return CAttachment.class; }
 
@@ -118,6 +146,12 @@ public class CAttachmentService extends CEntityOfCompanyService<CAttachment> imp
 	@Override
 	public Class<?> getPageServiceClass() { return CPageServiceAttachment.class; }
 
+	/** File holding the attachment content, for downloads that send the file directly. */
+	public Path getStoredFile(final CAttachment attachment) {
+		Objects.requireNonNull(attachment, "Attachment cannot be null");
+		return Paths.get(attachmentStorage.getAbsolutePath(attachment.getContentPath()));
+	}
+
 	@Override
 	public Class<?> getServiceClass() { return this.getClass(); }
 
@@ -156,6 +190,46 @@ public class CAttachmentService extends CEntityOfCompanyService<CAttachment> imp
 		((CAttachment) entity).setUploadedBy(sessionService.getActiveUser().orElseThrow());
 	}
 
+	/** True when the file of an attachment can be deleted with it.
+	 * <p>
+	 * RULE: a content-addressed blob is never deleted here. Counting the other references cannot see an upload of the same content that is
+	 * still in its transaction: it reuses the blob, and its attachment would point to a deleted file once it commits. Upload refreshes the
+	 * blob's modification time, so {@link #collectOrphanedFiles()} removes it only after the grace period and only when no attachment names
+	 * it.
+	 * </p>
+	 */
+	private boolean isFileOwnedBy(final CAttachment attachment) {
+		return !attachmentStorage.isContentAddressed(attachment.getContentPath())
+				&& attachmentRepository.countOtherReferences(attachment.getContentPath(), attachment.getId()) == 0;
+	}
+
+	/** Move stored files of older storage layouts into the current one and repoint their attachments; the old files are left to
+	 * {@link #collectOrphanedFiles()}.
+	 * <p>
+	 * RULE: runs outside any caller transaction (the scheduler opens one per run). Each content path is copied and then repointed in its own
+	 * short transaction, so the file copies of every company do not hold one transaction open and a failure only skips its own path.
+	 * </p>
+	 * @return the number of migrated content paths */
+	@Transactional (propagation = Propagation.NOT_SUPPORTED)
+	public int migrateStoredFiles() {
+		int migrated = 0;
+		for (final String contentPath : attachmentRepository.findLegacyContentPaths(CContentAddressedAttachmentStorage.BLOB_DIRECTORY + "/")) {
+			try {
+				final String newPath = attachmentStorage.migrate(contentPath);
+				if (!newPath.equals(contentPath)) {
+					attachmentRepository.updateContentPath(contentPath, newPath);
+					migrated++;
+				}
+			} catch (final Exception e) {
+				LOGGER.warn("Failed to migrate stored file {} reason={}", contentPath, e.getMessage());
+			}
+		}
+		if (migrated > 0) {
+			LOGGER.info("Migrated {} stored attachment files to the current storage layout", migrated);
+		}
+		return migrated;
+	}
+
 	/** Upload a new file and create an attachment entity.
 	 * @param fileName    the original file name
 	 * @param inputStream the file content stream
@@ -3,8 +3,10 @@ package tech.derbent.plm.attachments.service;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import tech.derbent.api.entityOfCompany.service.IEntityOfCompanyRepository;
 import tech.derbent.plm.attachments.domain.CAttachment;
 
@@ -18,6 +20,31 @@ import tech.derbent.plm.attachments.domain.CAttachment;
  */
 public interface IAttachmentRepository extends IEntityOfCompanyRepository<CAttachment> {
 
+	/**
+	 * Count the attachments, other than the given one, that store their content at a path.
+	 * Content is shared by every attachment with the same content, so it may only be deleted when this is zero.
+	 * @param contentPath the storage path
+	 * @param id          the attachment to leave out, or null to count all
+	 * @return the number of other attachments referencing the content
+	 */
+	@Query("SELECT COUNT(a) FROM CAttachment a WHERE a.contentPath = :contentPath AND (:id IS NULL OR a.id <> :id)")
+	long countOtherReferences(@Param("contentPath") String contentPath, @Param("id") Long id);
+
+	/**
+	 * Find the content paths of all attachments of all companies, for the storage garbage collector.
+	 * @return distinct content paths
+	 */
+	@Query("SELECT DISTINCT a.contentPath FROM CAttachment a")
+	List<String> findAllContentPaths();
+
+	/**
+	 * Find content paths that are not in the content-addressed layout yet.
+	 * @param blobPrefix path prefix of content-addressed blobs
+	 * @return distinct content paths outside the blob store
+	 */
+	@Query("SELECT DISTINCT a.contentPath FROM CAttachment a WHERE a.contentPath NOT LIKE CONCAT(:blobPrefix, '%')")
+	List<String> findLegacyContentPaths(@Param("blobPrefix") String blobPrefix);
+
 	/**
 	 * Find all attachments that reference a specific attachment as previous version.
 	 * Used to check if an attachment can be deleted (cannot delete if newer versions exist).
@@ -35,4 +62,14 @@ public interface IAttachmentRepository extends IEntityOfCompanyRepository<CAttac
 	@EntityGraph(attributePaths = {"uploadedBy", "documentType", "previousVersion", "company"})
 	@Override
 	Optional<CAttachment> findById(Long id);
+
+	/**
+	 * Point every attachment stored at one path to another path, after its content was moved. Commits on its own when no transaction is
+	 * active, so a storage migration keeps what it finished.
+	 * @return the number of updated attachments
+	 */
+	@Modifying
+	@Transactional
+	@Query("UPDATE CAttachment a SET a.contentPath = :newPath WHERE a.contentPath = :oldPath")
+	int updateContentPath(@Param("oldPath") String oldPath, @Param("newPath") String newPath);
 }
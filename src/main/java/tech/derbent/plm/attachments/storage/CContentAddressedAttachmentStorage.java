@@ -0,0 +1,291 @@
+package tech.derbent.plm.attachments.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/** CContentAddressedAttachmentStorage - Attachment storage that keeps each distinct content once, named by its SHA-256 hash.
+ * <p>
+ * WHY: the dated layout ({@link CDiskAttachmentStorage}) writes every upload to a new file, so a datasheet attached to 50 activities, or a new
+ * version with unchanged content, is stored 50 times. Here the stream is hashed while it is written to a temporary file, which is then moved
+ * to {@code blobs/ab/<hash>}; when that blob already exists the temporary file is dropped and the existing blob is shared.
+ * </p>
+ * <p>
+ * RULE: a blob is referenced by every attachment whose content path names it; callers never delete a blob (see {@code CAttachmentService}),
+ * {@link #collectOrphans(Set, Instant)} removes it once no attachment names it. Reads of a blob verify the hash at the end
+ * of the stream. Paths of the dated layout stay readable, and {@link #migrate(String)} copies such a file into the blob store.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty (name = "derbent.attachments.storage.layout", havingValue = "content-addressed", matchIfMissing = true)
+public class CContentAddressedAttachmentStorage implements IAttachmentStorage {
+
+	/** Stream that hashes what is read and fails at the end of the content when the hash is not the one in the blob name. */
+	private static final class CVerifyingInputStream extends FilterInputStream {
+
+		private final String contentPath;
+		private final String expectedHash;
+		private boolean verified;
+
+		private CVerifyingInputStream(final InputStream in, final String contentPath, final String expectedHash) {
+			super(new DigestInputStream(in, newDigest()));
+			this.contentPath = contentPath;
+			this.expectedHash = expectedHash;
+		}
+
+		@Override
+		public int read() throws IOException {
+			final int value = super.read();
+			if (value < 0) {
+				verify();
+			}
+			return value;
+		}
+
+		@Override
+		public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+			final int count = super.read(buffer, offset, length);
+			if (count < 0) {
+				verify();
+			}
+			return count;
+		}
+
+		/** Skipped bytes would not be hashed, so skipping reads through the content. */
+		@Override
+		public long skip(final long count) throws IOException {
+			final byte[] buffer = new byte[BUFFER_SIZE];
+			long skipped = 0;
+			while (skipped < count) {
+				final int read = read(buffer, 0, (int) Math.min(buffer.length, count - skipped));
+				if (read < 0) {
+					break;
+				}
+				skipped += read;
+			}
+			return skipped;
+		}
+
+		private void verify() throws IOException {
+			if (verified) {
+				return;
+			}
+			verified = true;
+			final String actualHash = HEX.formatHex(((DigestInputStream) in).getMessageDigest().digest());
+			if (!actualHash.equals(expectedHash)) {
+				LOGGER.error("Attachment blob {} is corrupt: content hash is {}", contentPath, actualHash);
+				throw new IOException("Attachment content is corrupt: " + contentPath);
+			}
+		}
+	}
+
+	public static final String BLOB_DIRECTORY = "blobs";
+	private static final int BUFFER_SIZE = 8192;
+	private static final String HASH_ALGORITHM = "SHA-256";
+	private static final int HASH_LENGTH = 64;
+	private static final HexFormat HEX = HexFormat.of();
+	private static final Logger LOGGER = LoggerFactory.getLogger(CContentAddressedAttachmentStorage.class);
+	private static final String TEMP_DIRECTORY = "tmp";
+
+	/** Hash named by a blob content path, null for paths of the dated layout. */
+	private static String blobHash(final String contentPath) {
+		if (contentPath == null || !contentPath.startsWith(BLOB_DIRECTORY + "/")) {
+			return null;
+		}
+		final String hash = contentPath.substring(contentPath.lastIndexOf('/') + 1);
+		return hash.length() == HASH_LENGTH ? hash : null;
+	}
+
+	private static boolean isModifiedBefore(final Path file, final Instant instant) {
+		try {
+			return Files.getLastModifiedTime(file).toInstant().isBefore(instant);
+		} catch (final IOException e) {
+			return false;
+		}
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance(HASH_ALGORITHM);
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException(HASH_ALGORITHM + " is not available", e);
+		}
+	}
+
+	private final Path root;
+
+	public CContentAddressedAttachmentStorage(@Value ("${derbent.attachments.storage.path:./data/attachments}") final String storagePath) {
+		root = Paths.get(storagePath).toAbsolutePath().normalize();
+	}
+
+	/** Deletes files nobody references: blobs and files of the dated layout that no content path names any more, and temporary files of
+	 * uploads that never finished. Files modified after {@code olderThan} are kept, so an upload whose attachment is not committed yet, or a
+	 * blob that was just shared again, is not taken away.
+	 * @param referencedPaths content paths of all attachments
+	 * @param olderThan       only files last modified before this instant are deleted
+	 * @return the number of deleted files */
+	@Override
+	public int collectOrphans(final Set<String> referencedPaths, final Instant olderThan) {
+		if (!Files.isDirectory(root)) {
+			return 0;
+		}
+		final List<Path> orphans = new ArrayList<>();
+		try (Stream<Path> files = Files.walk(root)) {
+			files.filter(Files::isRegularFile).forEach(file -> {
+				final String contentPath = toContentPath(file);
+				if (!referencedPaths.contains(contentPath) && isModifiedBefore(file, olderThan)) {
+					orphans.add(file);
+				}
+			});
+		} catch (final IOException e) {
+			LOGGER.error("Failed to scan attachment storage {} reason={}", root, e.getMessage());
+			return 0;
+		}
+		int deleted = 0;
+		for (final Path orphan : orphans) {
+			try {
+				Files.deleteIfExists(orphan);
+				deleted++;
+			} catch (final IOException e) {
+				LOGGER.warn("Failed to delete orphaned attachment file {} reason={}", orphan, e.getMessage());
+			}
+		}
+		if (deleted > 0) {
+			LOGGER.info("Deleted {} orphaned attachment files", deleted);
+		}
+		return deleted;
+	}
+
+	@Override
+	public boolean delete(final String contentPath) {
+		try {
+			if (Files.deleteIfExists(resolve(contentPath))) {
+				LOGGER.info("Deleted file: {}", contentPath);
+				return true;
+			}
+			LOGGER.warn("File not found for deletion: {}", contentPath);
+			return false;
+		} catch (final Exception e) {
+			LOGGER.error("Error deleting file: {} reason={}", contentPath, e.getMessage());
+			return false;
+		}
+	}
+
+	@Override
+	public InputStream download(final String contentPath) throws Exception {
+		final Path fullPath = resolve(contentPath);
+		if (!Files.exists(fullPath)) {
+			throw new IllegalArgumentException("File not found: " + contentPath);
+		}
+		final String hash = blobHash(contentPath);
+		final InputStream in = Files.newInputStream(fullPath);
+		return hash != null ? new CVerifyingInputStream(in, contentPath, hash) : in;
+	}
+
+	@Override
+	public boolean exists(final String contentPath) {
+		return Files.exists(resolve(contentPath));
+	}
+
+	/** Blobs are named by their hash; files of the dated layout have none. */
+	@Override
+	public String getContentHash(final String contentPath) {
+		return blobHash(contentPath);
+	}
+
+	@Override
+	public String getAbsolutePath(final String contentPath) {
+		return resolve(contentPath).toString();
+	}
+
+	@Override
+	public boolean isContentAddressed(final String contentPath) {
+		return blobHash(contentPath) != null;
+	}
+
+	/** Copies a file of the dated layout into the blob store; the old file stays until no attachment names it and the collector removes it.
+	 * @return the blob content path, or the given path when it already is one */
+	@Override
+	public String migrate(final String contentPath) throws Exception {
+		if (blobHash(contentPath) != null) {
+			return contentPath;
+		}
+		try (InputStream in = download(contentPath)) {
+			return store(in);
+		}
+	}
+
+	/** Content path under the storage root; paths that would leave the root are refused. */
+	private Path resolve(final String contentPath) {
+		final Path fullPath = root.resolve(contentPath).normalize();
+		if (!fullPath.startsWith(root)) {
+			throw new IllegalArgumentException("Content path outside attachment storage: " + contentPath);
+		}
+		return fullPath;
+	}
+
+	private String store(final InputStream contentStream) throws IOException {
+		final Path tempDirectory = root.resolve(TEMP_DIRECTORY);
+		Files.createDirectories(tempDirectory);
+		final Path tempFile = tempDirectory.resolve(UUID.randomUUID() + ".part");
+		final MessageDigest digest = newDigest();
+		try {
+			try (InputStream in = new DigestInputStream(contentStream, digest); OutputStream out = Files.newOutputStream(tempFile)) {
+				in.transferTo(out);
+			}
+			final String hash = HEX.formatHex(digest.digest());
+			final String contentPath = BLOB_DIRECTORY + "/" + hash.substring(0, 2) + "/" + hash;
+			final Path blob = root.resolve(contentPath);
+			if (Files.exists(blob)) {
+				// Shared again: a fresh timestamp keeps the collector away until the new reference is committed.
+				Files.setLastModifiedTime(blob, FileTime.from(Instant.now()));
+				LOGGER.info("Upload matches existing blob: {}", contentPath);
+				return contentPath;
+			}
+			Files.createDirectories(blob.getParent());
+			try {
+				Files.move(tempFile, blob, StandardCopyOption.ATOMIC_MOVE);
+			} catch (final AtomicMoveNotSupportedException e) {
+				Files.move(tempFile, blob);
+			} catch (final FileAlreadyExistsException e) {
+				LOGGER.debug("Blob {} was stored concurrently", contentPath);
+			}
+			LOGGER.info("Uploaded file to: {}", contentPath);
+			return contentPath;
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	private String toContentPath(final Path file) {
+		return root.relativize(file).toString().replace('\\', '/');
+	}
+
+	@Override
+	public String upload(final String fileName, final InputStream contentStream, final long fileSize) throws Exception {
+		return store(contentStream);
+	}
+}
@@ -11,11 +11,14 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 /** Disk-based implementation of IAttachmentStorage. Stores attachment files in a configurable directory on the local filesystem. Files are organized
- * by year/month/day to prevent directory overcrowding. Uses UUIDs to prevent filename conflicts. */
+ * by year/month/day to prevent directory overcrowding. Uses UUIDs to prevent filename conflicts. Active with
+ * derbent.attachments.storage.layout=dated; the default is {@link CContentAddressedAttachmentStorage}, which also reads this layout. */
 @Component
+@ConditionalOnProperty (name = "derbent.attachments.storage.layout", havingValue = "dated")
 public class CDiskAttachmentStorage implements IAttachmentStorage {
 
 	private static final int BUFFER_SIZE = 8192;
@@ -1,6 +1,8 @@
 package tech.derbent.plm.attachments.storage;
 
 import java.io.InputStream;
+import java.time.Instant;
+import java.util.Set;
 
 /**
  * Abstraction interface for attachment storage.
@@ -10,6 +12,14 @@ import java.io.InputStream;
  */
 public interface IAttachmentStorage {
 
+	/** Delete stored files that no attachment references any more.
+	 * @param referencedPaths content paths of all attachments
+	 * @param olderThan       only files last modified before this instant are deleted
+	 * @return the number of deleted files */
+	default int collectOrphans(final Set<String> referencedPaths, final Instant olderThan) {
+		return 0;
+	}
+
 	/** Upload a file and return its storage path.
 	 * @param fileName the original file name
 	 * @param contentStream the file content as an input stream
@@ -34,8 +44,30 @@ public interface IAttachmentStorage {
 	 * @return true if file exists, false otherwise */
 	boolean exists(String contentPath);
 
+	/** Get the hash of the stored content when the storage knows it without reading the file.
+	 * @param contentPath the relative path to the file
+	 * @return the hex SHA-256 of the content, or null when unknown */
+	default String getContentHash(final String contentPath) {
+		return null;
+	}
+
+	/** Check if a content path names a file shared by content, which any new upload of the same content may start to reference.
+	 * @param contentPath the relative path to the file
+	 * @return true for content-addressed files, false when every upload gets its own file */
+	default boolean isContentAddressed(final String contentPath) {
+		return false;
+	}
+
 	/** Get the absolute file path for a given content path.
 	 * @param contentPath the relative path to the file
 	 * @return the absolute file path */
 	String getAbsolutePath(String contentPath);
+
+	/** Move a stored file into the current storage layout.
+	 * @param contentPath the relative path to the file
+	 * @return the path the content is stored under from now on
+	 * @throws Exception if the file cannot be read or stored */
+	default String migrate(final String contentPath) throws Exception {
+		return contentPath;
+	}
 }
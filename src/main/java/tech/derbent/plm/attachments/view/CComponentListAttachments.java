@@ -11,16 +11,17 @@ import org.slf4j.LoggerFactory;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.html.Anchor;
 import com.vaadin.flow.component.icon.VaadinIcon;
-import com.vaadin.flow.server.StreamResource;
 import tech.derbent.api.config.CSpringContext;
 import tech.derbent.api.entity.domain.CEntityDB;
 import tech.derbent.api.entity.service.CAbstractService;
+import tech.derbent.api.entityOfProject.domain.CProjectItem;
 import tech.derbent.api.grid.domain.CGrid;
 import tech.derbent.api.interfaces.IContentOwner;
 import tech.derbent.api.interfaces.IGridComponent;
 import tech.derbent.api.interfaces.IGridRefreshListener;
 import tech.derbent.api.interfaces.IPageServiceAutoRegistrable;
 import tech.derbent.api.registry.CEntityRegistry;
+import tech.derbent.api.search.service.CSearchIndexService;
 import tech.derbent.api.ui.component.basic.CButton;
 import tech.derbent.api.ui.component.basic.CH3;
 import tech.derbent.api.ui.component.basic.CHorizontalLayout;
@@ -31,6 +32,7 @@ import tech.derbent.api.session.service.ISessionService;
 import tech.derbent.plm.attachments.domain.CAttachment;
 import tech.derbent.plm.attachments.domain.IHasAttachments;
 import tech.derbent.plm.attachments.service.CAttachmentService;
+import tech.derbent.plm.attachments.web.CAttachmentDownloadController;
 
 /** CComponentListAttachments - Component for managing attachments on entities. Displays a list of attachments with version number, filename, size,
  * type, upload date and uploaded by user. Supports upload, download, delete and version history operations. This component uses the IHasAttachments
@@ -293,17 +295,8 @@ public class CComponentListAttachments extends CVerticalLayout
 		try {
 			final CAttachment selected = grid.asSingleSelect().getValue();
 			Check.notNull(selected, "No attachment selected");
-			// Create stream resource for download
-			final StreamResource resource = new StreamResource(selected.getFileName(), () -> {
-				try {
-					return attachmentService.downloadFile(selected);
-				} catch (final Exception e) {
-					LOGGER.error("Error downloading file reason={}", e.getMessage());
-					throw new IllegalStateException("Failed to download attachment", e);
-				}
-			});
-			// Trigger download via anchor
-			final Anchor downloadLink = new Anchor(resource, "");
+			// The endpoint sends the stored file with range and ETag support, outside the UI request
+			final Anchor downloadLink = new Anchor(CAttachmentDownloadController.contentUrl(selected), "");
 			downloadLink.getElement().setAttribute("download", true);
 			downloadLink.setId("download-" + selected.getId());
 			// Add to UI temporarily
@@ -327,6 +320,7 @@ public class CComponentListAttachments extends CVerticalLayout
 			final CDialogAttachment dialog = new CDialogAttachment(selected, attachment -> {
 				try {
 					attachmentService.save(attachment);
+					reindexMaster();
 					refreshGrid();
 					notifyRefreshListeners(attachment);
 				} catch (final Exception e) {
@@ -416,6 +410,14 @@ public class CComponentListAttachments extends CVerticalLayout
 		}
 	}
 
+	/** Attachment names and descriptions are indexed with their owner; an edit saves only the attachment, so the owner is re-indexed here (adds and deletes save the owner,
+	 * which re-indexes it). */
+	private void reindexMaster() {
+		if (masterEntity instanceof final CProjectItem<?, ?> item && CSpringContext.containsBean(CSearchIndexService.class)) {
+			CSpringContext.getBean(CSearchIndexService.class).index(item);
+		}
+	}
+
 	private void saveMasterEntity(final CEntityDB<?> entity) {
 		Check.notNull(entity, "Entity cannot be null");
 		try {
@@ -1,5 +1,6 @@
 package tech.derbent.plm.attachments.view;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
@@ -10,7 +11,6 @@ import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.icon.Icon;
 import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.upload.Upload;
-import com.vaadin.flow.component.upload.receivers.MemoryBuffer;
 import tech.derbent.api.annotations.CFormBuilder;
 import tech.derbent.api.components.CBinderFactory;
 import tech.derbent.api.components.CEnhancedBinder;
@@ -18,6 +18,8 @@ import tech.derbent.api.entity.domain.CEntityDB;
 import tech.derbent.api.ui.component.basic.CVerticalLayout;
 import tech.derbent.api.ui.dialogs.CDialogDBEdit;
 import tech.derbent.api.ui.notifications.CNotificationService;
+import tech.derbent.api.upload.CSpooledFile;
+import tech.derbent.api.upload.CSpooledUploadReceiver;
 import tech.derbent.api.utils.Check;
 import tech.derbent.api.session.service.ISessionService;
 import tech.derbent.plm.attachments.domain.CAttachment;
@@ -44,11 +46,11 @@ public class CDialogAttachment extends CDialogDBEdit<CAttachment> {
 
 	private final CAttachmentService attachmentService;
 	private final CEnhancedBinder<CAttachment> binder;
-	private MemoryBuffer buffer;
 	private final CFormBuilder<CAttachment> formBuilder;
 	private Span statusLabel;
 	// Upload mode fields (custom UI for file selection)
 	private Upload upload;
+	private CSpooledUploadReceiver uploadReceiver;
 	private String uploadedFileName;
 	private Long uploadedFileSize;
 	private String uploadedMimeType;
@@ -88,29 +90,30 @@ public class CDialogAttachment extends CDialogDBEdit<CAttachment> {
 			uploadSection.setPadding(false);
 			uploadSection.setSpacing(true);
 			// Upload component (for file selection)
-			buffer = new MemoryBuffer();
-			upload = new Upload(buffer);
+			uploadReceiver = new CSpooledUploadReceiver(MAX_FILE_SIZE);
+			upload = new Upload(uploadReceiver);
 			upload.setMaxFileSize((int) MAX_FILE_SIZE);
 			upload.setDropLabel(new Span("Drop file here or click to browse"));
 			upload.setUploadButton(new Button("Choose File"));
 			// Upload listeners - populate entity fields when file is selected
 			upload.addSucceededListener(event -> {
 				uploadedFileName = event.getFileName();
-				uploadedFileSize = event.getContentLength();
+				uploadedFileSize = uploadReceiver.getFile() != null ? uploadReceiver.getFile().getSize() : event.getContentLength();
 				uploadedMimeType = event.getMIMEType();
 				// Populate entity fields
 				getEntity().setFileName(event.getFileName());
-				getEntity().setFileSize(event.getContentLength());
+				getEntity().setFileSize(uploadedFileSize);
 				getEntity().setFileType(event.getMIMEType());
 				// Refresh form to show populated values
 				binder.readBean(getEntity());
-				statusLabel.setText("File ready: " + event.getFileName() + " (" + formatFileSize(event.getContentLength()) + ")");
-				LOGGER.debug("File selected: {}, size: {}", event.getFileName(), event.getContentLength());
+				statusLabel.setText("File ready: " + event.getFileName() + " (" + formatFileSize(uploadedFileSize) + ")");
+				LOGGER.debug("File selected: {}, size: {}", event.getFileName(), uploadedFileSize);
 			});
 			upload.addFailedListener(event -> {
 				LOGGER.error("File upload failed: {}", event.getReason().getMessage());
 				CNotificationService.showError("Upload failed: " + event.getReason().getMessage());
 				statusLabel.setText("Upload failed");
+				uploadReceiver.clear();
 				uploadedFileName = null;
 				uploadedFileSize = null;
 				uploadedMimeType = null;
@@ -122,6 +125,7 @@ public class CDialogAttachment extends CDialogDBEdit<CAttachment> {
 				uploadedFileSize = null;
 				uploadedMimeType = null;
 			});
+			upload.addDetachListener(event -> uploadReceiver.clear());
 			uploadSection.add(upload);
 			// Status label
 			statusLabel = new Span("No file selected");
@@ -215,8 +219,12 @@ public class CDialogAttachment extends CDialogDBEdit<CAttachment> {
 			// Write form data to entity
 			binder.writeBean(getEntity());
 			// Upload file and create attachment (auto-detects document type if not set)
-			final CAttachment attachment = attachmentService.uploadFile(uploadedFileName, buffer.getInputStream(), uploadedFileSize, uploadedMimeType,
-					getEntity().getDescription());
+			final CSpooledFile file = uploadReceiver.getFile();
+			Check.notNull(file, "Uploaded file is not available - please choose the file again");
+			final CAttachment attachment;
+			try (InputStream content = file.openInputStream()) {
+				attachment = attachmentService.uploadFile(uploadedFileName, content, file.getSize(), uploadedMimeType, getEntity().getDescription());
+			}
 			// Copy user-entered fields from form to saved attachment
 			attachment.setVersionNumber(getEntity().getVersionNumber());
 			attachment.setDocumentType(getEntity().getDocumentType());
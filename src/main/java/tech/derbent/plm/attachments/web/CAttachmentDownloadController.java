@@ -0,0 +1,63 @@
+package tech.derbent.plm.attachments.web;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import tech.derbent.api.download.service.CRangeDownloadService;
+import tech.derbent.plm.attachments.domain.CAttachment;
+import tech.derbent.plm.attachments.service.CAttachmentService;
+
+/** CAttachmentDownloadController - Serves attachment content at {@code /api/attachments/{id}/content}.
+ * <p>
+ * WHY: downloads from the attachment list used to stream through a Vaadin {@code StreamResource}; this endpoint sends the stored file with
+ * {@link CRangeDownloadService}, so large files resume and revalidate with their ETag.
+ * </p>
+ * <p>
+ * RULE: only attachments of the signed-in user's company are served; others answer 404, like missing ones. Blobs of the content-addressed
+ * storage get a strong ETag from their hash, files of the dated layout a weak one from size and modification time. Files are sent as stored,
+ * without the end-of-stream hash check of {@link CAttachmentService#downloadFile(CAttachment)}: that check fails only after the bytes are
+ * out, and a range cannot be checked at all. A client that needs the check compares the full content with the hash in the ETag.
+ * </p>
+ */
+@Profile ({
+		"derbent", "default"
+})
+@RestController
+public class CAttachmentDownloadController {
+
+	public static final String CONTENT_PATH = "/api/attachments/{id}/content";
+
+	/** Download URL of an attachment, relative to the application root that Vaadin sets as the document base. */
+	public static String contentUrl(final CAttachment attachment) {
+		return CONTENT_PATH.substring(1).replace("{id}", String.valueOf(attachment.getId()));
+	}
+
+	private final CAttachmentService attachmentService;
+	private final CRangeDownloadService downloadService;
+
+	public CAttachmentDownloadController(final CAttachmentService attachmentService, final CRangeDownloadService downloadService) {
+		this.attachmentService = attachmentService;
+		this.downloadService = downloadService;
+	}
+
+	@GetMapping (CONTENT_PATH)
+	public void download(@PathVariable ("id") final Long id, final HttpServletRequest request, final HttpServletResponse response)
+			throws IOException {
+		final CAttachment attachment = attachmentService.getById(id).orElse(null);
+		if (attachment == null || attachment.getCompany() == null || !downloadService.isOwnCompany(request, attachment.getCompany().getId())) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+			return;
+		}
+		final Path file = attachmentService.getStoredFile(attachment);
+		final String contentHash = attachmentService.getContentHash(attachment);
+		final String etag = contentHash != null ? CRangeDownloadService.strongEtag(contentHash)
+				: Files.isRegularFile(file) ? "W/\"%x-%x\"".formatted(Files.size(file), Files.getLastModifiedTime(file).toMillis()) : null;
+		downloadService.sendFile(request, response, file, etag, attachment.getFileName(), attachment.getFileType());
+	}
+}
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import tech.derbent.api.imports.domain.CImportOptions;
 import tech.derbent.api.imports.domain.CImportRowResult;
 import tech.derbent.api.imports.service.CEntityOfCompanyImportHandler;
+import tech.derbent.api.imports.service.CImportLookupCache;
 import tech.derbent.api.imports.service.CProjectItemReferenceResolver;
 import tech.derbent.api.projects.domain.CProject;
 import tech.derbent.api.users.domain.CUser;
@@ -42,6 +43,13 @@ public class CCommentImportHandler extends CEntityOfCompanyImportHandler<CCommen
 	@Override
 	public Class<CComment> getEntityClass() { return CComment.class; }
 
+	/** Owners are resolved by type + name and saved by this handler. */
+	@Override
+	public Set<Class<?>> getReferencedEntityClasses() { return itemResolver.getResolvableEntityClasses(); }
+
+	@Override
+	public boolean isReferenceDeclarationComplete() { return true; }
+
 	@Override
 	public Set<String> getRequiredColumns() { return Set.of("ownertype", "ownername", "commenttext"); }
 
@@ -80,7 +88,8 @@ public class CCommentImportHandler extends CEntityOfCompanyImportHandler<CCommen
 		final CUser author;
 		if (!authorLogin.isBlank()) {
 			// WHY: login/username is the only stable identifier for users across environments.
-			author = userRepository.findByUsernameIgnoreCase(project.getCompany().getId(), authorLogin).orElse(null);
+			author = CImportLookupCache.lookupUser(authorLogin, project.getCompany(),
+					() -> userRepository.findByUsernameIgnoreCase(project.getCompany().getId(), authorLogin)).orElse(null);
 			if (author == null) {
 				return CImportRowResult.error(rowNumber, "Author user '" + authorLogin + "' not found in company",
 						rowData);
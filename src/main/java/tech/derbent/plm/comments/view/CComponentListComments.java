@@ -14,12 +14,14 @@ import com.vaadin.flow.data.renderer.ComponentRenderer;
 import tech.derbent.api.config.CSpringContext;
 import tech.derbent.api.entity.domain.CEntityDB;
 import tech.derbent.api.entity.service.CAbstractService;
+import tech.derbent.api.entityOfProject.domain.CProjectItem;
 import tech.derbent.api.grid.domain.CGrid;
 import tech.derbent.api.interfaces.IContentOwner;
 import tech.derbent.api.interfaces.IGridComponent;
 import tech.derbent.api.interfaces.IGridRefreshListener;
 import tech.derbent.api.interfaces.IPageServiceAutoRegistrable;
 import tech.derbent.api.registry.CEntityRegistry;
+import tech.derbent.api.search.service.CSearchIndexService;
 import tech.derbent.api.ui.component.basic.CButton;
 import tech.derbent.api.ui.component.basic.CH3;
 import tech.derbent.api.ui.component.basic.CHorizontalLayout;
@@ -343,6 +345,7 @@ public class CComponentListComments extends CVerticalLayout
 			final CDialogComment dialog = new CDialogComment(commentService, sessionService, selected, comment -> {
 				try {
 					commentService.save(comment);
+					reindexMaster();
 					refreshGrid();
 					notifyRefreshListeners(comment);
 				} catch (final Exception e) {
@@ -410,6 +413,14 @@ public class CComponentListComments extends CVerticalLayout
 		}
 	}
 
+	/** Comment texts are indexed with their owner; an edit saves only the comment, so the owner is re-indexed here (adds and deletes save the owner,
+	 * which re-indexes it). */
+	private void reindexMaster() {
+		if (masterEntity instanceof final CProjectItem<?, ?> item && CSpringContext.containsBean(CSearchIndexService.class)) {
+			CSpringContext.getBean(CSearchIndexService.class).index(item);
+		}
+	}
+
 	private void saveMasterEntity(final CEntityDB<?> entity) {
 		Check.notNull(entity, "Entity cannot be null");
 		try {
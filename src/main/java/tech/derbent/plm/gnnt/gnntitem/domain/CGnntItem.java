@@ -10,8 +10,10 @@ import tech.derbent.api.interfaces.IHasParentRelation;
 import tech.derbent.api.interfaces.ISprintableItem;
 import tech.derbent.api.registry.CEntityRegistry;
 import tech.derbent.api.utils.CColorUtils;
+import tech.derbent.api.utils.Check;
 import tech.derbent.api.users.domain.CUser;
 import tech.derbent.plm.gnnt.gnntitem.service.IGnntEntityItem;
+import tech.derbent.plm.gnnt.gnntviewentity.domain.CGnntScheduleEngine.CScheduleEntry;
 import tech.derbent.plm.sprints.domain.CSprintItem;
 
 /**
@@ -28,16 +30,18 @@ public class CGnntItem {
 	private static final String GENERIC_PROJECT_ITEM_ICON = "vaadin:file";
 	public static final String VIEW_NAME = "Gnnt Items View";
 
-	private final LocalDate endDate;
-	private final CProjectItem<?, ?> entity;
+	private boolean critical;
+	private LocalDate endDate;
+	private CProjectItem<?, ?> entity;
 	private final String entityKey;
 	private final String entityType;
-	private final boolean editable;
+	private boolean editable;
 	private boolean hasChildren;
 	private final int hierarchyLevel;
 	private final Long parentId;
 	private final String parentType;
-	private final LocalDate startDate;
+	private Long slackDays;
+	private LocalDate startDate;
 
 	public CGnntItem(final CProjectItem<?, ?> entity, final long uniqueId, final int hierarchyLevel) {
 		this.entity = entity;
@@ -60,6 +64,32 @@ public class CGnntItem {
 
 	private final long id;
 
+	/** Shows the computed schedule instead of the stored dates: roll-up span for summary items, dependency-shifted dates for the others.
+	 * @param entry schedule of this item, {@code null} to keep the stored dates */
+	public void applySchedule(final CScheduleEntry entry) {
+		if (entry == null) {
+			startDate = entity.getStartDate();
+			endDate = entity.getEndDate();
+			critical = false;
+			slackDays = null;
+			return;
+		}
+		startDate = entry.earlyStart();
+		endDate = entry.earlyFinish();
+		critical = entry.critical();
+		slackDays = entry.slackDays();
+	}
+
+	/** Swaps in a reloaded copy of the same entity after an edit that kept it under the same parent, so the row shows the saved values.
+	 * @param reloaded the saved entity; same type and id as the current one */
+	public void refreshEntity(final CProjectItem<?, ?> reloaded) {
+		Check.notNull(reloaded, "Reloaded entity cannot be null");
+		Check.isTrue(entityKey.equals(ProxyUtils.getUserClass(reloaded.getClass()).getSimpleName() + ":" + reloaded.getId()),
+				"Reloaded entity does not match Gnnt item " + entityKey);
+		entity = reloaded;
+		editable = resolveEditable(reloaded);
+	}
+
 	public CUser getAssignedTo() {
 		return entity.getAssignedTo();
 	}
@@ -148,6 +178,10 @@ public class CGnntItem {
 		return entity.getName();
 	}
 
+	public boolean isCritical() {
+		return critical;
+	}
+
 	public boolean isEditable() {
 		return editable;
 	}
@@ -191,6 +225,11 @@ public class CGnntItem {
 		return responsible != null ? responsible.getName() : "Unassigned";
 	}
 
+	/** @return days the item can slip without moving the project end, {@code null} when not scheduled */
+	public Long getSlackDays() {
+		return slackDays;
+	}
+
 	public LocalDate getStartDate() {
 		return startDate;
 	}
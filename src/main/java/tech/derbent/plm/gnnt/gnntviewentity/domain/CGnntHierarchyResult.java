@@ -1,6 +1,7 @@
 package tech.derbent.plm.gnnt.gnntviewentity.domain;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import tech.derbent.plm.gnnt.gnntitem.domain.CGnntItem;
@@ -9,13 +10,25 @@ public class CGnntHierarchyResult {
 
 	private final Map<String, List<CGnntItem>> childrenByParentKey;
 	private final List<CGnntItem> flatItems;
+	private final Map<String, CGnntItem> itemsByKey = new HashMap<>();
 	private final List<CGnntItem> rootItems;
+	private final CGnntScheduleEngine schedule;
 
 	public CGnntHierarchyResult(final List<CGnntItem> rootItems, final Map<String, List<CGnntItem>> childrenByParentKey,
 			final List<CGnntItem> flatItems) {
+		this(rootItems, childrenByParentKey, flatItems, null);
+	}
+
+	/** @param schedule computed schedule of the whole project (not only the visible items), {@code null} when not scheduled */
+	public CGnntHierarchyResult(final List<CGnntItem> rootItems, final Map<String, List<CGnntItem>> childrenByParentKey,
+			final List<CGnntItem> flatItems, final CGnntScheduleEngine schedule) {
 		this.rootItems = rootItems != null ? List.copyOf(rootItems) : List.of();
 		this.childrenByParentKey = childrenByParentKey != null ? Map.copyOf(childrenByParentKey) : Map.of();
 		this.flatItems = flatItems != null ? List.copyOf(flatItems) : List.of();
+		this.schedule = schedule;
+		for (final CGnntItem item : this.flatItems) {
+			itemsByKey.put(item.getEntityKey(), item);
+		}
 	}
 
 	public List<CGnntItem> getChildren(final CGnntItem parent) {
@@ -37,10 +50,19 @@ public class CGnntHierarchyResult {
 		return flatItems;
 	}
 
+	/** @return the visible item with this entity key, {@code null} when it is filtered out */
+	public CGnntItem getItem(final String entityKey) {
+		return entityKey != null ? itemsByKey.get(entityKey) : null;
+	}
+
 	public List<CGnntItem> getRootItems() {
 		return rootItems;
 	}
 
+	public CGnntScheduleEngine getSchedule() {
+		return schedule;
+	}
+
 	public boolean isEmpty() {
 		return flatItems.isEmpty();
 	}
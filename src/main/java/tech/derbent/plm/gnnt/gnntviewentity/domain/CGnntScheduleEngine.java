@@ -0,0 +1,571 @@
+package tech.derbent.plm.gnnt.gnntviewentity.domain;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.derbent.api.utils.Check;
+
+/** CGnntScheduleEngine - Critical path schedule over the Gnnt hierarchy and finish-to-start dependencies.
+ * <p>
+ * WHY: the timeline only showed the stored dates of each item; parents did not span their children and a late predecessor did not move its
+ * successors, so planners recomputed by hand. The engine rolls child dates up into parents, runs the forward pass (earliest dates) and the
+ * backward pass (latest dates), and marks the zero-slack items as critical. After a date change only the items reachable from the changed one are
+ * recomputed, in dependency order, and propagation stops where a value no longer changes.
+ * </p>
+ * <p>
+ * RULE: the stored dates of a leaf are its duration and its "start no earlier than" constraint; a dependency can only push an item later. A
+ * dependency on a summary item applies to all of its descendants, and a summary item spans its scheduled children (its own dates are used only
+ * when no child has dates). Dependencies that would close a cycle, including ones between an item and its own ancestor, are ignored and logged.
+ * </p>
+ * <p>
+ * Items and dependencies are added first; {@link #compute()} freezes the graph. Keys are opaque strings (the Gnnt entity keys).
+ * </p>
+ */
+public final class CGnntScheduleEngine {
+
+	/** Computed dates of one item; {@code slackDays} is how far the item can slip without moving the project end (for a summary item, the
+	 * smallest slack of its children). */
+	public record CScheduleEntry(LocalDate earlyStart, LocalDate earlyFinish, LocalDate lateStart, LocalDate lateFinish, long slackDays,
+			boolean critical) {}
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CGnntScheduleEngine.class);
+	/** Absent earliest date; {@code Math.max} ignores it. */
+	private static final long NONE = Long.MIN_VALUE;
+	/** Absent latest date; {@code Math.min} ignores it. */
+	private static final long UNBOUNDED = Long.MAX_VALUE;
+
+	private static long toDay(final LocalDate date) {
+		return date != null ? date.toEpochDay() : NONE;
+	}
+
+	private static LocalDate toDate(final long day) {
+		return day == NONE || day == UNBOUNDED ? null : LocalDate.ofEpochDay(day);
+	}
+
+	private static int[][] toArrays(final List<List<Integer>> lists) {
+		final int[][] arrays = new int[lists.size()][];
+		for (int index = 0; index < arrays.length; index++) {
+			arrays[index] = lists.get(index).stream().mapToInt(Integer::intValue).toArray();
+		}
+		return arrays;
+	}
+
+	// Vertex 2n is the bound of item n (earliest start bound forward, latest finish bound backward), vertex 2n + 1 holds its dates.
+	private static int boundVertex(final int node) {
+		return node * 2;
+	}
+
+	private static int datesVertex(final int node) {
+		return node * 2 + 1;
+	}
+
+	private int[] backwardRank;
+	private int[][] children;
+	private boolean computed;
+	private final List<long[]> dependencies = new ArrayList<>();
+	private final Set<Long> dependencyPairs = new HashSet<>();
+	private long[] earlyBound;
+	private long[] earlyFinish;
+	private long[] earlyStart;
+	private int[] forwardRank;
+	private final Map<String, Integer> indexByKey = new HashMap<>();
+	private final List<String> keys = new ArrayList<>();
+	private int lastRecomputedVertexCount;
+	private long[] lateBound;
+	private long[] lateFinish;
+	private long[] lateStart;
+	private int[] parent;
+	private final List<String> parentKeys = new ArrayList<>();
+	private long[] plannedEnd;
+	private final List<Long> plannedEnds = new ArrayList<>();
+	private long[] plannedStart;
+	private final List<Long> plannedStarts = new ArrayList<>();
+	private int[][] predecessors;
+	private long projectEnd = NONE;
+	private int[] roots;
+	private long[] slack;
+	private int[][] successors;
+
+	/** Adds a finish-to-start dependency: the successor cannot start before the predecessor has finished. Unknown keys are ignored. */
+	public void addDependency(final String predecessorKey, final String successorKey) {
+		Check.isTrue(!computed, "Dependencies cannot be added after the schedule has been computed");
+		final Integer predecessor = indexByKey.get(predecessorKey);
+		final Integer successor = indexByKey.get(successorKey);
+		if (predecessor == null || successor == null || predecessor.equals(successor)) {
+			return;
+		}
+		if (dependencyPairs.add((long) predecessor << 32 | successor)) {
+			dependencies.add(new long[] {
+					predecessor, successor
+			});
+		}
+	}
+
+	/** Adds an item.
+	 * @param key       unique item key
+	 * @param parentKey key of the parent item, {@code null} for a root; a parent that is never added makes the item a root
+	 * @param startDate stored start, {@code null} when unplanned
+	 * @param endDate   stored end, {@code null} when unplanned */
+	public void addItem(final String key, final String parentKey, final LocalDate startDate, final LocalDate endDate) {
+		Check.isTrue(!computed, "Items cannot be added after the schedule has been computed");
+		Check.notBlank(key, "Schedule item key cannot be blank");
+		Check.isTrue(!indexByKey.containsKey(key), "Duplicate schedule item: " + key);
+		indexByKey.put(key, keys.size());
+		keys.add(key);
+		parentKeys.add(parentKey);
+		final long[] planned = plannedDays(startDate, endDate);
+		plannedStarts.add(planned[0]);
+		plannedEnds.add(planned[1]);
+	}
+
+	private static long[] plannedDays(final LocalDate startDate, final LocalDate endDate) {
+		if (startDate == null || endDate == null) {
+			return new long[] {
+					NONE, NONE
+			};
+		}
+		// A reversed range is treated as a one-day item rather than a negative duration.
+		return new long[] {
+				toDay(startDate), Math.max(toDay(startDate), toDay(endDate))
+		};
+	}
+
+	private int[] buildRanks(final boolean forward) {
+		final int vertexCount = keys.size() * 2;
+		final int[] inDegree = new int[vertexCount];
+		for (int vertex = 0; vertex < vertexCount; vertex++) {
+			forEachSuccessor(forward, vertex, successor -> inDegree[successor]++);
+		}
+		final int[] queue = new int[vertexCount];
+		int tail = 0;
+		for (int vertex = 0; vertex < vertexCount; vertex++) {
+			if (inDegree[vertex] == 0) {
+				queue[tail++] = vertex;
+			}
+		}
+		final int[] rank = new int[vertexCount];
+		Arrays.fill(rank, -1);
+		final int[] tailHolder = {
+				tail
+		};
+		for (int head = 0; head < tailHolder[0]; head++) {
+			final int vertex = queue[head];
+			rank[vertex] = head;
+			forEachSuccessor(forward, vertex, successor -> {
+				if (--inDegree[successor] == 0) {
+					queue[tailHolder[0]++] = successor;
+				}
+			});
+		}
+		return rank;
+	}
+
+	/** Freezes the graph and runs both passes over all items. */
+	public void compute() {
+		Check.isTrue(!computed, "Schedule has already been computed");
+		final int count = keys.size();
+		parent = new int[count];
+		plannedStart = new long[count];
+		plannedEnd = new long[count];
+		for (int node = 0; node < count; node++) {
+			final String parentKey = parentKeys.get(node);
+			final Integer parentIndex = parentKey != null ? indexByKey.get(parentKey) : null;
+			parent[node] = parentIndex != null ? parentIndex : -1;
+			plannedStart[node] = plannedStarts.get(node);
+			plannedEnd[node] = plannedEnds.get(node);
+		}
+		cutParentCycles();
+		final List<List<Integer>> childLists = new ArrayList<>();
+		for (int node = 0; node < count; node++) {
+			childLists.add(new ArrayList<>());
+		}
+		final List<Integer> rootList = new ArrayList<>();
+		for (int node = 0; node < count; node++) {
+			if (parent[node] >= 0) {
+				childLists.get(parent[node]).add(node);
+			} else {
+				rootList.add(node);
+			}
+		}
+		children = toArrays(childLists);
+		roots = rootList.stream().mapToInt(Integer::intValue).toArray();
+		dependencies.removeIf(dependency -> {
+			final boolean nested = isAncestor((int) dependency[0], (int) dependency[1]) || isAncestor((int) dependency[1], (int) dependency[0]);
+			if (nested) {
+				LOGGER.warn("Ignoring schedule dependency {} -> {} between an item and its own ancestor", keys.get((int) dependency[0]),
+						keys.get((int) dependency[1]));
+			}
+			return nested;
+		});
+		buildDependencyArrays();
+		while (true) {
+			forwardRank = buildRanks(true);
+			backwardRank = buildRanks(false);
+			if (!dropCyclicDependency()) {
+				break;
+			}
+			buildDependencyArrays();
+		}
+		earlyBound = new long[count];
+		earlyStart = new long[count];
+		earlyFinish = new long[count];
+		lateBound = new long[count];
+		lateStart = new long[count];
+		lateFinish = new long[count];
+		slack = new long[count];
+		computed = true;
+		lastRecomputedVertexCount = evaluateAll(true) + evaluateAll(false);
+	}
+
+	private void buildDependencyArrays() {
+		final List<List<Integer>> predecessorLists = new ArrayList<>();
+		final List<List<Integer>> successorLists = new ArrayList<>();
+		for (int node = 0; node < keys.size(); node++) {
+			predecessorLists.add(new ArrayList<>());
+			successorLists.add(new ArrayList<>());
+		}
+		for (final long[] dependency : dependencies) {
+			successorLists.get((int) dependency[0]).add((int) dependency[1]);
+			predecessorLists.get((int) dependency[1]).add((int) dependency[0]);
+		}
+		predecessors = toArrays(predecessorLists);
+		successors = toArrays(successorLists);
+	}
+
+	private long computeProjectEnd() {
+		long end = NONE;
+		for (final int root : roots) {
+			end = Math.max(end, earlyFinish[root]);
+		}
+		return end;
+	}
+
+	private void cutParentCycles() {
+		// 0 = unvisited, 1 = on the current parent chain, 2 = known to reach a root.
+		final byte[] state = new byte[parent.length];
+		final List<Integer> chain = new ArrayList<>();
+		for (int start = 0; start < parent.length; start++) {
+			chain.clear();
+			int node = start;
+			while (node >= 0 && state[node] == 0) {
+				state[node] = 1;
+				chain.add(node);
+				node = parent[node];
+			}
+			if (node >= 0 && state[node] == 1) {
+				LOGGER.warn("Ignoring parent of schedule item {} because the parent chain is cyclic", keys.get(node));
+				parent[node] = -1;
+			}
+			for (final int visited : chain) {
+				state[visited] = 2;
+			}
+		}
+	}
+
+	/** Removes one dependency that closes a cycle, if any. Only dependencies can form cycles: the hierarchy alone is acyclic once
+	 * {@link #cutParentCycles()} has run.
+	 * @return true when a dependency was removed and the ranks must be rebuilt */
+	private boolean dropCyclicDependency() {
+		for (final boolean forward : new boolean[] {
+				true, false
+		}) {
+			final int[] rank = forward ? forwardRank : backwardRank;
+			for (final long[] dependency : dependencies) {
+				final int predecessor = (int) dependency[0];
+				final int successor = (int) dependency[1];
+				// Forward the edge runs from the predecessor's dates to the successor's bound, backward the other way round.
+				final int from = forward ? datesVertex(predecessor) : datesVertex(successor);
+				final int to = forward ? boundVertex(successor) : boundVertex(predecessor);
+				if (rank[from] < 0 && rank[to] < 0 && reaches(forward, to, from)) {
+					LOGGER.warn("Ignoring cyclic schedule dependency {} -> {}", keys.get(predecessor), keys.get(successor));
+					dependencies.remove(dependency);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/** Recomputes one vertex from its inputs.
+	 * @return true when its value changed */
+	private boolean evaluate(final boolean forward, final int vertex) {
+		final int node = vertex / 2;
+		final boolean boundVertex = vertex % 2 == 0;
+		if (forward && boundVertex) {
+			long bound = parent[node] >= 0 ? earlyBound[parent[node]] : NONE;
+			for (final int predecessor : predecessors[node]) {
+				if (earlyFinish[predecessor] != NONE) {
+					bound = Math.max(bound, earlyFinish[predecessor] + 1);
+				}
+			}
+			final boolean changed = bound != earlyBound[node];
+			earlyBound[node] = bound;
+			return changed;
+		}
+		if (forward) {
+			long start = NONE;
+			long finish = NONE;
+			for (final int child : children[node]) {
+				if (earlyStart[child] != NONE) {
+					start = start == NONE ? earlyStart[child] : Math.min(start, earlyStart[child]);
+					finish = Math.max(finish, earlyFinish[child]);
+				}
+			}
+			if (start == NONE && plannedStart[node] != NONE) {
+				start = Math.max(plannedStart[node], earlyBound[node]);
+				finish = start + plannedEnd[node] - plannedStart[node];
+			}
+			final boolean changed = start != earlyStart[node] || finish != earlyFinish[node];
+			earlyStart[node] = start;
+			earlyFinish[node] = finish;
+			return changed;
+		}
+		if (boundVertex) {
+			long bound = parent[node] >= 0 ? lateBound[parent[node]] : UNBOUNDED;
+			for (final int successor : successors[node]) {
+				if (lateStart[successor] != NONE) {
+					bound = Math.min(bound, lateStart[successor] - 1);
+				}
+			}
+			final boolean changed = bound != lateBound[node];
+			lateBound[node] = bound;
+			return changed;
+		}
+		long start = NONE;
+		long finish = NONE;
+		long nodeSlack = UNBOUNDED;
+		for (final int child : children[node]) {
+			if (earlyStart[child] != NONE) {
+				start = start == NONE ? lateStart[child] : Math.min(start, lateStart[child]);
+				finish = Math.max(finish, lateFinish[child]);
+				// A summary item is as critical as its most critical child, not as its own span suggests.
+				nodeSlack = Math.min(nodeSlack, slack[child]);
+			}
+		}
+		if (start == NONE && earlyStart[node] != NONE) {
+			finish = Math.min(projectEnd, lateBound[node]);
+			start = finish - (earlyFinish[node] - earlyStart[node]);
+			nodeSlack = finish - earlyFinish[node];
+		}
+		final boolean changed = start != lateStart[node] || finish != lateFinish[node] || nodeSlack != slack[node];
+		lateStart[node] = start;
+		lateFinish[node] = finish;
+		slack[node] = nodeSlack;
+		return changed;
+	}
+
+	private int evaluateAll(final boolean forward) {
+		if (forward) {
+			Arrays.fill(earlyBound, NONE);
+			Arrays.fill(earlyStart, NONE);
+			Arrays.fill(earlyFinish, NONE);
+		} else {
+			projectEnd = computeProjectEnd();
+			Arrays.fill(lateBound, UNBOUNDED);
+			Arrays.fill(lateStart, NONE);
+			Arrays.fill(lateFinish, NONE);
+			Arrays.fill(slack, UNBOUNDED);
+		}
+		final int[] rank = forward ? forwardRank : backwardRank;
+		final int[] order = new int[rank.length];
+		for (int vertex = 0; vertex < rank.length; vertex++) {
+			order[rank[vertex]] = vertex;
+		}
+		for (final int vertex : order) {
+			evaluate(forward, vertex);
+		}
+		return order.length;
+	}
+
+	private void forEachSuccessor(final boolean forward, final int vertex, final IntConsumer action) {
+		final int node = vertex / 2;
+		final boolean boundVertex = vertex % 2 == 0;
+		if (boundVertex) {
+			// Bounds flow down the hierarchy in both passes and feed the item's own dates.
+			for (final int child : children[node]) {
+				action.accept(boundVertex(child));
+			}
+			action.accept(datesVertex(node));
+			return;
+		}
+		if (parent[node] >= 0) {
+			action.accept(datesVertex(parent[node]));
+		}
+		for (final int next : forward ? successors[node] : predecessors[node]) {
+			action.accept(boundVertex(next));
+		}
+	}
+
+	/** @return the critical leaf items (summary items excluded), ordered by earliest start */
+	public List<String> getCriticalPath() {
+		checkComputed();
+		final List<Integer> path = new ArrayList<>();
+		for (int node = 0; node < keys.size(); node++) {
+			if (earlyStart[node] != NONE && !hasScheduledChild(node) && slack[node] <= 0) {
+				path.add(node);
+			}
+		}
+		path.sort(Comparator.<Integer>comparingLong(node -> earlyStart[node]).thenComparing(Comparator.naturalOrder()));
+		return path.stream().map(keys::get).toList();
+	}
+
+	/** @return computed dates of the item, {@code null} when it is unknown or has no dates */
+	public CScheduleEntry getEntry(final String key) {
+		checkComputed();
+		final Integer node = key != null ? indexByKey.get(key) : null;
+		if (node == null || earlyStart[node] == NONE) {
+			return null;
+		}
+		return new CScheduleEntry(toDate(earlyStart[node]), toDate(earlyFinish[node]), toDate(lateStart[node]), toDate(lateFinish[node]),
+				slack[node], slack[node] <= 0);
+	}
+
+	/** Number of graph vertices evaluated by the last {@link #compute()} or {@link #updateDates}; each item has two per pass. */
+	public int getLastRecomputedVertexCount() { return lastRecomputedVertexCount; }
+
+	public LocalDate getProjectEnd() {
+		checkComputed();
+		return toDate(projectEnd);
+	}
+
+	public LocalDate getProjectStart() {
+		checkComputed();
+		long start = NONE;
+		for (final int root : roots) {
+			if (earlyStart[root] != NONE) {
+				start = start == NONE ? earlyStart[root] : Math.min(start, earlyStart[root]);
+			}
+		}
+		return toDate(start);
+	}
+
+	private void checkComputed() {
+		Check.isTrue(computed, "Schedule has not been computed yet");
+	}
+
+	public boolean contains(final String key) {
+		return key != null && indexByKey.containsKey(key);
+	}
+
+	private boolean hasScheduledChild(final int node) {
+		for (final int child : children[node]) {
+			if (earlyStart[child] != NONE) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isAncestor(final int ancestor, final int node) {
+		for (int current = parent[node]; current >= 0; current = parent[current]) {
+			if (current == ancestor) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Re-evaluates the seeds and, in rank order, every vertex downstream of a changed value.
+	 * @param changedNodes collects items whose dates changed
+	 * @return evaluated vertex count */
+	private int propagate(final boolean forward, final Set<Integer> seedVertices, final Set<Integer> changedNodes) {
+		final int[] rank = forward ? forwardRank : backwardRank;
+		final PriorityQueue<Integer> queue = new PriorityQueue<>(Comparator.comparingInt(vertex -> rank[vertex]));
+		final Set<Integer> queued = new HashSet<>(seedVertices);
+		queue.addAll(seedVertices);
+		int evaluated = 0;
+		while (!queue.isEmpty()) {
+			final int vertex = queue.poll();
+			queued.remove(vertex);
+			evaluated++;
+			if (!evaluate(forward, vertex)) {
+				continue;
+			}
+			if (vertex % 2 == 1) {
+				changedNodes.add(vertex / 2);
+			}
+			forEachSuccessor(forward, vertex, successor -> {
+				if (queued.add(successor)) {
+					queue.add(successor);
+				}
+			});
+		}
+		return evaluated;
+	}
+
+	private boolean reaches(final boolean forward, final int from, final int target) {
+		final boolean[] visited = new boolean[keys.size() * 2];
+		final List<Integer> stack = new ArrayList<>(List.of(from));
+		visited[from] = true;
+		final boolean[] found = {
+				false
+		};
+		while (!stack.isEmpty() && !found[0]) {
+			forEachSuccessor(forward, stack.remove(stack.size() - 1), next -> {
+				if (next == target) {
+					found[0] = true;
+				} else if (!visited[next]) {
+					visited[next] = true;
+					stack.add(next);
+				}
+			});
+		}
+		return found[0];
+	}
+
+	public int size() {
+		return keys.size();
+	}
+
+	/** Changes the stored dates of one item and recomputes the items that depend on it.
+	 * <p>
+	 * The backward pass is incremental as well, unless the project end moved: then every latest date shifts and the pass runs over all items.
+	 * </p>
+	 * @return keys of the items whose computed dates changed, including the item itself when its dates changed */
+	public Set<String> updateDates(final String key, final LocalDate startDate, final LocalDate endDate) {
+		checkComputed();
+		final Integer node = key != null ? indexByKey.get(key) : null;
+		Check.notNull(node, "Unknown schedule item: " + key);
+		final long[] planned = plannedDays(startDate, endDate);
+		plannedStart[node] = planned[0];
+		plannedEnd[node] = planned[1];
+		final Set<Integer> earlyChanged = new HashSet<>();
+		int evaluated = propagate(true, Set.of(datesVertex(node)), earlyChanged);
+		final Set<Integer> changedNodes = new HashSet<>(earlyChanged);
+		final long newProjectEnd = computeProjectEnd();
+		if (newProjectEnd != projectEnd) {
+			final long[] previousLateStart = lateStart.clone();
+			final long[] previousLateFinish = lateFinish.clone();
+			final long[] previousSlack = slack.clone();
+			evaluated += evaluateAll(false);
+			for (int index = 0; index < keys.size(); index++) {
+				if (previousLateStart[index] != lateStart[index] || previousLateFinish[index] != lateFinish[index]
+						|| previousSlack[index] != slack[index]) {
+					changedNodes.add(index);
+				}
+			}
+		} else {
+			// Latest dates of an item depend on its own duration and on whether it is scheduled, both of which follow its earliest dates.
+			final Set<Integer> seeds = new HashSet<>();
+			for (final int changed : earlyChanged) {
+				seeds.add(datesVertex(changed));
+			}
+			evaluated += propagate(false, seeds, changedNodes);
+		}
+		lastRecomputedVertexCount = evaluated;
+		final Set<String> changedKeys = new LinkedHashSet<>();
+		changedNodes.stream().sorted().forEach(changed -> changedKeys.add(keys.get(changed)));
+		return changedKeys;
+	}
+}
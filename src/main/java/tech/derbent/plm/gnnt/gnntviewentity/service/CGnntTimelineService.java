@@ -19,6 +19,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import tech.derbent.api.parentrelation.domain.CParentRelation;
 import tech.derbent.api.config.CSpringContext;
+import tech.derbent.api.entityOfProject.domain.CFetchPlan;
 import tech.derbent.api.entityOfProject.domain.CProjectItem;
 import tech.derbent.api.entityOfProject.service.CEntityOfProjectService;
 import tech.derbent.api.interfaces.IHasParentRelation;
@@ -29,9 +30,12 @@ import tech.derbent.api.utils.CSearchTextFilterSupport;
 import tech.derbent.api.utils.Check;
 import tech.derbent.plm.gnnt.gnntviewentity.domain.CGnntBoardFilterCriteria;
 import tech.derbent.plm.gnnt.gnntviewentity.domain.CGnntHierarchyResult;
+import tech.derbent.plm.gnnt.gnntviewentity.domain.CGnntScheduleEngine;
 import tech.derbent.plm.gnnt.gnntviewentity.view.components.CGnntTimelineHeader.CGanttTimelineRange;
 import tech.derbent.plm.gnnt.gnntitem.domain.CGnntItem;
 import tech.derbent.plm.gnnt.gnntviewentity.domain.CGnntViewEntity;
+import tech.derbent.plm.links.domain.CLink;
+import tech.derbent.plm.links.service.CLinkService;
 
 @Service
 @Profile({"derbent", "default"})
@@ -70,6 +74,11 @@ public class CGnntTimelineService {
 					.thenComparing(CProjectItem::getStartDate, Comparator.nullsLast(LocalDate::compareTo))
 					.thenComparing(CProjectItem::getName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
 					.thenComparing(CProjectItem::getId, Comparator.nullsLast(Long::compareTo));
+	private final CLinkService linkService;
+
+	public CGnntTimelineService(final CLinkService linkService) {
+		this.linkService = linkService;
+	}
 
 	private static String buildEntityKey(final CProjectItem<?, ?> entity) {
 		if (entity == null || entity.getId() == null) {
@@ -91,10 +100,10 @@ public class CGnntTimelineService {
 	}
 
 	private CGnntHierarchyResult buildHierarchyResult(final Map<String, CProjectItem<?, ?>> entitiesByKey,
-			final CGnntBoardFilterCriteria filterCriteria) {
+			final CGnntBoardFilterCriteria filterCriteria, final CGnntScheduleEngine schedule) {
 		final CHierarchyContext hierarchyContext = buildHierarchyContext(entitiesByKey);
 		if (filterCriteria != null && filterCriteria.getEntityType() != null) {
-			return buildAnchoredHierarchyResult(hierarchyContext, filterCriteria);
+			return buildAnchoredHierarchyResult(hierarchyContext, filterCriteria, schedule);
 		}
 		final List<CVisibleHierarchyNode> rootNodes = new ArrayList<>();
 		final Set<String> visited = new HashSet<>();
@@ -119,7 +128,7 @@ public class CGnntTimelineService {
 				}
 			}
 		}
-		return flattenHierarchy(rootNodes);
+		return flattenHierarchy(rootNodes, schedule);
 	}
 
 	private CHierarchyContext buildHierarchyContext(final Map<String, CProjectItem<?, ?>> entitiesByKey) {
@@ -146,7 +155,7 @@ public class CGnntTimelineService {
 	}
 
 	private CGnntHierarchyResult buildAnchoredHierarchyResult(final CHierarchyContext hierarchyContext,
-			final CGnntBoardFilterCriteria filterCriteria) {
+			final CGnntBoardFilterCriteria filterCriteria, final CGnntScheduleEngine schedule) {
 		// Type-filter mode is anchor-down: matched items stay as roots and carry their full subtree, without ancestor context above them.
 		final List<CProjectItem<?, ?>> directMatches = hierarchyContext.rootItems.stream().flatMap(root -> flattenEntities(root, hierarchyContext).stream())
 				.filter(entity -> matchesFilters(entity, filterCriteria)).sorted(HIERARCHY_ITEM_COMPARATOR).toList();
@@ -173,7 +182,7 @@ public class CGnntTimelineService {
 				rootNodes.add(buildSubtreeNode(directMatch, 0, hierarchyContext.childrenByParentKey, visited, uniqueIdSequence));
 			}
 		}
-		return flattenHierarchy(rootNodes);
+		return flattenHierarchy(rootNodes, schedule);
 	}
 
 	private List<CProjectItem<?, ?>> flattenEntities(final CProjectItem<?, ?> rootItem, final CHierarchyContext hierarchyContext) {
@@ -248,7 +257,7 @@ public class CGnntTimelineService {
 		return new CVisibleHierarchyNode(new CGnntItem(entity, uniqueIdSequence.getAndIncrement(), hierarchyLevel), visibleChildren);
 	}
 
-	private CGnntHierarchyResult flattenHierarchy(final List<CVisibleHierarchyNode> rootNodes) {
+	private CGnntHierarchyResult flattenHierarchy(final List<CVisibleHierarchyNode> rootNodes, final CGnntScheduleEngine schedule) {
 		final List<CGnntItem> flatItems = new ArrayList<>();
 		final List<CGnntItem> rootItems = new ArrayList<>();
 		final Map<String, List<CGnntItem>> childrenByParentKey = new LinkedHashMap<>();
@@ -256,7 +265,10 @@ public class CGnntTimelineService {
 			rootItems.add(rootNode.item);
 			flattenNode(rootNode, flatItems, childrenByParentKey);
 		}
-		return new CGnntHierarchyResult(rootItems, childrenByParentKey, flatItems);
+		for (final CGnntItem item : flatItems) {
+			item.applySchedule(schedule.getEntry(item.getEntityKey()));
+		}
+		return new CGnntHierarchyResult(rootItems, childrenByParentKey, flatItems, schedule);
 	}
 
 	private void flattenNode(final CVisibleHierarchyNode node, final List<CGnntItem> flatItems,
@@ -302,7 +314,7 @@ public class CGnntTimelineService {
 					continue;
 				}
 				final CEntityOfProjectService<?> projectService = (CEntityOfProjectService<?>) serviceBean;
-				for (final Object rawEntity : projectService.listByProject(project)) {
+				for (final Object rawEntity : projectService.listByProject(project, CFetchPlan.GANTT_ROW)) {
 					if (!(rawEntity instanceof CProjectItem<?, ?>)) {
 						continue;
 					}
@@ -318,7 +330,96 @@ public class CGnntTimelineService {
 				LOGGER.debug("Skipping Gnnt timeline source {} because it could not be queried: {}", entityClass.getSimpleName(), e.getMessage());
 			}
 		}
-		return buildHierarchyResult(entitiesByKey, filterCriteria);
+		return buildHierarchyResult(entitiesByKey, filterCriteria, buildSchedule(project, entitiesByKey));
+	}
+
+	/** Schedules every item of the project, filtered or not, so roll-ups and the critical path do not depend on what is visible. */
+	private CGnntScheduleEngine buildSchedule(final CProject<?> project, final Map<String, CProjectItem<?, ?>> entitiesByKey) {
+		final CGnntScheduleEngine schedule = new CGnntScheduleEngine();
+		for (final Map.Entry<String, CProjectItem<?, ?>> entry : entitiesByKey.entrySet()) {
+			final CProjectItem<?, ?> entity = entry.getValue();
+			schedule.addItem(entry.getKey(), buildParentKey(entity), entity.getStartDate(), entity.getEndDate());
+		}
+		if (project.getCompanyId() != null) {
+			// Only links leaving items of this project are loaded; the rest of the company's links could never be scheduled here.
+			final Map<String, List<Long>> idsByType = new LinkedHashMap<>();
+			for (final CProjectItem<?, ?> entity : entitiesByKey.values()) {
+				idsByType.computeIfAbsent(ProxyUtils.getUserClass(entity.getClass()).getSimpleName(), type -> new ArrayList<>()).add(entity.getId());
+			}
+			for (final CLink link : linkService.listDependencyLinks(project.getCompanyId(), idsByType)) {
+				final String sourceKey = link.getSourceEntityType() + ":" + link.getSourceEntityId();
+				final String targetKey = link.getTargetEntityType() + ":" + link.getTargetEntityId();
+				// Links to items of other projects are ignored by the engine (unknown keys).
+				if (CLink.LINK_TYPE_BLOCKS.equalsIgnoreCase(link.getLinkType())) {
+					schedule.addDependency(sourceKey, targetKey);
+				} else {
+					schedule.addDependency(targetKey, sourceKey);
+				}
+			}
+		}
+		schedule.compute();
+		return schedule;
+	}
+
+	/** Applies a date change of one item to an already built hierarchy and recomputes only the dependent part of the schedule.
+	 * @param hierarchy  hierarchy returned by {@link #buildHierarchy}
+	 * @param entityKey  key of the changed item
+	 * @param startDate  new stored start
+	 * @param endDate    new stored end
+	 * @return the visible items whose displayed dates or criticality changed, for {@code refreshItem} on the grid */
+	public List<CGnntItem> rescheduleItem(final CGnntHierarchyResult hierarchy, final String entityKey, final LocalDate startDate,
+			final LocalDate endDate) {
+		Check.notNull(hierarchy, "Gnnt hierarchy cannot be null");
+		final CGnntScheduleEngine schedule = hierarchy.getSchedule();
+		Check.notNull(schedule, "Gnnt hierarchy has no schedule");
+		final List<CGnntItem> changedItems = new ArrayList<>();
+		for (final String changedKey : schedule.updateDates(entityKey, startDate, endDate)) {
+			final CGnntItem item = hierarchy.getItem(changedKey);
+			if (item != null) {
+				item.applySchedule(schedule.getEntry(changedKey));
+				changedItems.add(item);
+			}
+		}
+		return changedItems;
+	}
+
+	/** Applies a saved edit of one item (e.g. new dates entered in the details panel) to an already built hierarchy.
+	 * <p>
+	 * WHY: a date edit only moves the item and the items depending on it; rebuilding the hierarchy reloads every item of the project and
+	 * recomputes the whole schedule.
+	 * </p>
+	 * @param hierarchy      hierarchy returned by {@link #buildHierarchy}
+	 * @param filterCriteria the criteria the hierarchy was built with, may be {@code null}
+	 * @param editedEntity   the entity that was saved; it is reloaded here
+	 * @return the visible items to refresh on the grid, or {@code null} when the edit changed the hierarchy (item gone, deleted, moved to
+	 *         another parent or no longer matching the filters) and the caller must rebuild it */
+	public List<CGnntItem> rescheduleSavedItem(final CGnntHierarchyResult hierarchy, final CGnntBoardFilterCriteria filterCriteria,
+			final CProjectItem<?, ?> editedEntity) {
+		Check.notNull(hierarchy, "Gnnt hierarchy cannot be null");
+		final String entityKey = buildEntityKey(editedEntity);
+		final CGnntItem item = hierarchy.getItem(entityKey);
+		if (item == null || hierarchy.getSchedule() == null) {
+			return null;
+		}
+		final Object serviceBean = CSpringContext.getBean(CEntityRegistry.getServiceClassForEntity(ProxyUtils.getUserClass(editedEntity.getClass())));
+		if (!(serviceBean instanceof final CEntityOfProjectService<?> projectService)) {
+			return null;
+		}
+		final Object reloaded = projectService.getById(editedEntity.getId()).orElse(null);
+		if (!(reloaded instanceof final CProjectItem<?, ?> reloadedItem) || !matchesFilters(reloadedItem, filterCriteria)) {
+			return null;
+		}
+		final String parentKey = buildParentKey(reloadedItem);
+		final String previousParentKey = item.hasParent() ? item.getParentType() + ":" + item.getParentId() : null;
+		if (parentKey == null ? previousParentKey != null : !parentKey.equals(previousParentKey)) {
+			return null;
+		}
+		item.refreshEntity(reloadedItem);
+		final List<CGnntItem> changedItems = rescheduleItem(hierarchy, entityKey, reloadedItem.getStartDate(), reloadedItem.getEndDate());
+		if (!changedItems.contains(item)) {
+			changedItems.add(0, item);
+		}
+		return changedItems;
 	}
 
 	public List<CGnntItem> listTimelineItems(final CGnntViewEntity gnntViewEntity) {
@@ -6,7 +6,11 @@ import org.slf4j.LoggerFactory;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.splitlayout.SplitLayout;
 import tech.derbent.api.config.CSpringContext;
+import tech.derbent.api.entity.domain.CEntityDB;
 import tech.derbent.api.entity.domain.CEntityNamed;
+import tech.derbent.api.entity.service.CAbstractService;
+import tech.derbent.api.entityOfProject.domain.CProjectItem;
+import tech.derbent.api.interfaces.IContentOwner;
 import tech.derbent.api.page.view.CDynamicPageRouter;
 import tech.derbent.api.parentrelation.service.CHierarchyNavigationService;
 import tech.derbent.api.session.service.ISessionService;
@@ -18,6 +22,7 @@ import tech.derbent.api.ui.component.enhanced.CQuickAccessPanel;
 import tech.derbent.api.ui.notifications.CNotificationService;
 import tech.derbent.api.utils.Check;
 import tech.derbent.plm.gnnt.gnntitem.domain.CGnntItem;
+import tech.derbent.plm.gnnt.gnntviewentity.domain.CGnntBoardFilterCriteria;
 import tech.derbent.plm.gnnt.gnntviewentity.domain.CGnntHierarchyResult;
 import tech.derbent.plm.gnnt.gnntviewentity.domain.CGnntViewEntity;
 import tech.derbent.plm.gnnt.gnntviewentity.domain.EGnntGridType;
@@ -25,10 +30,12 @@ import tech.derbent.plm.gnnt.gnntviewentity.service.CGnntHierarchyMoveService;
 import tech.derbent.plm.gnnt.gnntviewentity.service.CGnntTimelineService;
 import tech.derbent.plm.gnnt.gnntviewentity.view.components.CAbstractGnntGridBase;
 import tech.derbent.plm.gnnt.gnntviewentity.view.components.CGnntBoardFilterToolbar;
+import tech.derbent.plm.gnnt.gnntviewentity.view.components.CGnntTimelineHeader.CGanttTimelineRange;
 import tech.derbent.plm.gnnt.gnntviewentity.view.components.CGnntGrid;
 import tech.derbent.plm.gnnt.gnntviewentity.view.components.CGnntTreeGrid;
 
-public class CComponentGnntBoard extends CComponentBase<CGnntViewEntity> {
+public class CComponentGnntBoard extends CComponentBase<CGnntViewEntity>
+		implements IContentOwner {
 
 	private static final double DEFAULT_SPLITTER_POSITION = 58.0;
 	public static final String ID_BOARD = "custom-gnnt-board";
@@ -42,6 +49,8 @@ public class CComponentGnntBoard extends CComponentBase<CGnntViewEntity> {
 	private static final long serialVersionUID = 1L;
 	private CAbstractGnntGridBase activeGridComponent;
 	private final CComponentItemDetails componentItemDetails;
+	private CGnntBoardFilterCriteria currentCriteria;
+	private CGnntHierarchyResult currentHierarchy;
 	private boolean detailsVisible = true;
 	private final CGnntBoardFilterToolbar filterToolbar;
 	private final CGnntHierarchyMoveService hierarchyMoveService;
@@ -57,6 +66,7 @@ public class CComponentGnntBoard extends CComponentBase<CGnntViewEntity> {
 				CSpringContext.getBean(CGnntHierarchyMoveService.class);
 		try {
 			componentItemDetails = new CComponentItemDetails(sessionService);
+			componentItemDetails.setContentOwner(this);
 		} catch (final Exception e) {
 			throw new IllegalStateException(
 					"Failed to initialize Gnnt details component", e);
@@ -115,6 +125,12 @@ public class CComponentGnntBoard extends CComponentBase<CGnntViewEntity> {
 		updateQuickAccessSummary(panel, 0);
 	}
 
+	/** Creating entities is not supported from the Gnnt board. */
+	@Override
+	public CEntityDB<?> createNewEntityInstance() throws Exception {
+		return null;
+	}
+
 	private void ensureActiveGrid(final EGnntGridType gridType) {
 		final EGnntGridType safeGridType =
 				gridType != null ? gridType : EGnntGridType.FLAT;
@@ -136,6 +152,19 @@ public class CComponentGnntBoard extends CComponentBase<CGnntViewEntity> {
 		configureQuickAccessPanel();
 	}
 
+	@Override
+	public String getCurrentEntityIdString() {
+		final CGnntViewEntity currentView = getValue();
+		if (currentView == null || currentView.getId() == null) {
+			return null;
+		}
+		return currentView.getId().toString();
+	}
+
+	/** Gnnt board does not expose a direct entity service. */
+	@Override
+	public CAbstractService<?> getEntityService() { return null; }
+
 	private void initializeLayout() {
 		setId(ID_BOARD);
 		setPadding(false);
@@ -236,6 +265,11 @@ public class CComponentGnntBoard extends CComponentBase<CGnntViewEntity> {
 		}
 	}
 
+	@Override
+	public void populateForm() {
+		refreshComponent();
+	}
+
 	@Override
 	protected void refreshComponent() {
 		try {
@@ -249,6 +283,7 @@ public class CComponentGnntBoard extends CComponentBase<CGnntViewEntity> {
 				updateQuickAccessSummary(
 						activeGridComponent.getQuickAccessPanel(), 0);
 				selectedDetailsEntity = null;
+				currentHierarchy = null;
 				if (detailsVisible) {
 					componentItemDetails.clear();
 				}
@@ -260,9 +295,10 @@ public class CComponentGnntBoard extends CComponentBase<CGnntViewEntity> {
 					timelineService.buildHierarchy(currentView, null);
 			filterToolbar
 					.setAvailableEntityTypes(allItemsHierarchy.getFlatItems());
+			currentCriteria = filterToolbar.getCurrentCriteria();
 			final CGnntHierarchyResult hierarchyResult =
-					timelineService.buildHierarchy(currentView,
-							filterToolbar.getCurrentCriteria());
+					timelineService.buildHierarchy(currentView, currentCriteria);
+			currentHierarchy = hierarchyResult;
 			final List<CGnntItem> flatItems = hierarchyResult.getFlatItems();
 			activeGridComponent.setHierarchy(hierarchyResult,
 					timelineService.resolveRange(flatItems));
@@ -274,6 +310,46 @@ public class CComponentGnntBoard extends CComponentBase<CGnntViewEntity> {
 		}
 	}
 
+	/** Called by the details panel after the displayed item was saved or deleted.
+	 * <p>
+	 * WHY: a date edit only moves the saved item and its dependents, so only those rows are rescheduled and redrawn; the board is rebuilt
+	 * when the edit changed the hierarchy or the item no longer matches the filters.
+	 * </p>
+	 */
+	@Override
+	public void refreshGrid() throws Exception {
+		if (currentHierarchy == null || activeGridComponent == null
+				|| !(selectedDetailsEntity instanceof final CProjectItem<?, ?> editedItem)) {
+			refreshComponent();
+			return;
+		}
+		final List<CGnntItem> changedItems = timelineService
+				.rescheduleSavedItem(currentHierarchy, currentCriteria, editedItem);
+		if (changedItems == null) {
+			refreshComponent();
+			return;
+		}
+		final CGanttTimelineRange shownRange =
+				activeGridComponent.getCurrentRange();
+		final boolean outsideRange = shownRange == null || changedItems
+				.stream().filter(CGnntItem::hasDates)
+				.anyMatch(item -> item.getStartDate()
+						.isBefore(shownRange.startDate())
+						|| item.getEndDate().isAfter(shownRange.endDate()));
+		if (outsideRange) {
+			// Widen the timeline from the already rescheduled items; no reload needed.
+			activeGridComponent.setHierarchy(currentHierarchy, timelineService
+					.resolveRange(currentHierarchy.getFlatItems()));
+			return;
+		}
+		activeGridComponent.refreshItems(changedItems);
+	}
+
+	@Override
+	public void setValue(final CEntityDB<?> entity) {
+		super.setValue((CGnntViewEntity) entity);
+	}
+
 	private void showItemDetails(final CGnntItem item) {
 		if (activeGridComponent != null) {
 			// Keep row highlight, details, and quick-access actions in sync for toolbar and right-click flows.
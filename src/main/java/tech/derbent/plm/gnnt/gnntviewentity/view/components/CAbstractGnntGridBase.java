@@ -1,6 +1,7 @@
 package tech.derbent.plm.gnnt.gnntviewentity.view.components;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +14,7 @@ import com.vaadin.flow.component.grid.contextmenu.GridContextMenu;
 import com.vaadin.flow.component.grid.contextmenu.GridMenuItem;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.icon.Icon;
+import com.vaadin.flow.data.renderer.LitRenderer;
 import tech.derbent.api.grid.domain.CGrid;
 import tech.derbent.api.grid.view.CComponentId;
 import tech.derbent.api.grid.view.CLabelEntity;
@@ -95,7 +97,7 @@ public abstract class CAbstractGnntGridBase extends CVerticalLayout {
 
 	protected void addSharedColumns() {
 		addIdColumn();
-		grid.addComponentColumn(this::createIconComponent).setWidth(CGrid.WIDTH_IMAGE).setFlexGrow(0).setResizable(true).setKey("icon").setHeader("");
+		grid.addColumn(createIconRenderer()).setWidth(CGrid.WIDTH_IMAGE).setFlexGrow(0).setResizable(true).setKey("icon").setHeader("");
 		configureNameColumn();
 		addTrailingSharedColumns();
 	}
@@ -123,7 +125,8 @@ public abstract class CAbstractGnntGridBase extends CVerticalLayout {
 			}
 			return new Span("-");
 		}).setWidth(WIDTH_STATUS_COMPACT).setFlexGrow(0).setResizable(true).setKey("status").setHeader("Status");
-		grid.addComponentColumn(this::createTimelineComponent).setWidth(timelineWidth + "px").setFlexGrow(0).setKey("timeline").setHeader("Timeline");
+		grid.addColumn(CGnntTimelineRenderer.create(() -> currentRange, () -> timelineWidth)).setWidth(timelineWidth + "px").setFlexGrow(0)
+				.setKey("timeline").setHeader("Timeline");
 	}
 
 	protected abstract void configureColumns();
@@ -134,6 +137,12 @@ public abstract class CAbstractGnntGridBase extends CVerticalLayout {
 		grid.getColumns().forEach((final Grid.Column<CGnntItem> column) -> timelineHeaderRow.getCell(column).setText(""));
 	}
 
+	/** Icon cell rendered client-side from the icon name and colour, for grids with many rows. */
+	protected static LitRenderer<CGnntItem> createIconRenderer() {
+		return LitRenderer.<CGnntItem>of("<vaadin-icon icon=\"${item.icon}\" style=\"width:var(--lumo-icon-size-s);height:var(--lumo-icon-size-s);color:${item.iconColor}\"></vaadin-icon>")
+				.withProperty("icon", CGnntItem::getIconString).withProperty("iconColor", CGnntItem::getColorCode);
+	}
+
 	protected Component createIconComponent(final CGnntItem item) {
 		try {
 			final Icon icon =
@@ -153,13 +162,6 @@ public abstract class CAbstractGnntGridBase extends CVerticalLayout {
 		}
 	}
 
-	private Component createTimelineComponent(final CGnntItem item) {
-		if (currentRange == null) {
-			return new Span("-");
-		}
-		return new CGnntTimelineRow(item, currentRange.startDate(), currentRange.endDate(), timelineWidth);
-	}
-
 	private void ensureItemContextMenu() {
 		if (itemContextMenu != null) {
 			return;
@@ -188,6 +190,8 @@ public abstract class CAbstractGnntGridBase extends CVerticalLayout {
 		});
 	}
 
+	public final CGanttTimelineRange getCurrentRange() { return currentRange; }
+
 	protected Grid<CGnntItem> getGrid() { return grid; }
 
 	/** Places a component into the left-side timeline header row (the same row that hosts the timeline range header).
@@ -327,6 +331,13 @@ public abstract class CAbstractGnntGridBase extends CVerticalLayout {
 				""", lastKnownScrollTop, lastKnownScrollLeft);
 	}
 
+	/** Redraws the given rows in place, e.g. after an incremental reschedule; the hierarchy and the timeline range stay as they are. */
+	public final void refreshItems(final Collection<CGnntItem> items) {
+		for (final CGnntItem item : items) {
+			grid.getDataProvider().refreshItem(item);
+		}
+	}
+
 	public abstract void setHierarchy(CGnntHierarchyResult hierarchyResult, CGanttTimelineRange range);
 
 	public final void setItemContextActions(final List<CContextActionDefinition<CGnntItem>> actions) {
@@ -3,9 +3,7 @@ package tech.derbent.plm.gnnt.gnntviewentity.view.components;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
-import com.vaadin.flow.component.Component;
-import com.vaadin.flow.component.html.Div;
-import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.data.renderer.LitRenderer;
 
 import tech.derbent.api.grid.domain.CGrid;
 import tech.derbent.api.ui.component.enhanced.CQuickAccessPanel;
@@ -16,6 +14,13 @@ import tech.derbent.plm.gnnt.gnntitem.domain.CGnntItem;
 public class CGnntGrid extends CAbstractGnntGridBase {
 
 	public static final String ID_GRID = "custom-gnnt-grid";
+	private static final String NAME_TEMPLATE = """
+			<div style="display:flex;align-items:center;gap:var(--lumo-space-xs);padding-left:${item.indent}px;opacity:${item.opacity}"
+			    title="Hierarchy level ${item.level}">
+			  <span style="color:var(--lumo-secondary-text-color);font-size:var(--lumo-font-size-s)" ?hidden=${!item.child}>↳</span>
+			  <span style="font-weight:${item.weight};color:${item.color}">${item.name}</span>
+			</div>
+			""";
 	private static final long serialVersionUID = 1L;
 
 	private final List<CGnntItem> timelineItems = new ArrayList<>();
@@ -33,7 +38,7 @@ public class CGnntGrid extends CAbstractGnntGridBase {
 	@Override
 	protected void configureNameColumn() {
 		// Keep the hierarchy label readable, but reserve remaining width for the timeline column.
-		grid.addComponentColumn(this::createNameComponent)
+		grid.addColumn(createNameRenderer())
 				.setWidth(NAME_COLUMN_WIDTH_PX + "px")
 				.setResizable(true)
 				.setKey("name")
@@ -46,29 +51,13 @@ public class CGnntGrid extends CAbstractGnntGridBase {
 		return 80 + 60 + NAME_COLUMN_WIDTH_PX + 110 + 110 + 135 + 140;
 	}
 
-	private Component createNameComponent(final CGnntItem item) {
-		final Div container = new Div();
-		container.getStyle().set("display", "flex");
-		container.getStyle().set("align-items", "center");
-		container.getStyle().set("gap", "var(--lumo-space-xs)");
-		container.getStyle().set("padding-left", (item.getHierarchyLevel() * 20) + "px");
-		container.getElement().setProperty("title", "Hierarchy level " + item.getHierarchyLevel());
-		if (item.getHierarchyLevel() > 0) {
-			final Span branch = new Span("↳");
-			branch.getStyle().set("color", "var(--lumo-secondary-text-color)");
-			branch.getStyle().set("font-size", "var(--lumo-font-size-s)");
-			container.add(branch);
-		}
-		final boolean editable = item != null && item.isEditable();
-		final String displayColor = editable ? item.getColorCode() : "var(--lumo-secondary-text-color)";
-		final Span name = new Span(item.getIndentedName());
-		name.getStyle().set("font-weight", item.isParentItem() ? "700" : "400")
-				.set("color", displayColor);
-		if (!editable) {
-			container.getStyle().set("opacity", "0.75");
-		}
-		container.add(name);
-		return container;
+	/** Indented name cell rendered client-side; the flat grid shows the whole hierarchy, so rows must not carry component trees. */
+	private static LitRenderer<CGnntItem> createNameRenderer() {
+		return LitRenderer.<CGnntItem>of(NAME_TEMPLATE).withProperty("indent", item -> item.getHierarchyLevel() * 20)
+				.withProperty("level", CGnntItem::getHierarchyLevel).withProperty("child", item -> item.getHierarchyLevel() > 0)
+				.withProperty("color", item -> item.isEditable() ? item.getColorCode() : "var(--lumo-secondary-text-color)")
+				.withProperty("opacity", item -> item.isEditable() ? "1" : "0.75").withProperty("name", CGnntItem::getIndentedName)
+				.withProperty("weight", item -> item.isParentItem() ? "700" : "400");
 	}
 
 	@Override
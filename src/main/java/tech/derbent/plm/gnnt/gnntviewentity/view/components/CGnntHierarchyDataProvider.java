@@ -0,0 +1,66 @@
+package tech.derbent.plm.gnnt.gnntviewentity.view.components;
+
+import java.util.List;
+import java.util.stream.Stream;
+import com.vaadin.flow.data.provider.hierarchy.AbstractBackEndHierarchicalDataProvider;
+import com.vaadin.flow.data.provider.hierarchy.HierarchicalQuery;
+import tech.derbent.api.utils.Check;
+import tech.derbent.plm.gnnt.gnntitem.domain.CGnntItem;
+import tech.derbent.plm.gnnt.gnntviewentity.domain.CGnntHierarchyResult;
+
+/** Lazy tree data provider over the parent → children index of a {@link CGnntHierarchyResult}.
+ * <p>
+ * WHY: {@code TreeGrid#setItems(roots, childProvider)} copied the whole hierarchy into a {@code TreeData} up front. This provider answers from the
+ * index the service already built: the grid asks for the children of a node only once it is expanded, and only for the rows it displays.
+ * </p>
+ * <p>
+ * RULE: items are identified by entity key, so a refreshed hierarchy (new {@link CGnntItem} instances) keeps selection and expansion.
+ * </p>
+ */
+public class CGnntHierarchyDataProvider extends AbstractBackEndHierarchicalDataProvider<CGnntItem, Void> {
+
+	private static final long serialVersionUID = 1L;
+	private final CGnntHierarchyResult hierarchy;
+
+	public CGnntHierarchyDataProvider(final CGnntHierarchyResult hierarchy) {
+		Check.notNull(hierarchy, "Hierarchy cannot be null");
+		this.hierarchy = hierarchy;
+	}
+
+	private List<CGnntItem> children(final CGnntItem parent) {
+		return parent == null ? hierarchy.getRootItems() : hierarchy.getChildren(parent);
+	}
+
+	@Override
+	protected Stream<CGnntItem> fetchChildrenFromBackEnd(final HierarchicalQuery<CGnntItem, Void> query) {
+		List<CGnntItem> children = children(query.getParent());
+		if (query.getInMemorySorting() != null) {
+			// Column comparators (e.g. ID) sort siblings only, as the tree data provider did.
+			children = children.stream().sorted(query.getInMemorySorting()).toList();
+		}
+		final int from = Math.min(query.getOffset(), children.size());
+		final int to = (int) Math.min((long) from + query.getLimit(), children.size());
+		return children.subList(from, to).stream();
+	}
+
+	@Override
+	public int getChildCount(final HierarchicalQuery<CGnntItem, Void> query) {
+		return children(query.getParent()).size();
+	}
+
+	public CGnntHierarchyResult getHierarchy() { return hierarchy; }
+
+	@Override
+	public Object getId(final CGnntItem item) {
+		return item.getEntityKey() != null ? item.getEntityKey() : item.getId();
+	}
+
+	@Override
+	public boolean hasChildren(final CGnntItem item) {
+		return hierarchy.hasChildren(item);
+	}
+
+	/** The index is held in memory, so the grid passes column comparators in the query instead of backend sort orders. */
+	@Override
+	public boolean isInMemory() { return true; }
+}
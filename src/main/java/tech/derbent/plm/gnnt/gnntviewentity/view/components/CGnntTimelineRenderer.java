@@ -0,0 +1,118 @@
+package tech.derbent.plm.gnnt.gnntviewentity.view.components;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import com.vaadin.flow.data.renderer.LitRenderer;
+import elemental.json.Json;
+import elemental.json.JsonObject;
+import tech.derbent.api.utils.CColorUtils;
+import tech.derbent.plm.gnnt.gnntitem.domain.CGnntItem;
+import tech.derbent.plm.gnnt.gnntviewentity.view.components.CGnntTimelineHeader.CGanttTimelineRange;
+
+/** Client-side renderer of the timeline column of Gnnt grids.
+ * <p>
+ * WHY: the column used to build a server component tree per row (row layout, bar layout, bar, progress overlay, label) with inline styles, which
+ * on large roadmaps meant tens of thousands of server components. The row now sends one small JSON object (geometry, colours, texts) and the
+ * template below draws the bar.
+ * </p>
+ * <p>
+ * RULE: the geometry follows the timeline header exactly (same day-to-pixel rounding), otherwise bars drift from the header markers.
+ * </p>
+ */
+final class CGnntTimelineRenderer {
+
+	/** Pixel placement of the visible part of an item bar. */
+	record CBarGeometry(int leftPx, int widthPx, LocalDate visibleStart, LocalDate visibleEnd) {}
+
+	private static final String BORDER_CRITICAL = "2px solid #C62828";
+	private static final String BORDER_DEFAULT = "1px solid #000";
+	private static final int LABEL_GAP_PX = 10;
+	private static final int MIN_BAR_WIDTH_PX = 2;
+	/** Static styles sit in the template, which is sent once per column; only the ${item.bar.*} values travel per row. */
+	private static final String TEMPLATE = """
+			<div class="gantt-timeline-bar-container"
+			    style="position:relative;display:flex;align-items:center;flex-shrink:0;height:36px;width:${item.bar.totalWidth}px">
+			  <span style="color:var(--lumo-secondary-text-color);font-size:12px;padding-left:8px">${item.bar.emptyText}</span>
+			  <div style="position:absolute;top:0;bottom:0;align-items:center;gap:var(--lumo-space-s);left:${item.bar.left}px;display:${item.bar.display}">
+			    <div title="${item.bar.tooltip}" style="position:relative;display:flex;flex-shrink:0;height:90%;box-sizing:border-box;border:${item.bar.border};\
+			border-radius:4px;width:${item.bar.width}px;background-color:${item.bar.color};color:${item.bar.textColor}">
+			      <div style="position:absolute;left:0;top:0;bottom:0;background-color:rgba(255,255,255,0.2);pointer-events:none;\
+			width:${item.bar.progress}%"></div>
+			    </div>
+			    <span style="z-index:1;color:#000;font-size:12px;white-space:nowrap;overflow:hidden;text-overflow:ellipsis;\
+			max-width:${item.bar.labelMaxWidth}px">${item.bar.label}</span>
+			  </div>
+			</div>
+			""";
+
+	/** Computes where the bar of an item is drawn, clipped to the visible range.
+	 * @return the geometry, or {@code null} when the item has no dates or lies outside the range */
+	static CBarGeometry computeGeometry(final CGnntItem item, final LocalDate timelineStart, final LocalDate timelineEnd, final int totalWidth) {
+		if (!item.hasDates() || timelineStart == null || timelineEnd == null || timelineStart.isAfter(timelineEnd)) {
+			return null;
+		}
+		final long totalDays = ChronoUnit.DAYS.between(timelineStart, timelineEnd) + 1;
+		final LocalDate visibleStart = item.getStartDate().isBefore(timelineStart) ? timelineStart : item.getStartDate();
+		final LocalDate visibleEnd = item.getEndDate().isAfter(timelineEnd) ? timelineEnd : item.getEndDate();
+		if (visibleEnd.isBefore(timelineStart) || visibleStart.isAfter(timelineEnd)) {
+			return null;
+		}
+		final long startOffset = ChronoUnit.DAYS.between(timelineStart, visibleStart);
+		final long visibleDuration = ChronoUnit.DAYS.between(visibleStart, visibleEnd) + 1;
+		final int leftPx = Math.max(0, (int) Math.round(startOffset * totalWidth / (double) totalDays));
+		int widthPx = Math.max(MIN_BAR_WIDTH_PX, (int) Math.round(visibleDuration * totalWidth / (double) totalDays));
+		if (leftPx + widthPx > totalWidth) {
+			widthPx = Math.max(MIN_BAR_WIDTH_PX, totalWidth - leftPx);
+		}
+		return new CBarGeometry(leftPx, widthPx, visibleStart, visibleEnd);
+	}
+
+	/** @param rangeSupplier current visible range, {@code null} before the first hierarchy is set
+	 * @param widthSupplier current timeline column width in pixels */
+	static LitRenderer<CGnntItem> create(final Supplier<CGanttTimelineRange> rangeSupplier, final IntSupplier widthSupplier) {
+		return LitRenderer.<CGnntItem>of(TEMPLATE).withProperty("bar", item -> toJson(item, rangeSupplier.get(), widthSupplier.getAsInt()));
+	}
+
+	private static JsonObject toJson(final CGnntItem item, final CGanttTimelineRange range, final int totalWidth) {
+		final JsonObject bar = Json.createObject();
+		bar.put("totalWidth", totalWidth);
+		final CBarGeometry geometry = range != null ? computeGeometry(item, range.startDate(), range.endDate(), totalWidth) : null;
+		if (geometry == null) {
+			bar.put("display", "none");
+			bar.put("emptyText", range == null ? "-" : item.hasDates() ? "" : "No dates");
+			bar.put("left", 0);
+			bar.put("width", 0);
+			bar.put("progress", 0);
+			bar.put("labelMaxWidth", 0);
+			bar.put("color", "transparent");
+			bar.put("textColor", "inherit");
+			bar.put("label", "");
+			bar.put("tooltip", "");
+			return bar;
+		}
+		final int progress = item.getProgressPercentage();
+		final String color = item.getColorCode();
+		bar.put("display", "flex");
+		bar.put("emptyText", "");
+		bar.put("left", geometry.leftPx());
+		bar.put("width", geometry.widthPx());
+		// The overlay only shows partial progress; 0% and 100% bars stay plain.
+		bar.put("progress", progress > 0 && progress < 100 ? progress : 0);
+		bar.put("labelMaxWidth", Math.max(0, totalWidth - (geometry.leftPx() + geometry.widthPx() + LABEL_GAP_PX)));
+		bar.put("color", color);
+		bar.put("border", item.isCritical() ? BORDER_CRITICAL : BORDER_DEFAULT);
+		bar.put("textColor", CColorUtils.getContrastTextColor(color));
+		bar.put("label", "%s (%s) - %d%%".formatted(item.getName(), item.getResponsibleName(), progress));
+		final String slack = item.getSlackDays() == null ? "" : item.isCritical() ? "%nCritical path".formatted()
+				: "%nSlack: %d days".formatted(item.getSlackDays());
+		bar.put("tooltip", "%s%n%s%nProgress: %d%%%nDuration: %d days%nStart: %s%nEnd: %s%s".formatted(item.getName(), item.getResponsibleName(),
+				progress, item.getDurationDays(), geometry.visibleStart(), geometry.visibleEnd(), slack));
+		return bar;
+	}
+
+	private CGnntTimelineRenderer() {
+		// Utility class
+	}
+}
@@ -9,15 +9,13 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.grid.dnd.GridDropMode;
-import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.treegrid.TreeGrid;
+import com.vaadin.flow.data.renderer.LitRenderer;
 
 import tech.derbent.api.entityOfCompany.domain.CProjectItemStatus;
 import tech.derbent.api.grid.domain.CGrid;
 import tech.derbent.api.interfaces.ISprintableItem;
-import tech.derbent.api.ui.component.basic.CHorizontalLayout;
 import tech.derbent.api.ui.component.enhanced.CQuickAccessPanel;
 import tech.derbent.api.workflow.service.IHasStatusAndWorkflow;
 import tech.derbent.plm.gnnt.gnntitem.domain.CGnntItem;
@@ -26,6 +24,17 @@ import tech.derbent.plm.gnnt.gnntviewentity.view.components.CGnntTimelineHeader.
 
 public class CGnntTreeGrid extends CAbstractGnntGridBase {
 
+	/** Hierarchies up to this size open fully expanded; larger ones open with their roots expanded. */
+	private static final int AUTO_EXPAND_ALL_MAX_ITEMS = 500;
+	private static final String HIERARCHY_TEMPLATE = """
+			<vaadin-grid-tree-toggle @click=${onToggle} .leaf=${item.leaf} .expanded=${model.expanded} .level=${model.level}
+			    style="color:${item.color};opacity:${item.opacity}">
+			  <vaadin-icon icon="${item.icon}" style="width:var(--lumo-icon-size-s);height:var(--lumo-icon-size-s);flex-shrink:0"></vaadin-icon>
+			  <span style="font-weight:${item.weight}">${item.name}</span>
+			  <span style="margin-left:var(--lumo-space-s);font-size:var(--lumo-font-size-xs);color:var(--lumo-secondary-text-color);\
+			white-space:nowrap">${item.summary}</span>
+			</vaadin-grid-tree-toggle>
+			""";
 	public static final String ID_TREE_GRID = "custom-gnnt-tree-grid";
 	private static final long serialVersionUID = 1L;
 	private record CHierarchySummary(int tasksDone, int tasksTotal, long storyPointsDone, long storyPointsTotal) {
@@ -58,7 +67,7 @@ public class CGnntTreeGrid extends CAbstractGnntGridBase {
 	@Override
 	protected void configureNameColumn() {
 		final TreeGrid<CGnntItem> treeGrid = getTreeGrid();
-		final var nameColumn = treeGrid.addComponentHierarchyColumn(this::createHierarchyComponent)
+		final var nameColumn = treeGrid.addColumn(createHierarchyRenderer())
 				.setAutoWidth(false)
 				.setResizable(true)
 				.setKey("name")
@@ -89,18 +98,15 @@ public class CGnntTreeGrid extends CAbstractGnntGridBase {
 		// Pre-compute rollups so parent rows (L0..N) can show done/total task + story point summaries.
 		hierarchySummaryByKey = computeHierarchySummaries(safeHierarchyResult);
 
-		treeGrid.setItems(safeHierarchyResult.getRootItems(), safeHierarchyResult::getChildren);
+		treeGrid.setDataProvider(new CGnntHierarchyDataProvider(safeHierarchyResult));
 		expandedEntityKeys.clear();
 
 		if (!hierarchyInitialized) {
-			// First load keeps the legacy behaviour (auto-expand) so users see the hierarchy immediately.
-			treeGrid.expandRecursively(safeHierarchyResult.getRootItems(), 25);
-			for (final CGnntItem item : flatItems) {
-				final String itemKey = item != null ? item.getEntityKey() : null;
-				if (itemKey != null && item.isParentItem()) {
-					expandedEntityKeys.add(itemKey);
-				}
-			}
+			// First load auto-expands so users see the hierarchy immediately; large roadmaps open one level deep so children load on expand.
+			final List<CGnntItem> autoExpanded = flatItems.size() <= AUTO_EXPAND_ALL_MAX_ITEMS ? flatItems : safeHierarchyResult.getRootItems();
+			final List<CGnntItem> parents = autoExpanded.stream().filter(item -> item != null && item.isParentItem()).toList();
+			treeGrid.expand(parents);
+			parents.forEach(item -> expandedEntityKeys.add(item.getEntityKey()));
 			hierarchyInitialized = true;
 		} else {
 			expandedEntityKeys.addAll(restoreExpandedState(treeGrid, itemByKey, expandedKeysSnapshot));
@@ -215,34 +221,34 @@ public class CGnntTreeGrid extends CAbstractGnntGridBase {
 		return (TreeGrid<CGnntItem>) getGrid();
 	}
 
-	private Component createHierarchyComponent(final CGnntItem item) {
-		final CHorizontalLayout layout = new CHorizontalLayout();
-		layout.setSpacing(true);
-		layout.setPadding(false);
-		layout.setAlignItems(Alignment.CENTER);
-		final boolean editable = item != null && item.isEditable();
-		final String displayColor = editable ? item.getColorCode() : "var(--lumo-secondary-text-color)";
-		final Component iconComponent = createIconComponent(item);
-		iconComponent.getElement().getStyle().set("color", displayColor);
-		final Span name = new Span(item.getName());
-		name.getStyle().set("font-weight", item.isParentItem() ? "700" : "400")
-				.set("color", displayColor);
-		if (!editable) {
-			// Keep non-editable rows visibly muted so users understand why inline actions are disabled.
-			layout.getStyle().set("opacity", "0.75");
-		}
-		layout.add(iconComponent, name);
+	/** Name cell with the tree toggle, rendered client-side like the hierarchy column of {@link TreeGrid}; rows carry only icon, colour, name
+	 * and roll-up text. */
+	private LitRenderer<CGnntItem> createHierarchyRenderer() {
+		return LitRenderer.<CGnntItem>of(HIERARCHY_TEMPLATE).withProperty("leaf", item -> !item.isParentItem())
+				.withProperty("icon", CGnntItem::getIconString)
+				.withProperty("color", item -> item.isEditable() ? item.getColorCode() : "var(--lumo-secondary-text-color)")
+				// Keep non-editable rows visibly muted so users understand why inline actions are disabled.
+				.withProperty("opacity", item -> item.isEditable() ? "1" : "0.75").withProperty("name", CGnntItem::getName)
+				.withProperty("weight", item -> item.isParentItem() ? "700" : "400").withProperty("summary", this::formatSummary)
+				.withFunction("onToggle", this::toggleExpanded);
+	}
 
-		// Display rollups only for non-leaf nodes so hierarchy headers stay readable (similar to Jira's epic/user story summaries).
-		final CHierarchySummary summary = item != null ? hierarchySummaryByKey.get(item.getEntityKey()) : null;
-		if (summary != null && item != null && item.isParentItem()) {
-			final Span summarySpan = new Span("  " + summary.formatForHeader());
-			summarySpan.getStyle().set("font-size", "var(--lumo-font-size-xs)")
-					.set("color", "var(--lumo-secondary-text-color)")
-					.set("white-space", "nowrap");
-			layout.add(summarySpan);
+	/** Rollups only for non-leaf nodes so hierarchy headers stay readable (similar to Jira's epic/user story summaries). */
+	private String formatSummary(final CGnntItem item) {
+		final CHierarchySummary summary = hierarchySummaryByKey.get(item.getEntityKey());
+		return summary != null && item.isParentItem() ? summary.formatForHeader() : "";
+	}
+
+	private void toggleExpanded(final CGnntItem item) {
+		if (!item.isParentItem()) {
+			return;
+		}
+		final TreeGrid<CGnntItem> treeGrid = getTreeGrid();
+		if (treeGrid.isExpanded(item)) {
+			treeGrid.collapse(item);
+		} else {
+			treeGrid.expand(item);
 		}
-		return layout;
 	}
 
 	private Map<String, CHierarchySummary> computeHierarchySummaries(final CGnntHierarchyResult hierarchyResult) {
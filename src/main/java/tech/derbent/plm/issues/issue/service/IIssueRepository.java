@@ -109,6 +109,35 @@ public interface IIssueRepository extends IProjectItemRespository<CIssue> {
 			ORDER BY i.id DESC
 			""")
 	List<CIssue> listByProjectForPageView(@Param ("project") CProject<?> project);
+	/** Kanban card graph: no attachment, comment or link collections, so a board row is one joined row per issue. */
+	@Override
+	@Query ("""
+			SELECT i FROM #{#entityName} i
+			LEFT JOIN FETCH i.project
+			LEFT JOIN FETCH i.assignedTo
+			LEFT JOIN FETCH i.entityType et
+			LEFT JOIN FETCH et.workflow
+			LEFT JOIN FETCH i.status
+			LEFT JOIN FETCH i.sprintItem si
+			LEFT JOIN FETCH si.sprint
+			WHERE i.project = :project
+			ORDER BY i.id DESC
+			""")
+	List<CIssue> listByProjectForBoard(@Param ("project") CProject<?> project);
+	/** Gantt row graph: the board graph plus the parent relation that places the issue in the hierarchy. */
+	@Override
+	@Query ("""
+			SELECT i FROM #{#entityName} i
+			LEFT JOIN FETCH i.project
+			LEFT JOIN FETCH i.assignedTo
+			LEFT JOIN FETCH i.entityType et
+			LEFT JOIN FETCH i.status
+			LEFT JOIN FETCH i.parentRelation
+			LEFT JOIN FETCH i.sprintItem si
+			WHERE i.project = :project
+			ORDER BY i.id DESC
+			""")
+	List<CIssue> listByProjectForTimeline(@Param ("project") CProject<?> project);
 	/** Find all issues of projects where the user's company owns the project */
 	@Query ("""
 			SELECT i FROM #{#entityName} i
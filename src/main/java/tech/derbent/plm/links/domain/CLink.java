@@ -5,6 +5,7 @@ import org.slf4j.LoggerFactory;
 import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -21,7 +22,12 @@ import tech.derbent.api.registry.CEntityRegistry;
  * @JoinColumn(name = "source_entity_activity_id") // or risk_id, issue_id, etc. private Set<CLink> links = new HashSet<>(); CLink has NO
  *                  back-reference to parents (clean unidirectional pattern). Layer: Domain (MVC) */
 @Entity
-@Table (name = "clink")
+// Links are looked up by either endpoint (type + id) when resolving, traversing or listing links of an entity; without these indexes every
+// lookup scanned the whole table.
+@Table (name = "clink", indexes = {
+		@Index (name = "idx_clink_source", columnList = "source_entity_type, source_entity_id"),
+		@Index (name = "idx_clink_target", columnList = "target_entity_type, target_entity_id")
+})
 @AttributeOverride (name = "id", column = @Column (name = "link_id"))
 public class CLink extends CEntityOfCompany<CLink> {
 
@@ -29,6 +35,10 @@ public class CLink extends CEntityOfCompany<CLink> {
 	public static final String DEFAULT_ICON = "vaadin:connect";
 	public static final String ENTITY_TITLE_PLURAL = "Links";
 	public static final String ENTITY_TITLE_SINGULAR = "Link";
+	/** Scheduling dependency: the target cannot start before the source has finished. */
+	public static final String LINK_TYPE_BLOCKS = "Blocks";
+	/** Scheduling dependency: the source cannot start before the target has finished. */
+	public static final String LINK_TYPE_DEPENDS_ON = "Depends On";
 	private static final Logger LOGGER = LoggerFactory.getLogger(CLink.class);
 	public static final String VIEW_NAME = "Links View";
 	// Description/notes about the link
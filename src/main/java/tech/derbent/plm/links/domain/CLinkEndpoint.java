@@ -0,0 +1,25 @@
+package tech.derbent.plm.links.domain;
+
+import org.springframework.data.util.ProxyUtils;
+import tech.derbent.api.entity.domain.CEntityDB;
+import tech.derbent.api.utils.Check;
+
+/** CLinkEndpoint - One end of a {@link CLink}: entity type (simple class name, as stored on the link) and entity ID. Used as map key when link
+ * endpoints are resolved or traversed in batches. */
+public record CLinkEndpoint(String entityType, Long entityId) {
+
+	public static CLinkEndpoint of(final CEntityDB<?> entity) {
+		Check.notNull(entity, "Linked entity cannot be null");
+		return new CLinkEndpoint(ProxyUtils.getUserClass(entity.getClass()).getSimpleName(), entity.getId());
+	}
+
+	public static CLinkEndpoint sourceOf(final CLink link) {
+		return new CLinkEndpoint(link.getSourceEntityType(), link.getSourceEntityId());
+	}
+
+	public static CLinkEndpoint targetOf(final CLink link) {
+		return new CLinkEndpoint(link.getTargetEntityType(), link.getTargetEntityId());
+	}
+
+	public boolean isComplete() { return entityType != null && !entityType.isBlank() && entityId != null; }
+}
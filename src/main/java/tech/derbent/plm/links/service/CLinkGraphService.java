@@ -0,0 +1,138 @@
+package tech.derbent.plm.links.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.derbent.api.entity.domain.CEntityDB;
+import tech.derbent.api.session.service.ISessionService;
+import tech.derbent.api.utils.Check;
+import tech.derbent.plm.links.domain.CLink;
+import tech.derbent.plm.links.domain.CLinkEndpoint;
+
+/** CLinkGraphService - Traversal of the link graph for impact analysis (requirements, issues, risks, deliverables, ...).
+ * <p>
+ * WHY: links are polymorphic (type + id on both ends), so walking them meant loading every link and resolving each endpoint through its own
+ * service. Traversals here work on endpoints only: the neighbourhood is expanded hop by hop with one query per entity type and direction, and the
+ * transitive closures run as a single recursive SQL query. Entities are loaded afterwards, in batches, with
+ * {@link CLinkService#resolveEndpoints(Collection)}.
+ * </p>
+ * <p>
+ * RULE: traversals stay inside the active company and always terminate; depths are capped at {@link #MAX_DEPTH}.
+ * </p>
+ */
+@Profile ({
+		"derbent", "bab", "default", "test"
+})
+@Service
+public class CLinkGraphService {
+
+	/** Endpoints within reach of a start endpoint, with the hop distance of each and the links walked to get there. */
+	public record CLinkNeighbourhood(CLinkEndpoint start, Map<CLinkEndpoint, Integer> distances, List<CLink> links) {}
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CLinkGraphService.class);
+	public static final int MAX_DEPTH = 10;
+
+	private static Map<CLinkEndpoint, Integer> toDistances(final List<Object[]> rows) {
+		final Map<CLinkEndpoint, Integer> distances = new LinkedHashMap<>();
+		rows.stream().sorted(Comparator.comparingInt(row -> ((Number) row[2]).intValue())).forEach(row -> distances
+				.put(new CLinkEndpoint((String) row[0], ((Number) row[1]).longValue()), ((Number) row[2]).intValue()));
+		return distances;
+	}
+
+	private final ILinkRepository repository;
+	private final ISessionService sessionService;
+
+	public CLinkGraphService(final ILinkRepository repository, final ISessionService sessionService) {
+		this.repository = repository;
+		this.sessionService = sessionService;
+	}
+
+	private Long getActiveCompanyId() {
+		return sessionService.getActiveCompany().orElseThrow(() -> new IllegalStateException("No active company selected, cannot traverse links"))
+				.getId();
+	}
+
+	/** Transitive "affected by" closure: every entity whose links lead, directly or through other linked entities, to the start entity (links
+	 * followed from target back to source). When the start entity changes, these are the entities to review.
+	 * @param start    the changed entity
+	 * @param maxDepth hop limit, 1 to {@link #MAX_DEPTH}
+	 * @return affected endpoints with their shortest distance, nearest first */
+	@Transactional (readOnly = true)
+	public Map<CLinkEndpoint, Integer> findAffectedBy(final CLinkEndpoint start, final int maxDepth) {
+		checkTraversal(start, maxDepth);
+		return toDistances(repository.findReachingSources(getActiveCompanyId(), start.entityType(), start.entityId(), maxDepth));
+	}
+
+	/** Transitive closure in link direction: every entity the start entity links to, directly or through other linked entities.
+	 * @param start    the start entity
+	 * @param maxDepth hop limit, 1 to {@link #MAX_DEPTH}
+	 * @return reached endpoints with their shortest distance, nearest first */
+	@Transactional (readOnly = true)
+	public Map<CLinkEndpoint, Integer> findDependenciesOf(final CLinkEndpoint start, final int maxDepth) {
+		checkTraversal(start, maxDepth);
+		return toDistances(repository.findReachedTargets(getActiveCompanyId(), start.entityType(), start.entityId(), maxDepth));
+	}
+
+	private static void checkTraversal(final CLinkEndpoint start, final int depth) {
+		Check.notNull(start, "Start endpoint cannot be null");
+		Check.isTrue(start.isComplete(), "Start endpoint must have a type and an ID");
+		Check.isTrue(depth >= 1 && depth <= MAX_DEPTH, "Depth must be between 1 and " + MAX_DEPTH);
+	}
+
+	/** Links touching any of the given endpoints, in either direction; one query per entity type and direction.
+	 * @param companyId the company ID
+	 * @param endpoints the endpoints
+	 * @return the links, each at most once */
+	private Collection<CLink> findLinksTouching(final Long companyId, final Collection<CLinkEndpoint> endpoints) {
+		final Map<String, List<Long>> idsByType = new HashMap<>();
+		for (final CLinkEndpoint endpoint : endpoints) {
+			idsByType.computeIfAbsent(endpoint.entityType(), type -> new ArrayList<>()).add(endpoint.entityId());
+		}
+		final Map<Long, CLink> linksById = new LinkedHashMap<>();
+		for (final Map.Entry<String, List<Long>> entry : idsByType.entrySet()) {
+			repository.findBySources(companyId, entry.getKey(), entry.getValue()).forEach(link -> linksById.putIfAbsent(link.getId(), link));
+			repository.findByTargets(companyId, entry.getKey(), entry.getValue()).forEach(link -> linksById.putIfAbsent(link.getId(), link));
+		}
+		return linksById.values();
+	}
+
+	/** Everything within {@code hops} links of the start entity, following links in both directions.
+	 * @param start the start entity
+	 * @param hops  hop limit, 1 to {@link #MAX_DEPTH}
+	 * @return reached endpoints (the start at distance 0) and the links between them */
+	@Transactional (readOnly = true)
+	public CLinkNeighbourhood getNeighbourhood(final CLinkEndpoint start, final int hops) {
+		checkTraversal(start, hops);
+		final Long companyId = getActiveCompanyId();
+		final Map<CLinkEndpoint, Integer> distances = new LinkedHashMap<>();
+		final Map<Long, CLink> links = new LinkedHashMap<>();
+		distances.put(start, 0);
+		Set<CLinkEndpoint> frontier = Set.of(start);
+		for (int hop = 1; hop <= hops && !frontier.isEmpty(); hop++) {
+			final Set<CLinkEndpoint> next = new LinkedHashSet<>();
+			for (final CLink link : findLinksTouching(companyId, frontier)) {
+				links.putIfAbsent(link.getId(), link);
+				for (final CLinkEndpoint endpoint : List.of(CLinkEndpoint.sourceOf(link), CLinkEndpoint.targetOf(link))) {
+					if (endpoint.isComplete() && !distances.containsKey(endpoint)) {
+						distances.put(endpoint, hop);
+						next.add(endpoint);
+					}
+				}
+			}
+			frontier = next;
+		}
+		LOGGER.debug("Link neighbourhood of {} within {} hops: {} entities, {} links", start, hops, distances.size(), links.size());
+		return new CLinkNeighbourhood(start, distances, List.copyOf(links.values()));
+	}
+}
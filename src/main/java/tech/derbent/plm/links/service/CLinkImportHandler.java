@@ -38,6 +38,13 @@ public class CLinkImportHandler extends CEntityOfCompanyImportHandler<CLink> {
 	@Override
 	public Class<CLink> getEntityClass() { return CLink.class; }
 
+	/** Owners are resolved by type + name and saved by this handler. */
+	@Override
+	public Set<Class<?>> getReferencedEntityClasses() { return itemResolver.getResolvableEntityClasses(); }
+
+	@Override
+	public boolean isReferenceDeclarationComplete() { return true; }
+
 	@Override
 	public Set<String> getRequiredColumns() { return Set.of("sourcetype", "sourcename", "targettype", "targetname"); }
 
@@ -1,22 +1,35 @@
 package tech.derbent.plm.links.service;
 
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.html.Div;
+import tech.derbent.api.annotations.CSpringAuxillaries;
 import tech.derbent.api.config.CSpringContext;
 import tech.derbent.api.entity.domain.CEntityDB;
 import tech.derbent.api.entity.service.CAbstractService;
 import tech.derbent.api.entityOfCompany.service.CEntityOfCompanyService;
 import tech.derbent.api.interfaces.CCloneOptions;
+import tech.derbent.api.interfaces.ISprintableItem;
 import tech.derbent.api.registry.CEntityRegistry;
 import tech.derbent.api.registry.IEntityRegistrable;
 import tech.derbent.api.session.service.ISessionService;
 import tech.derbent.api.utils.Check;
 import tech.derbent.plm.links.domain.CLink;
+import tech.derbent.plm.links.domain.CLinkEndpoint;
 import tech.derbent.plm.links.view.CComponentLink;
 
 @Profile ({
@@ -92,12 +105,84 @@ public class CLinkService extends CEntityOfCompanyService<CLink> implements IEnt
 	@Override
 	public Class<CLink> getEntityClass() { return CLink.class; }
 
+	/** Scheduling dependencies ("Blocks" and "Depends On" links) leaving the given entities, one query per entity type.
+	 * @param companyId       the company ID
+	 * @param sourceIdsByType IDs of the source entities grouped by entity type, e.g. the items of one project
+	 * @return the dependency links, unresolved */
+	@Transactional (readOnly = true)
+	public List<CLink> listDependencyLinks(final Long companyId, final Map<String, ? extends Collection<Long>> sourceIdsByType) {
+		Check.notNull(companyId, "Company ID cannot be null");
+		Check.notNull(sourceIdsByType, "Source IDs cannot be null");
+		final List<String> linkTypes = List.of(CLink.LINK_TYPE_BLOCKS.toLowerCase(Locale.ROOT), CLink.LINK_TYPE_DEPENDS_ON.toLowerCase(Locale.ROOT));
+		final List<CLink> links = new ArrayList<>();
+		sourceIdsByType.forEach((entityType, ids) -> {
+			if (!ids.isEmpty()) {
+				links.addAll(((ILinkRepository) repository).findBySourcesAndLinkTypes(companyId, entityType, ids, linkTypes));
+			}
+		});
+		return links;
+	}
+
 	@Override
 	public Class<?> getPageServiceClass() { return null; }
 
 	@Override
 	public Class<?> getServiceClass() { return CLinkService.class; }
 
+	/** Loads link endpoints in batches: IDs are grouped by entity type and each type is loaded with one query.
+	 * <p>
+	 * WHY: link grids resolved each endpoint through {@link #getTargetEntity(CLink)}, one query (plus lazy loads) per row and column. Status and
+	 * responsible of sprintable items are initialized here as well, so they are batch fetched and readable after the transaction.
+	 * </p>
+	 * <p>
+	 * RULE: initialize only what link grids read; {@link CEntityDB#initializeAllFields()} loads every collection of every entity, one entity
+	 * at a time, and would undo the batching.
+	 * </p>
+	 * @param endpoints endpoints to load; incomplete ones are skipped
+	 * @return loaded entities by endpoint; endpoints of deleted entities or of types without a service in this profile are missing */
+	@Transactional (readOnly = true)
+	public Map<CLinkEndpoint, CEntityDB<?>> resolveEndpoints(final Collection<CLinkEndpoint> endpoints) {
+		Check.notNull(endpoints, "Endpoints cannot be null");
+		final Map<String, Set<Long>> idsByType = new LinkedHashMap<>();
+		for (final CLinkEndpoint endpoint : endpoints) {
+			if (endpoint != null && endpoint.isComplete()) {
+				idsByType.computeIfAbsent(endpoint.entityType(), type -> new LinkedHashSet<>()).add(endpoint.entityId());
+			}
+		}
+		final Map<CLinkEndpoint, CEntityDB<?>> resolved = new HashMap<>();
+		for (final Map.Entry<String, Set<Long>> entry : idsByType.entrySet()) {
+			try {
+				final Class<?> serviceClass = CEntityRegistry.getServiceClassForEntity(CEntityRegistry.getEntityClass(entry.getKey()));
+				if (serviceClass == null || !CSpringContext.containsBean(serviceClass)) {
+					LOGGER.debug("No service available for link endpoint type {}, skipping {} endpoints", entry.getKey(), entry.getValue().size());
+					continue;
+				}
+				final CAbstractService<?> service = CSpringContext.getBean(serviceClass.asSubclass(CAbstractService.class));
+				for (final CEntityDB<?> entity : service.getRepository().findAllById(entry.getValue())) {
+					if (entity instanceof final ISprintableItem sprintableItem) {
+						if (sprintableItem.getStatus() != null) {
+							CSpringAuxillaries.initializeLazily(sprintableItem.getStatus());
+						}
+						if (sprintableItem.getAssignedTo() != null) {
+							CSpringAuxillaries.initializeLazily(sprintableItem.getAssignedTo());
+						}
+					}
+					resolved.put(new CLinkEndpoint(entry.getKey(), entity.getId()), entity);
+				}
+			} catch (final Exception e) {
+				LOGGER.warn("Could not resolve {} link endpoints of type {}: {}", entry.getValue().size(), entry.getKey(), e.getMessage());
+			}
+		}
+		return resolved;
+	}
+
+	/** @see #resolveEndpoints(Collection) */
+	@Transactional (readOnly = true)
+	public Map<CLinkEndpoint, CEntityDB<?>> resolveTargets(final Collection<CLink> links) {
+		Check.notNull(links, "Links cannot be null");
+		return resolveEndpoints(links.stream().map(CLinkEndpoint::targetOf).toList());
+	}
+
 	@Override
 	protected void validateEntity(final CLink entity) {
 		super.validateEntity(entity);
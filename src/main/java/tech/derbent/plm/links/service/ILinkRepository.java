@@ -1,9 +1,84 @@
 package tech.derbent.plm.links.service;
 
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import tech.derbent.api.entityOfCompany.service.IEntityOfCompanyRepository;
 import tech.derbent.plm.links.domain.CLink;
 
 /** Repository interface for CLink entities. Inherits all standard CRUD operations from parent repository. */
 public interface ILinkRepository extends IEntityOfCompanyRepository<CLink> {
-	// No additional methods needed - uses inherited operations
+
+	/** Links leaving any of the given entities of one type whose link type is one of the given ones, compared case-insensitively (link types are
+	 * free text). Uses idx_clink_source.
+	 * @param companyId  the company ID
+	 * @param entityType source entity type
+	 * @param entityIds  source entity IDs
+	 * @param linkTypes  lower-case link types
+	 * @return matching links */
+	@Query ("""
+			SELECT e FROM #{#entityName} e
+			WHERE e.company.id = :companyId AND e.sourceEntityType = :entityType AND e.sourceEntityId IN :entityIds
+			AND LOWER(e.linkType) IN :linkTypes
+			""")
+	List<CLink> findBySourcesAndLinkTypes(@Param ("companyId") Long companyId, @Param ("entityType") String entityType,
+			@Param ("entityIds") Collection<Long> entityIds, @Param ("linkTypes") Collection<String> linkTypes);
+	/** Links leaving any of the given entities of one type (uses idx_clink_source).
+	 * @param companyId  the company ID
+	 * @param entityType source entity type
+	 * @param entityIds  source entity IDs
+	 * @return matching links */
+	@Query ("""
+			SELECT e FROM #{#entityName} e
+			WHERE e.company.id = :companyId AND e.sourceEntityType = :entityType AND e.sourceEntityId IN :entityIds
+			""")
+	List<CLink> findBySources(@Param ("companyId") Long companyId, @Param ("entityType") String entityType,
+			@Param ("entityIds") Collection<Long> entityIds);
+	/** Links pointing at any of the given entities of one type (uses idx_clink_target).
+	 * @param companyId  the company ID
+	 * @param entityType target entity type
+	 * @param entityIds  target entity IDs
+	 * @return matching links */
+	@Query ("""
+			SELECT e FROM #{#entityName} e
+			WHERE e.company.id = :companyId AND e.targetEntityType = :entityType AND e.targetEntityId IN :entityIds
+			""")
+	List<CLink> findByTargets(@Param ("companyId") Long companyId, @Param ("entityType") String entityType,
+			@Param ("entityIds") Collection<Long> entityIds);
+	/** Entities that reach the given one through links, following links backwards (target to source) up to maxDepth hops. UNION removes
+	 * duplicate (type, id, depth) rows, and the depth limit ends cycles.
+	 * @return rows of [entity_type, entity_id, depth] with the shortest depth per entity, the start entity excluded */
+	@Query (value = """
+			WITH RECURSIVE reach(entity_type, entity_id, depth) AS (
+			  SELECT l.source_entity_type, l.source_entity_id, 1 FROM clink l
+			  WHERE l.company_id = :companyId AND l.target_entity_type = :entityType AND l.target_entity_id = :entityId
+			  UNION
+			  SELECT l.source_entity_type, l.source_entity_id, r.depth + 1 FROM clink l
+			  JOIN reach r ON l.target_entity_type = r.entity_type AND l.target_entity_id = r.entity_id
+			  WHERE l.company_id = :companyId AND r.depth < :maxDepth
+			)
+			SELECT entity_type, entity_id, MIN(depth) FROM reach
+			WHERE NOT (entity_type = :entityType AND entity_id = :entityId)
+			GROUP BY entity_type, entity_id
+			""", nativeQuery = true)
+	List<Object[]> findReachingSources(@Param ("companyId") Long companyId, @Param ("entityType") String entityType,
+			@Param ("entityId") Long entityId, @Param ("maxDepth") int maxDepth);
+	/** Entities reached from the given one by following links forwards (source to target) up to maxDepth hops.
+	 * @return rows of [entity_type, entity_id, depth] with the shortest depth per entity, the start entity excluded */
+	@Query (value = """
+			WITH RECURSIVE reach(entity_type, entity_id, depth) AS (
+			  SELECT l.target_entity_type, l.target_entity_id, 1 FROM clink l
+			  WHERE l.company_id = :companyId AND l.source_entity_type = :entityType AND l.source_entity_id = :entityId
+			  UNION
+			  SELECT l.target_entity_type, l.target_entity_id, r.depth + 1 FROM clink l
+			  JOIN reach r ON l.source_entity_type = r.entity_type AND l.source_entity_id = r.entity_id
+			  WHERE l.company_id = :companyId AND r.depth < :maxDepth
+			)
+			SELECT entity_type, entity_id, MIN(depth) FROM reach
+			WHERE NOT (entity_type = :entityType AND entity_id = :entityId)
+			GROUP BY entity_type, entity_id
+			""", nativeQuery = true)
+	List<Object[]> findReachedTargets(@Param ("companyId") Long companyId, @Param ("entityType") String entityType,
+			@Param ("entityId") Long entityId, @Param ("maxDepth") int maxDepth);
 }
@@ -3,6 +3,7 @@ package tech.derbent.plm.links.view;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -36,6 +37,7 @@ import tech.derbent.api.utils.Check;
 import tech.derbent.api.session.service.ISessionService;
 import tech.derbent.api.users.domain.CUser;
 import tech.derbent.plm.links.domain.CLink;
+import tech.derbent.plm.links.domain.CLinkEndpoint;
 import tech.derbent.plm.links.domain.IHasLinks;
 import tech.derbent.plm.links.service.CLinkService;
 
@@ -112,6 +114,8 @@ public class CComponentLink extends CVerticalLayout
 	private final CLinkService linkService;
 	private IHasLinks masterEntity;
 	private final List<Consumer<CLink>> refreshListeners = new ArrayList<>();
+	/** Targets of the listed links, loaded in one batch per entity type on each refresh; the columns read from here. */
+	private Map<CLinkEndpoint, CEntityDB<?>> resolvedTargets = Map.of();
 	private final ISessionService sessionService;
 
 	/** Constructor for link list component.
@@ -134,6 +138,7 @@ public class CComponentLink extends CVerticalLayout
 	@Override
 	public void clearGrid() {
 		Check.notNull(grid, "Grid cannot be null when clearing links");
+		resolvedTargets = Map.of();
 		grid.setItems(List.of());
 		grid.asSingleSelect().clear();
 		buttonEdit.setEnabled(false);
@@ -147,13 +152,13 @@ public class CComponentLink extends CVerticalLayout
 		try {
 			Check.notNull(grid1, "Grid cannot be null");
 			// Target entity ID column (not link ID)
-			grid1.addIdColumn(CLinkService::getTargetEntity, CLink::getTargetEntityId, "Target ID", "targetId");
+			grid1.addIdColumn(this::getResolvedTarget, CLink::getTargetEntityId, "Target ID", "targetId");
 			// Link type column
 			grid1.addCustomColumn(CLink::getLinkType, "Link Type", "120px", "linkType", 1);
 			// Target entity type column with color badge - use addCustomColumn for consistent header styling
 			grid1.addCustomColumn(link -> {
 				try {
-					final CEntityDB<?> targetEntity = CLinkService.getTargetEntity(link);
+					final CEntityDB<?> targetEntity = getResolvedTarget(link);
 					if (targetEntity != null) {
 						return targetEntity.getClass().getSimpleName();
 					}
@@ -169,7 +174,7 @@ public class CComponentLink extends CVerticalLayout
 			// Target entity name column
 			grid1.addCustomColumn(link -> {
 				try {
-					final CEntityDB<?> targetEntity = CLinkService.getTargetEntity(link);
+					final CEntityDB<?> targetEntity = getResolvedTarget(link);
 					if (targetEntity instanceof CEntityNamed) {
 						final String name = ((CEntityNamed<?>) targetEntity).getName();
 						if (name != null && !name.isEmpty()) {
@@ -192,7 +197,7 @@ public class CComponentLink extends CVerticalLayout
 			// Status column (from target entity if ISprintableItem) - colorful component with styled header
 			CGrid.styleColumnHeader(grid1.addComponentColumn(link -> {
 				try {
-					final CEntityDB<?> targetEntity = CLinkService.getTargetEntity(link);
+					final CEntityDB<?> targetEntity = getResolvedTarget(link);
 					if (targetEntity == null || !(targetEntity instanceof ISprintableItem)) {
 						return new Span("(no target)");
 					}
@@ -206,7 +211,7 @@ public class CComponentLink extends CVerticalLayout
 			// Responsible column (from target entity if ISprintableItem) - colorful component with styled header
 			CGrid.styleColumnHeader(grid1.addComponentColumn(link -> {
 				try {
-					final CEntityDB<?> targetEntity = CLinkService.getTargetEntity(link);
+					final CEntityDB<?> targetEntity = getResolvedTarget(link);
 					if (targetEntity == null || !(targetEntity instanceof ISprintableItem)) {
 						return new Span("(no target)");
 					}
@@ -310,6 +315,13 @@ public class CComponentLink extends CVerticalLayout
 		return null;
 	}
 
+	/** Returns the target of a link from the batch loaded on the last refresh, loading it on its own only when it is not there. */
+	private CEntityDB<?> getResolvedTarget(final CLink link) {
+		final CEntityDB<?> target = resolvedTargets.get(CLinkEndpoint.targetOf(link));
+		// Links added since the last refresh are not in the batch yet.
+		return target != null ? target : CLinkService.getTargetEntity(link);
+	}
+
 	/** Initialize the component layout and grid. */
 	private void initializeComponent() {
 		setId(ID_ROOT);
@@ -509,6 +521,7 @@ public class CComponentLink extends CVerticalLayout
 			}
 			return compareNullable(l1.getTargetEntityType(), l2.getTargetEntityType());
 		});
+		resolvedTargets = linkService.resolveTargets(items);
 		grid.setItems(items);
 		grid.asSingleSelect().clear();
 		updateCompactMode(items.isEmpty());
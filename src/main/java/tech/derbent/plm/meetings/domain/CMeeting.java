@@ -80,7 +80,7 @@ public class CMeeting extends CProjectItem<CMeeting, CMeetingType> implements IH
 			createComponentMethod = "createComponent"
 	)
 	private Set<CAttachment> attachments = new HashSet<>();
-	@ManyToMany (fetch = FetchType.EAGER)
+	@ManyToMany (fetch = FetchType.LAZY)
 	@JoinTable (
 			name = "cmeeting_attendees", joinColumns = @JoinColumn (name = "meeting_id"),
 			inverseJoinColumns = @JoinColumn (name = "user_id")
@@ -151,6 +151,9 @@ public class CMeeting extends CProjectItem<CMeeting, CMeetingType> implements IH
 			description = "Agile hierarchy tracking for this meeting", hidden = true
 	)
 	private CParentRelation parentRelation;
+	/** WHY: the repository queries fetch-join only the attendees; joining both user sets multiplies the rows per meeting.
+	 * Participants load eagerly in a second select, batched by {@code default_batch_fetch_size}, so detached meetings still
+	 * answer {@link #isParticipant}. */
 	@ManyToMany (fetch = FetchType.EAGER)
 	@JoinTable (
 			name = "cmeeting_participants", joinColumns = @JoinColumn (name = "meeting_id"),
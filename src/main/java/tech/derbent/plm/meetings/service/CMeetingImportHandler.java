@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
 import tech.derbent.api.companies.domain.CCompany;
 import tech.derbent.api.entityOfCompany.service.CProjectItemStatusService;
 import tech.derbent.api.imports.service.CExcelRow;
+import tech.derbent.api.imports.service.CImportLookupCache;
 import tech.derbent.api.imports.service.CImportProjectResolver;
 import tech.derbent.api.imports.service.CProjectItemImportHandler;
 import tech.derbent.api.projects.domain.CProject;
@@ -56,11 +57,11 @@ public class CMeetingImportHandler extends CProjectItemImportHandler<CMeeting, C
 		}
 		final String participantsStr = row.string("participants");
 		if (!participantsStr.isBlank()) {
-			entity.setParticipants(resolveUsersCsv(participantsStr, project.getCompany().getId(), rowNumber));
+			entity.setParticipants(resolveUsersCsv(participantsStr, project.getCompany(), rowNumber));
 		}
 		final String attendeesStr = row.string("attendees");
 		if (!attendeesStr.isBlank()) {
-			entity.setAttendees(resolveUsersCsv(attendeesStr, project.getCompany().getId(), rowNumber));
+			entity.setAttendees(resolveUsersCsv(attendeesStr, project.getCompany(), rowNumber));
 		}
 	}
 
@@ -94,14 +95,15 @@ public class CMeetingImportHandler extends CProjectItemImportHandler<CMeeting, C
 	@Override
 	protected Class<CMeetingType> getTypeClass() { return CMeetingType.class; }
 
-	private Set<CUser> resolveUsersCsv(final String value, final Long companyId, final int rowNumber) {
+	private Set<CUser> resolveUsersCsv(final String value, final CCompany company, final int rowNumber) {
 		final Set<CUser> users = new HashSet<>();
 		for (final String token : value.split("[,;]")) {
 			final String login = token.trim();
 			if (login.isBlank()) {
 				continue;
 			}
-			final var userOpt = userRepository.findByUsernameIgnoreCase(companyId, login);
+			final var userOpt = CImportLookupCache.lookupUser(login, company,
+					() -> userRepository.findByUsernameIgnoreCase(company.getId(), login));
 			if (userOpt.isEmpty()) {
 				LOGGER.warn("Import row {}: user '{}' not found", rowNumber, login);
 				throw new IllegalArgumentException("User '" + login + "' not found");
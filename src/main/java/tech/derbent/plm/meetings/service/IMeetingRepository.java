@@ -25,12 +25,25 @@ public interface IMeetingRepository extends IEntityOfProjectRepository<CMeeting>
 			   LEFT JOIN FETCH m.attendees
 			   LEFT JOIN FETCH m.attachments
 			LEFT JOIN FETCH m.comments
-			   LEFT JOIN FETCH m.participants
 			   LEFT JOIN FETCH m.sprintItem si
 			   LEFT JOIN FETCH si.sprint
 			   WHERE m.id = :id
 			""")
 	Optional<CMeeting> findById(@Param ("id") Long id);
+	/** Unfiltered list; fetches the lazy attendees so {@link CMeeting#isAttendee} works on the detached result. */
+	@Override
+	@Query ("""
+			   SELECT m FROM #{#entityName} m
+			   LEFT JOIN FETCH m.project
+			   LEFT JOIN FETCH m.entityType
+			   LEFT JOIN FETCH m.status
+			   LEFT JOIN FETCH m.assignedTo
+			   LEFT JOIN FETCH m.attendees
+			   LEFT JOIN FETCH m.sprintItem si
+			   LEFT JOIN FETCH si.sprint
+			   ORDER BY m.id DESC
+			""")
+	List<CMeeting> findAll();
 	/** Find meeting by sprint item ID - loads without sprint item to prevent circular loading.
 	 * @param sprintItemId the sprint item ID
 	 * @return the meeting if found */
@@ -45,7 +58,6 @@ public interface IMeetingRepository extends IEntityOfProjectRepository<CMeeting>
 			LEFT JOIN FETCH m.comments
 			   LEFT JOIN FETCH m.relatedActivity
 			   LEFT JOIN FETCH m.attendees
-			   LEFT JOIN FETCH m.participants
 			   WHERE m.sprintItem.id = :sprintItemId
 			""")
 	Optional<CMeeting> findBySprintItemId(@Param ("sprintItemId") Long sprintItemId);
@@ -61,7 +73,6 @@ public interface IMeetingRepository extends IEntityOfProjectRepository<CMeeting>
 			LEFT JOIN FETCH m.comments
 			   LEFT JOIN FETCH m.relatedActivity
 			   LEFT JOIN FETCH m.attendees
-			   LEFT JOIN FETCH m.participants
 			   LEFT JOIN FETCH m.sprintItem si
 			   LEFT JOIN FETCH si.sprint
 			   WHERE m.project = :project
@@ -69,6 +80,34 @@ public interface IMeetingRepository extends IEntityOfProjectRepository<CMeeting>
 			""")
 	Page<CMeeting> listByProject(@Param ("project") CProject<?> project, Pageable pageable);
 	@Override
+	@Query ("""
+			   SELECT m FROM #{#entityName} m
+			   LEFT JOIN FETCH m.project
+			   LEFT JOIN FETCH m.entityType
+			   LEFT JOIN FETCH m.status
+			   LEFT JOIN FETCH m.assignedTo
+			   LEFT JOIN FETCH m.attendees
+			   LEFT JOIN FETCH m.sprintItem si
+			   LEFT JOIN FETCH si.sprint
+			   WHERE m.project = :project
+			   ORDER BY m.name ASC
+			""")
+	List<CMeeting> listByProject(@Param ("project") CProject<?> project);
+	@Override
+	@Query ("""
+			   SELECT m FROM #{#entityName} m
+			   LEFT JOIN FETCH m.project
+			   LEFT JOIN FETCH m.entityType
+			   LEFT JOIN FETCH m.status
+			   LEFT JOIN FETCH m.assignedTo
+			   LEFT JOIN FETCH m.attendees
+			   LEFT JOIN FETCH m.sprintItem si
+			   LEFT JOIN FETCH si.sprint
+			   WHERE m.project.id = :pid
+			   ORDER BY m.name ASC
+			""")
+	List<CMeeting> listByProjectId(@Param ("pid") Long pid);
+	@Override
 	@Query ("""
 			   SELECT m FROM #{#entityName} m
 			   LEFT JOIN FETCH m.project
@@ -80,13 +119,44 @@ public interface IMeetingRepository extends IEntityOfProjectRepository<CMeeting>
 			   LEFT JOIN FETCH m.assignedTo
 			   LEFT JOIN FETCH m.relatedActivity
 			   LEFT JOIN FETCH m.attendees
-			   LEFT JOIN FETCH m.participants
 			   LEFT JOIN FETCH m.sprintItem si
 			   LEFT JOIN FETCH si.sprint
 			   WHERE m.project = :project
 			   ORDER BY m.id DESC
 			""")
 	List<CMeeting> listByProjectForPageView(@Param ("project") CProject<?> project);
+	/** Kanban card graph: attachments and comments are left out. Attendees stay because they are lazy and
+	 * {@link CMeeting#isAttendee} reads them on the detached cards. */
+	@Override
+	@Query ("""
+			   SELECT m FROM #{#entityName} m
+			   LEFT JOIN FETCH m.project
+			   LEFT JOIN FETCH m.entityType et
+			   LEFT JOIN FETCH et.workflow
+			   LEFT JOIN FETCH m.status
+			   LEFT JOIN FETCH m.assignedTo
+			   LEFT JOIN FETCH m.attendees
+			   LEFT JOIN FETCH m.sprintItem si
+			   LEFT JOIN FETCH si.sprint
+			   WHERE m.project = :project
+			   ORDER BY m.id DESC
+			""")
+	List<CMeeting> listByProjectForBoard(@Param ("project") CProject<?> project);
+	/** Gantt row graph: the board graph plus the parent relation that places the meeting in the hierarchy. */
+	@Override
+	@Query ("""
+			   SELECT m FROM #{#entityName} m
+			   LEFT JOIN FETCH m.project
+			   LEFT JOIN FETCH m.entityType et
+			   LEFT JOIN FETCH m.status
+			   LEFT JOIN FETCH m.assignedTo
+			   LEFT JOIN FETCH m.attendees
+			   LEFT JOIN FETCH m.parentRelation
+			   LEFT JOIN FETCH m.sprintItem si
+			   WHERE m.project = :project
+			   ORDER BY m.id DESC
+			""")
+	List<CMeeting> listByProjectForTimeline(@Param ("project") CProject<?> project);
 	/** Find all meetings that are in the backlog (not assigned to any sprint). In the new composition pattern, backlog items have sprintItem.sprint =
 	 * null (not in any sprint).
 	 * @param project the project
@@ -102,7 +172,6 @@ public interface IMeetingRepository extends IEntityOfProjectRepository<CMeeting>
 			LEFT JOIN FETCH m.comments
 			   LEFT JOIN FETCH m.relatedActivity
 			   LEFT JOIN FETCH m.attendees
-			   LEFT JOIN FETCH m.participants
 			   LEFT JOIN FETCH m.sprintItem si
 			   WHERE m.project = :project and (si.sprint IS NULL OR si.sprint.id IS NULL)
 			   ORDER BY si.itemOrder ASC NULLS LAST, m.id DESC
@@ -122,7 +191,6 @@ public interface IMeetingRepository extends IEntityOfProjectRepository<CMeeting>
 			LEFT JOIN FETCH m.comments
 			   LEFT JOIN FETCH m.relatedActivity
 			   LEFT JOIN FETCH m.attendees
-			   LEFT JOIN FETCH m.participants
 			   LEFT JOIN FETCH m.sprintItem si
 			   LEFT JOIN FETCH si.sprint s
 			   WHERE s = :sprint
@@ -14,7 +14,6 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
-import jakarta.persistence.PostLoad;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import jakarta.validation.constraints.Size;
@@ -37,6 +36,7 @@ import tech.derbent.plm.comments.domain.IHasComments;
 import tech.derbent.plm.gnnt.gnntitem.service.IGnntEntityItem;
 import tech.derbent.plm.meetings.domain.CMeeting;
 import tech.derbent.plm.meetings.service.IMeetingRepository;
+import tech.derbent.plm.sprints.service.CSprintMetricsService;
 
 // @AssociationOverride (name = "status", joinColumns = @JoinColumn (name = "sprint_status_id"))
 @Entity
@@ -114,15 +114,20 @@ public class CSprint extends CProjectItem<CSprint, CSprintType>
 			setBackgroundFromColor = true, useIcon = true
 	)
 	private CSprintType entityType;
-	// Calculated field for display - populated automatically after entity load via @PostLoad
-	// Service callback: CSprintService.getCalculatedValueOfItemCount(CSprint)
+	// Calculated field for display - set with the metrics, see setMetrics
 	@Transient
 	@AMetaData (
 			displayName = "Item Count", required = false, readOnly = true,
-			description = "Total number of items in this sprint", hidden = false, dataProviderBean = "CSprintService",
-			dataProviderMethod = "getCalculatedValueOfItemCount", autoCalculate = true, dataProviderParamMethod = "this"
+			description = "Total number of items in this sprint", hidden = false
 	)
 	private Integer itemCount;
+	// Totals attached by CSprintMetricsService.attachMetrics in one query per list; counts, story points, velocity and progress no longer walk
+	// sprintItems
+	@Transient
+	private CSprintMetrics metrics;
+	// Parent back-references of sprintItems are set on first use of an item list, not on every load
+	@Transient
+	private boolean parentItemsResolved;
 	@Column (nullable = true, length = 4000)
 	@Size (max = 4000)
 	@AMetaData (
@@ -159,14 +164,11 @@ public class CSprint extends CProjectItem<CSprint, CSprintType>
 			description = "Planned or actual start date of the sprint", hidden = false
 	)
 	private LocalDate startDate = LocalDate.now();
-	// Calculated field for total story points - populated automatically after entity load via @PostLoad
-	// Service callback: CSprintService.getCalculatedValueOfTotalStoryPoints(CSprint)
+	// Calculated field for total story points - set with the metrics, see setMetrics
 	@Transient
 	@AMetaData (
 			displayName = "Total Story Points", required = false, readOnly = true,
-			description = "Sum of story points for all items in this sprint", hidden = false,
-			dataProviderBean = "CSprintService", dataProviderMethod = "getCalculatedValueOfTotalStoryPoints",
-			autoCalculate = true, dataProviderParamMethod = "this"
+			description = "Sum of story points for all items in this sprint", hidden = false
 	)
 	private Long totalStoryPoints;
 	@Column (nullable = true)
@@ -233,17 +235,7 @@ public class CSprint extends CProjectItem<CSprint, CSprintType>
 	/** Calculate velocity from completed sprint items (Scrum Guide 2020 metric). Velocity is the sum of story points for items that have reached a final
 	 * status. This method should be called at sprint completion to record historical velocity. */
 	public void calculateVelocity() {
-		if (sprintItems == null) {
-			velocity = 0;
-			return;
-		}
-		velocity = sprintItems.stream().filter(item -> item.getParentItem() != null).filter(item -> {
-			final ISprintableItem parent = item.getParentItem();
-			if (parent.getStatus() != null && parent.getStatus().getFinalStatus()) {
-				return true;
-			}
-			return false;
-		}).map(CSprintItem::getStoryPoint).filter(sp -> sp != null).mapToInt(Long::intValue).sum();
+		velocity = getMetrics().getCompletedStoryPoints().intValue();
 		updateLastModified();
 	}
 
@@ -251,6 +243,7 @@ public class CSprint extends CProjectItem<CSprint, CSprintType>
 	 * @return list of activities */
 	public List<CActivity> getActivities() {
 		final List<CActivity> activities = new ArrayList<>();
+		resolveParentItems();
 		if (sprintItems != null) {
 			sprintItems.stream()
 					.filter((final CSprintItem sprintItem) -> sprintItem.getParentItem() instanceof CActivity)
@@ -265,25 +258,11 @@ public class CSprint extends CProjectItem<CSprint, CSprintType>
 
 	/** Get the total number of items in this sprint. This is a calculated field for UI display.
 	 * @return total count of sprint items */
-	public Integer getCalculatedValueOfItemCount() {
-		return sprintItems != null ? sprintItems.size() : 0;
-	}
+	public Integer getCalculatedValueOfItemCount() { return getMetrics().getItemCount(); }
 
 	/** Get the total story points for all items in this sprint. This is a calculated field for UI display.
 	 * @return total story points, or 0 if no items have story points */
-	public Long getCalculatedValueOfTotalStoryPoints() {
-		if (sprintItems == null || sprintItems.isEmpty()) {
-			return 0L;
-		}
-		long total = 0L;
-		for (final CSprintItem sprintItem : sprintItems) {
-			final Long itemStoryPoint = sprintItem.getStoryPoint();
-			if (itemStoryPoint != null) {
-				total += itemStoryPoint;
-			}
-		}
-		return total;
-	}
+	public Long getCalculatedValueOfTotalStoryPoints() { return getMetrics().getTotalStoryPoints(); }
 
 	@Override
 	public String getColor() { return color; }
@@ -320,6 +299,7 @@ public class CSprint extends CProjectItem<CSprint, CSprintType>
 	 * @return combined list of all sprint items */
 	public List<ISprintableItem> getItems() {
 		final List<ISprintableItem> allItems = new ArrayList<>();
+		resolveParentItems();
 		if (sprintItems != null) {
 			sprintItems.stream().filter((final CSprintItem sprintItem) -> sprintItem.getParentItem() != null)
 					.forEach((final CSprintItem sprintItem) -> allItems.add(sprintItem.getParentItem()));
@@ -331,6 +311,7 @@ public class CSprint extends CProjectItem<CSprint, CSprintType>
 	 * @return list of meetings */
 	public List<CMeeting> getMeetings() {
 		final List<CMeeting> meetings = new ArrayList<>();
+		resolveParentItems();
 		if (sprintItems != null) {
 			sprintItems.stream()
 					.filter((final CSprintItem sprintItem) -> sprintItem.getParentItem() instanceof CMeeting)
@@ -339,21 +320,14 @@ public class CSprint extends CProjectItem<CSprint, CSprintType>
 		return meetings;
 	}
 
+	/** Precomputed totals of this sprint, attached by {@link CSprintMetricsService#attachMetrics} when the sprint is read through the sprint
+	 * service.
+	 * @return the metrics, zero totals for an unsaved sprint or one loaded without the service */
+	public CSprintMetrics getMetrics() { return metrics != null ? metrics : new CSprintMetrics(this); }
+
+	/** Share of sprint items in a final status. */
 	@Override
-	public Integer getProgressPercentage() {
-		// Calculate progress based on completed activities
-		final List<CActivity> activities = getActivities();
-		if (activities == null || activities.isEmpty()) {
-			return 0;
-		}
-		final long completedCount = activities.stream().filter(activity -> {
-			if (activity.getStatus() != null && activity.getStatus().getFinalStatus()) {
-				return true;
-			}
-			return false;
-		}).count();
-		return (int) (completedCount * 100 / activities.size());
-	}
+	public Integer getProgressPercentage() { return getMetrics().getProgressPercentage(); }
 
 	public String getRetrospectiveNotes() { return retrospectiveNotes; }
 
@@ -433,36 +407,6 @@ public class CSprint extends CProjectItem<CSprint, CSprintType>
 		return LocalDate.now().isAfter(endDate);
 	}
 
-	/** JPA lifecycle callback: Populates transient calculated fields after entity is loaded from database. This method automatically discovers fields
-	 * with @AMetaData(autoCalculate=true) annotations and invokes the corresponding service methods using the data provider pattern. This approach
-	 * combines JPA lifecycle callbacks with service-layer business logic.
-	 * @throws Exception */
-	@PostLoad
-	protected void postLoadEntity() throws Exception {
-		try {
-			autoCalculateAnnotatedFieldsOnPostLoad();
-			if (sprintItems != null && !sprintItems.isEmpty()) {
-				final IActivityRepository activityRepo = CSpringContext.getBean(IActivityRepository.class);
-				final IMeetingRepository meetingRepo = CSpringContext.getBean(IMeetingRepository.class);
-				for (final CSprintItem item : sprintItems) {
-					if (item.getId() == null) {
-						continue;
-					}
-					final var activity = activityRepo.findBySprintItemId(item.getId());
-					if (activity.isPresent()) {
-						item.setParentItem(activity.get());
-						continue;
-					}
-					final var meeting = meetingRepo.findBySprintItemId(item.getId());
-					meeting.ifPresent(item::setParentItem);
-				}
-			}
-		} catch (final Exception e) {
-			LOGGER.error("Error in @PostLoad calculateTransientFields: {}", e.getMessage());
-			throw e;
-		}
-	}
-
 	/** Remove an activity from this sprint by setting its sprintItem.sprint to null.
 	 * @param activity the activity to remove */
 	public void removeActivity(final CActivity activity) {
@@ -483,10 +427,33 @@ public class CSprint extends CProjectItem<CSprint, CSprintType>
 		updateLastModified();
 	}
 
+	/** Sets the parent back-reference (activity or meeting) of each sprint item, once per entity instance. Only item lists need the parents. */
+	private void resolveParentItems() {
+		if (parentItemsResolved || sprintItems == null || sprintItems.isEmpty()) {
+			return;
+		}
+		final IActivityRepository activityRepo = CSpringContext.getBean(IActivityRepository.class);
+		final IMeetingRepository meetingRepo = CSpringContext.getBean(IMeetingRepository.class);
+		for (final CSprintItem item : sprintItems) {
+			if (item.getId() == null || item.getParentItem() != null) {
+				continue;
+			}
+			final var activity = activityRepo.findBySprintItemId(item.getId());
+			if (activity.isPresent()) {
+				item.setParentItem(activity.get());
+				continue;
+			}
+			final var meeting = meetingRepo.findBySprintItemId(item.getId());
+			meeting.ifPresent(item::setParentItem);
+		}
+		parentItemsResolved = true;
+	}
+
 	/** Sets the activities in this sprint.
 	 * @param activities the activities to set */
 	public void setActivities(final List<CActivity> activities) {
 		// Remove all current activities from sprint
+		resolveParentItems();
 		if (sprintItems != null) {
 			new ArrayList<>(sprintItems).stream()
 					.filter((final CSprintItem si) -> si.getParentItem() instanceof CActivity)
@@ -558,6 +525,7 @@ public class CSprint extends CProjectItem<CSprint, CSprintType>
 	 * @param meetings the meetings to set */
 	public void setMeetings(final List<CMeeting> meetings) {
 		// Remove all current meetings from sprint
+		resolveParentItems();
 		if (sprintItems != null) {
 			new ArrayList<>(sprintItems).stream()
 					.filter((final CSprintItem si) -> si.getParentItem() instanceof CMeeting)
@@ -571,6 +539,15 @@ public class CSprint extends CProjectItem<CSprint, CSprintType>
 		updateLastModified();
 	}
 
+	/** Sets the precomputed totals and the item count and story points shown in grids.
+	 * @param metrics the totals of this sprint */
+	public void setMetrics(final CSprintMetrics metrics) {
+		Check.notNull(metrics, "Metrics cannot be null");
+		this.metrics = metrics;
+		itemCount = metrics.getItemCount();
+		totalStoryPoints = metrics.getTotalStoryPoints();
+	}
+
 	public void setRetrospectiveNotes(final String retrospectiveNotes) {
 		this.retrospectiveNotes = retrospectiveNotes;
 		updateLastModified();
@@ -585,12 +562,13 @@ public class CSprint extends CProjectItem<CSprint, CSprintType>
 	 * @param sprintItems the sprint items to set */
 	public void setSprintItems(final List<CSprintItem> sprintItems) {
 		this.sprintItems = sprintItems != null ? sprintItems : new ArrayList<>();
+		parentItemsResolved = false;
 		updateLastModified();
 	}
 
 	public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
 
-	/** Sets the total story points. This is populated automatically via @PostLoad after entity is loaded.
+	/** Sets the total story points. This is populated from the metrics, see {@link #setMetrics(CSprintMetrics)}.
 	 * @param totalStoryPoints the total story points value */
 	public void setTotalStoryPoints(final Long totalStoryPoints) {
 		this.totalStoryPoints = totalStoryPoints;
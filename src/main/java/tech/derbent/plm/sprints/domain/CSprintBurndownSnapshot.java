@@ -0,0 +1,94 @@
+package tech.derbent.plm.sprints.domain;
+
+import java.time.LocalDate;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import tech.derbent.api.annotations.AMetaData;
+import tech.derbent.api.entity.domain.CEntityDB;
+import tech.derbent.api.utils.Check;
+
+/** CSprintBurndownSnapshot - Totals of a sprint as they stood on one day; the rows of a sprint form its burndown and burnup series.
+ * <p>
+ * RULE: one row per sprint and day. The row of the current day is overwritten on every metrics refresh, so the last state of a day wins.
+ * </p>
+ */
+@Entity
+@Table (name = "csprint_burndown_snapshot", uniqueConstraints = @UniqueConstraint (columnNames = {
+		"sprint_id", "snapshot_date"
+}))
+@AttributeOverride (name = "id", column = @Column (name = "sprint_burndown_snapshot_id"))
+public class CSprintBurndownSnapshot extends CEntityDB<CSprintBurndownSnapshot> {
+
+	public static final String DEFAULT_COLOR = "#8377C5";
+	public static final String DEFAULT_ICON = "vaadin:line-chart";
+	public static final String ENTITY_TITLE_PLURAL = "Sprint Burndown Snapshots";
+	public static final String ENTITY_TITLE_SINGULAR = "Sprint Burndown Snapshot";
+	public static final String VIEW_NAME = "Sprint Burndown View";
+	@Column (name = "completed_item_count", nullable = false)
+	@AMetaData (displayName = "Completed Items", required = false, readOnly = true, description = "Items in a final status", hidden = false)
+	private Integer completedItemCount = 0;
+	@Column (name = "completed_story_points", nullable = false)
+	@AMetaData (
+			displayName = "Completed Story Points", required = false, readOnly = true, description = "Story points of items in a final status",
+			hidden = false
+	)
+	private Long completedStoryPoints = 0L;
+	@Column (name = "item_count", nullable = false)
+	@AMetaData (displayName = "Item Count", required = false, readOnly = true, description = "Items in the sprint", hidden = false)
+	private Integer itemCount = 0;
+	@Column (name = "snapshot_date", nullable = false)
+	@AMetaData (displayName = "Date", required = true, readOnly = true, description = "Day of the snapshot", hidden = false)
+	private LocalDate snapshotDate;
+	@ManyToOne (fetch = FetchType.LAZY)
+	@JoinColumn (name = "sprint_id", nullable = false)
+	@AMetaData (displayName = "Sprint", required = true, readOnly = true, description = "The sprint of the snapshot", hidden = false)
+	private CSprint sprint;
+	@Column (name = "total_story_points", nullable = false)
+	@AMetaData (displayName = "Total Story Points", required = false, readOnly = true, description = "Story points of all items", hidden = false)
+	private Long totalStoryPoints = 0L;
+
+	/** Default constructor for JPA. */
+	protected CSprintBurndownSnapshot() {}
+
+	public CSprintBurndownSnapshot(final CSprint sprint, final LocalDate snapshotDate) {
+		super(CSprintBurndownSnapshot.class);
+		Check.notNull(sprint, "Sprint cannot be null for a burndown snapshot");
+		Check.notNull(snapshotDate, "Snapshot date cannot be null");
+		this.sprint = sprint;
+		this.snapshotDate = snapshotDate;
+	}
+
+	/** Copies the current totals of a sprint into this snapshot. */
+	public void capture(final CSprintMetrics metrics) {
+		Check.notNull(metrics, "Metrics cannot be null");
+		itemCount = metrics.getItemCount();
+		totalStoryPoints = metrics.getTotalStoryPoints();
+		completedItemCount = metrics.getCompletedItemCount();
+		completedStoryPoints = metrics.getCompletedStoryPoints();
+	}
+
+	public Integer getCompletedItemCount() { return completedItemCount; }
+
+	public Long getCompletedStoryPoints() { return completedStoryPoints; }
+
+	public Integer getItemCount() { return itemCount; }
+
+	public Long getRemainingStoryPoints() { return Math.max(0L, totalStoryPoints - completedStoryPoints); }
+
+	public LocalDate getSnapshotDate() { return snapshotDate; }
+
+	public CSprint getSprint() { return sprint; }
+
+	public Long getTotalStoryPoints() { return totalStoryPoints; }
+
+	@Override
+	public String toString() {
+		return "CSprintBurndownSnapshot{date=%s, storyPoints=%d/%d}".formatted(snapshotDate, completedStoryPoints, totalStoryPoints);
+	}
+}
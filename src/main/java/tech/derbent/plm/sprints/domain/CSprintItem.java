@@ -10,6 +10,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import jakarta.validation.constraints.Max;
@@ -135,6 +138,9 @@ public class CSprintItem extends CEntityDB<CSprintItem> implements IHasIcon, IOr
 	// Set by parent after loading to enable display in widgets/grids
 	@Transient
 	private ISprintableItem parentItem;
+	// Sprint as last read from or written to the database; lets sprint metrics refresh the sprint an item was moved out of
+	@Transient
+	private Long persistedSprintId;
 	@Column (nullable = true)
 	@Min (value = 0, message = "Progress percentage must be between 0 and 100")
 	@Max (value = 100, message = "Progress percentage must be between 0 and 100")
@@ -221,6 +227,10 @@ public class CSprintItem extends CEntityDB<CSprintItem> implements IHasIcon, IOr
 		return parentItem;
 	}
 
+	/** Sprint ID as stored in the database, which differs from {@link #getSprint()} while a move is not yet flushed.
+	 * @return the stored sprint ID, null for backlog or unsaved items */
+	public Long getPersistedSprintId() { return persistedSprintId; }
+
 	public Integer getProgressPercentage() { return progressPercentage != null ? progressPercentage : 0; }
 
 	public CSprint getSprint() { return sprint; }
@@ -246,6 +256,13 @@ public class CSprintItem extends CEntityDB<CSprintItem> implements IHasIcon, IOr
 		CSpringContext.getServiceClassForEntity(this).initializeNewEntity(this);
 	}
 
+	@PostLoad
+	@PostPersist
+	@PostUpdate
+	protected void rememberPersistedSprint() {
+		persistedSprintId = sprint != null ? sprint.getId() : null;
+	}
+
 	@Override
 	public void setColor(String color) {
 		// Not used
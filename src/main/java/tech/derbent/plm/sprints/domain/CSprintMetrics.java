@@ -0,0 +1,99 @@
+package tech.derbent.plm.sprints.domain;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import tech.derbent.api.annotations.AMetaData;
+import tech.derbent.api.entity.domain.CEntityDB;
+import tech.derbent.api.utils.Check;
+
+/** CSprintMetrics - Precomputed totals of one sprint (item counts, story points, completed work).
+ * <p>
+ * WHY: item count, story points, velocity and progress used to be computed by walking {@link CSprint#getSprintItems()} and the parent entity of
+ * every item each time a sprint was rendered. The totals are now recomputed with aggregate queries whenever a sprint item or a sprintable item
+ * changes and stored here, so grids and dashboards read one row per sprint.
+ * </p>
+ * <p>
+ * RULE: rows are written only by CSprintMetricsService; an item counts as completed when its parent status is a final status.
+ * </p>
+ */
+@Entity
+@Table (name = "csprint_metrics")
+@AttributeOverride (name = "id", column = @Column (name = "sprint_metrics_id"))
+public class CSprintMetrics extends CEntityDB<CSprintMetrics> {
+
+	public static final String DEFAULT_COLOR = "#8377C5";
+	public static final String DEFAULT_ICON = "vaadin:chart";
+	public static final String ENTITY_TITLE_PLURAL = "Sprint Metrics";
+	public static final String ENTITY_TITLE_SINGULAR = "Sprint Metrics";
+	public static final String VIEW_NAME = "Sprint Metrics View";
+	@Column (name = "completed_item_count", nullable = false)
+	@AMetaData (displayName = "Completed Items", required = false, readOnly = true, description = "Items in a final status", hidden = false)
+	private Integer completedItemCount = 0;
+	@Column (name = "completed_story_points", nullable = false)
+	@AMetaData (
+			displayName = "Completed Story Points", required = false, readOnly = true, description = "Story points of items in a final status",
+			hidden = false
+	)
+	private Long completedStoryPoints = 0L;
+	@Column (name = "item_count", nullable = false)
+	@AMetaData (displayName = "Item Count", required = false, readOnly = true, description = "Items in the sprint", hidden = false)
+	private Integer itemCount = 0;
+	@Column (name = "last_calculated")
+	@AMetaData (displayName = "Last Calculated", required = false, readOnly = true, description = "When the totals were recomputed", hidden = false)
+	private LocalDateTime lastCalculated;
+	@OneToOne (fetch = FetchType.LAZY)
+	@JoinColumn (name = "sprint_id", nullable = false, unique = true)
+	@AMetaData (displayName = "Sprint", required = true, readOnly = true, description = "The sprint these totals belong to", hidden = false)
+	private CSprint sprint;
+	@Column (name = "total_story_points", nullable = false)
+	@AMetaData (displayName = "Total Story Points", required = false, readOnly = true, description = "Story points of all items", hidden = false)
+	private Long totalStoryPoints = 0L;
+
+	/** Default constructor for JPA. */
+	protected CSprintMetrics() {}
+
+	public CSprintMetrics(final CSprint sprint) {
+		super(CSprintMetrics.class);
+		Check.notNull(sprint, "Sprint cannot be null for sprint metrics");
+		this.sprint = sprint;
+	}
+
+	public Integer getCompletedItemCount() { return completedItemCount; }
+
+	public Long getCompletedStoryPoints() { return completedStoryPoints; }
+
+	public Integer getItemCount() { return itemCount; }
+
+	public LocalDateTime getLastCalculated() { return lastCalculated; }
+
+	/** Share of completed items, 0 to 100. */
+	public int getProgressPercentage() { return itemCount > 0 ? (int) (completedItemCount * 100L / itemCount) : 0; }
+
+	public Long getRemainingStoryPoints() { return Math.max(0L, totalStoryPoints - completedStoryPoints); }
+
+	public CSprint getSprint() { return sprint; }
+
+	public Long getTotalStoryPoints() { return totalStoryPoints; }
+
+	/** Replaces all totals at once; partial updates would leave the row inconsistent. */
+	public void setTotals(final int itemCount, final long totalStoryPoints, final int completedItemCount, final long completedStoryPoints,
+			final LocalDateTime calculatedAt) {
+		this.itemCount = itemCount;
+		this.totalStoryPoints = totalStoryPoints;
+		this.completedItemCount = completedItemCount;
+		this.completedStoryPoints = completedStoryPoints;
+		lastCalculated = calculatedAt;
+	}
+
+	@Override
+	public String toString() {
+		return "CSprintMetrics{items=%d, completed=%d, storyPoints=%d/%d}".formatted(itemCount, completedItemCount, completedStoryPoints,
+				totalStoryPoints);
+	}
+}
@@ -2,18 +2,23 @@ package tech.derbent.plm.sprints.service;
 
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import tech.derbent.api.config.CSpringContext;
 import tech.derbent.api.entity.service.CAbstractService;
 import tech.derbent.api.exceptions.CValidationException;
 import tech.derbent.api.projects.domain.CProject;
 import tech.derbent.api.registry.IEntityRegistrable;
+import tech.derbent.api.screens.service.CSparseOrder;
 import tech.derbent.api.screens.service.IOrderedEntityService;
 import tech.derbent.api.session.service.ISessionService;
 import tech.derbent.api.utils.Check;
@@ -36,9 +41,16 @@ import tech.derbent.plm.sprints.domain.CSprintItem;
 public class CSprintItemService extends CAbstractService<CSprintItem> implements IEntityRegistrable, IOrderedEntityService<CSprintItem> {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CSprintItemService.class);
+	private static final Pageable NEAREST = PageRequest.of(0, 1);
+	/** Sprint item orders are unbounded; a gap of 1024 allows ten inserts at the same spot before a list is renumbered. */
+	private static final CSparseOrder SPARSE_ORDER = new CSparseOrder(1024, Integer.MAX_VALUE);
+	private static final Pageable TWO_NEAREST = PageRequest.of(0, 2);
+	private final CSprintMetricsService sprintMetricsService;
 
-	public CSprintItemService(final ISprintItemRepository repository, final Clock clock, final ISessionService sessionService) {
+	public CSprintItemService(final ISprintItemRepository repository, final Clock clock, final ISessionService sessionService,
+			final CSprintMetricsService sprintMetricsService) {
 		super(repository, clock, sessionService);
+		this.sprintMetricsService = sprintMetricsService;
 	}
 
 	@Override
@@ -56,21 +68,21 @@ public class CSprintItemService extends CAbstractService<CSprintItem> implements
 		final IMeetingRepository meetingRepo = CSpringContext.getBean(IMeetingRepository.class);
 		final IIssueRepository issueRepo = CSpringContext.getBean(IIssueRepository.class);
 		final List<CSprintItem> result = new ArrayList<>();
-		for (final CActivity activity : activityRepo.listByProjectForPageView(project)) {
+		for (final CActivity activity : activityRepo.listByProjectForBoard(project)) {
 			final CSprintItem si = activity.getSprintItem();
 			if (si != null) {
 				si.setParentItem(activity);
 				result.add(si);
 			}
 		}
-		for (final CMeeting meeting : meetingRepo.listByProjectForPageView(project)) {
+		for (final CMeeting meeting : meetingRepo.listByProjectForBoard(project)) {
 			final CSprintItem si = meeting.getSprintItem();
 			if (si != null) {
 				si.setParentItem(meeting);
 				result.add(si);
 			}
 		}
-		for (final CIssue issue : issueRepo.listByProjectForPageView(project)) {
+		for (final CIssue issue : issueRepo.listByProjectForBoard(project)) {
 			final CSprintItem si = issue.getSprintItem();
 			if (si != null) {
 				si.setParentItem(issue);
@@ -129,17 +141,16 @@ public class CSprintItemService extends CAbstractService<CSprintItem> implements
 	@Override
 	public Class<CSprintItem> getEntityClass() { return CSprintItem.class; }
 
-	/** Get the next item order for a new item in a sprint.
-	 * @param sprint the sprint
-	 * @return the next available order number */
+	/** Get the order key for a new item appended to a sprint.
+	 * @param sprint the sprint (null for backlog)
+	 * @return the order key after the last item */
 	public Integer getNextItemOrder(final CSprint sprint) {
-		final List<CSprintItem> items = sprint == null ? getTypedRepository().findBySprint(null) : sprint.getId() == null ? List.of() : findByMasterId(sprint.getId());
-		if (items.isEmpty()) {
-			return 1;
+		if (sprint != null && sprint.getId() == null) {
+			return SPARSE_ORDER.getGap();
 		}
-		// Find max order and add 1
-		final Integer maxOrder = items.stream().map(CSprintItem::getItemOrder).filter(order -> order != null).max(Integer::compareTo).orElse(0);
-		return maxOrder + 1;
+		final Integer order = SPARSE_ORDER.after(getTypedRepository().findMaxItemOrder(sprint, null));
+		Check.notNull(order, "No order key left in sprint");
+		return order;
 	}
 	// IOrderedEntityService implementation
 
@@ -149,34 +160,18 @@ public class CSprintItemService extends CAbstractService<CSprintItem> implements
 	@Override
 	public Class<?> getServiceClass() { return this.getClass(); }
 
-	/** Get sibling items (items in same sprint or backlog) sorted by itemOrder.
-	 * @param item the reference item
+	/** Get sibling items (items in same sprint or backlog) sorted by itemOrder, nulls last.
+	 * @param sprint the sprint, null for backlog
 	 * @return list of sibling items sorted by order */
-	private List<CSprintItem> getSiblingItems(final CSprintItem item) {
-		final List<CSprintItem> siblings;
-		if (item.getSprint() == null) {
-			// Backlog items - find all items with no sprint
-			siblings = getTypedRepository().findBySprint(null);
-		} else {
-			// Sprint items - find all items in same sprint
-			siblings = getTypedRepository().findByMasterId(item.getSprint().getId());
-		}
-		// Sort by itemOrder, nulls last
-		siblings.sort((a, b) -> {
-			if (a.getItemOrder() == null && b.getItemOrder() == null) {
-				return 0;
-			}
-			if (a.getItemOrder() == null) {
-				return 1;
-			}
-			if (b.getItemOrder() == null) {
-				return -1;
-			}
-			return a.getItemOrder().compareTo(b.getItemOrder());
-		});
+	private List<CSprintItem> getSiblingItems(final CSprint sprint) {
+		final List<CSprintItem> siblings =
+				new ArrayList<>(sprint == null ? getTypedRepository().findBySprint(null) : findByMasterId(sprint.getId()));
+		siblings.sort(Comparator.comparing(CSprintItem::getItemOrder, Comparator.nullsLast(Integer::compareTo)));
 		return siblings;
 	}
 
+	/** Moves an item into a sprint (or the backlog) next to an anchor item, or to the end when there is no anchor. Only the moved item is
+	 * written unless the gap at the target position is exhausted. */
 	public void moveItemToPosition(final CSprintItem movingItem, final CSprint targetSprint, final CSprintItem anchorItem, final boolean insertAfter) {
 		Check.notNull(movingItem, "Moving sprint item cannot be null");
 		Check.notNull(movingItem.getId(), "Moving sprint item must be persisted");
@@ -186,34 +181,15 @@ public class CSprintItemService extends CAbstractService<CSprintItem> implements
 		if (anchorItem != null) {
 			Check.notNull(anchorItem.getId(), "Anchor sprint item must be persisted");
 		}
-
-		final List<CSprintItem> targetItems = new java.util.ArrayList<>(targetSprint == null ? getTypedRepository().findBySprint(null)
-				: findByMasterId(targetSprint.getId()));
-		targetItems.removeIf(item -> item != null && item.getId() != null && item.getId().equals(movingItem.getId()));
-
-		int insertionIndex = targetItems.size();
-		if (anchorItem != null) {
-			for (int index = 0; index < targetItems.size(); index++) {
-				final CSprintItem current = targetItems.get(index);
-				if (current != null && current.getId() != null && current.getId().equals(anchorItem.getId())) {
-					insertionIndex = insertAfter ? index + 1 : index;
-					break;
-				}
-			}
-		}
-		insertionIndex = Math.max(0, Math.min(insertionIndex, targetItems.size()));
-
+		final Long anchorId = anchorItem != null && !anchorItem.getId().equals(movingItem.getId()) ? anchorItem.getId() : null;
+		final Integer order = resolveOrderAtPosition(movingItem.getId(), targetSprint, anchorId, insertAfter);
 		movingItem.setSprint(targetSprint);
-		targetItems.add(insertionIndex, movingItem);
-		for (int index = 0; index < targetItems.size(); index++) {
-			final CSprintItem sprintItem = targetItems.get(index);
-			if (sprintItem == null) {
-				continue;
-			}
-			sprintItem.setSprint(targetSprint);
-			sprintItem.setItemOrder(index + 1);
-			save(sprintItem);
+		if (order == null) {
+			placeByRebalance(movingItem, getSiblingItems(targetSprint), anchorId, insertAfter);
+			return;
 		}
+		movingItem.setItemOrder(order);
+		save(movingItem);
 	}
 
 	protected ISprintItemRepository getTypedRepository() { return (ISprintItemRepository) repository; }
@@ -221,37 +197,107 @@ public class CSprintItemService extends CAbstractService<CSprintItem> implements
 	@Override
 	public void moveItemDown(final CSprintItem item) {
 		Check.notNull(item, "Sprint item cannot be null");
-		final List<CSprintItem> items = getSiblingItems(item);
-		for (int i = 0; i < items.size(); i++) {
-			if (items.get(i).getId().equals(item.getId()) && i < items.size() - 1) {
-				final CSprintItem nextItem = items.get(i + 1);
-				final Integer currentOrder = item.getItemOrder();
-				final Integer nextOrder = nextItem.getItemOrder();
-				item.setItemOrder(nextOrder);
-				nextItem.setItemOrder(currentOrder);
+		final CSprint sprint = item.getSprint();
+		if (item.getItemOrder() != null) {
+			final List<Integer> above = getTypedRepository().findItemOrdersAbove(sprint, item.getItemOrder(), item.getId(), TWO_NEAREST);
+			if (above.isEmpty()) {
+				return;
+			}
+			final Integer order = SPARSE_ORDER.between(above.get(0), above.size() > 1 ? above.get(1) : null);
+			if (order != null) {
+				item.setItemOrder(order);
 				save(item);
-				save(nextItem);
-				break;
+				return;
 			}
 		}
+		final List<CSprintItem> siblings = getSiblingItems(sprint);
+		final int index = indexOf(siblings, item);
+		if (index >= 0 && index < siblings.size() - 1) {
+			placeByRebalance(item, siblings, siblings.get(index + 1).getId(), true);
+		}
 	}
 
 	@Override
 	public void moveItemUp(final CSprintItem item) {
 		Check.notNull(item, "Sprint item cannot be null");
-		final List<CSprintItem> items = getSiblingItems(item);
-		for (int i = 0; i < items.size(); i++) {
-			if (items.get(i).getId().equals(item.getId()) && i > 0) {
-				final CSprintItem previousItem = items.get(i - 1);
-				final Integer currentOrder = item.getItemOrder();
-				final Integer previousOrder = previousItem.getItemOrder();
-				item.setItemOrder(previousOrder);
-				previousItem.setItemOrder(currentOrder);
+		final CSprint sprint = item.getSprint();
+		if (item.getItemOrder() != null) {
+			final List<Integer> below = getTypedRepository().findItemOrdersBelow(sprint, item.getItemOrder(), item.getId(), TWO_NEAREST);
+			if (below.isEmpty()) {
+				return;
+			}
+			final Integer order = SPARSE_ORDER.between(below.size() > 1 ? below.get(1) : null, below.get(0));
+			if (order != null) {
+				item.setItemOrder(order);
 				save(item);
-				save(previousItem);
-				break;
+				return;
+			}
+		}
+		final List<CSprintItem> siblings = getSiblingItems(sprint);
+		final int index = indexOf(siblings, item);
+		if (index > 0) {
+			placeByRebalance(item, siblings, siblings.get(index - 1).getId(), false);
+		}
+	}
+
+	private static int indexOf(final List<CSprintItem> items, final CSprintItem item) {
+		for (int index = 0; index < items.size(); index++) {
+			if (item.getId().equals(items.get(index).getId())) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	/** Slow path once the gap at the target position is exhausted or keys are missing: renumbers the list with the moving item placed next to
+	 * the anchor and saves only the rows whose key changed (plus the moving item). */
+	private void placeByRebalance(final CSprintItem movingItem, final List<CSprintItem> siblings, final Long anchorId, final boolean insertAfter) {
+		final List<CSprintItem> ordered = new ArrayList<>(siblings);
+		ordered.removeIf(item -> movingItem.getId().equals(item.getId()));
+		int insertionIndex = ordered.size();
+		if (anchorId != null) {
+			for (int index = 0; index < ordered.size(); index++) {
+				if (anchorId.equals(ordered.get(index).getId())) {
+					insertionIndex = insertAfter ? index + 1 : index;
+					break;
+				}
 			}
 		}
+		ordered.add(insertionIndex, movingItem);
+		final List<CSprintItem> changed = SPARSE_ORDER.rebalance(ordered);
+		LOGGER.debug("Rebalanced sprint item orders: {} of {} changed", changed.size(), ordered.size());
+		if (changed.stream().noneMatch(item -> item == movingItem)) {
+			changed.add(movingItem);
+		}
+		changed.forEach(this::save);
+	}
+
+	/** Order key for the moving item next to the anchor, or after the last item without an anchor.
+	 * @return the key, or null when the gap is exhausted or the anchor has no key */
+	private Integer resolveOrderAtPosition(final Long movingId, final CSprint sprint, final Long anchorId, final boolean insertAfter) {
+		final ISprintItemRepository repo = getTypedRepository();
+		if (anchorId == null) {
+			return SPARSE_ORDER.after(repo.findMaxItemOrder(sprint, movingId));
+		}
+		final Integer anchorOrder = repo.findItemOrderById(anchorId);
+		if (anchorOrder == null) {
+			return null;
+		}
+		if (insertAfter) {
+			final List<Integer> above = repo.findItemOrdersAbove(sprint, anchorOrder, movingId, NEAREST);
+			return SPARSE_ORDER.between(anchorOrder, above.isEmpty() ? null : above.get(0));
+		}
+		final List<Integer> below = repo.findItemOrdersBelow(sprint, anchorOrder, movingId, NEAREST);
+		return SPARSE_ORDER.between(below.isEmpty() ? null : below.get(0), anchorOrder);
+	}
+
+	/** Saves the item and refreshes the metrics of its sprint, and of the sprint it left when it was moved. */
+	@Override
+	@Transactional
+	public CSprintItem save(final CSprintItem entity) {
+		final CSprintItem saved = super.save(entity);
+		sprintMetricsService.refreshForSprintItem(saved);
+		return saved;
 	}
 
 	@Override
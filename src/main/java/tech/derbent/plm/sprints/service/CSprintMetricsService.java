@@ -0,0 +1,284 @@
+package tech.derbent.plm.sprints.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tech.derbent.api.companies.domain.CCompany;
+import tech.derbent.api.interfaces.ISprintableItem;
+import tech.derbent.api.utils.Check;
+import tech.derbent.plm.sprints.domain.CSprint;
+import tech.derbent.plm.sprints.domain.CSprintBurndownSnapshot;
+import tech.derbent.plm.sprints.domain.CSprintItem;
+import tech.derbent.plm.sprints.domain.CSprintMetrics;
+
+/** CSprintMetricsService - Maintains the precomputed sprint totals ({@link CSprintMetrics}) and the daily burndown snapshots.
+ * <p>
+ * WHY: sprint grids, widgets and the Gnnt view showed item count, story points and progress by walking the sprint items and loading the parent
+ * entity of each. Totals are now recomputed when a sprint item or a sprintable item is saved or deleted, with one aggregate query per sprintable
+ * type, and read back as a single row.
+ * </p>
+ * <p>
+ * RULE: a refresh recomputes the whole sprint from the database rather than applying deltas, so a missed or repeated notification never leaves
+ * the totals drifting. No {@code @PreAuthorize}: the daily snapshot runs from the scheduler without a logged-in user.
+ * </p>
+ * <p>
+ * RULE: saves inside a transaction only mark their sprints; each marked sprint is recomputed once just before the transaction commits, so an
+ * import sheet or a bulk move costs one refresh per sprint instead of one per row.
+ * </p>
+ */
+@Profile ({
+		"derbent", "default"
+})
+@Service
+public class CSprintMetricsService {
+
+	/** One day of the burndown/burnup series of a sprint.
+	 * @param idealRemainingStoryPoints straight line from the first day's scope to zero on the sprint end date */
+	public record CBurndownPoint(LocalDate date, long totalStoryPoints, long completedStoryPoints, long remainingStoryPoints,
+			double idealRemainingStoryPoints) {}
+
+	/** Totals of a sprint as summed by the aggregate queries. */
+	record CSprintTotals(int itemCount, long totalStoryPoints, int completedItemCount, long completedStoryPoints) {
+
+		static final CSprintTotals EMPTY = new CSprintTotals(0, 0L, 0, 0L);
+
+		CSprintTotals plus(final List<Object[]> rows) {
+			if (rows == null || rows.isEmpty()) {
+				return this;
+			}
+			final Object[] row = rows.get(0);
+			return new CSprintTotals(itemCount + toInt(row[0]), totalStoryPoints + toLong(row[1]), completedItemCount + toInt(row[2]),
+					completedStoryPoints + toLong(row[3]));
+		}
+	}
+
+	/** Sprints marked in one transaction; recomputed once before it commits. */
+	private final class CPendingRefresh implements TransactionSynchronization {
+
+		private final Set<Long> sprintIds = new LinkedHashSet<>();
+
+		@Override
+		public void beforeCommit(final boolean readOnly) {
+			sprintIds.forEach(CSprintMetricsService.this::refresh);
+		}
+
+		private CSprintMetricsService owner() {
+			return CSprintMetricsService.this;
+		}
+	}
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CSprintMetricsService.class);
+
+	/** Sprint of a sprintable item, null when it sits in the backlog. */
+	public static Long getSprintId(final ISprintableItem item) {
+		if (item == null || item.getSprintItem() == null || item.getSprintItem().getSprint() == null) {
+			return null;
+		}
+		return item.getSprintItem().getSprint().getId();
+	}
+
+	private static int toInt(final Object value) {
+		return value instanceof final Number number ? number.intValue() : 0;
+	}
+
+	private static long toLong(final Object value) {
+		return value instanceof final Number number ? number.longValue() : 0L;
+	}
+
+	private final Clock clock;
+	private final ISprintMetricsRepository metricsRepository;
+	private final ISprintBurndownSnapshotRepository snapshotRepository;
+	private final ISprintRepository sprintRepository;
+
+	public CSprintMetricsService(final ISprintMetricsRepository metricsRepository, final ISprintBurndownSnapshotRepository snapshotRepository,
+			final ISprintRepository sprintRepository, final Clock clock) {
+		this.metricsRepository = metricsRepository;
+		this.snapshotRepository = snapshotRepository;
+		this.sprintRepository = sprintRepository;
+		this.clock = clock;
+	}
+
+	/** Loads the totals of many sprints with one query and sets them on the sprints ({@link CSprint#setMetrics(CSprintMetrics)}).
+	 * <p>
+	 * WHY: sprint grids and widgets read item count, story points and progress of every row; loading them per sprint on entity load was one query
+	 * per row.
+	 * </p>
+	 * @param sprints the sprints; unsaved ones get zero totals
+	 * @return the same sprints */
+	@Transactional (readOnly = true)
+	public <C extends Collection<CSprint>> C attachMetrics(final C sprints) {
+		Check.notNull(sprints, "Sprints cannot be null");
+		final Set<Long> sprintIds = sprints.stream().map(CSprint::getId).filter(Objects::nonNull).collect(Collectors.toSet());
+		final Map<Long, CSprintMetrics> metricsBySprintId = sprintIds.isEmpty() ? Map.of()
+				: metricsRepository.findBySprintIds(sprintIds).stream()
+						.collect(Collectors.toMap(metrics -> metrics.getSprint().getId(), Function.identity()));
+		for (final CSprint sprint : sprints) {
+			final CSprintMetrics metrics = metricsBySprintId.get(sprint.getId());
+			// Sprints the daily job has not backfilled yet are summed on their own.
+			sprint.setMetrics(metrics != null ? metrics : getMetrics(sprint));
+		}
+		return sprints;
+	}
+
+	private CSprintTotals computeTotals(final Long sprintId) {
+		return CSprintTotals.EMPTY.plus(metricsRepository.aggregateActivities(sprintId)).plus(metricsRepository.aggregateAgileEntities(sprintId))
+				.plus(metricsRepository.aggregateIssues(sprintId)).plus(metricsRepository.aggregateMeetings(sprintId));
+	}
+
+	/** Removes the metrics and snapshots of a sprint; called before the sprint itself is deleted.
+	 * @param sprintId the sprint ID */
+	@Transactional
+	public void deleteBySprintId(final Long sprintId) {
+		Check.notNull(sprintId, "Sprint ID cannot be null");
+		snapshotRepository.deleteBySprintId(sprintId);
+		metricsRepository.deleteBySprintId(sprintId);
+	}
+
+	/** Burndown and burnup series of a sprint, one point per day from the first snapshot to today or the sprint end, whichever comes first. Days
+	 * without a snapshot repeat the previous day.
+	 * @param sprint the sprint
+	 * @return the points in date order, empty when the sprint has no dates or no history yet */
+	@Transactional (readOnly = true)
+	public List<CBurndownPoint> getBurndown(final CSprint sprint) {
+		Check.notNull(sprint, "Sprint cannot be null");
+		Check.notNull(sprint.getId(), "Sprint must be persisted");
+		final LocalDate start = sprint.getStartDate();
+		final LocalDate end = sprint.getEndDate();
+		if (start == null || end == null || end.isBefore(start)) {
+			return List.of();
+		}
+		final LocalDate today = LocalDate.now(clock);
+		final LocalDate last = end.isBefore(today) ? end : today;
+		final List<CSprintBurndownSnapshot> snapshots = snapshotRepository.findBySprintIdOrderByDate(sprint.getId());
+		final List<CBurndownPoint> points = new ArrayList<>();
+		if (snapshots.isEmpty() || last.isBefore(start)) {
+			return points;
+		}
+		final long sprintDays = ChronoUnit.DAYS.between(start, end);
+		final Iterator<CSprintBurndownSnapshot> iterator = snapshots.iterator();
+		CSprintBurndownSnapshot current = iterator.next();
+		CSprintBurndownSnapshot next = iterator.hasNext() ? iterator.next() : null;
+		final LocalDate first = current.getSnapshotDate().isAfter(start) ? current.getSnapshotDate() : start;
+		final long baseline = current.getTotalStoryPoints();
+		for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+			while (next != null && !next.getSnapshotDate().isAfter(day)) {
+				current = next;
+				next = iterator.hasNext() ? iterator.next() : null;
+			}
+			final double ideal = sprintDays == 0 ? 0 : baseline * (double) ChronoUnit.DAYS.between(day, end) / sprintDays;
+			points.add(new CBurndownPoint(day, current.getTotalStoryPoints(), current.getCompletedStoryPoints(), current.getRemainingStoryPoints(),
+					ideal));
+		}
+		return points;
+	}
+
+	/** Current totals of a sprint. Sprints without a metrics row yet are summed on the fly; the row itself is only written by a refresh, because
+	 * readers often run in read-only transactions (entity post-load, grids).
+	 * @param sprint the sprint
+	 * @return the totals, zero for an unsaved sprint */
+	@Transactional (readOnly = true)
+	public CSprintMetrics getMetrics(final CSprint sprint) {
+		Check.notNull(sprint, "Sprint cannot be null");
+		if (sprint.getId() == null) {
+			return new CSprintMetrics(sprint);
+		}
+		return metricsRepository.findBySprintId(sprint.getId()).orElseGet(() -> {
+			final CSprintMetrics metrics = new CSprintMetrics(sprint);
+			final CSprintTotals totals = computeTotals(sprint.getId());
+			metrics.setTotals(totals.itemCount(), totals.totalStoryPoints(), totals.completedItemCount(), totals.completedStoryPoints(), null);
+			return metrics;
+		});
+	}
+
+	/** Recomputes the totals of a sprint and, while the sprint is running, today's burndown snapshot.
+	 * @param sprintId the sprint ID
+	 * @return the stored totals */
+	@Transactional
+	public CSprintMetrics refresh(final Long sprintId) {
+		Check.notNull(sprintId, "Sprint ID cannot be null");
+		final CSprintTotals totals = computeTotals(sprintId);
+		// Reference only: the totals come from the aggregate queries, the sprint row itself is never read.
+		final CSprint sprint = sprintRepository.getReferenceById(sprintId);
+		final CSprintMetrics metrics = metricsRepository.findBySprintId(sprintId).orElseGet(() -> new CSprintMetrics(sprint));
+		metrics.setTotals(totals.itemCount(), totals.totalStoryPoints(), totals.completedItemCount(), totals.completedStoryPoints(),
+				LocalDateTime.now(clock));
+		final CSprintMetrics saved = metricsRepository.save(metrics);
+		final LocalDate today = LocalDate.now(clock);
+		if (metricsRepository.countRunningSprint(sprintId, today) > 0) {
+			final CSprintBurndownSnapshot snapshot =
+					snapshotRepository.findBySprintIdAndDate(sprintId, today).orElseGet(() -> new CSprintBurndownSnapshot(sprint, today));
+			snapshot.capture(saved);
+			snapshotRepository.save(snapshot);
+		}
+		LOGGER.debug("Refreshed sprint {} metrics: {}", sprintId, saved);
+		return saved;
+	}
+
+	/** Refreshes the sprint a sprint item belongs to and, when the item has just been moved, the sprint it left; deferred to the commit like
+	 * {@link #refreshOnCommit(Collection)}.
+	 * @param sprintItem the saved sprint item (the managed instance returned by save) */
+	@Transactional
+	public void refreshForSprintItem(final CSprintItem sprintItem) {
+		Check.notNull(sprintItem, "Sprint item cannot be null");
+		// Read before refreshing: the flush done by the aggregate queries moves the persisted sprint to the new one.
+		final Long previousSprintId = sprintItem.getPersistedSprintId();
+		final Long sprintId = sprintItem.getSprint() != null ? sprintItem.getSprint().getId() : null;
+		final Set<Long> sprintIds = new LinkedHashSet<>();
+		if (previousSprintId != null && !previousSprintId.equals(sprintId)) {
+			sprintIds.add(previousSprintId);
+		}
+		if (sprintId != null) {
+			sprintIds.add(sprintId);
+		}
+		refreshOnCommit(sprintIds);
+	}
+
+	/** Recomputes the sprints once before the current transaction commits, or at once when no transaction is active.
+	 * @param sprintIds the sprints whose items changed */
+	public void refreshOnCommit(final Collection<Long> sprintIds) {
+		Check.notNull(sprintIds, "Sprint IDs cannot be null");
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			sprintIds.forEach(this::refresh);
+			return;
+		}
+		final CPendingRefresh pending = TransactionSynchronizationManager.getSynchronizations().stream()
+				.filter(CPendingRefresh.class::isInstance).map(CPendingRefresh.class::cast).filter(candidate -> candidate.owner() == this).findFirst()
+				.orElseGet(() -> {
+					final CPendingRefresh created = new CPendingRefresh();
+					TransactionSynchronizationManager.registerSynchronization(created);
+					return created;
+				});
+		pending.sprintIds.addAll(sprintIds);
+	}
+
+	/** Daily job: records today's snapshot for every running sprint of a company and stores the metrics of sprints that have none yet.
+	 * @param company the company
+	 * @return the number of refreshed sprints */
+	@Transactional
+	public int snapshotSprints(final CCompany company) {
+		Check.notNull(company, "Company cannot be null");
+		final Set<Long> sprintIds = new LinkedHashSet<>(metricsRepository.findActiveSprintIds(company.getId(), LocalDate.now(clock)));
+		sprintIds.addAll(metricsRepository.findSprintIdsWithoutMetrics(company.getId()));
+		sprintIds.forEach(this::refresh);
+		LOGGER.info("Recorded sprint metrics snapshots for {} sprints of company {}", sprintIds.size(), company.getName());
+		return sprintIds.size();
+	}
+}
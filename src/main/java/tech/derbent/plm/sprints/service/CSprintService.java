@@ -2,20 +2,25 @@ package tech.derbent.plm.sprints.service;
 
 import java.time.Clock;
 import java.util.List;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import jakarta.persistence.EntityNotFoundException;
 import tech.derbent.api.entity.domain.CEntityDB;
 import tech.derbent.api.entityOfCompany.service.CProjectItemStatusService;
+import tech.derbent.api.entityOfProject.domain.CFetchPlan;
 import tech.derbent.api.entityOfProject.service.CProjectItemService;
 import tech.derbent.plm.sprints.domain.CSprintType;
 import tech.derbent.api.exceptions.CValidationException;
 import tech.derbent.api.interfaces.CCloneOptions;
 import tech.derbent.api.interfaces.ISprintableItem;
+import tech.derbent.api.projects.domain.CProject;
 import tech.derbent.api.registry.IEntityRegistrable;
 import tech.derbent.api.registry.IEntityWithView;
 import tech.derbent.api.session.service.ISessionService;
@@ -35,28 +40,17 @@ public class CSprintService extends CProjectItemService<CSprint, CSprintType> im
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CSprintService.class);
 
-	/** Data provider callback: Calculates the total number of items in a sprint. Called automatically by @PostLoad after entity is loaded from
-	 * database.
-	 * @param sprint the sprint entity to calculate item count for
-	 * @return total number of sprint items */
-	public static Integer getCalculatedValueOfItemCount(final CSprint sprint) {
-		Check.notNull(sprint, "Sprint cannot be null in getCalculatedValueOfItemCount");
-		return sprint.getCalculatedValueOfItemCount(); // Delegates to entity method
-	}
-
-	public static Long getCalculatedValueOfTotalStoryPoints(final CSprint sprint) {
-		Check.notNull(sprint, "Sprint cannot be null in getCalculatedValueOfTotalStoryPoints");
-		return sprint.getCalculatedValueOfTotalStoryPoints(); // Delegates to entity method
-	}
-
 	private final CSprintItemService sprintItemService;
+	private final CSprintMetricsService sprintMetricsService;
 	private final CSprintTypeService typeService;
 
 	public CSprintService(final ISprintRepository repository, final Clock clock, final ISessionService sessionService,
-			final CSprintTypeService sprintTypeService, final CProjectItemStatusService statusService, final CSprintItemService sprintItemService) {
+			final CSprintTypeService sprintTypeService, final CProjectItemStatusService statusService, final CSprintItemService sprintItemService,
+			final CSprintMetricsService sprintMetricsService) {
 		super(repository, clock, sessionService, statusService);
 		typeService = sprintTypeService;
 		this.sprintItemService = sprintItemService;
+		this.sprintMetricsService = sprintMetricsService;
 	}
 
 	public void addSprintItemToSprint(final CSprint sprint, final ISprintableItem item) {
@@ -146,6 +140,8 @@ public class CSprintService extends CProjectItemService<CSprint, CSprintType> im
 				throw e;
 			}
 		}
+		// Metrics and burndown snapshots reference the sprint and go with it
+		sprintMetricsService.deleteBySprintId(sprint.getId());
 		// Now delete the sprint itself (items are safely in backlog)
 		super.delete(sprint);
 		LOGGER.info("Successfully deleted sprint {} and moved {} items to backlog", sprint.getId(), sprintItems.size());
@@ -163,6 +159,15 @@ public class CSprintService extends CProjectItemService<CSprint, CSprintType> im
 	@Override
 	public Class<CSprint> getEntityClass() { return CSprint.class; }
 
+	/** Loads the sprint with its metrics attached. */
+	@Override
+	@Transactional (readOnly = true)
+	public Optional<CSprint> getById(final Long id) {
+		final Optional<CSprint> sprint = super.getById(id);
+		sprint.ifPresent(found -> sprintMetricsService.attachMetrics(List.of(found)));
+		return sprint;
+	}
+
 	@Override
 	public Class<?> getInitializerServiceClass() { return CSprintInitializerService.class; }
 
@@ -181,11 +186,42 @@ public class CSprintService extends CProjectItemService<CSprint, CSprintType> im
 				statusService);
 	}
 
+	/** Lists the sprints with their metrics attached in one query (findAll reads through here). */
+	@Override
+	@Transactional (readOnly = true)
+	public List<CSprint> listByProject(final CProject<?> project) {
+		return sprintMetricsService.attachMetrics(super.listByProject(project));
+	}
+
+	@Override
+	@Transactional (readOnly = true)
+	public List<CSprint> listByProject(final CProject<?> project, final CFetchPlan plan) {
+		return sprintMetricsService.attachMetrics(super.listByProject(project, plan));
+	}
+
+	/** Pages of sprints with their metrics attached (list(Pageable) reads through here). */
+	@Override
+	@Transactional (readOnly = true)
+	public Page<CSprint> listByProject(final CProject<?> project, final Pageable pageable) {
+		final Page<CSprint> page = super.listByProject(project, pageable);
+		sprintMetricsService.attachMetrics(page.getContent());
+		return page;
+	}
+
+	/** Only the sprints of the returned page get their metrics (listForPageView reads through here). */
+	@Override
+	@Transactional (readOnly = true)
+	public Page<CSprint> listByProjectForPageView(final CProject<?> project, final Pageable pageable, final String searchText) {
+		final Page<CSprint> page = super.listByProjectForPageView(project, pageable, searchText);
+		sprintMetricsService.attachMetrics(page.getContent());
+		return page;
+	}
+
 	private int nextOrderForSprint(final CSprint sprint) {
 		if (sprint == null || sprint.getId() == null) {
 			return 1;
 		}
-		return sprintItemService.findByMasterId(sprint.getId()).size() + 1;
+		return sprintItemService.getNextItemOrder(sprint);
 	}
 
 	@Override
@@ -0,0 +1,24 @@
+package tech.derbent.plm.sprints.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import tech.derbent.api.entity.service.IAbstractRepository;
+import tech.derbent.plm.sprints.domain.CSprintBurndownSnapshot;
+
+/** ISprintBurndownSnapshotRepository - Repository interface for the daily sprint snapshots behind burndown and burnup charts. */
+public interface ISprintBurndownSnapshotRepository extends IAbstractRepository<CSprintBurndownSnapshot> {
+
+	@Modifying
+	@Transactional
+	@Query ("DELETE FROM #{#entityName} s WHERE s.sprint.id = :sprintId")
+	void deleteBySprintId(@Param ("sprintId") Long sprintId);
+	@Query ("SELECT s FROM #{#entityName} s WHERE s.sprint.id = :sprintId AND s.snapshotDate = :day")
+	Optional<CSprintBurndownSnapshot> findBySprintIdAndDate(@Param ("sprintId") Long sprintId, @Param ("day") LocalDate day);
+	@Query ("SELECT s FROM #{#entityName} s WHERE s.sprint.id = :sprintId ORDER BY s.snapshotDate ASC")
+	List<CSprintBurndownSnapshot> findBySprintIdOrderByDate(@Param ("sprintId") Long sprintId);
+}
@@ -2,6 +2,7 @@ package tech.derbent.plm.sprints.service;
 
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import tech.derbent.api.entity.service.IAbstractRepository;
@@ -31,4 +32,47 @@ public interface ISprintItemRepository extends IAbstractRepository<CSprintItem>
 		"SELECT e FROM #{#entityName} e WHERE e.sprint = :sprint OR (e.sprint IS NULL AND :sprint IS NULL) ORDER BY e.itemOrder ASC NULLS LAST, e.id DESC"
 	)
 	List<CSprintItem> findBySprint(@Param ("sprint") CSprint sprint);
+	/** Order key of a sprint item, without loading it.
+	 * @param id the sprint item ID
+	 * @return the item order, null when unset or not found */
+	@Query ("SELECT e.itemOrder FROM #{#entityName} e WHERE e.id = :id")
+	Integer findItemOrderById(@Param ("id") Long id);
+	/** Order keys above a key in a sprint (null for backlog), nearest first.
+	 * @param sprint     the sprint, null for backlog
+	 * @param order      the reference key
+	 * @param excludedId item to ignore (the one being moved), may be null
+	 * @param limit      how many keys to return
+	 * @return ascending keys greater than order */
+	@Query ("""
+			SELECT e.itemOrder FROM #{#entityName} e
+			WHERE (e.sprint = :sprint OR (e.sprint IS NULL AND :sprint IS NULL))
+			AND e.itemOrder > :order AND (:excludedId IS NULL OR e.id <> :excludedId)
+			ORDER BY e.itemOrder ASC
+			""")
+	List<Integer> findItemOrdersAbove(@Param ("sprint") CSprint sprint, @Param ("order") Integer order, @Param ("excludedId") Long excludedId,
+			Pageable limit);
+	/** Order keys below a key in a sprint (null for backlog), nearest first.
+	 * @param sprint     the sprint, null for backlog
+	 * @param order      the reference key
+	 * @param excludedId item to ignore (the one being moved), may be null
+	 * @param limit      how many keys to return
+	 * @return descending keys smaller than order */
+	@Query ("""
+			SELECT e.itemOrder FROM #{#entityName} e
+			WHERE (e.sprint = :sprint OR (e.sprint IS NULL AND :sprint IS NULL))
+			AND e.itemOrder < :order AND (:excludedId IS NULL OR e.id <> :excludedId)
+			ORDER BY e.itemOrder DESC
+			""")
+	List<Integer> findItemOrdersBelow(@Param ("sprint") CSprint sprint, @Param ("order") Integer order, @Param ("excludedId") Long excludedId,
+			Pageable limit);
+	/** Highest order key in a sprint (null for backlog).
+	 * @param sprint     the sprint, null for backlog
+	 * @param excludedId item to ignore (the one being moved), may be null
+	 * @return the highest key, null when the list is empty */
+	@Query ("""
+			SELECT MAX(e.itemOrder) FROM #{#entityName} e
+			WHERE (e.sprint = :sprint OR (e.sprint IS NULL AND :sprint IS NULL))
+			AND (:excludedId IS NULL OR e.id <> :excludedId)
+			""")
+	Integer findMaxItemOrder(@Param ("sprint") CSprint sprint, @Param ("excludedId") Long excludedId);
 }
@@ -0,0 +1,93 @@
+package tech.derbent.plm.sprints.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import tech.derbent.api.entity.service.IAbstractRepository;
+import tech.derbent.plm.sprints.domain.CSprintMetrics;
+
+/** ISprintMetricsRepository - Repository interface for CSprintMetrics. Also holds the aggregate queries the metrics are computed from, one per
+ * sprintable entity type, so a sprint is summed in the database instead of by walking its items. */
+public interface ISprintMetricsRepository extends IAbstractRepository<CSprintMetrics> {
+
+	/** Totals of the activities in a sprint: item count, story points, completed item count, completed story points.
+	 * @param sprintId the sprint ID
+	 * @return a single row */
+	@Query ("""
+			SELECT COUNT(e), COALESCE(SUM(si.storyPoint), 0),
+			COALESCE(SUM(CASE WHEN st.finalStatus = true THEN 1 ELSE 0 END), 0),
+			COALESCE(SUM(CASE WHEN st.finalStatus = true THEN COALESCE(si.storyPoint, 0) ELSE 0 END), 0)
+			FROM CActivity e JOIN e.sprintItem si LEFT JOIN e.status st
+			WHERE si.sprint.id = :sprintId
+			""")
+	List<Object[]> aggregateActivities(@Param ("sprintId") Long sprintId);
+	/** Totals of the epics, features and user stories in a sprint: item count, story points, completed item count, completed story points.
+	 * @param sprintId the sprint ID
+	 * @return a single row */
+	@Query ("""
+			SELECT COUNT(e), COALESCE(SUM(si.storyPoint), 0),
+			COALESCE(SUM(CASE WHEN st.finalStatus = true THEN 1 ELSE 0 END), 0),
+			COALESCE(SUM(CASE WHEN st.finalStatus = true THEN COALESCE(si.storyPoint, 0) ELSE 0 END), 0)
+			FROM CAgileEntity e JOIN e.sprintItem si LEFT JOIN e.status st
+			WHERE si.sprint.id = :sprintId
+			""")
+	List<Object[]> aggregateAgileEntities(@Param ("sprintId") Long sprintId);
+	/** Totals of the issues in a sprint: item count, story points, completed item count, completed story points.
+	 * @param sprintId the sprint ID
+	 * @return a single row */
+	@Query ("""
+			SELECT COUNT(e), COALESCE(SUM(si.storyPoint), 0),
+			COALESCE(SUM(CASE WHEN st.finalStatus = true THEN 1 ELSE 0 END), 0),
+			COALESCE(SUM(CASE WHEN st.finalStatus = true THEN COALESCE(si.storyPoint, 0) ELSE 0 END), 0)
+			FROM CIssue e JOIN e.sprintItem si LEFT JOIN e.status st
+			WHERE si.sprint.id = :sprintId
+			""")
+	List<Object[]> aggregateIssues(@Param ("sprintId") Long sprintId);
+	/** Totals of the meetings in a sprint: item count, story points, completed item count, completed story points.
+	 * @param sprintId the sprint ID
+	 * @return a single row */
+	@Query ("""
+			SELECT COUNT(e), COALESCE(SUM(si.storyPoint), 0),
+			COALESCE(SUM(CASE WHEN st.finalStatus = true THEN 1 ELSE 0 END), 0),
+			COALESCE(SUM(CASE WHEN st.finalStatus = true THEN COALESCE(si.storyPoint, 0) ELSE 0 END), 0)
+			FROM CMeeting e JOIN e.sprintItem si LEFT JOIN e.status st
+			WHERE si.sprint.id = :sprintId
+			""")
+	List<Object[]> aggregateMeetings(@Param ("sprintId") Long sprintId);
+	/** @param sprintId the sprint ID
+	 * @param day      the day
+	 * @return 1 when the sprint runs on that day (start and end dates inclusive), otherwise 0 */
+	@Query ("SELECT COUNT(s) FROM CSprint s WHERE s.id = :sprintId AND s.startDate <= :day AND s.endDate >= :day")
+	long countRunningSprint(@Param ("sprintId") Long sprintId, @Param ("day") LocalDate day);
+	@Modifying
+	@Transactional
+	@Query ("DELETE FROM #{#entityName} m WHERE m.sprint.id = :sprintId")
+	void deleteBySprintId(@Param ("sprintId") Long sprintId);
+	/** Sprints of a company running on a given day.
+	 * @param companyId the company ID
+	 * @param day       the day
+	 * @return sprint IDs */
+	@Query ("""
+			SELECT s.id FROM CSprint s
+			WHERE s.project.company.id = :companyId AND s.startDate <= :day AND s.endDate >= :day
+			""")
+	List<Long> findActiveSprintIds(@Param ("companyId") Long companyId, @Param ("day") LocalDate day);
+	@Query ("SELECT m FROM #{#entityName} m WHERE m.sprint.id = :sprintId")
+	Optional<CSprintMetrics> findBySprintId(@Param ("sprintId") Long sprintId);
+	@Query ("SELECT m FROM #{#entityName} m WHERE m.sprint.id IN :sprintIds")
+	List<CSprintMetrics> findBySprintIds(@Param ("sprintIds") Collection<Long> sprintIds);
+	/** Sprints of a company that have no metrics row yet (created before metrics existed, or never changed since).
+	 * @param companyId the company ID
+	 * @return sprint IDs */
+	@Query ("""
+			SELECT s.id FROM CSprint s
+			WHERE s.project.company.id = :companyId
+			AND NOT EXISTS (SELECT m.id FROM #{#entityName} m WHERE m.sprint = s)
+			""")
+	List<Long> findSprintIdsWithoutMetrics(@Param ("companyId") Long companyId);
+}
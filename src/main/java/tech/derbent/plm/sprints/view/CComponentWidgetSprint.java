@@ -1,5 +1,6 @@
 package tech.derbent.plm.sprints.view;
 
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.vaadin.flow.component.ComponentEventListener;
@@ -27,7 +28,9 @@ import tech.derbent.plm.activities.service.CActivityService;
 import tech.derbent.plm.meetings.service.CMeetingService;
 import tech.derbent.plm.sprints.domain.CSprint;
 import tech.derbent.plm.sprints.domain.CSprintItem;
+import tech.derbent.plm.sprints.domain.CSprintMetrics;
 import tech.derbent.plm.sprints.service.CSprintItemService;
+import tech.derbent.plm.sprints.service.CSprintMetricsService;
 
 /** CComponentWidgetSprint - Widget component for displaying Sprint entities in grids.
  * <p>
@@ -261,8 +264,11 @@ public class CComponentWidgetSprint extends CComponentWidgetEntityOfProject<CSpr
 	private void refreshItemCount() {
 		Check.notNull(itemCountLabel, "Item count label must be initialized");
 		Check.notNull(itemCountText, "Item count text must be initialized");
-		final Integer itemCount = getEntity().getCalculatedValueOfItemCount();
-		final Long totalStoryPoints = getEntity().getCalculatedValueOfTotalStoryPoints();
+		// Items were added or moved since the sprint was loaded; read its current totals.
+		CSpringContext.getBean(CSprintMetricsService.class).attachMetrics(List.of(getEntity()));
+		final CSprintMetrics metrics = getEntity().getMetrics();
+		final Integer itemCount = metrics.getItemCount();
+		final Long totalStoryPoints = metrics.getTotalStoryPoints();
 		final String countText = (itemCount != null ? itemCount : 0) + " item" + (itemCount != null && itemCount != 1 ? "s" : "");
 		final String storyPointsText = totalStoryPoints != null && totalStoryPoints > 0 ? " (" + totalStoryPoints + " SP)" : "";
 		itemCountText.setText(countText + storyPointsText);
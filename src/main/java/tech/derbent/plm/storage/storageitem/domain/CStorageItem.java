@@ -12,10 +12,15 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.Size;
 import tech.derbent.api.annotations.AMetaData;
 import tech.derbent.api.config.CSpringContext;
@@ -33,7 +38,10 @@ import tech.derbent.plm.providers.provider.domain.CProvider;
 import tech.derbent.plm.storage.storage.domain.CStorage;
 
 @Entity
-@Table (name = "cstorageitem")
+@Table (name = "cstorageitem", indexes = {
+		@Index (name = "idx_cstorageitem_project_quantity", columnList = "project_id, current_quantity"),
+		@Index (name = "idx_cstorageitem_project_expiration", columnList = "project_id, expiration_date")
+})
 @AttributeOverride (name = "id", column = @Column (name = "storageitem_id"))
 public class CStorageItem extends CProjectItem<CStorageItem, CStorageItemType> implements IHasStatusAndWorkflow<CStorageItem, CStorageItemType>, IHasAttachments, IHasComments {
 
@@ -70,7 +78,8 @@ public class CStorageItem extends CProjectItem<CStorageItem, CStorageItemType> i
 	@Size (max = 10)
 	@AMetaData (displayName = "Currency", required = false, description = "Currency code", maxLength = 10)
 	private String currency;
-	@Column (name = "current_quantity", precision = 19, scale = 2, nullable = false)
+	// Not updatable: after the insert the balance is only written by the atomic stock bookings of CStorageItemService
+	@Column (name = "current_quantity", precision = 19, scale = 2, nullable = false, updatable = false)
 	@AMetaData (displayName = "Current Quantity", required = true, description = "Current stock level")
 	private BigDecimal currentQuantity = BigDecimal.ZERO;
 	@ManyToOne (fetch = FetchType.EAGER)
@@ -110,6 +119,9 @@ public class CStorageItem extends CProjectItem<CStorageItem, CStorageItemType> i
 	@Size (max = 255)
 	@AMetaData (displayName = "Model Number", required = false, description = "Model number", maxLength = 255)
 	private String modelNumber;
+	// Balance as last read from or written to the database; tells a form edit of the quantity apart from an untouched stale value
+	@Transient
+	private BigDecimal persistedQuantity;
 	@ManyToOne (fetch = FetchType.EAGER)
 	@JoinColumn (name = "provider_id")
 	@AMetaData (displayName = "Supplier", required = false, description = "Supplier/provider", dataProviderBean = "CProviderService")
@@ -192,6 +204,10 @@ public class CStorageItem extends CProjectItem<CStorageItem, CStorageItemType> i
 
 	public String getModelNumber() { return modelNumber; }
 
+	/** Balance as stored in the database when this instance was loaded or last booked.
+	 * @return the stored quantity, null for unsaved items */
+	public BigDecimal getPersistedQuantity() { return persistedQuantity; }
+
 	public CProvider getProvider() { return provider; }
 
 	public BigDecimal getReorderQuantity() { return reorderQuantity; }
@@ -245,6 +261,11 @@ public class CStorageItem extends CProjectItem<CStorageItem, CStorageItemType> i
 		CSpringContext.getServiceClassForEntity(this).initializeNewEntity(this);
 	}
 
+	/** True when the quantity was changed on this instance (e.g. in the edit form) since it was loaded. */
+	public boolean isCurrentQuantityEdited() {
+		return persistedQuantity != null && currentQuantity != null && currentQuantity.compareTo(persistedQuantity) != 0;
+	}
+
 	public boolean isExpired() { return Boolean.TRUE.equals(trackExpiration) && expirationDate != null && expirationDate.isBefore(LocalDate.now()); }
 
 	public boolean isExpiringSoon(final int daysThreshold) {
@@ -256,6 +277,13 @@ public class CStorageItem extends CProjectItem<CStorageItem, CStorageItemType> i
 
 	public boolean isLowStock() { return minimumStockLevel != null && currentQuantity != null && currentQuantity.compareTo(minimumStockLevel) <= 0; }
 
+	@PostLoad
+	@PostPersist
+	@PostUpdate
+	protected void rememberPersistedQuantity() {
+		persistedQuantity = currentQuantity;
+	}
+
 	@Override
 	public void setAttachments(final Set<CAttachment> attachments) { this.attachments = attachments; }
 
@@ -263,6 +291,13 @@ public class CStorageItem extends CProjectItem<CStorageItem, CStorageItemType> i
 
 	public void setBatchNumber(final String batchNumber) { this.batchNumber = batchNumber; }
 
+	/** Applies a balance just written by a stock booking, so this instance matches the database without being reloaded.
+	 * @param quantity the booked balance */
+	public void setBookedQuantity(final BigDecimal quantity) {
+		currentQuantity = quantity;
+		persistedQuantity = quantity;
+	}
+
 	@Override
 	public void setComments(final Set<CComment> comments) { this.comments = comments; }
 
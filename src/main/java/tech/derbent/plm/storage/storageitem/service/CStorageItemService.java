@@ -3,6 +3,7 @@ package tech.derbent.plm.storage.storageitem.service;
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.LocalDate;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
@@ -27,6 +28,14 @@ import tech.derbent.plm.storage.storageitem.domain.CStorageItem;
 import tech.derbent.plm.storage.transaction.domain.CTransactionType;
 import tech.derbent.plm.storage.transaction.service.CStorageTransactionService;
 
+/** CStorageItemService - Storage items and their stock bookings.
+ * <p>
+ * WHY: bookings used to read the quantity, compute the new one and save the item, so two parallel bookings could overwrite each other. The
+ * balance is now changed by single atomic UPDATE statements (increment, guarded decrement, compare-and-set for counted adjustments) and each
+ * booking appends a CStorageTransaction with the before/after balance it produced; the ledger is the history, the column its running total.
+ * </p>
+ * RULE: the balance changes only through addStock/removeStock/adjustStock; {@link #save(CStorageItem)} writes it on insert and turns form edits
+ * into adjustments. */
 @Profile ({
 		"derbent", "default"
 })
@@ -36,6 +45,7 @@ import tech.derbent.plm.storage.transaction.service.CStorageTransactionService;
 public class CStorageItemService extends CProjectItemService<CStorageItem, CStorageItemType> implements IEntityRegistrable, IEntityWithView {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CStorageItemService.class);
+	private static final int MAX_ADJUST_ATTEMPTS = 5;
 	private final CStorageTransactionService transactionService;
 	private final CStorageItemTypeService typeService;
 
@@ -50,24 +60,42 @@ public class CStorageItemService extends CProjectItemService<CStorageItem, CStor
 	@Transactional
 	public void addStock(final CStorageItem item, final BigDecimal quantity, final String description) {
 		Check.notNull(item, "Item cannot be null");
+		Check.notNull(item.getId(), "Item must be saved before booking stock");
 		Check.notNull(quantity, "Quantity cannot be null");
 		Check.isTrue(quantity.signum() > 0, "Quantity must be positive");
-		final BigDecimal before = item.getCurrentQuantity();
-		final BigDecimal after = before.add(quantity);
-		item.setCurrentQuantity(after);
-		item.setLastRestockedDate(LocalDate.now(clock));
-		save(item);
-		transactionService.createTransaction(item, CTransactionType.STOCK_IN, quantity, before, after, description, null);
+		final LocalDate today = LocalDate.now(clock);
+		Check.isTrue(getStorageItemRepository().incrementQuantity(item.getId(), quantity, today) == 1, "Storage item not found: " + item.getId());
+		// The row stays locked until commit, so the balance read back is the one this booking produced
+		final BigDecimal after = getStorageItemRepository().findCurrentQuantity(item.getId());
+		item.setBookedQuantity(after);
+		item.setLastRestockedDate(today);
+		transactionService.createTransaction(item, CTransactionType.STOCK_IN, quantity, after.subtract(quantity), after, description, null);
 	}
 
+	/** Sets the balance to a counted value. The balance is compared and set atomically; a booking that slips in between the read and the write
+	 * makes the update miss, and the adjustment is retried against the new balance. */
 	@Transactional
 	public void adjustStock(final CStorageItem item, final BigDecimal newQuantity, final String reason) {
 		Check.notNull(item, "Item cannot be null");
+		Check.notNull(item.getId(), "Item must be saved before booking stock");
 		Check.notNull(newQuantity, "New quantity cannot be null");
-		final BigDecimal before = item.getCurrentQuantity();
-		item.setCurrentQuantity(newQuantity);
-		save(item);
-		transactionService.createTransaction(item, CTransactionType.ADJUSTMENT, newQuantity.subtract(before), before, newQuantity, reason, null);
+		Check.isTrue(newQuantity.signum() >= 0, "Quantity cannot be negative");
+		for (int attempt = 1; attempt <= MAX_ADJUST_ATTEMPTS; attempt++) {
+			final BigDecimal before = getStorageItemRepository().findCurrentQuantity(item.getId());
+			Check.notNull(before, "Storage item not found: " + item.getId());
+			if (before.compareTo(newQuantity) == 0) {
+				item.setBookedQuantity(before);
+				return;
+			}
+			if (getStorageItemRepository().compareAndSetQuantity(item.getId(), before, newQuantity) == 1) {
+				item.setBookedQuantity(newQuantity);
+				transactionService.createTransaction(item, CTransactionType.ADJUSTMENT, newQuantity.subtract(before), before, newQuantity, reason,
+						null);
+				return;
+			}
+			LOGGER.debug("Stock of item {} changed during adjustment, retrying (attempt {})", item.getId(), attempt);
+		}
+		throw new CValidationException("Stock of '%s' is changing too often to adjust, please try again.".formatted(item.getName()));
 	}
 
 	@Override
@@ -128,26 +156,23 @@ public class CStorageItemService extends CProjectItemService<CStorageItem, CStor
 	@Override
 	public Class<CStorageItem> getEntityClass() { return CStorageItem.class; }
 
-	public java.util.List<CStorageItem> getExpiredItems(final CProject<?> project) {
-		final LocalDate today = LocalDate.now(clock);
-		return ((IStorageItemRepository) repository).listByProjectForPageView(project).stream()
-				.filter(i -> Boolean.TRUE.equals(i.getTrackExpiration()) && i.getExpirationDate() != null && i.getExpirationDate().isBefore(today))
-				.toList();
+	public List<CStorageItem> getExpiredItems(final CProject<?> project) {
+		Check.notNull(project, "Project cannot be null");
+		return getStorageItemRepository().findExpiredBefore(project, LocalDate.now(clock));
 	}
 
 	@Override
 	public Class<?> getInitializerServiceClass() { return CStorageItemInitializerService.class; }
 
-	public java.util.List<CStorageItem> getItemsExpiringSoon(final CProject<?> project, final int days) {
-		final LocalDate threshold = LocalDate.now(clock).plusDays(days);
-		return ((IStorageItemRepository) repository).listByProjectForPageView(project).stream()
-				.filter(i -> Boolean.TRUE.equals(i.getTrackExpiration()) && i.getExpirationDate() != null && !i.getExpirationDate().isAfter(threshold)
-						&& !i.getExpirationDate().isBefore(LocalDate.now(clock)))
-				.toList();
+	public List<CStorageItem> getItemsExpiringSoon(final CProject<?> project, final int days) {
+		Check.notNull(project, "Project cannot be null");
+		final LocalDate today = LocalDate.now(clock);
+		return getStorageItemRepository().findExpiringBetween(project, today, today.plusDays(days));
 	}
 
-	public java.util.List<CStorageItem> getLowStockItems(final CProject<?> project) {
-		return ((IStorageItemRepository) repository).listByProjectForPageView(project).stream().filter(CStorageItem::isLowStock).toList();
+	public List<CStorageItem> getLowStockItems(final CProject<?> project) {
+		Check.notNull(project, "Project cannot be null");
+		return getStorageItemRepository().findLowStock(project);
 	}
 
 	@Override
@@ -156,6 +181,8 @@ public class CStorageItemService extends CProjectItemService<CStorageItem, CStor
 	@Override
 	public Class<?> getServiceClass() { return this.getClass(); }
 
+	private IStorageItemRepository getStorageItemRepository() { return (IStorageItemRepository) repository; }
+
 	@Override
 	public void initializeNewEntity(final Object entity) {
 		super.initializeNewEntity(entity);
@@ -168,16 +195,35 @@ public class CStorageItemService extends CProjectItemService<CStorageItem, CStor
 	@Transactional
 	public void removeStock(final CStorageItem item, final BigDecimal quantity, final CTransactionType type, final String description) {
 		Check.notNull(item, "Item cannot be null");
+		Check.notNull(item.getId(), "Item must be saved before booking stock");
 		Check.notNull(quantity, "Quantity cannot be null");
 		Check.isTrue(quantity.signum() > 0, "Quantity must be positive");
-		final BigDecimal before = item.getCurrentQuantity();
-		if (before.compareTo(quantity) < 0) {
+		// The balance check is part of the update, so two concurrent removals can never both pass it
+		if (getStorageItemRepository().decrementQuantity(item.getId(), quantity) == 0) {
 			throw new CValidationException("Insufficient stock for removal.");
 		}
-		final BigDecimal after = before.subtract(quantity);
-		item.setCurrentQuantity(after);
-		save(item);
-		transactionService.createTransaction(item, type, quantity, before, after, description, null);
+		final BigDecimal after = getStorageItemRepository().findCurrentQuantity(item.getId());
+		item.setBookedQuantity(after);
+		transactionService.createTransaction(item, type, quantity, after.add(quantity), after, description, null);
+	}
+
+	/** Saves the item. The balance column is written only on insert; afterwards it changes through stock bookings alone, so a quantity edited in
+	 * the form is booked as an adjustment and an untouched (possibly stale) quantity is ignored. A new item with stock gets an opening ledger
+	 * entry. */
+	@Override
+	@Transactional
+	public CStorageItem save(final CStorageItem item) {
+		Check.notNull(item, "Item cannot be null");
+		final boolean isNew = item.getId() == null;
+		final boolean quantityEdited = item.isCurrentQuantityEdited();
+		final BigDecimal requested = item.getCurrentQuantity();
+		final CStorageItem saved = super.save(item);
+		if (isNew && requested != null && requested.signum() != 0) {
+			transactionService.createTransaction(saved, CTransactionType.ADJUSTMENT, requested, BigDecimal.ZERO, requested, "Opening balance", null);
+		} else if (!isNew && quantityEdited) {
+			adjustStock(saved, requested, "Quantity edited");
+		}
+		return saved;
 	}
 
 	@Transactional
@@ -1,9 +1,13 @@
 package tech.derbent.plm.storage.storageitem.service;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import tech.derbent.api.entityOfProject.service.IEntityOfProjectRepository;
 import tech.derbent.api.projects.domain.CProject;
 import tech.derbent.plm.storage.storage.domain.CStorage;
@@ -18,6 +22,52 @@ public interface IStorageItemRepository extends IEntityOfProjectRepository<CStor
     @Query("SELECT COUNT(i) FROM #{#entityName} i WHERE i.storage = :storage")
     long countByStorage(@Param("storage") CStorage storage);
 
+    /** Sets the balance only if it still holds the expected value; returns 0 when another booking got there first. */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE cstorageitem SET current_quantity = :newQuantity WHERE storageitem_id = :id AND current_quantity = :expected",
+            nativeQuery = true)
+    int compareAndSetQuantity(@Param("id") Long id, @Param("expected") BigDecimal expected, @Param("newQuantity") BigDecimal newQuantity);
+
+    /** Atomically takes stock out; returns 0 (and changes nothing) when the balance is too low. */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE cstorageitem SET current_quantity = current_quantity - :quantity WHERE storageitem_id = :id AND current_quantity >= :quantity",
+            nativeQuery = true)
+    int decrementQuantity(@Param("id") Long id, @Param("quantity") BigDecimal quantity);
+
+    @Query("SELECT i.currentQuantity FROM #{#entityName} i WHERE i.id = :id")
+    BigDecimal findCurrentQuantity(@Param("id") Long id);
+
+    @Query("""
+            SELECT i FROM CStorageItem i
+            WHERE i.project = :project AND i.trackExpiration = true AND i.expirationDate < :day
+            ORDER BY i.expirationDate ASC, i.name ASC
+            """)
+    List<CStorageItem> findExpiredBefore(@Param("project") CProject<?> project, @Param("day") LocalDate day);
+
+    @Query("""
+            SELECT i FROM CStorageItem i
+            WHERE i.project = :project AND i.trackExpiration = true AND i.expirationDate BETWEEN :fromDay AND :toDay
+            ORDER BY i.expirationDate ASC, i.name ASC
+            """)
+    List<CStorageItem> findExpiringBetween(@Param("project") CProject<?> project, @Param("fromDay") LocalDate fromDay,
+            @Param("toDay") LocalDate toDay);
+
+    @Query("""
+            SELECT i FROM CStorageItem i
+            WHERE i.project = :project AND i.minimumStockLevel IS NOT NULL AND i.currentQuantity <= i.minimumStockLevel
+            ORDER BY i.name ASC
+            """)
+    List<CStorageItem> findLowStock(@Param("project") CProject<?> project);
+
+    /** Atomically adds stock and stamps the restock date. */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE cstorageitem SET current_quantity = current_quantity + :quantity, last_restocked_date = :day WHERE storageitem_id = :id",
+            nativeQuery = true)
+    int incrementQuantity(@Param("id") Long id, @Param("quantity") BigDecimal quantity, @Param("day") LocalDate day);
+
     @Query("""
             SELECT i FROM CStorageItem i
             WHERE i.project = :project AND ((:sku IS NOT NULL AND i.sku = :sku) OR (:barcode IS NOT NULL AND i.barcode = :barcode))
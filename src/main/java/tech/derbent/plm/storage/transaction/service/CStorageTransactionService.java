@@ -77,7 +77,8 @@ public class CStorageTransactionService extends CEntityOfCompanyService<CStorage
 		Check.notNull(quantity, "Quantity is required");
 		Check.isTrue(quantity.signum() != 0, "Quantity cannot be zero");
 		Check.notNull(item.getProject(), "Storage item must belong to a project");
-		final CCompany company = sessionService.getActiveCompany().orElseGet(() -> item.getProject().getCompany());
+		// The item's company, not the session's: bookings also run from background jobs without a Vaadin session
+		final CCompany company = item.getProject().getCompany();
 		final CStorageTransaction tx = new CStorageTransaction(item.getName() + " - " + type.name(), company);
 		tx.setStorageItem(item);
 		tx.setTransactionType(type);
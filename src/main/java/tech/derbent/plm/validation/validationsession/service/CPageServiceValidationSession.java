@@ -21,12 +21,14 @@ public class CPageServiceValidationSession extends CPageServiceDynamicPage<CVali
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CPageServiceValidationSession.class);
 	private CButton buttonExecute;
+	private final CValidationAutoSaveService validationAutoSaveService;
 	private final CValidationSessionService validationSessionService;
 
 	public CPageServiceValidationSession(final IPageServiceImplementer<CValidationSession> view) {
 		super(view);
 		// Page services are not always constructed by Spring, so fetch the dependency explicitly.
 		validationSessionService = CSpringContext.getBean(CValidationSessionService.class);
+		validationAutoSaveService = CSpringContext.getBean(CValidationAutoSaveService.class);
 	}
 
 	@Override
@@ -60,7 +62,7 @@ public class CPageServiceValidationSession extends CPageServiceDynamicPage<CVali
 		try {
 			LOGGER.debug("Creating validation execution component");
 			Check.notNull(validationSessionService, "ValidationSessionService must be injected");
-			final CComponentValidationExecution component = new CComponentValidationExecution(validationSessionService);
+			final CComponentValidationExecution component = new CComponentValidationExecution(validationSessionService, validationAutoSaveService);
 			registerComponent(component.getComponentName(), component);
 			LOGGER.debug("Validation execution component created and registered");
 			return component;
@@ -76,6 +78,9 @@ public class CPageServiceValidationSession extends CPageServiceDynamicPage<CVali
 			final CValidationSession currentSession = getView().getValue();
 			Check.notNull(currentSession, "No validation session selected for execution");
 			Check.notNull(currentSession.getId(), "Validation session must be saved before execution");
+			// WHY: sessions created in the UI have no results yet; creating them is a no-op when they already exist.
+			validationSessionService.executeValidationSession(currentSession, (created, total) -> LOGGER
+					.debug("Validation session {}: {} of {} step results created", currentSession.getId(), created, total));
 			LOGGER.info("Navigating to validation execution view for session: {} (ID: {})", currentSession.getName(), currentSession.getId());
 			// Navigate to the execution view page
 			// The execution view will be created by the initializer with a separate route
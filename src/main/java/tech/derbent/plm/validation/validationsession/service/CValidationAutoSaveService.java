@@ -0,0 +1,348 @@
+package tech.derbent.plm.validation.validationsession.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import tech.derbent.api.utils.Check;
+import tech.derbent.plm.validation.validationsession.domain.CValidationCaseResult;
+import tech.derbent.plm.validation.validationsession.domain.CValidationStepResult;
+import tech.derbent.plm.validation.validationsession.service.CValidationCaseResultService.CCaseResultChange;
+import tech.derbent.plm.validation.validationsession.service.CValidationStepResultService.CStepResultChange;
+
+/** Application-wide auto-save for validation execution.
+ * <p>
+ * WHY: every open execution view used to own a scheduled executor that re-saved the whole session graph every 30 seconds. With many testers that is
+ * one platform thread per tester and a full graph merge per tick. This service keeps one scheduler thread for the whole application; views only
+ * report which step and case results changed. Edits are coalesced per session (the latest values of a row win) and each flush writes just those
+ * rows through {@link CValidationStepResultService#applyChanges} and {@link CValidationCaseResultService#applyChanges}.
+ * </p>
+ * <p>
+ * Flushes run on virtual threads when the runtime offers them (Java 21+), otherwise on a small bounded pool. Flushes of one session are serialised
+ * so an older batch can never overwrite a newer one.
+ * </p>
+ * <p>
+ * RULE: a failed batch is retried row by row, so one invalid row cannot block the rest of the session. Rows that still fail are re-queued (unless
+ * the row was edited again meanwhile) and dropped after {@link #MAX_FLUSH_ATTEMPTS} failed flushes; the view that made the edit is told through
+ * its rejection callback. Re-queued rows keep the time of their first edit, so {@code .delay} reports how long they really stayed unsaved.
+ * </p>
+ * <p>
+ * Metrics: {@code derbent.validation.autosave.pending.rows}/{@code .pending.sessions} (gauges), {@code .flush} (flush latency),
+ * {@code .delay} (first unsaved edit → persisted), {@code .coalesced} (edits merged into a pending row), {@code .failures} and {@code .dropped}
+ * (rows given up after {@link #MAX_FLUSH_ATTEMPTS}).
+ * </p>
+ */
+@Service
+@Profile ({
+		"derbent", "default"
+})
+public class CValidationAutoSaveService {
+
+	/** Unsaved changes of one kind of row, by row id, with the failed flushes per row id; a new edit of a row resets its count. */
+	private static final class CPendingRows<C> {
+
+		private final Map<Long, C> changes = new ConcurrentHashMap<>();
+		private final Map<Long, Integer> failedAttempts = new ConcurrentHashMap<>();
+
+		void put(final Long id, final C change, final Counter coalescedCounter) {
+			failedAttempts.remove(id);
+			if (changes.put(id, change) != null) {
+				coalescedCounter.increment();
+			}
+		}
+
+		/** Adds failed rows unless the row was edited again meanwhile; newer values win and start with a fresh attempt count. */
+		void requeue(final CPendingRows<C> failed) {
+			failed.changes.forEach((id, change) -> {
+				if (changes.putIfAbsent(id, change) == null) {
+					failedAttempts.put(id, failed.failedAttempts.get(id));
+				}
+			});
+		}
+	}
+
+	/** Unsaved step and case result changes of one session plus the callback of the view that made the latest edit. */
+	private static final class CPendingSession {
+
+		private final CPendingRows<CCaseResultChange> caseResults = new CPendingRows<>();
+		/** Nanotime of the first edit since the last successful flush; start of the {@code .delay} metric. */
+		private long firstDirtyNanos;
+		private volatile Runnable onFlushed;
+		private volatile Consumer<String> onRejected;
+		private final CPendingRows<CStepResultChange> stepResults = new CPendingRows<>();
+
+		CPendingSession(final long firstDirtyNanos) {
+			this.firstDirtyNanos = firstDirtyNanos;
+		}
+
+		boolean isEmpty() { return stepResults.changes.isEmpty() && caseResults.changes.isEmpty(); }
+
+		int size() { return stepResults.changes.size() + caseResults.changes.size(); }
+	}
+
+	private static final int FALLBACK_FLUSH_THREADS = 4;
+	private static final int LOCK_STRIPES = 64;
+	private static final Logger LOGGER = LoggerFactory.getLogger(CValidationAutoSaveService.class);
+	/** Failed flushes after which a row's edit is dropped instead of re-queued. */
+	static final int MAX_FLUSH_ATTEMPTS = 3;
+
+	/** Virtual-thread executor when available. Looked up reflectively because the agents build still compiles with release 17. */
+	private static ExecutorService createFlushExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (final ReflectiveOperationException e) {
+			LOGGER.info("Virtual threads not available; validation auto-save uses {} platform threads", FALLBACK_FLUSH_THREADS);
+			final AtomicInteger counter = new AtomicInteger();
+			return Executors.newFixedThreadPool(FALLBACK_FLUSH_THREADS, runnable -> {
+				final Thread thread = new Thread(runnable, "validation-autosave-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	@Value ("${derbent.validation.autosave.interval-seconds:5}")
+	private long intervalSeconds;
+	private final Counter coalescedCounter;
+	private final Timer delayTimer;
+	private final Counter droppedCounter;
+	private final Counter failureCounter;
+	private final ExecutorService flushExecutor = createFlushExecutor();
+	private final Timer flushTimer;
+	private final CValidationCaseResultService caseResultService;
+	private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+	private final Map<Long, CPendingSession> pendingSessions = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		final Thread thread = new Thread(runnable, "validation-autosave-scheduler");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final CValidationStepResultService stepResultService;
+
+	public CValidationAutoSaveService(final CValidationStepResultService stepResultService, final CValidationCaseResultService caseResultService,
+			final MeterRegistry meterRegistry) {
+		Check.notNull(stepResultService, "Validation step result service cannot be null");
+		Check.notNull(caseResultService, "Validation case result service cannot be null");
+		this.stepResultService = stepResultService;
+		this.caseResultService = caseResultService;
+		for (int i = 0; i < LOCK_STRIPES; i++) {
+			locks[i] = new ReentrantLock();
+		}
+		Gauge.builder("derbent.validation.autosave.pending.rows", this, CValidationAutoSaveService::getPendingRowCount)
+				.description("Step and case results edited but not yet persisted").register(meterRegistry);
+		Gauge.builder("derbent.validation.autosave.pending.sessions", pendingSessions, Map::size)
+				.description("Validation sessions with unsaved edits").register(meterRegistry);
+		flushTimer = Timer.builder("derbent.validation.autosave.flush").description("Time to persist one session's dirty rows")
+				.register(meterRegistry);
+		delayTimer = Timer.builder("derbent.validation.autosave.delay").description("Time from the first unsaved edit until it is persisted")
+				.register(meterRegistry);
+		coalescedCounter = Counter.builder("derbent.validation.autosave.coalesced").description("Edits merged into an already pending row")
+				.register(meterRegistry);
+		failureCounter = Counter.builder("derbent.validation.autosave.failures").description("Failed auto-save flushes").register(meterRegistry);
+		droppedCounter = Counter.builder("derbent.validation.autosave.dropped")
+				.description("Row edits given up after repeated failed flushes").register(meterRegistry);
+	}
+
+	/** Persists the pending edits of one session on the calling thread. Used for explicit saves (Save &amp; Exit, complete, view detach).
+	 * @return number of step and case results written */
+	public int flushNow(final Long sessionId) {
+		if (sessionId == null) {
+			return 0;
+		}
+		return flushSession(sessionId, true);
+	}
+
+	private int flushSession(final Long sessionId, final boolean rethrow) {
+		final ReentrantLock lock = locks[Math.floorMod(sessionId.hashCode(), LOCK_STRIPES)];
+		lock.lock();
+		try {
+			final CPendingSession pending = pendingSessions.remove(sessionId);
+			if (pending == null || pending.isEmpty()) {
+				return 0;
+			}
+			final CPendingSession failed = new CPendingSession(pending.firstDirtyNanos);
+			failed.onFlushed = pending.onFlushed;
+			failed.onRejected = pending.onRejected;
+			final List<RuntimeException> errors = new ArrayList<>(1);
+			final long start = System.nanoTime();
+			final int written = write(sessionId, pending, pending.stepResults, failed.stepResults, CStepResultChange::stepResultId,
+					stepResultService::applyChanges, "Step result", errors)
+					+ write(sessionId, pending, pending.caseResults, failed.caseResults, CCaseResultChange::caseResultId,
+							caseResultService::applyChanges, "Case result", errors);
+			if (!failed.isEmpty()) {
+				requeue(sessionId, failed);
+				if (rethrow) {
+					throw errors.get(0);
+				}
+				return written;
+			}
+			final long end = System.nanoTime();
+			flushTimer.record(end - start, TimeUnit.NANOSECONDS);
+			delayTimer.record(end - pending.firstDirtyNanos, TimeUnit.NANOSECONDS);
+			LOGGER.debug("Auto-saved {} rows of validation session {}", written, sessionId);
+			final Runnable onFlushed = pending.onFlushed;
+			if (onFlushed != null) {
+				onFlushed.run();
+			}
+			return written;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/** Writes one kind of pending row as a batch; when the batch fails, each row is written in its own transaction. Rows that fail go to
+	 * {@code failed} with their attempt count, or are dropped and reported once they reach {@link #MAX_FLUSH_ATTEMPTS}. The batch exception is
+	 * added to {@code errors}.
+	 * @return number of rows written */
+	private <C> int write(final Long sessionId, final CPendingSession pending, final CPendingRows<C> rows, final CPendingRows<C> failed,
+			final Function<C, Long> idOf, final ToIntFunction<Collection<C>> writer, final String label, final List<RuntimeException> errors) {
+		if (rows.changes.isEmpty()) {
+			return 0;
+		}
+		final List<C> batch = new ArrayList<>(rows.changes.values());
+		try {
+			return writer.applyAsInt(batch);
+		} catch (final RuntimeException e) {
+			failureCounter.increment();
+			errors.add(e);
+			LOGGER.warn("Auto-save of validation session {} failed for a batch of {} rows, retrying row by row: {}", sessionId, batch.size(),
+					e.getMessage());
+		}
+		int written = 0;
+		for (final C change : batch) {
+			final Long id = idOf.apply(change);
+			try {
+				written += writer.applyAsInt(List.of(change));
+			} catch (final RuntimeException e) {
+				final int attempts = rows.failedAttempts.getOrDefault(id, 0) + 1;
+				if (attempts < MAX_FLUSH_ATTEMPTS) {
+					failed.changes.put(id, change);
+					failed.failedAttempts.put(id, attempts);
+					LOGGER.error("Auto-save of {} {} in validation session {} failed (attempt {} of {}): {}", label.toLowerCase(), id, sessionId,
+							attempts, MAX_FLUSH_ATTEMPTS, e.getMessage());
+					continue;
+				}
+				droppedCounter.increment();
+				LOGGER.error("Auto-save of {} {} in validation session {} dropped after {} attempts: {}", label.toLowerCase(), id, sessionId,
+						attempts, e.getMessage());
+				final Consumer<String> onRejected = pending.onRejected;
+				if (onRejected != null) {
+					onRejected.accept(label + " " + id + " could not be saved: " + e.getMessage());
+				}
+			}
+		}
+		return written;
+	}
+
+	private void flushAllPending() {
+		try {
+			for (final Long sessionId : pendingSessions.keySet()) {
+				flushExecutor.execute(() -> flushSession(sessionId, false));
+			}
+		} catch (final RuntimeException e) {
+			// An exception would cancel the periodic task; keep ticking.
+			LOGGER.error("Scheduling validation auto-save flushes failed: {}", e.getMessage());
+		}
+	}
+
+	/** Number of step and case results edited but not yet persisted, across all sessions. */
+	public int getPendingRowCount() { return pendingSessions.values().stream().mapToInt(CPendingSession::size).sum(); }
+
+	private void markDirty(final Long sessionId, final Runnable onFlushed, final Consumer<String> onRejected, final Consumer<CPendingSession> edit) {
+		Check.notNull(sessionId, "Validation session id cannot be null");
+		// compute() is atomic with the flush's remove(), so an edit never lands in a batch that is already being written.
+		pendingSessions.compute(sessionId, (id, existing) -> {
+			final CPendingSession pending = existing != null ? existing : new CPendingSession(System.nanoTime());
+			if (onFlushed != null) {
+				pending.onFlushed = onFlushed;
+			}
+			if (onRejected != null) {
+				pending.onRejected = onRejected;
+			}
+			edit.accept(pending);
+			return pending;
+		});
+	}
+
+	/** Records the current result of a case result for the next flush; see {@link #markDirty(Long, CValidationStepResult, Runnable, Consumer)}. */
+	public void markDirty(final Long sessionId, final CValidationCaseResult caseResult, final Runnable onFlushed,
+			final Consumer<String> onRejected) {
+		final CCaseResultChange change = CCaseResultChange.of(caseResult);
+		markDirty(sessionId, onFlushed, onRejected, pending -> pending.caseResults.put(change.caseResultId(), change, coalescedCounter));
+	}
+
+	/** Records the current values of a step result for the next flush. Call on the UI thread right after the view changed the entity.
+	 * @param sessionId  owning validation session
+	 * @param stepResult step result with the edited values
+	 * @param onFlushed  optional callback after the step has been persisted by a background flush (e.g. update a "Saved" indicator via ui.access)
+	 * @param onRejected optional callback with a message when an edit is dropped after {@link #MAX_FLUSH_ATTEMPTS} failed flushes */
+	public void markDirty(final Long sessionId, final CValidationStepResult stepResult, final Runnable onFlushed,
+			final Consumer<String> onRejected) {
+		final CStepResultChange change = CStepResultChange.of(stepResult);
+		markDirty(sessionId, onFlushed, onRejected, pending -> pending.stepResults.put(change.stepResultId(), change, coalescedCounter));
+	}
+
+	/** Discards unsaved edits of a session, e.g. after the session was completed through a full save. */
+	public void discard(final Long sessionId) {
+		if (sessionId != null) {
+			pendingSessions.remove(sessionId);
+		}
+	}
+
+	private void requeue(final Long sessionId, final CPendingSession failed) {
+		pendingSessions.compute(sessionId, (id, current) -> {
+			if (current == null) {
+				return failed;
+			}
+			current.stepResults.requeue(failed.stepResults);
+			current.caseResults.requeue(failed.caseResults);
+			// The failed rows are older than any edit made during the flush.
+			current.firstDirtyNanos = failed.firstDirtyNanos;
+			if (current.onFlushed == null) {
+				current.onFlushed = failed.onFlushed;
+			}
+			if (current.onRejected == null) {
+				current.onRejected = failed.onRejected;
+			}
+			return current;
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		scheduler.shutdownNow();
+		// Last chance for edits made just before shutdown.
+		for (final Long sessionId : new ArrayList<>(pendingSessions.keySet())) {
+			flushSession(sessionId, false);
+		}
+		flushExecutor.shutdown();
+	}
+
+	@PostConstruct
+	public void start() {
+		final long interval = Math.max(1, intervalSeconds);
+		scheduler.scheduleWithFixedDelay(this::flushAllPending, interval, interval, TimeUnit.SECONDS);
+		LOGGER.info("Validation auto-save started (interval={}s)", interval);
+	}
+}
@@ -1,14 +1,21 @@
 package tech.derbent.plm.validation.validationsession.service;
 
 import java.time.Clock;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.html.Div;
 import tech.derbent.api.config.CSpringContext;
 import tech.derbent.api.entity.service.CAbstractService;
 import tech.derbent.plm.validation.validationsession.domain.CValidationCaseResult;
+import tech.derbent.plm.validation.validationsession.domain.CValidationResult;
+import tech.derbent.plm.validation.validationsession.domain.CValidationStepResult;
 import tech.derbent.plm.validation.validationsession.view.CComponentListValidationCaseResults;
 import tech.derbent.api.session.service.ISessionService;
 
@@ -19,8 +26,37 @@ import tech.derbent.api.utils.Check;
 @Service
 public class CValidationCaseResultService extends CAbstractService<CValidationCaseResult> {
 
+	/** Values the execution view derives for one case result, copied on the UI thread so the auto-save never reads a live entity. */
+	public record CCaseResultChange(Long caseResultId, CValidationResult result) {
+
+		public static CCaseResultChange of(final CValidationCaseResult caseResult) {
+			Check.notNull(caseResult, "Validation case result cannot be null");
+			Check.notNull(caseResult.getId(), "Validation case result must be saved before it can be auto-saved");
+			return new CCaseResultChange(caseResult.getId(), caseResult.getResult());
+		}
+	}
+
 	private static final Logger LOGGER = LoggerFactory.getLogger(CValidationCaseResultService.class);
 
+	/** Result of a case from the results of its steps: a failed or blocked step decides the case, untouched steps keep it open, and a case
+	 * whose steps all ended the same way takes that result. Passed and skipped steps together give {@link CValidationResult#PARTIAL}. */
+	public static CValidationResult resultOf(final Collection<CValidationStepResult> stepResults) {
+		if (stepResults == null || stepResults.isEmpty()) {
+			return CValidationResult.NOT_EXECUTED;
+		}
+		final List<CValidationResult> results = stepResults.stream().map(CValidationStepResult::getResult).toList();
+		if (results.contains(CValidationResult.FAILED)) {
+			return CValidationResult.FAILED;
+		}
+		if (results.contains(CValidationResult.BLOCKED)) {
+			return CValidationResult.BLOCKED;
+		}
+		if (results.stream().allMatch(result -> result == results.get(0))) {
+			return results.get(0);
+		}
+		return results.contains(CValidationResult.NOT_EXECUTED) ? CValidationResult.IN_PROGRESS : CValidationResult.PARTIAL;
+	}
+
 	public CValidationCaseResultService(final IValidationCaseResultRepository repository, final Clock clock, final ISessionService sessionService) {
 		super(repository, clock, sessionService);
 	}
@@ -38,6 +74,23 @@ public class CValidationCaseResultService extends CAbstractService<CValidationCa
 		validateStringLength(entity.getErrorDetails(), "Error Details", 5000);
 	}
 
+	/** Writes the given case result changes and nothing else; see {@link CValidationStepResultService#applyChanges}.
+	 * @return number of case results found and applied; rows deleted meanwhile are ignored */
+	@Transactional
+	public int applyChanges(final Collection<CCaseResultChange> changes) {
+		if (changes == null || changes.isEmpty()) {
+			return 0;
+		}
+		final Map<Long, CCaseResultChange> changesById = new LinkedHashMap<>();
+		changes.forEach(change -> changesById.put(change.caseResultId(), change));
+		final List<CValidationCaseResult> caseResults = repository.findAllById(changesById.keySet());
+		for (final CValidationCaseResult caseResult : caseResults) {
+			caseResult.setResult(changesById.get(caseResult.getId()).result());
+			save(caseResult);
+		}
+		return caseResults.size();
+	}
+
 	public Component createComponentListValidationCaseResults() {
 		try {
 			final ISessionService sessionService1 = CSpringContext.getBean(ISessionService.class);
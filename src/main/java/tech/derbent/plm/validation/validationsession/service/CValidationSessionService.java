@@ -3,14 +3,14 @@ package tech.derbent.plm.validation.validationsession.service;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
+import java.util.function.BiConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import jakarta.annotation.security.PermitAll;
 import tech.derbent.api.entity.domain.CEntityDB;
 import tech.derbent.api.entityOfProject.service.CEntityOfProjectService;
@@ -21,12 +21,8 @@ import tech.derbent.api.registry.IEntityWithView;
 import tech.derbent.api.utils.Check;
 import tech.derbent.api.validation.ValidationMessages;
 import tech.derbent.api.session.service.ISessionService;
-import tech.derbent.plm.validation.validationcase.domain.CValidationCase;
-import tech.derbent.plm.validation.validationsession.domain.CValidationCaseResult;
 import tech.derbent.plm.validation.validationsession.domain.CValidationResult;
 import tech.derbent.plm.validation.validationsession.domain.CValidationSession;
-import tech.derbent.plm.validation.validationsession.domain.CValidationStepResult;
-import tech.derbent.plm.validation.validationstep.domain.CValidationStep;
 import tech.derbent.plm.validation.validationsuite.domain.CValidationSuite;
 
 @Profile({"derbent", "default"})
@@ -35,10 +31,37 @@ import tech.derbent.plm.validation.validationsuite.domain.CValidationSuite;
 @PermitAll
 public class CValidationSessionService extends CEntityOfProjectService<CValidationSession> implements IEntityRegistrable, IEntityWithView {
 
+	/** Passed/failed/total counts of one result histogram. Rows are {@code [CValidationResult result, Long count]}; null results count as total only. */
+	private record CResultCounts(int total, int passed, int failed) {
+
+		static CResultCounts of(final List<Object[]> rows) {
+			int total = 0;
+			int passed = 0;
+			int failed = 0;
+			for (final Object[] row : rows) {
+				final int count = ((Number) row[1]).intValue();
+				total += count;
+				if (row[0] == CValidationResult.PASSED) {
+					passed += count;
+				} else if (row[0] == CValidationResult.FAILED) {
+					failed += count;
+				}
+			}
+			return new CResultCounts(total, passed, failed);
+		}
+	}
+
 	private static final Logger LOGGER = LoggerFactory.getLogger(CValidationSessionService.class);
+	/** Case results whose step results are created per INSERT ... SELECT; bounds the IN list and sets the progress granularity. */
+	static final int STEP_INSERT_CASE_CHUNK = 200;
+	private final IValidationCaseResultRepository caseResultRepository;
+	private final IValidationStepResultRepository stepResultRepository;
 
-	CValidationSessionService(final IValidationSessionRepository repository, final Clock clock, final ISessionService sessionService) {
+	CValidationSessionService(final IValidationSessionRepository repository, final Clock clock, final ISessionService sessionService,
+			final IValidationCaseResultRepository caseResultRepository, final IValidationStepResultRepository stepResultRepository) {
 		super(repository, clock, sessionService);
+		this.caseResultRepository = caseResultRepository;
+		this.stepResultRepository = stepResultRepository;
 	}
 
 	@Override
@@ -47,96 +70,101 @@ public class CValidationSessionService extends CEntityOfProjectService<CValidati
 	}
 
 	/** Complete a validation session by calculating statistics and setting overall result.
-	 * @param validationSession the validation session to complete
+	 * <p>
+	 * WHY: statistics come from two GROUP BY queries instead of walking every case and step result. The session row is saved through
+	 * {@link #save} so entity validation still applies, but the result graph is not merged: step values are persisted by
+	 * {@link CValidationAutoSaveService} and callers flush it before completing.
+	 * </p>
+	 * @param validationSession the validation session to complete; receives the calculated values as well
 	 * @return the completed validation session with calculated statistics */
+	@Transactional
 	public CValidationSession completeValidationSession(final CValidationSession validationSession) {
 		Check.notNull(validationSession, "Validation session cannot be null");
+		Check.notNull(validationSession.getId(), "Validation session must be saved before it can be completed");
 		LOGGER.debug("Completing validation session {}", validationSession.getId());
-		validationSession.setExecutionEnd(LocalDateTime.now(clock));
-		if (validationSession.getExecutionStart() != null && validationSession.getExecutionEnd() != null) {
-			final long durationMs = Duration.between(validationSession.getExecutionStart(), validationSession.getExecutionEnd()).toMillis();
-			validationSession.setDurationMs(durationMs);
+		final CValidationSession managed = repository.findById(validationSession.getId())
+				.orElseThrow(() -> new IllegalStateException("Validation session " + validationSession.getId() + " no longer exists"));
+		final CResultCounts cases = CResultCounts.of(caseResultRepository.countByResultForSession(managed.getId()));
+		final CResultCounts steps = CResultCounts.of(stepResultRepository.countByResultForSession(managed.getId()));
+		managed.setExecutionEnd(LocalDateTime.now(clock));
+		if (managed.getExecutionStart() != null) {
+			final long durationMs = Duration.between(managed.getExecutionStart(), managed.getExecutionEnd()).toMillis();
+			managed.setDurationMs(durationMs);
 			LOGGER.debug("Validation session duration calculated: {} ms", durationMs);
 		}
-		int totalCases = 0;
-		int passedCases = 0;
-		int failedCases = 0;
-		int totalSteps = 0;
-		int passedSteps = 0;
-		int failedSteps = 0;
-		for (final CValidationCaseResult caseResult : validationSession.getValidationCaseResults()) {
-			totalCases++;
-			if (caseResult.getResult() == CValidationResult.PASSED) {
-				passedCases++;
-			} else if (caseResult.getResult() == CValidationResult.FAILED) {
-				failedCases++;
-			}
-			for (final CValidationStepResult stepResult : caseResult.getValidationStepResults()) {
-				totalSteps++;
-				if (stepResult.getResult() == CValidationResult.PASSED) {
-					passedSteps++;
-				} else if (stepResult.getResult() == CValidationResult.FAILED) {
-					failedSteps++;
-				}
-			}
-		}
-		validationSession.setTotalValidationCases(totalCases);
-		validationSession.setPassedValidationCases(passedCases);
-		validationSession.setFailedValidationCases(failedCases);
-		validationSession.setTotalValidationSteps(totalSteps);
-		validationSession.setPassedValidationSteps(passedSteps);
-		validationSession.setFailedValidationSteps(failedSteps);
-		if (failedCases > 0) {
-			validationSession.setResult(passedCases > 0 ? CValidationResult.PARTIAL : CValidationResult.FAILED);
-		} else if (passedCases == totalCases && totalCases > 0) {
-			validationSession.setResult(CValidationResult.PASSED);
+		managed.setTotalValidationCases(cases.total());
+		managed.setPassedValidationCases(cases.passed());
+		managed.setFailedValidationCases(cases.failed());
+		managed.setTotalValidationSteps(steps.total());
+		managed.setPassedValidationSteps(steps.passed());
+		managed.setFailedValidationSteps(steps.failed());
+		if (cases.failed() > 0) {
+			managed.setResult(cases.passed() > 0 ? CValidationResult.PARTIAL : CValidationResult.FAILED);
+		} else if (cases.passed() == cases.total() && cases.total() > 0) {
+			managed.setResult(CValidationResult.PASSED);
 		} else {
-			validationSession.setResult(CValidationResult.NOT_EXECUTED);
+			managed.setResult(CValidationResult.NOT_EXECUTED);
 		}
-		LOGGER.debug("Validation session statistics - Total: {}, Passed: {}, Failed: {}, Steps: {}/{}/{}", totalCases, passedCases, failedCases,
-				totalSteps, passedSteps, failedSteps);
-		LOGGER.debug("Validation session overall result: {}", validationSession.getResult());
-		return save(validationSession);
+		LOGGER.debug("Validation session statistics - Total: {}, Passed: {}, Failed: {}, Steps: {}/{}/{}", cases.total(), cases.passed(),
+				cases.failed(), steps.total(), steps.passed(), steps.failed());
+		LOGGER.debug("Validation session overall result: {}", managed.getResult());
+		final CValidationSession saved = save(managed);
+		// The caller keeps working with its own (detached) instance and its loaded result graph.
+		validationSession.setExecutionEnd(saved.getExecutionEnd());
+		validationSession.setDurationMs(saved.getDurationMs());
+		validationSession.setTotalValidationCases(saved.getTotalValidationCases());
+		validationSession.setPassedValidationCases(saved.getPassedValidationCases());
+		validationSession.setFailedValidationCases(saved.getFailedValidationCases());
+		validationSession.setTotalValidationSteps(saved.getTotalValidationSteps());
+		validationSession.setPassedValidationSteps(saved.getPassedValidationSteps());
+		validationSession.setFailedValidationSteps(saved.getFailedValidationSteps());
+		validationSession.setResult(saved.getResult());
+		return validationSession;
 	}
 
 	/** Execute a validation session by initializing validation case results and validation step results for all validation cases in the scenario.
 	 * @param validationSession the validation session to execute
 	 * @return the validation session with initialized results */
+	@Transactional
 	public CValidationSession executeValidationSession(final CValidationSession validationSession) {
+		return executeValidationSession(validationSession, null);
+	}
+
+	/** Execute a validation session by initializing validation case results and validation step results for all validation cases in the scenario.
+	 * <p>
+	 * WHY: the results used to be built as entities and cascaded by one {@code save}, i.e. one INSERT round trip per row (IDENTITY ids disable JDBC
+	 * insert batching). Case results are now created with one INSERT ... SELECT and step results with one INSERT ... SELECT per chunk of
+	 * {@value #STEP_INSERT_CASE_CHUNK} cases, so a suite with thousands of steps needs a handful of statements.
+	 * </p>
+	 * @param validationSession the validation session to execute
+	 * @param progress          optional listener called after each chunk with (step results created so far, total steps of the suite)
+	 * @return the validation session reloaded with its results */
+	@Transactional
+	public CValidationSession executeValidationSession(final CValidationSession validationSession, final BiConsumer<Integer, Integer> progress) {
 		Check.notNull(validationSession, "Validation session cannot be null");
 		final CValidationSuite scenario = validationSession.getValidationSuite();
 		Check.notNull(scenario, "Validation session must have a validation suite");
-		LOGGER.debug("Executing validation session {} for scenario {}", validationSession.getId(), scenario.getId());
-		final Set<CValidationCase> validationCasesSet = scenario.getValidationCases();
-		if (validationCasesSet == null || validationCasesSet.isEmpty()) {
-			LOGGER.warn("Validation suite {} has no validation cases", scenario.getId());
-			return validationSession;
+		final Long sessionId = validationSession.getId() != null ? validationSession.getId() : save(validationSession).getId();
+		LOGGER.debug("Executing validation session {} for scenario {}", sessionId, scenario.getId());
+		final int createdCases = caseResultRepository.insertForSuiteCases(sessionId);
+		if (createdCases == 0) {
+			LOGGER.warn("Validation session {} not initialized: suite {} has no validation cases or results already exist", sessionId,
+					scenario.getId());
+			return getById(sessionId).orElse(validationSession);
 		}
-		final List<CValidationCase> validationCases = new java.util.ArrayList<>(validationCasesSet);
-		int executionOrder = 1;
-		for (final CValidationCase validationCase : validationCases) {
-			final CValidationCaseResult caseResult = new CValidationCaseResult(validationSession, validationCase);
-			caseResult.setExecutionOrder(executionOrder++);
-			caseResult.setResult(CValidationResult.NOT_EXECUTED);
-			validationSession.getValidationCaseResults().add(caseResult);
-			LOGGER.debug("Initialized validation case result for validation case {} with order {}", validationCase.getId(),
-					caseResult.getExecutionOrder());
-			final Set<CValidationStep> validationStepsSet = validationCase.getValidationSteps();
-			if (validationStepsSet != null && !validationStepsSet.isEmpty()) {
-				final List<CValidationStep> validationSteps = new java.util.ArrayList<>(validationStepsSet);
-				validationSteps.sort(Comparator.comparing(CValidationStep::getStepOrder));
-				validationSteps.forEach((final CValidationStep validationStep) -> {
-					final CValidationStepResult stepResult = new CValidationStepResult(caseResult, validationStep);
-					stepResult.setResult(CValidationResult.NOT_EXECUTED);
-					stepResult.setActualResult("");
-					caseResult.getValidationStepResults().add(stepResult);
-					LOGGER.debug("Initialized validation step result for step {} with order {}", validationStep.getId(),
-							validationStep.getStepOrder());
-				});
+		final int totalSteps = (int) stepResultRepository.countSuiteStepsForSession(sessionId);
+		final List<Long> caseResultIds = caseResultRepository.findIdsByValidationSessionId(sessionId);
+		int createdSteps = 0;
+		for (int from = 0; from < caseResultIds.size(); from += STEP_INSERT_CASE_CHUNK) {
+			final List<Long> chunk = caseResultIds.subList(from, Math.min(from + STEP_INSERT_CASE_CHUNK, caseResultIds.size()));
+			createdSteps += stepResultRepository.insertForCaseResults(chunk);
+			if (progress != null) {
+				progress.accept(createdSteps, totalSteps);
 			}
 		}
-		LOGGER.debug("Validation session execution complete with {} validation case results", validationSession.getValidationCaseResults().size());
-		return save(validationSession);
+		LOGGER.debug("Validation session {} initialized with {} validation case results and {} step results", sessionId, createdCases,
+				createdSteps);
+		return getById(sessionId).orElse(validationSession);
 	}
 
 	@Override
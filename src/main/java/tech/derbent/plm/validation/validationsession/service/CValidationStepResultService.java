@@ -1,13 +1,19 @@
 package tech.derbent.plm.validation.validationsession.service;
 
 import java.time.Clock;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.Span;
 import tech.derbent.api.entity.service.CAbstractService;
+import tech.derbent.plm.validation.validationsession.domain.CValidationResult;
 import tech.derbent.plm.validation.validationsession.domain.CValidationStepResult;
 import tech.derbent.api.session.service.ISessionService;
 
@@ -18,6 +24,16 @@ import tech.derbent.api.utils.Check;
 @Service
 public class CValidationStepResultService extends CAbstractService<CValidationStepResult> {
 
+	/** Values the execution view edits on one step result, copied on the UI thread so the auto-save never reads a live entity. */
+	public record CStepResultChange(Long stepResultId, CValidationResult result, String actualResult, String notes) {
+
+		public static CStepResultChange of(final CValidationStepResult stepResult) {
+			Check.notNull(stepResult, "Validation step result cannot be null");
+			Check.notNull(stepResult.getId(), "Validation step result must be saved before it can be auto-saved");
+			return new CStepResultChange(stepResult.getId(), stepResult.getResult(), stepResult.getActualResult(), stepResult.getNotes());
+		}
+	}
+
 	private static final Logger LOGGER = LoggerFactory.getLogger(CValidationStepResultService.class);
 
 	public CValidationStepResultService(final IValidationStepResultRepository repository, final Clock clock, final ISessionService sessionService) {
@@ -39,6 +55,32 @@ public class CValidationStepResultService extends CAbstractService<CValidationSt
 		validateStringLength(entity.getScreenshotPath(), "Screenshot Path", 1000);
 	}
 
+	/** Writes the given step changes and nothing else.
+	 * <p>
+	 * WHY: saving the session re-merges the whole session → case result → step result graph. Here the dirty rows are loaded with one IN query
+	 * and Hibernate's dirty checking issues UPDATEs only for rows whose values differ, grouped into JDBC batches
+	 * ({@code hibernate.jdbc.batch_size}). Every row still goes through {@link #save}, so {@link #validateEntity} applies as for any other save;
+	 * one invalid row rolls back the whole call.
+	 * </p>
+	 * @return number of step results found and applied; rows deleted meanwhile are ignored */
+	@Transactional
+	public int applyChanges(final Collection<CStepResultChange> changes) {
+		if (changes == null || changes.isEmpty()) {
+			return 0;
+		}
+		final Map<Long, CStepResultChange> changesById = new LinkedHashMap<>();
+		changes.forEach(change -> changesById.put(change.stepResultId(), change));
+		final List<CValidationStepResult> stepResults = repository.findAllById(changesById.keySet());
+		for (final CValidationStepResult stepResult : stepResults) {
+			final CStepResultChange change = changesById.get(stepResult.getId());
+			stepResult.setResult(change.result());
+			stepResult.setActualResult(change.actualResult());
+			stepResult.setNotes(change.notes());
+			save(stepResult);
+		}
+		return stepResults.size();
+	}
+
 	public Component createComponentListValidationStepResults() {
 		try {
 			final Div container = new Div();
@@ -1,6 +1,7 @@
 package tech.derbent.plm.validation.validationsession.service;
 
 import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import tech.derbent.api.entity.service.IAbstractRepository;
@@ -23,4 +24,35 @@ public interface IValidationCaseResultRepository extends IAbstractRepository<CVa
 			ORDER BY tcr.id DESC
 			""")
 	List<CValidationCaseResult> findByValidationCase(@Param("validationCase") CValidationCase validationCase);
+
+	/** Result histogram of the case results of one session; each row is {@code [CValidationResult result, Long count]}. */
+	@Query("""
+			SELECT tcr.result, COUNT(tcr) FROM #{#entityName} tcr
+			WHERE tcr.validationSession.id = :sessionId
+			GROUP BY tcr.result
+			""")
+	List<Object[]> countByResultForSession(@Param("sessionId") Long sessionId);
+
+	/** Case result ids of one session in execution order; used to chunk the step result insert. */
+	@Query("""
+			SELECT tcr.id FROM #{#entityName} tcr
+			WHERE tcr.validationSession.id = :sessionId
+			ORDER BY tcr.executionOrder ASC
+			""")
+	List<Long> findIdsByValidationSessionId(@Param("sessionId") Long sessionId);
+
+	/** Creates one NOT_EXECUTED case result per case of the session's suite with a single INSERT ... SELECT; execution order follows case id.
+	 * Does nothing when the session already has case results, so executing a session twice cannot duplicate them.
+	 * @return number of case results created */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+			INSERT INTO CValidationCaseResult (validationSession, validationCase, executionOrder, result, active)
+			SELECT s, vc, CAST(row_number() OVER (ORDER BY vc.id) AS Integer),
+				tech.derbent.plm.validation.validationsession.domain.CValidationResult.NOT_EXECUTED, true
+			FROM CValidationSession s, CValidationCase vc
+			WHERE s.id = :sessionId
+			AND vc.validationSuite = s.validationSuite
+			AND NOT EXISTS (SELECT 1 FROM CValidationCaseResult existing WHERE existing.validationSession = s)
+			""")
+	int insertForSuiteCases(@Param("sessionId") Long sessionId);
 }
@@ -1,6 +1,8 @@
 package tech.derbent.plm.validation.validationsession.service;
 
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import tech.derbent.api.entity.service.IAbstractRepository;
@@ -31,4 +33,33 @@ public interface IValidationStepResultRepository extends IAbstractRepository<CVa
 			ORDER BY tsr.id DESC
 			""")
 	List<CValidationStepResult> findByValidationStep(@Param("validationStep") CValidationStep validationStep);
+
+	/** Result histogram of all step results of one session; each row is {@code [CValidationResult result, Long count]}. */
+	@Query("""
+			SELECT tsr.result, COUNT(tsr) FROM #{#entityName} tsr
+			WHERE tsr.validationCaseResult.validationSession.id = :sessionId
+			GROUP BY tsr.result
+			""")
+	List<Object[]> countByResultForSession(@Param("sessionId") Long sessionId);
+
+	/** Number of steps defined for the cases of the session's suite; the total reported by execution progress. */
+	@Query("""
+			SELECT COUNT(ts) FROM CValidationStep ts, CValidationSession s
+			WHERE s.id = :sessionId
+			AND ts.validationCase.validationSuite = s.validationSuite
+			""")
+	long countSuiteStepsForSession(@Param("sessionId") Long sessionId);
+
+	/** Creates one NOT_EXECUTED step result per step of each given case result's validation case with a single INSERT ... SELECT.
+	 * @param caseResultIds case results to fill; callers pass bounded chunks
+	 * @return number of step results created */
+	@Modifying(flushAutomatically = true)
+	@Query("""
+			INSERT INTO CValidationStepResult (validationCaseResult, validationStep, result, actualResult, active)
+			SELECT tcr, ts, tech.derbent.plm.validation.validationsession.domain.CValidationResult.NOT_EXECUTED, '', true
+			FROM CValidationCaseResult tcr, CValidationStep ts
+			WHERE tcr.id IN :caseResultIds
+			AND ts.validationCase = tcr.validationCase
+			""")
+	int insertForCaseResults(@Param("caseResultIds") Collection<Long> caseResultIds);
 }
@@ -3,10 +3,8 @@ package tech.derbent.plm.validation.validationsession.view;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.Objects;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.vaadin.flow.component.AttachEvent;
@@ -41,6 +39,8 @@ import tech.derbent.plm.validation.validationsession.domain.CValidationCaseResul
 import tech.derbent.plm.validation.validationsession.domain.CValidationResult;
 import tech.derbent.plm.validation.validationsession.domain.CValidationSession;
 import tech.derbent.plm.validation.validationsession.domain.CValidationStepResult;
+import tech.derbent.plm.validation.validationsession.service.CValidationAutoSaveService;
+import tech.derbent.plm.validation.validationsession.service.CValidationCaseResultService;
 import tech.derbent.plm.validation.validationsession.service.CValidationSessionService;
 
 /** CComponentValidationExecution - Main validation execution interface following ISO 29119 and ISTQB standards.
@@ -50,7 +50,7 @@ import tech.derbent.plm.validation.validationsession.service.CValidationSessionS
  * <li>Validation session progress tracking with visual indicators</li>
  * <li>Step-by-step validation execution with expected/actual result comparison</li>
  * <li>Pass/Fail/Skip/Block result recording per step</li>
- * <li>Auto-save functionality with periodic saves</li>
+ * <li>Auto-save of edited step results through the shared {@link CValidationAutoSaveService}</li>
  * <li>Keyboard shortcuts for efficient testing (P/F/S/B for results, Alt+arrows for navigation)</li>
  * <li>Evidence attachment capabilities (screenshots, files)</li>
  * <li>Session completion with statistical summary</li>
@@ -60,14 +60,12 @@ import tech.derbent.plm.validation.validationsession.service.CValidationSessionS
 public class CComponentValidationExecution extends CVerticalLayout
 		implements HasValue<HasValue.ValueChangeEvent<CValidationSession>, CValidationSession>, IPageServiceAutoRegistrable {
 
-	private static final int AUTO_SAVE_INTERVAL_SECONDS = 30;
 	public static final String ID_ROOT = "custom-validation-execution-component";
 	private static final Logger LOGGER = LoggerFactory.getLogger(CComponentValidationExecution.class);
 	private static final long serialVersionUID = 1L;
 	private TextArea actualResultArea;
 	private List<CValidationStepResult> allSteps;
-	private ScheduledExecutorService autoSaveExecutor;
-	private ScheduledFuture<?> autoSaveTask;
+	private final CValidationAutoSaveService autoSaveService;
 	private CButton buttonAttach;
 	private CButton buttonBlock;
 	private CButton buttonComplete;
@@ -83,7 +81,6 @@ public class CComponentValidationExecution extends CVerticalLayout
 	private Div currentTestCard;
 	private CSpan expectedResultLabel;
 	private CHorizontalLayout footerLayout;
-	private volatile boolean hasUnsavedChanges = false;
 	private CH3 headerTitle;
 	private ComboBox<String> jumpToComboBox;
 	private CSpan keyboardHints;
@@ -99,9 +96,12 @@ public class CComponentValidationExecution extends CVerticalLayout
 	private CH4 validationCaseNameLabel;
 	private final CValidationSessionService validationSessionService;
 
-	public CComponentValidationExecution(final CValidationSessionService validationSessionService) {
+	public CComponentValidationExecution(final CValidationSessionService validationSessionService,
+			final CValidationAutoSaveService autoSaveService) {
 		Check.notNull(validationSessionService, "ValidationSessionService cannot be null");
+		Check.notNull(autoSaveService, "ValidationAutoSaveService cannot be null");
 		this.validationSessionService = validationSessionService;
+		this.autoSaveService = autoSaveService;
 		initializeComponent();
 	}
 
@@ -258,7 +258,7 @@ public class CComponentValidationExecution extends CVerticalLayout
 		actualResultArea.setPlaceholder("Enter what actually happened during validation execution...");
 		actualResultArea.addValueChangeListener(e -> {
 			if (e.isFromClient()) {
-				hasUnsavedChanges = true;
+				saveCurrentStep();
 				updateSaveIndicator("Unsaved");
 			}
 		});
@@ -307,7 +307,7 @@ public class CComponentValidationExecution extends CVerticalLayout
 		notesArea.setPlaceholder("Optional additional notes about this step...");
 		notesArea.addValueChangeListener(e -> {
 			if (e.isFromClient()) {
-				hasUnsavedChanges = true;
+				saveCurrentStep();
 				updateSaveIndicator("Unsaved");
 			}
 		});
@@ -367,6 +367,30 @@ public class CComponentValidationExecution extends CVerticalLayout
 	@Override
 	public boolean isRequiredIndicatorVisible() { return false; }
 
+	/** Queues the step's current values for the shared auto-save, together with its case result when the step changed the case's outcome; the
+	 * save indicator turns "Saved" once a background flush wrote them. */
+	private void markStepDirty(final CValidationStepResult step) {
+		if (currentSession == null || currentSession.getId() == null || step.getId() == null) {
+			return;
+		}
+		final UI ui = getUI().orElse(null);
+		final Runnable onFlushed = ui == null ? null : () -> ui.access(() -> updateSaveIndicator("Saved"));
+		final Consumer<String> onRejected = ui == null ? null : message -> ui.access(() -> {
+			updateSaveIndicator("Error");
+			CNotificationService.showError(message);
+		});
+		autoSaveService.markDirty(currentSession.getId(), step, onFlushed, onRejected);
+		final CValidationCaseResult caseResult = step.getValidationCaseResult();
+		if (caseResult == null || caseResult.getId() == null) {
+			return;
+		}
+		final CValidationResult caseOutcome = CValidationCaseResultService.resultOf(caseResult.getValidationStepResults());
+		if (caseOutcome != caseResult.getResult()) {
+			caseResult.setResult(caseOutcome);
+			autoSaveService.markDirty(currentSession.getId(), caseResult, onFlushed, onRejected);
+		}
+	}
+
 	private void on_attach_clicked() {
 		try {
 			CNotificationService.showInfo("File attachment functionality - to be implemented with file upload");
@@ -386,6 +410,7 @@ public class CComponentValidationExecution extends CVerticalLayout
 			final Runnable onConfirm = () -> {
 				try {
 					saveCurrentStep();
+					saveCurrentSession();
 					final CValidationSession completed = validationSessionService.completeValidationSession(currentSession);
 					currentSession = completed;
 					final String summary = """
@@ -483,7 +508,8 @@ public class CComponentValidationExecution extends CVerticalLayout
 			currentStep.setActualResult(actualResultArea.getValue());
 			currentStep.setNotes(notesArea.getValue());
 			LOGGER.debug("Step {} marked as {}", currentStepIndex + 1, result);
-			saveCurrentSession();
+			markStepDirty(currentStep);
+			updateSaveIndicator("Unsaved");
 			highlightResultButton(result);
 			updateHeader();
 			updateFooter();
@@ -524,19 +550,25 @@ public class CComponentValidationExecution extends CVerticalLayout
 	@Override
 	protected void onAttach(final AttachEvent attachEvent) {
 		super.onAttach(attachEvent);
-		startAutoSave();
 		registerKeyboardShortcuts();
-		LOGGER.debug("Validation execution component attached, auto-save started");
+		LOGGER.debug("Validation execution component attached");
 	}
 
 	@Override
 	protected void onDetach(final DetachEvent detachEvent) {
 		super.onDetach(detachEvent);
-		stopAutoSave();
+		// WHY: the shared auto-save would flush later anyway; flushing here keeps "leave the page" equivalent to "save".
+		if (currentSession != null) {
+			try {
+				autoSaveService.flushNow(currentSession.getId());
+			} catch (final Exception e) {
+				LOGGER.error("Failed to flush validation session {} on detach: {}", currentSession.getId(), e.getMessage());
+			}
+		}
 		if (shortcutRegistration != null) {
 			shortcutRegistration.remove();
 		}
-		LOGGER.debug("Validation execution component detached, auto-save stopped");
+		LOGGER.debug("Validation execution component detached");
 	}
 
 	private void populateJumpToComboBox() {
@@ -575,10 +607,9 @@ public class CComponentValidationExecution extends CVerticalLayout
 		}
 		try {
 			updateSaveIndicator("Saving...");
-			validationSessionService.save(currentSession);
-			hasUnsavedChanges = false;
+			final int written = autoSaveService.flushNow(currentSession.getId());
 			updateSaveIndicator("Saved");
-			LOGGER.debug("Validation session saved: {}", currentSession.getId());
+			LOGGER.debug("Validation session {} saved ({} step results written)", currentSession.getId(), written);
 		} catch (final Exception e) {
 			LOGGER.error("Failed to save validation session: {}", e.getMessage());
 			updateSaveIndicator("Error");
@@ -591,9 +622,14 @@ public class CComponentValidationExecution extends CVerticalLayout
 			return;
 		}
 		final CValidationStepResult currentStep = allSteps.get(currentStepIndex);
-		currentStep.setActualResult(actualResultArea.getValue());
-		currentStep.setNotes(notesArea.getValue());
-		hasUnsavedChanges = false;
+		final String actualResult = actualResultArea.getValue();
+		final String notes = notesArea.getValue();
+		if (Objects.equals(actualResult, currentStep.getActualResult()) && Objects.equals(notes, currentStep.getNotes())) {
+			return;
+		}
+		currentStep.setActualResult(actualResult);
+		currentStep.setNotes(notes);
+		markStepDirty(currentStep);
 	}
 
 	@Override
@@ -630,10 +666,12 @@ public class CComponentValidationExecution extends CVerticalLayout
 	public void setValue(final CValidationSession validationSession) {
 		Check.notNull(validationSession, "ValidationSession cannot be null");
 		LOGGER.debug("Loading validation session {} for execution", validationSession.getId());
+		if (currentSession != null && !Objects.equals(currentSession.getId(), validationSession.getId())) {
+			autoSaveService.flushNow(currentSession.getId());
+		}
 		currentSession = validationSession;
 		allSteps = buildStepList();
 		currentStepIndex = findFirstUncompletedStep();
-		hasUnsavedChanges = false;
 		updateHeader();
 		updateTestCard();
 		updateFooter();
@@ -641,47 +679,6 @@ public class CComponentValidationExecution extends CVerticalLayout
 		LOGGER.debug("Validation session loaded with {} steps, starting at index {}", allSteps.size(), currentStepIndex);
 	}
 
-	private void startAutoSave() {
-		if (autoSaveExecutor == null || autoSaveExecutor.isShutdown()) {
-			autoSaveExecutor = Executors.newSingleThreadScheduledExecutor();
-		}
-		autoSaveTask = autoSaveExecutor.scheduleAtFixedRate(() -> {
-			if (hasUnsavedChanges && currentSession != null) {
-				final UI ui = getUI().orElse(null);
-				if (ui != null) {
-					ui.access(() -> {
-						try {
-							saveCurrentStep();
-							saveCurrentSession();
-							LOGGER.debug("Auto-save executed");
-						} catch (final Exception e) {
-							LOGGER.error("Auto-save failed: {}", e.getMessage());
-						}
-					});
-				}
-			}
-		}, AUTO_SAVE_INTERVAL_SECONDS, AUTO_SAVE_INTERVAL_SECONDS, TimeUnit.SECONDS);
-		LOGGER.debug("Auto-save started with interval: {} seconds", AUTO_SAVE_INTERVAL_SECONDS);
-	}
-
-	private void stopAutoSave() {
-		if (autoSaveTask != null) {
-			autoSaveTask.cancel(false);
-		}
-		if (autoSaveExecutor != null) {
-			autoSaveExecutor.shutdown();
-			try {
-				if (!autoSaveExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-					autoSaveExecutor.shutdownNow();
-				}
-			} catch (final InterruptedException e) {
-				autoSaveExecutor.shutdownNow();
-				Thread.currentThread().interrupt();
-			}
-		}
-		LOGGER.debug("Auto-save stopped");
-	}
-
 	private void updateFooter() {
 		buttonPrevious.setEnabled(currentStepIndex > 0);
 		buttonNext.setEnabled(currentStepIndex < allSteps.size() - 1);
@@ -0,0 +1,4685 @@
+-- Schema of migration version 5, exported from the entity model with the schema-export profile (PostgreSQLDialect).
+-- Applied to empty databases only; never edit it, later changes are migrations.
+
+    create table cactivity (
+        active boolean not null,
+        completion_date date,
+        due_date date,
+        estimated_hours numeric(10,2),
+        progress_percentage integer check ((progress_percentage<=100) and (progress_percentage>=0)),
+        sprint_order integer check (sprint_order>=1),
+        start_date date,
+        activity_id bigint generated by default as identity,
+        agile_parent_relation_id bigint not null unique,
+        assigned_to_id bigint,
+        cactivitypriority_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        sprintitem_id bigint not null unique,
+        story_point bigint,
+        name varchar(100),
+        acceptance_criteria varchar(2000),
+        description varchar(2000),
+        notes varchar(2000),
+        results varchar(2000),
+        component_widget bytea,
+        primary key (activity_id)
+    );
+
+    create table cactivitypriority (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        is_default boolean not null,
+        level integer not null,
+        priority_level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        cactivitypriority_id bigint generated by default as identity,
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cactivitypriority_id)
+    );
+
+    create table cactivitytype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        cactivitytype_id bigint generated by default as identity,
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cactivitytype_id),
+        unique (name, company_id)
+    );
+
+    create table cagile_parent_relation (
+        active boolean not null,
+        agile_parent_relation_id bigint generated by default as identity,
+        parent_item_id bigint,
+        parent_item_type varchar(100),
+        primary key (agile_parent_relation_id)
+    );
+
+    create table cagileitem (
+        active boolean not null,
+        actual_cost numeric(12,2),
+        actual_hours numeric(10,2),
+        completion_date date,
+        due_date date,
+        estimated_cost numeric(12,2),
+        estimated_hours numeric(10,2),
+        hourly_rate numeric(10,2),
+        progress_percentage integer check ((progress_percentage<=100) and (progress_percentage>=0)),
+        remaining_hours numeric(10,2),
+        sprint_order integer check (sprint_order>=1),
+        start_date date,
+        agile_item_id bigint generated by default as identity,
+        agile_parent_relation_id bigint not null unique,
+        assigned_to_id bigint,
+        cactivitypriority_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        sprintitem_id bigint not null unique,
+        story_point bigint,
+        agile_item_kind varchar(31) not null,
+        name varchar(100),
+        acceptance_criteria varchar(2000),
+        description varchar(2000),
+        notes varchar(2000),
+        results varchar(2000),
+        primary key (agile_item_id)
+    );
+
+    create table cagiletype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        cagiletype_id bigint generated by default as identity,
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cagiletype_id),
+        unique (name, company_id)
+    );
+
+    create table capprovalstatus (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        sort_order integer not null check ((sort_order>=1) and (sort_order<=9999)),
+        status_type_cancelled boolean not null,
+        status_type_closed boolean not null,
+        status_type_completed boolean not null,
+        status_type_inprogress boolean not null,
+        status_type_pause boolean not null,
+        color varchar(7),
+        approval_status_id bigint generated by default as identity,
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        icon_string varchar(100),
+        name varchar(100),
+        description varchar(2000),
+        primary key (approval_status_id)
+    );
+
+    create table "casset" (
+        active boolean not null,
+        decommissioning_date date,
+        depreciation_period integer,
+        full_amount numeric(19,2),
+        installation_date date,
+        need_insurance boolean,
+        purchase_value numeric(19,2),
+        untaxed_amount numeric(19,2),
+        warranty_duration integer,
+        warranty_end_date date,
+        asset_id bigint generated by default as identity,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        parent_asset_id bigint,
+        project_id bigint not null,
+        provider_id bigint,
+        user_id bigint,
+        name varchar(100),
+        location varchar(500),
+        description varchar(2000),
+        brand varchar(255),
+        inventory_number varchar(255),
+        model varchar(255),
+        serial_number varchar(255),
+        primary key (asset_id)
+    );
+
+    create table cassettype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        cassettype_id bigint generated by default as identity,
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cassettype_id),
+        unique (name, company_id)
+    );
+
+    create table cattachment (
+        active boolean not null,
+        version_number integer not null check (version_number>=1),
+        activity_id bigint,
+        agile_item_id bigint,
+        asset_id bigint,
+        attachment_id bigint generated by default as identity,
+        budget_id bigint,
+        company_id bigint,
+        created_date timestamp(6),
+        customer_id bigint,
+        decision_id bigint,
+        deliverable_id bigint,
+        document_type_id bigint,
+        file_size bigint not null check (file_size>=0),
+        invoice_id bigint,
+        issue_id bigint,
+        last_modified_date timestamp(6),
+        meeting_id bigint,
+        milestone_id bigint,
+        order_id bigint,
+        previous_version_id bigint,
+        product_id bigint,
+        productversion_id bigint,
+        project_id bigint,
+        projectcomponent_id bigint,
+        projectcomponentversion_id bigint,
+        projectexpense_id bigint,
+        projectincome_id bigint,
+        provider_id bigint,
+        requirement_id bigint,
+        risk_id bigint,
+        risklevel_id bigint,
+        service_department_id bigint,
+        sprint_id bigint,
+        storage_id bigint,
+        storageitem_id bigint,
+        system_settings_id bigint,
+        team_id bigint,
+        ticket_id bigint,
+        upload_date timestamp(6) not null,
+        uploaded_by_id bigint not null,
+        user_id bigint,
+        validationcase_id bigint,
+        validationsession_id bigint,
+        validationsuite_id bigint,
+        color varchar(20),
+        name varchar(100),
+        file_type varchar(200),
+        file_name varchar(500) not null,
+        content_path varchar(1000) not null,
+        description varchar(2000),
+        primary key (attachment_id)
+    );
+
+    create table "cbudget" (
+        active boolean not null,
+        actual_cost numeric(15,2),
+        alert_threshold numeric(8,2),
+        budget_amount numeric(15,2),
+        earned_value numeric(15,2),
+        planned_value numeric(15,2),
+        assigned_to_id bigint,
+        budget_id bigint generated by default as identity,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        currency_id bigint,
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        name varchar(100),
+        description varchar(2000),
+        primary key (budget_id)
+    );
+
+    create table cbudgettype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        cbudgettype_id bigint generated by default as identity,
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cbudgettype_id),
+        unique (name, company_id)
+    );
+
+    create table ccomment (
+        active boolean not null,
+        is_important boolean not null,
+        activity_id bigint,
+        agile_item_id bigint,
+        asset_id bigint,
+        author_id bigint,
+        budget_id bigint,
+        comment_id bigint generated by default as identity,
+        company_id bigint,
+        created_date timestamp(6),
+        customer_id bigint,
+        decision_id bigint,
+        deliverable_id bigint,
+        invoice_id bigint,
+        issue_id bigint,
+        last_modified_date timestamp(6),
+        meeting_id bigint,
+        milestone_id bigint,
+        order_id bigint,
+        product_id bigint,
+        productversion_id bigint,
+        project_id bigint,
+        projectcomponent_id bigint,
+        projectcomponentversion_id bigint,
+        projectexpense_id bigint,
+        projectincome_id bigint,
+        provider_id bigint,
+        requirement_id bigint,
+        risk_id bigint,
+        risklevel_id bigint,
+        service_department_id bigint,
+        sprint_id bigint,
+        storage_id bigint,
+        storageitem_id bigint,
+        system_settings_id bigint,
+        team_id bigint,
+        ticket_id bigint,
+        user_id bigint,
+        validationcase_id bigint,
+        validationsession_id bigint,
+        validationsuite_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        comment_text varchar(4000) not null,
+        primary key (comment_id)
+    );
+
+    create table ccompany (
+        active boolean not null,
+        enable_notifications boolean not null,
+        company_id bigint generated by default as identity,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        company_theme varchar(100),
+        company_timezone varchar(100),
+        default_language varchar(100),
+        email varchar(100),
+        name varchar(100),
+        notification_email varchar(100),
+        phone varchar(100),
+        primary_color varchar(100),
+        tax_number varchar(100),
+        website varchar(100),
+        working_hours_end varchar(100),
+        working_hours_start varchar(100),
+        address varchar(2000),
+        company_logo_url varchar(2000),
+        description varchar(2000),
+        ip_address varchar(2000),
+        primary key (company_id)
+    );
+
+    create table ccomponentversiontype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        ccomponentversiontype_id bigint generated by default as identity,
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (ccomponentversiontype_id),
+        unique (name, company_id)
+    );
+
+    create table ccurrency (
+        active boolean not null,
+        currency_code varchar(3) not null,
+        currency_symbol varchar(5),
+        assigned_to_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        currency_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        name varchar(100),
+        description varchar(2000),
+        primary key (currency_id)
+    );
+
+    create table ccustomer (
+        active boolean not null,
+        annual_revenue numeric(15,2),
+        last_interaction_date date,
+        lifetime_value numeric(15,2),
+        relationship_start_date date,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        customer_id bigint generated by default as identity,
+        entitytype_id bigint not null,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        company_size varchar(50),
+        primary_contact_phone varchar(50),
+        industry varchar(100),
+        name varchar(100),
+        primary_contact_name varchar(100),
+        primary_contact_email varchar(150),
+        company_name varchar(200) not null,
+        website varchar(200),
+        billing_address varchar(500),
+        shipping_address varchar(500),
+        customer_notes varchar(2000),
+        description varchar(2000),
+        primary key (customer_id)
+    );
+
+    create table ccustomertype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        ccustomertype_id bigint generated by default as identity,
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (ccustomertype_id),
+        unique (name, company_id)
+    );
+
+    create table cdashboardprojecttype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        created_date timestamp(6),
+        dashboardprojecttype_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (dashboardprojecttype_id)
+    );
+
+    create table cdataimport (
+        active boolean not null,
+        completed boolean,
+        dry_run boolean,
+        progress_row_number integer,
+        progress_sheet_index integer,
+        rolled_back boolean,
+        total_errors integer,
+        total_skipped integer,
+        total_success integer,
+        company_id bigint,
+        created_date timestamp(6),
+        dataimport_id bigint generated by default as identity,
+        imported_at timestamp(6),
+        last_modified_date timestamp(6),
+        content_sha256 varchar(64),
+        name varchar(100),
+        file_name varchar(512),
+        description varchar(2000),
+        last_error varchar(2000),
+        imported_by varchar(255),
+        primary key (dataimport_id)
+    );
+
+    create table cdecision (
+        active boolean not null,
+        estimated_cost numeric(19,2),
+        agile_parent_relation_id bigint not null unique,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        decision_id bigint generated by default as identity,
+        entitytype_id bigint,
+        implementation_date timestamp(6),
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        review_date timestamp(6),
+        name varchar(100),
+        description varchar(2000),
+        primary key (decision_id)
+    );
+
+    create table cdecisiontype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        requires_approval boolean not null,
+        sort_order integer not null,
+        color varchar(7),
+        cdecisiontype_id bigint generated by default as identity,
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cdecisiontype_id),
+        unique (name, company_id)
+    );
+
+    create table "cdeliverable" (
+        active boolean not null,
+        agile_parent_relation_id bigint not null unique,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        deliverable_id bigint generated by default as identity,
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        name varchar(100),
+        description varchar(2000),
+        primary key (deliverable_id)
+    );
+
+    create table cdeliverabletype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        cdeliverabletype_id bigint generated by default as identity,
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cdeliverabletype_id),
+        unique (name, company_id)
+    );
+
+    create table cdetaillines (
+        active boolean not null,
+        have_next_one_on_same_line boolean not null,
+        is_caption_visible boolean not null,
+        is_hidden boolean not null,
+        is_readonly boolean not null,
+        is_required boolean not null,
+        is_section_as_tab boolean not null,
+        item_order integer not null check ((item_order>=1) and (item_order<=999)),
+        max_length integer check ((max_length<=10000) and (max_length>=-1)),
+        detaillines_id bigint generated by default as identity,
+        detailsection_id bigint not null,
+        width varchar(10) not null,
+        data_provider_bean varchar(100),
+        entity_property varchar(100) not null,
+        related_entity_type varchar(100),
+        relation_field_name varchar(100) not null,
+        section_name varchar(100),
+        field_description varchar(500),
+        default_value varchar(255),
+        field_caption varchar(255) not null,
+        primary key (detaillines_id)
+    );
+
+    create table cdetailsection (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        default_section boolean,
+        assigned_to_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        detailsection_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        entity_type varchar(100) not null,
+        name varchar(100),
+        header_text varchar(500),
+        description varchar(2000),
+        screen_title varchar(255),
+        primary key (detailsection_id)
+    );
+
+    create table cdocument_type (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        created_date timestamp(6),
+        document_type_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (document_type_id)
+    );
+
+    create table cemail_queued (
+        active boolean not null,
+        max_retries integer not null,
+        retry_count integer not null,
+        company_id bigint,
+        created_date timestamp(6),
+        email_queued_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        queued_at timestamp(6) not null,
+        reference_entity_id bigint,
+        scheduled_for timestamp(6),
+        sent_at timestamp(6),
+        priority varchar(50) not null,
+        status varchar(50) not null,
+        email_type varchar(100),
+        from_email varchar(100) not null,
+        from_name varchar(100),
+        name varchar(100),
+        reference_entity_type varchar(100),
+        reply_to_email varchar(100),
+        reply_to_name varchar(100),
+        subject varchar(100) not null,
+        to_email varchar(100) not null,
+        to_name varchar(100),
+        bcc_email varchar(2000),
+        cc_email varchar(2000),
+        description varchar(2000),
+        last_error varchar(2000),
+        body_html varchar(10000),
+        body_text varchar(10000),
+        primary key (email_queued_id)
+    );
+
+    create table cemail_sent (
+        active boolean not null,
+        max_retries integer not null,
+        retry_count integer not null,
+        company_id bigint,
+        created_date timestamp(6),
+        email_sent_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        queued_at timestamp(6) not null,
+        reference_entity_id bigint,
+        sent_at timestamp(6),
+        priority varchar(50) not null,
+        email_type varchar(100),
+        from_email varchar(100) not null,
+        from_name varchar(100),
+        name varchar(100),
+        reference_entity_type varchar(100),
+        reply_to_email varchar(100),
+        reply_to_name varchar(100),
+        subject varchar(100) not null,
+        to_email varchar(100) not null,
+        to_name varchar(100),
+        bcc_email varchar(2000),
+        cc_email varchar(2000),
+        description varchar(2000),
+        last_error varchar(2000),
+        body_html varchar(10000),
+        body_text varchar(10000),
+        primary key (email_sent_id)
+    );
+
+    create table cepic (
+        entitytype_id bigint,
+        epic_id bigint not null,
+        primary key (epic_id)
+    );
+
+    create table cepictype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        cepictype_id bigint generated by default as identity,
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cepictype_id),
+        unique (name, company_id)
+    );
+
+    create table cfeature (
+        entitytype_id bigint,
+        feature_id bigint not null,
+        primary key (feature_id)
+    );
+
+    create table cfeaturetype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        cfeaturetype_id bigint generated by default as identity,
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cfeaturetype_id),
+        unique (name, company_id)
+    );
+
+    create table cgnntview (
+        active boolean not null,
+        assigned_to_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        gnntview_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        grid_type varchar(16) not null check (grid_type in ('FLAT','TREE')),
+        name varchar(100),
+        description varchar(2000),
+        primary key (gnntview_id)
+    );
+
+    create table cgridentity (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        attribute_none boolean not null,
+        assigned_to_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        grid_entity_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        data_service_bean_name varchar(100) not null,
+        name varchar(100),
+        description varchar(2000),
+        column_fields varchar(1000) array,
+        editable_column_fields varchar(1000) array,
+        primary key (grid_entity_id)
+    );
+
+    create table cinvoice (
+        active boolean not null,
+        discount_amount numeric(15,2),
+        discount_rate numeric(5,2),
+        due_date date not null,
+        installment_number integer,
+        invoice_date date not null,
+        is_milestone_payment boolean,
+        paid_amount numeric(15,2),
+        payment_plan_installments integer,
+        subtotal numeric(15,2),
+        tax_amount numeric(15,2),
+        tax_rate numeric(5,2),
+        total_amount numeric(15,2),
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        currency_id bigint not null,
+        entitytype_id bigint,
+        invoice_id bigint generated by default as identity,
+        issued_by_id bigint,
+        last_modified_date timestamp(6),
+        milestone_id bigint,
+        project_id bigint not null,
+        payment_status varchar(20) not null check (payment_status in ('PENDING','DUE','LATE','PARTIAL','PAID','CANCELLED','REFUNDED','DISPUTED')),
+        customer_tax_id varchar(50),
+        invoice_number varchar(50) not null unique,
+        name varchar(100),
+        customer_email varchar(150),
+        customer_name varchar(200) not null,
+        customer_address varchar(500),
+        payment_terms varchar(1000),
+        description varchar(2000),
+        notes varchar(2000),
+        primary key (invoice_id)
+    );
+
+    create table cinvoiceitem (
+        active boolean not null,
+        item_order integer not null check (item_order>=1),
+        line_total numeric(15,2),
+        quantity numeric(10,2),
+        unit_price numeric(15,2),
+        invoice_id bigint not null,
+        invoiceitem_id bigint generated by default as identity,
+        description varchar(500) not null,
+        notes varchar(1000),
+        primary key (invoiceitem_id)
+    );
+
+    create table cinvoicetype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        cinvoicetype_id bigint generated by default as identity,
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cinvoicetype_id),
+        unique (name, company_id)
+    );
+
+    create table cissue (
+        active boolean not null,
+        due_date date,
+        resolved_date date,
+        agile_parent_relation_id bigint not null unique,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        entitytype_id bigint,
+        issue_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        linked_activity_id bigint,
+        project_id bigint not null,
+        sprintitem_id bigint unique,
+        story_point bigint,
+        issue_priority VARCHAR(20) not null check (issue_priority in ('URGENT','HIGH','MEDIUM','LOW')),
+        issue_severity VARCHAR(20) not null check (issue_severity in ('CRITICAL','MAJOR','MINOR','TRIVIAL')),
+        issue_resolution VARCHAR(30) check (issue_resolution in ('FIXED','DUPLICATE','NOT_REPRODUCIBLE','WONT_FIX','NOT_A_BUG','CANNOT_REPRODUCE','NONE')),
+        name varchar(100),
+        actual_result varchar(2000),
+        description varchar(2000),
+        expected_result varchar(2000),
+        steps_to_reproduce varchar(4000),
+        primary key (issue_id)
+    );
+
+    create table cissuetype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        cissuetype_id bigint generated by default as identity,
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cissuetype_id),
+        unique (name, company_id)
+    );
+
+    create table ckanbancolumn (
+        active boolean not null,
+        default_column boolean not null,
+        item_order integer not null,
+        wip_limit integer,
+        wip_limit_enabled boolean not null,
+        color varchar(7),
+        created_date timestamp(6),
+        kanban_column_id bigint generated by default as identity,
+        kanban_line_id bigint not null,
+        last_modified_date timestamp(6),
+        service_class VARCHAR(20) check (service_class in ('EXPEDITE','FIXED_DATE','STANDARD','INTANGIBLE')),
+        name varchar(100),
+        description varchar(2000),
+        primary key (kanban_column_id)
+    );
+
+    create table ckanbancolumn_included_status (
+        kanban_column_id bigint not null,
+        status_id bigint not null
+    );
+
+    create table ckanbanline (
+        active boolean not null,
+        company_id bigint,
+        created_date timestamp(6),
+        kanban_line_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        name varchar(100),
+        description varchar(2000),
+        primary key (kanban_line_id)
+    );
+
+    create table clink (
+        active boolean not null,
+        activity_id bigint,
+        agile_item_id bigint,
+        asset_id bigint,
+        company_id bigint,
+        created_date timestamp(6),
+        decision_id bigint,
+        issue_id bigint,
+        last_modified_date timestamp(6),
+        link_id bigint generated by default as identity,
+        milestone_id bigint,
+        order_id bigint,
+        requirement_id bigint,
+        risk_id bigint,
+        source_entity_id bigint not null,
+        storage_id bigint,
+        target_entity_id bigint not null,
+        ticket_id bigint,
+        link_type varchar(50),
+        name varchar(100),
+        source_entity_type varchar(100) not null,
+        target_entity_type varchar(100) not null,
+        description varchar(2000),
+        primary key (link_id)
+    );
+
+    create table cmastersection (
+        active boolean not null,
+        assigned_to_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        master_section_id bigint generated by default as identity,
+        project_id bigint not null,
+        name varchar(100),
+        section_db_name varchar(200),
+        section_type varchar(200) not null,
+        description varchar(2000),
+        primary key (master_section_id)
+    );
+
+    create table cmeeting (
+        active boolean not null,
+        end_date date,
+        end_time time(6),
+        sprint_order integer check (sprint_order>=1),
+        start_date date,
+        start_time time(6),
+        agile_parent_relation_id bigint not null unique,
+        assigned_to_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        meeting_id bigint generated by default as identity,
+        meeting_status_id bigint,
+        project_id bigint not null,
+        related_activity_id bigint,
+        sprintitem_id bigint not null unique,
+        story_point bigint,
+        name varchar(100),
+        description varchar(2000),
+        linked_element varchar(2000),
+        location varchar(2000),
+        agenda varchar(4000),
+        minutes varchar(4000),
+        primary key (meeting_id)
+    );
+
+    create table cmeeting_attendees (
+        meeting_id bigint not null,
+        user_id bigint not null,
+        primary key (meeting_id, user_id)
+    );
+
+    create table cmeeting_participants (
+        meeting_id bigint not null,
+        user_id bigint not null,
+        primary key (meeting_id, user_id)
+    );
+
+    create table cmeetingtype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        cmeetingtype_id bigint generated by default as identity,
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cmeetingtype_id),
+        unique (name, company_id)
+    );
+
+    create table "cmilestone" (
+        active boolean not null,
+        agile_parent_relation_id bigint not null unique,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        milestone_id bigint generated by default as identity,
+        project_id bigint not null,
+        name varchar(100),
+        description varchar(2000),
+        primary key (milestone_id)
+    );
+
+    create table cmilestonetype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        cmilestonetype_id bigint generated by default as identity,
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cmilestonetype_id),
+        unique (name, company_id)
+    );
+
+    create table corder (
+        active boolean not null,
+        actual_cost numeric(15,2),
+        delivery_date date,
+        estimated_cost numeric(15,2),
+        order_date date not null,
+        required_date date,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        currency_id bigint not null,
+        entitytype_id bigint not null,
+        last_modified_date timestamp(6),
+        order_id bigint generated by default as identity,
+        project_id bigint not null,
+        requestor_id bigint not null,
+        order_number varchar(50),
+        name varchar(100),
+        provider_contact_name varchar(100),
+        provider_email varchar(150),
+        provider_company_name varchar(200) not null,
+        delivery_address varchar(500),
+        description varchar(2000),
+        primary key (order_id)
+    );
+
+    create table corderapproval (
+        active boolean not null,
+        approval_level integer not null,
+        approval_date timestamp(6),
+        approval_status_id bigint not null,
+        approver_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        order_approval_id bigint generated by default as identity,
+        order_id bigint not null,
+        name varchar(100),
+        comments varchar(1000),
+        description varchar(2000),
+        primary key (order_approval_id)
+    );
+
+    create table cordertype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        order_type_id bigint generated by default as identity,
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (order_type_id),
+        unique (name, company_id)
+    );
+
+    create table cpageentity (
+        active boolean not null,
+        attribute_hide_top_crudtoolbar boolean not null,
+        attribute_non_deletable boolean not null,
+        attribute_readonly boolean not null,
+        attribute_show_in_quick_toolbar boolean not null,
+        requires_authentication boolean not null,
+        color varchar(7),
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        detail_section_id bigint,
+        entitytype_id bigint,
+        grid_entity_id bigint,
+        last_modified_date timestamp(6),
+        pageentity_id bigint generated by default as identity,
+        project_id bigint not null,
+        icon varchar(100),
+        menu_order varchar(100),
+        menu_title varchar(100) not null,
+        name varchar(100),
+        page_title varchar(100) not null,
+        page_service varchar(200),
+        description varchar(2000),
+        content varchar(10000),
+        primary key (pageentity_id),
+        unique (menu_title, project_id)
+    );
+
+    create table cpageentitytype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        cpageentitytype_id bigint generated by default as identity,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cpageentitytype_id),
+        unique (name, company_id)
+    );
+
+    create table cparentchildrelation (
+        active boolean not null,
+        child_id bigint not null,
+        id bigint generated by default as identity,
+        parent_id bigint not null,
+        child_type varchar(32) not null,
+        parent_type varchar(32) not null,
+        primary key (id),
+        constraint uk_parentchild unique (child_id, child_type, parent_id, parent_type)
+    );
+
+    create table cpayment (
+        active boolean not null,
+        amount numeric(15,2),
+        payment_date date not null,
+        currency_id bigint,
+        invoice_id bigint not null,
+        payment_id bigint generated by default as identity,
+        received_by_id bigint,
+        status varchar(20) not null check (status in ('PENDING','DUE','LATE','PARTIAL','PAID','CANCELLED','REFUNDED','DISPUTED')),
+        payment_method varchar(100),
+        reference_number varchar(100),
+        notes varchar(2000),
+        primary key (payment_id)
+    );
+
+    create table "cproduct" (
+        active boolean not null,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        product_id bigint generated by default as identity,
+        project_id bigint not null,
+        name varchar(100),
+        product_code varchar(100),
+        description varchar(2000),
+        primary key (product_id)
+    );
+
+    create table cproducttype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        cproducttype_id bigint generated by default as identity,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cproducttype_id),
+        unique (name, company_id)
+    );
+
+    create table "cproductversion" (
+        active boolean not null,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        product_id bigint not null,
+        productversion_id bigint generated by default as identity,
+        project_id bigint not null,
+        version_number varchar(50),
+        name varchar(100),
+        description varchar(2000),
+        primary key (productversion_id)
+    );
+
+    create table cproductversiontype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        cproductversiontype_id bigint generated by default as identity,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cproductversiontype_id),
+        unique (name, company_id)
+    );
+
+    create table cproject (
+        active boolean not null,
+        company_id bigint not null,
+        created_date timestamp(6),
+        entitytype_id bigint,
+        kanban_line_id bigint,
+        last_modified_date timestamp(6),
+        project_id bigint generated by default as identity,
+        status_id bigint,
+        project_type_discriminator varchar(31) not null,
+        name varchar(100),
+        description varchar(2000),
+        primary key (project_id),
+        unique (company_id, name)
+    );
+
+    create table "cprojectcomponent" (
+        active boolean not null,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        projectcomponent_id bigint generated by default as identity,
+        component_code varchar(100),
+        name varchar(100),
+        description varchar(2000),
+        primary key (projectcomponent_id)
+    );
+
+    create table cprojectcomponenttype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        cprojectcomponenttype_id bigint generated by default as identity,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cprojectcomponenttype_id),
+        unique (name, company_id)
+    );
+
+    create table "cprojectcomponentversion" (
+        active boolean not null,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        projectcomponent_id bigint not null,
+        projectcomponentversion_id bigint generated by default as identity,
+        version_number varchar(50),
+        name varchar(100),
+        description varchar(2000),
+        primary key (projectcomponentversion_id)
+    );
+
+    create table "cprojectexpense" (
+        active boolean not null,
+        amount numeric(15,2),
+        expense_date date,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        currency_id bigint,
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        projectexpense_id bigint generated by default as identity,
+        name varchar(100),
+        description varchar(2000),
+        primary key (projectexpense_id)
+    );
+
+    create table cprojectexpensetype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        cprojectexpensetype_id bigint generated by default as identity,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cprojectexpensetype_id),
+        unique (name, company_id)
+    );
+
+    create table "cprojectincome" (
+        active boolean not null,
+        amount numeric(15,2),
+        income_date date,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        currency_id bigint,
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        projectincome_id bigint generated by default as identity,
+        name varchar(100),
+        description varchar(2000),
+        primary key (projectincome_id)
+    );
+
+    create table cprojectincometype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        cprojectincometype_id bigint generated by default as identity,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cprojectincometype_id),
+        unique (name, company_id)
+    );
+
+    create table cprojectitemstatus (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        is_final boolean not null,
+        sort_order integer not null check ((sort_order>=1) and (sort_order<=9999)),
+        status_type_cancelled boolean not null,
+        status_type_closed boolean not null,
+        status_type_completed boolean not null,
+        status_type_inprogress boolean not null,
+        status_type_pause boolean not null,
+        color varchar(7),
+        company_id bigint,
+        cprojectitemstatus_id bigint generated by default as identity,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        icon_string varchar(100),
+        name varchar(100),
+        description varchar(2000),
+        primary key (cprojectitemstatus_id),
+        unique (name, company_id)
+    );
+
+    create table cprojecttype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        cprojecttype_id bigint generated by default as identity,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cprojecttype_id),
+        unique (name, company_id)
+    );
+
+    create table cprovider (
+        active boolean not null,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        provider_id bigint generated by default as identity,
+        name varchar(100),
+        description varchar(2000),
+        primary key (provider_id)
+    );
+
+    create table cprovidertype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        cprovidertype_id bigint generated by default as identity,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cprovidertype_id),
+        unique (name, company_id)
+    );
+
+    create table crequirement (
+        active boolean not null,
+        due_date date,
+        start_date date,
+        agile_parent_relation_id bigint not null unique,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        requirement_id bigint generated by default as identity,
+        name varchar(100),
+        source varchar(500),
+        acceptance_criteria varchar(2000),
+        description varchar(2000),
+        primary key (requirement_id)
+    );
+
+    create table crequirementtype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        created_date timestamp(6),
+        crequirementtype_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (crequirementtype_id),
+        unique (name, company_id)
+    );
+
+    create table "crisk" (
+        active boolean not null,
+        impact_score integer,
+        probability integer,
+        agile_parent_relation_id bigint not null unique,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        risk_id bigint generated by default as identity,
+        risk_criticality VARCHAR(20) check (risk_criticality in ('LOW','MODERATE','HIGH','CRITICAL')),
+        risk_likelihood VARCHAR(20) check (risk_likelihood in ('RARE','UNLIKELY','POSSIBLE','LIKELY','CERTAIN')),
+        risk_response_strategy VARCHAR(20) check (risk_response_strategy in ('AVOID','TRANSFER','MITIGATE','ACCEPT','ESCALATE')),
+        risk_severity VARCHAR(20) not null check (risk_severity in ('LOW','MEDIUM','HIGH','CRITICAL')),
+        name varchar(100),
+        cause varchar(1000),
+        impact varchar(1000),
+        result varchar(1000),
+        description varchar(2000),
+        mitigation varchar(2000),
+        plan varchar(2000),
+        residual_risk varchar(2000),
+        primary key (risk_id)
+    );
+
+    create table "crisklevel" (
+        active boolean not null,
+        risk_level integer,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        risklevel_id bigint generated by default as identity,
+        name varchar(100),
+        description varchar(2000),
+        primary key (risklevel_id)
+    );
+
+    create table criskleveltype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        created_date timestamp(6),
+        criskleveltype_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (criskleveltype_id),
+        unique (name, company_id)
+    );
+
+    create table crisktype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        created_date timestamp(6),
+        crisktype_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (crisktype_id),
+        unique (name, company_id)
+    );
+
+    create table cschedule_task (
+        active boolean not null,
+        enabled boolean not null,
+        execution_count integer not null,
+        failure_count integer not null,
+        success_count integer not null,
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        last_run timestamp(6),
+        next_run timestamp(6),
+        schedule_task_id bigint generated by default as identity,
+        action varchar(100) not null,
+        cron_expression varchar(100) not null,
+        name varchar(100),
+        action_parameters varchar(2000),
+        description varchar(2000),
+        last_error varchar(2000),
+        primary key (schedule_task_id)
+    );
+
+    create table csearch_document (
+        active boolean not null,
+        company_id bigint not null,
+        entity_id bigint not null,
+        indexed_at timestamp(6),
+        project_id bigint,
+        search_document_id bigint generated by default as identity,
+        entity_type varchar(100) not null,
+        title varchar(255),
+        primary key (search_document_id),
+        unique (entity_type, entity_id)
+    );
+
+    create table csearch_term (
+        active boolean not null,
+        weight integer not null,
+        search_document_id bigint not null,
+        search_term_id bigint generated by default as identity,
+        term varchar(64) not null,
+        primary key (search_term_id)
+    );
+
+    create table csprint (
+        active boolean not null,
+        end_date date,
+        start_date date,
+        velocity integer,
+        color varchar(7),
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        sprint_id bigint generated by default as identity,
+        name varchar(100),
+        sprint_goal varchar(500),
+        definition_of_done varchar(2000),
+        description varchar(2000),
+        retrospective_notes varchar(4000),
+        primary key (sprint_id)
+    );
+
+    create table csprint_burndown_snapshot (
+        active boolean not null,
+        completed_item_count integer not null,
+        item_count integer not null,
+        snapshot_date date not null,
+        completed_story_points bigint not null,
+        sprint_burndown_snapshot_id bigint generated by default as identity,
+        sprint_id bigint not null,
+        total_story_points bigint not null,
+        primary key (sprint_burndown_snapshot_id),
+        unique (sprint_id, snapshot_date)
+    );
+
+    create table csprint_items (
+        active boolean not null,
+        completion_date date,
+        due_date date,
+        is_editable boolean,
+        item_order integer,
+        progress_percentage integer check ((progress_percentage<=100) and (progress_percentage>=0)),
+        start_date date,
+        sprint_id bigint,
+        sprint_item_id bigint generated by default as identity,
+        story_point bigint,
+        component_widget bytea,
+        primary key (sprint_item_id)
+    );
+
+    create table csprint_metrics (
+        active boolean not null,
+        completed_item_count integer not null,
+        item_count integer not null,
+        completed_story_points bigint not null,
+        last_calculated timestamp(6),
+        sprint_id bigint not null unique,
+        sprint_metrics_id bigint generated by default as identity,
+        total_story_points bigint not null,
+        primary key (sprint_metrics_id)
+    );
+
+    create table csprintplanningview (
+        active boolean not null,
+        assigned_to_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        sprintplanningview_id bigint generated by default as identity,
+        backlog_grid_type varchar(16) not null check (backlog_grid_type in ('FLAT','TREE')),
+        name varchar(100),
+        description varchar(2000),
+        primary key (sprintplanningview_id)
+    );
+
+    create table csprinttype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        created_date timestamp(6),
+        csprinttype_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (csprinttype_id),
+        unique (name, company_id)
+    );
+
+    create table cstorage (
+        active boolean not null,
+        capacity numeric(19,2),
+        current_utilization numeric(19,2),
+        secure_storage boolean,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        parent_storage_id bigint,
+        project_id bigint not null,
+        responsible_user_id bigint,
+        storage_id bigint generated by default as identity,
+        capacity_unit varchar(50),
+        name varchar(100),
+        address varchar(500),
+        description varchar(2000),
+        bin_code varchar(255),
+        building varchar(255),
+        climate_control varchar(255),
+        floor varchar(255),
+        temperature_control varchar(255),
+        zone varchar(255),
+        primary key (storage_id)
+    );
+
+    create table cstorageitem (
+        active boolean not null,
+        current_quantity numeric(19,2) not null,
+        expiration_date date,
+        is_consumable boolean,
+        last_restocked_date date,
+        lead_time_days numeric(19,2),
+        maximum_stock_level numeric(19,2),
+        minimum_stock_level numeric(19,2),
+        reorder_quantity numeric(19,2),
+        requires_special_handling boolean,
+        track_expiration boolean,
+        unit_cost numeric(19,2),
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        provider_id bigint,
+        responsible_user_id bigint,
+        storage_id bigint not null,
+        storageitem_id bigint generated by default as identity,
+        currency varchar(10),
+        unit_of_measure varchar(50),
+        barcode varchar(100),
+        batch_number varchar(100),
+        name varchar(100),
+        sku varchar(100),
+        handling_instructions varchar(500),
+        description varchar(2000),
+        manufacturer varchar(255),
+        model_number varchar(255),
+        primary key (storageitem_id)
+    );
+
+    create table cstorageitemtype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        created_date timestamp(6),
+        cstorageitemtype_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cstorageitemtype_id),
+        unique (name, company_id)
+    );
+
+    create table cstoragetransaction (
+        active boolean not null,
+        quantity numeric(19,2) not null,
+        quantity_after numeric(19,2),
+        quantity_before numeric(19,2),
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        storage_item_id bigint not null,
+        transaction_date timestamp(6) not null,
+        transaction_id bigint generated by default as identity,
+        user_id bigint,
+        color varchar(20),
+        transaction_type varchar(50) not null check (transaction_type in ('STOCK_IN','STOCK_OUT','ADJUSTMENT','TRANSFER','EXPIRED','DAMAGED','LOST')),
+        name varchar(100),
+        description varchar(2000),
+        reference varchar(255),
+        primary key (transaction_id)
+    );
+
+    create table cstoragetype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        created_date timestamp(6),
+        cstoragetype_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cstoragetype_id),
+        unique (name, company_id)
+    );
+
+    create table csystemsettings_derbent (
+        account_lockout_duration_minutes integer not null check ((account_lockout_duration_minutes>=1) and (account_lockout_duration_minutes<=1440)),
+        active boolean not null,
+        api_rate_limit_per_minute integer not null check ((api_rate_limit_per_minute<=10000) and (api_rate_limit_per_minute>=1)),
+        audit_log_retention_days integer not null check ((audit_log_retention_days>=1) and (audit_log_retention_days<=2555)),
+        auto_login_enabled boolean not null,
+        backup_retention_days integer not null check ((backup_retention_days>=1) and (backup_retention_days<=365)),
+        cache_ttl_minutes integer not null check ((cache_ttl_minutes>=1) and (cache_ttl_minutes<=1440)),
+        database_connection_pool_size integer not null check ((database_connection_pool_size>=1) and (database_connection_pool_size<=100)),
+        embed_images_in_emails boolean not null,
+        enable_advanced_reporting boolean not null,
+        enable_audit_logging boolean not null,
+        enable_automatic_backups boolean not null,
+        enable_caching boolean not null,
+        enable_dark_mode boolean not null,
+        enable_database_logging boolean not null,
+        enable_email_notifications boolean not null,
+        enable_file_compression boolean not null,
+        enable_file_versioning boolean not null,
+        enable_file_virus_scanning boolean not null,
+        enable_gantt_charts boolean not null,
+        enable_kanban_boards boolean not null,
+        enable_ldap_authentication boolean not null,
+        enable_project_templates boolean not null,
+        enable_push_notifications boolean not null,
+        enable_resource_planning boolean not null,
+        enable_rest_api boolean not null,
+        enable_time_tracking boolean not null,
+        enable_two_factor_auth boolean not null,
+        ldap_use_ssl_tls boolean not null,
+        ldap_version integer not null check ((ldap_version<=3) and (ldap_version>=2)),
+        maintenance_mode_enabled boolean not null,
+        max_attachment_size_mb integer not null check ((max_attachment_size_mb>=1) and (max_attachment_size_mb<=50)),
+        max_file_upload_size_mb numeric(8,2) not null,
+        max_login_attempts integer not null check ((max_login_attempts>=1) and (max_login_attempts<=10)),
+        max_total_storage_gb numeric(10,2) not null,
+        notification_batch_size integer not null check ((notification_batch_size>=1) and (notification_batch_size<=1000)),
+        password_expiry_days integer check ((password_expiry_days>=1) and (password_expiry_days<=365)),
+        report_generation_timeout_minutes integer not null check ((report_generation_timeout_minutes>=1) and (report_generation_timeout_minutes<=60)),
+        require_strong_passwords boolean not null,
+        send_emails_as_current_user boolean not null,
+        session_timeout_minutes integer not null check ((session_timeout_minutes>=5) and (session_timeout_minutes<=1440)),
+        show_system_info boolean not null,
+        smtp_port integer not null check ((smtp_port<=65535) and (smtp_port>=1)),
+        smtp_send_helo_with_ip boolean not null,
+        smtp_use_tls boolean not null,
+        ldap_auto_allocate_project_id bigint,
+        system_settings_id bigint generated by default as identity,
+        email_end_of_line_format varchar(50),
+        mailer_type varchar(50),
+        application_name varchar(100) not null,
+        application_version varchar(100) not null,
+        backup_schedule_cron varchar(100),
+        database_name varchar(100) not null,
+        default_login_view varchar(100),
+        default_system_theme varchar(100) not null,
+        email_administrator varchar(100),
+        email_from varchar(100),
+        email_reply_to varchar(100),
+        email_sender_name varchar(100),
+        font_size_scale varchar(100) not null,
+        last_visited_view varchar(100),
+        ldap_bind_dn varchar(100),
+        ldap_bind_password varchar(100),
+        ldap_default_user_profile varchar(100),
+        ldap_search_base varchar(100),
+        ldap_server_url varchar(100),
+        ldap_user_creation_action varchar(100),
+        ldap_user_creation_message_type varchar(100),
+        ldap_user_filter varchar(100),
+        smtp_login_name varchar(100),
+        smtp_login_password varchar(100),
+        smtp_server varchar(100),
+        support_email varchar(100),
+        system_email_from varchar(100),
+        allowed_file_extensions varchar(2000),
+        application_description varchar(2000),
+        file_storage_path varchar(2000),
+        maintenance_message varchar(2000),
+        sendmail_path varchar(2000),
+        primary key (system_settings_id),
+        unique (application_name)
+    );
+
+    create table cteam (
+        active boolean not null,
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        team_id bigint generated by default as identity,
+        team_manager_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (team_id),
+        constraint uk_team_name_company unique (name, company_id)
+    );
+
+    create table cteam_members (
+        team_id bigint not null,
+        user_id bigint not null,
+        primary key (team_id, user_id)
+    );
+
+    create table "cticket" (
+        active boolean not null,
+        due_date date,
+        initial_date date,
+        is_regression boolean,
+        planned_date date,
+        resolution_date date,
+        work_hours_estimated numeric(10,2),
+        work_hours_left numeric(10,2),
+        work_hours_real numeric(10,2),
+        agile_parent_relation_id bigint not null unique,
+        assigned_to_id bigint,
+        component_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        duplicate_of_ticket_id bigint,
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        planned_activity_id bigint,
+        product_id bigint,
+        project_id bigint not null,
+        requestor_id bigint,
+        service_department_id bigint,
+        target_milestone_id bigint,
+        ticket_id bigint generated by default as identity,
+        ticket_priority_id bigint,
+        ticket_criticality VARCHAR(20) check (ticket_criticality in ('CRITICAL','HIGH','MEDIUM','LOW')),
+        ticket_origin VARCHAR(20) check (ticket_origin in ('EMAIL','PHONE','CHAT','WEB','API','INTERNAL')),
+        ticket_urgency VARCHAR(20) check (ticket_urgency in ('CRITICAL','HIGH','MEDIUM','LOW')),
+        ticket_resolution VARCHAR(30) check (ticket_resolution in ('FIXED','DUPLICATE','WONT_FIX','CANNOT_REPRODUCE','WORKING_AS_DESIGNED','WORKAROUND','CANCELLED','NONE')),
+        name varchar(100),
+        context_information varchar(2000),
+        description varchar(2000),
+        result varchar(2000),
+        external_reference varchar(255),
+        primary key (ticket_id)
+    );
+
+    create table cticket_service_department (
+        active boolean not null,
+        email_notification_enabled boolean not null,
+        company_id bigint,
+        created_date timestamp(6),
+        department_manager_id bigint,
+        last_modified_date timestamp(6),
+        service_department_id bigint generated by default as identity,
+        name varchar(100),
+        description varchar(2000),
+        primary key (service_department_id),
+        constraint uk_service_dept_name_company unique (name, company_id)
+    );
+
+    create table cticket_service_dept_responsibles (
+        service_department_id bigint not null,
+        user_id bigint not null,
+        primary key (service_department_id, user_id)
+    );
+
+    create table cticketpriority (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        is_default boolean not null,
+        level integer not null,
+        priority_level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        created_date timestamp(6),
+        cticketpriority_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cticketpriority_id)
+    );
+
+    create table ctickettype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        created_date timestamp(6),
+        ctickettype_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (ctickettype_id),
+        unique (name, company_id)
+    );
+
+    create table cuser (
+        active boolean not null,
+        attribute_display_sections_as_tabs boolean,
+        is_ldap_user boolean not null,
+        color varchar(7),
+        company_id bigint,
+        company_role_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        user_id bigint generated by default as identity,
+        email varchar(100) not null,
+        lastname varchar(100),
+        login varchar(100) not null,
+        name varchar(100),
+        password varchar(100),
+        phone varchar(100),
+        description varchar(2000),
+        profile_picture_thumbnail bytea,
+        profile_picture_data bytea,
+        primary key (user_id),
+        unique (login, company_id)
+    );
+
+    create table cuser_activities (
+        item_index integer not null,
+        activities_activity_id bigint not null unique,
+        cuser_user_id bigint not null,
+        primary key (item_index, cuser_user_id)
+    );
+
+    create table cusercompanyrole (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        is_admin boolean not null,
+        is_guest boolean not null,
+        is_user boolean not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        created_date timestamp(6),
+        cusercompanyrole_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        name varchar(100),
+        description varchar(2000),
+        primary key (cusercompanyrole_id),
+        unique (name, company_id)
+    );
+
+    create table cusercompanysetting (
+        active boolean not null,
+        company_id bigint not null,
+        cusercompanysetting_id bigint generated by default as identity,
+        granted_by_user_id bigint,
+        role_id bigint,
+        user_id bigint not null,
+        ownership_level varchar(50) not null,
+        privileges varchar(500),
+        primary key (cusercompanysetting_id),
+        unique (user_id, company_id)
+    );
+
+    create table cuserprojectrole (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        is_admin boolean not null,
+        is_guest boolean not null,
+        is_user boolean not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        created_date timestamp(6),
+        cuserprojectrole_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        name varchar(100),
+        description varchar(2000),
+        primary key (cuserprojectrole_id),
+        unique (name, company_id)
+    );
+
+    create table cuserprojectsettings (
+        active boolean not null,
+        cuserprojectsettings_id bigint generated by default as identity,
+        project_id bigint not null,
+        role_id bigint,
+        user_id bigint not null,
+        permission varchar(255),
+        primary key (cuserprojectsettings_id),
+        unique (user_id, project_id)
+    );
+
+    create table cuserstory (
+        entitytype_id bigint,
+        userstory_id bigint not null,
+        primary key (userstory_id)
+    );
+
+    create table cuserstorytype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        created_date timestamp(6),
+        cuserstorytype_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (cuserstorytype_id),
+        unique (name, company_id)
+    );
+
+    create table cvalidationcase (
+        active boolean not null,
+        automated boolean not null,
+        assigned_to_id bigint,
+        cprojectitemstatus_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        entitytype_id bigint,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        validationcase_id bigint generated by default as identity,
+        validationsuite_id bigint,
+        priority varchar(20) check (priority in ('CRITICAL','HIGH','MEDIUM','LOW')),
+        severity varchar(20) check (severity in ('BLOCKER','CRITICAL','MAJOR','NORMAL','MINOR','TRIVIAL')),
+        name varchar(100),
+        automated_test_path varchar(500),
+        description varchar(2000),
+        preconditions varchar(2000),
+        primary key (validationcase_id)
+    );
+
+    create table cvalidationcaseresult (
+        active boolean not null,
+        execution_order integer,
+        duration_ms bigint,
+        validationcase_id bigint not null,
+        validationcaseresult_id bigint generated by default as identity,
+        validationsession_id bigint not null,
+        result varchar(20) check (result in ('PASSED','FAILED','BLOCKED','SKIPPED','IN_PROGRESS','NOT_EXECUTED','PARTIAL')),
+        error_details varchar(5000),
+        notes varchar(5000),
+        primary key (validationcaseresult_id)
+    );
+
+    create table cvalidationcasetype (
+        active boolean not null,
+        attribute_non_deletable boolean not null,
+        can_have_children boolean not null,
+        level integer not null,
+        sort_order integer not null,
+        color varchar(7),
+        company_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        validationcasetype_id bigint generated by default as identity,
+        workflow_id bigint,
+        name varchar(100),
+        description varchar(2000),
+        primary key (validationcasetype_id)
+    );
+
+    create table cvalidationexecution (
+        active boolean not null,
+        assigned_to_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        executed_by_id bigint,
+        execution_date timestamp(6),
+        execution_duration_ms bigint,
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        validationcase_id bigint not null,
+        validationexecution_id bigint generated by default as identity,
+        result varchar(20) check (result in ('PASSED','FAILED','BLOCKED','SKIPPED','IN_PROGRESS','NOT_EXECUTED')),
+        build_number varchar(100),
+        environment varchar(100),
+        name varchar(100),
+        description varchar(2000),
+        actual_results varchar(5000),
+        error_details varchar(5000),
+        notes varchar(5000),
+        primary key (validationexecution_id)
+    );
+
+    create table cvalidationsession (
+        active boolean not null,
+        failed_validation_cases integer,
+        failed_validation_steps integer,
+        passed_validation_cases integer,
+        passed_validation_steps integer,
+        total_validation_cases integer,
+        total_validation_steps integer,
+        assigned_to_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        duration_ms bigint,
+        executed_by_id bigint,
+        execution_end timestamp(6),
+        execution_start timestamp(6),
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        validationsession_id bigint generated by default as identity,
+        validationsuite_id bigint not null,
+        result varchar(20) check (result in ('PASSED','FAILED','BLOCKED','SKIPPED','IN_PROGRESS','NOT_EXECUTED','PARTIAL')),
+        build_number varchar(100),
+        environment varchar(100),
+        name varchar(100),
+        description varchar(2000),
+        execution_notes varchar(5000),
+        primary key (validationsession_id)
+    );
+
+    create table cvalidationstep (
+        active boolean not null,
+        step_order integer not null check (step_order>=1),
+        validationcase_id bigint not null,
+        validationstep_id bigint generated by default as identity,
+        test_data varchar(1000),
+        action varchar(2000),
+        expected_result varchar(2000),
+        notes varchar(2000),
+        primary key (validationstep_id)
+    );
+
+    create table cvalidationstepresult (
+        active boolean not null,
+        duration_ms bigint,
+        validationcaseresult_id bigint not null,
+        validationstep_id bigint not null,
+        validationstepresult_id bigint generated by default as identity,
+        result varchar(20) check (result in ('PASSED','FAILED','BLOCKED','SKIPPED','IN_PROGRESS','NOT_EXECUTED','PARTIAL')),
+        screenshot_path varchar(1000),
+        actual_result varchar(2000),
+        notes varchar(2000),
+        error_details varchar(5000),
+        primary key (validationstepresult_id)
+    );
+
+    create table cvalidationsuite (
+        active boolean not null,
+        assigned_to_id bigint,
+        created_by_id bigint,
+        created_date timestamp(6),
+        last_modified_date timestamp(6),
+        project_id bigint not null,
+        validationsuite_id bigint generated by default as identity,
+        name varchar(100),
+        description varchar(2000),
+        objective varchar(2000),
+        prerequisites varchar(2000),
+        primary key (validationsuite_id)
+    );
+
+    create table cworkflowentity (
+        active boolean not null,
+        company_id bigint not null,
+        created_date timestamp(6),
+        cworkflowentity_id bigint generated by default as identity,
+        last_modified_date timestamp(6),
+        name varchar(100),
+        description varchar(2000),
+        primary key (cworkflowentity_id),
+        unique (name, company_id)
+    );
+
+    create table cworkflowstatusrelation (
+        active boolean not null,
+        is_initial_status boolean not null,
+        cworkflowstatusrelation_id bigint generated by default as identity,
+        from_status_id bigint not null,
+        to_status_id bigint not null,
+        workflow_id bigint not null,
+        primary key (cworkflowstatusrelation_id),
+        unique (workflow_id, from_status_id, to_status_id)
+    );
+
+    create table cworkflowstatusrelation_roles (
+        cworkflowstatusrelation_id bigint not null,
+        role_id bigint not null
+    );
+
+    create table derbent_startup_fingerprint (
+        active boolean not null,
+        recorded_at timestamp(6) not null,
+        startup_fingerprint_id bigint generated by default as identity,
+        fingerprint varchar(64) not null,
+        fingerprint_key varchar(255) not null,
+        primary key (startup_fingerprint_id),
+        unique (fingerprint_key)
+    );
+
+    create table ticket_affected_versions (
+        productversion_id bigint not null,
+        ticket_id bigint not null,
+        primary key (productversion_id, ticket_id)
+    );
+
+    create index idx_clink_source 
+       on clink (source_entity_type, source_entity_id);
+
+    create index idx_clink_target 
+       on clink (target_entity_type, target_entity_id);
+
+    create index idx_csearch_document_company_project 
+       on csearch_document (company_id, project_id);
+
+    create index idx_csearch_term_term_document 
+       on csearch_term (term, search_document_id);
+
+    create index idx_csearch_term_document 
+       on csearch_term (search_document_id);
+
+    create index idx_cstorageitem_project_quantity 
+       on cstorageitem (project_id, current_quantity);
+
+    create index idx_cstorageitem_project_expiration 
+       on cstorageitem (project_id, expiration_date);
+
+    alter table if exists cactivity 
+       add constraint FKomt6f3chsn102deb0cvtofxv8 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists cactivity 
+       add constraint FK8xhsjb0p3t21tniycu1lmxb67 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists cactivity 
+       add constraint FKghproaxgd82hnhmtp29mh50rt 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists cactivity 
+       add constraint FKpkdyajmw30624h056b9my71h7 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists cactivity 
+       add constraint FKnoijuxlr6px9fca0st6pfa61f 
+       foreign key (entitytype_id) 
+       references cactivitytype;
+
+    alter table if exists cactivity 
+       add constraint FKla502mshb26c7h7mnmrcggekj 
+       foreign key (agile_parent_relation_id) 
+       references cagile_parent_relation;
+
+    alter table if exists cactivity 
+       add constraint FKi60q0e3ywi76m3y9qqd5014w4 
+       foreign key (cactivitypriority_id) 
+       references cactivitypriority;
+
+    alter table if exists cactivity 
+       add constraint FKl08oqau8icte6fwyme460kt85 
+       foreign key (sprintitem_id) 
+       references csprint_items;
+
+    alter table if exists cactivitypriority 
+       add constraint FKdlcvk4p294m4o9e6k4doih4ll 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cactivitypriority 
+       add constraint FKd19a5xore2gioll6438wd81sb 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cactivitytype 
+       add constraint FKbxdrllrdxnfog4lyk8xrcio5c 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cactivitytype 
+       add constraint FKglfbf9tc1h17akj0hmd1pqasx 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cagileitem 
+       add constraint FK68d8kptxfyqdth0entiv5je3p 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists cagileitem 
+       add constraint FKfy26l7fjpusq2rbve08fcx3sy 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists cagileitem 
+       add constraint FKitlpr76i35lxigu1n1w00560m 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists cagileitem 
+       add constraint FK5x9v5q9strp9uvted7m4kg460 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists cagileitem 
+       add constraint FK1cvgi92joe0gl8940iccqtfb4 
+       foreign key (agile_parent_relation_id) 
+       references cagile_parent_relation;
+
+    alter table if exists cagileitem 
+       add constraint FKoutj7ptwy2dq9hdy2rlxlgowo 
+       foreign key (cactivitypriority_id) 
+       references cactivitypriority;
+
+    alter table if exists cagileitem 
+       add constraint FKogqrjki941n8anohirf3il63d 
+       foreign key (sprintitem_id) 
+       references csprint_items;
+
+    alter table if exists cagiletype 
+       add constraint FKd5s8o4k8g2npyw4i61ylqilut 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cagiletype 
+       add constraint FKbrmekq119k87eekp0vuchm9f8 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists capprovalstatus 
+       add constraint FKf4qu949xie8eepfgm2vuyt89h 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists "casset" 
+       add constraint FKolht0i6ek884m13lqxa4a25l6 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists "casset" 
+       add constraint FKm4ko26sff2pdelp3y7v1io3k7 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists "casset" 
+       add constraint FKc0o7fppkopmb99bk15wtc97tc 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists "casset" 
+       add constraint FK5r2b1yxe3f8k4vdpyl9t5ne9p 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists "casset" 
+       add constraint FKh7bpprgjd75erpt4puodqm8sr 
+       foreign key (entitytype_id) 
+       references cassettype;
+
+    alter table if exists "casset" 
+       add constraint FKfwk9fpxnqg8umlxlkdgiwj4ch 
+       foreign key (parent_asset_id) 
+       references "casset";
+
+    alter table if exists "casset" 
+       add constraint FKfykp3vgb6bd84j3cqorc1763n 
+       foreign key (provider_id) 
+       references cprovider;
+
+    alter table if exists "casset" 
+       add constraint FK1watyu09m1yuhj1k1fegp5qlt 
+       foreign key (user_id) 
+       references cuser;
+
+    alter table if exists cassettype 
+       add constraint FKoso3ltlncnvp8xlje9ryicybc 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cassettype 
+       add constraint FKq43nefgcmdhigg0r7r03y5v9g 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cattachment 
+       add constraint FKqwitye1sgl2pv8wyfbpxg5p4e 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cattachment 
+       add constraint FK3244pu2sxgtjjqkhlnunryvar 
+       foreign key (document_type_id) 
+       references cdocument_type;
+
+    alter table if exists cattachment 
+       add constraint FK7csnqbk5eqvts96f4k75amme6 
+       foreign key (previous_version_id) 
+       references cattachment;
+
+    alter table if exists cattachment 
+       add constraint FK22viy7umsotq407iruc0xpfb5 
+       foreign key (uploaded_by_id) 
+       references cuser;
+
+    alter table if exists cattachment 
+       add constraint FK17c9lm6xxvx2t4ww65c8wut4a 
+       foreign key (validationsuite_id) 
+       references cvalidationsuite;
+
+    alter table if exists cattachment 
+       add constraint FK815dip03n126pviq6f4wm3f5q 
+       foreign key (validationsession_id) 
+       references cvalidationsession;
+
+    alter table if exists cattachment 
+       add constraint FKrkda6c45eyi8rrm1uibmrx9t 
+       foreign key (validationcase_id) 
+       references cvalidationcase;
+
+    alter table if exists cattachment 
+       add constraint FKjxyjijpfg0jgsh7w1f4inglyd 
+       foreign key (ticket_id) 
+       references "cticket";
+
+    alter table if exists cattachment 
+       add constraint FK1qgv1sm9g8wnctbbpbh5cadpu 
+       foreign key (service_department_id) 
+       references cticket_service_department;
+
+    alter table if exists cattachment 
+       add constraint FKq44jhjbvj535gdlv7toox07dd 
+       foreign key (team_id) 
+       references cteam;
+
+    alter table if exists cattachment 
+       add constraint FKl6jxlpi29qh8k7453kark74xw 
+       foreign key (storageitem_id) 
+       references cstorageitem;
+
+    alter table if exists cattachment 
+       add constraint FKkg2jj7bugs1syu50vkg064wqo 
+       foreign key (storage_id) 
+       references cstorage;
+
+    alter table if exists cattachment 
+       add constraint FK8l8bxuxxdffaq7662b7qkrpww 
+       foreign key (sprint_id) 
+       references csprint;
+
+    alter table if exists cattachment 
+       add constraint FK82mybgfjefqad82f57iwq1c6f 
+       foreign key (system_settings_id) 
+       references csystemsettings_derbent;
+
+    alter table if exists cattachment 
+       add constraint FKsx8kaedemj5o7v35fim2568yg 
+       foreign key (risk_id) 
+       references "crisk";
+
+    alter table if exists cattachment 
+       add constraint FKb6kcs4ambqeru8lmpexrelvbx 
+       foreign key (risklevel_id) 
+       references "crisklevel";
+
+    alter table if exists cattachment 
+       add constraint FKbwbwbe363xab7dicu9fgb2ob3 
+       foreign key (requirement_id) 
+       references crequirement;
+
+    alter table if exists cattachment 
+       add constraint FK476u4u80icuwphi9983yll2xp 
+       foreign key (provider_id) 
+       references cprovider;
+
+    alter table if exists cattachment 
+       add constraint FKg33dhbtwgg5w3jxf2qvl83ku3 
+       foreign key (projectincome_id) 
+       references "cprojectincome";
+
+    alter table if exists cattachment 
+       add constraint FK4kh3scm6jmbkh3yfccix89kmk 
+       foreign key (projectexpense_id) 
+       references "cprojectexpense";
+
+    alter table if exists cattachment 
+       add constraint FKdhvlloy20rst4u5nchb0qhamp 
+       foreign key (project_id) 
+       references cproject;
+
+    alter table if exists cattachment 
+       add constraint FKla478h55m20qafiu1dcpj04ou 
+       foreign key (productversion_id) 
+       references "cproductversion";
+
+    alter table if exists cattachment 
+       add constraint FKn4q1w5ef83oisat87rly4gyqx 
+       foreign key (product_id) 
+       references "cproduct";
+
+    alter table if exists cattachment 
+       add constraint FKaoykr5t0ejiaer7cghuhachio 
+       foreign key (order_id) 
+       references corder;
+
+    alter table if exists cattachment 
+       add constraint FKeu0d27i2w0mom53y5ok9w5nqg 
+       foreign key (milestone_id) 
+       references "cmilestone";
+
+    alter table if exists cattachment 
+       add constraint FK3x2c4d01prc39aywk7jf6jmb5 
+       foreign key (meeting_id) 
+       references cmeeting;
+
+    alter table if exists cattachment 
+       add constraint FK7uuhe5fay1kg2g8d44xabv2lq 
+       foreign key (issue_id) 
+       references cissue;
+
+    alter table if exists cattachment 
+       add constraint FKcpwtg46q6ski1g1k27lqvl08w 
+       foreign key (invoice_id) 
+       references cinvoice;
+
+    alter table if exists cattachment 
+       add constraint FKpfcfeu6b8qiy5vf4cmceo64js 
+       foreign key (deliverable_id) 
+       references "cdeliverable";
+
+    alter table if exists cattachment 
+       add constraint FKngc87bb4ow0odthtfetu560ak 
+       foreign key (decision_id) 
+       references cdecision;
+
+    alter table if exists cattachment 
+       add constraint FK62vetbx37whdnyo770nas7agj 
+       foreign key (customer_id) 
+       references ccustomer;
+
+    alter table if exists cattachment 
+       add constraint FKi3lrbtmrpxav9h7msv88fbos4 
+       foreign key (projectcomponentversion_id) 
+       references "cprojectcomponentversion";
+
+    alter table if exists cattachment 
+       add constraint FK4owsmmltt5hh6gf018w6qvx87 
+       foreign key (projectcomponent_id) 
+       references "cprojectcomponent";
+
+    alter table if exists cattachment 
+       add constraint FKajiwnqci1atqr13b848guqu6e 
+       foreign key (budget_id) 
+       references "cbudget";
+
+    alter table if exists cattachment 
+       add constraint FK2p35ugjlrqmrik3affwpe4y0l 
+       foreign key (asset_id) 
+       references "casset";
+
+    alter table if exists cattachment 
+       add constraint FK3m6rbe3g8yy06vtdch1tm7oeh 
+       foreign key (agile_item_id) 
+       references cagileitem;
+
+    alter table if exists cattachment 
+       add constraint FK43h5beenm2xms8ll6hpecti0q 
+       foreign key (activity_id) 
+       references cactivity;
+
+    alter table if exists cattachment 
+       add constraint FKkgdjwbrvrf4s4ily99qdtdqii 
+       foreign key (user_id) 
+       references cuser;
+
+    alter table if exists "cbudget" 
+       add constraint FKmwmcv71poe8da6hqlmq4mou37 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists "cbudget" 
+       add constraint FKibafr0ape28kfmqdanpog8k3j 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists "cbudget" 
+       add constraint FKlxtl0mhbfsdw55pmcuwonmgin 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists "cbudget" 
+       add constraint FKpp1iy10ji56728o9fk29ts93v 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists "cbudget" 
+       add constraint FKm99yhja951w32ufra9mk0p85e 
+       foreign key (currency_id) 
+       references ccurrency;
+
+    alter table if exists "cbudget" 
+       add constraint FKptj5j62m6f0pdqbopc4at34gx 
+       foreign key (entitytype_id) 
+       references cbudgettype;
+
+    alter table if exists cbudgettype 
+       add constraint FK8p8wafwmpsygtkyvvt763f9n4 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cbudgettype 
+       add constraint FKfdnugwvorrbtsuot58kmg5f1k 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists ccomment 
+       add constraint FKl215hdv8cj3kbes2owq4xbkt7 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists ccomment 
+       add constraint FKhv03vxk9xxvqrkwax2vqs3ri2 
+       foreign key (author_id) 
+       references cuser;
+
+    alter table if exists ccomment 
+       add constraint FK8p24h5uyewsthpkwh701ifyp1 
+       foreign key (validationsuite_id) 
+       references cvalidationsuite;
+
+    alter table if exists ccomment 
+       add constraint FK9943w4af8tf57g3t6aooroe36 
+       foreign key (validationsession_id) 
+       references cvalidationsession;
+
+    alter table if exists ccomment 
+       add constraint FKkg2h260q93bv3ex0e8o3jt56p 
+       foreign key (validationcase_id) 
+       references cvalidationcase;
+
+    alter table if exists ccomment 
+       add constraint FK2ekg0w6q71yd0jsd5ea0cilnq 
+       foreign key (ticket_id) 
+       references "cticket";
+
+    alter table if exists ccomment 
+       add constraint FKsl011ebms4ttdm60mbjf3olma 
+       foreign key (service_department_id) 
+       references cticket_service_department;
+
+    alter table if exists ccomment 
+       add constraint FKjyqs5av8n339dshroyf7lhjef 
+       foreign key (team_id) 
+       references cteam;
+
+    alter table if exists ccomment 
+       add constraint FKentycnn5litgeiir7ogkumn4b 
+       foreign key (storageitem_id) 
+       references cstorageitem;
+
+    alter table if exists ccomment 
+       add constraint FKat9eap07jjtvafqclk7cluca2 
+       foreign key (storage_id) 
+       references cstorage;
+
+    alter table if exists ccomment 
+       add constraint FKgc1h0lmtx4xgmqesmueiycns5 
+       foreign key (sprint_id) 
+       references csprint;
+
+    alter table if exists ccomment 
+       add constraint FK8gs4wb36mndih3wuj9wb6ng6y 
+       foreign key (system_settings_id) 
+       references csystemsettings_derbent;
+
+    alter table if exists ccomment 
+       add constraint FKnwhyf4gadkhjieuq6xbu1mq06 
+       foreign key (risk_id) 
+       references "crisk";
+
+    alter table if exists ccomment 
+       add constraint FK4a8bjma7vu65jf8gdwwokjwvy 
+       foreign key (risklevel_id) 
+       references "crisklevel";
+
+    alter table if exists ccomment 
+       add constraint FKrn71tn1pwa96gce7ma5wjiv4p 
+       foreign key (requirement_id) 
+       references crequirement;
+
+    alter table if exists ccomment 
+       add constraint FK6gnyfjxmofjtsqtr0gbvatbw1 
+       foreign key (provider_id) 
+       references cprovider;
+
+    alter table if exists ccomment 
+       add constraint FK7ghkite9k2q6wdk7yxoc0hhrt 
+       foreign key (projectincome_id) 
+       references "cprojectincome";
+
+    alter table if exists ccomment 
+       add constraint FK3uxcptfafeknqn6hreinkqfme 
+       foreign key (projectexpense_id) 
+       references "cprojectexpense";
+
+    alter table if exists ccomment 
+       add constraint FKhelv9nybiqlaf0rd2244l0xcx 
+       foreign key (project_id) 
+       references cproject;
+
+    alter table if exists ccomment 
+       add constraint FKrqurdl23vt2beldq9mv11aiwy 
+       foreign key (productversion_id) 
+       references "cproductversion";
+
+    alter table if exists ccomment 
+       add constraint FKe22cak27ssbn62jt6j968qkgc 
+       foreign key (product_id) 
+       references "cproduct";
+
+    alter table if exists ccomment 
+       add constraint FK3yeda9xlfh2fksx8d92qnc196 
+       foreign key (order_id) 
+       references corder;
+
+    alter table if exists ccomment 
+       add constraint FKspv87ydhifb5r1yuhkvj3aq89 
+       foreign key (milestone_id) 
+       references "cmilestone";
+
+    alter table if exists ccomment 
+       add constraint FK3r0vd9xg1fr5p82cp10o95gl3 
+       foreign key (meeting_id) 
+       references cmeeting;
+
+    alter table if exists ccomment 
+       add constraint FK4sd03blsy2tqbnr1pn1t4al7r 
+       foreign key (issue_id) 
+       references cissue;
+
+    alter table if exists ccomment 
+       add constraint FKncylgvonn6rfqw0y617ld0b6y 
+       foreign key (invoice_id) 
+       references cinvoice;
+
+    alter table if exists ccomment 
+       add constraint FKey8yr68ur5p18mkt3xnb78t01 
+       foreign key (deliverable_id) 
+       references "cdeliverable";
+
+    alter table if exists ccomment 
+       add constraint FKismum7r9uetfyxb2yklxs0w6q 
+       foreign key (decision_id) 
+       references cdecision;
+
+    alter table if exists ccomment 
+       add constraint FK969otwaigob2m6v7q02g29yix 
+       foreign key (customer_id) 
+       references ccustomer;
+
+    alter table if exists ccomment 
+       add constraint FKc9vpk190jokihlwiqtfwuddbb 
+       foreign key (projectcomponentversion_id) 
+       references "cprojectcomponentversion";
+
+    alter table if exists ccomment 
+       add constraint FKce8qmjhdaeao4i93wvlgjalsb 
+       foreign key (projectcomponent_id) 
+       references "cprojectcomponent";
+
+    alter table if exists ccomment 
+       add constraint FKdco4bi059xm28btn29hyim5h3 
+       foreign key (budget_id) 
+       references "cbudget";
+
+    alter table if exists ccomment 
+       add constraint FKdiqcfdglmu9u5w3wtdu0wgo4x 
+       foreign key (asset_id) 
+       references "casset";
+
+    alter table if exists ccomment 
+       add constraint FK6ppq27755r9x058rqgiwmsh3s 
+       foreign key (agile_item_id) 
+       references cagileitem;
+
+    alter table if exists ccomment 
+       add constraint FKjkpoppypjef8hb7f0r3dhdbjo 
+       foreign key (activity_id) 
+       references cactivity;
+
+    alter table if exists ccomment 
+       add constraint FKaploswpy32gbpixo8kfx13ggu 
+       foreign key (user_id) 
+       references cuser;
+
+    alter table if exists ccomponentversiontype 
+       add constraint FKfey7tgns1n7obair0nitr8xb8 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists ccomponentversiontype 
+       add constraint FKdq77dl1gxq4iif7u2e4uawdqq 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists ccurrency 
+       add constraint FKd8cu8qikkkudfwlwwmw3gk9ri 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists ccurrency 
+       add constraint FKfep8h5ri07lvhp431onp539x6 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists ccurrency 
+       add constraint FKt27bdnb7put7go6l0tsn911ia 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists ccustomer 
+       add constraint FK2prwrasy0tr2oq3s3pwf7ais6 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists ccustomer 
+       add constraint FK5dju15980ax808o6lm3yi3kqs 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists ccustomer 
+       add constraint FKrhubl61xyybpyj127jxs89leu 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists ccustomer 
+       add constraint FKa2c8e8f74txsfvc1gqbug6k07 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists ccustomer 
+       add constraint FKblin67p0hrxjkcgfhv5o737j3 
+       foreign key (entitytype_id) 
+       references ccustomertype;
+
+    alter table if exists ccustomertype 
+       add constraint FKj2xi3y10mhls5lic9q5bmgej8 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists ccustomertype 
+       add constraint FKk2ve6fvrm0ojjffdnfywpqtmd 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cdashboardprojecttype 
+       add constraint FKe8fwabsx53e87ih8jmxdtforw 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cdashboardprojecttype 
+       add constraint FK9du3hh9rh9p1am6ymmg6r3snx 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cdataimport 
+       add constraint FK2ott6s66eft0ayyhtx8kcom3v 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cdecision 
+       add constraint FKin1umpld304ecveyw783m8of 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists cdecision 
+       add constraint FKjwfdaesiocb2y3oalfd67kgy8 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists cdecision 
+       add constraint FKis5jqa0amaqwqhatkwyow0et7 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists cdecision 
+       add constraint FKolm5kiai5lada4bevvrc1pqnn 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists cdecision 
+       add constraint FKqndd52y0mha9hggsjw9uq0vhc 
+       foreign key (entitytype_id) 
+       references cdecisiontype;
+
+    alter table if exists cdecision 
+       add constraint FKe3usabse2k2y9bkb0rtilu91g 
+       foreign key (agile_parent_relation_id) 
+       references cagile_parent_relation;
+
+    alter table if exists cdecisiontype 
+       add constraint FKfuvuakowx7srrj4y9dnvfjsb8 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cdecisiontype 
+       add constraint FKk5495td26j2rqu30jno2tk7p6 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists "cdeliverable" 
+       add constraint FK1900hd9ntgbovipcb9vj8dme1 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists "cdeliverable" 
+       add constraint FK7gy30s9byojp6mq0jlokjja28 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists "cdeliverable" 
+       add constraint FK4r4txdm4r0jl1vk9qrkco80ee 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists "cdeliverable" 
+       add constraint FK5os523g8am376cnl4rgpy5ck6 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists "cdeliverable" 
+       add constraint FK9gg4da27tabg2gft1kx469ccx 
+       foreign key (entitytype_id) 
+       references cdeliverabletype;
+
+    alter table if exists "cdeliverable" 
+       add constraint FKfucn86jebhc9atqwqi0ovkwq0 
+       foreign key (agile_parent_relation_id) 
+       references cagile_parent_relation;
+
+    alter table if exists cdeliverabletype 
+       add constraint FK8ygh4wnkrmg1f4po2xoere69s 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cdeliverabletype 
+       add constraint FKf464hytt7bfvy25g6andvumjj 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cdetaillines 
+       add constraint FKegbxk5g80r45a4us6c7amyy7m 
+       foreign key (detailsection_id) 
+       references cdetailsection;
+
+    alter table if exists cdetailsection 
+       add constraint FKlwjddtj7xsxfvisfr654k1x2w 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists cdetailsection 
+       add constraint FKh66g9eb8k39g3hubh1hkxcnqy 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists cdetailsection 
+       add constraint FKmlib4i2yslb2t9142931us7vd 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists cdocument_type 
+       add constraint FK5dtp3097ex51c0wllxhg9nfvx 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cdocument_type 
+       add constraint FKgjsiuu20w1eg3g3gwakpujnd6 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cemail_queued 
+       add constraint FKfnkyos8ehbohdp1hji0tc478l 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cemail_sent 
+       add constraint FK57xrsi0uugkiyj8tftq1klycg 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cepic 
+       add constraint FKnoabf7m5hffcselgdrl3uhyrm 
+       foreign key (entitytype_id) 
+       references cepictype;
+
+    alter table if exists cepic 
+       add constraint FKbkrugjtvkopp3715wo5evlmua 
+       foreign key (epic_id) 
+       references cagileitem;
+
+    alter table if exists cepictype 
+       add constraint FK2c3mked9w0qwvqgubxgtrrp0j 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cepictype 
+       add constraint FKnrdtsm4pyc40ss75mcv1bvyi4 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cfeature 
+       add constraint FKhgsiewryf0xd5ukogl2votcfr 
+       foreign key (entitytype_id) 
+       references cfeaturetype;
+
+    alter table if exists cfeature 
+       add constraint FKi10ak376jdqj19eva7t3bio0w 
+       foreign key (feature_id) 
+       references cagileitem;
+
+    alter table if exists cfeaturetype 
+       add constraint FKplsetos5y3cpxbk99mf427w4x 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cfeaturetype 
+       add constraint FK8snmg4tyiok316c74c68hn7o0 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cgnntview 
+       add constraint FK3csmesqq3xv5cw9y011u33xe7 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists cgnntview 
+       add constraint FKg5r8ddrvqt9qles3t2xv8tjt2 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists cgnntview 
+       add constraint FKeah0qi8bgbw7iiifuehbub62g 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists cgridentity 
+       add constraint FKp3fabxluw1vc4etvciv9q586e 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists cgridentity 
+       add constraint FKkev760hlns4kocsl8x12833h4 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists cgridentity 
+       add constraint FKm0r7ta64sg4sulqwfn6j69kdp 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists cinvoice 
+       add constraint FKe1t3mrw1vda7bvdpk2swts3sf 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists cinvoice 
+       add constraint FKfov9fpqupj0fc07m64fm8xbpi 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists cinvoice 
+       add constraint FKmy8f79wqvye07gmni26wtwd20 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists cinvoice 
+       add constraint FKk57p5srx8dlhw00mb6nueg9bq 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists cinvoice 
+       add constraint FKt9ncca1ef20opqrjd3hbg0ran 
+       foreign key (currency_id) 
+       references ccurrency;
+
+    alter table if exists cinvoice 
+       add constraint FKk5m7aurc5yqrvywtpa6iye1uo 
+       foreign key (entitytype_id) 
+       references cinvoicetype;
+
+    alter table if exists cinvoice 
+       add constraint FK4cfy7a2w1eax4xrd68qmgrb6q 
+       foreign key (issued_by_id) 
+       references cuser;
+
+    alter table if exists cinvoice 
+       add constraint FKfj4021rf2llhajocr1vgowcm0 
+       foreign key (milestone_id) 
+       references "cmilestone";
+
+    alter table if exists cinvoiceitem 
+       add constraint FKrsp8q711gnlvfoa5p0m9tsae7 
+       foreign key (invoice_id) 
+       references cinvoice;
+
+    alter table if exists cinvoicetype 
+       add constraint FK74j3bnb2fksb9f4bl1sutw720 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cinvoicetype 
+       add constraint FK17cismgbiit5tax87k3xc6xgy 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cissue 
+       add constraint FKfixi233m1y17jg3hua8t0ep6m 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists cissue 
+       add constraint FKedsr71bijybkgxuxphguox17n 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists cissue 
+       add constraint FKmw1y177hugnaun5yfe2luavou 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists cissue 
+       add constraint FK5bd07ckpp710f68tf5tx6aafy 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists cissue 
+       add constraint FKnr7i890og8ts0eftj96agoqae 
+       foreign key (entitytype_id) 
+       references cissuetype;
+
+    alter table if exists cissue 
+       add constraint FKbisd7bdbvyat1wosvbo1se8to 
+       foreign key (linked_activity_id) 
+       references cactivity;
+
+    alter table if exists cissue 
+       add constraint FKlatnf7ees7xfqqjg80cjxjso8 
+       foreign key (agile_parent_relation_id) 
+       references cagile_parent_relation;
+
+    alter table if exists cissue 
+       add constraint FKn9twbtjg7rv0moehnx9h3o0j 
+       foreign key (sprintitem_id) 
+       references csprint_items;
+
+    alter table if exists cissuetype 
+       add constraint FKer6d1l4unxdp582qcv068w6mf 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cissuetype 
+       add constraint FKiumhlu2bkch7q1p4ssj7fy89v 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists ckanbancolumn 
+       add constraint FKlhw2xirmg37rpctd9ccqouvla 
+       foreign key (kanban_line_id) 
+       references ckanbanline;
+
+    alter table if exists ckanbancolumn_included_status 
+       add constraint FKox15waff6bepkrlqft4kh74yi 
+       foreign key (status_id) 
+       references cprojectitemstatus;
+
+    alter table if exists ckanbancolumn_included_status 
+       add constraint FKkvbf3ykc27l1qtdggvxnb7qpe 
+       foreign key (kanban_column_id) 
+       references ckanbancolumn;
+
+    alter table if exists ckanbanline 
+       add constraint FKn8rog47iinrt96vy1g46im4mb 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists clink 
+       add constraint FKkyr52wshjdecqvbfx5cnomj2f 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists clink 
+       add constraint FKsntc7uskc1je6ssb8thd2fifl 
+       foreign key (ticket_id) 
+       references "cticket";
+
+    alter table if exists clink 
+       add constraint FKf1ollo8q0q1ct0fv0qpnwsv91 
+       foreign key (storage_id) 
+       references cstorage;
+
+    alter table if exists clink 
+       add constraint FK3xnv88x4ft5xpm2t9twm094lo 
+       foreign key (risk_id) 
+       references "crisk";
+
+    alter table if exists clink 
+       add constraint FK6mhjd9r709e2w9bth2nrfd09d 
+       foreign key (requirement_id) 
+       references crequirement;
+
+    alter table if exists clink 
+       add constraint FKq1u9w4lj34by8elpru0a4r1hd 
+       foreign key (order_id) 
+       references corder;
+
+    alter table if exists clink 
+       add constraint FKry25wdnd7ip67rd05ujq4e4ac 
+       foreign key (milestone_id) 
+       references "cmilestone";
+
+    alter table if exists clink 
+       add constraint FK5f2maq8l19kqodjvejk502kuw 
+       foreign key (issue_id) 
+       references cissue;
+
+    alter table if exists clink 
+       add constraint FK1y6cttpb9thugo6eriljs3t0e 
+       foreign key (decision_id) 
+       references cdecision;
+
+    alter table if exists clink 
+       add constraint FKk5s5morrks6ulj0t2myly13ab 
+       foreign key (asset_id) 
+       references "casset";
+
+    alter table if exists clink 
+       add constraint FK11k0d4gx6acfx045ne3no8m7i 
+       foreign key (agile_item_id) 
+       references cagileitem;
+
+    alter table if exists clink 
+       add constraint FKn5aj6lp1m4qdoe3owmfojlxeb 
+       foreign key (activity_id) 
+       references cactivity;
+
+    alter table if exists cmastersection 
+       add constraint FK9gooe5er6i3gexnhut33p9d8f 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists cmastersection 
+       add constraint FKf8k7jmyvuqf5ctn0e0sxn88ic 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists cmastersection 
+       add constraint FKn6p7qdfteap16xcw8ec5rtjan 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists cmeeting 
+       add constraint FKshbuhu4ojjkdwg6njfl5yswv2 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists cmeeting 
+       add constraint FK4r038vc923c1519o1h482tlc4 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists cmeeting 
+       add constraint FKgvg2tfqfc5pj7v2f7j2ya0es4 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists cmeeting 
+       add constraint FK4uwrkge0tqf19e6b6410bn67j 
+       foreign key (meeting_status_id) 
+       references cprojectitemstatus;
+
+    alter table if exists cmeeting 
+       add constraint FKsikdh2ndqnryx02og5unerm2v 
+       foreign key (entitytype_id) 
+       references cmeetingtype;
+
+    alter table if exists cmeeting 
+       add constraint FKnpoyhx2tbqe886nw7judn92o7 
+       foreign key (agile_parent_relation_id) 
+       references cagile_parent_relation;
+
+    alter table if exists cmeeting 
+       add constraint FKc1muy2ycgjeter62guqt9qr0x 
+       foreign key (related_activity_id) 
+       references cactivity;
+
+    alter table if exists cmeeting 
+       add constraint FKfxe3ydrtxwnqi6cwo959elaax 
+       foreign key (sprintitem_id) 
+       references csprint_items;
+
+    alter table if exists cmeeting_attendees 
+       add constraint FKjs3ovemtf255vk0uknd4d1k0h 
+       foreign key (user_id) 
+       references cuser;
+
+    alter table if exists cmeeting_attendees 
+       add constraint FKc21p5r6udm7dtx5q8vmmlkmo3 
+       foreign key (meeting_id) 
+       references cmeeting;
+
+    alter table if exists cmeeting_participants 
+       add constraint FKrvav5vxv5f8m0tbwa7dy2tmpo 
+       foreign key (user_id) 
+       references cuser;
+
+    alter table if exists cmeeting_participants 
+       add constraint FKalkhakebw8rqdx6hvgnm94vw0 
+       foreign key (meeting_id) 
+       references cmeeting;
+
+    alter table if exists cmeetingtype 
+       add constraint FKoiqcc7f5y52s1dw0b7160jv71 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cmeetingtype 
+       add constraint FKdhq7s8qrob64hlt7jg9t5kkpa 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists "cmilestone" 
+       add constraint FKaelbwasagh69s4mnktiwvhes1 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists "cmilestone" 
+       add constraint FKfljtpmijwkgcu7ka8qect6f6c 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists "cmilestone" 
+       add constraint FKm1ndl1nr86aeufxm3rteo3ai5 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists "cmilestone" 
+       add constraint FK28ewkyn7xvv9ororqa9o71lwx 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists "cmilestone" 
+       add constraint FKm9t8em5yt1l9agtifox74tqne 
+       foreign key (entitytype_id) 
+       references cmilestonetype;
+
+    alter table if exists "cmilestone" 
+       add constraint FK48hpj8n1sj68gvpohdch3ob2a 
+       foreign key (agile_parent_relation_id) 
+       references cagile_parent_relation;
+
+    alter table if exists cmilestonetype 
+       add constraint FK63elm8qidbiplkkwcj2jx33pk 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cmilestonetype 
+       add constraint FKkrm4vei37enf1im9cxewygn89 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists corder 
+       add constraint FK6a9pxdtw0wi2hiangc076n6eo 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists corder 
+       add constraint FK8rmenn25qcpo49epd09xvwdps 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists corder 
+       add constraint FKn3c62ljc0idspwsdob4jsu68d 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists corder 
+       add constraint FK253ujqyk1dq4qagbgidauit1x 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists corder 
+       add constraint FKim1isuuilliv19qq8ftqe34ak 
+       foreign key (currency_id) 
+       references ccurrency;
+
+    alter table if exists corder 
+       add constraint FKg08vsw6sfwi6kjo18oscgwcrg 
+       foreign key (entitytype_id) 
+       references cordertype;
+
+    alter table if exists corder 
+       add constraint FKcdsg5lnvn8qrbsr43emewtcy6 
+       foreign key (requestor_id) 
+       references cuser;
+
+    alter table if exists corderapproval 
+       add constraint FK4m8g7wc7oanhs3oddy8cb8nlj 
+       foreign key (approval_status_id) 
+       references capprovalstatus;
+
+    alter table if exists corderapproval 
+       add constraint FKlt338aapgd30im8o6yhuotx90 
+       foreign key (approver_id) 
+       references cuser;
+
+    alter table if exists corderapproval 
+       add constraint FKs3f1lyum66i1bc2gaqd32qp76 
+       foreign key (order_id) 
+       references corder;
+
+    alter table if exists cordertype 
+       add constraint FKadwf431jvh8ud4801guli7u9w 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cordertype 
+       add constraint FKky1dgcliwy2v3lr5wto242ihw 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cpageentity 
+       add constraint FKq0gu7ystt6mugpgwb4rrog3jl 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists cpageentity 
+       add constraint FKmwg6rhixqx9i5njyjq6o7m8w 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists cpageentity 
+       add constraint FK9ivifo2e3m6ugyq0md9su6g7 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists cpageentity 
+       add constraint FKm11xefjnstu5diwras3qngonw 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists cpageentity 
+       add constraint FKress03t0enb3lkhqn413xsl20 
+       foreign key (detail_section_id) 
+       references cdetailsection;
+
+    alter table if exists cpageentity 
+       add constraint FKdho7l5isw8de20dgusx00xilr 
+       foreign key (entitytype_id) 
+       references cpageentitytype;
+
+    alter table if exists cpageentity 
+       add constraint FKpbj14im1wlp51ye0claidechg 
+       foreign key (grid_entity_id) 
+       references cgridentity;
+
+    alter table if exists cpageentitytype 
+       add constraint FKnstl58jqvf8lmos5ywnqu0t89 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cpageentitytype 
+       add constraint FKeie9svk6jlt3kg355e9b085yw 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cpayment 
+       add constraint FK78uiet1ba5r98udsg5itowx0d 
+       foreign key (currency_id) 
+       references ccurrency;
+
+    alter table if exists cpayment 
+       add constraint FKpqtjgvgfveoaf9oa07onsveii 
+       foreign key (invoice_id) 
+       references cinvoice;
+
+    alter table if exists cpayment 
+       add constraint FKnomces06y9iwsysga335mn3wq 
+       foreign key (received_by_id) 
+       references cuser;
+
+    alter table if exists "cproduct" 
+       add constraint FKnfihpxmno8uwo506elcxic82 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists "cproduct" 
+       add constraint FKj1d4ojhqd3t392f45wkno8weg 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists "cproduct" 
+       add constraint FKcc3ets28ne1l7jos8qugsrwrs 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists "cproduct" 
+       add constraint FKnf79f0ro29m0y0uuiw1960vae 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists "cproduct" 
+       add constraint FKkgwvju75wrcosxrlvm5v036jy 
+       foreign key (entitytype_id) 
+       references cproducttype;
+
+    alter table if exists cproducttype 
+       add constraint FK1f619kpml13ll7xvgch1t1dc3 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cproducttype 
+       add constraint FKkfpnitiq9wm9s6h1hwcqq6xd2 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists "cproductversion" 
+       add constraint FK5alvn182h4gp840xp8t76ynjm 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists "cproductversion" 
+       add constraint FKtjlw6jx9fkoagbkeykq7w84em 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists "cproductversion" 
+       add constraint FK952r6cyve5do6ufg1ucmi6po9 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists "cproductversion" 
+       add constraint FKbvc3jhpynqn3qn1b3al58m7b1 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists "cproductversion" 
+       add constraint FKdoq3lju3b36qvs0li5fbxduij 
+       foreign key (entitytype_id) 
+       references cproductversiontype;
+
+    alter table if exists "cproductversion" 
+       add constraint FKcwgojsl73jwgjkcldjccekdeu 
+       foreign key (product_id) 
+       references "cproduct";
+
+    alter table if exists cproductversiontype 
+       add constraint FK65awa7yx9pjsjlm213gb2mu7b 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cproductversiontype 
+       add constraint FK9hrwhqstcj0cyhdxvq8jmjw65 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cproject 
+       add constraint FK60kdrvr01i2j52fpmvfk7dbum 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cproject 
+       add constraint FKkymr7mmt85xatn9i5ba5v37op 
+       foreign key (entitytype_id) 
+       references cprojecttype;
+
+    alter table if exists cproject 
+       add constraint FKdxmtwe7bpowk40yoy5m1clqj6 
+       foreign key (status_id) 
+       references cprojectitemstatus;
+
+    alter table if exists cproject 
+       add constraint FK60y2kgty79eph51wywpi4ucys 
+       foreign key (kanban_line_id) 
+       references ckanbanline;
+
+    alter table if exists "cprojectcomponent" 
+       add constraint FK3ty0ryxixikfwp59xmpg71qq2 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists "cprojectcomponent" 
+       add constraint FK77rcyqf638mwastmm3udo47pc 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists "cprojectcomponent" 
+       add constraint FKnodbep5iaxe97wrb3wg6uf37w 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists "cprojectcomponent" 
+       add constraint FKadgxtqh3osh5ttpvub34urhul 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists "cprojectcomponent" 
+       add constraint FK2jmye0m672aqvfg7gh43o3872 
+       foreign key (entitytype_id) 
+       references cprojectcomponenttype;
+
+    alter table if exists cprojectcomponenttype 
+       add constraint FKt3v0k7qyi41nn977p7qtj27e2 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cprojectcomponenttype 
+       add constraint FKirecn9175ceweedneb6y9ub2r 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists "cprojectcomponentversion" 
+       add constraint FKa41qtlxmes2ucdbfe8h97bmqo 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists "cprojectcomponentversion" 
+       add constraint FK4msx919d8run0qeql5mmv8ijy 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists "cprojectcomponentversion" 
+       add constraint FKl6xmsky7qpd17qet38k8mj8s4 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists "cprojectcomponentversion" 
+       add constraint FKnigkyp196pjbgfklfjajyjpn3 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists "cprojectcomponentversion" 
+       add constraint FKk7cm2m3keu4v1p268v2xveumy 
+       foreign key (entitytype_id) 
+       references ccomponentversiontype;
+
+    alter table if exists "cprojectcomponentversion" 
+       add constraint FK8yb7qrkoj3o9nglte5kmpqshv 
+       foreign key (projectcomponent_id) 
+       references "cprojectcomponent";
+
+    alter table if exists "cprojectexpense" 
+       add constraint FKeewutuoupy085fvlv3an0hrqq 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists "cprojectexpense" 
+       add constraint FK2viix76ymgvif7hdqvfhjdks2 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists "cprojectexpense" 
+       add constraint FKcsxsfgd76o1y5juoghkiocsuh 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists "cprojectexpense" 
+       add constraint FKbxixjjxjcr1fkis976dhq8vah 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists "cprojectexpense" 
+       add constraint FK31fgyk4b6r2wee7xagb3llv1f 
+       foreign key (currency_id) 
+       references ccurrency;
+
+    alter table if exists "cprojectexpense" 
+       add constraint FK6lglx6xl85ajauu1mgh6k5qpq 
+       foreign key (entitytype_id) 
+       references cprojectexpensetype;
+
+    alter table if exists cprojectexpensetype 
+       add constraint FK3n0m6w1nj4s5gnt2mnyn40yg3 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cprojectexpensetype 
+       add constraint FKr8q6b3g7q85gd47grd7kptmjq 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists "cprojectincome" 
+       add constraint FKhuttgith7k3h8b6in4aguohec 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists "cprojectincome" 
+       add constraint FKitqgjh0v9xbjvxau0ne70lji4 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists "cprojectincome" 
+       add constraint FKi4bp4vf20ybc2rnsjvexeahbo 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists "cprojectincome" 
+       add constraint FKp66dr1y5wxj4eqn1ruua7jdri 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists "cprojectincome" 
+       add constraint FK6f6eljvp8ivo9utuxms034aaf 
+       foreign key (currency_id) 
+       references ccurrency;
+
+    alter table if exists "cprojectincome" 
+       add constraint FKqvjsjxme3uuh0nasytwgj3y3y 
+       foreign key (entitytype_id) 
+       references cprojectincometype;
+
+    alter table if exists cprojectincometype 
+       add constraint FKs4rhfr9164kxnmspgjpv9ik61 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cprojectincometype 
+       add constraint FKko49jpom7mluaiw6l9mtargvs 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cprojectitemstatus 
+       add constraint FK117ehp4ttt1a95bj02hsirr4s 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cprojecttype 
+       add constraint FK9ppo1grfb8hiieafmf98l1aa4 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cprojecttype 
+       add constraint FKj7rvsxn7ypxx9gsb4k8v51wys 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cprovider 
+       add constraint FK5vvwpbrvn4oxdys3mvot83mp4 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists cprovider 
+       add constraint FKt64nttefdk6ctqnkqt7tap51s 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists cprovider 
+       add constraint FKrekpejs8qr3mwauspeucraiuw 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists cprovider 
+       add constraint FK9tk1kpv0sd95pm2gce6mss7b7 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists cprovider 
+       add constraint FKmua27pe8p5mhlhqshfrexx8uk 
+       foreign key (entitytype_id) 
+       references cprovidertype;
+
+    alter table if exists cprovidertype 
+       add constraint FKisbg2l7jaicdypc1fj54d2ri5 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cprovidertype 
+       add constraint FKdhou38x91we0o4djaglpvfmr7 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists crequirement 
+       add constraint FK3vkyjjxrsi6d5utfv8eh507jh 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists crequirement 
+       add constraint FK5v4ro8irsnhdc12kxalk37036 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists crequirement 
+       add constraint FKqiu7ud7l0m7v3y1qavthxhhrb 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists crequirement 
+       add constraint FKl59eefghscm10vyjgfdbb8q0t 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists crequirement 
+       add constraint FKev99mjwdwyo53iq0nlolaseu8 
+       foreign key (entitytype_id) 
+       references crequirementtype;
+
+    alter table if exists crequirement 
+       add constraint FKgkryqh6lecvq68xervrou84p 
+       foreign key (agile_parent_relation_id) 
+       references cagile_parent_relation;
+
+    alter table if exists crequirementtype 
+       add constraint FKm8xiwmxxmo8rs3c2qwjrgjdd3 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists crequirementtype 
+       add constraint FK86bcejuel3nwgohumif6r3pj 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists "crisk" 
+       add constraint FK25us5evyfrelimm1qjhetlryc 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists "crisk" 
+       add constraint FKea5afs6o9q3onxvu6slmcy16c 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists "crisk" 
+       add constraint FKqm4fw8st5ru3b2lpvopwnw7xm 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists "crisk" 
+       add constraint FK4mb2o7h1owchnxh7ile43iqxw 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists "crisk" 
+       add constraint FKedvmi70p2l28mhxejppomisky 
+       foreign key (entitytype_id) 
+       references crisktype;
+
+    alter table if exists "crisk" 
+       add constraint FKsanpttbc8n6l19xpqcmmkg5yi 
+       foreign key (agile_parent_relation_id) 
+       references cagile_parent_relation;
+
+    alter table if exists "crisklevel" 
+       add constraint FKjv4y5cvot4cfs326evgqv2kfq 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists "crisklevel" 
+       add constraint FKmmi9tedkjt3rnlh2hmq15fqpg 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists "crisklevel" 
+       add constraint FKrxq4s88h2f6atdeql43ysvdoa 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists "crisklevel" 
+       add constraint FKtct9w3r07fh6bo692go6lnjh2 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists "crisklevel" 
+       add constraint FKsvfgmi1607nna0a67elvw3oek 
+       foreign key (entitytype_id) 
+       references criskleveltype;
+
+    alter table if exists criskleveltype 
+       add constraint FK3cjkuhgosgd61jcrc2l6lbxvo 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists criskleveltype 
+       add constraint FKm6bn0gxqy52pb2tg6kjr7ptos 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists crisktype 
+       add constraint FKs8jqarxv9rxifyyt535hu21w9 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists crisktype 
+       add constraint FKewrjturjp01qyry4vu6yprvkd 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cschedule_task 
+       add constraint FKfyewfltnmwo9uff1oki9nd60w 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists csearch_term 
+       add constraint FK1cfhw5540yrh2boryjxfpdjr6 
+       foreign key (search_document_id) 
+       references csearch_document;
+
+    alter table if exists csprint 
+       add constraint FKinuh2314omaa1j6ecguoboa1c 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists csprint 
+       add constraint FKdvaf1bpin9kjjo0bus15aha5g 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists csprint 
+       add constraint FKt7matbg6e2w8ol5wy3050wkbk 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists csprint 
+       add constraint FK5jfaomltlm402ooq01mwmajae 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists csprint 
+       add constraint FK68weir6isfhylvc8bqqq66afw 
+       foreign key (entitytype_id) 
+       references csprinttype;
+
+    alter table if exists csprint_burndown_snapshot 
+       add constraint FK9fgj8rbegyk3liag400kf6eub 
+       foreign key (sprint_id) 
+       references csprint;
+
+    alter table if exists csprint_items 
+       add constraint FKpvr291jf91dxpg3vco6a9he5h 
+       foreign key (sprint_id) 
+       references csprint;
+
+    alter table if exists csprint_metrics 
+       add constraint FKcwpg6d9qgymcs7qnsukdofu2j 
+       foreign key (sprint_id) 
+       references csprint;
+
+    alter table if exists csprintplanningview 
+       add constraint FKhxvxabj86w6be8vik0g6atw3n 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists csprintplanningview 
+       add constraint FKcs92pefwjth0hya2g9amr7pry 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists csprintplanningview 
+       add constraint FK34fww60qq1o0pgm5f7nhjvdh3 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists csprinttype 
+       add constraint FKq204y3ac3n1vvkkytc7bvcu1h 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists csprinttype 
+       add constraint FKqk24pb8hcikr8hqr7ddw8l3oq 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cstorage 
+       add constraint FKkoqlrq0v595nsf55scua20ps1 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists cstorage 
+       add constraint FKs6v1nsok728odoe06opm5yx9r 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists cstorage 
+       add constraint FKjblj462wejptir43eir116e18 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists cstorage 
+       add constraint FKpj2ktwspcie6h0vekanvgehka 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists cstorage 
+       add constraint FKj2wfnps9l8auatmhedmt8acuv 
+       foreign key (entitytype_id) 
+       references cstoragetype;
+
+    alter table if exists cstorage 
+       add constraint FK4c59354nrxdo1si0xvl5erhif 
+       foreign key (parent_storage_id) 
+       references cstorage;
+
+    alter table if exists cstorage 
+       add constraint FKt79vm5tkk5nbagg670wmfx4au 
+       foreign key (responsible_user_id) 
+       references cuser;
+
+    alter table if exists cstorageitem 
+       add constraint FKiyloqhrg3wb1blaro5fedqcu2 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists cstorageitem 
+       add constraint FKoiujaruexk6d8mtkhab508ae0 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists cstorageitem 
+       add constraint FKbl7fjrb4yvaqlqle5s1bdfpjd 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists cstorageitem 
+       add constraint FK1cg8wgvmr6qug9hiptwhrxag5 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists cstorageitem 
+       add constraint FK9ry36xai2h43jfdls3acscte4 
+       foreign key (entitytype_id) 
+       references cstorageitemtype;
+
+    alter table if exists cstorageitem 
+       add constraint FK6ttm9aa6wadci1u4iepxyu3lw 
+       foreign key (provider_id) 
+       references cprovider;
+
+    alter table if exists cstorageitem 
+       add constraint FK7ypd28wxbwovrg62qrruhi7wq 
+       foreign key (responsible_user_id) 
+       references cuser;
+
+    alter table if exists cstorageitem 
+       add constraint FKjk387fl49luwweyxt48100n8h 
+       foreign key (storage_id) 
+       references cstorage;
+
+    alter table if exists cstorageitemtype 
+       add constraint FKdf4k9kj8ctetkvnw1k5ihm69w 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cstorageitemtype 
+       add constraint FK6iqlusuoxs14s7b2n6s2pvno9 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cstoragetransaction 
+       add constraint FKm8iinwig0k0ord45cqxrnmkww 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cstoragetransaction 
+       add constraint FKlag50uee8ghr363dmk18h12iu 
+       foreign key (storage_item_id) 
+       references cstorageitem;
+
+    alter table if exists cstoragetransaction 
+       add constraint FKdnqu6u34c15wwqjel1pe1d9ul 
+       foreign key (user_id) 
+       references cuser;
+
+    alter table if exists cstoragetype 
+       add constraint FKia65621mfeeti6h14yt70mh90 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cstoragetype 
+       add constraint FKlk9bmdp8l3pmggmgfgyu4bmyg 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cteam 
+       add constraint FK269n9pblrniib4ibg5xclor3i 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cteam 
+       add constraint FKe9tltw14w5vyij9qqkhtfcrgj 
+       foreign key (team_manager_id) 
+       references cuser;
+
+    alter table if exists cteam_members 
+       add constraint FKsojpkt2n0ru6aicteacq6t597 
+       foreign key (user_id) 
+       references cuser;
+
+    alter table if exists cteam_members 
+       add constraint FKh8y272q609lydrfd8fwdpg2mx 
+       foreign key (team_id) 
+       references cteam;
+
+    alter table if exists "cticket" 
+       add constraint FK7xemtvl2mdnwxiwe0l0e4rqux 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists "cticket" 
+       add constraint FKsi1f1sdk4vogk5bjaihn5i4cq 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists "cticket" 
+       add constraint FKir2nljcjveom54wr5jo79hfbo 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists "cticket" 
+       add constraint FKhbkdhy6x91jdnm8l4ef7jl2hs 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists "cticket" 
+       add constraint FKcvnlw64ynrbxaa3vh0ac7eun7 
+       foreign key (component_id) 
+       references "cprojectcomponent";
+
+    alter table if exists "cticket" 
+       add constraint FK9i0ul4tfjn26ir95el9b7blsw 
+       foreign key (duplicate_of_ticket_id) 
+       references "cticket";
+
+    alter table if exists "cticket" 
+       add constraint FK63qyxw6t1c4wsx2mhkpkfw63r 
+       foreign key (entitytype_id) 
+       references ctickettype;
+
+    alter table if exists "cticket" 
+       add constraint FKew5s1tfay40r0srisgdu1iw8p 
+       foreign key (agile_parent_relation_id) 
+       references cagile_parent_relation;
+
+    alter table if exists "cticket" 
+       add constraint FK2lstxo845o5ghfior1b3bu2gr 
+       foreign key (planned_activity_id) 
+       references cactivity;
+
+    alter table if exists "cticket" 
+       add constraint FKcug9d287685cjpa3wdp8c5x5e 
+       foreign key (ticket_priority_id) 
+       references cticketpriority;
+
+    alter table if exists "cticket" 
+       add constraint FKaj67txajluvsfqioftdqx6d0p 
+       foreign key (product_id) 
+       references "cproduct";
+
+    alter table if exists "cticket" 
+       add constraint FKafxou6a05xyw10jpbl1fkrtya 
+       foreign key (requestor_id) 
+       references cuser;
+
+    alter table if exists "cticket" 
+       add constraint FK2qee97bwqj1ij0dxh6cp053sh 
+       foreign key (service_department_id) 
+       references cticket_service_department;
+
+    alter table if exists "cticket" 
+       add constraint FK9dth4n92103hu797hg55l2bd3 
+       foreign key (target_milestone_id) 
+       references "cmilestone";
+
+    alter table if exists cticket_service_department 
+       add constraint FK13mia0el3u7sgo1qgh8ea26yv 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cticket_service_department 
+       add constraint FKfbhbqckm1fubl685ywbqeu9ev 
+       foreign key (department_manager_id) 
+       references cuser;
+
+    alter table if exists cticket_service_dept_responsibles 
+       add constraint FKimoe2jb1erq0uhi9ewnin5jtk 
+       foreign key (user_id) 
+       references cuser;
+
+    alter table if exists cticket_service_dept_responsibles 
+       add constraint FK5ghqisklxw6kodc1xu7xqjg6g 
+       foreign key (service_department_id) 
+       references cticket_service_department;
+
+    alter table if exists cticketpriority 
+       add constraint FK4mpw8h40m5mjr23nkvk0fc47a 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cticketpriority 
+       add constraint FKk5k6htcessy8kyu9p7v3k0lwq 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists ctickettype 
+       add constraint FK8eq70he1ere731pxqf22x5ou8 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists ctickettype 
+       add constraint FKj7h3bn3h22w3lwbo1ktu4p7gd 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cuser 
+       add constraint FKahot5vbacclxl3mqi2mevg2f6 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cuser 
+       add constraint FKnyq2ajhjtps50cyw1b78bs81s 
+       foreign key (company_role_id) 
+       references cusercompanyrole;
+
+    alter table if exists cuser_activities 
+       add constraint FK2423tbhk1t6lnm0s1mmj8qp7w 
+       foreign key (activities_activity_id) 
+       references cactivity;
+
+    alter table if exists cuser_activities 
+       add constraint FKe4pi9terjjk044jy223nm6ux6 
+       foreign key (cuser_user_id) 
+       references cuser;
+
+    alter table if exists cusercompanyrole 
+       add constraint FK73d0bspeiku4woxyah7byyg5a 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cusercompanysetting 
+       add constraint FKacqnj9o7eusqjunq5d0jjs1uq 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cusercompanysetting 
+       add constraint FK3h2x5bn3kvlt0ow4dp1yr5dmt 
+       foreign key (role_id) 
+       references cusercompanyrole;
+
+    alter table if exists cusercompanysetting 
+       add constraint FK3akw9x090ddwk81d73ow52pmo 
+       foreign key (user_id) 
+       references cuser;
+
+    alter table if exists cuserprojectrole 
+       add constraint FKf24c2uj42a1s118dqot77jqq6 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cuserprojectsettings 
+       add constraint FK41bo8hsac9lj94mfvwlt2uavf 
+       foreign key (project_id) 
+       references cproject;
+
+    alter table if exists cuserprojectsettings 
+       add constraint FKj6ki6t9rlq28sx25xemyuq1k2 
+       foreign key (role_id) 
+       references cuserprojectrole;
+
+    alter table if exists cuserprojectsettings 
+       add constraint FKdrgdi2x0oj8ir9oysc4311f43 
+       foreign key (user_id) 
+       references cuser;
+
+    alter table if exists cuserstory 
+       add constraint FK6wxi6h8rf8psucu4yc8p10p6x 
+       foreign key (entitytype_id) 
+       references cuserstorytype;
+
+    alter table if exists cuserstory 
+       add constraint FK7sfnhr6j5wquuggambcd65idf 
+       foreign key (userstory_id) 
+       references cagileitem;
+
+    alter table if exists cuserstorytype 
+       add constraint FK2jq342w9kdth8nwhkkct70p3f 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cuserstorytype 
+       add constraint FK8v0fg1qqfn34gsip8j7yfo2eh 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cvalidationcase 
+       add constraint FKml3yf09e0t015ehxq1bxes8uc 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists cvalidationcase 
+       add constraint FK2itfungnc31kln5u1nplsk71m 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists cvalidationcase 
+       add constraint FKclgu3xovbecmqccorwtbk0lhp 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists cvalidationcase 
+       add constraint FK8j3sba7wfo62oedsk3jjfawf0 
+       foreign key (cprojectitemstatus_id) 
+       references cprojectitemstatus;
+
+    alter table if exists cvalidationcase 
+       add constraint FKhqg06wn5jfhi0c0rcpxfg5g1t 
+       foreign key (entitytype_id) 
+       references cvalidationcasetype;
+
+    alter table if exists cvalidationcase 
+       add constraint FKg6ikgv0xy1fawpahcjqhl0cn5 
+       foreign key (validationsuite_id) 
+       references cvalidationsuite;
+
+    alter table if exists cvalidationcaseresult 
+       add constraint FKq0umsi90do6p62wsxdn0s3uuv 
+       foreign key (validationcase_id) 
+       references cvalidationcase;
+
+    alter table if exists cvalidationcaseresult 
+       add constraint FK7o0e5ty2td0swjq9tke3pbcu8 
+       foreign key (validationsession_id) 
+       references cvalidationsession;
+
+    alter table if exists cvalidationcasetype 
+       add constraint FKhbgqc12gnw9d70ap7vsa2vqun 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cvalidationcasetype 
+       add constraint FKcks62n3d4muuxbq3jojfhb5ar 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cvalidationexecution 
+       add constraint FKtnms8nnrbfhy22wklgeqgrbj7 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists cvalidationexecution 
+       add constraint FKm6lxjm921g8n8cuejb5nxrkrq 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists cvalidationexecution 
+       add constraint FKhuqeolhl634jjhf596g1e83hx 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists cvalidationexecution 
+       add constraint FKmcsqsl40bq9w49bhxjjh39qme 
+       foreign key (executed_by_id) 
+       references cuser;
+
+    alter table if exists cvalidationexecution 
+       add constraint FKq7ym1wp0nmawe67nyhskpj1ob 
+       foreign key (validationcase_id) 
+       references cvalidationcase;
+
+    alter table if exists cvalidationsession 
+       add constraint FKg9ggl1mj8ue6u13psv9rxwmws 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists cvalidationsession 
+       add constraint FK9j3crrqxydn02v2qnh5iqq82i 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists cvalidationsession 
+       add constraint FK891nr95qed7vy6ghmdvfvgw2w 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists cvalidationsession 
+       add constraint FKfge6strfigxr9bvpcx4c6q9kf 
+       foreign key (executed_by_id) 
+       references cuser;
+
+    alter table if exists cvalidationsession 
+       add constraint FKkh0mmica1i8wafbgyxvdky4sy 
+       foreign key (validationsuite_id) 
+       references cvalidationsuite;
+
+    alter table if exists cvalidationstep 
+       add constraint FKj3nt81nxx7bb8jhuhblh2h2nv 
+       foreign key (validationcase_id) 
+       references cvalidationcase;
+
+    alter table if exists cvalidationstepresult 
+       add constraint FKl87hurhvan4u96lf1ygup1gl0 
+       foreign key (validationcaseresult_id) 
+       references cvalidationcaseresult;
+
+    alter table if exists cvalidationstepresult 
+       add constraint FKs7dy5c3iutdyff8leb7ums5ku 
+       foreign key (validationstep_id) 
+       references cvalidationstep;
+
+    alter table if exists cvalidationsuite 
+       add constraint FK2p6iftwlsqhyhj6j5jpcjjbu 
+       foreign key (assigned_to_id) 
+       references cuser;
+
+    alter table if exists cvalidationsuite 
+       add constraint FKge5hxmenc8slbeanqxseb9dtg 
+       foreign key (created_by_id) 
+       references cuser;
+
+    alter table if exists cvalidationsuite 
+       add constraint FK63b053ymbqkhmfrmv3oymmpcu 
+       foreign key (project_id) 
+       references cproject 
+       on delete cascade;
+
+    alter table if exists cworkflowentity 
+       add constraint FKs3xjn0gle2e02xjsm6nc8qpgc 
+       foreign key (company_id) 
+       references ccompany 
+       on delete cascade;
+
+    alter table if exists cworkflowstatusrelation 
+       add constraint FKl10j3evp6n1psm66fhpv8ip1f 
+       foreign key (from_status_id) 
+       references cprojectitemstatus;
+
+    alter table if exists cworkflowstatusrelation 
+       add constraint FKesmmka5yhwxrafa2qdffxsc8r 
+       foreign key (to_status_id) 
+       references cprojectitemstatus;
+
+    alter table if exists cworkflowstatusrelation 
+       add constraint FKs1tjinbogfk3lpfn37d2nbiv5 
+       foreign key (workflow_id) 
+       references cworkflowentity;
+
+    alter table if exists cworkflowstatusrelation_roles 
+       add constraint FK1f07funki4tqtvbu3qov1gh7d 
+       foreign key (role_id) 
+       references cuserprojectrole;
+
+    alter table if exists cworkflowstatusrelation_roles 
+       add constraint FKdx9ueaajnwboism2kuwhn1g82 
+       foreign key (cworkflowstatusrelation_id) 
+       references cworkflowstatusrelation;
+
+    alter table if exists ticket_affected_versions 
+       add constraint FKfgyqntkv2pjj5cb0q6y377l79 
+       foreign key (productversion_id) 
+       references "cproductversion";
+
+    alter table if exists ticket_affected_versions 
+       add constraint FK27y8pevg5bo8dr3i544gri2sp 
+       foreign key (ticket_id) 
+       references "cticket";
+
+    -- V4: the prefix index of the search postings is not expressible in the mappings.
+    create index idx_csearch_term_prefix 
+       on csearch_term (term varchar_pattern_ops);
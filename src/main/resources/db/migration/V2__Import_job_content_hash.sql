@@ -0,0 +1,2 @@
+-- Chunked imports resume by content hash instead of file name; jobs written before this version have no hash and are never resumed.
+ALTER TABLE IF EXISTS cdataimport ADD COLUMN IF NOT EXISTS content_sha256 VARCHAR(64);
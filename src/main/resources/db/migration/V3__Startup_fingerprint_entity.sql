@@ -0,0 +1,11 @@
+-- Startup fingerprints are an entity now; the table created on first use before this version had no id column. Its rows only let unchanged
+-- screen definitions skip a rewrite, so it is recreated empty.
+DROP TABLE IF EXISTS derbent_startup_fingerprint;
+CREATE TABLE derbent_startup_fingerprint (
+	startup_fingerprint_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	active BOOLEAN NOT NULL,
+	fingerprint VARCHAR(64) NOT NULL,
+	fingerprint_key VARCHAR(255) NOT NULL,
+	recorded_at TIMESTAMP(6) NOT NULL,
+	CONSTRAINT uk_derbent_startup_fingerprint_key UNIQUE (fingerprint_key)
+);
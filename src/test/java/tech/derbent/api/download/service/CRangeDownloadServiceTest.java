@@ -0,0 +1,92 @@
+package tech.derbent.api.download.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import tech.derbent.api.download.service.CRangeDownloadService.RByteRange;
+
+class CRangeDownloadServiceTest {
+
+	private static ServletOutputStream captureInto(final ByteArrayOutputStream body) {
+		return new ServletOutputStream() {
+
+			@Override
+			public boolean isReady() { return true; }
+
+			@Override
+			public void setWriteListener(final WriteListener writeListener) {
+				// Blocking writes only
+			}
+
+			@Override
+			public void write(final int value) {
+				body.write(value);
+			}
+		};
+	}
+
+	@Test
+	void matchesEtag_shouldCompareWeakly() {
+		final String etag = CRangeDownloadService.strongEtag("ab12");
+		assertThat(CRangeDownloadService.matchesEtag("\"other\", W/\"sha256-ab12\"", etag)).isTrue();
+		assertThat(CRangeDownloadService.matchesEtag("*", etag)).isTrue();
+		assertThat(CRangeDownloadService.matchesEtag("\"sha256-ab13\"", etag)).isFalse();
+		assertThat(CRangeDownloadService.matchesEtag(null, etag)).isFalse();
+		assertThat(CRangeDownloadService.contentEtag(new byte[0]))
+				.isEqualTo("\"sha256-e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855\"");
+	}
+
+	@Test
+	void sendContent_shouldPassOnOnlyTheRequestedRangeOfTheWrittenContent() throws Exception {
+		final byte[] content = "0123456789".getBytes(StandardCharsets.UTF_8);
+		final HttpServletRequest request = mock(HttpServletRequest.class);
+		when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+		when(request.getHeader("Range")).thenReturn("bytes=3-6");
+		final HttpServletResponse response = mock(HttpServletResponse.class);
+		final ByteArrayOutputStream body = new ByteArrayOutputStream();
+		when(response.getOutputStream()).thenReturn(captureInto(body));
+		new CRangeDownloadService(1).sendContent(request, response, content.length, CRangeDownloadService.strongEtag("ab12"), "digits.txt",
+				"text/plain", out -> {
+					out.write(content, 0, 2);
+					out.write(content[2]);
+					out.write(content, 3, 7);
+				});
+		verify(response).setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+		assertThat(body.toString(StandardCharsets.UTF_8)).isEqualTo("3456");
+		// The writer is not called for a 304, and a writer that breaks the announced length fails the response.
+		when(request.getHeader("If-None-Match")).thenReturn(CRangeDownloadService.strongEtag("ab12"));
+		new CRangeDownloadService(1).sendContent(request, response, content.length, CRangeDownloadService.strongEtag("ab12"), "digits.txt",
+				"text/plain", out -> {
+					throw new AssertionError("content read for a 304");
+				});
+		when(request.getHeader("If-None-Match")).thenReturn(null);
+		assertThatThrownBy(() -> new CRangeDownloadService(1).sendContent(request, response, content.length, null, "digits.txt", "text/plain",
+				out -> out.write(content, 0, 5))).hasMessageContaining("10 bytes announced, 5 written");
+	}
+
+	@Test
+	void parseRange_shouldResolveSingleRanges() {
+		assertThat(CRangeDownloadService.parseRange("bytes=0-99", 1000)).isEqualTo(new RByteRange(0, 99));
+		assertThat(CRangeDownloadService.parseRange("bytes=900-", 1000)).isEqualTo(new RByteRange(900, 999));
+		assertThat(CRangeDownloadService.parseRange("bytes=-100", 1000)).isEqualTo(new RByteRange(900, 999));
+		assertThat(CRangeDownloadService.parseRange("bytes=-5000", 1000)).isEqualTo(new RByteRange(0, 999));
+		assertThat(CRangeDownloadService.parseRange("bytes=990-5000", 1000).length()).isEqualTo(10);
+		// Whole content: no header, another unit, several ranges or garbage
+		assertThat(CRangeDownloadService.parseRange(null, 1000)).isNull();
+		assertThat(CRangeDownloadService.parseRange("items=0-1", 1000)).isNull();
+		assertThat(CRangeDownloadService.parseRange("bytes=0-1,5-6", 1000)).isNull();
+		assertThat(CRangeDownloadService.parseRange("bytes=a-b", 1000)).isNull();
+		assertThatThrownBy(() -> CRangeDownloadService.parseRange("bytes=1000-", 1000)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> CRangeDownloadService.parseRange("bytes=-0", 1000)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> CRangeDownloadService.parseRange("bytes=5-2", 1000)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
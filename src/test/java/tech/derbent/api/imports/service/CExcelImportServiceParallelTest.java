@@ -0,0 +1,152 @@
+package tech.derbent.api.imports.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.ManyToOne;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import tech.derbent.api.imports.domain.CImportOptions;
+import tech.derbent.api.imports.domain.CImportResult;
+import tech.derbent.api.imports.domain.CImportRowResult;
+import tech.derbent.api.projects.domain.CProject;
+import tech.derbent.api.session.service.ISessionService;
+
+class CExcelImportServiceParallelTest {
+
+	static class Status {}
+
+	static class Owner {}
+
+	static class Task {
+
+		@ManyToOne
+		private Owner owner;
+		@ManyToOne
+		private Status status;
+	}
+
+	/** Records every imported row; fails on the first row when {@code failing} is set. */
+	private final class CRecordingHandler<T> implements IEntityImportHandler<T> {
+
+		private final Class<T> entityClass;
+		private final boolean failing;
+		private final List<CProject<?>> projects = Collections.synchronizedList(new ArrayList<>());
+
+		CRecordingHandler(final Class<T> entityClass, final boolean failing) {
+			this.entityClass = entityClass;
+			this.failing = failing;
+		}
+
+		@Override
+		public Map<String, String> getColumnAliases() { return Map.of(); }
+
+		@Override
+		public Class<T> getEntityClass() { return entityClass; }
+
+		@Override
+		public Set<String> getRequiredColumns() { return Set.of("name"); }
+
+		@Override
+		public Set<String> getSupportedSheetNames() { return Set.of(entityClass.getSimpleName()); }
+
+		@Override
+		public boolean isReferenceDeclarationComplete() { return true; }
+
+		@Override
+		public CImportRowResult importRow(final Map<String, String> rowData, final CProject<?> project, final int rowNumber,
+				final CImportOptions options) {
+			if (failing) {
+				throw new IllegalArgumentException("broken row");
+			}
+			projects.add(project);
+			finished.add(entityClass.getSimpleName());
+			return CImportRowResult.success(rowNumber, rowData.get("name"));
+		}
+	}
+
+	private static byte[] buildWorkbook(final String... sheetNames) throws Exception {
+		try (Workbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+			for (final String sheetName : sheetNames) {
+				final var sheet = wb.createSheet(sheetName);
+				sheet.createRow(0).createCell(0).setCellValue("Name");
+				sheet.createRow(1).createCell(0).setCellValue(sheetName + " 1");
+				sheet.createRow(2).createCell(0).setCellValue(sheetName + " 2");
+			}
+			wb.write(out);
+			return out.toByteArray();
+		}
+	}
+
+	private final CProject<?> callerProject = mock(CProject.class);
+	private final EntityManager entityManager = mock(EntityManager.class);
+	private final List<String> finished = Collections.synchronizedList(new ArrayList<>());
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final CProject<?> workerProject = mock(CProject.class);
+
+	@BeforeEach
+	void setUp() {
+		when(callerProject.getId()).thenReturn(7L);
+		when(callerProject.getName()).thenReturn("Demo");
+		when(entityManager.find(any(), eq(7L))).thenAnswer(invocation -> workerProject);
+		when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+	}
+
+	private CExcelImportService service(final IEntityImportHandler<?>... handlers) {
+		return new CExcelImportService(new CImportHandlerRegistry(List.of(handlers)), entityManager, transactionManager,
+				mock(ISessionService.class), 4);
+	}
+
+	@Test
+	void importExcelParallel_commitsEverySheetInOrderWithTheWorkersOwnProject() throws Exception {
+		final CRecordingHandler<Status> status = new CRecordingHandler<>(Status.class, false);
+		final CRecordingHandler<Owner> owner = new CRecordingHandler<>(Owner.class, false);
+		final CRecordingHandler<Task> task = new CRecordingHandler<>(Task.class, false);
+		final CImportResult result = service(status, owner, task)
+				.importExcelParallel(new ByteArrayInputStream(buildWorkbook("Status", "Owner", "Task")), new CImportOptions(), callerProject);
+		assertEquals(List.of("Status", "Owner", "Task"), result.getSheetResults().stream().map(sheet -> sheet.getSheetName()).toList());
+		assertEquals(6, result.getTotalSuccess());
+		verify(transactionManager, times(3)).commit(any());
+		// Task reads statuses and owners, so none of its rows may run before both sheets are done.
+		assertTrue(finished.indexOf("Task") > finished.lastIndexOf("Status"));
+		assertTrue(finished.indexOf("Task") > finished.lastIndexOf("Owner"));
+		for (final CProject<?> project : task.projects) {
+			assertSame(workerProject, project);
+		}
+	}
+
+	@Test
+	void importExcelParallel_failedSheetSkipsDependentsAndRethrows() throws Exception {
+		final CRecordingHandler<Status> status = new CRecordingHandler<>(Status.class, false);
+		final CRecordingHandler<Owner> owner = new CRecordingHandler<>(Owner.class, true);
+		final CRecordingHandler<Task> task = new CRecordingHandler<>(Task.class, false);
+		final CExcelImportService service = service(status, owner, task);
+		final byte[] workbook = buildWorkbook("Status", "Owner", "Task");
+		assertThrows(IllegalStateException.class,
+				() -> service.importExcelParallel(new ByteArrayInputStream(workbook), new CImportOptions(), callerProject));
+		assertEquals(2, status.projects.size());
+		assertTrue(task.projects.isEmpty());
+		verify(transactionManager, times(1)).commit(any());
+		verify(transactionManager, times(1)).rollback(any());
+	}
+}
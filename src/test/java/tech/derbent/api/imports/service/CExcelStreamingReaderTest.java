@@ -0,0 +1,100 @@
+package tech.derbent.api.imports.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+class CExcelStreamingReaderTest {
+
+	private static byte[] buildWorkbook() throws Exception {
+		try (Workbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+			final var sheet = wb.createSheet("Activity");
+			final var header = sheet.createRow(0);
+			header.createCell(0).setCellValue("Name");
+			header.createCell(1).setCellValue("Due Date");
+			header.createCell(2).setCellValue("Points");
+			header.createCell(3).setCellValue("Active");
+			final var dateStyle = wb.createCellStyle();
+			dateStyle.setDataFormat(wb.createDataFormat().getFormat("yyyy-mm-dd"));
+			final var data = sheet.createRow(2);
+			data.createCell(0).setCellValue("First");
+			final var due = data.createCell(1);
+			due.setCellStyle(dateStyle);
+			due.setCellValue(java.sql.Date.valueOf(LocalDate.of(2026, 1, 15)));
+			data.createCell(2).setCellValue(8.0);
+			data.createCell(3).setCellValue(true);
+			wb.createSheet("Ignored").createRow(0).createCell(0).setCellValue("x");
+			wb.write(out);
+			return out.toByteArray();
+		}
+	}
+
+	@Test
+	void read_streamsRowsWithImportCellFormatting() throws Exception {
+		final List<Integer> rowIndexes = new ArrayList<>();
+		final List<Map<Integer, String>> rows = new ArrayList<>();
+		final List<String> endedSheets = new ArrayList<>();
+		CExcelStreamingReader.read(new ByteArrayInputStream(buildWorkbook()), new CExcelStreamingReader.ISheetRowConsumer() {
+
+			@Override
+			public void endSheet(final int sheetIndex, final String sheetName) {
+				endedSheets.add(sheetName);
+			}
+
+			@Override
+			public void row(final int rowIndex, final Map<Integer, String> cells) {
+				rowIndexes.add(rowIndex);
+				rows.add(cells);
+			}
+
+			@Override
+			public boolean startSheet(final int sheetIndex, final String sheetName) {
+				return "Activity".equals(sheetName);
+			}
+		});
+		assertEquals(List.of("Activity"), endedSheets);
+		assertEquals(List.of(0, 2), rowIndexes);
+		assertEquals("Due Date", rows.get(0).get(1));
+		final Map<Integer, String> data = rows.get(1);
+		assertEquals("First", data.get(0));
+		assertEquals("2026-01-15", data.get(1));
+		assertEquals("8", data.get(2));
+		assertEquals("true", data.get(3));
+	}
+
+	@Test
+	void read_skippedSheetIsNotParsed() throws Exception {
+		final List<String> started = new ArrayList<>();
+		final boolean[] rowSeen = {
+				false
+		};
+		CExcelStreamingReader.read(new ByteArrayInputStream(buildWorkbook()), new CExcelStreamingReader.ISheetRowConsumer() {
+
+			@Override
+			public void endSheet(final int sheetIndex, final String sheetName) { /* not expected */ }
+
+			@Override
+			public void row(final int rowIndex, final Map<Integer, String> cells) {
+				rowSeen[0] = true;
+			}
+
+			@Override
+			public boolean startSheet(final int sheetIndex, final String sheetName) {
+				started.add(sheetName);
+				return false;
+			}
+		});
+		assertTrue(started.containsAll(List.of("Activity", "Ignored")));
+		assertFalse(rowSeen[0]);
+	}
+}
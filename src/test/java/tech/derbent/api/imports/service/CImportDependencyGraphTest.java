@@ -0,0 +1,119 @@
+package tech.derbent.api.imports.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import org.junit.jupiter.api.Test;
+import tech.derbent.api.imports.domain.CImportOptions;
+import tech.derbent.api.imports.domain.CImportRowResult;
+import tech.derbent.api.projects.domain.CProject;
+
+class CImportDependencyGraphTest {
+
+	static class Status {}
+
+	static class Owner {}
+
+	static class Task {
+
+		@ManyToOne
+		private Owner owner;
+		@ManyToOne
+		private Status status;
+	}
+
+	static class Note {}
+
+	static class Memo {}
+
+	static class Board {
+
+		@OneToMany
+		private List<Task> tasks;
+	}
+
+	private static final class CStubHandler<T> implements IEntityImportHandler<T> {
+
+		private final boolean complete;
+		private final Class<T> entityClass;
+		private final Set<Class<?>> referenced;
+
+		CStubHandler(final Class<T> entityClass, final Set<Class<?>> referenced) {
+			this(entityClass, referenced, true);
+		}
+
+		CStubHandler(final Class<T> entityClass, final Set<Class<?>> referenced, final boolean complete) {
+			this.entityClass = entityClass;
+			this.referenced = referenced;
+			this.complete = complete;
+		}
+
+		@Override
+		public Map<String, String> getColumnAliases() { return Map.of(); }
+
+		@Override
+		public Class<T> getEntityClass() { return entityClass; }
+
+		@Override
+		public Set<Class<?>> getReferencedEntityClasses() { return referenced; }
+
+		@Override
+		public Set<String> getRequiredColumns() { return Set.of(); }
+
+		@Override
+		public Set<String> getSupportedSheetNames() { return Set.of(entityClass.getSimpleName()); }
+
+		@Override
+		public boolean isReferenceDeclarationComplete() { return complete; }
+
+		@Override
+		public CImportRowResult importRow(final Map<String, String> rowData, final CProject<?> project, final int rowNumber,
+				final CImportOptions options) {
+			return CImportRowResult.skipped(rowNumber);
+		}
+	}
+
+	private static CImportDependencyGraph graph(final List<String> sheets) {
+		final CImportHandlerRegistry registry = new CImportHandlerRegistry(List.of(new CStubHandler<>(Status.class, Set.of()),
+				new CStubHandler<>(Owner.class, Set.of()), new CStubHandler<>(Task.class, Set.of()),
+				new CStubHandler<>(Note.class, Set.of(Task.class)), new CStubHandler<>(Board.class, Set.of()),
+				new CStubHandler<>(Memo.class, Set.of(), false)));
+		return CImportDependencyGraph.build(sheets, registry);
+	}
+
+	@Test
+	void build_independentSheetsHaveNoDependencies() {
+		final CImportDependencyGraph graph = graph(List.of("Status", "Owner", "Unknown", "Task"));
+		assertEquals(3, graph.getNodes().size());
+		assertEquals(Set.of(), graph.getNodes().get(0).dependencies());
+		assertEquals(Set.of(), graph.getNodes().get(1).dependencies());
+		// Task references both earlier sheets through associations; the unknown sheet keeps its workbook index.
+		assertEquals(3, graph.getNodes().get(2).sheetIndex());
+		assertEquals(Set.of(0, 1), graph.getNodes().get(2).dependencies());
+		assertEquals(2, graph.getDepth());
+	}
+
+	@Test
+	void build_declaredReferencesAndCollectionsCreateEdges() {
+		final CImportDependencyGraph graph = graph(List.of("Task", "Note", "Board", "Owner"));
+		assertEquals(Set.of(0), graph.getNodes().get(1).dependencies());
+		// Board reads Task (collection element) and Note writes Task, so Board waits for both.
+		assertEquals(Set.of(0, 1), graph.getNodes().get(2).dependencies());
+		// A later Owner sheet is written after Task read owners: it still waits so Task never sees owners created later.
+		assertEquals(Set.of(0), graph.getNodes().get(3).dependencies());
+		assertEquals(3, graph.getDepth());
+	}
+
+	@Test
+	void build_undeclaredSheetIsABarrier() {
+		final CImportDependencyGraph graph = graph(List.of("Status", "Owner", "Memo", "Note"));
+		// Memo may resolve anything by name: it waits for both earlier sheets, and the unrelated Note sheet waits for Memo.
+		assertEquals(Set.of(0, 1), graph.getNodes().get(2).dependencies());
+		assertEquals(Set.of(2), graph.getNodes().get(3).dependencies());
+		assertEquals(3, graph.getDepth());
+	}
+}
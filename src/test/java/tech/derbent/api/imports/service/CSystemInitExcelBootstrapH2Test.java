@@ -0,0 +1,76 @@
+package tech.derbent.api.imports.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import com.vaadin.flow.server.VaadinSession;
+import tech.derbent.Application;
+import tech.derbent.api.config.CDataInitializer;
+import tech.derbent.api.session.service.CTestVaadinSession;
+import tech.derbent.plm.activities.service.CActivityService;
+import tech.derbent.plm.project.domain.CProject_Derbent;
+import tech.derbent.plm.project.service.CProject_DerbentService;
+
+/** Runs the system-init bootstrap, whose types and data workbooks go through the parallel sheet import, against a real database. */
+@SpringBootTest (webEnvironment = WebEnvironment.RANDOM_PORT, classes = Application.class)
+@TestPropertySource (properties = {
+		"spring.profiles.active=derbent", "server.port=0", "spring.datasource.url=jdbc:h2:mem:bootstrapdb",
+		"spring.datasource.username=sa", "spring.datasource.password=",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop", "derbent.import.parallelism=4"
+})
+@DisplayName ("System-init bootstrap on H2")
+class CSystemInitExcelBootstrapH2Test {
+
+	@Autowired
+	private CActivityService activityService;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private CProject_DerbentService projectService;
+	private VaadinSession vaadinSession;
+
+	private int count(final String table) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+	}
+
+	@Test
+	@DisplayName ("Every sheet level is imported: types, project items and the sheets referring to them")
+	void bootstrap_importsEverySheetLevel() throws Exception {
+		new CDataInitializer().reloadForcedExcel(true);
+		final List<CProject_Derbent> projects = projectService.findAll();
+		assertThat(projects).isNotEmpty();
+		for (final CProject_Derbent project : projects) {
+			assertThat(activityService.listByProject(project)).as(project.getName()).isNotEmpty();
+		}
+		assertThat(count("cactivitytype")).isPositive();
+		// Comments and parent relations wait for the items they refer to.
+		assertThat(count("ccomment")).isPositive();
+		assertThat(count("cagile_parent_relation")).isPositive();
+	}
+
+	@BeforeEach
+	void setUp() {
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken("bootstrap-h2", "n/a", List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+		vaadinSession = CTestVaadinSession.bind();
+	}
+
+	@AfterEach
+	void tearDown() {
+		CTestVaadinSession.release(vaadinSession);
+		SecurityContextHolder.clearContext();
+	}
+}
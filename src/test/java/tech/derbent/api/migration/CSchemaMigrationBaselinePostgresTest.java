@@ -0,0 +1,16 @@
+package tech.derbent.api.migration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.test.context.TestPropertySource;
+
+/** {@link CSchemaMigrationBaselineTest} on PostgreSQL. {@code DERBENT_TEST_POSTGRES_EMPTY_URL} names a database that is empty on the first run,
+ * e.g. {@code jdbc:postgresql://localhost:5432/derbent_baseline}; later runs cover the already migrated path. */
+@EnabledIfEnvironmentVariable (named = "DERBENT_TEST_POSTGRES_EMPTY_URL", matches = ".+")
+@TestPropertySource (properties = {
+		"spring.datasource.url=${DERBENT_TEST_POSTGRES_EMPTY_URL}", "spring.datasource.username=${DERBENT_TEST_POSTGRES_USER:postgres}",
+		"spring.datasource.password=${DERBENT_TEST_POSTGRES_PASSWORD:}", "spring.datasource.driver-class-name=org.postgresql.Driver",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@DisplayName ("Schema baseline and migrations match the entity mappings on PostgreSQL")
+class CSchemaMigrationBaselinePostgresTest extends CSchemaMigrationBaselineTest {}
@@ -0,0 +1,74 @@
+package tech.derbent.api.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Locale;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import jakarta.persistence.EntityManagerFactory;
+import tech.derbent.Application;
+
+/** An empty database built from the committed schema baseline and the later migrations only, checked against the Hibernate mappings.
+ * <p>
+ * Hibernate never creates or updates anything here: the startup validates the schema, so an entity change without a migration stops the
+ * context. Runs on H2; {@link CSchemaMigrationBaselinePostgresTest} repeats it on an empty PostgreSQL database.
+ * </p>
+ */
+@SpringBootTest (webEnvironment = WebEnvironment.RANDOM_PORT, classes = Application.class)
+@TestPropertySource (properties = {
+		"spring.profiles.active=derbent", "server.port=0", "spring.datasource.url=jdbc:h2:mem:baselinedb;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa", "spring.datasource.password=", "spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect", "spring.jpa.hibernate.ddl-auto=none",
+		"derbent.schema.migration.enabled=true", "derbent.schema.migration.hibernate-action=validate"
+})
+@DisplayName ("Schema baseline and migrations match the entity mappings")
+class CSchemaMigrationBaselineTest {
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private CSchemaMigrationService migrationService;
+
+	@Test
+	@DisplayName ("The baseline includes the migrations up to its version, the later ones ran, nothing is pending")
+	void historyStartsWithTheBaseline() {
+		assertThat(migrationService.migrate()).isZero();
+		final ISchemaMigration baseline = migrationService.loadBaseline(vendor());
+		assertThat(baseline).as("schema baseline of " + vendor()).isNotNull();
+		assertThat(jdbcTemplate.queryForObject("SELECT checksum FROM derbent_schema_history WHERE version = '0'", String.class))
+				.isEqualTo(baseline.getChecksum());
+		for (final ISchemaMigration migration : migrationService.loadMigrations(vendor())) {
+			final List<String> types = jdbcTemplate.queryForList("SELECT type FROM derbent_schema_history WHERE version = ?", String.class,
+					migration.getVersion());
+			final boolean included = CSchemaMigrationService.compareVersions(migration.getVersion(), baseline.getVersion()) <= 0;
+			assertThat(types).as("V" + migration.getVersion()).hasSize(1).allMatch(type -> included == CSchemaMigrationService.TYPE_BASELINE
+					.equals(type));
+		}
+	}
+
+	@Test
+	@DisplayName ("Hibernate only validated the schema")
+	void hibernateDidNotChangeTheSchema() {
+		assertThat(entityManagerFactory.getProperties()).containsEntry("hibernate.hbm2ddl.auto", "validate");
+	}
+
+	@Test
+	@DisplayName ("Tables and columns match the Hibernate mappings")
+	void schemaMatchesMappings() {
+		// Throws SchemaManagementException naming the first missing table or column, or a column of the wrong type.
+		entityManagerFactory.unwrap(SessionFactory.class).getSchemaManager().validateMappedObjects();
+	}
+
+	private String vendor() {
+		return jdbcTemplate.execute((Connection connection) -> connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT));
+	}
+}
@@ -0,0 +1,15 @@
+package tech.derbent.api.migration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.test.context.TestPropertySource;
+
+/** {@link CSchemaMigrationMappingTest} on PostgreSQL, e.g. {@code DERBENT_TEST_POSTGRES_URL=jdbc:postgresql://localhost:5432/derbent_migration}. */
+@EnabledIfEnvironmentVariable (named = "DERBENT_TEST_POSTGRES_URL", matches = ".+")
+@TestPropertySource (properties = {
+		"spring.datasource.url=${DERBENT_TEST_POSTGRES_URL}", "spring.datasource.username=${DERBENT_TEST_POSTGRES_USER:postgres}",
+		"spring.datasource.password=${DERBENT_TEST_POSTGRES_PASSWORD:}", "spring.datasource.driver-class-name=org.postgresql.Driver",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@DisplayName ("Migrated schema matches the entity mappings on PostgreSQL")
+class CSchemaMigrationMappingPostgresTest extends CSchemaMigrationMappingTest {}
@@ -0,0 +1,108 @@
+package tech.derbent.api.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import jakarta.persistence.EntityManagerFactory;
+import tech.derbent.Application;
+
+/** The migrated schema, checked against the Hibernate mappings.
+ * <p>
+ * The database starts as a schema from before migrations ({@link CLegacySchemaInitializer}), so the startup runs every migration against old
+ * tables and then the one-time Hibernate update. Runs on H2. {@link CSchemaMigrationMappingPostgresTest} repeats it on PostgreSQL when
+ * {@code DERBENT_TEST_POSTGRES_URL} is set; a database kept between runs then also covers the path of an already migrated schema.
+ * </p>
+ */
+@SpringBootTest (webEnvironment = WebEnvironment.RANDOM_PORT, classes = Application.class)
+@TestPropertySource (properties = {
+		"spring.profiles.active=derbent", "server.port=0", "spring.datasource.url=jdbc:h2:mem:migrationdb;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa", "spring.datasource.password=", "spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect", "spring.jpa.hibernate.ddl-auto=none",
+		"derbent.schema.migration.enabled=true", "derbent.schema.migration.hibernate-action=validate"
+})
+@ContextConfiguration (initializers = CSchemaMigrationMappingTest.CLegacySchemaInitializer.class)
+@DisplayName ("Migrated schema matches the entity mappings")
+class CSchemaMigrationMappingTest {
+
+	/** Creates tables the way versions before migrations left them, before the application connects; an empty database only. */
+	static class CLegacySchemaInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+		@Override
+		public void initialize(final ConfigurableApplicationContext context) {
+			final Environment environment = context.getEnvironment();
+			try (Connection connection = DriverManager.getConnection(environment.getRequiredProperty("spring.datasource.url"),
+					environment.getProperty("spring.datasource.username"), environment.getProperty("spring.datasource.password"));
+					ResultSet tables = connection.getMetaData().getTables(connection.getCatalog(), connection.getSchema(), "%", new String[] {
+							"TABLE"
+					})) {
+				if (tables.next()) {
+					return;
+				}
+				try (Statement statement = connection.createStatement()) {
+					// Imports before content hashes (V2), and an agile child table from before CAgileEntity, with its own active column (V1).
+					statement.execute("CREATE TABLE cdataimport (id BIGINT NOT NULL PRIMARY KEY, file_name VARCHAR(255))");
+					statement.execute("CREATE TABLE cepic (id BIGINT NOT NULL PRIMARY KEY, active BOOLEAN NOT NULL)");
+					// Startup fingerprints as the store created them before they became an entity (V3).
+					statement.execute("CREATE TABLE derbent_startup_fingerprint (fingerprint_key VARCHAR(255) NOT NULL PRIMARY KEY, "
+							+ "fingerprint VARCHAR(64) NOT NULL, recorded_at TIMESTAMP NOT NULL)");
+				}
+			} catch (final SQLException e) {
+				throw new IllegalStateException("Cannot create the legacy schema: " + e.getMessage(), e);
+			}
+		}
+	}
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private CSchemaMigrationService migrationService;
+
+	@Test
+	@DisplayName ("Every known migration is recorded and nothing is pending")
+	void historyIsComplete() {
+		assertThat(migrationService.migrate()).isZero();
+		final Integer recorded = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM derbent_schema_history WHERE version <> '0'", Integer.class);
+		assertThat(recorded).isEqualTo(migrationService.loadMigrations(vendor()).size());
+		final Integer baselined = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM derbent_schema_history WHERE type = ?", Integer.class,
+				CSchemaMigrationService.TYPE_BASELINE);
+		assertThat(baselined).as("only the version 0 row of a legacy schema is a baseline, every migration ran").isOne();
+	}
+
+	@Test
+	@DisplayName ("Migrations changed the legacy tables")
+	void legacyTablesWereMigrated() {
+		final Integer contentHashColumns = jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM information_schema.columns WHERE LOWER(table_name) = 'cdataimport' AND LOWER(column_name) = 'content_sha256'",
+				Integer.class);
+		assertThat(contentHashColumns).isOne();
+	}
+
+	@Test
+	@DisplayName ("Tables and columns match the Hibernate mappings")
+	void schemaMatchesMappings() {
+		// Throws SchemaManagementException naming the first missing table or column, or a column of the wrong type.
+		entityManagerFactory.unwrap(SessionFactory.class).getSchemaManager().validateMappedObjects();
+	}
+
+	private String vendor() {
+		return jdbcTemplate.execute((Connection connection) -> connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT));
+	}
+}
@@ -0,0 +1,114 @@
+package tech.derbent.api.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import tech.derbent.api.migration.CSchemaMigrationService.ESchemaState;
+
+class CSchemaMigrationServiceTest {
+
+	private static final String HISTORY_TABLE = "test_schema_history";
+
+	private static Map<String, Object> customize(final CSchemaMigrationService service) {
+		final Map<String, Object> properties = new HashMap<>();
+		properties.put("hibernate.hbm2ddl.auto", "update");
+		service.customize(properties);
+		return properties;
+	}
+
+	private JdbcTemplate jdbcTemplate;
+
+	private CSchemaMigrationService newService(final String ddlAuto) {
+		return newService(ddlAuto, "");
+	}
+
+	private CSchemaMigrationService newService(final String ddlAuto, final String baselineLocation) {
+		return new CSchemaMigrationService(jdbcTemplate, Clock.systemUTC(), new StaticListableBeanFactory().getBeanProvider(ISchemaMigration.class),
+				"classpath*:db/migration-test", baselineLocation, HISTORY_TABLE, "validate", true, ddlAuto);
+	}
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+	}
+
+	@Test
+	void compareVersions_shouldCompareNumerically() {
+		assertThat(CSchemaMigrationService.compareVersions("1.10", "1.9")).isPositive();
+		assertThat(CSchemaMigrationService.compareVersions("2", "2.0")).isZero();
+		assertThat(CSchemaMigrationService.compareVersions("1", "1.0.1")).isNegative();
+	}
+
+	@Test
+	void migrate_shouldLetHibernateCreateAnEmptyDatabaseAndRecordTheBaseline() {
+		final CSchemaMigrationService service = newService("none");
+		service.migrateOnStartup();
+		assertThat(service.getState()).isEqualTo(ESchemaState.EMPTY);
+		assertThat(customize(service)).containsEntry("hibernate.hbm2ddl.auto", "create-only");
+		service.afterSingletonsInstantiated();
+		assertThat(jdbcTemplate.queryForList("SELECT version FROM " + HISTORY_TABLE + " WHERE type = 'BASELINE'",
+				String.class)).containsExactlyInAnyOrder("0", "1", "1.9", "1.10", "2");
+		// The migrations are part of the model, so none of them runs.
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.tables WHERE table_name = 'GADGET'", Integer.class))
+				.isZero();
+	}
+
+	@Test
+	void migrate_shouldApplyTheBaselineAndTheLaterMigrationsToAnEmptyDatabase() {
+		final CSchemaMigrationService service = newService("none", "classpath*:db/baseline-test");
+		service.migrateOnStartup();
+		assertThat(service.getState()).isEqualTo(ESchemaState.MIGRATED);
+		assertThat(customize(service)).containsEntry("hibernate.hbm2ddl.auto", "validate");
+		service.afterSingletonsInstantiated();
+		assertThat(jdbcTemplate.queryForList("SELECT version FROM " + HISTORY_TABLE + " WHERE type = 'BASELINE'",
+				String.class)).containsExactlyInAnyOrder("0", "1", "1.9");
+		assertThat(jdbcTemplate.queryForList("SELECT version FROM " + HISTORY_TABLE + " WHERE type = 'SQL'", String.class))
+				.containsExactlyInAnyOrder("1.10", "2");
+		jdbcTemplate.update("INSERT INTO gadget (id, name, color) VALUES (1, 'probe', 'red')");
+		assertThat(jdbcTemplate.queryForObject("SELECT weight FROM gadget", Integer.class)).isZero();
+	}
+
+	@Test
+	void migrate_shouldApplyPendingMigrationsOnceAndThenOnlyReadTheHistory() {
+		jdbcTemplate.execute("CREATE TABLE legacy_table (id BIGINT PRIMARY KEY)");
+		final CSchemaMigrationService first = newService("none");
+		first.migrateOnStartup();
+		assertThat(first.getState()).isEqualTo(ESchemaState.LEGACY);
+		assertThat(customize(first)).containsEntry("hibernate.hbm2ddl.auto", "update");
+		first.afterSingletonsInstantiated();
+		assertThat(jdbcTemplate.queryForList("SELECT type FROM " + HISTORY_TABLE + " ORDER BY installed_on", String.class)).contains("SQL",
+				"BASELINE");
+		jdbcTemplate.update("INSERT INTO gadget (id, name, color) VALUES (1, 'probe', 'red')");
+		assertThat(jdbcTemplate.queryForObject("SELECT weight FROM gadget", Integer.class)).isZero();
+		final CSchemaMigrationService second = newService("none");
+		assertThat(second.migrate()).isZero();
+		assertThat(second.getState()).isEqualTo(ESchemaState.MIGRATED);
+		assertThat(customize(second)).containsEntry("hibernate.hbm2ddl.auto", "validate");
+	}
+
+	@Test
+	void migrate_shouldStopWhenAnAppliedMigrationChanged() {
+		jdbcTemplate.execute("CREATE TABLE legacy_table (id BIGINT PRIMARY KEY)");
+		newService("none").migrateOnStartup();
+		jdbcTemplate.update("UPDATE " + HISTORY_TABLE + " SET checksum = 'edited' WHERE version = '1.9'");
+		assertThatThrownBy(() -> newService("none").migrate()).isInstanceOf(IllegalStateException.class).hasMessageContaining("V1.9");
+	}
+
+	@Test
+	void migrate_shouldStayOutOfTheWayWhenDdlAutoRecreatesTheSchema() {
+		final CSchemaMigrationService service = newService("create-drop");
+		service.migrateOnStartup();
+		service.afterSingletonsInstantiated();
+		assertThat(customize(service)).containsEntry("hibernate.hbm2ddl.auto", "update");
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.tables WHERE table_name = 'TEST_SCHEMA_HISTORY'",
+				Integer.class)).isZero();
+	}
+}
@@ -0,0 +1,19 @@
+package tech.derbent.api.perf;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** SQL budget of one test method, enforced by {@link CQueryBudgetExtension} over the test method body (not its setup). */
+@Retention (RetentionPolicy.RUNTIME)
+@Target (ElementType.METHOD)
+public @interface AQueryBudget {
+
+	/** Upper bound for how often one SQL string may run. An N+1 loop repeats the same statement once per row, so this catches it even when the
+	 * total is still under {@link #maxStatements()}. */
+	int maxSameStatement() default 5;
+
+	/** Upper bound for the number of SQL statements. */
+	int maxStatements();
+}
@@ -0,0 +1,71 @@
+package tech.derbent.api.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CPerfInvocationTrackerTest {
+
+	private static final String SELECT_STATUS = "select s1_0.id from cprojectitemstatus s1_0 where s1_0.id=?";
+
+	@AfterEach
+	void tearDown() {
+		CPerfInvocationTracker.clear();
+	}
+
+	@Test
+	void assertQueryBudget_shouldFailOnRepeatedStatement() {
+		assertThatThrownBy(() -> CQueryBudgetExtension.assertQueryBudget("n+1", 100, 5, () -> {
+			for (int i = 0; i < 6; i++) {
+				CPerfInvocationTracker.recordStatement(SELECT_STATUS);
+			}
+			return null;
+		})).isInstanceOf(AssertionError.class).hasMessageContaining("6 times");
+	}
+
+	@Test
+	void record_shouldBeIgnoredWithoutContext() {
+		CPerfInvocationTracker.recordStatement(SELECT_STATUS);
+		CPerfInvocationTracker.recordEntityLoad();
+		CPerfInvocationTracker.recordJdbcTime(1_000L);
+		assertThat(CPerfInvocationTracker.isActive()).isFalse();
+		assertThat(CPerfInvocationTracker.finishReport()).isNull();
+	}
+
+	@Test
+	void track_shouldCountStatementsEntitiesAndJdbcTime() {
+		final CPerfInvocationTracker.CReport report = CPerfInvocationTracker.track("board", () -> {
+			CPerfInvocationTracker.recordStatement("select a1_0.id from cactivity a1_0 where a1_0.project_id=?");
+			for (int i = 0; i < 3; i++) {
+				CPerfInvocationTracker.recordStatement(SELECT_STATUS);
+				CPerfInvocationTracker.recordEntityLoad();
+			}
+			CPerfInvocationTracker.recordJdbcTime(2_000_000L);
+			return null;
+		});
+		assertThat(report.getStatementCount()).isEqualTo(4);
+		assertThat(report.getEntitiesLoaded()).isEqualTo(3);
+		assertThat(report.getJdbcNs()).isEqualTo(2_000_000L);
+		assertThat(report.getRepeatedStatementsSorted(5)).singleElement().satisfies(entry -> {
+			assertThat(entry.getKey()).isEqualTo(SELECT_STATUS);
+			assertThat(entry.getValue()).isEqualTo(3);
+		});
+	}
+
+	@Test
+	void track_shouldSuspendAndRestoreEnclosingContext() {
+		CPerfInvocationTracker.start("outer", "request");
+		CPerfInvocationTracker.recordStatement(SELECT_STATUS);
+		final CPerfInvocationTracker.CReport inner = CPerfInvocationTracker.track("inner", () -> {
+			CPerfInvocationTracker.recordStatement(SELECT_STATUS);
+			CPerfInvocationTracker.recordStatement(SELECT_STATUS);
+			return null;
+		});
+		assertThat(inner.getStatementCount()).isEqualTo(2);
+		final CPerfInvocationTracker.CReport outer = CPerfInvocationTracker.finishReport();
+		assertThat(outer).isNotNull();
+		assertThat(outer.getRequestLabel()).isEqualTo("request");
+		assertThat(outer.getStatementCount()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,128 @@
+package tech.derbent.api.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import tech.derbent.api.perf.CPerfLatencyRegistry.CPerfMetric;
+import tech.derbent.api.perf.CPerfLatencyRegistry.EPerfMetricKind;
+import tech.derbent.api.perf.CPerfLatencyRegistry.RPerfSample;
+
+class CPerfLatencyRegistryTest {
+
+	private static CPerfMetric metric(final EPerfMetricKind kind, final String name) {
+		return CPerfLatencyRegistry.getMetrics().stream().filter(m -> m.getKind() == kind && m.getName().equals(name)).findFirst().orElseThrow();
+	}
+
+	@AfterEach
+	void tearDown() {
+		CPerfLatencyRegistry.reset();
+		CPerfLatencyRegistry.setEnabled(true);
+	}
+
+	@Test
+	void bucketOf_shouldStayWithinThreePercentOfTheValue() {
+		for (long value = 0; value < 50_000_000L; value = value < 200 ? value + 1 : value * 101 / 100) {
+			final int bucket = CPerfHistogram.bucketOf(value);
+			assertThat(CPerfHistogram.upperBoundOf(bucket)).isGreaterThanOrEqualTo(value);
+			assertThat(CPerfHistogram.upperBoundOf(bucket) - value).isLessThanOrEqualTo(value / 32);
+			assertThat(bucket == 0 || CPerfHistogram.upperBoundOf(bucket - 1) < value).isTrue();
+		}
+		assertThat(CPerfHistogram.bucketOf(Long.MAX_VALUE)).isEqualTo(CPerfHistogram.BUCKET_COUNT - 1);
+	}
+
+	@Test
+	void exporter_shouldWriteCumulativeBucketsAndEscapeLabels() {
+		CPerfLatencyRegistry.recordNanos(EPerfMetricKind.REPOSITORY, "IActivityRepository.\"find\"", 800_000L);
+		CPerfLatencyRegistry.recordNanos(EPerfMetricKind.REPOSITORY, "IActivityRepository.\"find\"", 40_000_000L);
+		final String text = CPerfPrometheusExporter.write(CPerfLatencyRegistry.getMetrics());
+		final String labels = "kind=\"repository\",name=\"IActivityRepository.\\\"find\\\"\"";
+		assertThat(text).contains("# TYPE derbent_latency_seconds histogram")
+				.contains("derbent_latency_seconds_bucket{" + labels + ",le=\"0.001\"} 1\n")
+				.contains("derbent_latency_seconds_bucket{" + labels + ",le=\"0.025\"} 1\n")
+				.contains("derbent_latency_seconds_bucket{" + labels + ",le=\"0.05\"} 2\n")
+				.contains("derbent_latency_seconds_bucket{" + labels + ",le=\"+Inf\"} 2\n")
+				.contains("derbent_latency_seconds_count{" + labels + "} 2\n")
+				.contains("derbent_latency_seconds_sum{" + labels + "} 0.0408\n")
+				.contains("derbent_latency_max_seconds{" + labels + "} 0.04\n");
+	}
+
+	@Test
+	void percentile_shouldReportBucketBoundCappedAtMax() {
+		final CPerfHistogram histogram = new CPerfHistogram();
+		assertThat(histogram.percentileMicros(0.99)).isZero();
+		for (int i = 1; i <= 1000; i++) {
+			histogram.record(i * 100L);
+		}
+		assertThat(histogram.getCount()).isEqualTo(1000);
+		assertThat(histogram.getMaxMicros()).isEqualTo(100_000);
+		assertThat(histogram.percentileMicros(0.50)).isBetween(50_000L, 51_600L);
+		assertThat(histogram.percentileMicros(0.95)).isBetween(95_000L, 98_000L);
+		assertThat(histogram.percentileMicros(1.0)).isEqualTo(100_000);
+		// 1000 and 10000 share a bucket reaching past the limit, so they count above it, like every value of such a bucket
+		assertThat(histogram.countsAtOrBelow(1_000, 10_000, 1_000_000)).containsExactly(9, 99, 1000);
+	}
+
+	@Test
+	void record_shouldFoldNamesBeyondLimitIntoOverflow() {
+		for (int i = 0; i < CPerfLatencyRegistry.MAX_METRICS + 10; i++) {
+			CPerfLatencyRegistry.recordNanos(EPerfMetricKind.ROUTE, "GET /api/items/" + i, 1_000L);
+		}
+		assertThat(CPerfLatencyRegistry.getMetrics()).hasSize(CPerfLatencyRegistry.MAX_METRICS + 1);
+		assertThat(metric(EPerfMetricKind.ROUTE, CPerfLatencyRegistry.OVERFLOW_NAME).getHistogram().getCount()).isEqualTo(10);
+	}
+
+	@Test
+	void record_shouldKeepSlowestCallsWithTheirCaller() {
+		final String previous = CPerfLatencyRegistry.enterCaller("POST /VAADIN?v-r=uidl");
+		try {
+			for (int i = 1; i <= 20; i++) {
+				CPerfLatencyRegistry.recordNanos(EPerfMetricKind.HANDLER, "CPageServiceActivity.on_save_clicked", i * 1_000_000L);
+			}
+		} finally {
+			CPerfLatencyRegistry.exitCaller(previous);
+		}
+		CPerfLatencyRegistry.recordNanos(EPerfMetricKind.HANDLER, "CPageServiceActivity.on_save_clicked", 30_000_000L);
+		final List<RPerfSample> slowest = metric(EPerfMetricKind.HANDLER, "CPageServiceActivity.on_save_clicked").getSlowest();
+		assertThat(slowest).extracting(RPerfSample::micros).containsExactly(30_000L, 20_000L, 19_000L, 18_000L, 17_000L);
+		assertThat(slowest).extracting(RPerfSample::caller).containsExactly("-", "POST /VAADIN?v-r=uidl", "POST /VAADIN?v-r=uidl",
+				"POST /VAADIN?v-r=uidl", "POST /VAADIN?v-r=uidl");
+	}
+
+	@Test
+	void record_shouldCountEveryCallUnderContention() throws InterruptedException {
+		final String[] names = { "GET page", "view CActivitiesView", "POST /api/attachments", "vaadin heartbeat" };
+		final int threads = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+		final CountDownLatch start = new CountDownLatch(1);
+		final List<Thread> workers = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			final Thread worker = new Thread(() -> {
+				try {
+					start.await();
+					for (int i = 0; i < 100_000; i++) {
+						CPerfLatencyRegistry.recordNanos(EPerfMetricKind.ROUTE, names[i & 3], 50_000L + (i & 1023) * 1_000L);
+					}
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			worker.start();
+			workers.add(worker);
+		}
+		start.countDown();
+		for (final Thread worker : workers) {
+			worker.join(TimeUnit.SECONDS.toMillis(60));
+		}
+		assertThat(metric(EPerfMetricKind.ROUTE, "GET page").getHistogram().getCount()).isEqualTo(threads * 25_000L);
+	}
+
+	@Test
+	void setEnabled_false_shouldRecordNothing() {
+		CPerfLatencyRegistry.setEnabled(false);
+		CPerfLatencyRegistry.recordNanos(EPerfMetricKind.CALIMERO, "system.hello", 1_000_000L);
+		assertThat(CPerfLatencyRegistry.getMetrics()).isEmpty();
+	}
+}
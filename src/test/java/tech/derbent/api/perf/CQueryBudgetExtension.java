@@ -0,0 +1,67 @@
+package tech.derbent.api.perf;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** JUnit extension that measures the SQL work of each test method through {@link CPerfInvocationTracker} and enforces {@link AQueryBudget}.
+ * <p>
+ * Only the test method body is measured; {@code @BeforeEach} setup (sample data, lookups) runs before the context is opened. Tests that need a
+ * narrower scope call {@link #assertQueryBudget(String, int, int, Supplier)} around the code under test.
+ * </p>
+ */
+public class CQueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CQueryBudgetExtension.class);
+	private static final int MAX_REPEATED_TO_REPORT = 5;
+
+	/** Runs work in its own tracking context and fails when it exceeds the budget.
+	 * @return report of the work, for further assertions */
+	public static CPerfInvocationTracker.CReport assertQueryBudget(final String label, final int maxStatements, final int maxSameStatement,
+			final Supplier<?> work) {
+		final CPerfInvocationTracker.CReport report = CPerfInvocationTracker.track(label, work);
+		assertWithinBudget(report, maxStatements, maxSameStatement);
+		return report;
+	}
+
+	private static void assertWithinBudget(final CPerfInvocationTracker.CReport report, final int maxStatements, final int maxSameStatement) {
+		LOGGER.info("Query budget {}: {} (budget {} statements)", report.getRequestLabel(), report, maxStatements);
+		final List<Map.Entry<String, Integer>> repeated = report.getRepeatedStatementsSorted(MAX_REPEATED_TO_REPORT);
+		assertTrue(report.getStatementCount() <= maxStatements,
+				() -> "%s issued %d statements, budget is %d; most repeated: %s".formatted(report.getRequestLabel(), report.getStatementCount(),
+						maxStatements, repeated));
+		final int mostRepeated = repeated.isEmpty() ? 1 : repeated.get(0).getValue();
+		assertTrue(mostRepeated <= maxSameStatement, () -> "%s ran one statement %d times (N+1?), limit is %d: %s"
+				.formatted(report.getRequestLabel(), mostRepeated, maxSameStatement, repeated.get(0).getKey()));
+	}
+
+	@Override
+	public void afterTestExecution(final ExtensionContext context) {
+		final CPerfInvocationTracker.CReport report = CPerfInvocationTracker.finishReport();
+		CPerfInvocationTracker.clear();
+		if (report == null) {
+			return;
+		}
+		final AQueryBudget budget = context.getRequiredTestMethod().getAnnotation(AQueryBudget.class);
+		if (budget == null) {
+			LOGGER.info("SQL of {}: {}", report.getRequestLabel(), report);
+			return;
+		}
+		// A failing test body already reported its own error; the budget is only meaningful for a completed run.
+		if (context.getExecutionException().isEmpty()) {
+			assertWithinBudget(report, budget.maxStatements(), budget.maxSameStatement());
+		}
+	}
+
+	@Override
+	public void beforeTestExecution(final ExtensionContext context) {
+		CPerfInvocationTracker.start(UUID.randomUUID().toString().substring(0, 8), context.getDisplayName());
+	}
+}
@@ -0,0 +1,122 @@
+package tech.derbent.api.perf;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import com.vaadin.flow.server.VaadinSession;
+import tech.derbent.Application;
+import tech.derbent.api.config.CDataInitializer;
+import tech.derbent.api.session.service.CSessionContextSnapshot;
+import tech.derbent.api.session.service.CTestVaadinSession;
+import tech.derbent.api.session.service.ISessionService;
+import tech.derbent.plm.activities.domain.CActivity;
+import tech.derbent.plm.activities.service.CActivityService;
+import tech.derbent.plm.gnnt.gnntviewentity.domain.CGnntViewEntity;
+import tech.derbent.plm.gnnt.gnntviewentity.service.CGnntTimelineService;
+import tech.derbent.plm.project.domain.CProject_Derbent;
+import tech.derbent.plm.project.service.CProject_DerbentService;
+import tech.derbent.plm.sprints.service.CSprintItemService;
+
+/** SQL budgets of the main views, measured on the largest sample project.
+ * <p>
+ * The budgets are per view, not per item: a view that starts issuing one statement per row (a new eager association, a lookup inside a loop)
+ * fails through {@link AQueryBudget#maxSameStatement()} long before a large project would make it visible.
+ * </p>
+ */
+@SpringBootTest (webEnvironment = WebEnvironment.RANDOM_PORT, classes = Application.class)
+@TestPropertySource (properties = {
+		"spring.profiles.active=derbent", "server.port=0", "spring.datasource.url=jdbc:h2:mem:budgetdb",
+		"spring.datasource.username=sa", "spring.datasource.password=",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@ExtendWith (CQueryBudgetExtension.class)
+@DisplayName ("Query budgets of the main views")
+class CViewQueryBudgetTest {
+
+	/** Fewer items than this could hide an N+1 under the repeat limit. */
+	private static final int MIN_ITEMS = 10;
+	/** Company context left by the first test's seeding; later tests run in a fresh Vaadin session without one. */
+	private static CSessionContextSnapshot sampleContext;
+	private CActivity activity;
+	@Autowired
+	private CActivityService activityService;
+	@Autowired
+	private CGnntTimelineService gnntTimelineService;
+	private CProject_Derbent project;
+	@Autowired
+	private CProject_DerbentService projectService;
+	private CSessionContextSnapshot previousSession;
+	@Autowired
+	private ISessionService sessionService;
+	@Autowired
+	private CSprintItemService sprintItemService;
+	private VaadinSession vaadinSession;
+
+	@Test
+	@AQueryBudget (maxStatements = 25)
+	@DisplayName ("Activity detail form")
+	void activityDetailForm() {
+		activityService.getById(activity.getId()).orElseThrow();
+	}
+
+	@Test
+	@AQueryBudget (maxStatements = 30)
+	@DisplayName ("Activity grid page view")
+	void activityGridPageView() {
+		activityService.listByProjectForPageView(project, PageRequest.of(0, 50), "");
+	}
+
+	@Test
+	@AQueryBudget (maxStatements = 60)
+	@DisplayName ("Gantt timeline hierarchy")
+	void ganttTimeline() {
+		gnntTimelineService.buildHierarchy(new CGnntViewEntity("Query budget", project), null);
+	}
+
+	@Test
+	@AQueryBudget (maxStatements = 40)
+	@DisplayName ("Kanban status board")
+	void kanbanStatusBoard() {
+		sprintItemService.findAllByProjectWithItems(project);
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken("query-budget", "n/a", List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+		vaadinSession = CTestVaadinSession.bind();
+		if (sampleContext == null) {
+			new CDataInitializer().reloadForcedExcel(false);
+			sampleContext = CSessionContextSnapshot.capture(sessionService);
+		}
+		previousSession = CSessionContextSnapshot.bind(sampleContext);
+		final List<CProject_Derbent> projects = projectService.findAll();
+		project = projects.stream().max(Comparator.comparingInt(candidate -> activityService.listByProject(candidate).size())).orElseThrow();
+		CSessionContextSnapshot.bind(new CSessionContextSnapshot(project.getCompany(), project, sampleContext.user()));
+		final List<CActivity> activities = activityService.listByProject(project);
+		assumeTrue(activities.size() >= MIN_ITEMS, "Sample project has too few activities to expose an N+1: " + activities.size());
+		activity = activities.get(0);
+	}
+
+	@AfterEach
+	void tearDown() {
+		CSessionContextSnapshot.bind(previousSession);
+		CTestVaadinSession.release(vaadinSession);
+		SecurityContextHolder.clearContext();
+	}
+}
@@ -0,0 +1,67 @@
+package tech.derbent.api.screens.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CSparseOrderTest {
+
+	private static final class COrdered implements IOrderedEntity {
+
+		private final Long id;
+		private Integer itemOrder;
+
+		private COrdered(final long id, final Integer itemOrder) {
+			this.id = id;
+			this.itemOrder = itemOrder;
+		}
+
+		@Override
+		public Long getId() { return id; }
+
+		@Override
+		public Integer getItemOrder() { return itemOrder; }
+
+		@Override
+		public void setItemOrder(final Integer itemOrder) { this.itemOrder = itemOrder; }
+	}
+
+	private final CSparseOrder order = new CSparseOrder(10, 999);
+
+	@Test
+	void after_shouldAppendByGapAndSplitTheRestNearTheMaximum() {
+		assertThat(order.after(null)).isEqualTo(10);
+		assertThat(order.after(40)).isEqualTo(50);
+		assertThat(order.after(995)).isEqualTo(997);
+		assertThat(order.after(999)).isNull();
+	}
+
+	@Test
+	void between_shouldReturnNullOnceTheGapIsExhausted() {
+		assertThat(order.between(null, 10)).isEqualTo(5);
+		assertThat(order.between(10, 20)).isEqualTo(15);
+		assertThat(order.between(10, null)).isEqualTo(20);
+		assertThat(order.between(10, 11)).isNull();
+		assertThat(order.between(null, 1)).isNull();
+	}
+
+	@Test
+	void rebalance_shouldReturnOnlyChangedItems() {
+		final COrdered first = new COrdered(1, 10);
+		final COrdered second = new COrdered(2, 11);
+		final COrdered third = new COrdered(3, 30);
+		final List<COrdered> changed = order.rebalance(List.of(first, second, third));
+		assertThat(changed).containsExactly(second);
+		assertThat(List.of(first.getItemOrder(), second.getItemOrder(), third.getItemOrder())).containsExactly(10, 20, 30);
+	}
+
+	@Test
+	void rebalance_shouldNarrowTheSpacingToFitTheMaximum() {
+		final CSparseOrder narrow = new CSparseOrder(10, 20);
+		final COrdered first = new COrdered(1, 10);
+		final COrdered second = new COrdered(2, 11);
+		final COrdered third = new COrdered(3, 12);
+		narrow.rebalance(List.of(first, second, third));
+		assertThat(List.of(first.getItemOrder(), second.getItemOrder(), third.getItemOrder())).containsExactly(5, 10, 15);
+	}
+}
@@ -0,0 +1,127 @@
+package tech.derbent.api.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.vaadin.flow.server.VaadinSession;
+import tech.derbent.Application;
+import tech.derbent.api.config.CDataInitializer;
+import tech.derbent.api.search.service.CSearchIndexService.CSearchHit;
+import tech.derbent.api.session.service.CSessionContextSnapshot;
+import tech.derbent.api.session.service.CTestVaadinSession;
+import tech.derbent.api.session.service.ISessionService;
+import tech.derbent.plm.activities.domain.CActivity;
+import tech.derbent.plm.activities.service.CActivityService;
+import tech.derbent.plm.comments.domain.CComment;
+import tech.derbent.plm.comments.service.CCommentService;
+import tech.derbent.plm.project.domain.CProject_Derbent;
+import tech.derbent.plm.project.service.CProject_DerbentService;
+
+/** Runs the index writes and the ranked JPQL search against a real database: every word, prefix of the last word, project scope and comment
+ * edits. */
+@SpringBootTest (webEnvironment = WebEnvironment.RANDOM_PORT, classes = Application.class)
+@TestPropertySource (properties = {
+		"spring.profiles.active=derbent", "server.port=0", "spring.datasource.url=jdbc:h2:mem:searchindexdb",
+		"spring.datasource.username=sa", "spring.datasource.password=",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName ("Search index on H2")
+class CSearchIndexServiceH2Test {
+
+	/** Company context left by the first test's seeding; later tests run in a fresh Vaadin session without one. */
+	private static CSessionContextSnapshot sampleContext;
+	@Autowired
+	private CActivityService activityService;
+	@Autowired
+	private CCommentService commentService;
+	private CSessionContextSnapshot previousSession;
+	private CProject_Derbent project;
+	@Autowired
+	private CProject_DerbentService projectService;
+	@Autowired
+	private CSearchIndexService searchIndexService;
+	@Autowired
+	private ISessionService sessionService;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	private VaadinSession vaadinSession;
+
+	@Test
+	@DisplayName ("An edited comment is found by its new text only once the owner is re-indexed")
+	void commentEdit_reindexesOwner() {
+		final CActivity activity = activityService.listByProject(project).get(1);
+		final TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		final Long commentId = transaction.execute(status -> {
+			final CActivity managed = activityService.getById(activity.getId()).orElseThrow();
+			final CComment comment = commentService.save(new CComment("Tungsten filament drift", sessionService.getActiveUser().orElseThrow()));
+			managed.getComments().add(comment);
+			activityService.save(managed);
+			return comment.getId();
+		});
+		assertThat(hits("tungsten fil", null)).contains(activity.getId());
+		transaction.executeWithoutResult(status -> {
+			final CComment comment = commentService.getById(commentId).orElseThrow();
+			comment.setCommentText("Molybdenum filament drift");
+			commentService.save(comment);
+			// What the comment list does after an edit: the owner's save is not involved.
+			searchIndexService.index(activityService.getById(activity.getId()).orElseThrow());
+		});
+		assertThat(hits("molybdenum", null)).contains(activity.getId());
+		assertThat(hits("tungsten", null)).doesNotContain(activity.getId());
+	}
+
+	private List<Long> hits(final String text, final Long projectId) {
+		return searchIndexService.search(text, projectId, PageRequest.of(0, 20)).getContent().stream()
+				.filter(hit -> CActivity.class.getSimpleName().equals(hit.entityType())).map(CSearchHit::entityId).toList();
+	}
+
+	@Test
+	@DisplayName ("Every word must match, the last one as a prefix, within the requested project")
+	void search_matchesEveryWordAndPrefixOfLast() {
+		final CActivity activity = activityService.listByProject(project).get(0);
+		activity.setDescription("Zirconia kiln calibration");
+		activityService.save(activity);
+		assertThat(hits("zirconia kiln calib", null)).containsExactly(activity.getId());
+		assertThat(hits("ZIRCONIA", project.getId())).containsExactly(activity.getId());
+		// Only the last word is a prefix.
+		assertThat(hits("calib zirconia", null)).isEmpty();
+		assertThat(hits("zirconia unrelatedword", null)).isEmpty();
+		assertThat(hits("zirconia", -1L)).isEmpty();
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken("search-h2", "n/a", List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+		vaadinSession = CTestVaadinSession.bind();
+		if (sampleContext == null) {
+			new CDataInitializer().reloadForcedExcel(true);
+			sampleContext = CSessionContextSnapshot.capture(sessionService);
+		}
+		previousSession = CSessionContextSnapshot.bind(sampleContext);
+		project = projectService.findAll().get(0);
+		CSessionContextSnapshot.bind(new CSessionContextSnapshot(project.getCompany(), project, sampleContext.user()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		CSessionContextSnapshot.bind(previousSession);
+		CTestVaadinSession.release(vaadinSession);
+		SecurityContextHolder.clearContext();
+	}
+}
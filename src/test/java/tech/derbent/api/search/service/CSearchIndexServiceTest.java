@@ -0,0 +1,93 @@
+package tech.derbent.api.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import jakarta.persistence.EntityManager;
+import tech.derbent.api.search.domain.CSearchDocument;
+import tech.derbent.api.search.domain.CSearchTerm;
+import tech.derbent.api.session.service.ISessionService;
+
+class CSearchIndexServiceTest {
+
+	private static CSearchDocument storedDocument() {
+		final CSearchDocument document = mock(CSearchDocument.class);
+		when(document.getId()).thenReturn(5L);
+		return document;
+	}
+
+	private ISearchDocumentRepository documentRepository;
+	private CSearchIndexService service;
+	private ISearchTermRepository termRepository;
+
+	@BeforeEach
+	void setUp() {
+		documentRepository = mock(ISearchDocumentRepository.class);
+		termRepository = mock(ISearchTermRepository.class);
+		when(documentRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		service = new CSearchIndexService(documentRepository, termRepository, mock(EntityManager.class), mock(ISessionService.class),
+				Clock.systemUTC());
+	}
+
+	@Test
+	void tokenize_shouldNormalizeCaseAccentsAndSeparators() {
+		assertThat(CSearchTokenizer.tokenize("Crème-brûlée of the CAN_bus v2.1, x"))
+				.containsExactly("creme", "brulee", "can", "bus", "v2");
+		assertThat(CSearchTokenizer.tokenize(null)).isEmpty();
+	}
+
+	@Test
+	void addTerms_shouldAddEachFieldWeightOnce() {
+		final Map<String, Integer> terms = new LinkedHashMap<>();
+		CSearchTokenizer.addTerms(terms, "login login page", CSearchIndexService.WEIGHT_NAME);
+		CSearchTokenizer.addTerms(terms, "login fails", CSearchIndexService.WEIGHT_COMMENT);
+		assertThat(terms).containsExactly(Map.entry("login", 9), Map.entry("page", 8), Map.entry("fails", 1));
+	}
+
+	@Test
+	void index_shouldWriteOnlyChangedTerms() {
+		final CSearchDocument document = storedDocument();
+		when(documentRepository.findByEntity("CIssue", 2L)).thenReturn(Optional.of(document));
+		final CSearchTerm unchanged = new CSearchTerm(document, "login", 8);
+		final CSearchTerm reweighted = new CSearchTerm(document, "page", 2);
+		final CSearchTerm removed = new CSearchTerm(document, "timeout", 1);
+		when(termRepository.findByDocumentId(5L)).thenReturn(List.of(unchanged, reweighted, removed));
+		final Map<String, Integer> terms = new LinkedHashMap<>();
+		terms.put("login", 8);
+		terms.put("page", 10);
+		terms.put("crash", 1);
+		service.index("CIssue", 2L, 7L, 3L, "Login page", terms);
+		verify(termRepository).deleteAll(List.of(removed));
+		@SuppressWarnings ("unchecked")
+		final ArgumentCaptor<List<CSearchTerm>> saved = ArgumentCaptor.forClass(List.class);
+		verify(termRepository).saveAll(saved.capture());
+		assertThat(saved.getValue()).extracting(CSearchTerm::getTerm).containsExactly("page", "crash");
+		assertThat(reweighted.getWeight()).isEqualTo(10);
+	}
+
+	@Test
+	void index_shouldNotReadTermsOfNewDocument() {
+		when(documentRepository.findByEntity("CRisk", 4L)).thenReturn(Optional.empty());
+		service.index("CRisk", 4L, 7L, null, "Supplier risk", Map.of("supplier", 8));
+		verify(termRepository, never()).findByDocumentId(any());
+	}
+
+	@Test
+	void buildMatchFilter_shouldRequireEveryWordAndScopeToCompany() {
+		final String filter = CSearchIndexService.buildMatchFilter(2, true);
+		assertThat(filter).startsWith("t.document.companyId = :companyId AND t.document.projectId = :projectId")
+				.contains("t.term IN :terms", "WHERE t0.term = :term0", "WHERE t1.term = :term1", "WHERE tp.term LIKE :prefix");
+		assertThat(CSearchIndexService.buildMatchFilter(0, false)).doesNotContain(":terms", ":projectId");
+	}
+}
@@ -0,0 +1,42 @@
+package tech.derbent.api.session.service;
+
+import static org.mockito.Mockito.mock;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinSession;
+
+/** Locked Vaadin session bound to the calling thread, for Spring tests that run UI-session code such as the sample data reset.
+ * <p>
+ * RULE: bind and release on the same thread; worker threads use {@link CSessionContextSnapshot} instead.
+ * </p>
+ */
+public final class CTestVaadinSession {
+
+	/** Binds a new locked session to the current thread.
+	 * @return the session, to pass to {@link #release(VaadinSession)} */
+	public static VaadinSession bind() {
+		final ReentrantLock lock = new ReentrantLock();
+		final VaadinSession session = new VaadinSession(mock(VaadinService.class)) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public Lock getLockInstance() { return lock; }
+		};
+		VaadinSession.setCurrent(session);
+		lock.lock();
+		return session;
+	}
+
+	public static void release(final VaadinSession session) {
+		if (session != null) {
+			session.getLockInstance().unlock();
+		}
+		VaadinSession.setCurrent(null);
+	}
+
+	private CTestVaadinSession() {
+		// Utility class
+	}
+}
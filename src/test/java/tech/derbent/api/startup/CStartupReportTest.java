@@ -0,0 +1,35 @@
+package tech.derbent.api.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.derbent.api.startup.CStartupReport.EOutcome;
+import tech.derbent.api.startup.CStartupReport.RStartupPhase;
+
+class CStartupReportTest {
+
+	@BeforeEach
+	void setUp() {
+		CStartupReport.reset();
+	}
+
+	@Test
+	void markFirstRequest_shouldKeepTheFirstMark() throws Exception {
+		assertThat(CStartupReport.isFirstRequestSeen()).isFalse();
+		CStartupReport.markFirstRequest();
+		final long first = CStartupReport.getTimeToFirstRequestMs();
+		Thread.sleep(5);
+		CStartupReport.markFirstRequest();
+		assertThat(CStartupReport.getTimeToFirstRequestMs()).isEqualTo(first);
+	}
+
+	@Test
+	void summary_shouldListPhasesSlowestFirstAndMarkFailures() {
+		CStartupReport.recordPhase("entity-registry", System.nanoTime(), EOutcome.OK);
+		CStartupReport.recordPhase("schema-migration", System.nanoTime() - 2_000_000_000L, EOutcome.FAILED);
+		CStartupReport.markReady();
+		assertThat(CStartupReport.getPhases()).extracting(RStartupPhase::name).containsExactly("schema-migration", "entity-registry");
+		assertThat(CStartupReport.summary())
+				.matches("ready=\\d+ms firstRequest=- phases= schema-migration=20\\d\\dms\\(FAILED\\) entity-registry=\\d+ms");
+	}
+}
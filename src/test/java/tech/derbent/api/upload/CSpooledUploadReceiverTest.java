@@ -0,0 +1,63 @@
+package tech.derbent.api.upload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import org.junit.jupiter.api.Test;
+
+class CSpooledUploadReceiverTest {
+
+	private static final int CHUNK_SIZE = 64 * 1024;
+	private static final long LARGE_UPLOAD_BYTES = 16L * 1024 * 1024;
+
+	@Test
+	void receiveUpload_shouldSpoolLargeUploadsToDisk() throws Exception {
+		final CSpooledUploadReceiver receiver = new CSpooledUploadReceiver(LARGE_UPLOAD_BYTES);
+		final MessageDigest expected = MessageDigest.getInstance("SHA-256");
+		final byte[] chunk = new byte[CHUNK_SIZE];
+		try (OutputStream out = receiver.receiveUpload("large.bin", "application/octet-stream")) {
+			for (long written = 0; written < LARGE_UPLOAD_BYTES; written += CHUNK_SIZE) {
+				chunk[0] = (byte) (written / CHUNK_SIZE);
+				out.write(chunk);
+				expected.update(chunk);
+			}
+		}
+		final CSpooledFile file = receiver.getFile();
+		assertThat(file.getSize()).isEqualTo(LARGE_UPLOAD_BYTES);
+		assertThat(file.getSha256()).isEqualTo(HexFormat.of().formatHex(expected.digest()));
+		assertThat(Files.size(file.getPath())).isEqualTo(LARGE_UPLOAD_BYTES);
+		// The channel reaches the end of the content without reading what lies before it.
+		final ByteBuffer last = ByteBuffer.allocate(1);
+		try (FileChannel channel = file.openChannel()) {
+			channel.read(last, LARGE_UPLOAD_BYTES - CHUNK_SIZE);
+		}
+		assertThat(last.get(0)).isEqualTo((byte) (LARGE_UPLOAD_BYTES / CHUNK_SIZE - 1));
+		receiver.clear();
+		assertThat(Files.exists(file.getPath())).isFalse();
+	}
+
+	@Test
+	void receiveUpload_shouldHashSmallUploadsAndEnforceTheLimit() throws Exception {
+		final CSpooledUploadReceiver receiver = new CSpooledUploadReceiver(8);
+		try (OutputStream out = receiver.receiveUpload("a.txt", "text/plain")) {
+			out.write("abc".getBytes(StandardCharsets.UTF_8));
+		}
+		final CSpooledFile file = receiver.getFile();
+		assertThat(file.getSize()).isEqualTo(3);
+		assertThat(file.getSha256()).isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+		assertThat(file.readString(StandardCharsets.UTF_8)).isEqualTo("abc");
+		// A new upload replaces the previous file, and an oversized one fails and leaves nothing behind.
+		final OutputStream out = receiver.receiveUpload("b.txt", "text/plain");
+		assertThat(Files.exists(file.getPath())).isFalse();
+		assertThatThrownBy(() -> out.write(new byte[9])).isInstanceOf(IOException.class).hasMessageContaining("exceeds");
+		out.close();
+		assertThat(receiver.getFile()).isNull();
+	}
+}
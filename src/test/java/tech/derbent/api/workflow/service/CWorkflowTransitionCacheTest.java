@@ -0,0 +1,146 @@
+package tech.derbent.api.workflow.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tech.derbent.api.companies.domain.CCompany;
+import tech.derbent.api.entityOfCompany.domain.CProjectItemStatus;
+import tech.derbent.api.entityOfCompany.service.CProjectItemStatusService;
+import tech.derbent.api.entityOfCompany.service.IProjectItemStatusRepository;
+import tech.derbent.api.session.service.ISessionService;
+import tech.derbent.api.workflow.domain.CWorkflowEntity;
+import tech.derbent.api.workflow.domain.CWorkflowStatusRelation;
+import tech.derbent.api.workflow.domain.CWorkflowTransitionTable;
+
+class CWorkflowTransitionCacheTest {
+
+	private static CProjectItemStatus status(final long id, final CCompany company) {
+		final CProjectItemStatus status = mock(CProjectItemStatus.class);
+		when(status.getId()).thenReturn(id);
+		when(status.getCompany()).thenReturn(company);
+		when(status.getSortOrder()).thenReturn((int) id);
+		return status;
+	}
+
+	private static CWorkflowEntity workflow(final long id, final CCompany company) {
+		final CWorkflowEntity workflow = mock(CWorkflowEntity.class);
+		when(workflow.getId()).thenReturn(id);
+		when(workflow.getCompany()).thenReturn(company);
+		return workflow;
+	}
+
+	private CWorkflowTransitionCache cache;
+	private final CCompany company = mock(CCompany.class);
+	private CWorkflowStatusRelation relation;
+	private final IWorkflowStatusRelationRepository relationRepository = mock(IWorkflowStatusRelationRepository.class);
+	private CWorkflowEntity workflowA;
+	private CWorkflowEntity workflowB;
+
+	private boolean isCached(final CWorkflowEntity workflow) {
+		final CWorkflowTransitionTable first = cache.get(workflow);
+		return first == cache.get(workflow) && first.getWorkflowId().equals(workflow.getId());
+	}
+
+	@BeforeEach
+	void setUp() {
+		when(company.getId()).thenReturn(1L);
+		workflowA = workflow(10L, company);
+		workflowB = workflow(20L, company);
+		final CProjectItemStatus open = status(1L, company);
+		final CProjectItemStatus done = status(2L, company);
+		relation = mock(CWorkflowStatusRelation.class);
+		when(relation.getId()).thenReturn(100L);
+		when(relation.getWorkflowEntity()).thenReturn(workflowA);
+		when(relation.getFromStatus()).thenReturn(open);
+		when(relation.getToStatus()).thenReturn(done);
+		when(relationRepository.findByWorkflowId(10L)).thenReturn(List.of(relation));
+		when(relationRepository.findByWorkflowId(20L)).thenReturn(List.of());
+		cache = new CWorkflowTransitionCache(relationRepository);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void get_compilesEachWorkflowOnce() {
+		final CWorkflowTransitionTable table = cache.get(workflowA);
+		assertSame(table, cache.get(workflowA));
+		assertTrue(table.isTransitionDefined(1L, 2L));
+		assertFalse(table.isTransitionDefined(2L, 1L));
+		assertTrue(cache.get(workflowB).isEmpty());
+		verify(relationRepository, times(1)).findByWorkflowId(10L);
+		verify(relationRepository, times(1)).findByWorkflowId(20L);
+	}
+
+	@Test
+	void invalidate_dropsOnlyThatWorkflow() {
+		final CWorkflowTransitionTable tableA = cache.get(workflowA);
+		final CWorkflowTransitionTable tableB = cache.get(workflowB);
+		cache.invalidate(10L);
+		assertNotSame(tableA, cache.get(workflowA));
+		assertSame(tableB, cache.get(workflowB));
+		verify(relationRepository, times(2)).findByWorkflowId(10L);
+	}
+
+	@Test
+	void invalidate_insideTransactionDropsAgainAfterCompletion() {
+		TransactionSynchronizationManager.initSynchronization();
+		cache.get(workflowA);
+		cache.invalidate(10L);
+		// A reader that runs before the commit re-caches the relations it can see.
+		final CWorkflowTransitionTable beforeCommit = cache.get(workflowA);
+		final List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		assertEquals(1, synchronizations.size());
+		synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+		assertNotSame(beforeCommit, cache.get(workflowA));
+	}
+
+	@Test
+	void invalidateAll_dropsEveryWorkflow() {
+		final CWorkflowTransitionTable tableA = cache.get(workflowA);
+		final CWorkflowTransitionTable tableB = cache.get(workflowB);
+		cache.invalidateAll();
+		assertNotSame(tableA, cache.get(workflowA));
+		assertNotSame(tableB, cache.get(workflowB));
+		assertTrue(isCached(workflowA));
+	}
+
+	@Test
+	void owningServices_invalidateOnSaveAndDelete() {
+		final CWorkflowTransitionCache serviceCache = mock(CWorkflowTransitionCache.class);
+		final IWorkflowStatusRelationRepository repository = mock(IWorkflowStatusRelationRepository.class);
+		when(repository.save(relation)).thenReturn(relation);
+		final CWorkflowStatusRelationService relationService =
+				new CWorkflowStatusRelationService(repository, Clock.systemUTC(), mock(ISessionService.class), serviceCache);
+		relationService.save(relation);
+		verify(serviceCache).invalidate(10L);
+		relationService.delete(100L);
+		verify(serviceCache).invalidateAll();
+		final CWorkflowEntityService workflowService =
+				new CWorkflowEntityService(mock(IWorkflowEntityRepository.class), Clock.systemUTC(), mock(ISessionService.class), serviceCache);
+		workflowService.delete(20L);
+		verify(serviceCache).invalidate(20L);
+		final CProjectItemStatusService statusService = new CProjectItemStatusService(mock(IProjectItemStatusRepository.class), Clock.systemUTC(),
+				mock(ISessionService.class), serviceCache);
+		statusService.delete(2L);
+		verify(serviceCache, times(2)).invalidateAll();
+	}
+}
@@ -0,0 +1,91 @@
+package tech.derbent.bab.policybase.actionmask.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.HexFormat;
+import org.junit.jupiter.api.Test;
+import tech.derbent.api.exceptions.CValidationException;
+import tech.derbent.bab.policybase.node.can.CCanProtocolVariableIndex;
+
+class CCanPayloadTemplateTest {
+
+	private static final CCanProtocolVariableIndex DBC = CCanProtocolVariableIndex.of("""
+			{
+			  "EngineSpeed": {"Name":"EngineSpeed","RecordType":"UWORD","StartBit":8,"BitLength":16,"BYTE_ORDER":"MSB_LAST","Signed":false,
+			                  "Factor":0.25,"Offset":0},
+			  "Coolant": {"Name":"Coolant","RecordType":"UBYTE","StartBit":39,"BitLength":8,"BYTE_ORDER":"MSB_FIRST","Signed":false,
+			              "Factor":1,"Offset":-40},
+			  "Torque": {"Name":"Torque","DataType":"SWORD"}
+			}
+			""");
+
+	private static String hex(final byte[] frame, final int length) {
+		return HexFormat.of().withUpperCase().formatHex(frame, 0, length);
+	}
+
+	@Test
+	void compile_shouldTakePlacementFromProtocolSignals() {
+		final CCanPayloadTemplate template = CCanPayloadTemplate.compile("""
+				{"fixed":"AA 00 00 00 00 00 00 55","signals":[{"variable":"EngineSpeed"},{"variable":"coolant"},
+				 {"variable":"Torque","startBit":51,"bitLength":12,"byteOrder":"MSB_FIRST"}]}
+				""", DBC);
+		assertThat(template.getLength()).isEqualTo(8);
+		assertThat(template.getVariableNames()).containsExactly("EngineSpeed", "coolant", "Torque");
+		final byte[] frame = new byte[8];
+		// 1000 rpm at 0.25 rpm/bit = 0x0FA0 Intel; 90 degC with offset -40 = 0x82; -2 in 12 bits Motorola from bit 51 = 0xFFE.
+		assertThat(template.render(new double[] {
+				1000, 90, -2
+		}, frame)).isEqualTo(8);
+		assertThat(hex(frame, 8)).isEqualTo("AAA00F0082000FFE");
+		// Out of range values are clamped, and nothing of the previous frame survives.
+		template.render(new double[] {
+				1e9, -100, 0
+		}, frame);
+		assertThat(hex(frame, 8)).isEqualTo("AAFFFF0000000000");
+	}
+
+	@Test
+	void compile_shouldPackFlatTemplatesInOrder() {
+		final CCanPayloadTemplate template = CCanPayloadTemplate.compile("""
+				{"mode":"0x01","torque":"${Torque}","flags":255,"value":"${value}"}
+				""", DBC);
+		// SWORD is 16 bit, the unknown "value" gets the default 32 bit slot.
+		assertThat(template.getLength()).isEqualTo(8);
+		assertThat(template.indexOf("VALUE")).isEqualTo(1);
+		final byte[] frame = new byte[8];
+		template.render(new double[] {
+				-1, 0x01020304
+		}, frame);
+		assertThat(hex(frame, 8)).isEqualTo("01FFFFFF04030201");
+		assertThat(CCanPayloadTemplate.compile("{}", DBC).getLength()).isZero();
+	}
+
+	@Test
+	void compile_shouldRejectInvalidTemplates() {
+		assertThatThrownBy(() -> CCanPayloadTemplate.compile("{\"value\":", DBC)).isInstanceOf(CValidationException.class);
+		assertThatThrownBy(() -> CCanPayloadTemplate.compile("{\"value\":\"text\"}", DBC)).isInstanceOf(CValidationException.class);
+		assertThatThrownBy(() -> CCanPayloadTemplate.compile("{\"value\":\"${}\"}", DBC)).isInstanceOf(CValidationException.class);
+		assertThatThrownBy(() -> CCanPayloadTemplate.compile("""
+				{"signals":[{"variable":"EngineSpeed"},{"variable":"Torque","startBit":16}]}
+				""", DBC)).hasMessageContaining("overlaps");
+		assertThatThrownBy(() -> CCanPayloadTemplate.compile("""
+				{"length":2,"signals":[{"variable":"EngineSpeed"}]}
+				""", DBC)).hasMessageContaining("declares a length");
+		assertThatThrownBy(() -> CCanPayloadTemplate.compile("""
+				{"signals":[{"variable":"Torque","startBit":510,"bitLength":8}]}
+				""", DBC)).isInstanceOf(CValidationException.class);
+	}
+
+	@Test
+	void rosTemplate_shouldRenderNumbersAndRejectPlaceholderKeys() {
+		final CRosMessageTemplate template = CRosMessageTemplate.compile("{\"data\":\"${value}\",\"label\":\"speed ${Speed} rpm\"}");
+		assertThat(template.getVariableNames()).containsExactly("value", "Speed");
+		final StringBuilder message = new StringBuilder();
+		assertThat(template.render(new double[] {
+				42, 1.5
+		}, message).toString()).isEqualTo("{\"data\":42,\"label\":\"speed 1.5 rpm\"}");
+		assertThatThrownBy(() -> CRosMessageTemplate.compile("{\"${key}\":1}")).isInstanceOf(CValidationException.class);
+		assertThatThrownBy(() -> CRosMessageTemplate.compile("{\"data\":\"${value\"}")).isInstanceOf(CValidationException.class);
+		assertThatThrownBy(() -> CRosMessageTemplate.compile("[1]")).isInstanceOf(CValidationException.class);
+	}
+}
@@ -1,5 +1,8 @@
 package tech.derbent.bab.policybase.node.can;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Clock;
 import org.junit.jupiter.api.Test;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -11,6 +14,16 @@ class CBabCanNodeServiceSummaryTest {
 	private final CBabCanNodeService service =
 			new CBabCanNodeService(mock(ICanNodeRepository.class), Clock.systemUTC(), mock(ISessionService.class));
 
+	@Test
+	void parseProtocolFileAsJson_shouldMatchTheInMemoryParseForDbcAndA2L() throws Exception {
+		for (final Path sample : new Path[] {
+				Path.of("others/protocolsamples/j1939_Variables.dbc"), Path.of("others/protocolsamples/ECU_Variables_Min.a2l")
+		}) {
+			final String content = Files.readString(sample, StandardCharsets.UTF_8);
+			assertThat(service.parseProtocolFileAsJson(sample)).as(sample.toString()).isEqualTo(service.parseProtocolContentAsJson(content));
+		}
+	}
+
 	@Test
 	void createNoFileSummaryJson_shouldReturnNoFileStatus() {
 		final CBabCanNodeService.CProtocolFileSummary summary = service.parseSummaryJson(service.createNoFileSummaryJson());
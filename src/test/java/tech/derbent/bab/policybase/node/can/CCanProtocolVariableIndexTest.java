@@ -0,0 +1,71 @@
+package tech.derbent.bab.policybase.node.can;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import tech.derbent.bab.policybase.node.can.CCanProtocolVariableIndex.RProtocolVariable;
+
+class CCanProtocolVariableIndexTest {
+
+	private static final String PROTOCOL_JSON = """
+			{
+			  "engine_speed": {"Name":"EngineSpeed","FieldType":"MEASUREMENT","RecordType":"UWORD"},
+			  "Throttle": {"FieldType":"MEASUREMENT","DataType":"FLOAT32_IEEE"},
+			  "Gear": {"Name":"Gear","RecordType":"UBYTE"},
+			  "_all_a2l_variables":"EngineSpeed,Throttle,Gear"
+			}
+			""";
+
+	private static final class CTestCanNode extends CBabCanNode {
+
+		private CTestCanNode() {
+			super();
+		}
+	}
+
+	@Test
+	void of_shouldIndexVariablesByNameKeyAndDataType() {
+		final CCanProtocolVariableIndex index = CCanProtocolVariableIndex.of(PROTOCOL_JSON);
+		assertThat(index.find("ENGINESPEED")).map(RProtocolVariable::dataType).contains("int");
+		assertThat(index.find("engine_speed")).map(RProtocolVariable::name).contains("EngineSpeed");
+		assertThat(index.find("throttle")).map(RProtocolVariable::toOutputStructure).hasValueSatisfying(output -> {
+			assertThat(output.name()).isEqualTo("Throttle");
+			assertThat(output.dataType()).isEqualTo("float");
+		});
+		assertThat(index.findByDataType("UWORD")).extracting(RProtocolVariable::name).containsExactly("EngineSpeed");
+		assertThat(index.findByDataType("char")).extracting(RProtocolVariable::name).containsExactly("Gear");
+		assertThat(index.getVariableNames()).containsExactly("EngineSpeed", "Gear", "Throttle");
+		assertThat(CCanProtocolVariableIndex.of("not json").isEmpty()).isTrue();
+		assertThat(CCanProtocolVariableIndex.of(null)).isSameAs(CCanProtocolVariableIndex.EMPTY);
+	}
+
+	@Test
+	void of_shouldShareOneIndexPerProtocolContent() {
+		final CCanProtocolVariableIndex first = CCanProtocolVariableIndex.of(PROTOCOL_JSON);
+		// Same content in another string instance, as loaded for another node or another session.
+		assertThat(CCanProtocolVariableIndex.of(new String(PROTOCOL_JSON.toCharArray()))).isSameAs(first);
+		assertThat(first.getContentHash()).isEqualTo(CCanProtocolVariableIndex.contentHashOf(PROTOCOL_JSON)).hasSize(64);
+		CCanProtocolVariableIndex.clearCache();
+		assertThat(CCanProtocolVariableIndex.of(PROTOCOL_JSON)).isNotSameAs(first);
+	}
+
+	@Test
+	void getProtocolVariableIndex_shouldFollowProtocolFileChanges() {
+		final CTestCanNode node = new CTestCanNode();
+		assertThat(node.getProtocolVariableIndex().isEmpty()).isTrue();
+		node.setProtocolFileJson(PROTOCOL_JSON);
+		final CCanProtocolVariableIndex index = node.getProtocolVariableIndex();
+		assertThat(index.find("Gear")).isPresent();
+		assertThat(node.getProtocolVariableIndex()).isSameAs(index);
+		// A lazy load writes the field directly, with the same content in a new string instance.
+		ReflectionTestUtils.setField(node, "protocolFileJson", new String(PROTOCOL_JSON.toCharArray()));
+		assertThat(node.getProtocolVariableIndex()).isSameAs(index);
+		ReflectionTestUtils.setField(node, "protocolFileJson", "{}");
+		assertThat(node.getProtocolVariableIndex().isEmpty()).isTrue();
+		node.setProtocolFileJson("""
+				{"Brake": {"Name":"Brake","DataType":"BOOLEAN"}}
+				""");
+		assertThat(node.getProtocolVariableIndex().find("Gear")).isEmpty();
+		assertThat(node.getProtocolVariableIndex().getVariableNames()).containsExactly("Brake");
+	}
+}
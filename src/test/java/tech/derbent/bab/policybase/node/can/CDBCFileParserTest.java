@@ -0,0 +1,140 @@
+package tech.derbent.bab.policybase.node.can;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class CDBCFileParserTest {
+
+	private static final Path SAMPLE_DBC_FILE = Path.of("others/protocolsamples/j1939_Variables.dbc");
+
+	@SuppressWarnings ("unchecked")
+	private static Map<String, Object> asObject(final Object value) {
+		assertThat(value).isInstanceOf(Map.class);
+		return (Map<String, Object>) value;
+	}
+
+	private final CDBCFileParser parser = new CDBCFileParser();
+
+	@Test
+	void decodeJ1939_shouldSplitPriorityPgnAndAddresses() {
+		final CDBCFileParser.CJ1939Id eec1 = CDBCFileParser.CJ1939Id.decode(0x0CF00400L);
+		assertThat(eec1.priority()).isEqualTo(3);
+		assertThat(eec1.pgn()).isEqualTo(61444);
+		assertThat(eec1.sourceAddress()).isZero();
+		assertThat(eec1.destinationAddress()).isEqualTo(-1);
+		// PDU1: the PS byte is the destination address and not part of the PGN
+		final CDBCFileParser.CJ1939Id tc1 = CDBCFileParser.CJ1939Id.decode(0x0C010103L);
+		assertThat(tc1.pgn()).isEqualTo(256);
+		assertThat(tc1.sourceAddress()).isEqualTo(3);
+		assertThat(tc1.destinationAddress()).isEqualTo(1);
+	}
+
+	@Test
+	void parseContent_shouldHandleMultiplexingAndFloatSignals() {
+		final String dbc = """
+				VERSION ""
+
+				BO_ 100 MUX_MSG: 8 ECU
+				 SG_ Selector M : 0|8@1+ (1,0) [0|255] "" TCU
+				 SG_ Speed m1 : 8|16@0- (0.1,-5) [-5|6548.5] "km/h" TCU,SLU
+				 SG_ Ratio m2 : 8|32@1- (1,0) [0|1] "" TCU
+
+				SIG_VALTYPE_ 100 Ratio : 1;
+				""";
+		final Map<String, Object> parsed = parser.parseContent(dbc);
+		final Map<String, Object> selector = asObject(parsed.get("Selector"));
+		assertThat(selector).containsEntry("Multiplexer", true).containsEntry("Address", "0x00000064");
+		assertThat(selector).doesNotContainKey("Pgn");
+		assertThat(asObject(asObject(parsed.get("_DBC_MESSAGES")).get("MUX_MSG"))).containsEntry("Extended", false);
+		final Map<String, Object> speed = asObject(parsed.get("Speed"));
+		assertThat(speed).containsEntry("MultiplexValue", 1L).containsEntry("BYTE_ORDER", "MSB_FIRST").containsEntry("RecordType", "SWORD")
+				.containsEntry("Conversion", "Speed_CM").containsEntry("Receivers", "TCU,SLU").containsEntry("LowerLimit", -5)
+				.containsEntry("UpperLimit", 6548.5);
+		assertThat(asObject(asObject(parsed.get("_COMPUTE_METHODS")).get("Speed_CM"))).containsEntry("Coefficients", "COEFFS_LINEAR 0.1 -5.0");
+		assertThat(asObject(parsed.get("Ratio"))).containsEntry("RecordType", "FLOAT32_IEEE").containsEntry("MultiplexValue", 2L);
+	}
+
+	@Test
+	void parseContent_shouldReportLineOfMalformedSignal() {
+		assertThatThrownBy(() -> parser.parseContent("BO_ 1 M: 8 ECU\n SG_ Broken : 0|8@1+ (1,0 [0|1] \"\" ECU\n"))
+				.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("line 2");
+	}
+
+	@Test
+	void parseFileAndSummarize_shouldProduceA2LCompatibleRecords() throws Exception {
+		assertThat(CDBCFileParser.isDbcContent(Files.readString(SAMPLE_DBC_FILE, CDBCFileParser.DEFAULT_CHARSET))).isTrue();
+		final CDBCFileParser.CDBCParseResult result = parser.parseFileAndSummarize(SAMPLE_DBC_FILE, Set.of(), 0);
+		assertThat(result.messageCount()).isEqualTo(31);
+		assertThat(result.signalCount()).isEqualTo(159);
+		assertThat(result.nextIndex()).isEqualTo(159);
+		final Map<String, Object> parsed = result.jsonObject();
+		final Map<String, Object> fuelConsumption = asObject(parsed.get("EOP_FuCns"));
+		assertThat(fuelConsumption).containsEntry("Source", 2).containsEntry("FieldType", "MEASUREMENT").containsEntry("Name", "EOP_FuCns")
+				.containsEntry("Identifier", "Engine Trip Fuel").containsEntry("Address", "0x18FEE900").containsEntry("Pgn", 65257)
+				.containsEntry("RecordType", "SLONG").containsEntry("Conversion", "EOP_FuCns_CM").containsEntry("Units", "L");
+		final Map<String, Object> fanStatus = asObject(parsed.get("Fan_Status"));
+		assertThat(asObject(fanStatus.get("ValueTable"))).containsEntry("3", "ERROR");
+		final Map<String, Object> airBoost = asObject(parsed.get("EIP_TAirBoost"));
+		assertThat(asObject(airBoost.get("Attributes"))).containsEntry("GenSigStartValue", 40);
+		final Map<String, Object> eec1 = asObject(asObject(parsed.get("_DBC_MESSAGES")).get("EEC1"));
+		assertThat(eec1).containsEntry("Priority", 3).containsEntry("Pgn", 61444).containsEntry("Comment", "Electronic Engine Controller 1");
+		assertThat(asObject(asObject(parsed.get("_all_pgns_by_address")).get("0x03"))).containsEntry("256", "TC1");
+		// Summary lists treat DBC signals like A2L measurements
+		assertThat(String.valueOf(parsed.get("_all_dbc_values")).split(",")).hasSize(159);
+		assertThat(String.valueOf(parsed.get("_all_a2l_measurements"))).contains("EOP_FuCns");
+	}
+
+	@Test
+	void parseContent_shouldNumberSignalsWhoseQualifiedNameIsTaken() {
+		final String dbc = """
+				BO_ 400 FRONT: 8 ECU
+				 SG_ Speed : 0|16@1+ (1,0) [0|100] "" TCU
+				 SG_ REAR_Speed : 16|16@1+ (1,0) [0|200] "" TCU
+				BO_ 401 REAR: 8 ECU
+				 SG_ Speed : 0|16@1+ (1,0) [0|300] "" TCU
+				""";
+		final Map<String, Object> parsed = parser.parseContent(dbc);
+		assertThat(asObject(parsed.get("Speed"))).containsEntry("Message", "FRONT").containsEntry("UpperLimit", 100);
+		assertThat(asObject(parsed.get("REAR_Speed"))).containsEntry("Message", "FRONT").containsEntry("UpperLimit", 200);
+		assertThat(asObject(parsed.get("REAR_Speed_2"))).containsEntry("Message", "REAR").containsEntry("UpperLimit", 300);
+	}
+
+	@Test
+	void parseContent_shouldKeepSignAndWidthOfSignals() {
+		final String dbc = """
+				BO_ 200 WIDTHS: 8 ECU
+				 SG_ Temp : 0|8@1- (1,-40) [-128|127] "C" TCU
+				 SG_ Level : 8|8@1+ (1,0) [0|255] "" TCU
+				 SG_ Torque : 16|12@1- (1,0) [-2048|2047] "Nm" TCU
+				 SG_ Odometer : 0|64@1+ (1,0) [0|0] "m" TCU
+				 SG_ Offset : 0|48@1- (1,0) [0|0] "" TCU
+				""";
+		final Map<String, Object> parsed = parser.parseContent(dbc);
+		assertThat(asObject(parsed.get("Temp"))).containsEntry("RecordType", "SBYTE");
+		assertThat(asObject(parsed.get("Level"))).containsEntry("RecordType", "UBYTE");
+		assertThat(asObject(parsed.get("Torque"))).containsEntry("RecordType", "SWORD");
+		assertThat(asObject(parsed.get("Odometer"))).containsEntry("RecordType", "A_UINT64");
+		assertThat(asObject(parsed.get("Offset"))).containsEntry("RecordType", "A_INT64");
+	}
+
+	@Test
+	void parseContent_shouldKeepConversionOfEquallyNamedSignalsApart() {
+		final String dbc = """
+				BO_ 300 FRONT: 8 ECU
+				 SG_ Speed : 0|16@1+ (0.1,0) [0|6553.5] "km/h" TCU
+				BO_ 301 REAR: 8 ECU
+				 SG_ Speed : 0|16@1+ (0.5,10) [10|32777.5] "km/h" TCU
+				""";
+		final Map<String, Object> parsed = parser.parseContent(dbc);
+		assertThat(asObject(parsed.get("Speed"))).containsEntry("Conversion", "Speed_CM");
+		assertThat(asObject(parsed.get("REAR_Speed"))).containsEntry("Conversion", "REAR_Speed_CM");
+		final Map<String, Object> computeMethods = asObject(parsed.get("_COMPUTE_METHODS"));
+		assertThat(asObject(computeMethods.get("Speed_CM"))).containsEntry("Coefficients", "COEFFS_LINEAR 0.1 0.0");
+		assertThat(asObject(computeMethods.get("REAR_Speed_CM"))).containsEntry("Coefficients", "COEFFS_LINEAR 0.5 10.0");
+	}
+}
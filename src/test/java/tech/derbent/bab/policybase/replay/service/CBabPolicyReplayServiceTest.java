@@ -0,0 +1,118 @@
+package tech.derbent.bab.policybase.replay.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import tech.derbent.bab.policybase.action.domain.CBabPolicyAction;
+import tech.derbent.bab.policybase.filter.domain.CBabPolicyFilterCAN;
+import tech.derbent.bab.policybase.filter.domain.CBabPolicyFilterCSV;
+import tech.derbent.bab.policybase.replay.domain.CCanFrame;
+import tech.derbent.bab.policybase.replay.service.CBabPolicyReplayPipeline.ETraceKind;
+import tech.derbent.bab.policybase.replay.service.CBabPolicyReplayService.RReplayReport;
+import tech.derbent.bab.policybase.rule.domain.CBabPolicyRule;
+
+class CBabPolicyReplayServiceTest {
+
+	private static CBabPolicyAction action(final String name) {
+		final CBabPolicyAction action = mock(CBabPolicyAction.class);
+		when(action.getName()).thenReturn(name);
+		when(action.getActive()).thenReturn(true);
+		return action;
+	}
+
+	private static CBabPolicyFilterCAN canFilter(final String idRegex, final String payloadRegex, final boolean extendedOnly) {
+		final CBabPolicyFilterCAN filter = mock(CBabPolicyFilterCAN.class);
+		when(filter.getActive()).thenReturn(true);
+		when(filter.isEnabledForNodeType("can")).thenReturn(true);
+		when(filter.getCanFrameIdRegularExpression()).thenReturn(idRegex);
+		when(filter.getCanPayloadRegularExpression()).thenReturn(payloadRegex);
+		when(filter.getRequireExtendedFrame()).thenReturn(extendedOnly);
+		return filter;
+	}
+
+	private static CBabPolicyFilterCSV csvFilter(final String lineRegex, final String range) {
+		final CBabPolicyFilterCSV filter = mock(CBabPolicyFilterCSV.class);
+		when(filter.getActive()).thenReturn(true);
+		when(filter.isEnabledForNodeType("file")).thenReturn(true);
+		when(filter.getLineRegularExpression()).thenReturn(lineRegex);
+		when(filter.getColumnSeparator()).thenReturn(";");
+		when(filter.getCaptureColumnRange()).thenReturn(range);
+		return filter;
+	}
+
+	private static ByteArrayInputStream input(final String text) {
+		return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static CBabPolicyRule rule(final long id, final String name, final int priority, final Object filter, final CBabPolicyAction... actions) {
+		final CBabPolicyRule rule = mock(CBabPolicyRule.class);
+		when(rule.getId()).thenReturn(id);
+		when(rule.getName()).thenReturn(name);
+		when(rule.getActive()).thenReturn(true);
+		when(rule.getRulePriority()).thenReturn(priority);
+		when(rule.getExecutionOrder()).thenReturn(0);
+		when(rule.getActions()).thenReturn(Set.of(actions));
+		when(rule.getFilter()).thenAnswer(invocation -> filter);
+		return rule;
+	}
+
+	@Test
+	void replayCanTrace_shouldMatchRulesInPriorityOrderAcrossFormats() throws IOException {
+		final CBabPolicyRule engine = rule(1, "Engine", 10, canFilter("7E[08]", ".*", false), action("forward"));
+		final CBabPolicyRule alarm = rule(2, "Alarm", 90, canFilter(".*", "FF.*", false), action("notify"), action("log"));
+		final CBabPolicyRule extended = rule(3, "Extended", 50, canFilter(".*", ".*", true), action("archive"));
+		final CBabPolicyRule csv = rule(4, "Csv", 99, csvFilter(".*", "1"), action("ignored"));
+		final CBabPolicyReplayPipeline pipeline = CBabPolicyReplayPipeline.compile(List.of(engine, alarm, extended, csv), ETraceKind.CAN);
+		assertThat(pipeline.getRuleCount()).isEqualTo(3);
+		assertThat(pipeline.getRule(0).getRuleName()).isEqualTo("Alarm");
+		final RReplayReport report = CBabPolicyReplayService.replayCanTrace(pipeline, input("""
+				(1700000000.000100) can0 7E0#FF01
+				(1700000000.000200) can0 18DAF110#0102
+				  can0  123   [2]  FF 00
+				not a frame
+				# comment
+				(1700000000.000300) can0 7E8#R
+				"""));
+		assertThat(report.recordsRead()).isEqualTo(4);
+		assertThat(report.malformedRecords()).isEqualTo(1);
+		assertThat(report.recordsMatched()).isEqualTo(4);
+		assertThat(report.ruleStats()).extracting(stats -> stats.matches()).containsExactly(2L, 1L, 2L);
+		assertThat(report.actionsFired()).isEqualTo(2 * 2 + 1 + 2);
+		assertThat(report.sampleMatches().get(0).ruleName()).isEqualTo("Alarm");
+		assertThat(report.sampleMatches().get(0).input()).isEqualTo("7E0#FF01");
+	}
+
+	@Test
+	void replayCsvTrace_shouldCaptureConfiguredColumns() throws IOException {
+		final CBabPolicyRule temperature = rule(1, "Temperature", 50, csvFilter("temp;.*", "2-3"), action("store"));
+		final CBabPolicyFilterCSV noSeparator = csvFilter(".*", "1");
+		when(noSeparator.getColumnSeparator()).thenReturn("");
+		final CBabPolicyRule unusable = rule(2, "No separator", 90, noSeparator, action("store"));
+		final CBabPolicyRule badRegex = rule(3, "Bad regex", 80, csvFilter("temp[", "1"), action("store"));
+		final CBabPolicyReplayPipeline pipeline = CBabPolicyReplayPipeline.compile(List.of(temperature, unusable, badRegex), ETraceKind.CSV);
+		assertThat(pipeline.getRuleCount()).isEqualTo(1);
+		assertThat(pipeline.getSkippedRuleCount()).isEqualTo(2);
+		final RReplayReport report = CBabPolicyReplayService.replayCsvTrace(pipeline, input("temp;21.5;C;sensor-1\npressure;1.2;bar\n\ntemp\n"));
+		assertThat(report.recordsRead()).isEqualTo(3);
+		// "temp" alone neither matches the line regex nor reaches column 2
+		assertThat(report.recordsMatched()).isEqualTo(1);
+		assertThat(report.sampleMatches()).singleElement().satisfies(match -> {
+			assertThat(match.captured()).isEqualTo("21.5;C");
+			assertThat(match.lineNumber()).isEqualTo(1);
+		});
+	}
+
+	@Test
+	void canFrame_shouldUseCandumpIdWidths() {
+		assertThat(new CCanFrame(1, 0, 0x12, false, new byte[] {
+				(byte) 0xab, 1
+		}).toString()).isEqualTo("012#AB01");
+		assertThat(new CCanFrame(1, 0, 0x123, true, new byte[0]).getIdHex()).isEqualTo("00000123");
+	}
+}
@@ -0,0 +1,101 @@
+package tech.derbent.bab.policybase.replay.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import tech.derbent.bab.policybase.replay.domain.CCanFrame;
+import tech.derbent.bab.policybase.replay.service.CCanRuleSetMatcher.EFindingKind;
+import tech.derbent.bab.policybase.replay.service.CCanRuleSetMatcher.RCanRuleSpec;
+import tech.derbent.bab.policybase.replay.service.CCanRuleSetMatcher.RFilterFinding;
+
+class CCanRuleSetMatcherTest {
+
+	/** Per-rule regex evaluation, the behaviour the combined matcher has to reproduce. */
+	private static final class CBaseline {
+
+		private final Matcher[] frameIds;
+		private final Matcher[] payloads;
+		private final List<RCanRuleSpec> specs;
+
+		private CBaseline(final List<RCanRuleSpec> specs) {
+			this.specs = specs;
+			frameIds = specs.stream().map(spec -> matcherOf(spec.frameIdRegularExpression())).toArray(Matcher[]::new);
+			payloads = specs.stream().map(spec -> matcherOf(spec.payloadRegularExpression())).toArray(Matcher[]::new);
+		}
+
+		private int match(final CCanFrame frame, final int[] matched) {
+			int count = 0;
+			for (int rule = 0; rule < specs.size(); rule++) {
+				if (specs.get(rule).requireExtendedFrame() && !frame.isExtended()) {
+					continue;
+				}
+				if (frameIds[rule].reset(frame.getIdHex()).matches() && payloads[rule].reset(frame.getPayloadHex()).matches()) {
+					matched[count++] = rule;
+				}
+			}
+			return count;
+		}
+	}
+
+	private static List<CCanFrame> frames(final Random random, final int count) {
+		final List<CCanFrame> frames = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			final boolean extended = random.nextInt(5) == 0;
+			final byte[] data = new byte[random.nextInt(9)];
+			random.nextBytes(data);
+			frames.add(new CCanFrame(i, 0, extended ? 0x18DAF100 + random.nextInt(512) : random.nextInt(0x800), extended, data));
+		}
+		return frames;
+	}
+
+	private static Matcher matcherOf(final String regularExpression) {
+		return Pattern.compile(regularExpression == null || regularExpression.isBlank() ? ".*" : regularExpression).matcher("");
+	}
+
+	private static List<RCanRuleSpec> specs(final Random random, final int count) {
+		final List<RCanRuleSpec> specs = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			final String idPrefix = "%03X".formatted(random.nextInt(0x800)).substring(0, 2);
+			specs.add(new RCanRuleSpec("R" + i, idPrefix + "[0-7]", i % 3 == 0 ? "FF.*" : ".*", false));
+		}
+		specs.add(new RCanRuleSpec("Diagnostics", "18DAF1..", "", true));
+		specs.add(new RCanRuleSpec("Any", null, null, false));
+		return specs;
+	}
+
+	@Test
+	void compile_shouldReportUnreachableCatchAllDuplicateAndOverlappingFilters() {
+		final CCanRuleSetMatcher matcher = CCanRuleSetMatcher.compile(List.of(new RCanRuleSpec("Engine", "7E.", ".*", false),
+				new RCanRuleSpec("Obd", "7E0|7E8", "02.*", false), new RCanRuleSpec("Typo", "7EG", ".*", false),
+				new RCanRuleSpec("Payload", ".*", "(FF){65}", false), new RCanRuleSpec("Everything", ".*", ".*", false),
+				new RCanRuleSpec("Engine copy", "7E.", null, false), new RCanRuleSpec("Extended", "18DAF1..", ".*", true)));
+		assertThat(matcher.getFindings()).extracting(RFilterFinding::kind, RFilterFinding::ruleName, RFilterFinding::otherRuleName)
+				.containsExactlyInAnyOrder(tuple(EFindingKind.UNREACHABLE, "Typo", null),
+						tuple(EFindingKind.UNREACHABLE, "Payload", null),
+						tuple(EFindingKind.CATCH_ALL, "Everything", null),
+						tuple(EFindingKind.DUPLICATE, "Engine copy", "Engine"),
+						tuple(EFindingKind.OVERLAP, "Engine", "Obd"));
+	}
+
+	@Test
+	void match_shouldAgreeWithPerRuleEvaluation() {
+		final Random random = new Random(42);
+		final List<RCanRuleSpec> specs = specs(random, 60);
+		final CCanRuleSetMatcher matcher = CCanRuleSetMatcher.compile(specs);
+		final CBaseline baseline = new CBaseline(specs);
+		final int[] expected = new int[specs.size()];
+		final int[] actual = new int[specs.size()];
+		for (final CCanFrame frame : frames(random, 20_000)) {
+			final int count = baseline.match(frame, expected);
+			assertThat(matcher.match(frame, actual)).isEqualTo(count);
+			for (int i = 0; i < count; i++) {
+				assertThat(actual[i]).isEqualTo(expected[i]);
+			}
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package tech.derbent.plm.attachments.service;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import org.junit.jupiter.api.Test;
+import tech.derbent.api.session.service.ISessionService;
+import tech.derbent.plm.attachments.domain.CAttachment;
+import tech.derbent.plm.attachments.storage.CContentAddressedAttachmentStorage;
+import tech.derbent.plm.attachments.storage.IAttachmentStorage;
+import tech.derbent.plm.documenttypes.service.CDocumentTypeService;
+
+class CAttachmentServiceTest {
+
+	private static final String BLOB_PATH = CContentAddressedAttachmentStorage.BLOB_DIRECTORY + "/ab/" + "ab".repeat(32);
+	private static final String DATED_PATH = "2024/01/15/report_1705312200000.pdf";
+
+	private static CAttachment attachment(final long id, final String contentPath) {
+		final CAttachment attachment = mock(CAttachment.class);
+		when(attachment.getId()).thenReturn(id);
+		when(attachment.getContentPath()).thenReturn(contentPath);
+		return attachment;
+	}
+
+	private final IAttachmentRepository repository = mock(IAttachmentRepository.class);
+	private final IAttachmentStorage storage = mock(IAttachmentStorage.class);
+	private final CAttachmentService service =
+			new CAttachmentService(repository, Clock.systemUTC(), mock(ISessionService.class), storage, mock(CDocumentTypeService.class));
+
+	@Test
+	void deleteStoredFile_shouldLeaveBlobsToTheOrphanCollection() {
+		when(storage.isContentAddressed(BLOB_PATH)).thenReturn(true);
+		// No other attachment names the blob yet, but an upload of the same content may still be in its transaction.
+		service.deleteStoredFile(attachment(1L, BLOB_PATH));
+		verify(storage, never()).delete(anyString());
+	}
+
+	@Test
+	void deleteStoredFile_shouldDeleteAnOwnFileAtOnce() {
+		when(storage.delete(DATED_PATH)).thenReturn(true);
+		service.deleteStoredFile(attachment(2L, DATED_PATH));
+		verify(storage).delete(DATED_PATH);
+		when(repository.countOtherReferences(DATED_PATH, 3L)).thenReturn(1L);
+		service.deleteStoredFile(attachment(3L, DATED_PATH));
+		verify(storage).delete(DATED_PATH);
+	}
+}
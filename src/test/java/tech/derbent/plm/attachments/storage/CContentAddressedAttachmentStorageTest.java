@@ -0,0 +1,78 @@
+package tech.derbent.plm.attachments.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CContentAddressedAttachmentStorageTest {
+
+	private static InputStream content(final String text) {
+		return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String read(final IAttachmentStorage storage, final String contentPath) throws Exception {
+		try (InputStream in = storage.download(contentPath)) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	@TempDir
+	private Path root;
+	private CContentAddressedAttachmentStorage storage;
+
+	@BeforeEach
+	void setUp() {
+		storage = new CContentAddressedAttachmentStorage(root.toString());
+	}
+
+	@Test
+	void upload_shouldStoreEqualContentOnce() throws Exception {
+		final String first = storage.upload("datasheet.pdf", content("datasheet"), 9);
+		final String second = storage.upload("copy of datasheet.pdf", content("datasheet"), 9);
+		final String other = storage.upload("datasheet.pdf", content("datasheet v2"), 12);
+		assertThat(second).isEqualTo(first);
+		assertThat(other).isNotEqualTo(first);
+		assertThat(first).startsWith(CContentAddressedAttachmentStorage.BLOB_DIRECTORY + "/");
+		assertThat(storage.isContentAddressed(first)).isTrue();
+		assertThat(storage.isContentAddressed("2024/01/15/datasheet_1705312200000.pdf")).isFalse();
+		try (var files = Files.walk(root.resolve(CContentAddressedAttachmentStorage.BLOB_DIRECTORY))) {
+			assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(2);
+		}
+		assertThat(read(storage, first)).isEqualTo("datasheet");
+	}
+
+	@Test
+	void download_shouldFailOnCorruptBlob() throws Exception {
+		final String contentPath = storage.upload("report.txt", content("original"), 8);
+		Files.writeString(root.resolve(contentPath), "tampered");
+		assertThatThrownBy(() -> read(storage, contentPath)).isInstanceOf(IOException.class).hasMessageContaining("corrupt");
+	}
+
+	@Test
+	void migrateAndCollect_shouldMoveDatedFilesAndDropUnreferencedOnes() throws Exception {
+		final Path legacy = root.resolve("2025/01/15/uuid-report.txt");
+		Files.createDirectories(legacy.getParent());
+		Files.writeString(legacy, "legacy content");
+		assertThat(read(storage, "2025/01/15/uuid-report.txt")).isEqualTo("legacy content");
+		final String migrated = storage.migrate("2025/01/15/uuid-report.txt");
+		final String orphan = storage.upload("orphan.txt", content("nobody needs this"), 17);
+		assertThat(storage.migrate(migrated)).isEqualTo(migrated);
+		// Only files older than the cut-off are collected, so nothing goes while uploads may still be committing.
+		assertThat(storage.collectOrphans(Set.of(migrated), Instant.now().minusSeconds(3600))).isZero();
+		assertThat(storage.collectOrphans(Set.of(migrated), Instant.now().plusSeconds(1))).isEqualTo(2);
+		assertThat(storage.exists("2025/01/15/uuid-report.txt")).isFalse();
+		assertThat(storage.exists(orphan)).isFalse();
+		assertThat(read(storage, migrated)).isEqualTo("legacy content");
+		assertThatThrownBy(() -> storage.download("../outside.txt")).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,162 @@
+package tech.derbent.plm.gnnt.gnntviewentity.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class CGnntScheduleEngineTest {
+
+	private static final LocalDate DAY_0 = LocalDate.of(2026, 1, 1);
+	private static final int LARGE_CHAINS = 100;
+	private static final int LARGE_LEAVES = 20_000;
+	private static final int LARGE_SUMMARIES = 200;
+
+	private static LocalDate day(final int offset) {
+		return DAY_0.plusDays(offset);
+	}
+
+	/** Summary P holds A (5 days) and B (3 days); C must finish before A starts, B must finish before D starts. */
+	private static CGnntScheduleEngine smallProject() {
+		final CGnntScheduleEngine engine = new CGnntScheduleEngine();
+		engine.addItem("P", null, null, null);
+		engine.addItem("A", "P", day(0), day(4));
+		engine.addItem("B", "P", day(0), day(2));
+		engine.addItem("C", null, day(0), day(1));
+		engine.addItem("D", null, day(0), day(0));
+		engine.addDependency("C", "A");
+		engine.addDependency("B", "D");
+		engine.compute();
+		return engine;
+	}
+
+	@Test
+	void compute_shouldPushSuccessorsAndRollUpParents() {
+		final CGnntScheduleEngine engine = smallProject();
+		assertThat(engine.getEntry("A").earlyStart()).isEqualTo(day(2));
+		assertThat(engine.getEntry("A").earlyFinish()).isEqualTo(day(6));
+		assertThat(engine.getEntry("D").earlyStart()).isEqualTo(day(3));
+		assertThat(engine.getEntry("P").earlyStart()).isEqualTo(day(0));
+		assertThat(engine.getEntry("P").earlyFinish()).isEqualTo(day(6));
+		assertThat(engine.getProjectEnd()).isEqualTo(day(6));
+	}
+
+	@Test
+	void compute_shouldMarkZeroSlackChainAsCritical() {
+		final CGnntScheduleEngine engine = smallProject();
+		assertThat(engine.getCriticalPath()).containsExactly("C", "A");
+		assertThat(engine.getEntry("B").slackDays()).isEqualTo(3);
+		assertThat(engine.getEntry("D").critical()).isFalse();
+		assertThat(engine.getEntry("P").critical()).isTrue();
+	}
+
+	@Test
+	void compute_shouldIgnoreCyclicAndAncestorDependencies() {
+		final CGnntScheduleEngine engine = new CGnntScheduleEngine();
+		engine.addItem("P", null, null, null);
+		engine.addItem("A", "P", day(0), day(1));
+		engine.addItem("B", null, day(0), day(1));
+		engine.addDependency("A", "B");
+		engine.addDependency("B", "A");
+		engine.addDependency("P", "A");
+		engine.compute();
+		// One of the two cyclic links is dropped, the other still applies.
+		assertThat(engine.getEntry("A").earlyStart().equals(day(0)) ^ engine.getEntry("B").earlyStart().equals(day(0))).isTrue();
+		assertThat(engine.getProjectEnd()).isEqualTo(day(3));
+	}
+
+	@Test
+	void updateDates_shouldReturnOnlyAffectedItems() {
+		final CGnntScheduleEngine engine = smallProject();
+		final Set<String> changed = engine.updateDates("B", day(0), day(9));
+		assertThat(changed).containsExactlyInAnyOrder("P", "A", "B", "C", "D");
+		assertThat(engine.getCriticalPath()).containsExactly("B", "D");
+		assertThat(engine.updateDates("B", day(0), day(9))).isEmpty();
+	}
+
+	@Test
+	void updateDates_shouldMatchFullRecomputeOnRandomGraphs() {
+		final Random random = new Random(7);
+		final int count = 300;
+		final String[] parents = new String[count];
+		final LocalDate[][] dates = new LocalDate[count][];
+		final List<int[]> dependencies = new ArrayList<>();
+		for (int index = 0; index < count; index++) {
+			parents[index] = index > 10 && random.nextInt(3) > 0 ? "K" + random.nextInt(index) : null;
+			final int start = random.nextInt(60);
+			dates[index] = random.nextInt(5) > 0 ? new LocalDate[] {
+					day(start), day(start + random.nextInt(10))
+			} : new LocalDate[] {
+					null, null
+			};
+			dependencies.add(new int[] {
+					random.nextInt(count), random.nextInt(count)
+			});
+		}
+		final CGnntScheduleEngine incremental = build(parents, dates, dependencies);
+		for (int step = 0; step < 200; step++) {
+			final int index = random.nextInt(count);
+			final int start = random.nextInt(80);
+			dates[index] = random.nextInt(6) == 0 ? new LocalDate[] {
+					null, null
+			} : new LocalDate[] {
+					day(start), day(start + random.nextInt(12))
+			};
+			incremental.updateDates("K" + index, dates[index][0], dates[index][1]);
+			final CGnntScheduleEngine full = build(parents, dates, dependencies);
+			for (int item = 0; item < count; item++) {
+				assertThat(incremental.getEntry("K" + item)).as("step %d item %d", step, item).isEqualTo(full.getEntry("K" + item));
+			}
+			assertThat(incremental.getCriticalPath()).isEqualTo(full.getCriticalPath());
+		}
+	}
+
+	private static CGnntScheduleEngine build(final String[] parents, final LocalDate[][] dates, final List<int[]> dependencies) {
+		final CGnntScheduleEngine engine = new CGnntScheduleEngine();
+		for (int index = 0; index < parents.length; index++) {
+			engine.addItem("K" + index, parents[index], dates[index][0], dates[index][1]);
+		}
+		for (final int[] dependency : dependencies) {
+			engine.addDependency("K" + dependency[0], "K" + dependency[1]);
+		}
+		engine.compute();
+		return engine;
+	}
+
+	/** 200 summary items, 20 000 leaves in 100 parallel chains of 200 finish-to-start links. */
+	private static CGnntScheduleEngine largeProject() {
+		final CGnntScheduleEngine engine = new CGnntScheduleEngine();
+		for (int index = 0; index < LARGE_SUMMARIES; index++) {
+			engine.addItem("E" + index, null, null, null);
+		}
+		for (int index = 0; index < LARGE_LEAVES; index++) {
+			engine.addItem("I" + index, "E" + index % LARGE_SUMMARIES, day(index % 50), day(index % 50 + 3));
+		}
+		for (int index = LARGE_CHAINS; index < LARGE_LEAVES; index++) {
+			engine.addDependency("I" + (index - LARGE_CHAINS), "I" + index);
+		}
+		return engine;
+	}
+
+	/** Lengthens an item near the tail of one of the shorter chains: a few successors move, the project end stays put. */
+	private static void lengthenChainTail(final CGnntScheduleEngine engine, final int update) {
+		final int index = LARGE_LEAVES - LARGE_CHAINS * (1 + update % 5) + update % 40;
+		engine.updateDates("I" + index, day(0), day(5 + update % 3));
+	}
+
+	@Test
+	void updateDates_shouldRecomputeOnlyTheDependentChainOn20kItems() {
+		final CGnntScheduleEngine engine = largeProject();
+		engine.compute();
+		int evaluatedMax = 0;
+		for (int update = 0; update < 200; update++) {
+			lengthenChainTail(engine, update);
+			evaluatedMax = Math.max(evaluatedMax, engine.getLastRecomputedVertexCount());
+		}
+		// Each update touches its chain tail and the summaries above it, never the whole graph.
+		assertThat(evaluatedMax).isLessThan((LARGE_SUMMARIES + LARGE_LEAVES) / 10);
+	}
+}
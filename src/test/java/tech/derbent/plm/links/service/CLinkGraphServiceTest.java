@@ -0,0 +1,93 @@
+package tech.derbent.plm.links.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.derbent.api.companies.domain.CCompany;
+import tech.derbent.api.session.service.ISessionService;
+import tech.derbent.plm.links.domain.CLink;
+import tech.derbent.plm.links.domain.CLinkEndpoint;
+import tech.derbent.plm.links.service.CLinkGraphService.CLinkNeighbourhood;
+
+class CLinkGraphServiceTest {
+
+	private static final Long COMPANY_ID = 7L;
+	private static final CLinkEndpoint ISSUE = new CLinkEndpoint("CIssue", 2L);
+	private static final CLinkEndpoint OTHER_ISSUE = new CLinkEndpoint("CIssue", 4L);
+	private static final CLinkEndpoint REQUIREMENT = new CLinkEndpoint("CRequirement", 1L);
+	private static final CLinkEndpoint RISK = new CLinkEndpoint("CRisk", 3L);
+
+	private static CLink link(final long id, final CLinkEndpoint source, final CLinkEndpoint target) {
+		final CLink link = mock(CLink.class);
+		when(link.getId()).thenReturn(id);
+		when(link.getSourceEntityType()).thenReturn(source.entityType());
+		when(link.getSourceEntityId()).thenReturn(source.entityId());
+		when(link.getTargetEntityType()).thenReturn(target.entityType());
+		when(link.getTargetEntityId()).thenReturn(target.entityId());
+		return link;
+	}
+
+	private List<CLink> links;
+	private ILinkRepository repository;
+	private CLinkGraphService service;
+
+	@BeforeEach
+	void setUp() {
+		// requirement -> issue -> risk, other issue -> requirement
+		links = List.of(link(10, REQUIREMENT, ISSUE), link(11, ISSUE, RISK), link(12, OTHER_ISSUE, REQUIREMENT));
+		repository = mock(ILinkRepository.class);
+		when(repository.findBySources(anyLong(), anyString(), anyCollection())).thenAnswer(invocation -> links.stream()
+				.filter(link -> link.getSourceEntityType().equals(invocation.getArgument(1))
+						&& invocation.<Collection<Long>>getArgument(2).contains(link.getSourceEntityId()))
+				.toList());
+		when(repository.findByTargets(anyLong(), anyString(), anyCollection())).thenAnswer(invocation -> links.stream()
+				.filter(link -> link.getTargetEntityType().equals(invocation.getArgument(1))
+						&& invocation.<Collection<Long>>getArgument(2).contains(link.getTargetEntityId()))
+				.toList());
+		final CCompany company = mock(CCompany.class);
+		when(company.getId()).thenReturn(COMPANY_ID);
+		final ISessionService sessionService = mock(ISessionService.class);
+		when(sessionService.getActiveCompany()).thenReturn(Optional.of(company));
+		service = new CLinkGraphService(repository, sessionService);
+	}
+
+	@Test
+	void getNeighbourhood_shouldFollowLinksInBothDirectionsHopByHop() {
+		final CLinkNeighbourhood oneHop = service.getNeighbourhood(REQUIREMENT, 1);
+		assertThat(oneHop.distances()).containsExactlyInAnyOrderEntriesOf(Map.of(REQUIREMENT, 0, ISSUE, 1, OTHER_ISSUE, 1));
+		assertThat(oneHop.links()).hasSize(2);
+		final CLinkNeighbourhood twoHops = service.getNeighbourhood(REQUIREMENT, 2);
+		assertThat(twoHops.distances()).containsEntry(RISK, 2).hasSize(4);
+		assertThat(twoHops.links()).hasSize(3);
+	}
+
+	@Test
+	void getNeighbourhood_shouldQueryEachTypeOncePerHop() {
+		service.getNeighbourhood(REQUIREMENT, 2);
+		// Both issues sit on the second frontier and are expanded together.
+		verify(repository).findBySources(eq(COMPANY_ID), eq("CIssue"), any());
+		verify(repository).findByTargets(eq(COMPANY_ID), eq("CIssue"), any());
+	}
+
+	@Test
+	void findAffectedBy_shouldMapRecursiveRowsNearestFirst() {
+		when(repository.findReachingSources(COMPANY_ID, "CRisk", 3L, 5)).thenReturn(List.of(new Object[] {
+				"CRequirement", 1L, 2
+		}, new Object[] {
+				"CIssue", 2L, 1
+		}));
+		assertThat(service.findAffectedBy(RISK, 5)).containsExactly(Map.entry(ISSUE, 1), Map.entry(REQUIREMENT, 2));
+	}
+}
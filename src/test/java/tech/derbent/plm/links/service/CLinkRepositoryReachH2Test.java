@@ -0,0 +1,94 @@
+package tech.derbent.plm.links.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.TestPropertySource;
+import tech.derbent.Application;
+import tech.derbent.api.companies.domain.CCompany;
+import tech.derbent.api.companies.service.ICompanyRepository;
+import tech.derbent.api.session.service.CSessionContextSnapshot;
+import tech.derbent.plm.links.domain.CLink;
+
+/** Runs the recursive reachability queries of {@link ILinkRepository} against a real database: depth limit, shortest depth, cycles and
+ * company scoping. */
+@SpringBootTest (webEnvironment = WebEnvironment.RANDOM_PORT, classes = Application.class)
+@TestPropertySource (properties = {
+		"spring.profiles.active=derbent", "server.port=0", "spring.datasource.url=jdbc:h2:mem:linkreachdb",
+		"spring.datasource.username=sa", "spring.datasource.password=",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName ("Link reachability queries on H2")
+class CLinkRepositoryReachH2Test {
+
+	/** Created by the first test; the links are read-only afterwards. */
+	private static CCompany company;
+	private static final String ISSUE = "CIssue";
+	private static final String REQUIREMENT = "CRequirement";
+	private static final String RISK = "CRisk";
+
+	/** Maps result rows to "type:id" -> depth. */
+	private static Map<String, Integer> depths(final List<Object[]> rows) {
+		return rows.stream().collect(Collectors.toMap(row -> row[0] + ":" + ((Number) row[1]).longValue(), row -> ((Number) row[2]).intValue()));
+	}
+
+	@Autowired
+	private ICompanyRepository companyRepository;
+	@Autowired
+	private ILinkRepository linkRepository;
+
+	private void link(final CCompany owner, final String sourceType, final long sourceId, final String targetType, final long targetId) {
+		// New links take their company from the session.
+		final CSessionContextSnapshot previous = CSessionContextSnapshot.bind(new CSessionContextSnapshot(owner, null, null));
+		try {
+			linkRepository.save(new CLink(sourceType, sourceId, targetType, targetId, "Related"));
+		} finally {
+			CSessionContextSnapshot.bind(previous);
+		}
+	}
+
+	@Test
+	@DisplayName ("Reaching sources follow links backwards and stop at the depth limit")
+	void findReachingSources() {
+		assertThat(depths(linkRepository.findReachingSources(company.getId(), REQUIREMENT, 1L, 10)))
+				.isEqualTo(Map.of(RISK + ":3", 1, ISSUE + ":4", 1, ISSUE + ":2", 2));
+		assertThat(depths(linkRepository.findReachingSources(company.getId(), REQUIREMENT, 1L, 1)))
+				.isEqualTo(Map.of(RISK + ":3", 1, ISSUE + ":4", 1));
+	}
+
+	@Test
+	@DisplayName ("Reached targets follow links forwards through a cycle and stay in the company")
+	void findReachedTargets() {
+		assertThat(depths(linkRepository.findReachedTargets(company.getId(), REQUIREMENT, 1L, 10)))
+				.isEqualTo(Map.of(ISSUE + ":2", 1, RISK + ":3", 2));
+		assertThat(depths(linkRepository.findReachedTargets(company.getId(), REQUIREMENT, 1L, 1))).isEqualTo(Map.of(ISSUE + ":2", 1));
+		assertThat(linkRepository.findReachedTargets(company.getId(), RISK, 99L, 10)).isEmpty();
+	}
+
+	@BeforeEach
+	void setUp() {
+		if (company != null) {
+			return;
+		}
+		final CCompany reachCompany = companyRepository.save(new CCompany("Reach company"));
+		final CCompany otherCompany = companyRepository.save(new CCompany("Other reach company"));
+		// requirement 1 -> issue 2 -> risk 3 -> requirement 1 (cycle), issue 4 -> requirement 1
+		link(reachCompany, REQUIREMENT, 1L, ISSUE, 2L);
+		link(reachCompany, ISSUE, 2L, RISK, 3L);
+		link(reachCompany, RISK, 3L, REQUIREMENT, 1L);
+		link(reachCompany, ISSUE, 4L, REQUIREMENT, 1L);
+		// Same endpoints in another company must never be followed.
+		link(otherCompany, ISSUE, 2L, RISK, 8L);
+		link(otherCompany, ISSUE, 9L, REQUIREMENT, 1L);
+		company = reachCompany;
+	}
+}
@@ -0,0 +1,123 @@
+package tech.derbent.plm.sprints.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.vaadin.flow.server.VaadinSession;
+import tech.derbent.Application;
+import tech.derbent.api.config.CDataInitializer;
+import tech.derbent.api.session.service.CSessionContextSnapshot;
+import tech.derbent.api.session.service.CTestVaadinSession;
+import tech.derbent.api.session.service.ISessionService;
+import tech.derbent.plm.activities.domain.CActivity;
+import tech.derbent.plm.activities.service.CActivityService;
+import tech.derbent.plm.project.domain.CProject_Derbent;
+import tech.derbent.plm.project.service.CProject_DerbentService;
+import tech.derbent.plm.sprints.domain.CSprint;
+import tech.derbent.plm.sprints.domain.CSprintMetrics;
+
+/** Runs the batched metrics loading and the commit-time refresh against a real database. */
+@SpringBootTest (webEnvironment = WebEnvironment.RANDOM_PORT, classes = Application.class)
+@TestPropertySource (properties = {
+		"spring.profiles.active=derbent", "server.port=0", "spring.datasource.url=jdbc:h2:mem:sprintmetricsdb",
+		"spring.datasource.username=sa", "spring.datasource.password=",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName ("Sprint metrics on H2")
+class CSprintMetricsServiceH2Test {
+
+	/** Company context left by the first test's seeding; later tests run in a fresh Vaadin session without one. */
+	private static CSessionContextSnapshot sampleContext;
+
+	private static int itemCount(final CSprintMetrics metrics) {
+		return metrics.getItemCount() != null ? metrics.getItemCount() : 0;
+	}
+
+	@Autowired
+	private CActivityService activityService;
+	@Autowired
+	private ISprintMetricsRepository metricsRepository;
+	@Autowired
+	private CSprintMetricsService metricsService;
+	private CSessionContextSnapshot previousSession;
+	private CProject_Derbent project;
+	@Autowired
+	private CProject_DerbentService projectService;
+	@Autowired
+	private ISessionService sessionService;
+	@Autowired
+	private CSprintService sprintService;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	private VaadinSession vaadinSession;
+
+	@Test
+	@DisplayName ("Listed sprints carry the same totals as a fresh computation")
+	void listByProject_attachesComputedMetrics() {
+		final List<CSprint> sprints = sprintService.listByProject(project);
+		assumeTrue(!sprints.isEmpty(), "The sample project has no sprints");
+		for (final CSprint sprint : sprints) {
+			final CSprintMetrics computed = metricsService.refresh(sprint.getId());
+			assertEquals(itemCount(computed), itemCount(sprint.getMetrics()), sprint.getName());
+			assertEquals(computed.getTotalStoryPoints(), sprint.getMetrics().getTotalStoryPoints(), sprint.getName());
+			assertEquals(Integer.valueOf(itemCount(computed)), sprint.getItemCount(), sprint.getName());
+		}
+	}
+
+	@Test
+	@DisplayName ("Moving items into a sprint refreshes its totals once, when the transaction commits")
+	void moveIntoSprint_refreshesOnCommit() {
+		final List<CSprint> sprints = sprintService.listByProject(project);
+		final List<CActivity> backlog = activityService.listByProject(project).stream()
+				.filter(activity -> activity.getSprintItem() != null && activity.getSprintItem().getSprint() == null).limit(2).toList();
+		assumeTrue(!sprints.isEmpty() && backlog.size() == 2, "The sample project has no sprint or too small a backlog");
+		final CSprint target = sprints.get(0);
+		final int before = itemCount(metricsService.refresh(target.getId()));
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			for (final CActivity activity : backlog) {
+				sprintService.addSprintItemToSprint(target, activityService.getById(activity.getId()).orElseThrow());
+			}
+			// Nothing is recomputed until the commit.
+			assertEquals(before, itemCount(metricsRepository.findBySprintId(target.getId()).orElseThrow()));
+		});
+		final CSprint reloaded = sprintService.getById(target.getId()).orElseThrow();
+		assertEquals(before + 2, itemCount(reloaded.getMetrics()));
+		assertEquals(Integer.valueOf(before + 2), reloaded.getItemCount());
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken("sprint-metrics-h2", "n/a", List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+		vaadinSession = CTestVaadinSession.bind();
+		if (sampleContext == null) {
+			new CDataInitializer().reloadForcedExcel(true);
+			sampleContext = CSessionContextSnapshot.capture(sessionService);
+		}
+		previousSession = CSessionContextSnapshot.bind(sampleContext);
+		project = projectService.findAll().get(0);
+		CSessionContextSnapshot.bind(new CSessionContextSnapshot(project.getCompany(), project, sampleContext.user()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		CSessionContextSnapshot.bind(previousSession);
+		CTestVaadinSession.release(vaadinSession);
+		SecurityContextHolder.clearContext();
+	}
+}
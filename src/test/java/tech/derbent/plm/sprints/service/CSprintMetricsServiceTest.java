@@ -0,0 +1,114 @@
+package tech.derbent.plm.sprints.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import tech.derbent.plm.sprints.domain.CSprint;
+import tech.derbent.plm.sprints.domain.CSprintBurndownSnapshot;
+import tech.derbent.plm.sprints.domain.CSprintItem;
+import tech.derbent.plm.sprints.domain.CSprintMetrics;
+import tech.derbent.plm.sprints.service.CSprintMetricsService.CBurndownPoint;
+
+class CSprintMetricsServiceTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2026, 3, 5);
+
+	private static List<Object[]> row(final long items, final long points, final long completedItems, final long completedPoints) {
+		final List<Object[]> rows = new ArrayList<>();
+		rows.add(new Object[] {
+				items, points, completedItems, completedPoints
+		});
+		return rows;
+	}
+
+	private static CSprintBurndownSnapshot snapshot(final CSprint sprint, final LocalDate day, final long total, final long completed) {
+		final CSprintMetrics metrics = new CSprintMetrics(sprint);
+		metrics.setTotals(0, total, 0, completed, null);
+		final CSprintBurndownSnapshot snapshot = new CSprintBurndownSnapshot(sprint, day);
+		snapshot.capture(metrics);
+		return snapshot;
+	}
+
+	private ISprintMetricsRepository metricsRepository;
+	private CSprintMetricsService service;
+	private ISprintBurndownSnapshotRepository snapshotRepository;
+	private CSprint sprint;
+
+	@BeforeEach
+	void setUp() {
+		metricsRepository = mock(ISprintMetricsRepository.class);
+		snapshotRepository = mock(ISprintBurndownSnapshotRepository.class);
+		final ISprintRepository sprintRepository = mock(ISprintRepository.class);
+		sprint = mock(CSprint.class);
+		when(sprint.getId()).thenReturn(1L);
+		when(sprint.getStartDate()).thenReturn(TODAY.minusDays(4));
+		when(sprint.getEndDate()).thenReturn(TODAY.plusDays(4));
+		when(sprintRepository.getReferenceById(anyLong())).thenReturn(sprint);
+		when(metricsRepository.findBySprintId(anyLong())).thenReturn(Optional.empty());
+		when(metricsRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		when(snapshotRepository.findBySprintIdAndDate(anyLong(), any())).thenReturn(Optional.empty());
+		final Clock clock = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+		service = new CSprintMetricsService(metricsRepository, snapshotRepository, sprintRepository, clock);
+	}
+
+	@Test
+	void refresh_shouldSumAllSprintableTypesAndSnapshotRunningSprint() {
+		when(metricsRepository.aggregateActivities(1L)).thenReturn(row(3, 8, 1, 3));
+		when(metricsRepository.aggregateIssues(1L)).thenReturn(row(2, 5, 2, 5));
+		when(metricsRepository.countRunningSprint(1L, TODAY)).thenReturn(1L);
+		final CSprintMetrics metrics = service.refresh(1L);
+		assertThat(metrics.getItemCount()).isEqualTo(5);
+		assertThat(metrics.getTotalStoryPoints()).isEqualTo(13L);
+		assertThat(metrics.getCompletedStoryPoints()).isEqualTo(8L);
+		assertThat(metrics.getProgressPercentage()).isEqualTo(60);
+		final ArgumentCaptor<CSprintBurndownSnapshot> captor = ArgumentCaptor.forClass(CSprintBurndownSnapshot.class);
+		verify(snapshotRepository).save(captor.capture());
+		assertThat(captor.getValue().getSnapshotDate()).isEqualTo(TODAY);
+		assertThat(captor.getValue().getRemainingStoryPoints()).isEqualTo(5L);
+	}
+
+	@Test
+	void refresh_shouldNotSnapshotSprintOutsideItsDates() {
+		when(metricsRepository.countRunningSprint(1L, TODAY)).thenReturn(0L);
+		service.refresh(1L);
+		verify(snapshotRepository, never()).save(any());
+	}
+
+	@Test
+	void refreshForSprintItem_shouldRefreshSprintTheItemLeft() {
+		final CSprint target = mock(CSprint.class);
+		when(target.getId()).thenReturn(2L);
+		final CSprintItem item = mock(CSprintItem.class);
+		when(item.getPersistedSprintId()).thenReturn(1L);
+		when(item.getSprint()).thenReturn(target);
+		service.refreshForSprintItem(item);
+		verify(metricsRepository).aggregateActivities(1L);
+		verify(metricsRepository).aggregateActivities(2L);
+	}
+
+	@Test
+	void getBurndown_shouldCarrySnapshotsForwardUntilToday() {
+		when(snapshotRepository.findBySprintIdOrderByDate(1L)).thenReturn(List.of(snapshot(sprint, TODAY.minusDays(4), 20, 0),
+				snapshot(sprint, TODAY.minusDays(2), 24, 6), snapshot(sprint, TODAY, 24, 12)));
+		final List<CBurndownPoint> points = service.getBurndown(sprint);
+		assertThat(points).extracting(CBurndownPoint::date).containsExactly(TODAY.minusDays(4), TODAY.minusDays(3), TODAY.minusDays(2),
+				TODAY.minusDays(1), TODAY);
+		assertThat(points).extracting(CBurndownPoint::remainingStoryPoints).containsExactly(20L, 20L, 18L, 18L, 12L);
+		// Ideal line: 20 points over 8 days, half way on the middle day
+		assertThat(points.get(0).idealRemainingStoryPoints()).isEqualTo(20.0);
+		assertThat(points.get(4).idealRemainingStoryPoints()).isEqualTo(10.0);
+	}
+}
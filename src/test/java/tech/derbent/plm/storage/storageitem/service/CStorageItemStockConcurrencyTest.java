@@ -0,0 +1,184 @@
+package tech.derbent.plm.storage.storageitem.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import com.vaadin.flow.server.VaadinSession;
+import tech.derbent.Application;
+import tech.derbent.api.config.CDataInitializer;
+import tech.derbent.api.session.service.CSessionContextSnapshot;
+import tech.derbent.api.session.service.CTestVaadinSession;
+import tech.derbent.api.session.service.ISessionService;
+import tech.derbent.plm.project.domain.CProject_Derbent;
+import tech.derbent.plm.project.service.CProject_DerbentService;
+import tech.derbent.plm.storage.storageitem.domain.CStorageItem;
+import tech.derbent.plm.storage.transaction.domain.CStorageTransaction;
+import tech.derbent.plm.storage.transaction.domain.CTransactionType;
+import tech.derbent.plm.storage.transaction.service.CStorageTransactionService;
+
+/** Parallel stock bookings on one storage item: no booking may be lost and the ledger must read as one serial history. */
+@SpringBootTest (webEnvironment = WebEnvironment.RANDOM_PORT, classes = Application.class)
+@TestPropertySource (properties = {
+		"spring.profiles.active=derbent", "server.port=0", "spring.datasource.url=jdbc:h2:mem:stockdb;LOCK_TIMEOUT=30000",
+		"spring.datasource.username=sa", "spring.datasource.password=",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName ("Concurrent stock bookings")
+class CStorageItemStockConcurrencyTest {
+
+	private static final int BOOKINGS_PER_WRITER = 25;
+	private static final BigDecimal OPENING_STOCK = BigDecimal.valueOf(1000);
+	/** Company context left by the first test's seeding; later tests run in a fresh Vaadin session without one. */
+	private static CSessionContextSnapshot sampleContext;
+	private static final int WRITERS = 8;
+	private CStorageItem item;
+	private CSessionContextSnapshot previousSession;
+	@Autowired
+	private CProject_DerbentService projectService;
+	@Autowired
+	private IStorageItemRepository storageItemRepository;
+	@Autowired
+	private ISessionService sessionService;
+	@Autowired
+	private CStorageItemService storageItemService;
+	@Autowired
+	private CStorageTransactionService transactionService;
+	private VaadinSession vaadinSession;
+
+	@Test
+	@DisplayName ("Parallel writers lose no update")
+	void parallelBookings_shouldNotLoseUpdates() throws Exception {
+		storageItemService.adjustStock(item, OPENING_STOCK, "Stress test opening stock");
+		final long firstTransactionId = transactionService.getTransactionsForItem(item).stream().mapToLong(CStorageTransaction::getId).max()
+				.orElseThrow();
+		final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		final CSessionContextSnapshot session = new CSessionContextSnapshot(item.getProject().getCompany(), item.getProject(), null);
+		final List<Throwable> failures = new CopyOnWriteArrayList<>();
+		final CountDownLatch start = new CountDownLatch(1);
+		final ExecutorService pool = Executors.newFixedThreadPool(WRITERS);
+		for (int writer = 0; writer < WRITERS; writer++) {
+			// Even writers add two units per booking, odd writers remove one
+			final boolean adding = writer % 2 == 0;
+			pool.execute(() -> {
+				SecurityContextHolder.getContext().setAuthentication(authentication);
+				final CSessionContextSnapshot previous = CSessionContextSnapshot.bind(session);
+				try {
+					start.await();
+					for (int booking = 0; booking < BOOKINGS_PER_WRITER; booking++) {
+						if (adding) {
+							storageItemService.addStock(item, BigDecimal.valueOf(2), "Stress test");
+						} else {
+							storageItemService.removeStock(item, BigDecimal.ONE, CTransactionType.STOCK_OUT, "Stress test");
+						}
+					}
+				} catch (final Throwable e) {
+					failures.add(e);
+				} finally {
+					CSessionContextSnapshot.bind(previous);
+					SecurityContextHolder.clearContext();
+				}
+			});
+		}
+		start.countDown();
+		pool.shutdown();
+		assertThat(pool.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+		assertThat(failures).isEmpty();
+		final int bookingsPerSide = WRITERS / 2 * BOOKINGS_PER_WRITER;
+		final BigDecimal expected = OPENING_STOCK.add(BigDecimal.valueOf(2L * bookingsPerSide)).subtract(BigDecimal.valueOf(bookingsPerSide));
+		assertThat(storageItemRepository.findCurrentQuantity(item.getId())).isEqualByComparingTo(expected);
+		// Ledger: one row per booking, and each row starts where the previous one ended
+		final List<CStorageTransaction> ledger = transactionService.getTransactionsForItem(item).stream()
+				.filter(transaction -> transaction.getId() > firstTransactionId).sorted(Comparator.comparing(CStorageTransaction::getId)).toList();
+		assertThat(ledger).hasSize(2 * bookingsPerSide);
+		BigDecimal balance = OPENING_STOCK;
+		for (final CStorageTransaction transaction : ledger) {
+			assertThat(transaction.getQuantityBefore()).isEqualByComparingTo(balance);
+			balance = transaction.getQuantityAfter();
+		}
+		assertThat(balance).isEqualByComparingTo(expected);
+	}
+
+	@Test
+	@DisplayName ("Removal never drives the balance below zero")
+	void parallelRemovals_shouldStopAtZero() throws Exception {
+		storageItemService.adjustStock(item, BigDecimal.TEN, "Stress test opening stock");
+		final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		final CSessionContextSnapshot session = new CSessionContextSnapshot(item.getProject().getCompany(), item.getProject(), null);
+		final List<Boolean> outcomes = Collections.synchronizedList(new ArrayList<>());
+		final CountDownLatch start = new CountDownLatch(1);
+		final ExecutorService pool = Executors.newFixedThreadPool(WRITERS);
+		for (int writer = 0; writer < WRITERS; writer++) {
+			pool.execute(() -> {
+				SecurityContextHolder.getContext().setAuthentication(authentication);
+				final CSessionContextSnapshot previous = CSessionContextSnapshot.bind(session);
+				try {
+					start.await();
+					for (int booking = 0; booking < 3; booking++) {
+						try {
+							storageItemService.removeStock(item, BigDecimal.ONE, CTransactionType.STOCK_OUT, "Stress test");
+							outcomes.add(true);
+						} catch (final Exception e) {
+							outcomes.add(false);
+						}
+					}
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					CSessionContextSnapshot.bind(previous);
+					SecurityContextHolder.clearContext();
+				}
+			});
+		}
+		start.countDown();
+		pool.shutdown();
+		assertThat(pool.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+		assertThat(outcomes.stream().filter(Boolean::booleanValue).count()).isEqualTo(10);
+		assertThat(storageItemRepository.findCurrentQuantity(item.getId())).isEqualByComparingTo(BigDecimal.ZERO);
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		SecurityContextHolder.getContext()
+				.setAuthentication(new UsernamePasswordAuthenticationToken("stock-test", "n/a", List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+		vaadinSession = CTestVaadinSession.bind();
+		if (sampleContext == null) {
+			new CDataInitializer().reloadForcedExcel(false);
+			sampleContext = CSessionContextSnapshot.capture(sessionService);
+		}
+		previousSession = CSessionContextSnapshot.bind(sampleContext);
+		final List<CProject_Derbent> projects = projectService.findAll();
+		item = projects.stream().flatMap(project -> storageItemService.listByProject(project).stream()).findFirst().orElse(null);
+		assumeTrue(item != null, "Sample data has no storage item");
+		CSessionContextSnapshot.bind(new CSessionContextSnapshot(item.getProject().getCompany(), item.getProject(), sampleContext.user()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		CSessionContextSnapshot.bind(previousSession);
+		CTestVaadinSession.release(vaadinSession);
+		SecurityContextHolder.clearContext();
+	}
+}
@@ -0,0 +1,135 @@
+package tech.derbent.plm.validation.validationsession.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tech.derbent.plm.validation.validationsession.domain.CValidationCaseResult;
+import tech.derbent.plm.validation.validationsession.domain.CValidationResult;
+import tech.derbent.plm.validation.validationsession.domain.CValidationStepResult;
+import tech.derbent.plm.validation.validationsession.service.CValidationCaseResultService.CCaseResultChange;
+import tech.derbent.plm.validation.validationsession.service.CValidationStepResultService.CStepResultChange;
+
+class CValidationAutoSaveServiceTest {
+
+	private static final Long SESSION_ID = 11L;
+
+	private static CValidationCaseResult caseResult(final long id, final CValidationResult result) {
+		final CValidationCaseResult caseResult = mock(CValidationCaseResult.class);
+		when(caseResult.getId()).thenReturn(id);
+		when(caseResult.getResult()).thenReturn(result);
+		return caseResult;
+	}
+
+	private static CValidationStepResult step(final long id, final String notes) {
+		final CValidationStepResult step = mock(CValidationStepResult.class);
+		when(step.getId()).thenReturn(id);
+		when(step.getResult()).thenReturn(CValidationResult.PASSED);
+		when(step.getNotes()).thenReturn(notes);
+		return step;
+	}
+
+	private final CValidationCaseResultService caseResultService = mock(CValidationCaseResultService.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CValidationStepResultService stepResultService = mock(CValidationStepResultService.class);
+	private final CValidationAutoSaveService service = new CValidationAutoSaveService(stepResultService, caseResultService, meterRegistry);
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+	}
+
+	@Test
+	void flushNow_writesOnlyTheLatestValuesOfAStep() {
+		when(stepResultService.applyChanges(anyCollection())).thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size());
+		service.markDirty(SESSION_ID, step(1, "first"), null, null);
+		service.markDirty(SESSION_ID, step(1, "second"), null, null);
+		assertEquals(1, service.getPendingRowCount());
+		assertEquals(1, service.flushNow(SESSION_ID));
+		@SuppressWarnings ("unchecked")
+		final ArgumentCaptor<Collection<CStepResultChange>> batch = ArgumentCaptor.forClass(Collection.class);
+		verify(stepResultService).applyChanges(batch.capture());
+		assertEquals(List.of("second"), batch.getValue().stream().map(CStepResultChange::notes).toList());
+		assertEquals(1.0, meterRegistry.counter("derbent.validation.autosave.coalesced").count());
+		assertEquals(0, service.getPendingRowCount());
+	}
+
+	@Test
+	void flushNow_writesCaseResultsWithTheSteps() {
+		when(stepResultService.applyChanges(anyCollection())).thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size());
+		when(caseResultService.applyChanges(anyCollection())).thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size());
+		service.markDirty(SESSION_ID, step(1, "ok"), null, null);
+		service.markDirty(SESSION_ID, caseResult(5, CValidationResult.IN_PROGRESS), null, null);
+		service.markDirty(SESSION_ID, caseResult(5, CValidationResult.PASSED), null, null);
+		assertEquals(2, service.getPendingRowCount());
+		assertEquals(2, service.flushNow(SESSION_ID));
+		verify(caseResultService).applyChanges(List.of(new CCaseResultChange(5L, CValidationResult.PASSED)));
+		assertEquals(0, service.getPendingRowCount());
+	}
+
+	@Test
+	void flushNow_requeuedRowKeepsTheTimeOfItsFirstEdit() throws InterruptedException {
+		when(stepResultService.applyChanges(any())).thenThrow(new IllegalStateException("database unavailable"));
+		service.markDirty(SESSION_ID, step(4, "a"), null, null);
+		Thread.sleep(50);
+		// Batch and single-row retry fail; the row is re-queued.
+		assertThrows(IllegalStateException.class, () -> service.flushNow(SESSION_ID));
+		doReturn(1).when(stepResultService).applyChanges(any());
+		assertEquals(1, service.flushNow(SESSION_ID));
+		assertTrue(meterRegistry.timer("derbent.validation.autosave.delay").max(TimeUnit.MILLISECONDS) >= 50);
+	}
+
+	@Test
+	void flushNow_savesValidRowsAndDropsAFailingRowAfterMaxAttempts() {
+		when(stepResultService.applyChanges(anyCollection())).thenAnswer(invocation -> {
+			final Collection<CStepResultChange> changes = invocation.getArgument(0);
+			if (changes.stream().anyMatch(change -> change.stepResultId() == 2L)) {
+				throw new IllegalArgumentException("Notes cannot exceed 2000 characters");
+			}
+			return changes.size();
+		});
+		final List<String> rejected = new ArrayList<>();
+		service.markDirty(SESSION_ID, step(1, "ok"), null, rejected::add);
+		service.markDirty(SESSION_ID, step(2, "too long"), null, rejected::add);
+		assertThrows(IllegalArgumentException.class, () -> service.flushNow(SESSION_ID));
+		// The valid row was written on its own; only the failing row waits for the next flush.
+		verify(stepResultService).applyChanges(List.of(new CStepResultChange(1L, CValidationResult.PASSED, null, "ok")));
+		assertEquals(1, service.getPendingRowCount());
+		for (int attempt = 2; attempt < CValidationAutoSaveService.MAX_FLUSH_ATTEMPTS; attempt++) {
+			assertThrows(IllegalArgumentException.class, () -> service.flushNow(SESSION_ID));
+		}
+		assertTrue(rejected.isEmpty());
+		assertEquals(0, service.flushNow(SESSION_ID));
+		assertEquals(0, service.getPendingRowCount());
+		assertEquals(1, rejected.size());
+		assertTrue(rejected.get(0).contains("Step result 2"));
+		assertEquals(1.0, meterRegistry.counter("derbent.validation.autosave.dropped").count());
+	}
+
+	@Test
+	void markDirty_newEditOfAFailedStepStartsAFreshAttemptCount() {
+		when(stepResultService.applyChanges(any())).thenThrow(new IllegalStateException("database unavailable"));
+		service.markDirty(SESSION_ID, step(3, "a"), null, null);
+		for (int attempt = 1; attempt < CValidationAutoSaveService.MAX_FLUSH_ATTEMPTS; attempt++) {
+			assertThrows(IllegalStateException.class, () -> service.flushNow(SESSION_ID));
+		}
+		service.markDirty(SESSION_ID, step(3, "b"), null, null);
+		assertThrows(IllegalStateException.class, () -> service.flushNow(SESSION_ID));
+		assertEquals(1, service.getPendingRowCount());
+		assertEquals(0.0, meterRegistry.counter("derbent.validation.autosave.dropped").count());
+	}
+}
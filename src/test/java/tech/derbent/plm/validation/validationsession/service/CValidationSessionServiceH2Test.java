@@ -0,0 +1,138 @@
+package tech.derbent.plm.validation.validationsession.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import com.vaadin.flow.server.VaadinSession;
+import tech.derbent.Application;
+import tech.derbent.api.config.CDataInitializer;
+import tech.derbent.api.session.service.CSessionContextSnapshot;
+import tech.derbent.api.session.service.CTestVaadinSession;
+import tech.derbent.api.session.service.ISessionService;
+import tech.derbent.plm.project.domain.CProject_Derbent;
+import tech.derbent.plm.project.service.CProject_DerbentService;
+import tech.derbent.plm.validation.validationcase.domain.CValidationCase;
+import tech.derbent.plm.validation.validationcase.service.CValidationCaseService;
+import tech.derbent.plm.validation.validationcasetype.service.CValidationCaseTypeInitializerService;
+import tech.derbent.plm.validation.validationsession.domain.CValidationResult;
+import tech.derbent.plm.validation.validationsession.domain.CValidationSession;
+import tech.derbent.plm.validation.validationsession.service.CValidationStepResultService.CStepResultChange;
+import tech.derbent.plm.validation.validationstep.domain.CValidationStep;
+import tech.derbent.plm.validation.validationsuite.domain.CValidationSuite;
+import tech.derbent.plm.validation.validationsuite.service.CValidationSuiteService;
+
+/** Runs the INSERT ... SELECT execution path and the GROUP BY completion statistics against a real database. */
+@SpringBootTest (webEnvironment = WebEnvironment.RANDOM_PORT, classes = Application.class)
+@TestPropertySource (properties = {
+		"spring.profiles.active=derbent", "server.port=0", "spring.datasource.url=jdbc:h2:mem:validationsessiondb",
+		"spring.datasource.username=sa", "spring.datasource.password=",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName ("Validation session execution on H2")
+class CValidationSessionServiceH2Test {
+
+	/** Company context left by the first test's seeding; later tests run in a fresh Vaadin session without one. */
+	private static CSessionContextSnapshot sampleContext;
+	@Autowired
+	private IValidationCaseResultRepository caseResultRepository;
+	@Autowired
+	private CValidationCaseService caseService;
+	private CSessionContextSnapshot previousSession;
+	private CProject_Derbent project;
+	@Autowired
+	private CProject_DerbentService projectService;
+	@Autowired
+	private ISessionService sessionService;
+	@Autowired
+	private IValidationStepResultRepository stepResultRepository;
+	@Autowired
+	private CValidationStepResultService stepResultService;
+	@Autowired
+	private CValidationSuiteService suiteService;
+	@Autowired
+	private CValidationSessionService validationSessionService;
+	private VaadinSession vaadinSession;
+
+	private void createCase(final CValidationSuite suite, final String name, final int stepCount) {
+		final CValidationCase validationCase = caseService.newEntity(name, project);
+		validationCase.setValidationSuite(suite);
+		for (int order = 1; order <= stepCount; order++) {
+			// The public constructor resolves its service through the entity registry, where validation steps are not registered.
+			final CValidationStep step = BeanUtils.instantiateClass(CValidationStep.class);
+			step.setValidationCase(validationCase);
+			step.setStepOrder(order);
+			step.setAction("Step " + order);
+			validationCase.getValidationSteps().add(step);
+		}
+		caseService.save(validationCase);
+	}
+
+	@Test
+	@DisplayName ("Execute creates one result per case and step; complete counts and saves them")
+	void executeAndComplete() throws Exception {
+		// The Excel sample has no validation case types; cases need one to pick their workflow.
+		CValidationCaseTypeInitializerService.initializeSample(project, true);
+		final CValidationSuite suite = suiteService.save(suiteService.newEntity("H2 execution suite", project));
+		createCase(suite, "H2 case A", 3);
+		createCase(suite, "H2 case B", 2);
+		final CValidationSession session = validationSessionService.newEntity("H2 execution session", project);
+		session.setValidationSuite(suite);
+		final List<Integer> progress = new ArrayList<>();
+		final CValidationSession executed = validationSessionService.executeValidationSession(session, (created, total) -> progress.add(total));
+		final Long sessionId = executed.getId();
+		assertEquals(5, stepResultRepository.countSuiteStepsForSession(sessionId));
+		assertEquals(List.of(5), progress);
+		// A second execution must not duplicate the results.
+		validationSessionService.executeValidationSession(executed);
+		assertEquals(2, caseResultRepository.findIdsByValidationSessionId(sessionId).size());
+		final List<Long> stepResultIds = caseResultRepository.findByValidationSession(executed).stream()
+				.flatMap(caseResult -> stepResultRepository.findByValidationCaseResult(caseResult).stream()).map(stepResult -> stepResult.getId())
+				.toList();
+		assertEquals(5, stepResultIds.size());
+		stepResultService.applyChanges(List.of(new CStepResultChange(stepResultIds.get(0), CValidationResult.PASSED, "ok", null),
+				new CStepResultChange(stepResultIds.get(1), CValidationResult.FAILED, "broken", null)));
+		validationSessionService.completeValidationSession(executed);
+		final CValidationSession reloaded = validationSessionService.getById(sessionId).orElseThrow();
+		assertEquals(2, reloaded.getTotalValidationCases());
+		assertEquals(0, reloaded.getPassedValidationCases());
+		assertEquals(5, reloaded.getTotalValidationSteps());
+		assertEquals(1, reloaded.getPassedValidationSteps());
+		assertEquals(1, reloaded.getFailedValidationSteps());
+		assertEquals(CValidationResult.NOT_EXECUTED, reloaded.getResult());
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken("validation-h2", "n/a", List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+		vaadinSession = CTestVaadinSession.bind();
+		if (sampleContext == null) {
+			new CDataInitializer().reloadForcedExcel(true);
+			sampleContext = CSessionContextSnapshot.capture(sessionService);
+		}
+		previousSession = CSessionContextSnapshot.bind(sampleContext);
+		project = projectService.findAll().get(0);
+		CSessionContextSnapshot.bind(new CSessionContextSnapshot(project.getCompany(), project, sampleContext.user()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		CSessionContextSnapshot.bind(previousSession);
+		CTestVaadinSession.release(vaadinSession);
+		SecurityContextHolder.clearContext();
+	}
+}
@@ -0,0 +1,2 @@
+-- The gadget schema of V1.9: V1.10 and V2 run after it
+CREATE TABLE gadget (id BIGINT PRIMARY KEY, name VARCHAR(100) NOT NULL, color VARCHAR(20));
@@ -0,0 +1 @@
+ALTER TABLE gadget ADD COLUMN weight INTEGER DEFAULT 0;
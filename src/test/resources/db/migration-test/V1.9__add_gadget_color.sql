@@ -0,0 +1,2 @@
+-- Runs before V1.10: versions compare numerically
+ALTER TABLE gadget ADD COLUMN color VARCHAR(20);
@@ -0,0 +1 @@
+CREATE TABLE gadget (id BIGINT PRIMARY KEY, name VARCHAR(100) NOT NULL);
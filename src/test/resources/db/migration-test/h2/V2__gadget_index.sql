@@ -0,0 +1 @@
+CREATE INDEX idx_gadget_name ON gadget (name);